@@ -0,0 +1,137 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * <p>
+ *   Base class for the JMH <kbd>@State</kbd> objects holding the input of a benchmark in the forms
+ *   accepted by the unbescape API: <kbd>String</kbd>, <kbd>CharSequence</kbd>, <kbd>char[]</kbd> and
+ *   <kbd>Reader</kbd>.
+ * </p>
+ * <p>
+ *   The <kbd>CharSequence</kbd> form is a heap <kbd>CharBuffer</kbd> wrapping a slice in the middle of a larger
+ *   array, as would be the case when escaping a fragment of a bigger buffer without materializing it.
+ * </p>
+ * <p>
+ *   The input is also available as UTF-8 encoded bytes, for the operations working directly on those.
+ * </p>
+ * <p>
+ *   The <kbd>Reader</kbd>, the <kbd>Writer</kbd> and the <kbd>StringBuilder</kbd> used as output are created
+ *   once and rewound before each invocation, so that their allocation does not pollute the results of the
+ *   <kbd>-prof gc</kbd> profiler. Note these are the standard (synchronized) JDK implementations on purpose, as those are
+ *   the ones most commonly used with the stream-based operations.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public abstract class BenchmarkInput {
+
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private String text;
+    private char[] chars;
+    private CharBuffer charBuffer;
+    private StringReader reader;
+    private CharArrayWriter writer;
+    private StringBuilder builder;
+    private byte[] bytes;
+    private ByteArrayOutputStream outputStream;
+
+
+    protected BenchmarkInput() {
+        super();
+    }
+
+
+    protected final void initialize(final String text) {
+        this.text = text;
+        this.chars = text.toCharArray();
+        final char[] padded = new char[text.length() + 32];
+        text.getChars(0, text.length(), padded, 16);
+        this.charBuffer = CharBuffer.wrap(padded, 16, text.length()).slice();
+        this.reader = new StringReader(text);
+        this.writer = new CharArrayWriter(text.length() * 2);
+        this.builder = new StringBuilder(text.length() * 2);
+        this.bytes = text.getBytes(UTF_8);
+        this.outputStream = new ByteArrayOutputStream(this.bytes.length * 2);
+    }
+
+
+    public final String text() {
+        return this.text;
+    }
+
+    public final char[] chars() {
+        return this.chars;
+    }
+
+    public final CharBuffer charBuffer() {
+        return this.charBuffer;
+    }
+
+    public final Reader reader() throws IOException {
+        this.reader.reset();
+        return this.reader;
+    }
+
+    public final Writer writer() {
+        this.writer.reset();
+        return this.writer;
+    }
+
+    public final int written() {
+        return this.writer.size();
+    }
+
+    public final StringBuilder builder() {
+        this.builder.setLength(0);
+        return this.builder;
+    }
+
+    public final int built() {
+        return this.builder.length();
+    }
+
+    public final byte[] bytes() {
+        return this.bytes;
+    }
+
+    public final ByteArrayOutputStream outputStream() {
+        this.outputStream.reset();
+        return this.outputStream;
+    }
+
+    public final int streamed() {
+        return this.outputStream.size();
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unbescape.csv.CsvEscape;
+
+/**
+ * <p>
+ *   Benchmarks for the CSV escape and unescape operations in {@link org.unbescape.csv.CsvEscape} that were added in
+ *   unbescape 1.1.7: <kbd>CharSequence</kbd> input and <kbd>StringBuilder</kbd> output.
+ * </p>
+ * <p>
+ *   These are kept apart from {@link CsvBenchmark} so that the latter can also be built against previous
+ *   releases of unbescape (see the <kbd>released-version</kbd> profile in the benchmarks POM).
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvSince117Benchmark {
+
+
+    @Benchmark
+    public String escapeCharSequence(final CsvBenchmark.EscapeInput input) throws IOException {
+        return CsvEscape.escapeCsv(input.charBuffer());
+    }
+
+    @Benchmark
+    public int escapeStringBuilder(final CsvBenchmark.EscapeInput input) throws IOException {
+        CsvEscape.escapeCsv(input.text(), input.builder());
+        return input.built();
+    }
+
+    @Benchmark
+    public String unescapeCharSequence(final CsvBenchmark.UnescapeInput input) throws IOException {
+        return CsvEscape.unescapeCsv(input.charBuffer());
+    }
+
+    @Benchmark
+    public int unescapeStringBuilder(final CsvBenchmark.UnescapeInput input) throws IOException {
+        CsvEscape.unescapeCsv(input.text(), input.builder());
+        return input.built();
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unbescape.html.HtmlEscape;
+
+/**
+ * <p>
+ *   Benchmarks for the HTML escape and unescape operations in {@link org.unbescape.html.HtmlEscape} that were added
+ *   in unbescape 1.1.7: <kbd>CharSequence</kbd> input, <kbd>StringBuilder</kbd> output and UTF-8 <kbd>byte[]</kbd>
+ *   input.
+ * </p>
+ * <p>
+ *   These are kept apart from {@link HtmlBenchmark} so that the latter can also be built against previous
+ *   releases of unbescape (see the <kbd>released-version</kbd> profile in the benchmarks POM).
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HtmlSince117Benchmark {
+
+
+    @Benchmark
+    public String escapeCharSequence(final HtmlBenchmark.EscapeInput input) throws IOException {
+        return HtmlEscape.escapeHtml(input.charBuffer(), input.type, input.level);
+    }
+
+    @Benchmark
+    public int escapeStringBuilder(final HtmlBenchmark.EscapeInput input) throws IOException {
+        HtmlEscape.escapeHtml(input.text(), input.builder(), input.type, input.level);
+        return input.built();
+    }
+
+    @Benchmark
+    public int escapeUtf8ByteArray(final HtmlBenchmark.EscapeInput input) throws IOException {
+        HtmlEscape.escapeHtmlUtf8(
+                input.bytes(), 0, input.bytes().length, input.outputStream(), input.type, input.level);
+        return input.streamed();
+    }
+
+    @Benchmark
+    public int escapeUtf8Transcoding(final HtmlBenchmark.EscapeInput input) throws IOException {
+        // Baseline for escapeUtf8ByteArray: decode, escape as String and then encode again
+        final String escaped =
+                HtmlEscape.escapeHtml(new String(input.bytes(), BenchmarkInput.UTF_8), input.type, input.level);
+        input.outputStream().write(escaped.getBytes(BenchmarkInput.UTF_8));
+        return input.streamed();
+    }
+
+    @Benchmark
+    public String unescapeCharSequence(final HtmlBenchmark.UnescapeInput input) throws IOException {
+        return HtmlEscape.unescapeHtml(input.charBuffer());
+    }
+
+    @Benchmark
+    public int unescapeStringBuilder(final HtmlBenchmark.UnescapeInput input) throws IOException {
+        HtmlEscape.unescapeHtml(input.text(), input.builder());
+        return input.built();
+    }
+
+}
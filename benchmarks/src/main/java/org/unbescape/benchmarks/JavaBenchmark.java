@@ -0,0 +1,123 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unbescape.java.JavaEscape;
+import org.unbescape.java.JavaEscapeLevel;
+
+/**
+ * <p>
+ *   Benchmarks for the Java escape and unescape operations in {@link org.unbescape.java.JavaEscape}.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavaBenchmark {
+
+
+    @State(Scope.Thread)
+    public static class EscapeInput extends BenchmarkInput {
+
+        @Param({})
+        public JavaEscapeLevel level;
+
+        @Param({})
+        public TextShape shape;
+
+        @Setup
+        public void setup() {
+            initialize(this.shape.text());
+        }
+
+    }
+
+
+    @State(Scope.Thread)
+    public static class UnescapeInput extends BenchmarkInput {
+
+        @Param({})
+        public TextShape shape;
+
+        @Setup
+        public void setup() {
+            // Unescape operations are measured on the output of the default escape operation
+            initialize(JavaEscape.escapeJava(this.shape.text()));
+        }
+
+    }
+
+
+    @Benchmark
+    public String escapeString(final EscapeInput input) throws IOException {
+        return JavaEscape.escapeJava(input.text(), input.level);
+    }
+
+    @Benchmark
+    public int escapeCharArray(final EscapeInput input) throws IOException {
+        JavaEscape.escapeJava(input.chars(), 0, input.chars().length, input.writer(), input.level);
+        return input.written();
+    }
+
+    @Benchmark
+    public int escapeReader(final EscapeInput input) throws IOException {
+        JavaEscape.escapeJava(input.reader(), input.writer(), input.level);
+        return input.written();
+    }
+
+    @Benchmark
+    public String unescapeString(final UnescapeInput input) throws IOException {
+        return JavaEscape.unescapeJava(input.text());
+    }
+
+    @Benchmark
+    public int unescapeCharArray(final UnescapeInput input) throws IOException {
+        JavaEscape.unescapeJava(input.chars(), 0, input.chars().length, input.writer());
+        return input.written();
+    }
+
+    @Benchmark
+    public int unescapeReader(final UnescapeInput input) throws IOException {
+        JavaEscape.unescapeJava(input.reader(), input.writer());
+        return input.written();
+    }
+
+}
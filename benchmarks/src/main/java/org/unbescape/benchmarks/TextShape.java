@@ -0,0 +1,94 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.benchmarks;
+
+/**
+ * <p>
+ *   Shapes of input text used by the benchmarks. Each shape stresses a different part of the
+ *   escape/unescape loops:
+ * </p>
+ *
+ * <ul>
+ *     <li><kbd><strong>ALPHANUMERIC</strong></kbd>: only <kbd>A-Z</kbd>, <kbd>a-z</kbd> and <kbd>0-9</kbd>.
+ *         Nothing needs escaping at levels below 3, so this measures the <em>no-op</em> fast paths.</li>
+ *     <li><kbd><strong>PROSE</strong></kbd>: ASCII prose with whitespace and punctuation, but no
+ *         markup-significant characters.</li>
+ *     <li><kbd><strong>MARKUP</strong></kbd>: ASCII text dense in characters that are significant for
+ *         HTML, XML, JSON, JavaScript, CSS, CSV and URIs (quotes, ampersands, angle brackets,
+ *         backslashes, slashes, line breaks...).</li>
+ *     <li><kbd><strong>NON_ASCII</strong></kbd>: Latin-1 accented text mixed with CJK, mathematical
+ *         symbols and characters outside the BMP (surrogate pairs).</li>
+ * </ul>
+ *
+ * <p>
+ *   All shapes produce texts of (approximately) {@link #TEXT_LENGTH} chars.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public enum TextShape {
+
+    ALPHANUMERIC(
+            "Lorem0ipsum1dolor2sit3amet4consectetur5adipiscing6elit7sed8do9eiusmod0tempor1incididunt2ut3labore"),
+
+    PROSE(
+            "The quick brown fox jumps over the lazy dog, then rests for 42 minutes (more or less). "),
+
+    MARKUP(
+            "<a href=\"/search?q=unbescape&lang=en#top\" title='It\\'s \"quoted\"'>Tom & Jerry</a>\n" +
+            "\t<script>var s = \"a\\\\b\"; if (a < b && c > d) { s += '</p>'; }</script>\r\n" +
+            "name,\"value; with, commas\",100%,a+b=c\n"),
+
+    NON_ASCII(
+            "Ping\u00FCino, \u00F1and\u00FA, \u00C6r\u00F8sk\u00F8bing, Gr\u00F6\u00DFe \u2014 \u00ABquoted\u00BB " +
+            "\u4E2D\u6587\u5B57\u7B26 \u65E5\u672C\u8A9E \uD83D\uDE00\uD83D\uDE80 \u222E \uD835\uDD6B \u20AC 100 ");
+
+
+    /**
+     * Approximate length (in chars) of the texts produced by each shape.
+     */
+    public static final int TEXT_LENGTH = 4096;
+
+
+    private final String text;
+
+
+    TextShape(final String fragment) {
+        final StringBuilder strBuilder = new StringBuilder(TEXT_LENGTH + fragment.length());
+        while (strBuilder.length() < TEXT_LENGTH) {
+            strBuilder.append(fragment);
+        }
+        this.text = strBuilder.toString();
+    }
+
+
+    /**
+     * Return the text to be used as input for this shape.
+     *
+     * @return the text.
+     */
+    public String text() {
+        return this.text;
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unbescape.uri.UriEscape;
+
+/**
+ * <p>
+ *   Benchmarks for the URI escape and unescape operations in {@link org.unbescape.uri.UriEscape}, for
+ *   every URI component and for both a multi-byte (<kbd>UTF-8</kbd>) and a single-byte
+ *   (<kbd>ISO-8859-1</kbd>) encoding.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UriBenchmark {
+
+
+    public enum Component {
+
+        PATH {
+            String escape(final String text, final String encoding) {
+                return UriEscape.escapeUriPath(text, encoding);
+            }
+            void escape(final char[] text, final int offset, final int len, final Writer writer,
+                        final String encoding) throws IOException {
+                UriEscape.escapeUriPath(text, offset, len, writer, encoding);
+            }
+            void escape(final Reader reader, final Writer writer, final String encoding) throws IOException {
+                UriEscape.escapeUriPath(reader, writer, encoding);
+            }
+            String unescape(final String text, final String encoding) {
+                return UriEscape.unescapeUriPath(text, encoding);
+            }
+            void unescape(final char[] text, final int offset, final int len, final Writer writer,
+                          final String encoding) throws IOException {
+                UriEscape.unescapeUriPath(text, offset, len, writer, encoding);
+            }
+            void unescape(final Reader reader, final Writer writer, final String encoding) throws IOException {
+                UriEscape.unescapeUriPath(reader, writer, encoding);
+            }
+        },
+
+        PATH_SEGMENT {
+            String escape(final String text, final String encoding) {
+                return UriEscape.escapeUriPathSegment(text, encoding);
+            }
+            void escape(final char[] text, final int offset, final int len, final Writer writer,
+                        final String encoding) throws IOException {
+                UriEscape.escapeUriPathSegment(text, offset, len, writer, encoding);
+            }
+            void escape(final Reader reader, final Writer writer, final String encoding) throws IOException {
+                UriEscape.escapeUriPathSegment(reader, writer, encoding);
+            }
+            String unescape(final String text, final String encoding) {
+                return UriEscape.unescapeUriPathSegment(text, encoding);
+            }
+            void unescape(final char[] text, final int offset, final int len, final Writer writer,
+                          final String encoding) throws IOException {
+                UriEscape.unescapeUriPathSegment(text, offset, len, writer, encoding);
+            }
+            void unescape(final Reader reader, final Writer writer, final String encoding) throws IOException {
+                UriEscape.unescapeUriPathSegment(reader, writer, encoding);
+            }
+        },
+
+        QUERY_PARAM {
+            String escape(final String text, final String encoding) {
+                return UriEscape.escapeUriQueryParam(text, encoding);
+            }
+            void escape(final char[] text, final int offset, final int len, final Writer writer,
+                        final String encoding) throws IOException {
+                UriEscape.escapeUriQueryParam(text, offset, len, writer, encoding);
+            }
+            void escape(final Reader reader, final Writer writer, final String encoding) throws IOException {
+                UriEscape.escapeUriQueryParam(reader, writer, encoding);
+            }
+            String unescape(final String text, final String encoding) {
+                return UriEscape.unescapeUriQueryParam(text, encoding);
+            }
+            void unescape(final char[] text, final int offset, final int len, final Writer writer,
+                          final String encoding) throws IOException {
+                UriEscape.unescapeUriQueryParam(text, offset, len, writer, encoding);
+            }
+            void unescape(final Reader reader, final Writer writer, final String encoding) throws IOException {
+                UriEscape.unescapeUriQueryParam(reader, writer, encoding);
+            }
+        },
+
+        FRAGMENT_ID {
+            String escape(final String text, final String encoding) {
+                return UriEscape.escapeUriFragmentId(text, encoding);
+            }
+            void escape(final char[] text, final int offset, final int len, final Writer writer,
+                        final String encoding) throws IOException {
+                UriEscape.escapeUriFragmentId(text, offset, len, writer, encoding);
+            }
+            void escape(final Reader reader, final Writer writer, final String encoding) throws IOException {
+                UriEscape.escapeUriFragmentId(reader, writer, encoding);
+            }
+            String unescape(final String text, final String encoding) {
+                return UriEscape.unescapeUriFragmentId(text, encoding);
+            }
+            void unescape(final char[] text, final int offset, final int len, final Writer writer,
+                          final String encoding) throws IOException {
+                UriEscape.unescapeUriFragmentId(text, offset, len, writer, encoding);
+            }
+            void unescape(final Reader reader, final Writer writer, final String encoding) throws IOException {
+                UriEscape.unescapeUriFragmentId(reader, writer, encoding);
+            }
+        };
+
+        abstract String escape(final String text, final String encoding);
+
+        abstract void escape(final char[] text, final int offset, final int len, final Writer writer,
+                             final String encoding) throws IOException;
+
+        abstract void escape(final Reader reader, final Writer writer, final String encoding) throws IOException;
+
+        abstract String unescape(final String text, final String encoding);
+
+        abstract void unescape(final char[] text, final int offset, final int len, final Writer writer,
+                               final String encoding) throws IOException;
+
+        abstract void unescape(final Reader reader, final Writer writer, final String encoding) throws IOException;
+
+    }
+
+
+    @State(Scope.Thread)
+    public static class EscapeInput extends BenchmarkInput {
+
+        @Param({})
+        public Component component;
+
+        @Param({"UTF-8", "ISO-8859-1"})
+        public String encoding;
+
+        @Param({})
+        public TextShape shape;
+
+        @Setup
+        public void setup() {
+            initialize(this.shape.text());
+        }
+
+    }
+
+
+    @State(Scope.Thread)
+    public static class UnescapeInput extends BenchmarkInput {
+
+        @Param({})
+        public Component component;
+
+        @Param({"UTF-8", "ISO-8859-1"})
+        public String encoding;
+
+        @Param({})
+        public TextShape shape;
+
+        @Setup
+        public void setup() {
+            // Unescape operations are measured on the output of the escape operation for the same component
+            initialize(this.component.escape(this.shape.text(), this.encoding));
+        }
+
+    }
+
+
+    @Benchmark
+    public String escapeString(final EscapeInput input) throws IOException {
+        return input.component.escape(input.text(), input.encoding);
+    }
+
+    @Benchmark
+    public int escapeCharArray(final EscapeInput input) throws IOException {
+        input.component.escape(input.chars(), 0, input.chars().length, input.writer(), input.encoding);
+        return input.written();
+    }
+
+    @Benchmark
+    public int escapeReader(final EscapeInput input) throws IOException {
+        input.component.escape(input.reader(), input.writer(), input.encoding);
+        return input.written();
+    }
+
+    @Benchmark
+    public String unescapeString(final UnescapeInput input) throws IOException {
+        return input.component.unescape(input.text(), input.encoding);
+    }
+
+    @Benchmark
+    public int unescapeCharArray(final UnescapeInput input) throws IOException {
+        input.component.unescape(input.chars(), 0, input.chars().length, input.writer(), input.encoding);
+        return input.written();
+    }
+
+    @Benchmark
+    public int unescapeReader(final UnescapeInput input) throws IOException {
+        input.component.unescape(input.reader(), input.writer(), input.encoding);
+        return input.written();
+    }
+
+}
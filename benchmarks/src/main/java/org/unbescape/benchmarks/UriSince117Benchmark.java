@@ -0,0 +1,197 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unbescape.uri.UriEscape;
+
+/**
+ * <p>
+ *   Benchmarks for the URI escape and unescape operations in {@link org.unbescape.uri.UriEscape} that were added in
+ *   unbescape 1.1.7: <kbd>CharSequence</kbd> input and <kbd>StringBuilder</kbd> output.
+ * </p>
+ * <p>
+ *   These are kept apart from {@link UriBenchmark} so that the latter can also be built against previous
+ *   releases of unbescape (see the <kbd>released-version</kbd> profile in the benchmarks POM).
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UriSince117Benchmark {
+
+
+    public enum Component {
+
+        PATH {
+            String escape(final CharSequence text, final String encoding) {
+                return UriEscape.escapeUriPath(text, encoding);
+            }
+            void escape(final String text, final StringBuilder strBuilder, final String encoding) {
+                UriEscape.escapeUriPath(text, strBuilder, encoding);
+            }
+            String unescape(final CharSequence text, final String encoding) {
+                return UriEscape.unescapeUriPath(text, encoding);
+            }
+            void unescape(final String text, final StringBuilder strBuilder, final String encoding) {
+                UriEscape.unescapeUriPath(text, strBuilder, encoding);
+            }
+        },
+
+        PATH_SEGMENT {
+            String escape(final CharSequence text, final String encoding) {
+                return UriEscape.escapeUriPathSegment(text, encoding);
+            }
+            void escape(final String text, final StringBuilder strBuilder, final String encoding) {
+                UriEscape.escapeUriPathSegment(text, strBuilder, encoding);
+            }
+            String unescape(final CharSequence text, final String encoding) {
+                return UriEscape.unescapeUriPathSegment(text, encoding);
+            }
+            void unescape(final String text, final StringBuilder strBuilder, final String encoding) {
+                UriEscape.unescapeUriPathSegment(text, strBuilder, encoding);
+            }
+        },
+
+        QUERY_PARAM {
+            String escape(final CharSequence text, final String encoding) {
+                return UriEscape.escapeUriQueryParam(text, encoding);
+            }
+            void escape(final String text, final StringBuilder strBuilder, final String encoding) {
+                UriEscape.escapeUriQueryParam(text, strBuilder, encoding);
+            }
+            String unescape(final CharSequence text, final String encoding) {
+                return UriEscape.unescapeUriQueryParam(text, encoding);
+            }
+            void unescape(final String text, final StringBuilder strBuilder, final String encoding) {
+                UriEscape.unescapeUriQueryParam(text, strBuilder, encoding);
+            }
+        },
+
+        FRAGMENT_ID {
+            String escape(final CharSequence text, final String encoding) {
+                return UriEscape.escapeUriFragmentId(text, encoding);
+            }
+            void escape(final String text, final StringBuilder strBuilder, final String encoding) {
+                UriEscape.escapeUriFragmentId(text, strBuilder, encoding);
+            }
+            String unescape(final CharSequence text, final String encoding) {
+                return UriEscape.unescapeUriFragmentId(text, encoding);
+            }
+            void unescape(final String text, final StringBuilder strBuilder, final String encoding) {
+                UriEscape.unescapeUriFragmentId(text, strBuilder, encoding);
+            }
+        };
+
+        abstract String escape(final CharSequence text, final String encoding);
+
+        abstract void escape(final String text, final StringBuilder strBuilder, final String encoding);
+
+        abstract String unescape(final CharSequence text, final String encoding);
+
+        abstract void unescape(final String text, final StringBuilder strBuilder, final String encoding);
+
+    }
+
+
+    @State(Scope.Thread)
+    public static class EscapeInput extends BenchmarkInput {
+
+        @Param({})
+        public Component component;
+
+        @Param({"UTF-8", "ISO-8859-1"})
+        public String encoding;
+
+        @Param({})
+        public TextShape shape;
+
+        @Setup
+        public void setup() {
+            initialize(this.shape.text());
+        }
+
+    }
+
+
+    @State(Scope.Thread)
+    public static class UnescapeInput extends BenchmarkInput {
+
+        @Param({})
+        public Component component;
+
+        @Param({"UTF-8", "ISO-8859-1"})
+        public String encoding;
+
+        @Param({})
+        public TextShape shape;
+
+        @Setup
+        public void setup() {
+            // Unescape operations are measured on the output of the escape operation for the same component
+            initialize(this.component.escape(this.shape.text(), this.encoding));
+        }
+
+    }
+
+
+    @Benchmark
+    public String escapeCharSequence(final EscapeInput input) throws IOException {
+        return input.component.escape(input.charBuffer(), input.encoding);
+    }
+
+    @Benchmark
+    public int escapeStringBuilder(final EscapeInput input) throws IOException {
+        input.component.escape(input.text(), input.builder(), input.encoding);
+        return input.built();
+    }
+
+    @Benchmark
+    public String unescapeCharSequence(final UnescapeInput input) throws IOException {
+        return input.component.unescape(input.charBuffer(), input.encoding);
+    }
+
+    @Benchmark
+    public int unescapeStringBuilder(final UnescapeInput input) throws IOException {
+        input.component.unescape(input.text(), input.builder(), input.encoding);
+        return input.built();
+    }
+
+}
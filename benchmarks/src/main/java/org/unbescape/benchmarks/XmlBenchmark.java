@@ -0,0 +1,202 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unbescape.xml.XmlEscape;
+import org.unbescape.xml.XmlEscapeLevel;
+import org.unbescape.xml.XmlEscapeType;
+
+/**
+ * <p>
+ *   Benchmarks for the XML escape and unescape operations in {@link org.unbescape.xml.XmlEscape}, for
+ *   both XML 1.0 and XML 1.1, in text and attribute values.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlBenchmark {
+
+
+    public enum Variant {
+
+        XML10 {
+            String escape(final String text, final XmlEscapeType type, final XmlEscapeLevel level) {
+                return XmlEscape.escapeXml10(text, type, level);
+            }
+            void escape(final char[] text, final int offset, final int len, final Writer writer,
+                        final XmlEscapeType type, final XmlEscapeLevel level) throws IOException {
+                XmlEscape.escapeXml10(text, offset, len, writer, type, level);
+            }
+            void escape(final Reader reader, final Writer writer,
+                        final XmlEscapeType type, final XmlEscapeLevel level) throws IOException {
+                XmlEscape.escapeXml10(reader, writer, type, level);
+            }
+        },
+
+        XML11 {
+            String escape(final String text, final XmlEscapeType type, final XmlEscapeLevel level) {
+                return XmlEscape.escapeXml11(text, type, level);
+            }
+            void escape(final char[] text, final int offset, final int len, final Writer writer,
+                        final XmlEscapeType type, final XmlEscapeLevel level) throws IOException {
+                XmlEscape.escapeXml11(text, offset, len, writer, type, level);
+            }
+            void escape(final Reader reader, final Writer writer,
+                        final XmlEscapeType type, final XmlEscapeLevel level) throws IOException {
+                XmlEscape.escapeXml11(reader, writer, type, level);
+            }
+        },
+
+        XML10_ATTRIBUTE {
+            String escape(final String text, final XmlEscapeType type, final XmlEscapeLevel level) {
+                return XmlEscape.escapeXml10Attribute(text, type, level);
+            }
+            void escape(final char[] text, final int offset, final int len, final Writer writer,
+                        final XmlEscapeType type, final XmlEscapeLevel level) throws IOException {
+                XmlEscape.escapeXml10Attribute(text, offset, len, writer, type, level);
+            }
+            void escape(final Reader reader, final Writer writer,
+                        final XmlEscapeType type, final XmlEscapeLevel level) throws IOException {
+                XmlEscape.escapeXml10Attribute(reader, writer, type, level);
+            }
+        },
+
+        XML11_ATTRIBUTE {
+            String escape(final String text, final XmlEscapeType type, final XmlEscapeLevel level) {
+                return XmlEscape.escapeXml11Attribute(text, type, level);
+            }
+            void escape(final char[] text, final int offset, final int len, final Writer writer,
+                        final XmlEscapeType type, final XmlEscapeLevel level) throws IOException {
+                XmlEscape.escapeXml11Attribute(text, offset, len, writer, type, level);
+            }
+            void escape(final Reader reader, final Writer writer,
+                        final XmlEscapeType type, final XmlEscapeLevel level) throws IOException {
+                XmlEscape.escapeXml11Attribute(reader, writer, type, level);
+            }
+        };
+
+        abstract String escape(final String text, final XmlEscapeType type, final XmlEscapeLevel level);
+
+        abstract void escape(final char[] text, final int offset, final int len, final Writer writer,
+                             final XmlEscapeType type, final XmlEscapeLevel level) throws IOException;
+
+        abstract void escape(final Reader reader, final Writer writer,
+                             final XmlEscapeType type, final XmlEscapeLevel level) throws IOException;
+
+    }
+
+
+    @State(Scope.Thread)
+    public static class EscapeInput extends BenchmarkInput {
+
+        @Param({})
+        public Variant variant;
+
+        @Param({})
+        public XmlEscapeType type;
+
+        @Param({})
+        public XmlEscapeLevel level;
+
+        @Param({})
+        public TextShape shape;
+
+        @Setup
+        public void setup() {
+            initialize(this.shape.text());
+        }
+
+    }
+
+
+    @State(Scope.Thread)
+    public static class UnescapeInput extends BenchmarkInput {
+
+        @Param({})
+        public TextShape shape;
+
+        @Setup
+        public void setup() {
+            // Unescape operations are measured on the output of the default escape operation
+            initialize(XmlEscape.escapeXml10(this.shape.text()));
+        }
+
+    }
+
+
+    @Benchmark
+    public String escapeString(final EscapeInput input) throws IOException {
+        return input.variant.escape(input.text(), input.type, input.level);
+    }
+
+    @Benchmark
+    public int escapeCharArray(final EscapeInput input) throws IOException {
+        input.variant.escape(input.chars(), 0, input.chars().length, input.writer(), input.type, input.level);
+        return input.written();
+    }
+
+    @Benchmark
+    public int escapeReader(final EscapeInput input) throws IOException {
+        input.variant.escape(input.reader(), input.writer(), input.type, input.level);
+        return input.written();
+    }
+
+    @Benchmark
+    public String unescapeString(final UnescapeInput input) throws IOException {
+        return XmlEscape.unescapeXml(input.text());
+    }
+
+    @Benchmark
+    public int unescapeCharArray(final UnescapeInput input) throws IOException {
+        XmlEscape.unescapeXml(input.chars(), 0, input.chars().length, input.writer());
+        return input.written();
+    }
+
+    @Benchmark
+    public int unescapeReader(final UnescapeInput input) throws IOException {
+        XmlEscape.unescapeXml(input.reader(), input.writer());
+        return input.written();
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unbescape.xml.XmlEscape;
+import org.unbescape.xml.XmlEscapeLevel;
+import org.unbescape.xml.XmlEscapeType;
+
+/**
+ * <p>
+ *   Benchmarks for the XML escape and unescape operations in {@link org.unbescape.xml.XmlEscape} that were added in
+ *   unbescape 1.1.7: <kbd>CharSequence</kbd> input and <kbd>StringBuilder</kbd> output.
+ * </p>
+ * <p>
+ *   These are kept apart from {@link XmlBenchmark} so that the latter can also be built against previous
+ *   releases of unbescape (see the <kbd>released-version</kbd> profile in the benchmarks POM).
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlSince117Benchmark {
+
+
+    public enum Variant {
+
+        XML10 {
+            String escape(final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+                return XmlEscape.escapeXml10(text, type, level);
+            }
+            void escape(final String text, final StringBuilder strBuilder,
+                        final XmlEscapeType type, final XmlEscapeLevel level) {
+                XmlEscape.escapeXml10(text, strBuilder, type, level);
+            }
+        },
+
+        XML11 {
+            String escape(final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+                return XmlEscape.escapeXml11(text, type, level);
+            }
+            void escape(final String text, final StringBuilder strBuilder,
+                        final XmlEscapeType type, final XmlEscapeLevel level) {
+                XmlEscape.escapeXml11(text, strBuilder, type, level);
+            }
+        },
+
+        XML10_ATTRIBUTE {
+            String escape(final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+                return XmlEscape.escapeXml10Attribute(text, type, level);
+            }
+            void escape(final String text, final StringBuilder strBuilder,
+                        final XmlEscapeType type, final XmlEscapeLevel level) {
+                XmlEscape.escapeXml10Attribute(text, strBuilder, type, level);
+            }
+        },
+
+        XML11_ATTRIBUTE {
+            String escape(final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+                return XmlEscape.escapeXml11Attribute(text, type, level);
+            }
+            void escape(final String text, final StringBuilder strBuilder,
+                        final XmlEscapeType type, final XmlEscapeLevel level) {
+                XmlEscape.escapeXml11Attribute(text, strBuilder, type, level);
+            }
+        };
+
+        abstract String escape(final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level);
+
+        abstract void escape(final String text, final StringBuilder strBuilder,
+                             final XmlEscapeType type, final XmlEscapeLevel level);
+
+    }
+
+
+    @State(Scope.Thread)
+    public static class EscapeInput extends BenchmarkInput {
+
+        @Param({})
+        public Variant variant;
+
+        @Param({})
+        public XmlEscapeType type;
+
+        @Param({})
+        public XmlEscapeLevel level;
+
+        @Param({})
+        public TextShape shape;
+
+        @Setup
+        public void setup() {
+            initialize(this.shape.text());
+        }
+
+    }
+
+
+    @Benchmark
+    public String escapeCharSequence(final EscapeInput input) throws IOException {
+        return input.variant.escape(input.charBuffer(), input.type, input.level);
+    }
+
+    @Benchmark
+    public int escapeStringBuilder(final EscapeInput input) throws IOException {
+        input.variant.escape(input.text(), input.builder(), input.type, input.level);
+        return input.built();
+    }
+
+    @Benchmark
+    public String unescapeCharSequence(final XmlBenchmark.UnescapeInput input) throws IOException {
+        return XmlEscape.unescapeXml(input.charBuffer());
+    }
+
+    @Benchmark
+    public int unescapeStringBuilder(final XmlBenchmark.UnescapeInput input) throws IOException {
+        XmlEscape.unescapeXml(input.text(), input.builder());
+        return input.built();
+    }
+
+}
@@ -23,7 +23,12 @@
 
 /**
  * <p>
- *   This class initializes the {@link org.unbescape.html.HtmlEscapeSymbols#HTML5_SYMBOLS} structure.
+ *   This class initializes the HTML5 symbols structure
+ *   ({@link org.unbescape.html.HtmlEscapeSymbols.Html5SymbolsHolder#SYMBOLS}).
+ * </p>
+ * <p>
+ *   It is only executed at build time, by {@link org.unbescape.html.HtmlEscapeSymbolsGenerator}, which
+ *   precomputes the symbols into a binary resource read at runtime.
  * </p>
  *
  * @author Daniel Fern&aacute;ndez
@@ -0,0 +1,85 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.html;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/*
+ * Generator of the binary resources containing the precomputed HTML4 and HTML5 escape symbols (see
+ * HtmlEscapeSymbols.readSymbols(...)). This class is executed at build time, right after compiling, with the
+ * directory of the compiled classes of this package as its only argument.
+ *
+ * The initializer classes (Html4EscapeSymbolsInitializer, Html5EscapeSymbolsInitializer) remain the only source
+ * of the symbol definitions, so that these resources never need to be edited by hand. As nothing else needs them,
+ * they also live in src/build/java.
+ *
+ * This class is not part of the library: it lives in src/build/java and is compiled against the library classes
+ * into a separate directory (it belongs to the same package so that it can access the package-private symbol
+ * structures), so it is never included in the jar.
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+final class HtmlEscapeSymbolsGenerator {
+
+
+    public static void main(final String[] args) throws IOException {
+
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: HtmlEscapeSymbolsGenerator <output directory>");
+        }
+
+        final File outputDirectory = new File(args[0]);
+        if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+            throw new IOException("Cannot create output directory: " + outputDirectory);
+        }
+
+        writeSymbols(Html4EscapeSymbolsInitializer.initializeHtml4(),
+                new File(outputDirectory, HtmlEscapeSymbols.HTML4_SYMBOLS_RESOURCE_NAME));
+        writeSymbols(Html5EscapeSymbolsInitializer.initializeHtml5(),
+                new File(outputDirectory, HtmlEscapeSymbols.HTML5_SYMBOLS_RESOURCE_NAME));
+
+    }
+
+
+    private static void writeSymbols(final HtmlEscapeSymbols symbols, final File file) throws IOException {
+        final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            symbols.writeSymbols(outputStream);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+
+
+
+    private HtmlEscapeSymbolsGenerator() {
+        super();
+    }
+
+
+}
@@ -0,0 +1,88 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.xml;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/*
+ * Generator of the binary resources containing the precomputed XML 1.0 and 1.1 escape symbols (see
+ * XmlEscapeSymbols.readSymbols(...)). This class is executed at build time, right after compiling, with the
+ * directory of the compiled classes of this package as its only argument.
+ *
+ * The initializer classes (Xml10EscapeSymbolsInitializer, Xml11EscapeSymbolsInitializer) remain the only source
+ * of the symbol definitions, so that these resources never need to be edited by hand.
+ *
+ * This class is not part of the library: it lives in src/build/java and is compiled against the library classes
+ * into a separate directory (it belongs to the same package so that it can access the package-private symbol
+ * structures), so it is never included in the jar.
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+final class XmlEscapeSymbolsGenerator {
+
+
+    public static void main(final String[] args) throws IOException {
+
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: XmlEscapeSymbolsGenerator <output directory>");
+        }
+
+        final File outputDirectory = new File(args[0]);
+        if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+            throw new IOException("Cannot create output directory: " + outputDirectory);
+        }
+
+        writeSymbols(Xml10EscapeSymbolsInitializer.initializeXml10(false),
+                new File(outputDirectory, XmlEscapeSymbols.XML10_SYMBOLS_RESOURCE_NAME));
+        writeSymbols(Xml11EscapeSymbolsInitializer.initializeXml11(false),
+                new File(outputDirectory, XmlEscapeSymbols.XML11_SYMBOLS_RESOURCE_NAME));
+        writeSymbols(Xml10EscapeSymbolsInitializer.initializeXml10(true),
+                new File(outputDirectory, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS_RESOURCE_NAME));
+        writeSymbols(Xml11EscapeSymbolsInitializer.initializeXml11(true),
+                new File(outputDirectory, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS_RESOURCE_NAME));
+
+    }
+
+
+    private static void writeSymbols(final XmlEscapeSymbols symbols, final File file) throws IOException {
+        final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            symbols.writeSymbols(outputStream);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+
+
+
+    private XmlEscapeSymbolsGenerator() {
+        super();
+    }
+
+
+}
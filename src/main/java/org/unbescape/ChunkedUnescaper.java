@@ -0,0 +1,321 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * <p>
+ *   Stateful, <em>push-style</em> unescape operation, able to unescape a text received as a sequence of
+ *   arbitrarily split chunks (e.g. network buffers) without needing to concatenate them first.
+ * </p>
+ * <p>
+ *   Instances of this class are obtained from the escape facades of each of the supported languages (e.g.
+ *   {@link org.unbescape.html.HtmlEscape#chunkedUnescaper(Writer)}), and are bound to the <kbd>Writer</kbd> to
+ *   which results will be written. Each chunk of text is passed to one of the <kbd>unescape(...)</kbd> methods, which
+ *   immediately write the unescaped result for all the chars in the chunk except those at its end which might be
+ *   the beginning of an escape sequence completed by the next chunk (e.g. <kbd>"&amp;am"</kbd> in HTML). These
+ *   are kept <em>pending</em> until enough text is received, or until {@link #finish()} is called to signal
+ *   the end of the text.
+ * </p>
+ * <p>
+ *   Results are the same as those obtained by unescaping the concatenation of all the chunks at once. Memory usage
+ *   does not depend on the size of the text or of the chunks: the pending chars (see {@link #getPendingLength()})
+ *   never exceed the length of the longest escape sequence in the language (e.g. the longest HTML5 character
+ *   reference, or the percent-encoded bytes of a char in URIs).
+ * </p>
+ * <p>
+ *   Exceptions to this are escape sequences longer than that length but still valid, which might not be
+ *   unescaped if interrupted by the end of a chunk: numeric character references written with redundant leading
+ *   zeros (e.g. <kbd>"&amp;#x00000041;"</kbd>) and Java unicode escapes with more than one <kbd>'u'</kbd>
+ *   (e.g. <kbd>"&#92;uuu00E1"</kbd>). Also, URIs percent-encoded in a multi-byte encoding other than UTF-8 need every
+ *   sequence of consecutive percent-encoded bytes to be kept pending until it is over.
+ * </p>
+ * <p>
+ *   Instances of this class are <strong>not thread-safe</strong>, as they keep the state of the text being
+ *   unescaped. They can be reused for unescaping a new text once {@link #finish()} has been called.
+ * </p>
+ * <p>
+ *   <strong>This class is not meant to be extended outside unbescape</strong>. Its implementations for each of
+ *   the supported languages only differ in the unescape operation being performed and in the way they determine
+ *   whether the end of a chunk can be interrupting an escape sequence.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public abstract class ChunkedUnescaper {
+
+
+    /*
+     * Size of the initial buffer for pending chars, enough for nearly all escape sequences in any language.
+     */
+    private static final int PENDING_BUFFER_SIZE = 64;
+
+    /*
+     * Amount of chars that will be taken at a time from a new chunk for completing the pending chars, and also
+     * amount of chars that will be copied at a time from CharSequence chunks.
+     */
+    private static final int COMPLETION_LEN = 64;
+    private static final int COPY_LEN = 2048;
+
+
+    private final Writer writer;
+
+    private char[] pending = null;
+    private int pendingSize = 0;
+
+    private char[] copyBuffer = null;
+
+
+
+
+    /**
+     * <p>
+     *   Create a new unescaper writing its results to the specified <kbd>Writer</kbd>.
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped results will be written.
+     */
+    protected ChunkedUnescaper(final Writer writer) {
+
+        super();
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        this.writer = writer;
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Compute the length of the longest prefix of a sequence of chars that can be unescaped without the risk
+     *   of interrupting an escape sequence that might be completed by chars following it.
+     * </p>
+     *
+     * @param text the text to be examined.
+     * @param offset the position in <kbd>text</kbd> at which the sequence to be examined starts.
+     * @param len the number of characters in the sequence to be examined.
+     * @return the length of the prefix, which might be <kbd>0</kbd>.
+     */
+    protected abstract int computeSafeUnescapeLength(final char[] text, final int offset, final int len);
+
+
+    /**
+     * <p>
+     *   Perform the unescape operation on a sequence of chars that does not interrupt any escape sequence.
+     * </p>
+     *
+     * @param text the text to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the unescape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @throws IOException if an input/output exception occurs
+     */
+    protected abstract void unescape(final char[] text, final int offset, final int len, final Writer writer)
+                                     throws IOException;
+
+
+
+
+    /**
+     * <p>
+     *   Unescape a chunk of text, specified as a <kbd>char[]</kbd>. The chunk is not modified, and no references
+     *   to it are kept once this method returns.
+     * </p>
+     *
+     * @param chunk the <kbd>char[]</kbd> containing the chunk to be unescaped.
+     * @param offset the position in <kbd>chunk</kbd> at which the chunk starts.
+     * @param len the number of characters in the chunk.
+     * @throws IOException if an input/output exception occurs
+     */
+    public void unescape(final char[] chunk, final int offset, final int len) throws IOException {
+
+        final int chunkLen = (chunk == null? 0 : chunk.length);
+
+        if (offset < 0 || offset > chunkLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", chunk.length=" + chunkLen);
+        }
+
+        if (len < 0 || (offset + len) > chunkLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", chunk.length=" + chunkLen);
+        }
+
+        final int max = offset + len;
+        int i = offset;
+
+        /*
+         * If there are pending chars, complete them with a few chars at a time from the chunk until they can be
+         * unescaped. This way only the chars needed for completing the pending escape sequence are copied.
+         */
+        while (this.pendingSize > 0 && i < max) {
+
+            final int n = Math.min(max - i, COMPLETION_LEN);
+            appendPending(chunk, i, n);
+            i += n;
+
+            final int safeLen = computeSafeUnescapeLength(this.pending, 0, this.pendingSize);
+            if (safeLen > 0) {
+                unescape(this.pending, 0, safeLen, this.writer);
+                System.arraycopy(this.pending, safeLen, this.pending, 0, (this.pendingSize - safeLen));
+                this.pendingSize -= safeLen;
+            }
+
+        }
+
+        if (i == max) {
+            return;
+        }
+
+        /*
+         * No pending chars: the rest of the chunk can be unescaped directly, keeping only its unsafe end
+         */
+        final int safeLen = computeSafeUnescapeLength(chunk, i, (max - i));
+        if (safeLen > 0) {
+            unescape(chunk, i, safeLen, this.writer);
+        }
+        appendPending(chunk, (i + safeLen), (max - i - safeLen));
+
+    }
+
+
+    /**
+     * <p>
+     *   Unescape a chunk of text, specified as a <kbd>CharSequence</kbd>.
+     * </p>
+     *
+     * @param chunk the <kbd>CharSequence</kbd> containing the chunk to be unescaped. Nothing will be done if it
+     *              is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public void unescape(final CharSequence chunk) throws IOException {
+
+        if (chunk == null) {
+            return;
+        }
+
+        final int chunkLen = chunk.length();
+        if (chunkLen == 0) {
+            return;
+        }
+
+        if (chunk instanceof CharBuffer && ((CharBuffer) chunk).hasArray()) {
+            final CharBuffer charBuffer = (CharBuffer) chunk;
+            unescape(charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position(), chunkLen);
+            return;
+        }
+
+        if (this.copyBuffer == null) {
+            this.copyBuffer = new char[Math.min(chunkLen, COPY_LEN)];
+        }
+
+        int i = 0;
+        while (i < chunkLen) {
+
+            final int n = Math.min(chunkLen - i, this.copyBuffer.length);
+            if (chunk instanceof String) {
+                ((String) chunk).getChars(i, i + n, this.copyBuffer, 0);
+            } else if (chunk instanceof StringBuilder) {
+                ((StringBuilder) chunk).getChars(i, i + n, this.copyBuffer, 0);
+            } else {
+                for (int j = 0; j < n; j++) {
+                    this.copyBuffer[j] = chunk.charAt(i + j);
+                }
+            }
+
+            unescape(this.copyBuffer, 0, n);
+            i += n;
+
+        }
+
+    }
+
+
+    /**
+     * <p>
+     *   Signal the end of the text being unescaped, unescaping any pending chars at its end. After calling this
+     *   method, the unescaper can be used for unescaping a new text.
+     * </p>
+     * <p>
+     *   Note this method does not flush or close the <kbd>Writer</kbd> this unescaper writes to.
+     * </p>
+     *
+     * @throws IOException if an input/output exception occurs
+     */
+    public void finish() throws IOException {
+
+        if (this.pendingSize > 0) {
+            // Set pending size to zero first, so that the unescaper is reusable even if an exception is thrown
+            final int size = this.pendingSize;
+            this.pendingSize = 0;
+            unescape(this.pending, 0, size, this.writer);
+        }
+
+    }
+
+
+    /**
+     * <p>
+     *   Returns the number of chars received that have not been unescaped yet because they might be the beginning
+     *   of an escape sequence.
+     * </p>
+     *
+     * @return the number of pending chars.
+     */
+    public int getPendingLength() {
+        return this.pendingSize;
+    }
+
+
+
+
+    private void appendPending(final char[] text, final int offset, final int len) {
+
+        if (len == 0) {
+            return;
+        }
+
+        if (this.pending == null) {
+            this.pending = new char[Math.max(PENDING_BUFFER_SIZE, len)];
+        } else if (this.pendingSize + len > this.pending.length) {
+            final char[] newPending =
+                    new char[Math.max(this.pendingSize + len, this.pending.length + (this.pending.length / 2))];
+            System.arraycopy(this.pending, 0, newPending, 0, this.pendingSize);
+            this.pending = newPending;
+        }
+
+        System.arraycopy(text, offset, this.pending, this.pendingSize, len);
+        this.pendingSize += len;
+
+    }
+
+
+}
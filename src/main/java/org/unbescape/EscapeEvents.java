@@ -0,0 +1,61 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+
+/**
+ * <p>
+ *   Internal class in charge of emitting <em>Java Flight Recorder</em> events for escape and unescape operations.
+ * </p>
+ * <p>
+ *   This default version does nothing, as JFR is not part of the Java SE 8 API. The unbescape <kbd>.jar</kbd>
+ *   contains a version of this class for Java 17 or newer that actually emits the events.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+final class EscapeEvents {
+
+
+    /*
+     * Events are passed around as Object because the event class only exists in the Java 17 version of this class
+     */
+    static Object begin() {
+        // Nothing to do
+        return null;
+    }
+
+
+    static void end(
+            final Object event, final String family, final String operation,
+            final int inputLength, final int outputLength, final boolean changed) {
+        // Nothing to do
+    }
+
+
+    private EscapeEvents() {
+        super();
+    }
+
+
+}
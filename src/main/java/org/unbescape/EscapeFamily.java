@@ -0,0 +1,108 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+/**
+ * <p>
+ *   Language families of the escape and unescape operations recorded by {@link org.unbescape.EscapeMetrics}:
+ * </p>
+ *
+ * <ul>
+ *     <li><kbd><strong>HTML</strong></kbd>: operations at {@link org.unbescape.html.HtmlEscape}.</li>
+ *     <li><kbd><strong>XML</strong></kbd>: operations at {@link org.unbescape.xml.XmlEscape}.</li>
+ *     <li><kbd><strong>JSON</strong></kbd>: operations at {@link org.unbescape.json.JsonEscape}.</li>
+ *     <li><kbd><strong>JAVASCRIPT</strong></kbd>: operations at {@link org.unbescape.javascript.JavaScriptEscape}.</li>
+ *     <li><kbd><strong>JAVA</strong></kbd>: operations at {@link org.unbescape.java.JavaEscape}.</li>
+ *     <li><kbd><strong>CSS</strong></kbd>: operations at {@link org.unbescape.css.CssEscape}.</li>
+ *     <li><kbd><strong>CSV</strong></kbd>: operations at {@link org.unbescape.csv.CsvEscape}.</li>
+ *     <li><kbd><strong>PROPERTIES</strong></kbd>: operations at {@link org.unbescape.properties.PropertiesEscape}.</li>
+ *     <li><kbd><strong>URI</strong></kbd>: operations at {@link org.unbescape.uri.UriEscape}.</li>
+ * </ul>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public enum EscapeFamily {
+
+    /**
+     * HTML escape and unescape operations.
+     */
+    HTML("HTML"),
+
+    /**
+     * XML escape and unescape operations.
+     */
+    XML("XML"),
+
+    /**
+     * JSON escape and unescape operations.
+     */
+    JSON("JSON"),
+
+    /**
+     * JavaScript escape and unescape operations.
+     */
+    JAVASCRIPT("JavaScript"),
+
+    /**
+     * Java escape and unescape operations.
+     */
+    JAVA("Java"),
+
+    /**
+     * CSS escape and unescape operations.
+     */
+    CSS("CSS"),
+
+    /**
+     * CSV escape and unescape operations.
+     */
+    CSV("CSV"),
+
+    /**
+     * Java <kbd>.properties</kbd> escape and unescape operations.
+     */
+    PROPERTIES("Properties"),
+
+    /**
+     * URI escape and unescape operations.
+     */
+    URI("URI");
+
+
+    private final String familyName;
+
+    EscapeFamily(final String familyName) {
+        this.familyName = familyName;
+    }
+
+    /**
+     * Return the name of the family (e.g. <kbd>"JavaScript"</kbd>), as used in <em>Java Flight Recorder</em>
+     * events.
+     *
+     * @return the name of the family.
+     */
+    public String getFamilyName() {
+        return this.familyName;
+    }
+
+}
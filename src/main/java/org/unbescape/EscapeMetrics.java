@@ -0,0 +1,244 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>
+ *   Optional recording of the escape and unescape operations performed by unbescape, meant for finding out in
+ *   production environments how much work is being done by each of the supported languages.
+ * </p>
+ * <p>
+ *   Recording is <strong>disabled by default</strong>, and can only be enabled at startup by setting the
+ *   <kbd>org.unbescape.metrics</kbd> system property to <kbd>true</kbd>
+ *   (e.g. <kbd>-Dorg.unbescape.metrics=true</kbd>). When disabled, the only cost for escape and unescape operations
+ *   is checking a <kbd>static final</kbd> flag, which the JVM removes altogether once the code is compiled.
+ * </p>
+ * <p>
+ *   When enabled, each operation performed on <kbd>String</kbd> or <kbd>CharSequence</kbd> input (including those
+ *   appending the result to a <kbd>StringBuilder</kbd>, and those performed by escaper objects) is added to a set
+ *   of counters per language family ({@link EscapeFamily}) and operation ({@link EscapeOperationType}), which can be
+ *   queried (and reset) by means of this class:
+ * </p>
+ * <ul>
+ *   <li>The number of operations, and how many of them did not need to modify their input at all (which, for
+ *       operations returning a <kbd>String</kbd>, means the input object itself was returned).</li>
+ *   <li>The total length (in chars) of the input and output texts.</li>
+ *   <li>The total time spent in those operations, in nanoseconds.</li>
+ * </ul>
+ * <p>
+ *   Independently of these counters, when running on Java 17 or newer each of these operations also emits an
+ *   <kbd>org.unbescape.EscapeOperation</kbd> <em>Java Flight Recorder</em> event containing the same information
+ *   whenever that event is enabled in a running JFR recording, even if recording is disabled here. While no JFR
+ *   recording has been started, the only additional cost of this is checking whether JFR has been initialized.
+ * </p>
+ * <p>
+ *   Operations writing to a <kbd>java.io.Writer</kbd> (<kbd>Reader</kbd> and <kbd>char[]</kbd> input) are not
+ *   recorded, as their output length cannot be known without wrapping the writer.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class EscapeMetrics {
+
+
+    /**
+     * Name of the system property that enables recording (<kbd>org.unbescape.metrics</kbd>).
+     */
+    public static final String ENABLED_PROPERTY_NAME = "org.unbescape.metrics";
+
+    /**
+     * Whether recording is enabled. Escape and unescape operations check this flag before recording anything.
+     */
+    public static final boolean ENABLED = computeEnabled();
+
+
+    private static final int OPERATIONS = EscapeOperationType.values().length;
+
+    /*
+     * One counter of each kind per family and operation, indexed by (family.ordinal() * OPERATIONS +
+     * operation.ordinal())
+     */
+    private static final LongAdder[] CALLS = createCounters();
+    private static final LongAdder[] UNCHANGED_CALLS = createCounters();
+    private static final LongAdder[] INPUT_LENGTH = createCounters();
+    private static final LongAdder[] OUTPUT_LENGTH = createCounters();
+    private static final LongAdder[] ELAPSED_NANOS = createCounters();
+
+
+
+
+    private static boolean computeEnabled() {
+        try {
+            return Boolean.getBoolean(ENABLED_PROPERTY_NAME);
+        } catch (final SecurityException ignored) {
+            // We are not allowed to read the property, so recording will remain disabled
+            return false;
+        }
+    }
+
+
+    private static LongAdder[] createCounters() {
+        final LongAdder[] counters = new LongAdder[EscapeFamily.values().length * OPERATIONS];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+
+
+
+    private EscapeMetrics() {
+        super();
+    }
+
+
+
+
+    /*
+     * Add an operation to the counters. Only called from EscapeMetricsRecorder.
+     */
+    static void add(
+            final EscapeFamily family, final EscapeOperationType operation,
+            final long elapsedNanos, final int inputLength, final int outputLength, final boolean changed) {
+
+        final int index = index(family, operation);
+        CALLS[index].increment();
+        if (!changed) {
+            UNCHANGED_CALLS[index].increment();
+        }
+        INPUT_LENGTH[index].add(inputLength);
+        OUTPUT_LENGTH[index].add(outputLength);
+        ELAPSED_NANOS[index].add(elapsedNanos);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Returns the number of recorded operations for a language family and operation.
+     * </p>
+     *
+     * @param family the language family (e.g. {@link EscapeFamily#HTML}).
+     * @param operation the operation ({@link EscapeOperationType#ESCAPE} or {@link EscapeOperationType#UNESCAPE}).
+     * @return the number of operations.
+     */
+    public static long getCalls(final EscapeFamily family, final EscapeOperationType operation) {
+        return CALLS[index(family, operation)].sum();
+    }
+
+
+    /**
+     * <p>
+     *   Returns the number of recorded operations for a language family and operation that did not need to
+     *   modify their input.
+     * </p>
+     *
+     * @param family the language family (e.g. {@link EscapeFamily#HTML}).
+     * @param operation the operation ({@link EscapeOperationType#ESCAPE} or {@link EscapeOperationType#UNESCAPE}).
+     * @return the number of operations that did not modify their input.
+     */
+    public static long getUnchangedCalls(final EscapeFamily family, final EscapeOperationType operation) {
+        return UNCHANGED_CALLS[index(family, operation)].sum();
+    }
+
+
+    /**
+     * <p>
+     *   Returns the total length (in chars) of the input of the recorded operations for a language family
+     *   and operation.
+     * </p>
+     *
+     * @param family the language family (e.g. {@link EscapeFamily#HTML}).
+     * @param operation the operation ({@link EscapeOperationType#ESCAPE} or {@link EscapeOperationType#UNESCAPE}).
+     * @return the total input length.
+     */
+    public static long getInputLength(final EscapeFamily family, final EscapeOperationType operation) {
+        return INPUT_LENGTH[index(family, operation)].sum();
+    }
+
+
+    /**
+     * <p>
+     *   Returns the total length (in chars) of the output of the recorded operations for a language family
+     *   and operation.
+     * </p>
+     *
+     * @param family the language family (e.g. {@link EscapeFamily#HTML}).
+     * @param operation the operation ({@link EscapeOperationType#ESCAPE} or {@link EscapeOperationType#UNESCAPE}).
+     * @return the total output length.
+     */
+    public static long getOutputLength(final EscapeFamily family, final EscapeOperationType operation) {
+        return OUTPUT_LENGTH[index(family, operation)].sum();
+    }
+
+
+    /**
+     * <p>
+     *   Returns the total time spent in the recorded operations for a language family and operation.
+     * </p>
+     *
+     * @param family the language family (e.g. {@link EscapeFamily#HTML}).
+     * @param operation the operation ({@link EscapeOperationType#ESCAPE} or {@link EscapeOperationType#UNESCAPE}).
+     * @return the total elapsed time, in nanoseconds.
+     */
+    public static long getElapsedNanos(final EscapeFamily family, final EscapeOperationType operation) {
+        return ELAPSED_NANOS[index(family, operation)].sum();
+    }
+
+
+    /**
+     * <p>
+     *   Reset all counters to zero.
+     * </p>
+     */
+    public static void reset() {
+        for (int i = 0; i < CALLS.length; i++) {
+            CALLS[i].reset();
+            UNCHANGED_CALLS[i].reset();
+            INPUT_LENGTH[i].reset();
+            OUTPUT_LENGTH[i].reset();
+            ELAPSED_NANOS[i].reset();
+        }
+    }
+
+
+
+
+    private static int index(final EscapeFamily family, final EscapeOperationType operation) {
+        if (family == null) {
+            throw new IllegalArgumentException("The 'family' argument cannot be null");
+        }
+        if (operation == null) {
+            throw new IllegalArgumentException("The 'operation' argument cannot be null");
+        }
+        return family.ordinal() * OPERATIONS + operation.ordinal();
+    }
+
+
+}
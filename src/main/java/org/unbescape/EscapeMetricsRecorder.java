@@ -0,0 +1,114 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+
+/**
+ * <p>
+ *   Internal class in charge of recording escape and unescape operations into {@link org.unbescape.EscapeMetrics}
+ *   and, on Java 17 or newer, emitting the corresponding <em>Java Flight Recorder</em> events.
+ * </p>
+ * <p>
+ *   Each recorder is obtained by means of {@link #start(EscapeFamily, EscapeOperationType)} right before the
+ *   operation is performed, and {@link #end(int, int, boolean)} is called on it right after. Metrics and JFR
+ *   events are independent: the latter are emitted whenever the <kbd>org.unbescape.EscapeOperation</kbd> event is
+ *   enabled in a running recording, even if {@link EscapeMetrics#ENABLED} is <kbd>false</kbd>.
+ * </p>
+ * <p>
+ *   <strong>This class is internal to unbescape and is not part of its public API</strong>. It is only public so
+ *   that it can be used by the escape and unescape implementations for each of the supported languages.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class EscapeMetricsRecorder {
+
+
+    private final EscapeFamily family;
+    private final EscapeOperationType operation;
+    private final long startTime;
+    private final Object event;
+
+
+
+
+    /**
+     * <p>
+     *   Start recording an operation, if needed.
+     * </p>
+     *
+     * @param family the language family.
+     * @param operation the operation.
+     * @return the recorder to be ended once the operation has been performed, or <kbd>null</kbd> if neither
+     *         metrics nor JFR events are enabled (in which case nothing needs to be recorded).
+     */
+    public static EscapeMetricsRecorder start(final EscapeFamily family, final EscapeOperationType operation) {
+        final Object event = EscapeEvents.begin();
+        if (!EscapeMetrics.ENABLED && event == null) {
+            return null;
+        }
+        return new EscapeMetricsRecorder(
+                family, operation, (EscapeMetrics.ENABLED? System.nanoTime() : 0L), event);
+    }
+
+
+    private EscapeMetricsRecorder(
+            final EscapeFamily family, final EscapeOperationType operation, final long startTime, final Object event) {
+        super();
+        this.family = family;
+        this.operation = operation;
+        this.startTime = startTime;
+        this.event = event;
+    }
+
+
+
+
+    /**
+     * <p>
+     *   End recording the operation.
+     * </p>
+     *
+     * @param inputLength the length of the input text.
+     * @param outputLength the length of the output text.
+     * @param changed whether the operation needed to modify its input (e.g. an unescape operation on
+     *                <kbd>"a+b"</kbd> for a URI query parameter changes its input without changing its length).
+     */
+    public void end(final int inputLength, final int outputLength, final boolean changed) {
+
+        if (EscapeMetrics.ENABLED) {
+            EscapeMetrics.add(
+                    this.family, this.operation, System.nanoTime() - this.startTime,
+                    inputLength, outputLength, changed);
+        }
+
+        if (this.event != null) {
+            EscapeEvents.end(
+                    this.event, this.family.getFamilyName(), this.operation.getOperationName(),
+                    inputLength, outputLength, changed);
+        }
+
+    }
+
+
+}
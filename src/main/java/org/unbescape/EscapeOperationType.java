@@ -0,0 +1,66 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+/**
+ * <p>
+ *   Operations recorded by {@link org.unbescape.EscapeMetrics} for each language family:
+ * </p>
+ *
+ * <ul>
+ *     <li><kbd><strong>ESCAPE</strong></kbd>: escape operations.</li>
+ *     <li><kbd><strong>UNESCAPE</strong></kbd>: unescape operations.</li>
+ * </ul>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public enum EscapeOperationType {
+
+    /**
+     * Escape operations.
+     */
+    ESCAPE("escape"),
+
+    /**
+     * Unescape operations.
+     */
+    UNESCAPE("unescape");
+
+
+    private final String operationName;
+
+    EscapeOperationType(final String operationName) {
+        this.operationName = operationName;
+    }
+
+    /**
+     * Return the name of the operation (e.g. <kbd>"escape"</kbd>), as used in <em>Java Flight Recorder</em>
+     * events.
+     *
+     * @return the name of the operation.
+     */
+    public String getOperationName() {
+        return this.operationName;
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+
+/**
+ * <p>
+ *   Internal class in charge of quickly skipping, during escape operations, sequences of chars that can never
+ *   need to be escaped (e.g. alphanumeric chars for the default levels of most escape operations).
+ * </p>
+ * <p>
+ *   <strong>This class is internal to unbescape and is not part of its public API</strong>. It is only public so
+ *   that it can be shared among the escape implementations for each of the supported languages.
+ * </p>
+ * <p>
+ *   Each scanner is created for a specific set of <em>candidate</em> chars: those that might need escaping (though
+ *   they don't need to). Scanners never perform the escape operations themselves, they only tell the (scalar)
+ *   escape loops how many chars they can skip at once without examining them.
+ * </p>
+ * <p>
+ *   This default implementation does not skip anything at all, so that the escape loops examine every char
+ *   themselves. The unbescape <kbd>.jar</kbd> is a <em>multi-release</em> jar which, on Java 17 or newer, contains
+ *   a version of this class that scans several chars at a time by means of the Vector API when the
+ *   <kbd>jdk.incubator.vector</kbd> module is present at runtime
+ *   (e.g. <kbd>--add-modules jdk.incubator.vector</kbd>).
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class EscapeScanner {
+
+
+    /*
+     * No information is needed by this implementation, so a single instance can be shared
+     */
+    private static final EscapeScanner INSTANCE = new EscapeScanner();
+
+
+
+
+    /**
+     * <p>
+     *   Create a scanner for an escape level table, considering candidate every char whose level is lower
+     *   than or equal to the specified level.
+     * </p>
+     * <p>
+     *   Escape level tables contain the level of each char up to <kbd>escapeLevels.length - 2</kbd> at the position
+     *   of that char, and the level of all the chars above it at the last position.
+     * </p>
+     *
+     * @param escapeLevels the table of escape levels.
+     * @param level the escape level being applied.
+     * @return the scanner.
+     */
+    public static EscapeScanner forEscapeLevels(final byte[] escapeLevels, final int level) {
+        return INSTANCE;
+    }
+
+
+    /**
+     * <p>
+     *   Create a scanner for an escape level table (see {@link #forEscapeLevels(byte[], int)}), also considering
+     *   candidate the chars in the specified ranges.
+     * </p>
+     *
+     * @param escapeLevels the table of escape levels.
+     * @param level the escape level being applied.
+     * @param candidateRanges additional candidate chars, specified as (inclusive) pairs of range limits.
+     * @return the scanner.
+     */
+    public static EscapeScanner forEscapeLevels(
+            final byte[] escapeLevels, final int level, final char[] candidateRanges) {
+        return INSTANCE;
+    }
+
+
+    /**
+     * <p>
+     *   Create a scanner for the chars in the specified ranges.
+     * </p>
+     *
+     * @param candidateRanges the candidate chars, specified as (inclusive) pairs of range limits.
+     * @return the scanner.
+     */
+    public static EscapeScanner forCandidateRanges(final char[] candidateRanges) {
+        return INSTANCE;
+    }
+
+
+
+
+    private EscapeScanner() {
+        super();
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Skip chars in the <kbd>[from, to)</kbd> interval of a <kbd>char[]</kbd> that are not candidates
+     *   for escaping.
+     * </p>
+     *
+     * @param text the text being escaped.
+     * @param from the first position to be examined.
+     * @param to the position after the last one to be examined.
+     * @return a position (<kbd>&gt;= from</kbd>, <kbd>&lt;= to</kbd>) such that no char before it (starting at
+     *         <kbd>from</kbd>) is a candidate for escaping. Might not be the position of the first candidate.
+     */
+    public int skip(final char[] text, final int from, final int to) {
+        return from;
+    }
+
+
+    /**
+     * <p>
+     *   Skip chars in the <kbd>[from, to)</kbd> interval of a <kbd>CharSequence</kbd> that are not candidates
+     *   for escaping.
+     * </p>
+     *
+     * @param text the text being escaped.
+     * @param from the first position to be examined.
+     * @param to the position after the last one to be examined.
+     * @return a position (<kbd>&gt;= from</kbd>, <kbd>&lt;= to</kbd>) such that no char before it (starting at
+     *         <kbd>from</kbd>) is a candidate for escaping. Might not be the position of the first candidate.
+     */
+    public int skip(final CharSequence text, final int from, final int to) {
+        return from;
+    }
+
+
+}
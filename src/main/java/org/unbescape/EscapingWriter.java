@@ -0,0 +1,423 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * <p>
+ *   <kbd>Writer</kbd> that escapes all the text written through it before writing it to an underlying
+ *   <kbd>Writer</kbd>, allowing e.g. template engines to stream escaped output directly to its destination.
+ * </p>
+ * <p>
+ *   Instances of this class are obtained from the escape facades of each of the supported languages (e.g.
+ *   {@link org.unbescape.html.HtmlEscape#escapingWriter(Writer, org.unbescape.html.HtmlEscapeType,
+ *   org.unbescape.html.HtmlEscapeLevel)}) for a specific escape type and level, and the results they produce are
+ *   exactly the same as those of escaping the whole text written through them at once.
+ * </p>
+ * <p>
+ *   Text written through these writers is buffered, so that small writes (e.g. single chars) are escaped together,
+ *   and so is escaped output, which is written to the underlying <kbd>Writer</kbd> in large blocks. Large
+ *   <kbd>char[]</kbd> writes are escaped directly without copying them. Because of this, {@link #flush()} or
+ *   {@link #close()} need to be called in order to make sure all escaped text reaches the underlying
+ *   <kbd>Writer</kbd>. Note that, as escaping a char can depend on the char following it (e.g. a high surrogate
+ *   needs its low surrogate), the last char written might not be escaped and written by {@link #flush()}, but
+ *   only once the next char is written or this writer is closed.
+ * </p>
+ * <p>
+ *   Instances of this class are <strong>not thread-safe</strong>: unlike most <kbd>java.io</kbd> writers they
+ *   perform no synchronization at all, as they are meant to be used by a single thread producing some output.
+ * </p>
+ * <p>
+ *   <strong>This class is not meant to be extended outside unbescape</strong>. Its implementations for each of
+ *   the supported languages only differ in the escape operation being performed and in the chars that might need
+ *   to be kept until the next one is known.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public abstract class EscapingWriter extends FilterWriter {
+
+
+    /*
+     * Sizes of the buffers for the text being written (before escaping) and for the escaped output
+     */
+    private static final int INPUT_BUFFER_SIZE = 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 4096;
+
+
+    private final char[] buffer = new char[INPUT_BUFFER_SIZE];
+    private int bufferSize = 0;
+
+    private final OutputBuffer output;
+
+    private boolean closed = false;
+
+
+
+
+    /**
+     * <p>
+     *   Create a new escaping writer writing its results to the specified <kbd>Writer</kbd>.
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped results will be written.
+     */
+    protected EscapingWriter(final Writer writer) {
+        super(validateWriter(writer));
+        this.output = new OutputBuffer(writer);
+    }
+
+
+    private static Writer validateWriter(final Writer writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        return writer;
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Compute the length of the longest prefix of a sequence of chars that can be escaped without knowing the
+     *   chars that will follow it.
+     * </p>
+     *
+     * @param text the text to be examined.
+     * @param offset the position in <kbd>text</kbd> at which the sequence to be examined starts.
+     * @param len the number of characters in the sequence to be examined.
+     * @return the length of the prefix, which might be <kbd>0</kbd>.
+     */
+    protected abstract int computeSafeEscapeLength(final char[] text, final int offset, final int len);
+
+
+    /**
+     * <p>
+     *   Perform the escape operation on a sequence of chars.
+     * </p>
+     *
+     * @param text the text to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written.
+     * @throws IOException if an input/output exception occurs
+     */
+    protected abstract void escape(final char[] text, final int offset, final int len, final Writer writer)
+                                   throws IOException;
+
+
+
+
+    @Override
+    public void write(final int c) throws IOException {
+
+        ensureOpen();
+
+        if (this.bufferSize == this.buffer.length) {
+            escapeBuffer();
+        }
+
+        this.buffer[this.bufferSize++] = (char) c;
+
+    }
+
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+
+        ensureOpen();
+
+        if ((off < 0) || (off > cbuf.length) || (len < 0) ||
+                ((off + len) > cbuf.length) || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (len <= (this.buffer.length - this.bufferSize)) {
+            // Fits in the buffer: just copy it so that it is escaped along with the rest of the buffered text
+            System.arraycopy(cbuf, off, this.buffer, this.bufferSize, len);
+            this.bufferSize += len;
+            return;
+        }
+
+        /*
+         * Does not fit in the buffer: escape the buffered text first, and then escape the chars directly from
+         * cbuf (without copying them), keeping in the buffer only those that cannot be escaped yet.
+         */
+
+        int i = off;
+        final int max = off + len;
+
+        while (this.bufferSize > 0 && i < max) {
+            // Only the few chars kept in the buffer after escaping it will be left, so there will be room
+            final int n = Math.min(max - i, this.buffer.length - this.bufferSize);
+            System.arraycopy(cbuf, i, this.buffer, this.bufferSize, n);
+            this.bufferSize += n;
+            i += n;
+            escapeBuffer();
+        }
+
+        if (i == max) {
+            return;
+        }
+
+        final int safeLen = computeSafeEscapeLength(cbuf, i, (max - i));
+        if (safeLen > 0) {
+            escape(cbuf, i, safeLen, this.output);
+        }
+        System.arraycopy(cbuf, (i + safeLen), this.buffer, this.bufferSize, (max - i - safeLen));
+        this.bufferSize += (max - i - safeLen);
+
+    }
+
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+
+        ensureOpen();
+
+        if ((off < 0) || (off > str.length()) || (len < 0) ||
+                ((off + len) > str.length()) || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int i = off;
+        final int max = off + len;
+
+        while (i < max) {
+
+            if (this.bufferSize == this.buffer.length) {
+                escapeBuffer();
+            }
+
+            final int n = Math.min(max - i, this.buffer.length - this.bufferSize);
+            str.getChars(i, i + n, this.buffer, this.bufferSize);
+            this.bufferSize += n;
+            i += n;
+
+        }
+
+    }
+
+
+    @Override
+    public Writer append(final CharSequence csq) throws IOException {
+        if (csq == null) {
+            write("null");
+        } else {
+            append(csq, 0, csq.length());
+        }
+        return this;
+    }
+
+
+    @Override
+    public Writer append(final CharSequence csq, final int start, final int end) throws IOException {
+
+        ensureOpen();
+
+        final CharSequence seq = (csq == null? "null" : csq);
+
+        if (start < 0 || start > end || end > seq.length()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (seq instanceof String) {
+            write((String) seq, start, (end - start));
+            return this;
+        }
+
+        for (int i = start; i < end; i++) {
+            if (this.bufferSize == this.buffer.length) {
+                escapeBuffer();
+            }
+            this.buffer[this.bufferSize++] = seq.charAt(i);
+        }
+        return this;
+
+    }
+
+
+    @Override
+    public Writer append(final char c) throws IOException {
+        write(c);
+        return this;
+    }
+
+
+    /**
+     * <p>
+     *   Escape all the text written so far (except, maybe, its last char: see the class documentation) and write
+     *   the result to the underlying <kbd>Writer</kbd>, flushing it afterwards.
+     * </p>
+     *
+     * @throws IOException if an input/output exception occurs
+     */
+    @Override
+    public void flush() throws IOException {
+
+        ensureOpen();
+
+        escapeBuffer();
+        this.output.flushBuffer();
+        this.out.flush();
+
+    }
+
+
+    /**
+     * <p>
+     *   Escape all the text written so far, write the result to the underlying <kbd>Writer</kbd> and close it.
+     *   Closing a writer that has already been closed has no effect.
+     * </p>
+     *
+     * @throws IOException if an input/output exception occurs
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        try {
+            if (this.bufferSize > 0) {
+                // This is the end of the text, so everything can be escaped now
+                escape(this.buffer, 0, this.bufferSize, this.output);
+                this.bufferSize = 0;
+            }
+            this.output.flushBuffer();
+        } finally {
+            this.out.close();
+        }
+
+    }
+
+
+
+
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+
+    /*
+     * Escape the safe part of the buffer, moving the rest (if any) to its beginning
+     */
+    private void escapeBuffer() throws IOException {
+
+        if (this.bufferSize == 0) {
+            return;
+        }
+
+        final int safeLen = computeSafeEscapeLength(this.buffer, 0, this.bufferSize);
+        if (safeLen > 0) {
+            escape(this.buffer, 0, safeLen, this.output);
+            System.arraycopy(this.buffer, safeLen, this.buffer, 0, (this.bufferSize - safeLen));
+            this.bufferSize -= safeLen;
+        }
+
+    }
+
+
+
+
+    /*
+     * Buffer for the escaped output, which writes it to the underlying writer in large blocks (or directly, if
+     * large blocks are written to it). Performs no synchronization, and never flushes the underlying writer.
+     */
+    private static final class OutputBuffer extends Writer {
+
+        private final Writer writer;
+        private final char[] buffer = new char[OUTPUT_BUFFER_SIZE];
+        private int bufferSize = 0;
+
+        OutputBuffer(final Writer writer) {
+            super();
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(final int c) throws IOException {
+            if (this.bufferSize == this.buffer.length) {
+                flushBuffer();
+            }
+            this.buffer[this.bufferSize++] = (char) c;
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            if (len >= this.buffer.length) {
+                // No point in copying it
+                flushBuffer();
+                this.writer.write(cbuf, off, len);
+                return;
+            }
+            if (len > (this.buffer.length - this.bufferSize)) {
+                flushBuffer();
+            }
+            System.arraycopy(cbuf, off, this.buffer, this.bufferSize, len);
+            this.bufferSize += len;
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) throws IOException {
+            if (len >= this.buffer.length) {
+                flushBuffer();
+                this.writer.write(str, off, len);
+                return;
+            }
+            if (len > (this.buffer.length - this.bufferSize)) {
+                flushBuffer();
+            }
+            str.getChars(off, off + len, this.buffer, this.bufferSize);
+            this.bufferSize += len;
+        }
+
+        void flushBuffer() throws IOException {
+            if (this.bufferSize > 0) {
+                this.writer.write(this.buffer, 0, this.bufferSize);
+                this.bufferSize = 0;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushBuffer();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flushBuffer();
+        }
+
+    }
+
+
+}
@@ -0,0 +1,126 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.io.Writer;
+
+
+/**
+ * <p>
+ *   Internal <kbd>Writer</kbd> in charge of writing the results of an unescape operation on a <kbd>char[]</kbd>
+ *   back into the same <kbd>char[]</kbd>, so that it can be unescaped <em>in place</em>.
+ * </p>
+ * <p>
+ *   <strong>This class is internal to unbescape and is not part of its public API</strong>. It is only public so
+ *   that it can be shared among the unescape implementations for each of the supported languages.
+ * </p>
+ * <p>
+ *   This is possible because unescape operations never write more chars than they read: each escape sequence is
+ *   at least as long as its unescaped result, and no escape sequence is written until it has been completely read.
+ *   So when chars are written to a position of the array, these have always been read already. Chars that do not
+ *   need to be unescaped are not even copied as long as no escape sequence has been found before them.
+ * </p>
+ * <p>
+ *   Writes are not checked to be within bounds, and no synchronization is performed.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class InPlaceCharArrayWriter extends Writer {
+
+
+    private final char[] text;
+    private int position;
+
+
+
+
+    /**
+     * <p>
+     *   Create a new writer that will write into the specified <kbd>char[]</kbd>, starting at the specified
+     *   position.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> being unescaped, into which results will be written.
+     * @param position the position in <kbd>text</kbd> at which results should start being written.
+     */
+    public InPlaceCharArrayWriter(final char[] text, final int position) {
+        super();
+        this.text = text;
+        this.position = position;
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Returns the position in the <kbd>char[]</kbd> at which the next char would be written, i.e. the position
+     *   after the last char written.
+     * </p>
+     *
+     * @return the position.
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+
+
+
+    @Override
+    public void write(final int c) {
+        this.text[this.position++] = (char) c;
+    }
+
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) {
+        if (cbuf != this.text || off != this.position) {
+            // Chars already at their final position (no escape sequence found before them yet) are not copied
+            System.arraycopy(cbuf, off, this.text, this.position, len);
+        }
+        this.position += len;
+    }
+
+
+    @Override
+    public void write(final String str, final int off, final int len) {
+        str.getChars(off, off + len, this.text, this.position);
+        this.position += len;
+    }
+
+
+    @Override
+    public void flush() {
+        // Nothing to be flushed
+    }
+
+
+    @Override
+    public void close() {
+        // Nothing to be closed
+    }
+
+
+}
@@ -0,0 +1,56 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.css;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.unbescape.ChunkedUnescaper;
+
+/*
+ * Implementation of ChunkedUnescaper for CSS unescape operations.
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+final class CssChunkedUnescaper extends ChunkedUnescaper {
+
+
+    CssChunkedUnescaper(final Writer writer) {
+        super(writer);
+    }
+
+
+    @Override
+    protected int computeSafeUnescapeLength(final char[] text, final int offset, final int len) {
+        return CssUnescapeUtil.computeSafeUnescapeLength(text, offset, len);
+    }
+
+
+    @Override
+    protected void unescape(final char[] text, final int offset, final int len, final Writer writer)
+                            throws IOException {
+        CssUnescapeUtil.unescape(text, offset, len, writer);
+    }
+
+
+}
@@ -22,6 +22,9 @@
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.CharBuffer;
+
+import org.unbescape.ChunkedUnescaper;
 
 /**
  * <p>
@@ -80,7 +83,7 @@
  * <strong><u>Input/Output</u></strong>
  *
  * <p>
- *   There are four different input/output modes that can be used in escape/unescape operations:
+ *   There are five different input/output modes that can be used in escape/unescape operations:
  * </p>
  * <ul>
  *   <li><em><kbd>String</kbd> input, <kbd>String</kbd> output</em>: Input is specified as a <kbd>String</kbd> object
@@ -89,6 +92,9 @@
  *       are required</u>.</li>
  *   <li><em><kbd>String</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a String
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
+ *   <li><em><kbd>String</kbd> input, <kbd>StringBuilder</kbd> output</em>: Input will be read from a String
+ *       and output will be appended to the specified <kbd>StringBuilder</kbd>. This avoids creating intermediate
+ *       <kbd>String</kbd> objects when output is already being composed into a <kbd>StringBuilder</kbd>.</li>
  *   <li><em><kbd>java.io.Reader</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a Reader
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
  *   <li><em><kbd>char[]</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a char array
@@ -98,6 +104,11 @@
  *       should be called with <kbd>offset = 0</kbd> and <kbd>len = text.length</kbd> in order to process
  *       the whole <kbd>char[]</kbd>.</li>
  * </ul>
+ * <p>
+ *   All <kbd>String</kbd>-input modes are also available for any other <kbd>java.lang.CharSequence</kbd>
+ *   implementation (e.g. <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd>), which will be processed
+ *   directly, without needing to create a <kbd>String</kbd> out of them first.
+ * </p>
  *
  * <strong><u>Glossary</u></strong>
  *
@@ -458,10 +469,13 @@ public static void escapeCssString(final String text, final Writer writer,
 
 
 
+
+
+
     /**
      * <p>
      *   Perform a CSS String level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the CSS String basic escape set:
@@ -482,7 +496,7 @@ public static void escapeCssString(final String text, final Writer writer,
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapeCssString(Reader, Writer, CssStringEscapeType, CssStringEscapeLevel)}
+     *   This method calls {@link #escapeCssString(String, StringBuilder, CssStringEscapeType, CssStringEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -495,16 +509,14 @@ public static void escapeCssString(final String text, final Writer writer,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeCssStringMinimal(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeCssString(reader, writer,
+    public static void escapeCssStringMinimal(final String text, final StringBuilder strBuilder) {
+        escapeCssString(text, strBuilder,
                 CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
                 CssStringEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
@@ -513,7 +525,7 @@ public static void escapeCssStringMinimal(final Reader reader, final Writer writ
     /**
      * <p>
      *   Perform a CSS String level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -540,7 +552,7 @@ public static void escapeCssStringMinimal(final Reader reader, final Writer writ
      * </p>
      * <p>
      *   This method calls
-     *   {@link #escapeCssString(Reader, Writer, CssStringEscapeType, CssStringEscapeLevel)}
+     *   {@link #escapeCssString(String, StringBuilder, CssStringEscapeType, CssStringEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -553,16 +565,14 @@ public static void escapeCssStringMinimal(final Reader reader, final Writer writ
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeCssString(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeCssString(reader, writer,
+    public static void escapeCssString(final String text, final StringBuilder strBuilder) {
+        escapeCssString(text, strBuilder,
                 CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
                 CssStringEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
@@ -570,8 +580,8 @@ public static void escapeCssString(final Reader reader, final Writer writer)
 
     /**
      * <p>
-     *   Perform a (configurable) CSS String <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) CSS String <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -579,29 +589,27 @@ public static void escapeCssString(final Reader reader, final Writer writer)
      *   {@link CssStringEscapeLevel} argument values.
      * </p>
      * <p>
-     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeCssString*(...)</kbd> methods call this one
-     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeCssString*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param type the type of escape operation to be performed, see
      *             {@link CssStringEscapeType}.
      * @param level the escape level to be applied, see {@link CssStringEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeCssString(final Reader reader, final Writer writer,
-                                       final CssStringEscapeType type, final CssStringEscapeLevel level)
-            throws IOException {
+    public static void escapeCssString(final String text, final StringBuilder strBuilder,
+                                       final CssStringEscapeType type, final CssStringEscapeLevel level) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (type == null) {
@@ -612,17 +620,20 @@ public static void escapeCssString(final Reader reader, final Writer writer,
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        CssStringEscapeUtil.escape(reader, writer, type, level);
+        CssStringEscapeUtil.escape(text, strBuilder, type, level);
 
     }
 
 
 
 
+
+
+
     /**
      * <p>
      *   Perform a CSS String level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the CSS String basic escape set:
@@ -643,8 +654,7 @@ public static void escapeCssString(final Reader reader, final Writer writer,
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls
-     *   {@link #escapeCssString(char[], int, int, java.io.Writer, CssStringEscapeType, CssStringEscapeLevel)}
+     *   This method calls {@link #escapeCssString(CharSequence, CssStringEscapeType, CssStringEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -657,16 +667,15 @@ public static void escapeCssString(final Reader reader, final Writer writer,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeCssStringMinimal(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        escapeCssString(text, offset, len, writer,
+    public static String escapeCssStringMinimal(final CharSequence text) {
+        return escapeCssString(text,
                 CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
                 CssStringEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
@@ -675,7 +684,7 @@ public static void escapeCssStringMinimal(final char[] text, final int offset, f
     /**
      * <p>
      *   Perform a CSS String level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -702,7 +711,7 @@ public static void escapeCssStringMinimal(final char[] text, final int offset, f
      * </p>
      * <p>
      *   This method calls
-     *   {@link #escapeCssString(char[], int, int, java.io.Writer, CssStringEscapeType, CssStringEscapeLevel)}
+     *   {@link #escapeCssString(CharSequence, CssStringEscapeType, CssStringEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -715,16 +724,15 @@ public static void escapeCssStringMinimal(final char[] text, final int offset, f
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeCssString(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        escapeCssString(text, offset, len, writer,
+    public static String escapeCssString(final CharSequence text) {
+        return escapeCssString(text,
                 CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
                 CssStringEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
@@ -732,7 +740,7 @@ public static void escapeCssString(final char[] text, final int offset, final in
 
     /**
      * <p>
-     *   Perform a (configurable) CSS String <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform a (configurable) CSS String <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -740,30 +748,25 @@ public static void escapeCssString(final char[] text, final int offset, final in
      *   {@link CssStringEscapeLevel} argument values.
      * </p>
      * <p>
-     *   All other <kbd>char[]</kbd>-based <kbd>escapeCssString*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapeCssString*(...)</kbd> methods call this one with
+     *   preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param type the type of escape operation to be performed, see
      *             {@link CssStringEscapeType}.
      * @param level the escape level to be applied, see {@link CssStringEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeCssString(final char[] text, final int offset, final int len, final Writer writer,
-                                  final CssStringEscapeType type, final CssStringEscapeLevel level)
-            throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
+    public static String escapeCssString(final CharSequence text,
+                                    final CssStringEscapeType type, final CssStringEscapeLevel level) {
 
         if (type == null) {
             throw new IllegalArgumentException("The 'type' argument cannot be null");
@@ -773,76 +776,23 @@ public static void escapeCssString(final char[] text, final int offset, final in
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        CssStringEscapeUtil.escape(text, offset, len, writer, type, level);
+        return CssStringEscapeUtil.escape(text, type, level);
 
     }
 
 
-
-
-
-
-
-
-
     /**
      * <p>
-     *   Perform a CSS Identifier level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>String</kbd> input.
+     *   Perform a CSS String level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   <em>Level 1</em> means this method will only escape the CSS Identifier basic escape set:
+     *   <em>Level 1</em> means this method will only escape the CSS String basic escape set:
      * </p>
      * <ul>
      *   <li>The <em>Backslash Escapes</em>:
-     *       <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
-     *       <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
-     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
-     *       <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
-     *       <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
-     *       <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
-     *       <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
-     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
-     *       <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
-     *       <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
-     *       <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
-     *       <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
-     *       <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
-     *       <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
-     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
-     *       <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
-     *       <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
-     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
-     *       <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
-     *       <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
-     *       <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
-     *       <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
-     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
-     *       <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
-     *       <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
-     *       <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
-     *       <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
-     *       <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
-     *       <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
-     *       <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
-     *       Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
-     *       when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
-     *       (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
-     *       problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
-     *       (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
-     *       used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>) and
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>).
      *   </li>
      *   <li>
      *       Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
@@ -855,80 +805,48 @@ public static void escapeCssString(final char[] text, final int offset, final in
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapeCssIdentifier(String, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   This method calls {@link #escapeCssString(CharSequence, Writer, CssStringEscapeType, CssStringEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
-     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *       {@link CssStringEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
      *   <li><kbd>level</kbd>:
-     *       {@link CssIdentifierEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     *       {@link CssStringEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
      * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String escapeCssIdentifierMinimal(final String text) {
-        return escapeCssIdentifier(text,
-                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
-                CssIdentifierEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    public static void escapeCssStringMinimal(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeCssString(text, writer,
+                CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssStringEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a CSS Identifier level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>String</kbd> input.
+     *   Perform a CSS String level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
      * </p>
      * <ul>
-     *   <li>The CSS Identifier basic escape set:
+     *   <li>The CSS String basic escape set:
      *         <ul>
      *           <li>The <em>Backslash Escapes</em>:
-     *               <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
-     *               <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
-     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
-     *               <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
-     *               <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
-     *               <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
-     *               <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
-     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
-     *               <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
-     *               <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
-     *               <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
-     *               <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
-     *               <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
-     *               <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
-     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
-     *               <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
-     *               <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
-     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
-     *               <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
-     *               <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
-     *               <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
-     *               <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
-     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
-     *               <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
-     *               <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
-     *               <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
-     *               <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
-     *               <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
-     *               <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
-     *               <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
-     *               Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
-     *               when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
-     *               (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
-     *               problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
-     *               (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
-     *               used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>) and
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>).
      *           </li>
      *           <li>
      *               Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
@@ -945,60 +863,1727 @@ public static String escapeCssIdentifierMinimal(final String text) {
      * </p>
      * <p>
      *   This method calls
-     *   {@link #escapeCssIdentifier(String, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   {@link #escapeCssString(CharSequence, Writer, CssStringEscapeType, CssStringEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
-     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *       {@link CssStringEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
      *   <li><kbd>level</kbd>:
-     *       {@link CssIdentifierEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     *       {@link CssStringEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
      * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String escapeCssIdentifier(final String text) {
-        return escapeCssIdentifier(text,
-                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
-                CssIdentifierEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static void escapeCssString(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeCssString(text, writer,
+                CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssStringEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) CSS Identifier <strong>escape</strong> operation on a <kbd>String</kbd> input.
+     *   Perform a (configurable) CSS String <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
-     *   {@link CssIdentifierEscapeType} and
-     *   {@link CssIdentifierEscapeLevel} argument values.
+     *   {@link CssStringEscapeType} and
+     *   {@link CssStringEscapeLevel} argument values.
      * </p>
      * <p>
-     *   All other <kbd>String</kbd>-based <kbd>escapeCssIdentifier*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapeCssString*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
      * @param type the type of escape operation to be performed, see
-     *             {@link CssIdentifierEscapeType}.
+     *             {@link CssStringEscapeType}.
+     * @param level the escape level to be applied, see {@link CssStringEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCssString(final CharSequence text, final Writer writer,
+                                       final CssStringEscapeType type, final CssStringEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        CssStringEscapeUtil.escape(new InternalStringReader(text), writer, type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS String level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the CSS String basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Backslash Escapes</em>:
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>) and
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeCssString(CharSequence, StringBuilder, CssStringEscapeType,
+     *   CssStringEscapeLevel)} with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssStringEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssStringEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCssStringMinimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapeCssString(text, strBuilder,
+                CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssStringEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS String level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The CSS String basic escape set:
+     *         <ul>
+     *           <li>The <em>Backslash Escapes</em>:
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>) and
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeCssString(CharSequence, StringBuilder, CssStringEscapeType, CssStringEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssStringEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssStringEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCssString(final CharSequence text, final StringBuilder strBuilder) {
+        escapeCssString(text, strBuilder,
+                CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssStringEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) CSS String <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link CssStringEscapeType} and
+     *   {@link CssStringEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeCssString*(...)</kbd> methods call
+     *   this one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link CssStringEscapeType}.
+     * @param level the escape level to be applied, see {@link CssStringEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCssString(final CharSequence text, final StringBuilder strBuilder,
+                                       final CssStringEscapeType type, final CssStringEscapeLevel level) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        CssStringEscapeUtil.escape(text, strBuilder, type, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSS String level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the CSS String basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Backslash Escapes</em>:
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>) and
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeCssString(Reader, Writer, CssStringEscapeType, CssStringEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssStringEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssStringEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeCssStringMinimal(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeCssString(reader, writer,
+                CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssStringEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS String level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The CSS String basic escape set:
+     *         <ul>
+     *           <li>The <em>Backslash Escapes</em>:
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>) and
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeCssString(Reader, Writer, CssStringEscapeType, CssStringEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssStringEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssStringEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeCssString(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeCssString(reader, writer,
+                CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssStringEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) CSS String <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link CssStringEscapeType} and
+     *   {@link CssStringEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeCssString*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link CssStringEscapeType}.
+     * @param level the escape level to be applied, see {@link CssStringEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeCssString(final Reader reader, final Writer writer,
+                                       final CssStringEscapeType type, final CssStringEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        CssStringEscapeUtil.escape(reader, writer, type, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSS String level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the CSS String basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Backslash Escapes</em>:
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>) and
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeCssString(char[], int, int, java.io.Writer, CssStringEscapeType, CssStringEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssStringEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssStringEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeCssStringMinimal(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        escapeCssString(text, offset, len, writer,
+                CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssStringEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS String level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The CSS String basic escape set:
+     *         <ul>
+     *           <li>The <em>Backslash Escapes</em>:
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>) and
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeCssString(char[], int, int, java.io.Writer, CssStringEscapeType, CssStringEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssStringEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssStringEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeCssString(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        escapeCssString(text, offset, len, writer,
+                CssStringEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssStringEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) CSS String <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link CssStringEscapeType} and
+     *   {@link CssStringEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>char[]</kbd>-based <kbd>escapeCssString*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link CssStringEscapeType}.
+     * @param level the escape level to be applied, see {@link CssStringEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeCssString(final char[] text, final int offset, final int len, final Writer writer,
+                                  final CssStringEscapeType type, final CssStringEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        CssStringEscapeUtil.escape(text, offset, len, writer, type, level);
+
+    }
+
+
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSS Identifier level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the CSS Identifier basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Backslash Escapes</em>:
+     *       <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
+     *       <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
+     *       <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
+     *       <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *       <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
+     *       <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
+     *       <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
+     *       <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
+     *       <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
+     *       <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
+     *       <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
+     *       <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
+     *       <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
+     *       <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
+     *       <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
+     *       <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
+     *       <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
+     *       <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
+     *       <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
+     *       <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
+     *       <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
+     *       <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
+     *       <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
+     *       Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
+     *       when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
+     *       (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
+     *       problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
+     *       (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
+     *       used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeCssIdentifier(String, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String escapeCssIdentifierMinimal(final String text) {
+        return escapeCssIdentifier(text,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Obtain a pre-compiled CSS string <strong>escaper</strong> for the specified type and level, which will perform
+     *   the same escape operations as the <kbd>escapeCssString(...)</kbd> methods in this class that receive the same
+     *   <kbd>type</kbd> and <kbd>level</kbd> arguments.
+     * </p>
+     * <p>
+     *   All the decisions depending on the escape type and level are taken only once when the escaper is created,
+     *   so code that escapes texts very frequently and always with the same type and level can obtain an escaper
+     *   once and use it for every escape operation.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, and so are the returned escapers.
+     * </p>
+     *
+     * @param type the type of escape operation to be performed, see
+     *             {@link org.unbescape.css.CssStringEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.css.CssStringEscapeLevel}.
+     * @return the escaper.
+     *
+     * @since 1.1.7
+     */
+    public static CssStringEscaper stringEscaper(final CssStringEscapeType type, final CssStringEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return CssStringEscaper.forTypeAndLevel(type, level);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSS Identifier level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The CSS Identifier basic escape set:
+     *         <ul>
+     *           <li>The <em>Backslash Escapes</em>:
+     *               <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
+     *               <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
+     *               <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
+     *               <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *               <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
+     *               <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
+     *               <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
+     *               <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
+     *               <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
+     *               <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
+     *               <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
+     *               <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
+     *               <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
+     *               <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
+     *               <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
+     *               <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
+     *               <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
+     *               <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
+     *               <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
+     *               <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
+     *               <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
+     *               <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
+     *               <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
+     *               Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
+     *               when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
+     *               (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
+     *               problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
+     *               (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
+     *               used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeCssIdentifier(String, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String escapeCssIdentifier(final String text) {
+        return escapeCssIdentifier(text,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) CSS Identifier <strong>escape</strong> operation on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link CssIdentifierEscapeType} and
+     *   {@link CssIdentifierEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>String</kbd>-based <kbd>escapeCssIdentifier*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param type the type of escape operation to be performed, see
+     *             {@link CssIdentifierEscapeType}.
+     * @param level the escape level to be applied, see {@link CssIdentifierEscapeLevel}.
+     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String escapeCssIdentifier(final String text,
+                                         final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return CssIdentifierEscapeUtil.escape(text, type, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSS Identifier level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the CSS Identifier basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Backslash Escapes</em>:
+     *       <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
+     *       <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
+     *       <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
+     *       <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *       <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
+     *       <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
+     *       <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
+     *       <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
+     *       <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
+     *       <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
+     *       <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
+     *       <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
+     *       <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
+     *       <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
+     *       <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
+     *       <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
+     *       <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
+     *       <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
+     *       <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
+     *       <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
+     *       <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
+     *       <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
+     *       <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
+     *       Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
+     *       when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
+     *       (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
+     *       problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
+     *       (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
+     *       used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeCssIdentifier(String, Writer, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeCssIdentifierMinimal(final String text, final Writer writer)
+            throws IOException {
+        escapeCssIdentifier(text, writer,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS Identifier level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The CSS Identifier basic escape set:
+     *         <ul>
+     *           <li>The <em>Backslash Escapes</em>:
+     *               <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
+     *               <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
+     *               <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
+     *               <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *               <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
+     *               <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
+     *               <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
+     *               <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
+     *               <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
+     *               <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
+     *               <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
+     *               <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
+     *               <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
+     *               <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
+     *               <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
+     *               <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
+     *               <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
+     *               <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
+     *               <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
+     *               <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
+     *               <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
+     *               <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
+     *               <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
+     *               Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
+     *               when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
+     *               (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
+     *               problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
+     *               (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
+     *               used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeCssIdentifier(String, Writer, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeCssIdentifier(final String text, final Writer writer)
+            throws IOException {
+        escapeCssIdentifier(text, writer,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) CSS Identifier <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   writing the results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link CssIdentifierEscapeType} and
+     *   {@link CssIdentifierEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>String</kbd>/<kbd>Writer</kbd>-based <kbd>escapeCssIdentifier*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link CssIdentifierEscapeType}.
+     * @param level the escape level to be applied, see {@link CssIdentifierEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeCssIdentifier(final String text, final Writer writer,
+                                           final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        CssIdentifierEscapeUtil.escape(new InternalStringReader(text), writer, type, level);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSS Identifier level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the CSS Identifier basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Backslash Escapes</em>:
+     *       <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
+     *       <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
+     *       <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
+     *       <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *       <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
+     *       <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
+     *       <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
+     *       <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
+     *       <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
+     *       <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
+     *       <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
+     *       <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
+     *       <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
+     *       <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
+     *       <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
+     *       <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
+     *       <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
+     *       <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
+     *       <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
+     *       <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
+     *       <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
+     *       <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
+     *       <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
+     *       Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
+     *       when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
+     *       (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
+     *       problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
+     *       (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
+     *       used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeCssIdentifier(String, StringBuilder, CssIdentifierEscapeType,
+     *   CssIdentifierEscapeLevel)} with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCssIdentifierMinimal(final String text, final StringBuilder strBuilder) {
+        escapeCssIdentifier(text, strBuilder,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS Identifier level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The CSS Identifier basic escape set:
+     *         <ul>
+     *           <li>The <em>Backslash Escapes</em>:
+     *               <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
+     *               <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
+     *               <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
+     *               <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *               <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
+     *               <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
+     *               <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
+     *               <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
+     *               <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
+     *               <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
+     *               <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
+     *               <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
+     *               <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
+     *               <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
+     *               <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
+     *               <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
+     *               <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
+     *               <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
+     *               <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
+     *               <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
+     *               <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
+     *               <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
+     *               <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
+     *               Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
+     *               when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
+     *               (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
+     *               problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
+     *               (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
+     *               used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeCssIdentifier(String, StringBuilder, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCssIdentifier(final String text, final StringBuilder strBuilder) {
+        escapeCssIdentifier(text, strBuilder,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) CSS Identifier <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending the results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link CssIdentifierEscapeType} and
+     *   {@link CssIdentifierEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeCssIdentifier*(...)</kbd> methods call
+     *   this one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link CssIdentifierEscapeType}.
+     * @param level the escape level to be applied, see {@link CssIdentifierEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCssIdentifier(final String text, final StringBuilder strBuilder,
+                                           final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        CssIdentifierEscapeUtil.escape(text, strBuilder, type, level);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSS Identifier level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the CSS Identifier basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Backslash Escapes</em>:
+     *       <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
+     *       <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
+     *       <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
+     *       <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *       <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
+     *       <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
+     *       <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
+     *       <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
+     *       <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
+     *       <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
+     *       <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
+     *       <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
+     *       <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
+     *       <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
+     *       <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
+     *       <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
+     *       <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
+     *       <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
+     *       <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
+     *       <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
+     *       <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
+     *       <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
+     *       <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
+     *       Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
+     *       when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
+     *       (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
+     *       problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
+     *       (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
+     *       used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeCssIdentifier(CharSequence, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String escapeCssIdentifierMinimal(final CharSequence text) {
+        return escapeCssIdentifier(text,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS Identifier level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The CSS Identifier basic escape set:
+     *         <ul>
+     *           <li>The <em>Backslash Escapes</em>:
+     *               <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
+     *               <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
+     *               <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
+     *               <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *               <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
+     *               <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
+     *               <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
+     *               <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
+     *               <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
+     *               <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
+     *               <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
+     *               <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
+     *               <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
+     *               <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
+     *               <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
+     *               <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
+     *               <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
+     *               <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
+     *               <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
+     *               <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
+     *               <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
+     *               <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
+     *               <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
+     *               Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
+     *               when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
+     *               (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
+     *               problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
+     *               (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
+     *               used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeCssIdentifier(CharSequence, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String escapeCssIdentifier(final CharSequence text) {
+        return escapeCssIdentifier(text,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) CSS Identifier <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link CssIdentifierEscapeType} and
+     *   {@link CssIdentifierEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapeCssIdentifier*(...)</kbd> methods call this one with
+     *   preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param type the type of escape operation to be performed, see
+     *             {@link CssIdentifierEscapeType}.
+     * @param level the escape level to be applied, see {@link CssIdentifierEscapeLevel}.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String escapeCssIdentifier(final CharSequence text,
+                                         final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return CssIdentifierEscapeUtil.escape(text, type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS Identifier level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the CSS Identifier basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Backslash Escapes</em>:
+     *       <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
+     *       <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
+     *       <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
+     *       <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *       <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
+     *       <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
+     *       <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
+     *       <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
+     *       <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
+     *       <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
+     *       <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
+     *       <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
+     *       <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
+     *       <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
+     *       <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
+     *       <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
+     *       <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
+     *       <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
+     *       <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
+     *       <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
+     *       <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
+     *       <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
+     *       <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
+     *       Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
+     *       when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
+     *       (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
+     *       problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
+     *       (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
+     *       used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeCssIdentifier(CharSequence, Writer, CssIdentifierEscapeType,
+     *   CssIdentifierEscapeLevel)} with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCssIdentifierMinimal(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeCssIdentifier(text, writer,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS Identifier level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The CSS Identifier basic escape set:
+     *         <ul>
+     *           <li>The <em>Backslash Escapes</em>:
+     *               <kbd>&#92; </kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;!</kbd> (<kbd>U+0021</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;#</kbd> (<kbd>U+0023</kbd>),
+     *               <kbd>&#92;$</kbd> (<kbd>U+0024</kbd>),
+     *               <kbd>&#92;%</kbd> (<kbd>U+0025</kbd>),
+     *               <kbd>&#92;&amp;</kbd> (<kbd>U+0026</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *               <kbd>&#92;(</kbd> (<kbd>U+0028</kbd>),
+     *               <kbd>&#92;)</kbd> (<kbd>U+0029</kbd>),
+     *               <kbd>&#92;*</kbd> (<kbd>U+002A</kbd>),
+     *               <kbd>&#92;+</kbd> (<kbd>U+002B</kbd>),
+     *               <kbd>&#92;,</kbd> (<kbd>U+002C</kbd>),
+     *               <kbd>&#92;.</kbd> (<kbd>U+002E</kbd>),
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>),
+     *               <kbd>&#92;;</kbd> (<kbd>U+003B</kbd>),
+     *               <kbd>&#92;&lt;</kbd> (<kbd>U+003C</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>),
+     *               <kbd>&#92;&gt;</kbd> (<kbd>U+003E</kbd>),
+     *               <kbd>&#92;?</kbd> (<kbd>U+003F</kbd>),
+     *               <kbd>&#92;@</kbd> (<kbd>U+0040</kbd>),
+     *               <kbd>&#92;[</kbd> (<kbd>U+005B</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>),
+     *               <kbd>&#92;]</kbd> (<kbd>U+005D</kbd>),
+     *               <kbd>&#92;^</kbd> (<kbd>U+005E</kbd>),
+     *               <kbd>&#92;`</kbd> (<kbd>U+0060</kbd>),
+     *               <kbd>&#92;{</kbd> (<kbd>U+007B</kbd>),
+     *               <kbd>&#92;|</kbd> (<kbd>U+007C</kbd>),
+     *               <kbd>&#92;}</kbd> (<kbd>U+007D</kbd>) and
+     *               <kbd>&#92;~</kbd> (<kbd>U+007E</kbd>).
+     *               Note that the <kbd>&#92;-</kbd> (<kbd>U+002D</kbd>) escape sequence exists, but will only be used
+     *               when an identifier starts with two hypens or hyphen + digit. Also, the <kbd>&#92;_</kbd>
+     *               (<kbd>U+005F</kbd>) escape will only be used at the beginning of an identifier to avoid
+     *               problems with Internet Explorer 6. In the same sense, note that the <kbd>&#92;:</kbd>
+     *               (<kbd>U+003A</kbd>) escape sequence is also defined in the standard, but will not be
+     *               used for escaping as Internet Explorer &lt; 8 does not recognize it.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters: <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeCssIdentifier(CharSequence, Writer, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCssIdentifier(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeCssIdentifier(text, writer,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) CSS Identifier <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing the results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link CssIdentifierEscapeType} and
+     *   {@link CssIdentifierEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapeCssIdentifier*(...)</kbd> methods call
+     *   this one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link CssIdentifierEscapeType}.
      * @param level the escape level to be applied, see {@link CssIdentifierEscapeLevel}.
-     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String escapeCssIdentifier(final String text,
-                                         final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level) {
+    public static void escapeCssIdentifier(final CharSequence text, final Writer writer,
+                                           final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
 
         if (type == null) {
             throw new IllegalArgumentException("The 'type' argument cannot be null");
@@ -1008,17 +2593,15 @@ public static String escapeCssIdentifier(final String text,
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        return CssIdentifierEscapeUtil.escape(text, type, level);
+        CssIdentifierEscapeUtil.escape(new InternalStringReader(text), writer, type, level);
 
     }
 
 
-
-
     /**
      * <p>
      *   Perform a CSS Identifier level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the CSS Identifier basic escape set:
@@ -1073,8 +2656,8 @@ public static String escapeCssIdentifier(final String text,
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapeCssIdentifier(String, Writer, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeCssIdentifier(CharSequence, StringBuilder, CssIdentifierEscapeType,
+     *   CssIdentifierEscapeLevel)} with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -1086,16 +2669,14 @@ public static String escapeCssIdentifier(final String text,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeCssIdentifierMinimal(final String text, final Writer writer)
-            throws IOException {
-        escapeCssIdentifier(text, writer,
+    public static void escapeCssIdentifierMinimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapeCssIdentifier(text, strBuilder,
                 CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
                 CssIdentifierEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
@@ -1104,7 +2685,7 @@ public static void escapeCssIdentifierMinimal(final String text, final Writer wr
     /**
      * <p>
      *   Perform a CSS Identifier level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -1165,7 +2746,7 @@ public static void escapeCssIdentifierMinimal(final String text, final Writer wr
      * </p>
      * <p>
      *   This method calls
-     *   {@link #escapeCssIdentifier(String, Writer, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   {@link #escapeCssIdentifier(CharSequence, StringBuilder, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -1178,16 +2759,14 @@ public static void escapeCssIdentifierMinimal(final String text, final Writer wr
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeCssIdentifier(final String text, final Writer writer)
-            throws IOException {
-        escapeCssIdentifier(text, writer,
+    public static void escapeCssIdentifier(final CharSequence text, final StringBuilder strBuilder) {
+        escapeCssIdentifier(text, strBuilder,
                 CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
                 CssIdentifierEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
@@ -1195,8 +2774,8 @@ public static void escapeCssIdentifier(final String text, final Writer writer)
 
     /**
      * <p>
-     *   Perform a (configurable) CSS Identifier <strong>escape</strong> operation on a <kbd>String</kbd> input,
-     *   writing the results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) CSS Identifier <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending the results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -1204,29 +2783,27 @@ public static void escapeCssIdentifier(final String text, final Writer writer)
      *   {@link CssIdentifierEscapeLevel} argument values.
      * </p>
      * <p>
-     *   All other <kbd>String</kbd>/<kbd>Writer</kbd>-based <kbd>escapeCssIdentifier*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeCssIdentifier*(...)</kbd> methods
+     *   call this one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param type the type of escape operation to be performed, see
      *             {@link CssIdentifierEscapeType}.
      * @param level the escape level to be applied, see {@link CssIdentifierEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeCssIdentifier(final String text, final Writer writer,
-                                           final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level)
-            throws IOException {
+    public static void escapeCssIdentifier(final CharSequence text, final StringBuilder strBuilder,
+                                           final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (type == null) {
@@ -1237,7 +2814,7 @@ public static void escapeCssIdentifier(final String text, final Writer writer,
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        CssIdentifierEscapeUtil.escape(new InternalStringReader(text), writer, type, level);
+        CssIdentifierEscapeUtil.escape(text, strBuilder, type, level);
 
     }
 
@@ -1618,74 +3195,207 @@ public static void escapeCssIdentifierMinimal(final char[] text, final int offse
      *   <li>All non ASCII characters.</li>
      * </ul>
      * <p>
-     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
-     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
-     *   Hexadecimal Escapes.
+     *   This escape will be performed by using Backslash escapes whenever possible. For escaped
+     *   characters that do not have an associated Backslash, default to <kbd>&#92;FF </kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeCssIdentifier(char[], int, int, java.io.Writer, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link CssIdentifierEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeCssIdentifier(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        escapeCssIdentifier(text, offset, len, writer,
+                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
+                CssIdentifierEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) CSS Identifier <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link CssIdentifierEscapeType} and
+     *   {@link CssIdentifierEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>char[]</kbd>-based <kbd>escapeCssIdentifier*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link CssIdentifierEscapeType}.
+     * @param level the escape level to be applied, see {@link CssIdentifierEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeCssIdentifier(final char[] text, final int offset, final int len, final Writer writer,
+                                       final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        CssIdentifierEscapeUtil.escape(text, offset, len, writer, type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable) CSS
+     *   String <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeCssString(CharSequence, CssStringEscapeType,
+     *   CssStringEscapeLevel)} would do with the same <kbd>type</kbd> and <kbd>level</kbd>, but no objects are created
+     *   at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.css.CssStringEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.css.CssStringEscapeLevel}.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableCssString(
+            final CharSequence text, final CssStringEscapeType type, final CssStringEscapeLevel level) {
+        return CssStringEscapeUtil.indexOfFirstEscapable(text, stringEscaper(type, level));
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) CSS String <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
      * </p>
      * <p>
-     *   This method calls
-     *   {@link #escapeCssIdentifier(char[], int, int, java.io.Writer, CssIdentifierEscapeType, CssIdentifierEscapeLevel)}
-     *   with the following preconfigured values:
+     *   The result is the same as checking whether {@link #escapeCssString(CharSequence, CssStringEscapeType,
+     *   CssStringEscapeLevel)} returns a different text, but no objects are created at all during the process.
      * </p>
-     * <ul>
-     *   <li><kbd>type</kbd>:
-     *       {@link CssIdentifierEscapeType#BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA}</li>
-     *   <li><kbd>level</kbd>:
-     *       {@link CssIdentifierEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
-     * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.css.CssStringEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.css.CssStringEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
      */
-    public static void escapeCssIdentifier(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        escapeCssIdentifier(text, offset, len, writer,
-                CssIdentifierEscapeType.BACKSLASH_ESCAPES_DEFAULT_TO_COMPACT_HEXA,
-                CssIdentifierEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static boolean requiresEscapeCssString(
+            final CharSequence text, final CssStringEscapeType type, final CssStringEscapeLevel level) {
+        return (indexOfFirstEscapableCssString(text, type, level) >= 0);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) CSS Identifier <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Compute the exact length of the result of a (configurable) CSS String <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
      * </p>
      * <p>
-     *   This method will perform an escape operation according to the specified
-     *   {@link CssIdentifierEscapeType} and
-     *   {@link CssIdentifierEscapeLevel} argument values.
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeCssString(CharSequence, CssStringEscapeType, CssStringEscapeLevel)},
+     *   but no objects are created at all during the process. This allows sizing a <kbd>char[]</kbd>,
+     *   <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
      * </p>
      * <p>
-     *   All other <kbd>char[]</kbd>-based <kbd>escapeCssIdentifier*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.css.CssStringEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.css.CssStringEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthCssString(
+            final CharSequence text, final CssStringEscapeType type, final CssStringEscapeLevel level) {
+        return CssStringEscapeUtil.escapedLength(text, stringEscaper(type, level));
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable) CSS
+     *   Identifier <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeCssIdentifier(CharSequence, CssIdentifierEscapeType,
+     *   CssIdentifierEscapeLevel)} would do with the same <kbd>type</kbd> and <kbd>level</kbd>, but no objects are
+     *   created at all during the process.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param type the type of escape operation to be performed, see
-     *             {@link CssIdentifierEscapeType}.
-     * @param level the escape level to be applied, see {@link CssIdentifierEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.css.CssIdentifierEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.css.CssIdentifierEscapeLevel}.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
      */
-    public static void escapeCssIdentifier(final char[] text, final int offset, final int len, final Writer writer,
-                                       final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level)
-            throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
+    public static int indexOfFirstEscapableCssIdentifier(
+            final CharSequence text, final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level) {
 
         if (type == null) {
             throw new IllegalArgumentException("The 'type' argument cannot be null");
@@ -1695,19 +3405,72 @@ public static void escapeCssIdentifier(final char[] text, final int offset, fina
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
+        return CssIdentifierEscapeUtil.indexOfFirstEscapable(text, level);
 
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) CSS Identifier <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapeCssIdentifier(CharSequence, CssIdentifierEscapeType,
+     *   CssIdentifierEscapeLevel)} returns a different text, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.css.CssIdentifierEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.css.CssIdentifierEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeCssIdentifier(
+            final CharSequence text, final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level) {
+        return (indexOfFirstEscapableCssIdentifier(text, type, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) CSS Identifier <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeCssIdentifier(CharSequence, CssIdentifierEscapeType, CssIdentifierEscapeLevel)},
+     *   but no objects are created at all during the process. This allows sizing a <kbd>char[]</kbd>,
+     *   <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.css.CssIdentifierEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.css.CssIdentifierEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthCssIdentifier(
+            final CharSequence text, final CssIdentifierEscapeType type, final CssIdentifierEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
         }
 
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        CssIdentifierEscapeUtil.escape(text, offset, len, writer, type, level);
+        return CssIdentifierEscapeUtil.escapedLength(text, type, level);
 
     }
 
@@ -1787,6 +3550,164 @@ public static void unescapeCss(final String text, final Writer writer)
     }
 
 
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSS <strong>unescape</strong> operation on a <kbd>String</kbd> input, appending results
+     *   to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> CSS unescape of backslash and hexadecimal escape
+     *   sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeCss(final String text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            strBuilder.append(text);
+            return;
+        }
+
+        CssUnescapeUtil.unescape(text, strBuilder);
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSS <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> CSS unescape of backslash and hexadecimal escape
+     *   sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeCss(final CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            return unescapeCss((String) text);
+        }
+        return CssUnescapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input, writing results
+     *   to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> CSS unescape of backslash and hexadecimal escape
+     *   sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeCss(final CharSequence text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeCss((String) text, writer);
+            return;
+        }
+
+        CssUnescapeUtil.unescape(new InternalStringReader(text), writer);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input, appending results
+     *   to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> CSS unescape of backslash and hexadecimal escape
+     *   sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeCss(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeCss((String) text, strBuilder);
+            return;
+        }
+
+        CssUnescapeUtil.unescape(text, strBuilder);
+    }
+
+
     /**
      * <p>
      *   Perform a CSS <strong>unescape</strong> operation on a <kbd>String</kbd> input, writing results
@@ -1864,6 +3785,64 @@ public static void unescapeCss(final char[] text, final int offset, final int le
 
 
 
+    /**
+     * <p>
+     *   Obtain a <strong>chunked unescaper</strong> that performs a CSS <strong>unescape</strong> operation on a text
+     *   received as a sequence of chunks (e.g. network buffers), writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   Chunks can be split at any point, even in the middle of escape sequences, and results will be exactly the same
+     *   as those of {@link #unescapeCss(String)} on the concatenation of all the chunks. The end of the text must be
+     *   signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link org.unbescape.ChunkedUnescaper}
+     *   for details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
+     */
+    public static ChunkedUnescaper chunkedUnescaper(final Writer writer) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        return new CssChunkedUnescaper(writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a CSS <strong>unescape</strong> operation would modify a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #unescapeCss(CharSequence)} returns a different text. Texts
+     *   that do not contain any backslash (<kbd>\\</kbd>) chars are discarded without creating any objects at all,
+     *   which makes this method adequate for checking (or caching) values that only rarely contain escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresUnescapeCss(final CharSequence text) {
+        return CssUnescapeUtil.requiresUnescape(text);
+    }
+
+
+
+
     private CssEscape() {
         super();
     }
@@ -1874,16 +3853,19 @@ private CssEscape() {
      * This is basically a very simplified, thread-unsafe version of StringReader that should
      * perform better than the original StringReader by removing all synchronization structures.
      *
+     * It can read from any CharSequence. Bulk reads are specialized for String, StringBuilder and
+     * array-backed CharBuffer objects so that, for those, chars are copied without calling charAt(...).
+     *
      * Note the only implemented methods are those that we know are really used from within the
      * stream-based escape/unescape operations.
      */
     private static final class InternalStringReader extends Reader {
 
-        private String str;
+        private CharSequence str;
         private int length;
         private int next = 0;
 
-        public InternalStringReader(final String s) {
+        public InternalStringReader(final CharSequence s) {
             super();
             this.str = s;
             this.length = s.length();
@@ -1909,7 +3891,19 @@ public int read(final char[] cbuf, final int off, final int len) throws IOExcept
                 return -1;
             }
             int n = Math.min(this.length - this.next, len);
-            this.str.getChars(this.next, this.next + n, cbuf, off);
+            if (this.str instanceof String) {
+                ((String) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof StringBuilder) {
+                ((StringBuilder) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof CharBuffer && ((CharBuffer) this.str).hasArray()) {
+                final CharBuffer charBuffer = (CharBuffer) this.str;
+                System.arraycopy(
+                        charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + this.next, cbuf, off, n);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = this.str.charAt(this.next + i);
+                }
+            }
             this.next += n;
             return n;
         }
@@ -24,6 +24,10 @@
 import java.io.Writer;
 import java.util.Arrays;
 
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
+
 /**
  * <p>
  *   Internal class in charge of performing the real escape operations.
@@ -109,6 +113,11 @@ final class CssIdentifierEscapeUtil {
      */
     private static char[] HEXA_CHARS_UPPER = "0123456789ABCDEF".toCharArray();
 
+    /*
+     * Initial size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
+
 
     /*
      * Structures for holding the Backslash Escapes
@@ -326,19 +335,64 @@ static char[] toSixDigitHexa(final int codepoint, final char next, final int lev
 
 
     /*
-     * Perform an escape operation, based on String, according to the specified level and type.
+     * Perform an escape operation, based on CharSequence, according to the specified level and type.
      */
-    static String escape(final String text, final CssIdentifierEscapeType escapeType, final CssIdentifierEscapeLevel escapeLevel) {
+    static String escape(final CharSequence text, final CssIdentifierEscapeType escapeType, final CssIdentifierEscapeLevel escapeLevel) {
 
         if (text == null) {
             return null;
         }
 
+        final StringBuilder strBuilder = escape(text, null, escapeType, escapeLevel);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, according to the specified level and type, appending the
+     * result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output,
+                                final CssIdentifierEscapeType escapeType, final CssIdentifierEscapeLevel escapeLevel) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.CSS, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeCharSequence(text, output, escapeType, escapeLevel);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeCharSequence(text, null, escapeType, escapeLevel);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                    final CssIdentifierEscapeType escapeType, final CssIdentifierEscapeLevel escapeLevel) {
+
+        if (text == null) {
+            return output;
+        }
+
         final int level = escapeLevel.getEscapeLevel();
         final boolean useBackslashEscapes = escapeType.getUseBackslashEscapes();
         final boolean useCompactHexa = escapeType.getUseCompactHexa();
 
-        StringBuilder strBuilder = null;
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -463,166 +517,223 @@ static String escape(final String text, final CssIdentifierEscapeType escapeType
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: return null if no escape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining unescaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
 
 
     /*
-     * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
-     * result to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Find the first position in a CharSequence at which an escape operation performed with the specified
+     * configuration would modify it, or -1 if escaping would leave it unmodified. Chars are examined exactly as in
+     * escapeCharSequence(...), but nothing is ever allocated.
      */
-    static void escape(
-            final Reader reader, final Writer writer, final CssIdentifierEscapeType escapeType, final CssIdentifierEscapeLevel escapeLevel)
-            throws IOException {
+    static int indexOfFirstEscapable(final CharSequence text, final CssIdentifierEscapeLevel escapeLevel) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return -1;
         }
 
         final int level = escapeLevel.getEscapeLevel();
-        final boolean useBackslashEscapes = escapeType.getUseBackslashEscapes();
-        final boolean useCompactHexa = escapeType.getUseCompactHexa();
-
-        int c0, c1, c2; // c0: last char, c1: current char, c2: next char
-
-        c1 = -1;
-        c2 = reader.read();
 
-        while (c2 >= 0) {
-
-            c0 = c1;
-            c1 = c2;
-            c2 = reader.read();
+        final int max = text.length();
 
-            final int codepoint = codePointAt((char)c1, (char)c2);
+        for (int i = 0; i < max; i++) {
 
+            final int codepoint = Character.codePointAt(text, i);
 
-            /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
-             */
             if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint] &&
-                    (c0 >= 0 || codepoint < '0' || codepoint > '9')) {
+                    (i > 0 || codepoint < '0' || codepoint > '9')) {
                 // Note how we check whether the first char is a decimal number, in which case we have to escape it
-                writer.write(c1);
                 continue;
             }
 
-
-            /*
-             * Hyphen check: only escape when it's the first char and it's followed by '-' or a digit.
-             */
             if (codepoint == '-' && level < 3) {
-                if (c0 >= 0 || c2 < 0) { // not first or last
-                    writer.write(c1);
+                if (i > 0 || i + 1 >= max) {
                     continue;
                 }
-                if (c2 != '-' && (c2 < '0' || c2 > '9')) {
-                    writer.write(c1);
+                final char c1 = text.charAt(i + 1);
+                if (c1 != '-' && (c1 < '0' || c1 > '9')) {
                     continue;
                 }
             }
 
+            if (codepoint == '_' && level < 3 && i > 0) {
+                continue;
+            }
 
-            /*
-             * Underscore check: only escape when it's the first char.
-             */
-            if (codepoint == '_' && level < 3 && c0 >= 0) {
-                writer.write(c1);
+            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
+                if (Character.charCount(codepoint) > 1) {
+                    // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                    i++;
+                }
                 continue;
             }
 
+            return i;
 
-            /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
-             */
-            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
+        }
 
-                writer.write(c1);
+        return -1;
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
+    }
+
+
+
+
+
+    /*
+     * Compute the exact length of the result of an escape operation performed on a CharSequence with the
+     * specified configuration, without actually escaping anything. Chars are examined exactly as in
+     * escapeCharSequence(...), including the whitespace separators needed after compact hexadecimal escapes.
+     */
+    static long escapedLength(final CharSequence text,
+                              final CssIdentifierEscapeType escapeType, final CssIdentifierEscapeLevel escapeLevel) {
 
-                    writer.write(c2);
+        if (text == null) {
+            return 0L;
+        }
 
-                    c0 = c1;
-                    c1 = c2;
-                    c2 = reader.read();
+        final int level = escapeLevel.getEscapeLevel();
+        final boolean useBackslashEscapes = escapeType.getUseBackslashEscapes();
+        final boolean useCompactHexa = escapeType.getUseCompactHexa();
+
+        final int max = text.length();
+
+        long length = max;
+
+        for (int i = 0; i < max; i++) {
+
+            final int codepoint = Character.codePointAt(text, i);
+
+            if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint] &&
+                    (i > 0 || codepoint < '0' || codepoint > '9')) {
+                continue;
+            }
 
+            if (codepoint == '-' && level < 3) {
+                if (i > 0 || i + 1 >= max) {
+                    continue;
+                }
+                final char c1 = text.charAt(i + 1);
+                if (c1 != '-' && (c1 < '0' || c1 > '9')) {
+                    continue;
                 }
+            }
+
+            if (codepoint == '_' && level < 3 && i > 0) {
+                continue;
+            }
+
+            final int charCount = Character.charCount(codepoint);
+
+            // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+            i += (charCount - 1);
 
+            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
                 continue;
+            }
 
+            if (useBackslashEscapes && codepoint < BACKSLASH_CHARS_LEN &&
+                    BACKSLASH_CHARS[codepoint] != BACKSLASH_CHARS_NO_ESCAPE) {
+                // A backslash escape (2 chars) replaces one char
+                length += 1;
+                continue;
             }
 
+            if (!useCompactHexa) {
+                // Six-digit hexadecimal escapes never need a whitespace separator in identifiers
+                length += 7 - charCount;
+                continue;
+            }
 
-            /*
-             * We know we need to escape, so from here on we will only work with the codepoint -- we can advance
-             * the chars.
-             */
+            final int hexaDigits = Math.max(1, (32 - Integer.numberOfLeadingZeros(codepoint) + 3) / 4);
+            length += 1 + hexaDigits - charCount;
 
-            if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually reading two char positions with a single codepoint.
-                c0 = c1;
-                c1 = c2;
-                c2 = reader.read();
+            final char next =
+                ((i + 1 < max) ? text.charAt(i + 1) : (char) 0x0);
+
+            // If level is 4, hexadecimal characters will be escaped (no need for trailing whitespaces)
+            if (level < 4 &&
+                    ((next >= '0' && next <= '9') || (next >= 'A' && next <= 'F') || (next >= 'a' && next <= 'f'))) {
+                length++;
             }
 
+        }
 
-            /*
-             * ------------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of BACKSLASH and HEXA escapes
-             *
-             * ------------------------------------------------------------------------------------------
-             */
+        return length;
 
-            if (useBackslashEscapes && codepoint < BACKSLASH_CHARS_LEN) {
-                // We will try to use a BACKSLASH ESCAPE
+    }
 
-                final char escape = BACKSLASH_CHARS[codepoint];
 
-                if (escape != BACKSLASH_CHARS_NO_ESCAPE) {
-                    // Escape found! just write it and go for the next char
-                    writer.write(ESCAPE_PREFIX);
-                    writer.write(escape);
-                    continue;
-                }
 
+
+
+    /*
+     * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
+     * result to a Writer.
+     *
+     * The reader is read in chunks, each of which is escaped by means of the char[]-based method. The last char of
+     * each chunk is kept for the next one, as it can be needed for determining the escape of the char before it.
+     * A high surrogate found right before it is kept too, so that surrogate pairs are never split.
+     */
+    static void escape(
+            final Reader reader, final Writer writer, final CssIdentifierEscapeType escapeType, final CssIdentifierEscapeLevel escapeLevel)
+            throws IOException {
+
+        if (reader == null) {
+            return;
+        }
+
+        final char[] buffer = new char[READER_BUFFER_SIZE];
+
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
+
+        int bufferSize = read;
+        boolean atStart = true;
+
+        while (bufferSize > 0 || read >= 0) {
+
+            int n = bufferSize;
+            if (read >= 0) {
+                n--;
+                if (n > 0 && Character.isHighSurrogate(buffer[n - 1])) {
+                    n--;
+                }
             }
 
-            /*
-             * No escape was possible, so we need hexa escape (compact or 6-digit).
-             */
+            if (n > 0) {
 
-            final char next = (c2 >= 0 ? (char) c2 : (char) 0x0);
+                escape(buffer, 0, n, atStart, bufferSize, writer, escapeType, escapeLevel);
+                atStart = false;
+
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
 
-            if (useCompactHexa) {
-                writer.write(ESCAPE_PREFIX);
-                writer.write(toCompactHexa(codepoint, next, level));
-                continue;
             }
 
-            writer.write(ESCAPE_PREFIX);
-            writer.write(toSixDigitHexa(codepoint, next, level));
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
 
         }
 
@@ -638,6 +749,23 @@ static void escape(
     static void escape(final char[] text, final int offset, final int len, final Writer writer,
                        final CssIdentifierEscapeType escapeType, final CssIdentifierEscapeLevel escapeLevel)
                        throws IOException {
+        escape(text, offset, len, true, (offset + len), writer, escapeType, escapeLevel);
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on char[], according to the specified level and type. Chars between
+     * (offset + len) and lookaheadMax will not be escaped nor written, but will be taken into account as the ones
+     * following the escaped text (e.g. for deciding whether an hexadecimal escape needs a trailing whitespace).
+     * Also, atStart will indicate whether the char at offset is the first one of the identifier, which
+     * can require some specific escapes.
+     */
+    private static void escape(final char[] text, final int offset, final int len,
+                               final boolean atStart, final int lookaheadMax, final Writer writer,
+                               final CssIdentifierEscapeType escapeType, final CssIdentifierEscapeLevel escapeLevel)
+                               throws IOException {
 
         if (text == null || text.length == 0) {
             return;
@@ -648,12 +776,13 @@ static void escape(final char[] text, final int offset, final int len, final Wri
         final boolean useCompactHexa = escapeType.getUseCompactHexa();
 
         final int max = (offset + len);
+        final int first = (atStart? offset : -1);
 
         int readOffset = offset;
 
         for (int i = offset; i < max; i++) {
 
-            final int codepoint = Character.codePointAt(text, i);
+            final int codepoint = Character.codePointAt(text, i, max);
 
 
             /*
@@ -661,7 +790,7 @@ static void escape(final char[] text, final int offset, final int len, final Wri
              * all for them
              */
             if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint] &&
-                    (i > offset || codepoint < '0' || codepoint > '9')) {
+                    (i != first || codepoint < '0' || codepoint > '9')) {
                 // Note how we check whether the first char is a decimal number, in which case we have to escape it
                 continue;
             }
@@ -671,7 +800,7 @@ static void escape(final char[] text, final int offset, final int len, final Wri
              * Hyphen check: only escape when it's the first char and it's followed by '-' or a digit.
              */
             if (codepoint == '-' && level < 3) {
-                if (i > offset || i + 1 >= max) {
+                if (i != first || i + 1 >= lookaheadMax) {
                     continue;
                 }
                 final char c1 = text[i + 1];
@@ -684,7 +813,7 @@ static void escape(final char[] text, final int offset, final int len, final Wri
             /*
              * Underscore check: only escape when it's the first char.
              */
-            if (codepoint == '_' && level < 3 && i > offset) {
+            if (codepoint == '_' && level < 3 && i != first) {
                 continue;
             }
 
@@ -748,7 +877,7 @@ static void escape(final char[] text, final int offset, final int len, final Wri
              */
 
             final char next =
-                    ((i + 1 < max) ? text[i + 1] : (char) 0x0);
+                    ((i + 1 < lookaheadMax) ? text[i + 1] : (char) 0x0);
 
             if (useCompactHexa) {
                 writer.write(ESCAPE_PREFIX);
@@ -776,19 +905,5 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
 
 
-
-    private static int codePointAt(final char c1, final char c2) {
-        if (Character.isHighSurrogate(c1)) {
-            if (c2 >= 0) {
-                if (Character.isLowSurrogate(c2)) {
-                    return Character.toCodePoint(c1, c2);
-                }
-            }
-        }
-        return c1;
-    }
-
-
-
 }
 
@@ -24,6 +24,10 @@
 import java.io.Writer;
 import java.util.Arrays;
 
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
+
 /**
  * <p>
  *   Internal class in charge of performing the real escape operations.
@@ -79,6 +83,11 @@ final class CssStringEscapeUtil {
      */
     private static char[] HEXA_CHARS_UPPER = "0123456789ABCDEF".toCharArray();
 
+    /*
+     * Initial size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
+
 
     /*
      * Structures for holding the Backslash Escapes
@@ -266,21 +275,131 @@ static char[] toSixDigitHexa(final int codepoint, final char next, final int lev
     }
 
 
+    /*
+     * Return the escape level of a char, as defined in ESCAPE_LEVELS.
+     */
+    static byte escapeLevel(final int c) {
+        return ESCAPE_LEVELS[c <= (ESCAPE_LEVELS_LEN - 2)? c : (ESCAPE_LEVELS_LEN - 1)];
+    }
+
 
     /*
-     * Perform an escape operation, based on String, according to the specified level and type.
+     * Return whether there is a backslash escape defined for a codepoint.
      */
-    static String escape(final String text, final CssStringEscapeType escapeType, final CssStringEscapeLevel escapeLevel) {
+    static boolean hasBackslashEscape(final int codepoint) {
+        return (codepoint < BACKSLASH_CHARS_LEN && BACKSLASH_CHARS[codepoint] != BACKSLASH_CHARS_NO_ESCAPE);
+    }
+
+
+    /*
+     * Return whether a hexadecimal escape needs to be followed by a whitespace separator when the next char
+     * is the specified one (this is the same condition applied by toCompactHexa and toSixDigitHexa).
+     */
+    static boolean needsHexaSeparator(final char next, final int level, final boolean useCompactHexa) {
+        if (useCompactHexa) {
+            return (level < 4 && ((next >= '0' && next <= '9') || (next >= 'A' && next <= 'F') || (next >= 'a' && next <= 'f'))) ||
+                   (level < 3 && (next == ' '));
+        }
+        return (level < 3 && next == ' ');
+    }
+
+
+    /*
+     * Compute the replacement for a codepoint that needs to be escaped, attending the different combinations
+     * of BACKSLASH and HEXA escapes. Hexadecimal escapes will not include any whitespace separator.
+     */
+    static char[] computeReplacement(final int codepoint, final boolean useBackslashEscapes, final boolean useCompactHexa) {
+
+        if (useBackslashEscapes && hasBackslashEscape(codepoint)) {
+            return new char[] { ESCAPE_PREFIX, BACKSLASH_CHARS[codepoint] };
+        }
+
+        // A zero 'next' char will never need a separator
+        final char[] hexa =
+                (useCompactHexa? toCompactHexa(codepoint, (char) 0x0, 4) : toSixDigitHexa(codepoint, (char) 0x0, 4));
+        final char[] replacement = new char[hexa.length + 1];
+        replacement[0] = ESCAPE_PREFIX;
+        System.arraycopy(hexa, 0, replacement, 1, hexa.length);
+        return replacement;
+
+    }
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, according to the specified level and type.
+     */
+    static String escape(final CharSequence text, final CssStringEscapeType escapeType, final CssStringEscapeLevel escapeLevel) {
 
         if (text == null) {
             return null;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useBackslashEscapes = escapeType.getUseBackslashEscapes();
-        final boolean useCompactHexa = escapeType.getUseCompactHexa();
+        final StringBuilder strBuilder = escape(text, null, escapeType, escapeLevel);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, according to the specified level and type, appending the
+     * result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output,
+                                final CssStringEscapeType escapeType, final CssStringEscapeLevel escapeLevel) {
+        return escape(text, output, CssStringEscaper.forTypeAndLevel(escapeType, escapeLevel));
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, by means of the specified (pre-compiled) escaper,
+     * appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output, final CssStringEscaper escaper) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.CSS, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeCharSequence(text, output, escaper);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeCharSequence(text, null, escaper);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
 
-        StringBuilder strBuilder = null;
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                    final CssStringEscaper escaper) {
+
+        if (text == null) {
+            return output;
+        }
+
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean[] hexaReplacements = escaper.HEXA_REPLACEMENTS;
+        final boolean[] separatorNeededBefore = escaper.SEPARATOR_NEEDED_BEFORE;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -289,31 +408,26 @@ static String escape(final String text, final CssStringEscapeType escapeType, fi
 
         for (int i = offset; i < max; i++) {
 
-            final int codepoint = Character.codePointAt(text, i);
+            final char c = text.charAt(i);
 
 
             /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
+             * Shortcut: most characters will be ASCII/Latin-1, for which we already know whether (and how)
+             * they need escaping. Above those, all chars need the same.
              */
-            if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
+            if (c < CssStringEscaper.REPLACEMENTS_LEN) {
+                if (replacements[c] == null) {
+                    continue;
+                }
+            } else if (!escapeAboveReplacements) {
                 continue;
             }
 
 
             /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
+             * Compute the codepoint. This will be used instead of the char for the rest of the process.
              */
-            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
-
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
-                    i++;
-                }
-
-                continue;
-
-            }
+            final int codepoint = Character.codePointAt(text, i);
 
 
             /*
@@ -339,201 +453,261 @@ static String escape(final String text, final CssStringEscapeType escapeType, fi
 
 
             /*
-             * ------------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of BACKSLASH and HEXA escapes
-             *
-             * ------------------------------------------------------------------------------------------
+             * Perform the real escape: precomputed for the most common chars, computed for the rest. Hexadecimal
+             * escapes might need a whitespace separator, depending on the char that follows.
              */
-
-            if (useBackslashEscapes && codepoint < BACKSLASH_CHARS_LEN) {
-                // We will try to use a BACKSLASH ESCAPE
-
-                final char sec = BACKSLASH_CHARS[codepoint];
-
-                if (sec != BACKSLASH_CHARS_NO_ESCAPE) {
-                    // Escape found! just write it and go for the next char
-                    strBuilder.append(ESCAPE_PREFIX);
-                    strBuilder.append(sec);
+            if (c < CssStringEscaper.REPLACEMENTS_LEN) {
+                strBuilder.append(replacements[c]);
+                if (!hexaReplacements[c]) {
                     continue;
                 }
-
+            } else {
+                strBuilder.append(escaper.computeReplacement(codepoint));
             }
 
-            /*
-             * No escape was possible, so we need hexa escape (compact or 6-digit).
-             */
-
             final char next =
                     ((i + 1 < max) ? text.charAt(i + 1) : (char) 0x0);
 
-            if (useCompactHexa) {
-                strBuilder.append(ESCAPE_PREFIX);
-                strBuilder.append(toCompactHexa(codepoint, next, level));
-                continue;
+            if (next < CssStringEscaper.SEPARATORS_LEN && separatorNeededBefore[next]) {
+                strBuilder.append(' ');
             }
 
-            strBuilder.append(ESCAPE_PREFIX);
-            strBuilder.append(toSixDigitHexa(codepoint, next, level));
-
         }
 
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: return null if no escape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining unescaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
 
 
     /*
-     * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
-     * result to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Find the first position in a CharSequence at which an escape operation performed by the specified
+     * (pre-compiled) escaper would modify it, or -1 if escaping would leave it unmodified. Chars are examined
+     * exactly as in escapeCharSequence(...), but nothing is ever allocated.
      */
-    static void escape(
-            final Reader reader, final Writer writer, final CssStringEscapeType escapeType, final CssStringEscapeLevel escapeLevel)
-            throws IOException {
+    static int indexOfFirstEscapable(final CharSequence text, final CssStringEscaper escaper) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return -1;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useBackslashEscapes = escapeType.getUseBackslashEscapes();
-        final boolean useCompactHexa = escapeType.getUseCompactHexa();
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+
+        final int max = text.length();
 
-        int c1, c2; // c1: current char, c2: next char
+        for (int i = 0; i < max; i++) {
 
-        c2 = reader.read();
+            final char c = text.charAt(i);
 
-        while (c2 >= 0) {
+            if (c < CssStringEscaper.REPLACEMENTS_LEN? replacements[c] != null : escapeAboveReplacements) {
+                return i;
+            }
 
-            c1 = c2;
-            c2 = reader.read();
+        }
 
-            final int codepoint = codePointAt((char)c1, (char)c2);
+        return -1;
 
+    }
 
-            /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
-             */
-            if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
-                writer.write(c1);
-                continue;
-            }
 
 
-            /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
-             */
-            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
 
-                writer.write(c1);
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
+    /*
+     * Compute the exact length of the result of an escape operation performed on a CharSequence by the specified
+     * (pre-compiled) escaper, without actually escaping anything. Chars are examined exactly as in
+     * escapeCharSequence(...), including the whitespace separators needed after hexadecimal escapes.
+     */
+    static long escapedLength(final CharSequence text, final CssStringEscaper escaper) {
 
-                    writer.write(c2);
+        if (text == null) {
+            return 0L;
+        }
 
-                    c1 = c2;
-                    c2 = reader.read();
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean[] hexaReplacements = escaper.HEXA_REPLACEMENTS;
+        final boolean[] separatorNeededBefore = escaper.SEPARATOR_NEEDED_BEFORE;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
 
+        final int max = text.length();
+
+        long length = max;
+
+        for (int i = 0; i < max; i++) {
+
+            final char c = text.charAt(i);
+
+            if (c < CssStringEscaper.REPLACEMENTS_LEN) {
+                if (replacements[c] == null) {
+                    continue;
                 }
+                length += replacements[c].length - 1;
+                if (!hexaReplacements[c]) {
+                    continue;
+                }
+            } else {
 
-                continue;
+                if (!escapeAboveReplacements) {
+                    continue;
+                }
 
-            }
+                /*
+                 * Above REPLACEMENTS_LEN there are no backslash escapes, so computeReplacement(...) will always
+                 * return a hexadecimal escape: the prefix plus six digits, or only the significant ones if compact.
+                 */
+                final int codepoint = Character.codePointAt(text, i);
+                final int charCount = Character.charCount(codepoint);
+                final int hexaDigits =
+                        (escaper.USE_COMPACT_HEXA? ((32 - Integer.numberOfLeadingZeros(codepoint) + 3) / 4) : 6);
+                length += 1 + hexaDigits - charCount;
+
+                // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                i += (charCount - 1);
 
+            }
 
-            /*
-             * We know we need to escape, so from here on we will only work with the codepoint -- we can advance
-             * the chars.
-             */
+            final char next =
+                    ((i + 1 < max) ? text.charAt(i + 1) : (char) 0x0);
 
-            if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually reading two char positions with a single codepoint.
-                c1 = c2;
-                c2 = reader.read();
+            if (next < CssStringEscaper.SEPARATORS_LEN && separatorNeededBefore[next]) {
+                length++;
             }
 
+        }
 
-            /*
-             * ------------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of BACKSLASH and HEXA escapes
-             *
-             * ------------------------------------------------------------------------------------------
-             */
+        return length;
 
-            if (useBackslashEscapes && codepoint < BACKSLASH_CHARS_LEN) {
-                // We will try to use a BACKSLASH ESCAPE
+    }
 
-                final char sec = BACKSLASH_CHARS[codepoint];
 
-                if (sec != BACKSLASH_CHARS_NO_ESCAPE) {
-                    // Escape found! just write it and go for the next char
-                    writer.write(ESCAPE_PREFIX);
-                    writer.write(sec);
-                    continue;
-                }
 
+
+
+    /*
+     * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
+     * result to a Writer.
+     */
+    static void escape(
+            final Reader reader, final Writer writer, final CssStringEscapeType escapeType, final CssStringEscapeLevel escapeLevel)
+            throws IOException {
+        escape(reader, writer, CssStringEscaper.forTypeAndLevel(escapeType, escapeLevel));
+    }
+
+
+
+    /*
+     * Perform an escape operation, based on a Reader, by means of the specified (pre-compiled) escaper and writing
+     * the result to a Writer.
+     *
+     * The reader is read in chunks, each of which is escaped by means of the char[]-based method. The last char of
+     * each chunk is kept for the next one, as it can be needed for determining the escape of the char before it.
+     * A high surrogate found right before it is kept too, so that surrogate pairs are never split.
+     */
+    static void escape(final Reader reader, final Writer writer, final CssStringEscaper escaper)
+            throws IOException {
+
+        if (reader == null) {
+            return;
+        }
+
+        final char[] buffer = new char[READER_BUFFER_SIZE];
+
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
+
+        int bufferSize = read;
+
+        while (bufferSize > 0 || read >= 0) {
+
+            int n = bufferSize;
+            if (read >= 0) {
+                n--;
+                if (n > 0 && Character.isHighSurrogate(buffer[n - 1])) {
+                    n--;
+                }
             }
 
-            /*
-             * No escape was possible, so we need hexa escape (compact or 6-digit).
-             */
+            if (n > 0) {
 
-            final char next = (c2 >= 0 ? (char) c2 : (char) 0x0);
+                escape(buffer, 0, n, bufferSize, writer, escaper);
+
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
 
-            if (useCompactHexa) {
-                writer.write(ESCAPE_PREFIX);
-                writer.write(toCompactHexa(codepoint, next, level));
-                continue;
             }
 
-            writer.write(ESCAPE_PREFIX);
-            writer.write(toSixDigitHexa(codepoint, next, level));
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
 
         }
 
     }
 
 
+    /*
+     * Perform an escape operation, based on char[], according to the specified level and type.
+     */
+    static void escape(final char[] text, final int offset, final int len, final Writer writer,
+                       final CssStringEscapeType escapeType, final CssStringEscapeLevel escapeLevel)
+                       throws IOException {
+        escape(text, offset, len, writer, CssStringEscaper.forTypeAndLevel(escapeType, escapeLevel));
+    }
+
 
 
 
     /*
-     * Perform an escape operation, based on char[], according to the specified level and type.
+     * Perform an escape operation, based on char[], by means of the specified (pre-compiled) escaper.
      */
     static void escape(final char[] text, final int offset, final int len, final Writer writer,
-                       final CssStringEscapeType escapeType, final CssStringEscapeLevel escapeLevel)
+                       final CssStringEscaper escaper)
                        throws IOException {
+        escape(text, offset, len, (offset + len), writer, escaper);
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on char[], by means of the specified (pre-compiled) escaper. Chars between
+     * (offset + len) and lookaheadMax will not be escaped nor written, but will be taken into account as the ones
+     * following the escaped text (e.g. for deciding whether an hexadecimal escape needs a trailing whitespace).
+     */
+    private static void escape(final char[] text, final int offset, final int len,
+                               final int lookaheadMax, final Writer writer, final CssStringEscaper escaper)
+                               throws IOException {
 
         if (text == null || text.length == 0) {
             return;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useBackslashEscapes = escapeType.getUseBackslashEscapes();
-        final boolean useCompactHexa = escapeType.getUseCompactHexa();
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean[] hexaReplacements = escaper.HEXA_REPLACEMENTS;
+        final boolean[] separatorNeededBefore = escaper.SEPARATOR_NEEDED_BEFORE;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
 
         final int max = (offset + len);
 
@@ -541,31 +715,26 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
         for (int i = offset; i < max; i++) {
 
-            final int codepoint = Character.codePointAt(text, i);
+            final char c = text[i];
 
 
             /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
+             * Shortcut: most characters will be ASCII/Latin-1, for which we already know whether (and how)
+             * they need escaping. Above those, all chars need the same.
              */
-            if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
+            if (c < CssStringEscaper.REPLACEMENTS_LEN) {
+                if (replacements[c] == null) {
+                    continue;
+                }
+            } else if (!escapeAboveReplacements) {
                 continue;
             }
 
 
             /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
+             * Compute the codepoint. This will be used instead of the char for the rest of the process.
              */
-            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
-
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
-                    i++;
-                }
-
-                continue;
-
-            }
+            final int codepoint = Character.codePointAt(text, i, max);
 
 
             /*
@@ -586,43 +755,25 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
 
             /*
-             * ------------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of BACKSLASH and HEXA escapes
-             *
-             * ------------------------------------------------------------------------------------------
+             * Perform the real escape: precomputed for the most common chars, computed for the rest. Hexadecimal
+             * escapes might need a whitespace separator, depending on the char that follows.
              */
-
-            if (useBackslashEscapes && codepoint < BACKSLASH_CHARS_LEN) {
-                // We will try to use a BACKSLASH ESCAPE
-
-                final char escape = BACKSLASH_CHARS[codepoint];
-
-                if (escape != BACKSLASH_CHARS_NO_ESCAPE) {
-                    // Escape found! just write it and go for the next char
-                    writer.write(ESCAPE_PREFIX);
-                    writer.write(escape);
+            if (c < CssStringEscaper.REPLACEMENTS_LEN) {
+                writer.write(replacements[c]);
+                if (!hexaReplacements[c]) {
                     continue;
                 }
-
+            } else {
+                writer.write(escaper.computeReplacement(codepoint));
             }
 
-            /*
-             * No escape was possible, so we need hexa escape (compact or 6-digit).
-             */
-
             final char next =
-                    ((i + 1 < max) ? text[i + 1] : (char) 0x0);
+                    ((i + 1 < lookaheadMax) ? text[i + 1] : (char) 0x0);
 
-            if (useCompactHexa) {
-                writer.write(ESCAPE_PREFIX);
-                writer.write(toCompactHexa(codepoint, next, level));
-                continue;
+            if (next < CssStringEscaper.SEPARATORS_LEN && separatorNeededBefore[next]) {
+                writer.write(' ');
             }
 
-            writer.write(ESCAPE_PREFIX);
-            writer.write(toSixDigitHexa(codepoint, next, level));
-
         }
 
 
@@ -640,19 +791,5 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
 
 
-
-    private static int codePointAt(final char c1, final char c2) {
-        if (Character.isHighSurrogate(c1)) {
-            if (c2 >= 0) {
-                if (Character.isLowSurrogate(c2)) {
-                    return Character.toCodePoint(c1, c2);
-                }
-            }
-        }
-        return c1;
-    }
-
-
-
 }
 
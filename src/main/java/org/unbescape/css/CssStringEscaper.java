@@ -0,0 +1,303 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.css;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * <p>
+ *   Pre-compiled CSS string <strong>escape</strong> operation for a specific combination of
+ *   {@link org.unbescape.css.CssStringEscapeType} and {@link org.unbescape.css.CssStringEscapeLevel}.
+ * </p>
+ * <p>
+ *   Instances of this class are obtained by means of
+ *   {@link org.unbescape.css.CssEscape#stringEscaper(CssStringEscapeType, CssStringEscapeLevel)}, and perform
+ *   exactly the same escape operations as the corresponding <kbd>escapeCssString(...)</kbd> methods in
+ *   {@link org.unbescape.css.CssEscape}. The difference is that all the decisions depending on the escape type and
+ *   level, along with the replacements for the most common chars, are computed only once when the escaper is
+ *   created, instead of for every escape operation.
+ * </p>
+ * <p>
+ *   Instances of this class are <strong>immutable and thread-safe</strong>, so they can be created once and
+ *   then kept (e.g. in a <kbd>static final</kbd> field) for use at any frequently executed code.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class CssStringEscaper {
+
+
+    /*
+     * Replacements are precomputed for all chars below this one (ASCII and Latin-1). Above it, escape levels
+     * are the same for all chars, and replacements are computed when needed.
+     */
+    static final char REPLACEMENTS_LEN = 0x100;
+
+    /*
+     * Whether a whitespace separator is needed after a hexadecimal escape only depends on the (ASCII) char
+     * that follows it.
+     */
+    static final char SEPARATORS_LEN = 0x80;
+
+    /*
+     * Escapers are created only once per type and level combination (and on demand).
+     */
+    private static final CssStringEscaper[] ESCAPERS =
+            new CssStringEscaper[CssStringEscapeType.values().length * CssStringEscapeLevel.values().length];
+
+
+    private final CssStringEscapeType type;
+    private final CssStringEscapeLevel level;
+
+    /*
+     * Whether backslash escapes and compact (instead of 6-digit) hexadecimal escapes should be used
+     */
+    final boolean USE_BACKSLASH_ESCAPES;
+    final boolean USE_COMPACT_HEXA;
+
+    /*
+     * Replacement for each char below REPLACEMENTS_LEN, or null if the char should not be escaped. Hexadecimal
+     * escapes do not include any whitespace separator.
+     */
+    final char[][] REPLACEMENTS;
+
+    /*
+     * Whether the replacement for each char below REPLACEMENTS_LEN is a hexadecimal escape (which might need
+     * to be followed by a whitespace separator)
+     */
+    final boolean[] HEXA_REPLACEMENTS;
+
+    /*
+     * Whether a whitespace separator is needed between a hexadecimal escape and each char below SEPARATORS_LEN
+     */
+    final boolean[] SEPARATOR_NEEDED_BEFORE;
+
+    /*
+     * Whether chars >= REPLACEMENTS_LEN should be escaped
+     */
+    final boolean ESCAPE_ABOVE_REPLACEMENTS;
+
+
+
+
+    static CssStringEscaper forTypeAndLevel(final CssStringEscapeType type, final CssStringEscapeLevel level) {
+        // No synchronization needed: escapers are immutable, and creating one twice is harmless
+        final int index = (type.ordinal() * CssStringEscapeLevel.values().length) + level.ordinal();
+        CssStringEscaper escaper = ESCAPERS[index];
+        if (escaper == null) {
+            escaper = new CssStringEscaper(type, level);
+            ESCAPERS[index] = escaper;
+        }
+        return escaper;
+    }
+
+
+
+
+    private CssStringEscaper(final CssStringEscapeType type, final CssStringEscapeLevel level) {
+
+        super();
+
+        this.type = type;
+        this.level = level;
+
+        this.USE_BACKSLASH_ESCAPES = type.getUseBackslashEscapes();
+        this.USE_COMPACT_HEXA = type.getUseCompactHexa();
+
+        final int escapeLevel = level.getEscapeLevel();
+
+        this.REPLACEMENTS = new char[REPLACEMENTS_LEN][];
+        this.HEXA_REPLACEMENTS = new boolean[REPLACEMENTS_LEN];
+        for (int c = 0; c < REPLACEMENTS_LEN; c++) {
+            if (escapeLevel >= CssStringEscapeUtil.escapeLevel(c)) {
+                this.REPLACEMENTS[c] = computeReplacement(c);
+                this.HEXA_REPLACEMENTS[c] =
+                        !(this.USE_BACKSLASH_ESCAPES && CssStringEscapeUtil.hasBackslashEscape(c));
+            }
+        }
+
+        this.SEPARATOR_NEEDED_BEFORE = new boolean[SEPARATORS_LEN];
+        for (char c = 0; c < SEPARATORS_LEN; c++) {
+            this.SEPARATOR_NEEDED_BEFORE[c] =
+                    CssStringEscapeUtil.needsHexaSeparator(c, escapeLevel, this.USE_COMPACT_HEXA);
+        }
+
+        this.ESCAPE_ABOVE_REPLACEMENTS = (escapeLevel >= CssStringEscapeUtil.escapeLevel(REPLACEMENTS_LEN));
+
+    }
+
+
+
+
+    /*
+     * Compute the replacement for a codepoint that needs to be escaped (without any whitespace separator).
+     */
+    char[] computeReplacement(final int codepoint) {
+        return CssStringEscapeUtil.computeReplacement(codepoint, this.USE_BACKSLASH_ESCAPES, this.USE_COMPACT_HEXA);
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Returns the type of escape operation performed by this escaper.
+     * </p>
+     *
+     * @return the escape type.
+     */
+    public CssStringEscapeType getType() {
+        return this.type;
+    }
+
+
+    /**
+     * <p>
+     *   Returns the escape level applied by this escaper.
+     * </p>
+     *
+     * @return the escape level.
+     */
+    public CssStringEscapeLevel getLevel() {
+        return this.level;
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSS string <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If input is a <kbd>String</kbd> and no escaping modifications
+     *         were required, the exact same object will be returned (and no additional <kbd>String</kbd> objects
+     *         will be created during processing). Will return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public String escape(final CharSequence text) {
+
+        if (text == null) {
+            return null;
+        }
+
+        final StringBuilder strBuilder = CssStringEscapeUtil.escape(text, null, this);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS string <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input, appending results
+     *   to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing will
+     *                   be appended at all to this builder if input is <kbd>null</kbd>.
+     */
+    public void escape(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        CssStringEscapeUtil.escape(text, strBuilder, this);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS string <strong>escape</strong> operation on a <kbd>Reader</kbd> input, writing results to a
+     *   <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public void escape(final Reader reader, final Writer writer) throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        CssStringEscapeUtil.escape(reader, writer, this);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSS string <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public void escape(final char[] text, final int offset, final int len, final Writer writer)
+                       throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        CssStringEscapeUtil.escape(text, offset, len, writer, this);
+
+    }
+
+
+}
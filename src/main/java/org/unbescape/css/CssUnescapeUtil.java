@@ -23,6 +23,11 @@
 import java.io.Reader;
 import java.io.Writer;
 
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
+import org.unbescape.EscapeScanner;
+
 /**
  * <p>
  *   Internal class in charge of performing the real unescape operations.
@@ -113,6 +118,24 @@ final class CssUnescapeUtil {
     private static char[] HEXA_CHARS_UPPER = "0123456789ABCDEF".toCharArray();
     private static char[] HEXA_CHARS_LOWER = "0123456789abcdef".toCharArray();
 
+    /*
+     * Size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
+
+    /*
+     * Length of the longest escape sequence ("\0000E1 "). Only this amount of chars at most needs to be kept at the
+     * end of a chunk of text when unescaping it by chunks.
+     */
+    private static final int MAX_ESCAPE_LEN = 8;
+
+    /*
+     * Scanner used for quickly discarding texts that do not contain any escapes at all, and therefore
+     * never need unescaping
+     */
+    private static final EscapeScanner UNESCAPE_SCANNER =
+            EscapeScanner.forCandidateRanges(new char[] { ESCAPE_PREFIX, ESCAPE_PREFIX });
+
 
 
 
@@ -131,7 +154,7 @@ private CssUnescapeUtil() {
      * -  No need to check all chars are within the radix limits - reference parsing code will already have done so.
      */
 
-    static int parseIntFromReference(final String text, final int start, final int end, final int radix) {
+    static int parseIntFromReference(final CharSequence text, final int start, final int end, final int radix) {
         int result = 0;
         for (int i = start; i < end; i++) {
             final char c = text.charAt(i);
@@ -168,15 +191,57 @@ static int parseIntFromReference(final char[] text, final int start, final int e
 
 
     /*
-     * Perform an unescape operation based on String.
+     * Perform an unescape operation based on CharSequence.
      */
-    static String unescape(final String text) {
+    static String unescape(final CharSequence text) {
 
         if (text == null) {
             return null;
         }
 
-        StringBuilder strBuilder = null;
+        final StringBuilder strBuilder = unescape(text, null);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an unescape operation based on CharSequence, appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some unescape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder unescape(final CharSequence text, final StringBuilder output) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.CSS, EscapeOperationType.UNESCAPE));
+        if (recorder == null) {
+            return unescapeCharSequence(text, output);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = unescapeCharSequence(text, null);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder unescapeCharSequence(final CharSequence text, final StringBuilder output) {
+
+        if (text == null) {
+            return output;
+        }
+
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -328,20 +393,20 @@ static String unescape(final String text) {
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
-         *                 append the remaining escaped text to the string builder and return.
+         * Final cleaning: return null if no unescape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining escaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
@@ -351,151 +416,135 @@ static String unescape(final String text) {
 
 
     /*
-     * Perform an unescape operation based on a Reader, writing the results to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Determine whether an unescape operation would modify a CharSequence. Texts without any '\\' chars (the most
+     * common case) are discarded by the scanner, and the rest are checked by means of the unescape operation
+     * itself, which will only create a StringBuilder if some escape is actually found.
      */
-    static void unescape(final Reader reader, final Writer writer) throws IOException {
+    static boolean requiresUnescape(final CharSequence text) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return false;
         }
 
-        int escapei = 0;
-        final char[] escapes = new char[6];
-        int c1, c2, ce; // c1: current char, c2: next char, ce: current escape char
-
-        c2 = reader.read();
-
-        while (c2 >= 0) {
+        final int max = text.length();
 
-            c1 = c2;
-            c2 = reader.read();
+        for (int i = 0; i < max; i++) {
 
-            /*
-             * Check the need for an unescape operation at this point
-             */
+            i = UNESCAPE_SCANNER.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
 
-            if (c1 != ESCAPE_PREFIX || c2 < 0) {
-                writer.write(c1);
-                continue;
+            if (text.charAt(i) == ESCAPE_PREFIX) {
+                return (unescapeCharSequence(text, null) != null);
             }
 
-            int codepoint = -1;
+        }
 
-            if (c1 == ESCAPE_PREFIX) {
+        return false;
 
-                switch (c2) {
-                        // line feed. When escaped, this is a line continuator
-                    case '\n': codepoint = -2; c1 = c2; c2 = reader.read(); break;
-                    case ' ':
-                    case '!':
-                    case '"':
-                    case '#':
-                    case '$':
-                    case '%':
-                    case '&':
-                    case '\'':
-                    case '(':
-                    case ')':
-                    case '*':
-                    case '+':
-                    case ',':
-                        // hyphen: will only be escaped when identifer starts with '--' or '-{digit}'
-                    case '-':
-                    case '.':
-                    case '/':
-                        // colon: will not be used for escaping: not recognized by IE < 8
-                    case ':':
-                    case ';':
-                    case '<':
-                    case '=':
-                    case '>':
-                    case '?':
-                    case '@':
-                    case '[':
-                    case '\\':
-                    case ']':
-                    case '^':
-                        // underscore: will only be escaped at the beginning of an identifier (in order to avoid issues in IE6)
-                    case '_':
-                    case '`':
-                    case '{':
-                    case '|':
-                    case '}':
-                    case '~': codepoint = c2; c1 = c2; c2 = reader.read(); break;
-                }
+    }
 
-                if (codepoint == -1) {
 
-                    if ((c2 >= '0' && c2 <= '9') || (c2 >= 'A' && c2 <= 'F') || (c2 >= 'a' && c2 <= 'f')) {
-                        // This is a hexa escape
 
-                        escapei = 0;
-                        ce = c2;
-                        while (ce >= 0 && escapei < 6) {
-                            if (!((ce >= '0' && ce <= '9') || (ce >= 'A' && ce <= 'F') || (ce >= 'a' && ce <= 'f'))) {
-                                break;
-                            }
-                            escapes[escapei] = (char) ce;
-                            ce = reader.read();
-                            escapei++;
-                        }
 
-                        c1 = escapes[5];
-                        c2 = ce;
 
-                        codepoint = parseIntFromReference(escapes, 0, escapei, 16);
 
-                        // If there is a whitespace after the escape, just ignore it.
-                        if (c2 == ' ') {
-                            c1 = c2;
-                            c2 = reader.read();
-                        }
+    /*
+     * Perform an unescape operation based on a Reader, writing the results to a Writer.
+     *
+     * The reader is read in chunks, each of which is unescaped by means of the char[]-based method. Each time we fill
+     * the buffer we will have to make sure we are not interrupting any escape sequence, which we do by only
+     * processing the buffered text up to the last escape sequence that might be incomplete (see
+     * computeSafeUnescapeLength(...) below). As that escape sequence can never be longer than MAX_ESCAPE_LEN, there
+     * will always be room in the buffer for reading more.
+     */
+    static void unescape(final Reader reader, final Writer writer) throws IOException {
 
-                        // Don't continue here, just let the unescape code below do its job
+        if (reader == null) {
+            return;
+        }
 
+        final char[] buffer = new char[READER_BUFFER_SIZE];
 
-                    } else if (c2 == '\r' || c2 == '\f') {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
 
-                        // The only characters that cannot be escaped by means of a backslash are
-                        // carriage return and form feed (besides hexadecimal digits).
-                        writer.write(c1);
-                        continue;
+        int bufferSize = read;
 
-                    } else {
+        while (bufferSize > 0 || read >= 0) {
 
-                        // We weren't able to consume any valid escape chars, just consider it a normal char,
-                        // which is allowed by the CSS escape syntax.
+            final int n = (read < 0? bufferSize : computeSafeUnescapeLength(buffer, 0, bufferSize));
 
-                        codepoint = c2;
+            if (n > 0) {
 
-                        c1 = c2;
-                        c2 = reader.read();
+                // Once we have defined a 'safe' buffer, just call the char[]-based method
+                unescape(buffer, 0, n, writer);
 
-                    }
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
 
-                }
+            }
 
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
             }
 
-            /*
-             * --------------------------
-             *
-             * Perform the real unescape
-             *
-             * --------------------------
-             */
+        }
 
-            if (codepoint > '\uFFFF') {
-                writer.write(Character.toChars(codepoint));
-            } else if (codepoint != -2){ // We use -2 to signal the line continuator, which should be ignored in output
-                writer.write((char)codepoint);
-            }
+    }
+
+
+
+    /*
+     * Compute the length of the longest prefix of the buffer that can be unescaped without the risk of interrupting
+     * an escape sequence. Only the last escape sequence in the buffer can be interrupted, and only if it starts less
+     * than 8 chars (the length of the longest escape sequence, "\0000E1 ") before the end of the buffer and it is
+     * not a complete two-char escape sequence, so the prefix just leaves that escape sequence out. Note a '\'
+     * preceded by an odd amount of '\' chars does not start an escape sequence, as it is the second char of a
+     * "\\" escape. Texts are always unescaped starting from a point in which there is no escape sequence in
+     * progress, so this amount can be safely counted from offset. Returns 0 if no such prefix exists.
+     */
+    static int computeSafeUnescapeLength(final char[] buffer, final int offset, final int len) {
+
+        final int max = offset + len;
+        final int windowStart = Math.max(offset, max - (MAX_ESCAPE_LEN - 1));
+
+        int p = max - 1;
+        while (p >= windowStart && buffer[p] != ESCAPE_PREFIX) {
+            p--;
+        }
+
+        if (p < windowStart) {
+            // No escape sequence can be interrupted by the end of the buffer
+            return len;
+        }
+
+        int prefixCount = 1;
+        while (p - prefixCount >= offset && buffer[p - prefixCount] == ESCAPE_PREFIX) {
+            prefixCount++;
+        }
 
+        if (prefixCount % 2 == 0) {
+            // The last '\' in the buffer is the second char of a complete "\\" escape
+            return len;
         }
 
+        if (p + 1 < max) {
+            final char c1 = buffer[p + 1];
+            if (!((c1 >= '0' && c1 <= '9') || (c1 >= 'A' && c1 <= 'F') || (c1 >= 'a' && c1 <= 'f'))) {
+                // Complete two-char escape sequence (or an invalid one, which will be left as is)
+                return len;
+            }
+        }
+
+        return p - offset;
+
     }
 
 
@@ -22,6 +22,7 @@
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.CharBuffer;
 
 
 /**
@@ -44,7 +45,7 @@
  * <strong><u>Input/Output</u></strong>
  *
  * <p>
- *   There are four different input/output modes that can be used in escape/unescape operations:
+ *   There are five different input/output modes that can be used in escape/unescape operations:
  * </p>
  * <ul>
  *   <li><em><kbd>String</kbd> input, <kbd>String</kbd> output</em>: Input is specified as a <kbd>String</kbd> object
@@ -53,6 +54,9 @@
  *       are required</u>.</li>
  *   <li><em><kbd>String</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a String
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
+ *   <li><em><kbd>String</kbd> input, <kbd>StringBuilder</kbd> output</em>: Input will be read from a String
+ *       and output will be appended to the specified <kbd>StringBuilder</kbd>. This avoids creating intermediate
+ *       <kbd>String</kbd> objects when output is already being composed into a <kbd>StringBuilder</kbd>.</li>
  *   <li><em><kbd>java.io.Reader</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a Reader
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
  *   <li><em><kbd>char[]</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a char array
@@ -62,6 +66,11 @@
  *       should be called with <kbd>offset = 0</kbd> and <kbd>len = text.length</kbd> in order to process
  *       the whole <kbd>char[]</kbd>.</li>
  * </ul>
+ * <p>
+ *   All <kbd>String</kbd>-input modes are also available for any other <kbd>java.lang.CharSequence</kbd>
+ *   implementation (e.g. <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd>), which will be processed
+ *   directly, without needing to create a <kbd>String</kbd> out of them first.
+ * </p>
  *
  * <strong><u>Specific instructions for Microsoft Excel-compatible files</u></strong>
  *
@@ -165,6 +174,113 @@ public static void escapeCsv(final String text, final Writer writer)
     }
 
 
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSV <strong>escape</strong> operation on a <kbd>String</kbd> input, appending results to
+     *   a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCsv(final String text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        CsvEscapeUtil.escape(text, strBuilder);
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSV <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String escapeCsv(final CharSequence text) {
+        return CsvEscapeUtil.escape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSV <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input, writing results to
+     *   a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCsv(final CharSequence text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        CsvEscapeUtil.escape(new InternalStringReader(text), writer);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSV <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input, appending results to
+     *   a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeCsv(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        CsvEscapeUtil.escape(text, strBuilder);
+    }
+
+
     /**
      * <p>
      *   Perform a CSV <strong>escape</strong> operation on a <kbd>Reader</kbd> input, writing results to
@@ -231,6 +347,81 @@ public static void escapeCsv(final char[] text, final int offset, final int len,
     }
 
 
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a CSV
+     *   <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeCsv(CharSequence)} would do, but no objects are created at all
+     *   during the process. As CSV escape operations enclose the whole value in double-quotes whenever some char needs
+     *   escaping, the returned position is the first one that makes quoting necessary.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableCsv(final CharSequence text) {
+        return CsvEscapeUtil.indexOfFirstEscapable(text);
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a CSV <strong>escape</strong> operation would modify a <kbd>CharSequence</kbd> input, without
+     *   performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapeCsv(CharSequence)} returns a different text, but no
+     *   objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeCsv(final CharSequence text) {
+        return (indexOfFirstEscapableCsv(text) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a CSV <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeCsv(CharSequence)}, but no objects are created at all
+     *   during the process. This allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or
+     *   <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthCsv(final CharSequence text) {
+        return CsvEscapeUtil.escapedLength(text);
+    }
+
+
 
 
 
@@ -284,6 +475,116 @@ public static void unescapeCsv(final String text, final Writer writer)
     }
 
 
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSV <strong>unescape</strong> operation on a <kbd>String</kbd> input, appending results
+     *   to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeCsv(final String text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        CsvEscapeUtil.unescape(text, strBuilder);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a CSV <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeCsv(final CharSequence text) {
+        return CsvEscapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSV <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input, writing results
+     *   to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeCsv(final CharSequence text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        CsvEscapeUtil.unescape(new InternalStringReader(text), writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a CSV <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input, appending results
+     *   to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeCsv(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        CsvEscapeUtil.unescape(text, strBuilder);
+
+    }
+
+
     /**
      * <p>
      *   Perform a CSV <strong>unescape</strong> operation on a <kbd>Reader</kbd> input, writing results
@@ -351,6 +652,30 @@ public static void unescapeCsv(final char[] text, final int offset, final int le
     }
 
 
+    /**
+     * <p>
+     *   Determine whether a CSV <strong>unescape</strong> operation would modify a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #unescapeCsv(CharSequence)} returns a different text. Texts
+     *   that do not contain any double-quote (<kbd>&quot;</kbd>) chars are discarded without creating any objects at
+     *   all.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresUnescapeCsv(final CharSequence text) {
+        return CsvEscapeUtil.requiresUnescape(text);
+    }
+
+
 
 
     private CsvEscape() {
@@ -363,16 +688,19 @@ private CsvEscape() {
      * This is basically a very simplified, thread-unsafe version of StringReader that should
      * perform better than the original StringReader by removing all synchronization structures.
      *
+     * It can read from any CharSequence. Bulk reads are specialized for String, StringBuilder and
+     * array-backed CharBuffer objects so that, for those, chars are copied without calling charAt(...).
+     *
      * Note the only implemented methods are those that we know are really used from within the
      * stream-based escape/unescape operations.
      */
     private static final class InternalStringReader extends Reader {
 
-        private String str;
+        private CharSequence str;
         private int length;
         private int next = 0;
 
-        public InternalStringReader(final String s) {
+        public InternalStringReader(final CharSequence s) {
             super();
             this.str = s;
             this.length = s.length();
@@ -398,7 +726,19 @@ public int read(final char[] cbuf, final int off, final int len) throws IOExcept
                 return -1;
             }
             int n = Math.min(this.length - this.next, len);
-            this.str.getChars(this.next, this.next + n, cbuf, off);
+            if (this.str instanceof String) {
+                ((String) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof StringBuilder) {
+                ((StringBuilder) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof CharBuffer && ((CharBuffer) this.str).hasArray()) {
+                final CharBuffer charBuffer = (CharBuffer) this.str;
+                System.arraycopy(
+                        charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + this.next, cbuf, off, n);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = this.str.charAt(this.next + i);
+                }
+            }
             this.next += n;
             return n;
         }
@@ -23,6 +23,11 @@
 import java.io.Reader;
 import java.io.Writer;
 
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
+import org.unbescape.EscapeScanner;
+
 /**
  * <p>
  *   Internal class in charge of performing the real escape/unescape operations.
@@ -75,6 +80,22 @@ final class CsvEscapeUtil {
     private static final char DOUBLE_QUOTE = '"';
     private static final char[] TWO_DOUBLE_QUOTES = "\"\"".toCharArray();
 
+    /*
+     * Scanners used for quickly skipping chars that will never need escaping: all non-alphanumeric chars
+     * are candidates when determining whether a value must be quoted, and only the double-quote is when
+     * copying already-quoted values.
+     */
+    private static final EscapeScanner ESCAPE_SCANNER =
+            EscapeScanner.forCandidateRanges(
+                    new char[] { 0x00, 0x2F, 0x3A, 0x40, 0x5B, 0x60, 0x7B, 0xFFFF });
+    private static final EscapeScanner DOUBLE_QUOTE_SCANNER =
+            EscapeScanner.forCandidateRanges(new char[] { DOUBLE_QUOTE, DOUBLE_QUOTE });
+
+    /*
+     * Initial size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
+
 
 
     private CsvEscapeUtil() {
@@ -86,23 +107,76 @@ private CsvEscapeUtil() {
 
 
     /*
-     * Perform an escape operation, based on String.
+     * Perform an escape operation, based on CharSequence.
      */
-    static String escape(final String text) {
+    static String escape(final CharSequence text) {
 
         if (text == null) {
             return null;
         }
 
-        StringBuilder strBuilder = null;
+        final StringBuilder strBuilder = escape(text, null);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.CSV, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeCharSequence(text, output);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeCharSequence(text, null);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final StringBuilder output) {
+
+        if (text == null) {
+            return output;
+        }
+
+        StringBuilder strBuilder = output;
+        boolean quoted = false;
 
         final int offset = 0;
         final int max = text.length();
 
         int readOffset = offset;
 
+        final EscapeScanner scanner = ESCAPE_SCANNER;
+
         for (int i = offset; i < max; i++) {
 
+            /*
+             * Shortcut: skip at once (if the platform allows doing it fast) all chars that can never need escaping
+             */
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
+
             final char c = text.charAt(i);
 
 
@@ -121,9 +195,13 @@ static String escape(final String text) {
              */
             if (strBuilder == null) {
                 strBuilder = new StringBuilder(max + 20);
+            }
+
+            if (!quoted) {
                 // If we need this, it's because we have non-alphanumeric chars. And that means
                 // we should enclose in double-quotes.
                 strBuilder.append(DOUBLE_QUOTE);
+                quoted = true;
             }
 
             /*
@@ -150,24 +228,103 @@ static String escape(final String text) {
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: return null if no escape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining unescaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        // If we reached here, it's because we had non-alphanumeric chars. And that means
-        // we should enclose in double-quotes.
-        strBuilder.append(DOUBLE_QUOTE);
+        if (quoted) {
+            // We had non-alphanumeric chars, so we should close the double-quotes.
+            strBuilder.append(DOUBLE_QUOTE);
+        }
 
-        return strBuilder.toString();
+        return strBuilder;
+
+    }
+
+
+
+
+
+    /*
+     * Find the first position in a CharSequence that would make an escape operation modify it (i.e. the first
+     * non-alphanumeric char, which forces the whole value to be quoted), or -1 if escaping would leave it
+     * unmodified. Chars are examined exactly as in escapeCharSequence(...), but nothing is ever allocated.
+     */
+    static int indexOfFirstEscapable(final CharSequence text) {
+
+        if (text == null) {
+            return -1;
+        }
+
+        final int max = text.length();
+
+        final EscapeScanner scanner = ESCAPE_SCANNER;
+
+        for (int i = 0; i < max; i++) {
+
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
+
+            final char c = text.charAt(i);
+
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                continue;
+            }
+
+            return i;
+
+        }
+
+        return -1;
+
+    }
+
+
+
+
+
+    /*
+     * Compute the exact length of the result of an escape operation performed on a CharSequence, without
+     * actually escaping anything: if the text needs escaping it will be quoted, and its double-quotes doubled.
+     */
+    static long escapedLength(final CharSequence text) {
+
+        final int index = indexOfFirstEscapable(text);
+        if (index < 0) {
+            return (text == null? 0L : text.length());
+        }
+
+        final int max = text.length();
+
+        final EscapeScanner scanner = DOUBLE_QUOTE_SCANNER;
+
+        // Double-quotes are never alphanumeric, so there cannot be any of them before the first escapable char
+        long length = max + 2;
+        for (int i = index; i < max; i++) {
+
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
+
+            if (text.charAt(i) == DOUBLE_QUOTE) {
+                length++;
+            }
+
+        }
+
+        return length;
 
     }
 
@@ -178,8 +335,7 @@ static String escape(final String text) {
     /*
      * Perform an escape operation, based on a Reader, writing the results to a Writer.
      *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * The reader is read in chunks, which are written to the writer with any double-quotes in them escaped.
      */
     static void escape(final Reader reader, final Writer writer) throws IOException {
 
@@ -196,7 +352,7 @@ static void escape(final Reader reader, final Writer writer) throws IOException
         int doQuote = -1;
 
         int bufferSize = 0;
-        char[] buffer = new char[10];
+        char[] buffer = new char[READER_BUFFER_SIZE];
 
         int read = reader.read(buffer, 0, buffer.length);
         if (read < 0) {
@@ -247,60 +403,69 @@ static void escape(final Reader reader, final Writer writer) throws IOException
          * First we will output the already-checked buffer, escaping quotes as needed
          */
         if (bufferSize > 0) {
+            escapeDoubleQuotes(buffer, 0, bufferSize, writer);
+        }
 
-            char c;
-            for (int i = 0; i < bufferSize; i++) {
 
-                c = buffer[i];
+        /*
+         * Once the buffer has been processed, we will process the rest of the input by reading it in chunks
+         */
+        while (read >= 0) {
 
-                /*
-                 * Check whether the character is a double-quote (in which case, we escape it)
-                 */
-                if (c == DOUBLE_QUOTE) {
-                    writer.write(TWO_DOUBLE_QUOTES);
-                } else {
-                    writer.write(c);
-                }
+            read = reader.read(buffer, 0, buffer.length);
 
+            if (read > 0) {
+                escapeDoubleQuotes(buffer, 0, read, writer);
             }
 
         }
 
 
         /*
-         * Once the buffer has been processed, we will process the rest of the input by reading it on-the-fly
+         * Output ending quotes, if needed
          */
-        if (read >= 0) {
+        if (doQuote == 1) {
+            writer.write('"');
+        }
 
-            int c1, c2; // c1: current char, c2: next char
+    }
 
-            c1 = -1;
-            c2 = reader.read();
 
-            while (c2 >= 0) {
 
-                c1 = c2;
-                c2 = reader.read();
 
-                /*
-                 * Check whether the character is a double-quote (in which case, we escape it)
-                 */
-                if (c1 == DOUBLE_QUOTE) {
-                    writer.write(TWO_DOUBLE_QUOTES);
-                } else {
-                    writer.write(c1);
-                }
+    /*
+     * Write the specified chars to the writer, escaping any double-quotes in them.
+     */
+    private static void escapeDoubleQuotes(final char[] text, final int offset, final int len, final Writer writer)
+                                           throws IOException {
+
+        final int max = (offset + len);
+
+        int readOffset = offset;
+
+        for (int i = offset; i < max; i++) {
 
+            i = DOUBLE_QUOTE_SCANNER.skip(text, i, max);
+            if (i == max) {
+                break;
             }
 
-        }
+            if (text[i] != DOUBLE_QUOTE) {
+                continue;
+            }
 
+            if (i - readOffset > 0) {
+                writer.write(text, readOffset, (i - readOffset));
+            }
+
+            readOffset = i + 1;
+
+            writer.write(TWO_DOUBLE_QUOTES);
 
-        /*
-         * Output ending quotes, if needed
-         */
-        if (doQuote == 1) {
-            writer.write('"');
+        }
+
+        if (max - readOffset > 0) {
+            writer.write(text, readOffset, (max - readOffset));
         }
 
     }
@@ -323,8 +488,18 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
         int readOffset = offset;
 
+        final EscapeScanner scanner = ESCAPE_SCANNER;
+
         for (int i = offset; i < max; i++) {
 
+            /*
+             * Shortcut: skip at once (if the platform allows doing it fast) all chars that can never need escaping
+             */
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
+
             final char c = text[i];
 
 
@@ -397,15 +572,57 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
 
     /*
-     * Perform an unescape operation based on String.
+     * Perform an unescape operation based on CharSequence.
      */
-    static String unescape(final String text) {
+    static String unescape(final CharSequence text) {
 
         if (text == null) {
             return null;
         }
 
-        StringBuilder strBuilder = null;
+        final StringBuilder strBuilder = unescape(text, null);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an unescape operation based on CharSequence, appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some unescape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder unescape(final CharSequence text, final StringBuilder output) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.CSV, EscapeOperationType.UNESCAPE));
+        if (recorder == null) {
+            return unescapeCharSequence(text, output);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = unescapeCharSequence(text, null);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder unescapeCharSequence(final CharSequence text, final StringBuilder output) {
+
+        if (text == null) {
+            return output;
+        }
+
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -516,20 +733,55 @@ static String unescape(final String text) {
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
-         *                 append the remaining escaped text to the string builder and return.
+         * Final cleaning: return null if no unescape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining escaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
+
+    }
+
+
+
+
+
+
+    /*
+     * Determine whether an unescape operation would modify a CharSequence. Texts without any double-quotes (the
+     * most common case) are discarded by the scanner, and the rest are checked by means of the unescape operation
+     * itself, which will only create a StringBuilder if the text is actually quoted.
+     */
+    static boolean requiresUnescape(final CharSequence text) {
+
+        if (text == null) {
+            return false;
+        }
+
+        final int max = text.length();
+
+        for (int i = 0; i < max; i++) {
+
+            i = DOUBLE_QUOTE_SCANNER.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
+
+            if (text.charAt(i) == DOUBLE_QUOTE) {
+                return (unescapeCharSequence(text, null) != null);
+            }
+
+        }
+
+        return false;
 
     }
 
@@ -541,8 +793,8 @@ static String unescape(final String text) {
     /*
      * Perform an unescape operation based on a Reader, writing the results to a Writer.
      *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * The reader is read in chunks. The last char of each chunk is kept for the next one, as a double-quote needs
+     * the char after it in order to be unescaped.
      */
     static void unescape(final Reader reader, final Writer writer) throws IOException {
 
@@ -550,63 +802,94 @@ static void unescape(final Reader reader, final Writer writer) throws IOExceptio
             return;
         }
 
-        boolean isQuoted = false;
-
-        int c1, c2; // c1: current char, c2: next char
-
-        c2 = reader.read();
+        final char[] buffer = new char[READER_BUFFER_SIZE];
 
-        if (c2 < 0) {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
             // Nothing to output
             return;
-        } else if (c2 == DOUBLE_QUOTE) {
-            c1 = c2;
-            c2 = reader.read();
-            if (c2 < 0) {
+        }
+
+        int bufferSize = read;
+
+        // We need at least two chars (or the whole input) for knowing whether the value is quoted
+        while (bufferSize < 2 && read >= 0) {
+            read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+            if (read >= 0) {
+                bufferSize += read;
+            }
+        }
+
+        boolean isQuoted = false;
+        int offset = 0;
+
+        if (buffer[0] == DOUBLE_QUOTE) {
+            if (bufferSize == 1) {
                 // Output is just a double-quote symbol
                 // (...which by the way is not a valid CSV value, as a " is non-alphanumeric)
-                writer.write(c1);
+                writer.write(DOUBLE_QUOTE);
                 return;
-            } else {
-                isQuoted = true;
             }
+            isQuoted = true;
+            offset = 1;
         }
 
-        while (c2 >= 0) {
+        while (bufferSize > 0 || read >= 0) {
 
-            c1 = c2;
-            c2 = reader.read();
+            final int max = (read < 0? bufferSize : bufferSize - 1);
 
-            /*
-             * Shortcut: from an unescape point of view, we will ignore most characters
-             */
-            if (c1 != DOUBLE_QUOTE) {
-                writer.write(c1);
-                continue;
-            }
+            int readOffset = offset;
+            int i = offset;
 
-            if (c2 < 0) {
+            while (i < max) {
 
-                if (!isQuoted) {
-                    // Last char is double-quote. If last and value is quoted, ignore - if not, write.
-                    writer.write(c1);
+                /*
+                 * Shortcut: from an unescape point of view, we will ignore most characters
+                 */
+                if (buffer[i] != DOUBLE_QUOTE) {
+                    i++;
+                    continue;
                 }
-                continue;
 
-            } else if (c2 == DOUBLE_QUOTE) {
+                if (i + 1 >= bufferSize) {
+
+                    // Last char is double-quote. If last and value is quoted, ignore - if not, write.
+                    if (isQuoted) {
+                        if (i - readOffset > 0) {
+                            writer.write(buffer, readOffset, (i - readOffset));
+                        }
+                        readOffset = i + 1;
+                    }
+                    i++;
+
+                } else if (buffer[i + 1] == DOUBLE_QUOTE) {
 
-                // This is an escaped double quote
+                    // This is an escaped double quote: write the first one, skip the second
+                    writer.write(buffer, readOffset, (i + 1 - readOffset));
+                    i += 2;
+                    readOffset = i;
 
-                writer.write(DOUBLE_QUOTE);
-                c1 = c2;
-                c2 = reader.read();
+                } else {
+                    // This is a non-escaped quote, which should only happen at the end, so this is actually
+                    // non-valid CSV... but anyway, we will be lenient and just write it
+                    i++;
+                }
 
-            } else {
-                // This is a non-escaped quote, which should only happen at the end, so this is actually
-                // non-valid CSV... but anyway, we will be lenient and just write it
+            }
 
-                writer.write(DOUBLE_QUOTE);
+            if (i - readOffset > 0) {
+                writer.write(buffer, readOffset, (i - readOffset));
+            }
 
+            System.arraycopy(buffer, i, buffer, 0, (bufferSize - i));
+            bufferSize -= i;
+            offset = 0;
+
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
             }
 
         }
@@ -20,8 +20,14 @@
 package org.unbescape.html;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+import org.unbescape.ChunkedUnescaper;
+import org.unbescape.EscapingWriter;
 
 /**
  * <p>
@@ -60,6 +66,8 @@
  *   <li>Mixed named and numerical (decimal or hexa) character references supported.</li>
  *   <li>Ability to default to numerical (decimal or hexa) references when an applicable NCR does not exist
  *       (depending on the selected operation <em>level</em>).</li>
+ *   <li>Ability to select the shortest of the NCR, decimal and hexadecimal references for each escaped
+ *       character, so that escaped output is as small as possible.</li>
  *   <li>Support for the whole Unicode character set: <kbd>&#92;u0000</kbd> to <kbd>&#92;u10FFFF</kbd>, including
  *       characters not representable by only one <kbd>char</kbd> in Java (<kbd>&gt;&#92;uFFFF</kbd>).</li>
  *   <li>Support for unescape of double-char NCRs in HTML5: <kbd>'&amp;fjlig;'</kbd> &rarr; <kbd>'fj'</kbd>.</li>
@@ -78,7 +86,7 @@
  * <strong><u>Input/Output</u></strong>
  *
  * <p>
- *   There are four different input/output modes that can be used in escape/unescape operations:
+ *   There are five different input/output modes that can be used in escape/unescape operations:
  * </p>
  * <ul>
  *   <li><em><kbd>String</kbd> input, <kbd>String</kbd> output</em>: Input is specified as a <kbd>String</kbd> object
@@ -87,6 +95,9 @@
  *       are required</u>.</li>
  *   <li><em><kbd>String</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a String
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
+ *   <li><em><kbd>String</kbd> input, <kbd>StringBuilder</kbd> output</em>: Input will be read from a String
+ *       and output will be appended to the specified <kbd>StringBuilder</kbd>. This avoids creating intermediate
+ *       <kbd>String</kbd> objects when output is already being composed into a <kbd>StringBuilder</kbd>.</li>
  *   <li><em><kbd>java.io.Reader</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a Reader
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
  *   <li><em><kbd>char[]</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a char array
@@ -95,7 +106,16 @@
  *       used for specifying the part of the <kbd>char[]</kbd> that should be escaped/unescaped. These methods
  *       should be called with <kbd>offset = 0</kbd> and <kbd>len = text.length</kbd> in order to process
  *       the whole <kbd>char[]</kbd>.</li>
+ *   <li><em>UTF-8 <kbd>byte[]</kbd> or <kbd>java.nio.ByteBuffer</kbd> input, <kbd>java.io.OutputStream</kbd> or
+ *       <kbd>java.nio.ByteBuffer</kbd> output</em> (escape only): Input will be read directly from UTF-8 encoded
+ *       bytes and output will be written as UTF-8 encoded bytes, without decoding the input into <kbd>char</kbd>s
+ *       or encoding the output from them. These methods are named <kbd>escapeHtml*Utf8(...)</kbd>.</li>
  * </ul>
+ * <p>
+ *   All <kbd>String</kbd>-input modes are also available for any other <kbd>java.lang.CharSequence</kbd>
+ *   implementation (e.g. <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd>), which will be processed
+ *   directly, without needing to create a <kbd>String</kbd> out of them first.
+ * </p>
  *
  * <strong><u>Glossary</u></strong>
  *
@@ -597,8 +617,8 @@ public static void escapeHtml(final String text, final Writer writer, final Html
 
     /**
      * <p>
-     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -614,8 +634,8 @@ public static void escapeHtml(final String text, final Writer writer, final Html
      *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
      * </p>
      * <p>
-     *   This method calls {@link #escapeHtml(Reader, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
-     *   preconfigured values:
+     *   This method calls {@link #escapeHtml(String, StringBuilder, HtmlEscapeType, HtmlEscapeLevel)} with the
+     *   following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -627,24 +647,22 @@ public static void escapeHtml(final String text, final Writer writer, final Html
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeHtml5(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeHtml(reader, writer, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+    public static void escapeHtml5(final String text, final StringBuilder strBuilder) {
+        escapeHtml(text, strBuilder, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
                 HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
 
 
     /**
      * <p>
-     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
@@ -653,13 +671,13 @@ public static void escapeHtml5(final Reader reader, final Writer writer)
      *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
      * </p>
      * <p>
-     *  Note this method may <strong>not</strong> produce the same results as {@link #escapeHtml4Xml(Reader, Writer)} because
-     *  it will escape the apostrophe as <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does not exist
-     *  (the decimal numeric reference <kbd>&amp;#39;</kbd> is used instead).
+     *  Note this method may <strong>not</strong> produce the same results as {@link #escapeHtml4Xml(String,
+     *  StringBuilder)} because it will escape the apostrophe as <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does
+     *  not exist (the decimal numeric reference <kbd>&amp;#39;</kbd> is used instead).
      * </p>
      * <p>
-     *   This method calls {@link #escapeHtml(Reader, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
-     *   preconfigured values:
+     *   This method calls {@link #escapeHtml(String, StringBuilder, HtmlEscapeType, HtmlEscapeLevel)} with the
+     *   following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -671,24 +689,22 @@ public static void escapeHtml5(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeHtml5Xml(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeHtml(reader, writer, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+    public static void escapeHtml5Xml(final String text, final StringBuilder strBuilder) {
+        escapeHtml(text, strBuilder, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
                 HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
 
 
     /**
      * <p>
-     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -704,8 +720,8 @@ public static void escapeHtml5Xml(final Reader reader, final Writer writer)
      *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
      * </p>
      * <p>
-     *   This method calls {@link #escapeHtml(Reader, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
-     *   preconfigured values:
+     *   This method calls {@link #escapeHtml(String, StringBuilder, HtmlEscapeType, HtmlEscapeLevel)} with the
+     *   following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -717,24 +733,22 @@ public static void escapeHtml5Xml(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeHtml4(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeHtml(reader, writer, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+    public static void escapeHtml4(final String text, final StringBuilder strBuilder) {
+        escapeHtml(text, strBuilder, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
                 HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
 
 
     /**
      * <p>
-     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
@@ -743,13 +757,13 @@ public static void escapeHtml4(final Reader reader, final Writer writer)
      *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
      * </p>
      * <p>
-     *  Note this method may <strong>not</strong> produce the same results as {@link #escapeHtml5Xml(Reader, Writer)} because
-     *  it will escape the apostrophe as <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a specific NCR for
-     *  such character (<kbd>&amp;apos;</kbd>).
+     *  Note this method may <strong>not</strong> produce the same results as {@link #escapeHtml5Xml(String,
+     *  StringBuilder)} because it will escape the apostrophe as <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a
+     *  specific NCR for such character (<kbd>&amp;apos;</kbd>).
      * </p>
      * <p>
-     *   This method calls {@link #escapeHtml(Reader, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
-     *   preconfigured values:
+     *   This method calls {@link #escapeHtml(String, StringBuilder, HtmlEscapeType, HtmlEscapeLevel)} with the
+     *   following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -761,24 +775,22 @@ public static void escapeHtml4(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeHtml4Xml(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeHtml(reader, writer, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+    public static void escapeHtml4Xml(final String text, final StringBuilder strBuilder) {
+        escapeHtml(text, strBuilder, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
                 HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) HTML <strong>escape</strong> operation on a <kbd>Reader</kbd> input, writing
-     *   results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) HTML <strong>escape</strong> operation on a <kbd>String</kbd> input, appending
+     *   results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -786,27 +798,26 @@ public static void escapeHtml4Xml(final Reader reader, final Writer writer)
      *   argument values.
      * </p>
      * <p>
-     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeHtml*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeHtml*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
      * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeHtml(final Reader reader, final Writer writer, final HtmlEscapeType type, final HtmlEscapeLevel level)
-            throws IOException {
+    public static void escapeHtml(final String text, final StringBuilder strBuilder,
+                                  final HtmlEscapeType type, final HtmlEscapeLevel level) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (type == null) {
@@ -817,7 +828,7 @@ public static void escapeHtml(final Reader reader, final Writer writer, final Ht
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        HtmlEscapeUtil.escape(reader, writer, type, level);
+        HtmlEscapeUtil.escape(text, strBuilder, type, level);
 
     }
 
@@ -829,7 +840,8 @@ public static void escapeHtml(final Reader reader, final Writer writer, final Ht
 
     /**
      * <p>
-     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -845,8 +857,8 @@ public static void escapeHtml(final Reader reader, final Writer writer, final Ht
      *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
      * </p>
      * <p>
-     *   This method calls {@link #escapeHtml(char[], int, int, java.io.Writer, HtmlEscapeType, HtmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeHtml(CharSequence, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -858,23 +870,22 @@ public static void escapeHtml(final Reader reader, final Writer writer, final Ht
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeHtml5(final char[] text, final int offset, final int len, final Writer writer)
-                                   throws IOException {
-        escapeHtml(text, offset, len, writer, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+    public static String escapeHtml5(final CharSequence text) {
+        return escapeHtml(text, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
                 HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
 
 
     /**
      * <p>
-     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
@@ -883,14 +894,13 @@ public static void escapeHtml5(final char[] text, final int offset, final int le
      *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
      * </p>
      * <p>
-     *  Note this method may <strong>not</strong> produce the same results as
-     *  {@link #escapeHtml4Xml(char[], int, int, java.io.Writer)} because
-     *  it will escape the apostrophe as <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does not exist
+     *  Note this method may <strong>not</strong> produce the same results as {@link #escapeHtml4Xml(CharSequence)}
+     *  because it will escape the apostrophe as <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does not exist
      *  (the decimal numeric reference <kbd>&amp;#39;</kbd> is used instead).
      * </p>
      * <p>
-     *   This method calls {@link #escapeHtml(char[], int, int, java.io.Writer, HtmlEscapeType, HtmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeHtml(CharSequence, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -902,23 +912,23 @@ public static void escapeHtml5(final char[] text, final int offset, final int le
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeHtml5Xml(final char[] text, final int offset, final int len, final Writer writer)
-                                      throws IOException {
-        escapeHtml(text, offset, len, writer, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+    public static String escapeHtml5Xml(final CharSequence text) {
+        return escapeHtml(text, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
                 HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
 
 
     /**
      * <p>
-     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -934,8 +944,8 @@ public static void escapeHtml5Xml(final char[] text, final int offset, final int
      *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
      * </p>
      * <p>
-     *   This method calls {@link #escapeHtml(char[], int, int, java.io.Writer, HtmlEscapeType, HtmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeHtml(CharSequence, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -947,23 +957,22 @@ public static void escapeHtml5Xml(final char[] text, final int offset, final int
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeHtml4(final char[] text, final int offset, final int len, final Writer writer)
-                                   throws IOException {
-        escapeHtml(text, offset, len, writer, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+    public static String escapeHtml4(final CharSequence text) {
+        return escapeHtml(text, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
                 HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
 
 
     /**
      * <p>
-     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
@@ -972,13 +981,13 @@ public static void escapeHtml4(final char[] text, final int offset, final int le
      *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
      * </p>
      * <p>
-     *  Note this method may <strong>not</strong> produce the same results as
-     *  {@link #escapeHtml5Xml(char[], int, int, java.io.Writer)}  because it will escape the apostrophe as
-     *  <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a specific NCR for such character (<kbd>&amp;apos;</kbd>).
+     *  Note this method may <strong>not</strong> produce the same results as {@link #escapeHtml5Xml(CharSequence)}
+     *  because it will escape the apostrophe as <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a specific NCR for
+     *  such character (<kbd>&amp;apos;</kbd>).
      * </p>
      * <p>
-     *   This method calls {@link #escapeHtml(char[], int, int, java.io.Writer, HtmlEscapeType, HtmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeHtml(CharSequence, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -990,23 +999,22 @@ public static void escapeHtml4(final char[] text, final int offset, final int le
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeHtml4Xml(final char[] text, final int offset, final int len, final Writer writer)
-                                      throws IOException {
-        escapeHtml(text, offset, len, writer, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+    public static String escapeHtml4Xml(final CharSequence text) {
+        return escapeHtml(text, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
                 HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) HTML <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform a (configurable) HTML <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -1014,29 +1022,23 @@ public static void escapeHtml4Xml(final char[] text, final int offset, final int
      *   argument values.
      * </p>
      * <p>
-     *   All other <kbd>char[]</kbd>-based <kbd>escapeHtml*(...)</kbd> methods call this one with preconfigured
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapeHtml*(...)</kbd> methods call this one with preconfigured
      *   <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
      * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeHtml(final char[] text, final int offset, final int len, final Writer writer,
-                                  final HtmlEscapeType type, final HtmlEscapeLevel level)
-                                  throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
+    public static String escapeHtml(final CharSequence text, final HtmlEscapeType type, final HtmlEscapeLevel level) {
 
         if (type == null) {
             throw new IllegalArgumentException("The 'type' argument cannot be null");
@@ -1046,84 +1048,2038 @@ public static void escapeHtml(final char[] text, final int offset, final int len
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        HtmlEscapeUtil.escape(text, offset, len, writer, type, level);
+        return HtmlEscapeUtil.escape(text, type, level);
 
     }
 
 
-
-
-
-
     /**
      * <p>
-     *   Perform an HTML <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> unescape of NCRs (whole HTML5 set supported), decimal
-     *   and hexadecimal references.
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML5 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
      * </p>
      * <p>
+     *   This method calls {@link #escapeHtml(CharSequence, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String unescapeHtml(final String text) {
-        if (text == null) {
-            return null;
-        }
-        if (text.indexOf('&') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            return text;
-        }
-        return HtmlEscapeUtil.unescape(text);
+    public static void escapeHtml5(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeHtml(text, writer, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
 
 
-
     /**
      * <p>
-     *   Perform an HTML <strong>unescape</strong> operation on a <kbd>String</kbd> input, writing results to
-     *   a <kbd>Writer</kbd>.
+     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> unescape of NCRs (whole HTML5 set supported), decimal
-     *   and hexadecimal references.
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as
+     *  {@link #escapeHtml4Xml(CharSequence, Writer)} because it will escape the apostrophe as
+     *  <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does not exist (the decimal numeric reference
+     *  <kbd>&amp;#39;</kbd> is used instead).
      * </p>
      * <p>
+     *   This method calls {@link #escapeHtml(CharSequence, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeHtml(final String text, final Writer writer)
+    public static void escapeHtml5Xml(final CharSequence text, final Writer writer)
             throws IOException {
-
-        if (writer == null) {
+        escapeHtml(text, writer, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML 4 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(CharSequence, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml4(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeHtml(text, writer, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as
+     *  {@link #escapeHtml5Xml(CharSequence, Writer)} because it will escape the apostrophe as
+     *  <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a specific NCR for such character (<kbd>&amp;apos;</kbd>).
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(CharSequence, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml4Xml(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeHtml(text, writer, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) HTML <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input, writing
+     *   results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.html.HtmlEscapeType} and {@link org.unbescape.html.HtmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapeHtml*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml(final CharSequence text, final Writer writer, final HtmlEscapeType type, final HtmlEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        HtmlEscapeUtil.escape(new InternalStringReader(text), writer, type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML5 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(CharSequence, StringBuilder, HtmlEscapeType, HtmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml5(final CharSequence text, final StringBuilder strBuilder) {
+        escapeHtml(text, strBuilder, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as {@link #escapeHtml4Xml(CharSequence,
+     *  StringBuilder)} because it will escape the apostrophe as <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does
+     *  not exist (the decimal numeric reference <kbd>&amp;#39;</kbd> is used instead).
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(CharSequence, StringBuilder, HtmlEscapeType, HtmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml5Xml(final CharSequence text, final StringBuilder strBuilder) {
+        escapeHtml(text, strBuilder, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML 4 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(CharSequence, StringBuilder, HtmlEscapeType, HtmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml4(final CharSequence text, final StringBuilder strBuilder) {
+        escapeHtml(text, strBuilder, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as {@link #escapeHtml5Xml(CharSequence,
+     *  StringBuilder)} because it will escape the apostrophe as <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a
+     *  specific NCR for such character (<kbd>&amp;apos;</kbd>).
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(CharSequence, StringBuilder, HtmlEscapeType, HtmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml4Xml(final CharSequence text, final StringBuilder strBuilder) {
+        escapeHtml(text, strBuilder, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) HTML <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input, appending
+     *   results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.html.HtmlEscapeType} and {@link org.unbescape.html.HtmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeHtml*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml(final CharSequence text, final StringBuilder strBuilder,
+                                  final HtmlEscapeType type, final HtmlEscapeLevel level) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        HtmlEscapeUtil.escape(text, strBuilder, type, level);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML5 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(Reader, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeHtml5(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeHtml(reader, writer, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as {@link #escapeHtml4Xml(Reader, Writer)} because
+     *  it will escape the apostrophe as <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does not exist
+     *  (the decimal numeric reference <kbd>&amp;#39;</kbd> is used instead).
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(Reader, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeHtml5Xml(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeHtml(reader, writer, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML 4 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(Reader, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeHtml4(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeHtml(reader, writer, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as {@link #escapeHtml5Xml(Reader, Writer)} because
+     *  it will escape the apostrophe as <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a specific NCR for
+     *  such character (<kbd>&amp;apos;</kbd>).
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(Reader, Writer, HtmlEscapeType, HtmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeHtml4Xml(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeHtml(reader, writer, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) HTML <strong>escape</strong> operation on a <kbd>Reader</kbd> input, writing
+     *   results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.html.HtmlEscapeType} and {@link org.unbescape.html.HtmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeHtml*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeHtml(final Reader reader, final Writer writer, final HtmlEscapeType type, final HtmlEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        HtmlEscapeUtil.escape(reader, writer, type, level);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML5 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(char[], int, int, java.io.Writer, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeHtml5(final char[] text, final int offset, final int len, final Writer writer)
+                                   throws IOException {
+        escapeHtml(text, offset, len, writer, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as
+     *  {@link #escapeHtml4Xml(char[], int, int, java.io.Writer)} because
+     *  it will escape the apostrophe as <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does not exist
+     *  (the decimal numeric reference <kbd>&amp;#39;</kbd> is used instead).
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(char[], int, int, java.io.Writer, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeHtml5Xml(final char[] text, final int offset, final int len, final Writer writer)
+                                      throws IOException {
+        escapeHtml(text, offset, len, writer, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML 4 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(char[], int, int, java.io.Writer, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeHtml4(final char[] text, final int offset, final int len, final Writer writer)
+                                   throws IOException {
+        escapeHtml(text, offset, len, writer, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as
+     *  {@link #escapeHtml5Xml(char[], int, int, java.io.Writer)}  because it will escape the apostrophe as
+     *  <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a specific NCR for such character (<kbd>&amp;apos;</kbd>).
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeHtml(char[], int, int, java.io.Writer, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeHtml4Xml(final char[] text, final int offset, final int len, final Writer writer)
+                                      throws IOException {
+        escapeHtml(text, offset, len, writer, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) HTML <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.html.HtmlEscapeType} and {@link org.unbescape.html.HtmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>char[]</kbd>-based <kbd>escapeHtml*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeHtml(final char[] text, final int offset, final int len, final Writer writer,
+                                  final HtmlEscapeType type, final HtmlEscapeLevel level)
+                                  throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        HtmlEscapeUtil.escape(text, offset, len, writer, type, level);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>byte[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML5 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(byte[], int, int, java.io.OutputStream, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> containing the UTF-8 encoded text to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be escaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the UTF-8 encoded escaped result will
+     *                     be written. Nothing will be written at all to this stream if input is
+     *                     <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml5Utf8(final byte[] text, final int offset, final int len,
+                                       final OutputStream outputStream)
+                                       throws IOException {
+        escapeHtmlUtf8(text, offset, len, outputStream, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a UTF-8 encoded <kbd>byte[]</kbd>
+     *   input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as
+     *  {@link #escapeHtml4XmlUtf8(byte[], int, int, java.io.OutputStream)} because
+     *  it will escape the apostrophe as <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does not exist
+     *  (the decimal numeric reference <kbd>&amp;#39;</kbd> is used instead).
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(byte[], int, int, java.io.OutputStream, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> containing the UTF-8 encoded text to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be escaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the UTF-8 encoded escaped result will
+     *                     be written. Nothing will be written at all to this stream if input is
+     *                     <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml5XmlUtf8(final byte[] text, final int offset, final int len,
+                                          final OutputStream outputStream)
+                                          throws IOException {
+        escapeHtmlUtf8(text, offset, len, outputStream, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>byte[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML 4 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(byte[], int, int, java.io.OutputStream, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> containing the UTF-8 encoded text to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be escaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the UTF-8 encoded escaped result will
+     *                     be written. Nothing will be written at all to this stream if input is
+     *                     <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml4Utf8(final byte[] text, final int offset, final int len,
+                                       final OutputStream outputStream)
+                                       throws IOException {
+        escapeHtmlUtf8(text, offset, len, outputStream, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a UTF-8 encoded <kbd>byte[]</kbd>
+     *   input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as
+     *  {@link #escapeHtml5XmlUtf8(byte[], int, int, java.io.OutputStream)}  because it will escape the apostrophe as
+     *  <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a specific NCR for such character (<kbd>&amp;apos;</kbd>).
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(byte[], int, int, java.io.OutputStream, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> containing the UTF-8 encoded text to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be escaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the UTF-8 encoded escaped result will
+     *                     be written. Nothing will be written at all to this stream if input is
+     *                     <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml4XmlUtf8(final byte[] text, final int offset, final int len,
+                                          final OutputStream outputStream)
+                                          throws IOException {
+        escapeHtmlUtf8(text, offset, len, outputStream, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) HTML <strong>escape</strong> operation on a UTF-8 encoded <kbd>byte[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.html.HtmlEscapeType} and {@link org.unbescape.html.HtmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>byte[]</kbd>-based <kbd>escapeHtml*Utf8(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   Input bytes that do not need to be escaped are copied verbatim to the output, without the need to decode
+     *   and re-encode them. Malformed UTF-8 sequences are replaced by <kbd>U+FFFD</kbd> (the <em>replacement
+     *   character</em>) at every level: escaped if the level escapes non-ASCII characters, UTF-8 encoded if it
+     *   does not. Results are therefore the same as decoding the input, escaping it and encoding the result.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> containing the UTF-8 encoded text to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be escaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the UTF-8 encoded escaped result will
+     *                     be written. Nothing will be written at all to this stream if input is
+     *                     <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtmlUtf8(final byte[] text, final int offset, final int len,
+                                      final OutputStream outputStream,
+                                      final HtmlEscapeType type, final HtmlEscapeLevel level)
+                                      throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        HtmlEscapeUtil.escapeUtf8(text, offset, len, outputStream, type, level);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>java.nio.ByteBuffer</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML5 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(java.nio.ByteBuffer, java.io.OutputStream, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be escaped, from
+     *             its position to its limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the UTF-8 encoded escaped result will
+     *                     be written. Nothing will be written at all to this stream if input is
+     *                     <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml5Utf8(final ByteBuffer text, final OutputStream outputStream) throws IOException {
+        escapeHtmlUtf8(text, outputStream, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>java.nio.ByteBuffer</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as
+     *  {@link #escapeHtml4XmlUtf8(java.nio.ByteBuffer, java.io.OutputStream)} because
+     *  it will escape the apostrophe as <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does not exist
+     *  (the decimal numeric reference <kbd>&amp;#39;</kbd> is used instead).
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(java.nio.ByteBuffer, java.io.OutputStream, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be escaped, from
+     *             its position to its limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the UTF-8 encoded escaped result will
+     *                     be written. Nothing will be written at all to this stream if input is
+     *                     <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml5XmlUtf8(final ByteBuffer text, final OutputStream outputStream) throws IOException {
+        escapeHtmlUtf8(text, outputStream, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>java.nio.ByteBuffer</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML 4 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(java.nio.ByteBuffer, java.io.OutputStream, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be escaped, from
+     *             its position to its limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the UTF-8 encoded escaped result will
+     *                     be written. Nothing will be written at all to this stream if input is
+     *                     <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml4Utf8(final ByteBuffer text, final OutputStream outputStream) throws IOException {
+        escapeHtmlUtf8(text, outputStream, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>java.nio.ByteBuffer</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as
+     *  {@link #escapeHtml5XmlUtf8(java.nio.ByteBuffer, java.io.OutputStream)}  because it will escape the apostrophe as
+     *  <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a specific NCR for such character (<kbd>&amp;apos;</kbd>).
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(java.nio.ByteBuffer, java.io.OutputStream, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be escaped, from
+     *             its position to its limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the UTF-8 encoded escaped result will
+     *                     be written. Nothing will be written at all to this stream if input is
+     *                     <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml4XmlUtf8(final ByteBuffer text, final OutputStream outputStream) throws IOException {
+        escapeHtmlUtf8(text, outputStream, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) HTML <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>java.nio.ByteBuffer</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.html.HtmlEscapeType} and {@link org.unbescape.html.HtmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>ByteBuffer</kbd>/<kbd>OutputStream</kbd>-based <kbd>escapeHtml*Utf8(...)</kbd> methods call this
+     *   one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   Input bytes that do not need to be escaped are copied verbatim to the output, without the need to decode
+     *   and re-encode them. Malformed UTF-8 sequences are replaced by <kbd>U+FFFD</kbd> (the <em>replacement
+     *   character</em>) at every level: escaped if the level escapes non-ASCII characters, UTF-8 encoded if it
+     *   does not. Results are therefore the same as decoding the input, escaping it and encoding the result.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be escaped, from
+     *             its position to its limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the UTF-8 encoded escaped result will
+     *                     be written. Nothing will be written at all to this stream if input is
+     *                     <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtmlUtf8(final ByteBuffer text, final OutputStream outputStream,
+                                      final HtmlEscapeType type, final HtmlEscapeLevel level)
+                                      throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        HtmlEscapeUtil.escapeUtf8(text, outputStream, type, level);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 2 (result is ASCII) <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>java.nio.ByteBuffer</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML5 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(java.nio.ByteBuffer, java.nio.ByteBuffer, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be escaped, from
+     *             its position to its limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the UTF-8 encoded escaped result will be
+     *               put, starting at its current position. Nothing will be put at all into this buffer if
+     *               input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the escaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml5Utf8(final ByteBuffer text, final ByteBuffer output) {
+        escapeHtmlUtf8(text, output, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML5 level 1 (XML-style) <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>java.nio.ByteBuffer</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as
+     *  {@link #escapeHtml4XmlUtf8(java.nio.ByteBuffer, java.nio.ByteBuffer)} because
+     *  it will escape the apostrophe as <kbd>&amp;apos;</kbd>, whereas in HTML 4 such NCR does not exist
+     *  (the decimal numeric reference <kbd>&amp;#39;</kbd> is used instead).
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(java.nio.ByteBuffer, java.nio.ByteBuffer, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be escaped, from
+     *             its position to its limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the UTF-8 encoded escaped result will be
+     *               put, starting at its current position. Nothing will be put at all into this buffer if
+     *               input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the escaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml5XmlUtf8(final ByteBuffer text, final ByteBuffer output) {
+        escapeHtmlUtf8(text, output, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 2 (result is ASCII) <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>java.nio.ByteBuffer</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding HTML 4 Named Character References
+     *   (e.g. <kbd>'&amp;acute;'</kbd>) when such NCR exists for the replaced character, and replacing by a decimal
+     *   character reference (e.g. <kbd>'&amp;#8345;'</kbd>) when there there is no NCR for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(java.nio.ByteBuffer, java.nio.ByteBuffer, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be escaped, from
+     *             its position to its limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the UTF-8 encoded escaped result will be
+     *               put, starting at its current position. Nothing will be put at all into this buffer if
+     *               input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the escaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml4Utf8(final ByteBuffer text, final ByteBuffer output) {
+        escapeHtmlUtf8(text, output, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML 4 level 1 (XML-style) <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>java.nio.ByteBuffer</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>. It is called
+     *   <em>XML-style</em> in order to link it with JSP's <kbd>escapeXml</kbd> attribute in JSTL's
+     *   <kbd>&lt;c:out ... /&gt;</kbd> tags.
+     * </p>
+     * <p>
+     *  Note this method may <strong>not</strong> produce the same results as
+     *  {@link #escapeHtml5XmlUtf8(java.nio.ByteBuffer, java.nio.ByteBuffer)}  because it will escape the apostrophe as
+     *  <kbd>&amp;#39;</kbd>, whereas in HTML5 there is a specific NCR for such character (<kbd>&amp;apos;</kbd>).
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeHtmlUtf8(java.nio.ByteBuffer, java.nio.ByteBuffer, HtmlEscapeType, HtmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeType#HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.html.HtmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be escaped, from
+     *             its position to its limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the UTF-8 encoded escaped result will be
+     *               put, starting at its current position. Nothing will be put at all into this buffer if
+     *               input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the escaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtml4XmlUtf8(final ByteBuffer text, final ByteBuffer output) {
+        escapeHtmlUtf8(text, output, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) HTML <strong>escape</strong> operation on a UTF-8 encoded
+     *   <kbd>java.nio.ByteBuffer</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.html.HtmlEscapeType} and {@link org.unbescape.html.HtmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>ByteBuffer</kbd>/<kbd>ByteBuffer</kbd>-based <kbd>escapeHtml*Utf8(...)</kbd> methods call this
+     *   one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   Input bytes that do not need to be escaped are copied verbatim to the output, without the need to decode
+     *   and re-encode them. Malformed UTF-8 sequences are replaced by <kbd>U+FFFD</kbd> (the <em>replacement
+     *   character</em>) at every level: escaped if the level escapes non-ASCII characters, UTF-8 encoded if it
+     *   does not. Results are therefore the same as decoding the input, escaping it and encoding the result.
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd>
+     *   will be thrown and the positions of both buffers will be undefined.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be escaped, from
+     *             its position to its limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the UTF-8 encoded escaped result will be
+     *               put, starting at its current position. Nothing will be put at all into this buffer if
+     *               input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the escaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeHtmlUtf8(final ByteBuffer text, final ByteBuffer output,
+                                      final HtmlEscapeType type, final HtmlEscapeLevel level) {
+
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        try {
+            HtmlEscapeUtil.escapeUtf8(text, new InternalByteBufferOutputStream(output), type, level);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while escaping HTML into a ByteBuffer", e);
+        }
+
+    }
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Obtain a pre-compiled <strong>escaper</strong> for the specified type and level, which will perform the
+     *   same escape operations as the <kbd>escapeHtml(...)</kbd> methods in this class that receive the same
+     *   <kbd>type</kbd> and <kbd>level</kbd> arguments.
+     * </p>
+     * <p>
+     *   All the decisions depending on the escape type and level are taken only once when the escaper is created,
+     *   so code that escapes texts very frequently and always with the same type and level can obtain an escaper
+     *   once and use it for every escape operation.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, and so are the returned escapers.
+     * </p>
+     *
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @return the escaper.
+     *
+     * @since 1.1.7
+     */
+    public static HtmlEscaper escaper(final HtmlEscapeType type, final HtmlEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return HtmlEscaper.forTypeAndLevel(type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Obtain a <kbd>Writer</kbd> that performs an HTML <strong>escape</strong> operation on all the text written
+     *   through it, according to the specified type and level, and writes the escaped result to another
+     *   <kbd>Writer</kbd>. Results are exactly the same as those of the <kbd>escapeHtml(...)</kbd> methods in this
+     *   class that receive the same <kbd>type</kbd> and <kbd>level</kbd> arguments, applied on the whole text at once.
+     * </p>
+     * <p>
+     *   Text is escaped in blocks and escaped output is buffered, so {@link java.io.Writer#flush()} or {@link
+     *   java.io.Writer#close()} need to be called on the returned writer. See {@link org.unbescape.EscapingWriter} for
+     *   details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned writer is not.
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @return the escaping writer.
+     *
+     * @since 1.1.7
+     */
+    public static EscapingWriter escapingWriter(
+            final Writer writer, final HtmlEscapeType type, final HtmlEscapeLevel level) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        return new HtmlEscapingWriter(writer, escaper(type, level));
+
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable) HTML
+     *   <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeHtml(CharSequence, HtmlEscapeType, HtmlEscapeLevel)} would
+     *   do with the same <kbd>type</kbd> and <kbd>level</kbd>, but no objects are created at all during the
+     *   process. This allows, for example, to output the text as is (or to escape only the part after the returned
+     *   position) when no escaping is needed.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableHtml(
+            final CharSequence text, final HtmlEscapeType type, final HtmlEscapeLevel level) {
+        return HtmlEscapeUtil.indexOfFirstEscapable(text, escaper(type, level));
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) HTML <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether
+     *   {@link #escapeHtml(CharSequence, HtmlEscapeType, HtmlEscapeLevel)} returns a different text, but
+     *   no objects are created at all during the process. See
+     *   {@link #indexOfFirstEscapableHtml(CharSequence, HtmlEscapeType, HtmlEscapeLevel)}.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeHtml(
+            final CharSequence text, final HtmlEscapeType type, final HtmlEscapeLevel level) {
+        return (indexOfFirstEscapableHtml(text, type, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) HTML <strong>escape</strong> operation on a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeHtml(CharSequence, HtmlEscapeType, HtmlEscapeLevel)}, but no objects are created at all
+     *   during the process. This allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or
+     *   <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthHtml(
+            final CharSequence text, final HtmlEscapeType type, final HtmlEscapeLevel level) {
+        return HtmlEscapeUtil.escapedLength(text, escaper(type, level));
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact number of bytes that a (configurable) HTML <strong>escape</strong> operation would
+     *   output for a UTF-8 encoded <kbd>byte[]</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the number of bytes written by
+     *   {@link #escapeHtmlUtf8(byte[], int, int, java.io.OutputStream, HtmlEscapeType, HtmlEscapeLevel)}, including
+     *   the replacement of malformed sequences. This allows sizing an output <kbd>byte[]</kbd> or
+     *   <kbd>java.nio.ByteBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> containing the UTF-8 encoded text to be examined.
+     * @param offset the position in <kbd>text</kbd> at which the examination should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @return the length (in bytes) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthHtmlUtf8(final byte[] text, final int offset, final int len,
+                                             final HtmlEscapeType type, final HtmlEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (text == null) {
+            return 0L;
+        }
+
+        return HtmlEscapeUtil.escapedLengthUtf8(text, offset, len, type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact number of bytes that a (configurable) HTML <strong>escape</strong> operation would
+     *   output for a UTF-8 encoded <kbd>java.nio.ByteBuffer</kbd> input, without performing the escape
+     *   operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the number of bytes put by
+     *   {@link #escapeHtmlUtf8(ByteBuffer, ByteBuffer, HtmlEscapeType, HtmlEscapeLevel)}, so it can be used
+     *   for allocating an output buffer that will never overflow.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the UTF-8 encoded text to be examined, from
+     *             its position to its limit. Its position will not be modified.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.html.HtmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.html.HtmlEscapeLevel}.
+     * @return the length (in bytes) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthHtmlUtf8(
+            final ByteBuffer text, final HtmlEscapeType type, final HtmlEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return HtmlEscapeUtil.escapedLengthUtf8(text, type, level);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an HTML <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> unescape of NCRs (whole HTML5 set supported), decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeHtml(final String text) {
+        if (text == null) {
+            return null;
+        }
+        if (text.indexOf('&') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            return text;
+        }
+        return HtmlEscapeUtil.unescape(text);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform an HTML <strong>unescape</strong> operation on a <kbd>String</kbd> input, writing results to
+     *   a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> unescape of NCRs (whole HTML5 set supported), decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeHtml(final String text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
             throw new IllegalArgumentException("Argument 'writer' cannot be null");
         }
         if (text == null) {
@@ -1141,6 +3097,167 @@ public static void unescapeHtml(final String text, final Writer writer)
 
 
 
+
+
+
+
+    /**
+     * <p>
+     *   Perform an HTML <strong>unescape</strong> operation on a <kbd>String</kbd> input, appending results to
+     *   a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> unescape of NCRs (whole HTML5 set supported), decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeHtml(final String text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('&') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            strBuilder.append(text);
+            return;
+        }
+
+        HtmlEscapeUtil.unescape(text, strBuilder);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an HTML <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> unescape of NCRs (whole HTML5 set supported), decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeHtml(final CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            return unescapeHtml((String) text);
+        }
+        return HtmlEscapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input, writing results to
+     *   a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> unescape of NCRs (whole HTML5 set supported), decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeHtml(final CharSequence text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeHtml((String) text, writer);
+            return;
+        }
+
+        HtmlEscapeUtil.unescape(new InternalStringReader(text), writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input, appending results to
+     *   a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> unescape of NCRs (whole HTML5 set supported), decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeHtml(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeHtml((String) text, strBuilder);
+            return;
+        }
+
+        HtmlEscapeUtil.unescape(text, strBuilder);
+
+    }
+
+
+
     /**
      * <p>
      *   Perform an HTML <strong>unescape</strong> operation on a <kbd>Reader</kbd> input, writing results to
@@ -1220,6 +3337,117 @@ public static void unescapeHtml(final char[] text, final int offset, final int l
 
 
 
+    /**
+     * <p>
+     *   Perform an HTML HTML <strong>unescape</strong> operation on a <kbd>char[]</kbd> input, writing the result
+     *   back into the same <kbd>char[]</kbd> (<em>in place</em>) and returning its length.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> unescape of NCRs (whole HTML5 set supported), decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   As unescaping never makes text longer, the result always fits in the <kbd>[offset, offset + len)</kbd>
+     *   range that is being unescaped, and chars outside it are never modified. The contents of the range after
+     *   the returned length are undefined. No output buffers or <kbd>String</kbd> objects are created during
+     *   this operation, and text before the first escape sequence is not even copied.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong> as long as no other threads access the same range of
+     *   <kbd>text</kbd> during the operation.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the unescape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be unescaped.
+     * @return the length of the unescaped result, which starts at <kbd>offset</kbd> in <kbd>text</kbd>
+     *         (<kbd>0</kbd> if <kbd>text</kbd> is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int unescapeHtmlInPlace(final char[] text, final int offset, final int len) {
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (text == null) {
+            return 0;
+        }
+
+        return HtmlEscapeUtil.unescapeInPlace(text, offset, len);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Obtain a <strong>chunked unescaper</strong> that performs an HTML <strong>unescape</strong> operation on a text
+     *   received as a sequence of chunks (e.g. network buffers), writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   Chunks can be split at any point, even in the middle of references, and results will be exactly the same as
+     *   those of {@link #unescapeHtml(String)} on the concatenation of all the chunks. The end of the text must be
+     *   signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link org.unbescape.ChunkedUnescaper}
+     *   for details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
+     */
+    public static ChunkedUnescaper chunkedUnescaper(final Writer writer) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        return new HtmlChunkedUnescaper(writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether an HTML <strong>unescape</strong> operation would modify a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #unescapeHtml(CharSequence)} returns a different text.
+     *   Texts that do not contain any <kbd>&amp;</kbd> chars are discarded without creating any objects at all,
+     *   which makes this method adequate for checking (or caching) values that only rarely contain references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresUnescapeHtml(final CharSequence text) {
+        return HtmlEscapeUtil.requiresUnescape(text);
+    }
+
+
+
 
     private HtmlEscape() {
         super();
@@ -1231,16 +3459,19 @@ private HtmlEscape() {
      * This is basically a very simplified, thread-unsafe version of StringReader that should
      * perform better than the original StringReader by removing all synchronization structures.
      *
+     * It can read from any CharSequence. Bulk reads are specialized for String, StringBuilder and
+     * array-backed CharBuffer objects so that, for those, chars are copied without calling charAt(...).
+     *
      * Note the only implemented methods are those that we know are really used from within the
      * stream-based escape/unescape operations.
      */
     private static final class InternalStringReader extends Reader {
 
-        private String str;
+        private CharSequence str;
         private int length;
         private int next = 0;
 
-        public InternalStringReader(final String s) {
+        public InternalStringReader(final CharSequence s) {
             super();
             this.str = s;
             this.length = s.length();
@@ -1266,7 +3497,19 @@ public int read(final char[] cbuf, final int off, final int len) throws IOExcept
                 return -1;
             }
             int n = Math.min(this.length - this.next, len);
-            this.str.getChars(this.next, this.next + n, cbuf, off);
+            if (this.str instanceof String) {
+                ((String) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof StringBuilder) {
+                ((StringBuilder) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof CharBuffer && ((CharBuffer) this.str).hasArray()) {
+                final CharBuffer charBuffer = (CharBuffer) this.str;
+                System.arraycopy(
+                        charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + this.next, cbuf, off, n);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = this.str.charAt(this.next + i);
+                }
+            }
             this.next += n;
             return n;
         }
@@ -1279,5 +3522,35 @@ public void close() throws IOException {
     }
 
 
-}
 
+
+    /*
+     * This is a very simple OutputStream that puts everything written to it into a ByteBuffer, used for
+     * implementing the ByteBuffer-output UTF-8 escape operations on top of the OutputStream-based ones.
+     *
+     * No input/output is actually performed, so no IOException will ever be thrown. If the ByteBuffer does not
+     * have enough space remaining, the BufferOverflowException thrown by the ByteBuffer itself will be propagated.
+     */
+    private static final class InternalByteBufferOutputStream extends OutputStream {
+
+        private final ByteBuffer buffer;
+
+        public InternalByteBufferOutputStream(final ByteBuffer buffer) {
+            super();
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(final int b) {
+            this.buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            this.buffer.put(b, off, len);
+        }
+
+    }
+
+
+}
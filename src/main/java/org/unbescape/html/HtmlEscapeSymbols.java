@@ -19,6 +19,13 @@
  */
 package org.unbescape.html;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -26,6 +33,9 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+
+import org.unbescape.EscapeScanner;
 
 /**
  * <p>
@@ -96,15 +106,37 @@ final class HtmlEscapeSymbols {
     final short[] NCRS_BY_CODEPOINT = new short[NCRS_BY_CODEPOINT_LEN];
 
     /*
-     * This map will work as an overflow of the NCRS_BY_CODEPOINT array, so that the codepoint-to-NCR relation is
-     * stored here (with hash-based access) for codepoints >= NCRS_BY_CODEPOINT_LEN (0x2fff).
-     * - The use of a Map here still allows for reasonabily fast access for those rare cases in which codepoints above
-     *   0x2fff are used.
-     * - In the real world, this map will contain the 138 values needed by HTML5 for codepoints >= 0x2fff.
-     * - Approximate max size will be (being a complex object like a Map, it's a rough approximation):
-     *   16 (header) + 138 * (16 (entry header) + 16*2 (key, value headers) + 4 (key) + 2 (value)) = 7468 bytes
+     * These two arrays work as an overflow of the NCRS_BY_CODEPOINT array, so that the codepoint-to-NCR relation is
+     * stored here for codepoints >= NCRS_BY_CODEPOINT_LEN (0x2fff), in the form of a primitive open-addressing
+     * hash table (linear probing) so that lookups need no boxing of codepoints nor any pointer chasing.
+     * - NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS contains the codepoints (keys), and NCRS_BY_CODEPOINT_OVERFLOW the
+     *   corresponding indexes at SORTED_NCRS (values), at the same positions. Empty positions contain codepoint 0,
+     *   which can never be a key because all keys are >= 0x2fff.
+     * - Sizes are a power of two at least twice the number of codepoints, so that probe sequences are short.
+     * - In the real world, these arrays will contain the 138 values needed by HTML5 for codepoints >= 0x2fff.
+     * - Approximate max size will be: 2 * 16 (headers) + 512 * (4 (key) + 2 (value)) = 3104 bytes
+     */
+    final int[] NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS; // No need to instantiate it until we know it's needed
+    final short[] NCRS_BY_CODEPOINT_OVERFLOW;
+
+    /*
+     * This array contains, for each NCR in SORTED_NCRS, the index of the shortest NCR referring to the same (single)
+     * codepoint, which will be the NCR itself if there is none shorter. It is used by the escape types that select
+     * the shortest possible reference for each codepoint, as the NCR used for escaping otherwise is the first one
+     * specified for the codepoint, which is not always the shortest one (e.g. HTML5 &ContourIntegral; vs &oint;).
+     * - NCRs without a trailing semicolon (legacy HTML5 NCRs like &LT) are never selected, as browsers do not
+     *   unescape them in every context (e.g. in attribute values before an alphanumeric char).
+     * - It is computed when symbols are created, from SORTED_NCRS and SORTED_CODEPOINTS.
+     * - Max size in real world, when populated for HTML5: 16 (header) + 2125 * 2 = 4266 bytes.
      */
-    final Map<Integer,Short> NCRS_BY_CODEPOINT_OVERFLOW;// No need to instantiate it until we know it's needed
+    final short[] SHORTEST_NCRS;
+
+    /*
+     * Length of the longest NCR in SORTED_NCRS (including its '&' and its ';', if any), which is the maximum amount
+     * of chars examined for matching an NCR when unescaping. It is computed when symbols are created.
+     * - Value in real world, when populated for HTML5: 33 (&CounterClockwiseContourIntegral;).
+     */
+    final int MAX_NCR_LEN;
 
     /*
      * Maximum char value inside the ASCII plane
@@ -122,6 +154,12 @@ final class HtmlEscapeSymbols {
      */
     final byte[] ESCAPE_LEVELS = new byte[MAX_ASCII_CHAR + 2];
 
+    /*
+     * This array will hold the scanners used for quickly skipping chars that will never need escaping, one
+     * per escape level (0 to 4), computed from ESCAPE_LEVELS.
+     */
+    final EscapeScanner[] ESCAPE_SCANNERS = new EscapeScanner[5];
+
     /*
      * This array will contain all the NCRs, alphabetically ordered.
      * - Positions in this array will correspond to positions in the SORTED_CODEPOINTS array, so that one array
@@ -137,6 +175,14 @@ final class HtmlEscapeSymbols {
      */
     final char[][] SORTED_NCRS;
 
+    /*
+     * This array contains exactly the same NCRs as SORTED_NCRS (in the same order), but as byte[] so that they can
+     * be directly written by the escape operations working on UTF-8 encoded bytes.
+     * - NCRs are pure ASCII, so each char is represented by exactly one byte in UTF-8.
+     * - Max size in real world, when populated for HTML5: 2125 NCRs * 4 bytes/objref -> 8500 bytes, plus the texts.
+     */
+    final byte[][] SORTED_NCRS_BYTES;
+
     /*
      * This array contains all the codepoints corresponding to the NCRs stored in SORTED_NCRS. This array is ordered
      * so that each index in SORTED_NCRS can also be used to retrieve the corresponding CODEPOINT when used on this array.
@@ -158,6 +204,36 @@ final class HtmlEscapeSymbols {
     final int[][] DOUBLE_CODEPOINTS;
 
 
+    /*
+     * These arrays form a trie containing all the NCRs in SORTED_NCRS, used for matching NCRs when unescaping
+     * by examining each char of the text only once (no per-node objects are created, all nodes are just ints).
+     * - Node 0 is the root, corresponding to the '&' char all NCRs start with.
+     * - The children of node n are at positions NCR_TRIE_CHILDREN_START[n] to NCR_TRIE_CHILDREN_START[n + 1]
+     *   (exclusive) of NCR_TRIE_CHILDREN_CHARS (the char leading to each child, in ascending order).
+     * - Nodes are numbered in breadth-first order, so the child at position p is node p + 1 (every node but the
+     *   root is the child at the position right before its own number) and no array of child nodes is needed.
+     * - NCR_TRIE_NCRS contains, for each node, the index at SORTED_NCRS of the NCR ending at that node, or
+     *   NO_TRIE_NCR if no NCR ends there.
+     * - Max size in real world, when populated for HTML5 (rough approximate): 9854 nodes * (4 + 2 + 2) = 78832 bytes
+     */
+    final int[] NCR_TRIE_CHILDREN_START;
+    final char[] NCR_TRIE_CHILDREN_CHARS;
+    final short[] NCR_TRIE_NCRS;
+
+    /*
+     * This constant will be used at the NCR_TRIE_NCRS array to specify no NCR ends at a node.
+     */
+    static final short NO_TRIE_NCR = (short) -1;
+
+
+    /*
+     * Header of the binary resources containing precomputed symbols ("UBHS": UnBescape Html Symbols), and version
+     * of their format. Resources with a different version are rejected.
+     */
+    private static final int SYMBOLS_RESOURCE_MAGIC = 0x55424853;
+    private static final int SYMBOLS_RESOURCE_VERSION = 2;
+
+
     /*
      * This constant will be used at the NCRS_BY_CODEPOINT array to specify there is no NCR associated with a
      * codepoint.
@@ -168,19 +244,47 @@ final class HtmlEscapeSymbols {
 
 
     /*
-     * Constants holding the definition of all the HtmlEscapeSymbols for HTML4 and HTML5, to be used in escape and
-     * unescape operations.
+     * Holders for the definition of all the HtmlEscapeSymbols for HTML4 and HTML5, to be used in escape and
+     * unescape operations. Each set of symbols lives in its own holder class so that it is only built the first
+     * time it is actually used (e.g. HTML5 symbols will never be built if only HTML4 escape operations are
+     * performed), as the JVM will not initialize a holder class until one of its fields is first accessed.
+     *
+     * Symbols are read from binary resources precomputed at build time (see HtmlEscapeSymbolsGenerator, at
+     * src/build/java), so that the thousands of NCRs in the initializer classes do not need to be loaded, sorted
+     * and indexed at runtime. The initializer classes are only needed for generating these resources, so they live
+     * at src/build/java too and are not part of the library: the resources are therefore required at runtime.
      */
-    static final HtmlEscapeSymbols HTML4_SYMBOLS;
-    static final HtmlEscapeSymbols HTML5_SYMBOLS;
 
+    static final String HTML4_SYMBOLS_RESOURCE_NAME = "Html4EscapeSymbols.bin";
+    static final String HTML5_SYMBOLS_RESOURCE_NAME = "Html5EscapeSymbols.bin";
 
 
+    static final class Html4SymbolsHolder {
 
-    static {
+        static final HtmlEscapeSymbols SYMBOLS;
 
-        HTML4_SYMBOLS = Html4EscapeSymbolsInitializer.initializeHtml4();
-        HTML5_SYMBOLS = Html5EscapeSymbolsInitializer.initializeHtml5();
+        static {
+            SYMBOLS = readSymbols(HTML4_SYMBOLS_RESOURCE_NAME);
+        }
+
+        private Html4SymbolsHolder() {
+            super();
+        }
+
+    }
+
+
+    static final class Html5SymbolsHolder {
+
+        static final HtmlEscapeSymbols SYMBOLS;
+
+        static {
+            SYMBOLS = readSymbols(HTML5_SYMBOLS_RESOURCE_NAME);
+        }
+
+        private Html5SymbolsHolder() {
+            super();
+        }
 
     }
 
@@ -199,6 +303,11 @@ final class HtmlEscapeSymbols {
         // Initialize ASCII escape levels: just copy the array
         System.arraycopy(escapeLevels, 0, ESCAPE_LEVELS, 0, (0x7f + 2));
 
+        // Initialize the escape scanners, one per level
+        for (int level = 0; level < ESCAPE_SCANNERS.length; level++) {
+            ESCAPE_SCANNERS[level] = EscapeScanner.forEscapeLevels(ESCAPE_LEVELS, level);
+        }
+
 
         // Initialize some auxiliary structures
         final List<char[]> ncrs = new ArrayList<char[]>(references.references.size() + 5);
@@ -246,6 +355,7 @@ final class HtmlEscapeSymbols {
         // them directly from our auxiliary structures because we need to order the NCRs alphabetically first.
 
         SORTED_NCRS = new char[ncrs.size()][];
+        SORTED_NCRS_BYTES = new byte[ncrs.size()][];
         SORTED_CODEPOINTS = new int[codepoints.size()];
 
         final List<char[]> ncrsOrdered = new ArrayList<char[]>(ncrs);
@@ -260,6 +370,11 @@ public int compare(final char[] o1, final char[] o2) {
             final char[] ncr = ncrsOrdered.get(i);
             SORTED_NCRS[i] = ncr;
 
+            SORTED_NCRS_BYTES[i] = new byte[ncr.length];
+            for (int j = 0; j < ncr.length; j++) {
+                SORTED_NCRS_BYTES[i][j] = (byte) ncr[j];
+            }
+
             for (short j = 0; j  < SORTED_NCRS.length; j++) {
 
                 if (Arrays.equals(ncr,ncrs.get(j))) {
@@ -299,10 +414,25 @@ public int compare(final char[] o1, final char[] o2) {
         }
 
 
-        // Only create the overflow map if it is really needed.
+        // Only create the overflow hash table if it is really needed.
         if (ncrsByCodepointOverflow.size() > 0) {
-            NCRS_BY_CODEPOINT_OVERFLOW = ncrsByCodepointOverflow;
+            int overflowLen = 1;
+            while (overflowLen < 2 * ncrsByCodepointOverflow.size()) {
+                overflowLen <<= 1;
+            }
+            NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS = new int[overflowLen];
+            NCRS_BY_CODEPOINT_OVERFLOW = new short[overflowLen];
+            for (final Map.Entry<Integer,Short> overflowEntry : ncrsByCodepointOverflow.entrySet()) {
+                final int cp = overflowEntry.getKey().intValue();
+                int pos = overflowHash(cp) & (overflowLen - 1);
+                while (NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS[pos] != 0) {
+                    pos = (pos + 1) & (overflowLen - 1);
+                }
+                NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS[pos] = cp;
+                NCRS_BY_CODEPOINT_OVERFLOW[pos] = overflowEntry.getValue().shortValue();
+            }
         } else {
+            NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS = null;
             NCRS_BY_CODEPOINT_OVERFLOW = null;
         }
 
@@ -317,6 +447,399 @@ public int compare(final char[] o1, final char[] o2) {
             DOUBLE_CODEPOINTS = null;
         }
 
+
+        // Build the trie used for matching NCRs when unescaping. Nodes are first created with maps of children
+        // (only during initialization) and then flattened into arrays, renumbered in breadth-first order.
+        final List<TreeMap<Character,Integer>> trieChildren = new ArrayList<TreeMap<Character,Integer>>();
+        final List<Short> trieNcrs = new ArrayList<Short>();
+        trieChildren.add(new TreeMap<Character,Integer>());
+        trieNcrs.add(Short.valueOf(NO_TRIE_NCR));
+        for (short i = 0; i < SORTED_NCRS.length; i++) {
+            final char[] ncr = SORTED_NCRS[i];
+            int node = 0;
+            // char 0 is discarded, will always be &
+            for (int j = 1; j < ncr.length; j++) {
+                final Character c = Character.valueOf(ncr[j]);
+                Integer child = trieChildren.get(node).get(c);
+                if (child == null) {
+                    child = Integer.valueOf(trieChildren.size());
+                    trieChildren.add(new TreeMap<Character,Integer>());
+                    trieNcrs.add(Short.valueOf(NO_TRIE_NCR));
+                    trieChildren.get(node).put(c, child);
+                }
+                node = child.intValue();
+            }
+            trieNcrs.set(node, Short.valueOf(i));
+        }
+
+        final int trieNodes = trieChildren.size();
+        NCR_TRIE_CHILDREN_START = new int[trieNodes + 1];
+        NCR_TRIE_CHILDREN_CHARS = new char[trieNodes - 1]; // All nodes but the root are a child of some other
+        NCR_TRIE_NCRS = new short[trieNodes];
+        // Node (as created above) at each breadth-first position. Each child gets the number following its position
+        // as soon as its parent is flattened, which always happens before the child itself is.
+        final int[] trieNodesInOrder = new int[trieNodes];
+        int childPos = 0;
+        for (int node = 0; node < trieNodes; node++) {
+            NCR_TRIE_CHILDREN_START[node] = childPos;
+            for (final Map.Entry<Character,Integer> child : trieChildren.get(trieNodesInOrder[node]).entrySet()) {
+                NCR_TRIE_CHILDREN_CHARS[childPos] = child.getKey().charValue();
+                childPos++;
+                trieNodesInOrder[childPos] = child.getValue().intValue();
+            }
+            NCR_TRIE_NCRS[node] = trieNcrs.get(trieNodesInOrder[node]).shortValue();
+        }
+        NCR_TRIE_CHILDREN_START[trieNodes] = childPos;
+
+        SHORTEST_NCRS = computeShortestNcrs();
+        MAX_NCR_LEN = computeMaxNcrLen();
+
+    }
+
+
+    /*
+     * Create a new HtmlEscapeSymbols structure from the contents of a binary resource precomputed at build time
+     * (see writeSymbols(...) for its format). All structures are read exactly as they were computed by the
+     * constructor above, so that no sorting or indexing is needed at all.
+     */
+    private HtmlEscapeSymbols(final ByteBuffer buffer) {
+
+        super();
+
+        buffer.get(ESCAPE_LEVELS);
+
+        // Initialize the escape scanners, one per level
+        for (int level = 0; level < ESCAPE_SCANNERS.length; level++) {
+            ESCAPE_SCANNERS[level] = EscapeScanner.forEscapeLevels(ESCAPE_LEVELS, level);
+        }
+
+        // NCRs are pure ASCII, so they are stored as bytes
+        final int ncrsLen = buffer.getInt();
+        final byte[] ncrLengths = new byte[ncrsLen];
+        buffer.get(ncrLengths);
+        SORTED_NCRS = new char[ncrsLen][];
+        SORTED_NCRS_BYTES = new byte[ncrsLen][];
+        for (int i = 0; i < ncrsLen; i++) {
+            final byte[] ncrBytes = new byte[ncrLengths[i]];
+            buffer.get(ncrBytes);
+            final char[] ncr = new char[ncrBytes.length];
+            for (int j = 0; j < ncrBytes.length; j++) {
+                ncr[j] = (char) ncrBytes[j];
+            }
+            SORTED_NCRS[i] = ncr;
+            SORTED_NCRS_BYTES[i] = ncrBytes;
+        }
+
+        SORTED_CODEPOINTS = readInts(buffer);
+
+        // Most positions of NCRS_BY_CODEPOINT contain NO_NCR (0, as in a new array), so only the rest are stored
+        final char[] assignedCodepoints = new char[buffer.getInt()];
+        buffer.asCharBuffer().get(assignedCodepoints);
+        buffer.position(buffer.position() + (assignedCodepoints.length * 2));
+        final short[] assignedNcrs = new short[assignedCodepoints.length];
+        readShorts(buffer, assignedNcrs);
+        for (int i = 0; i < assignedCodepoints.length; i++) {
+            NCRS_BY_CODEPOINT[assignedCodepoints[i]] = assignedNcrs[i];
+        }
+
+        final int overflowLen = buffer.getInt();
+        if (overflowLen > 0) {
+            NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS = new int[overflowLen];
+            NCRS_BY_CODEPOINT_OVERFLOW = new short[overflowLen];
+            buffer.asIntBuffer().get(NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS);
+            buffer.position(buffer.position() + (overflowLen * 4));
+            readShorts(buffer, NCRS_BY_CODEPOINT_OVERFLOW);
+        } else {
+            NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS = null;
+            NCRS_BY_CODEPOINT_OVERFLOW = null;
+        }
+
+        final int doubleCodepointsLen = buffer.getInt();
+        if (doubleCodepointsLen > 0) {
+            DOUBLE_CODEPOINTS = new int[doubleCodepointsLen][];
+            for (int i = 0; i < doubleCodepointsLen; i++) {
+                DOUBLE_CODEPOINTS[i] = new int[] { buffer.getInt(), buffer.getInt() };
+            }
+        } else {
+            DOUBLE_CODEPOINTS = null;
+        }
+
+        // The trie is stored as the number of children of each node, the (ASCII) chars leading to them, and the
+        // node at which each NCR ends
+        final int trieNodes = buffer.getInt();
+        final byte[] childCounts = new byte[trieNodes];
+        buffer.get(childCounts);
+        NCR_TRIE_CHILDREN_START = new int[trieNodes + 1];
+        int childPos = 0;
+        for (int node = 0; node < trieNodes; node++) {
+            NCR_TRIE_CHILDREN_START[node] = childPos;
+            childPos += (childCounts[node] & 0xFF);
+        }
+        NCR_TRIE_CHILDREN_START[trieNodes] = childPos;
+        final byte[] childChars = new byte[trieNodes - 1];
+        buffer.get(childChars);
+        NCR_TRIE_CHILDREN_CHARS = new char[childChars.length];
+        for (int i = 0; i < childChars.length; i++) {
+            NCR_TRIE_CHILDREN_CHARS[i] = (char) childChars[i];
+        }
+        final int[] ncrNodes = new int[ncrsLen];
+        buffer.asIntBuffer().get(ncrNodes);
+        buffer.position(buffer.position() + (ncrNodes.length * 4));
+        NCR_TRIE_NCRS = new short[trieNodes];
+        Arrays.fill(NCR_TRIE_NCRS, NO_TRIE_NCR);
+        for (short i = 0; i < ncrsLen; i++) {
+            NCR_TRIE_NCRS[ncrNodes[i]] = i;
+        }
+
+        SHORTEST_NCRS = computeShortestNcrs();
+        MAX_NCR_LEN = computeMaxNcrLen();
+
+    }
+
+
+    /*
+     * Compute the contents of the SHORTEST_NCRS array. Every NCR referring to a single codepoint is compared to the
+     * one used for escaping that codepoint (which can be reached from NCRS_BY_CODEPOINT or its overflow), so that
+     * a single pass is enough. On equal lengths, the NCR used for escaping is kept. Positions for which there is
+     * no NCR that can be selected will contain NO_NCR.
+     */
+    private short[] computeShortestNcrs() {
+
+        final short[] shortestNcrs = new short[SORTED_NCRS.length];
+        for (short i = 0; i < shortestNcrs.length; i++) {
+            shortestNcrs[i] = (hasSemicolon(SORTED_NCRS[i])? i : NO_NCR);
+        }
+
+        for (short i = 0; i < SORTED_NCRS.length; i++) {
+            final int cp = SORTED_CODEPOINTS[i];
+            if (cp <= 0 || !hasSemicolon(SORTED_NCRS[i])) {
+                // Double-codepoint NCRs are never used for escaping, and legacy NCRs without semicolon never selected
+                continue;
+            }
+            final short escapeNcr = (cp < NCRS_BY_CODEPOINT_LEN? NCRS_BY_CODEPOINT[cp] : overflowNcr(cp));
+            if (escapeNcr == NO_NCR) {
+                continue;
+            }
+            final short currentNcr = shortestNcrs[escapeNcr];
+            if (currentNcr == NO_NCR || SORTED_NCRS[i].length < SORTED_NCRS[currentNcr].length) {
+                shortestNcrs[escapeNcr] = i;
+            }
+        }
+
+        return shortestNcrs;
+
+    }
+
+
+    private int computeMaxNcrLen() {
+        int maxNcrLen = 0;
+        for (final char[] ncr : SORTED_NCRS) {
+            maxNcrLen = Math.max(maxNcrLen, ncr.length);
+        }
+        return maxNcrLen;
+    }
+
+
+    private static boolean hasSemicolon(final char[] ncr) {
+        return (ncr[ncr.length - 1] == ';');
+    }
+
+
+    private static int[] readInts(final ByteBuffer buffer) {
+        final int[] values = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + (values.length * 4));
+        return values;
+    }
+
+
+    private static void readShorts(final ByteBuffer buffer, final short[] values) {
+        buffer.asShortBuffer().get(values);
+        buffer.position(buffer.position() + (values.length * 2));
+    }
+
+
+
+
+    /*
+     * Read a HtmlEscapeSymbols structure from a binary resource precomputed at build time. These resources are part
+     * of the library, so not being able to read them (e.g. when running from an output folder in which the build
+     * has not generated them) is an error.
+     */
+    static HtmlEscapeSymbols readSymbols(final String resourceName) {
+
+        final InputStream inputStream = HtmlEscapeSymbols.class.getResourceAsStream(resourceName);
+        if (inputStream == null) {
+            throw new IllegalStateException(
+                    "Resource " + resourceName + " not found: HTML escape symbols are generated at build time");
+        }
+
+        try {
+
+            // The whole resource is read at once, and then all structures are directly copied from it
+            final DataInputStream dataInputStream = new DataInputStream(inputStream);
+            if (dataInputStream.readInt() != SYMBOLS_RESOURCE_MAGIC ||
+                    dataInputStream.readInt() != SYMBOLS_RESOURCE_VERSION) {
+                throw new IllegalStateException(
+                        "Resource " + resourceName + " does not contain HTML escape symbols in the expected format");
+            }
+            final byte[] contents = new byte[dataInputStream.readInt()];
+            dataInputStream.readFully(contents);
+
+            return new HtmlEscapeSymbols(ByteBuffer.wrap(contents));
+
+        } catch (final IOException e) {
+            throw new IllegalStateException("Cannot read HTML escape symbols from resource " + resourceName, e);
+        } finally {
+            try {
+                inputStream.close();
+            } catch (final IOException ignored) {
+                // Nothing to do
+            }
+        }
+
+    }
+
+
+    /*
+     * Write this HtmlEscapeSymbols structure in the binary format read by readSymbols(...). This is only executed
+     * at build time (see HtmlEscapeSymbolsGenerator).
+     *
+     * All values are big-endian. After a header with a magic number, a format version and the length of the rest
+     * of the contents, these are: ESCAPE_LEVELS, the number of NCRs, the length of each NCR (one byte each) and
+     * the (ASCII) chars of all NCRs, SORTED_CODEPOINTS, the number of positions of NCRS_BY_CODEPOINT not containing
+     * NO_NCR followed by these positions (codepoint chars) and their values (NCR index shorts), the overflow hash
+     * table, the DOUBLE_CODEPOINTS and finally the NCR trie: its number of nodes, the number of children of each
+     * node (one byte each), the (ASCII) chars leading to each child (one byte each) and the node at which each NCR
+     * ends. All other arrays not having a fixed size are preceded by their length.
+     */
+    void writeSymbols(final OutputStream outputStream) throws IOException {
+
+        final ByteArrayOutputStream contentsStream = new ByteArrayOutputStream(65536);
+        final DataOutputStream contents = new DataOutputStream(contentsStream);
+
+        contents.write(ESCAPE_LEVELS);
+
+        contents.writeInt(SORTED_NCRS.length);
+        for (final char[] ncr : SORTED_NCRS) {
+            contents.writeByte(ncr.length);
+        }
+        for (final byte[] ncrBytes : SORTED_NCRS_BYTES) {
+            contents.write(ncrBytes);
+        }
+
+        writeInts(contents, SORTED_CODEPOINTS);
+
+        int ncrsByCodepointLen = 0;
+        for (final short ncrIndex : NCRS_BY_CODEPOINT) {
+            if (ncrIndex != NO_NCR) {
+                ncrsByCodepointLen++;
+            }
+        }
+        contents.writeInt(ncrsByCodepointLen);
+        for (int cp = 0; cp < NCRS_BY_CODEPOINT.length; cp++) {
+            if (NCRS_BY_CODEPOINT[cp] != NO_NCR) {
+                contents.writeChar(cp);
+            }
+        }
+        for (final short ncrIndex : NCRS_BY_CODEPOINT) {
+            if (ncrIndex != NO_NCR) {
+                contents.writeShort(ncrIndex);
+            }
+        }
+
+        if (NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS != null) {
+            writeInts(contents, NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS);
+            for (final short ncrIndex : NCRS_BY_CODEPOINT_OVERFLOW) {
+                contents.writeShort(ncrIndex);
+            }
+        } else {
+            contents.writeInt(0);
+        }
+
+        if (DOUBLE_CODEPOINTS != null) {
+            contents.writeInt(DOUBLE_CODEPOINTS.length);
+            for (final int[] codepoints : DOUBLE_CODEPOINTS) {
+                contents.writeInt(codepoints[0]);
+                contents.writeInt(codepoints[1]);
+            }
+        } else {
+            contents.writeInt(0);
+        }
+
+        final int trieNodes = NCR_TRIE_NCRS.length;
+        contents.writeInt(trieNodes);
+        for (int node = 0; node < trieNodes; node++) {
+            final int childCount = NCR_TRIE_CHILDREN_START[node + 1] - NCR_TRIE_CHILDREN_START[node];
+            if (childCount > 0xFF) {
+                throw new IllegalStateException("Too many children for a node of the NCR trie: " + childCount);
+            }
+            contents.writeByte(childCount);
+        }
+        for (final char c : NCR_TRIE_CHILDREN_CHARS) {
+            // NCRs are pure ASCII
+            contents.writeByte(c);
+        }
+        final int[] ncrNodes = new int[SORTED_NCRS.length];
+        for (int node = 0; node < trieNodes; node++) {
+            if (NCR_TRIE_NCRS[node] != NO_TRIE_NCR) {
+                ncrNodes[NCR_TRIE_NCRS[node]] = node;
+            }
+        }
+        for (final int node : ncrNodes) {
+            contents.writeInt(node);
+        }
+
+        contents.flush();
+
+        final DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(SYMBOLS_RESOURCE_MAGIC);
+        output.writeInt(SYMBOLS_RESOURCE_VERSION);
+        output.writeInt(contentsStream.size());
+        contentsStream.writeTo(output);
+        output.flush();
+
+    }
+
+
+    private static void writeInts(final DataOutputStream output, final int[] values) throws IOException {
+        output.writeInt(values.length);
+        for (final int value : values) {
+            output.writeInt(value);
+        }
+    }
+
+
+
+
+    /*
+     * Returns the index at SORTED_NCRS of the NCR to be used for escaping a codepoint >= NCRS_BY_CODEPOINT_LEN
+     * (0x2fff), or NO_NCR if there is none.
+     */
+    short overflowNcr(final int codepoint) {
+        if (NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS == null) {
+            return NO_NCR;
+        }
+        final int mask = NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS.length - 1;
+        int pos = overflowHash(codepoint) & mask;
+        int cp;
+        while ((cp = NCRS_BY_CODEPOINT_OVERFLOW_CODEPOINTS[pos]) != 0) {
+            if (cp == codepoint) {
+                return NCRS_BY_CODEPOINT_OVERFLOW[pos];
+            }
+            pos = (pos + 1) & mask;
+        }
+        return NO_NCR;
+    }
+
+
+    /*
+     * Hash function for the overflow hash table: multiplicative hashing, so that the (mostly contiguous) codepoints
+     * are well spread over the table when masked.
+     */
+    private static int overflowHash(final int codepoint) {
+        final int h = codepoint * 0x9E3779B1;
+        return h ^ (h >>> 16);
     }
 
 
@@ -341,57 +864,12 @@ private static int positionInList(final List<char[]> list, final char[] element)
 
 
     /*
-     * These two methods (two versions: for String and for char[]) compare each of the candidate
-     * text fragments with an NCR coming from the SORTED_NCRs array, during binary search operations.
-     *
-     * Note these methods not only perform a normal comparison (returning -1, 0 or 1), but will also
-     * return a negative number < -10 when a partial match is possible, this is, when the specified text
-     * fragment contains a complete NCR at its first chars but contains more chars afterwards. This is
-     * useful for matching HTML5 NCRs which do not end in ; (like '&aacute'), which will come in bigger fragments
-     * because the unescape method will have no way of differentiating the chars after the NCR from chars that
-     * could be in fact part of the NCR. Also note that, in the case of a partial match, (-1) * (returnValue + 10)
-     * will specify the number of matched chars.
+     * This method compares two NCRs during the initial sorting of the SORTED_NCRS array.
      *
-     * Note we will willingly alter order so that ';' goes always first (even before no-char). This will allow
-     * proper functioning of the partial-matching mechanism for NCRs that can appear both with and without
-     * a ';' suffix.
+     * Note we will willingly alter order so that ';' goes always first (even before no-char), so that NCRs
+     * that can appear both with and without a ';' suffix are ordered consistently.
      */
 
-    private static int compare(final char[] ncr, final String text, final int start, final int end) {
-        final int textLen = end - start;
-        final int maxCommon = Math.min(ncr.length, textLen);
-        int i;
-        // char 0 is discarded, will be & in both cases
-        for (i = 1; i < maxCommon; i++) {
-            final char tc = text.charAt(start + i);
-            if (ncr[i] < tc) {
-                if (tc == ';') {
-                    return 1;
-                }
-                return -1;
-            } else if (ncr[i] > tc) {
-                if (ncr[i] == ';') {
-                    return -1;
-                }
-                return 1;
-            }
-        }
-        if (ncr.length > i) {
-            if (ncr[i] == ';') {
-                return -1;
-            }
-            return 1;
-        }
-        if (textLen > i) {
-            if (text.charAt(start + i) == ';') {
-                return 1;
-            }
-            // We have a partial match. Can be an NCR not finishing in a semicolon
-            return - ((textLen - i) + 10);
-        }
-        return 0;
-    }
-
     private static int compare(final char[] ncr, final char[] text, final int start, final int end) {
         final int textLen = end - start;
         final int maxCommon = Math.min(ncr.length, textLen);
@@ -430,97 +908,82 @@ private static int compare(final char[] ncr, final char[] text, final int start,
 
 
     /*
-     * These two methods (two versions: for String and for char[]) are used during unescape at the
-     * {@link HtmlEscapeUtil} class in order to quickly find the NCR corresponding to a preselected fragment
-     * of text (if there is such NCR).
+     * These two methods (two versions: for CharSequence and for char[]) are used during unescape at the
+     * {@link HtmlEscapeUtil} class in order to find the NCR starting at a specific position of the text (which
+     * should contain the '&' char), by walking the NCR trie. Each char is examined only once, and the index of
+     * the matched NCR at SORTED_NCRS is returned, or -1 if no NCR matches.
      *
-     * Note this operation supports partial matching (based on the above 'compare(...)' methods). That way,
-     * if an exact match is not found but a partial match exists, the partial match will be returned.
+     * The longest match is always returned. Only NCRs ending in ';' will be matched if followed by a ';', but
+     * (in order to support HTML5 NCRs which do not end in ;, like '&aacute') NCRs not ending in ';' will be
+     * matched if followed by any other char, even if they are just the first chars of a longer sequence of
+     * alphanumeric chars.
      */
 
-    static int binarySearch(final char[][] values,
-                            final String text, final int start, final int end) {
+    int matchNcr(final CharSequence text, final int start, final int end) {
 
-        int low = 0;
-        int high = values.length - 1;
+        int node = 0;
+        int match = -1;
 
-        int partialIndex = Integer.MIN_VALUE;
-        int partialValue = Integer.MIN_VALUE;
+        for (int i = start + 1; i < end; i++) {
 
-        while (low <= high) {
+            final char c = text.charAt(i);
 
-            final int mid = (low + high) >>> 1;
-            final char[] midVal = values[mid];
-
-            final int cmp = compare(midVal, text, start, end);
+            final int pos =
+                    Arrays.binarySearch(
+                            NCR_TRIE_CHILDREN_CHARS, NCR_TRIE_CHILDREN_START[node], NCR_TRIE_CHILDREN_START[node + 1], c);
+            if (pos < 0) {
+                break;
+            }
+            node = pos + 1;
 
-            if (cmp == -1) {
-                low = mid + 1;
-            } else if (cmp == 1) {
-                high = mid - 1;
-            } else if (cmp < -10) {
-                // Partial match
-                low = mid + 1;
-                if (partialIndex == Integer.MIN_VALUE || partialValue < cmp) {
-                    partialIndex = mid;
-                    partialValue = cmp; // partial will always be negative, and -10. We look for the smallest partial
+            final short ncr = NCR_TRIE_NCRS[node];
+            if (ncr != NO_TRIE_NCR) {
+                if (c == ';') {
+                    // ';' can only be the last char of an NCR, so this is a complete match
+                    return ncr;
+                }
+                if (i + 1 >= end || text.charAt(i + 1) != ';') {
+                    match = ncr;
                 }
-            } else {
-                // Found!!
-                return mid;
             }
 
         }
 
-        if (partialIndex != Integer.MIN_VALUE) {
-            // We have a partial result. We return the closest result index as negative + (-10)
-            return (-1) * (partialIndex + 10);
-        }
-
-        return Integer.MIN_VALUE; // Not found!
+        return match;
 
     }
 
-    static int binarySearch(final char[][] values,
-                            final char[] text, final int start, final int end) {
-
-        int low = 0;
-        int high = values.length - 1;
+    int matchNcr(final char[] text, final int start, final int end) {
 
-        int partialIndex = Integer.MIN_VALUE;
-        int partialValue = Integer.MIN_VALUE;
+        int node = 0;
+        int match = -1;
 
-        while (low <= high) {
+        for (int i = start + 1; i < end; i++) {
 
-            final int mid = (low + high) >>> 1;
-            final char[] midVal = values[mid];
+            final char c = text[i];
 
-            final int cmp = compare(midVal, text, start, end);
+            final int pos =
+                    Arrays.binarySearch(
+                            NCR_TRIE_CHILDREN_CHARS, NCR_TRIE_CHILDREN_START[node], NCR_TRIE_CHILDREN_START[node + 1], c);
+            if (pos < 0) {
+                break;
+            }
+            node = pos + 1;
 
-            if (cmp == -1) {
-                low = mid + 1;
-            } else if (cmp == 1) {
-                high = mid - 1;
-            } else if (cmp < -10) {
-                // Partial match
-                low = mid + 1;
-                if (partialIndex == Integer.MIN_VALUE || partialValue < cmp) {
-                    partialIndex = mid;
-                    partialValue = cmp; // partial will always be negative, and -10. We look for the smallest partial
+            final short ncr = NCR_TRIE_NCRS[node];
+            if (ncr != NO_TRIE_NCR) {
+                if (c == ';') {
+                    // ';' can only be the last char of an NCR, so this is a complete match
+                    return ncr;
+                }
+                if (i + 1 >= end || text[i + 1] != ';') {
+                    match = ncr;
                 }
-            } else {
-                // Found!!
-                return mid;
             }
 
         }
 
-        if (partialIndex != Integer.MIN_VALUE) {
-            // We have a partial result. We return the closest result index as negative + (-10)
-            return (-1) * (partialIndex + 10);
-        }
-
-        return Integer.MIN_VALUE; // Not found!
+        return match;
 
     }
 
@@ -49,6 +49,12 @@
  *         <em>Decimal Character References</em> (will never use NCRs).</li>
  *     <li><kbd><strong>HEXADECIMAL_REFERENCES</strong></kbd>: Replace escaped characters with
  *         <em>Hexadecimal Character References</em> (will never use NCRs).</li>
+ *     <li><kbd><strong>HTML4_SHORTEST_REFERENCES</strong></kbd>: Replace each escaped character with
+ *         whichever is shortest of its HTML 4 <em>Named Character References</em> (if any), its
+ *         <em>Decimal Character Reference</em> and its <em>Hexadecimal Character Reference</em>.</li>
+ *     <li><kbd><strong>HTML5_SHORTEST_REFERENCES</strong></kbd>: Replace each escaped character with
+ *         whichever is shortest of its HTML5 <em>Named Character References</em> (if any), its
+ *         <em>Decimal Character Reference</em> and its <em>Hexadecimal Character Reference</em>.</li>
  * </ul>
  *
  * <p>
@@ -66,42 +72,62 @@ public enum HtmlEscapeType {
     /**
      * Use HTML 4 NCRs if possible, default to Decimal Character References.
      */
-    HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL(true, false, false),
+    HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL(true, false, false, false),
 
     /**
      * Use HTML 4 NCRs if possible, default to Hexadecimal Character References.
      */
-    HTML4_NAMED_REFERENCES_DEFAULT_TO_HEXA(true, true, false),
+    HTML4_NAMED_REFERENCES_DEFAULT_TO_HEXA(true, true, false, false),
 
     /**
      * Use HTML5 NCRs if possible, default to Decimal Character References.
      */
-    HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL(true, false, true),
+    HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL(true, false, true, false),
 
     /**
      * Use HTML5 NCRs if possible, default to Hexadecimal Character References.
      */
-    HTML5_NAMED_REFERENCES_DEFAULT_TO_HEXA(true, true, true),
+    HTML5_NAMED_REFERENCES_DEFAULT_TO_HEXA(true, true, true, false),
 
     /**
      * Always use Decimal Character References (no NCRs will be used).
      */
-    DECIMAL_REFERENCES(false, false, false),
+    DECIMAL_REFERENCES(false, false, false, false),
 
     /**
      * Always use Hexadecimal Character References (no NCRs will be used).
      */
-    HEXADECIMAL_REFERENCES(false, true, false);
+    HEXADECIMAL_REFERENCES(false, true, false, false),
+
+    /**
+     * Use the shortest of the HTML 4 NCRs, the Decimal Character Reference and the Hexadecimal Character Reference
+     * for each character (NCRs preferred, then Decimal Character References, if lengths are equal).
+     *
+     * @since 1.1.7
+     */
+    HTML4_SHORTEST_REFERENCES(true, false, false, true),
+
+    /**
+     * Use the shortest of the HTML5 NCRs, the Decimal Character Reference and the Hexadecimal Character Reference
+     * for each character (NCRs preferred, then Decimal Character References, if lengths are equal). For example,
+     * <kbd>&amp;oint;</kbd> will be used instead of <kbd>&amp;conint;</kbd> for <kbd>U+222E</kbd>, and
+     * <kbd>&amp;#8755;</kbd> instead of <kbd>&amp;awconint;</kbd> for <kbd>U+2233</kbd>.
+     *
+     * @since 1.1.7
+     */
+    HTML5_SHORTEST_REFERENCES(true, false, true, true);
 
 
     private final boolean useNCRs;
     private final boolean useHexa;
     private final boolean useHtml5;
+    private final boolean useShortest;
 
-    HtmlEscapeType(final boolean useNCRs, final boolean useHexa, final boolean useHtml5) {
+    HtmlEscapeType(final boolean useNCRs, final boolean useHexa, final boolean useHtml5, final boolean useShortest) {
         this.useNCRs = useNCRs;
         this.useHexa = useHexa;
         this.useHtml5 = useHtml5;
+        this.useShortest = useShortest;
     }
 
     boolean getUseNCRs() {
@@ -115,5 +141,9 @@ boolean getUseHexa() {
     boolean getUseHtml5() {
         return this.useHtml5;
     }
+
+    boolean getUseShortest() {
+        return this.useShortest;
+    }
 }
 
@@ -20,8 +20,16 @@
 package org.unbescape.html;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
+import org.unbescape.EscapeScanner;
+import org.unbescape.InPlaceCharArrayWriter;
 
 /**
  * <p>
@@ -70,8 +78,6 @@ final class HtmlEscapeUtil {
     private static final char REFERENCE_NUMERIC_PREFIX2 = '#';
     private static final char REFERENCE_HEXA_PREFIX3_UPPER = 'X';
     private static final char REFERENCE_HEXA_PREFIX3_LOWER = 'x';
-    private static final char[] REFERENCE_DECIMAL_PREFIX = "&#".toCharArray();
-    private static final char[] REFERENCE_HEXA_PREFIX = "&#x".toCharArray();
     private static final char REFERENCE_SUFFIX = ';';
 
     /*
@@ -80,6 +86,33 @@ final class HtmlEscapeUtil {
     private static char[] HEXA_CHARS_UPPER = "0123456789ABCDEF".toCharArray();
     private static char[] HEXA_CHARS_LOWER = "0123456789abcdef".toCharArray();
 
+    /*
+     * Size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
+
+    /*
+     * Scanner used for quickly discarding texts that do not contain any references at all, and therefore
+     * never need unescaping
+     */
+    private static final EscapeScanner UNESCAPE_SCANNER =
+            EscapeScanner.forCandidateRanges(new char[] { REFERENCE_PREFIX, REFERENCE_PREFIX });
+
+    /*
+     * Maximum length of a numeric reference in chars ('&#x' + 6 hexa / '&#' + 7 decimal + ';'), used for sizing
+     * the buffers in which numeric references are written without creating any intermediate objects.
+     */
+    static final int REFERENCE_MAX_CHARS = 10;
+
+    /*
+     * Codepoint used for replacing malformed input in UTF-8 byte-based escape operations (U+FFFD REPLACEMENT
+     * CHARACTER), its UTF-8 encoding (written when non-ASCII chars are not escaped), and maximum length of a
+     * numeric reference in bytes ('&#x' + 6 hexa / '&#' + 7 decimal + ';').
+     */
+    private static final int UTF8_REPLACEMENT_CODEPOINT = 0xFFFD;
+    private static final byte[] UTF8_REPLACEMENT_BYTES = new byte[] { (byte) 0xEF, (byte) 0xBF, (byte) 0xBD };
+    private static final int REFERENCE_MAX_BYTES = 10;
+
 
 
 
@@ -92,48 +125,110 @@ private HtmlEscapeUtil() {
 
 
     /*
-     * Perform an escape operation, based on String, according to the specified level and type.
+     * Perform an escape operation, based on CharSequence, according to the specified level and type.
      */
-    static String escape(final String text, final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel) {
+    static String escape(final CharSequence text, final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel) {
 
         if (text == null) {
             return null;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useHtml5 = escapeType.getUseHtml5();
-        final boolean useNCRs = escapeType.getUseNCRs();
-        final boolean useHexa = escapeType.getUseHexa();
+        final StringBuilder strBuilder = escape(text, null, escapeType, escapeLevel);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, according to the specified level and type, appending the
+     * result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output,
+                                final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel) {
+        return escape(text, output, HtmlEscaper.forTypeAndLevel(escapeType, escapeLevel));
+    }
+
 
-        final HtmlEscapeSymbols symbols =
-                (useHtml5? HtmlEscapeSymbols.HTML5_SYMBOLS : HtmlEscapeSymbols.HTML4_SYMBOLS);
 
-        StringBuilder strBuilder = null;
+
+    /*
+     * Perform an escape operation, based on CharSequence, by means of the specified (pre-compiled) escaper,
+     * appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output, final HtmlEscaper escaper) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.HTML, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeCharSequence(text, output, escaper);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeCharSequence(text, null, escaper);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                    final HtmlEscaper escaper) {
+
+        if (text == null) {
+            return output;
+        }
+
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
 
         int readOffset = offset;
 
-        for (int i = offset; i < max; i++) {
+        final EscapeScanner scanner = escaper.SCANNER;
 
-            final char c = text.charAt(i);
+        // Only created if a numeric reference is actually needed
+        char[] referenceBuffer = null;
 
+        for (int i = offset; i < max; i++) {
 
             /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
+             * Shortcut: skip at once (if the platform allows doing it fast) all chars that can never need escaping
              */
-            if (c <= HtmlEscapeSymbols.MAX_ASCII_CHAR && level < symbols.ESCAPE_LEVELS[c]) {
-                continue;
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
             }
 
+            final char c = text.charAt(i);
+
 
             /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
+             * Shortcut: most characters will be ASCII/Latin-1, for which we already know whether (and how)
+             * they need escaping. Above those, all chars need the same.
              */
-            if (c > HtmlEscapeSymbols.MAX_ASCII_CHAR
-                    && level < symbols.ESCAPE_LEVELS[HtmlEscapeSymbols.MAX_ASCII_CHAR + 1]) {
+            if (c < HtmlEscaper.REPLACEMENTS_LEN) {
+                if (replacements[c] == null) {
+                    continue;
+                }
+            } else if (!escapeAboveReplacements) {
                 continue;
             }
 
@@ -167,71 +262,147 @@ static String escape(final String text, final HtmlEscapeType escapeType, final H
 
 
             /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of NCR, DCR and HCR needs.
-             *
-             * -----------------------------------------------------------------------------------------
+             * Perform the real escape: precomputed for the most common chars, computed for the rest (NCR if
+             * allowed and one exists, or a numeric reference written directly without creating any objects).
              */
-
-            if (useNCRs) {
-                // We will try to use an NCR
-
-                if (codepoint < symbols.NCRS_BY_CODEPOINT_LEN) {
-                    // codepoint < 0x2fff - all HTML4, most HTML5
-
-                    final short ncrIndex = symbols.NCRS_BY_CODEPOINT[codepoint];
-                    if (ncrIndex != symbols.NO_NCR) {
-                        // There is an NCR for this codepoint!
-                        strBuilder.append(symbols.SORTED_NCRS[ncrIndex]);
-                        continue;
-                    } // else, just let it exit the block and let decimal/hexa escape do its job
-
-                } else if (symbols.NCRS_BY_CODEPOINT_OVERFLOW != null) {
-                    // codepoint >= 0x2fff. NCR, if exists, will live at the overflow map (if there is one).
-
-                    final Short ncrIndex = symbols.NCRS_BY_CODEPOINT_OVERFLOW.get(Integer.valueOf(codepoint));
-                    if (ncrIndex != null) {
-                        strBuilder.append(symbols.SORTED_NCRS[ncrIndex.shortValue()]);
-                        continue;
-                    } // else, just let it exit the block and let decimal/hexa escape do its job
-
-                }
-
+            if (c < HtmlEscaper.REPLACEMENTS_LEN) {
+                strBuilder.append(replacements[c]);
+                continue;
             }
 
-            /*
-             * No NCR-escape was possible (or allowed), so we need decimal/hexa escape.
-             */
+            final char[] ncr = escaper.computeNcrReplacement(codepoint);
+            if (ncr != null) {
+                strBuilder.append(ncr);
+                continue;
+            }
 
-            if (useHexa) {
-                strBuilder.append(REFERENCE_HEXA_PREFIX);
-                strBuilder.append(Integer.toHexString(codepoint));
-            } else {
-                strBuilder.append(REFERENCE_DECIMAL_PREFIX);
-                strBuilder.append(String.valueOf(codepoint));
+            if (referenceBuffer == null) {
+                referenceBuffer = new char[REFERENCE_MAX_CHARS];
             }
-            strBuilder.append(REFERENCE_SUFFIX);
+            final int referenceLen = writeNumericReference(referenceBuffer, codepoint, escaper.useHexa(codepoint));
+            strBuilder.append(referenceBuffer, 0, referenceLen);
 
         }
 
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: return null if no escape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining unescaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
+
+    }
+
+
+
+
+
+    /*
+     * Find the first position in a CharSequence at which an escape operation performed by the specified
+     * (pre-compiled) escaper would modify it, or -1 if escaping would leave it unmodified. Chars are examined
+     * exactly as in escapeCharSequence(...), but nothing is ever allocated.
+     */
+    static int indexOfFirstEscapable(final CharSequence text, final HtmlEscaper escaper) {
+
+        if (text == null) {
+            return -1;
+        }
+
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+
+        final int max = text.length();
+
+        final EscapeScanner scanner = escaper.SCANNER;
+
+        for (int i = 0; i < max; i++) {
+
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
+
+            final char c = text.charAt(i);
+
+            if (c < HtmlEscaper.REPLACEMENTS_LEN? replacements[c] != null : escapeAboveReplacements) {
+                return i;
+            }
+
+        }
+
+        return -1;
+
+    }
+
+
+
+
+
+    /*
+     * Compute the exact length of the result of an escape operation performed on a CharSequence by the specified
+     * (pre-compiled) escaper, without actually escaping anything. Chars are examined exactly as in
+     * escapeCharSequence(...), so that buffers can be sized once before escaping into them.
+     */
+    static long escapedLength(final CharSequence text, final HtmlEscaper escaper) {
+
+        if (text == null) {
+            return 0L;
+        }
+
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+
+        final int max = text.length();
+
+        final EscapeScanner scanner = escaper.SCANNER;
+
+        long length = max;
+
+        for (int i = 0; i < max; i++) {
+
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
+
+            final char c = text.charAt(i);
+
+            if (c < HtmlEscaper.REPLACEMENTS_LEN) {
+                if (replacements[c] != null) {
+                    length += replacements[c].length - 1;
+                }
+                continue;
+            }
+
+            if (!escapeAboveReplacements) {
+                continue;
+            }
+
+            final int codepoint = Character.codePointAt(text, i);
+            final int charCount = Character.charCount(codepoint);
+
+            final char[] ncr = escaper.computeNcrReplacement(codepoint);
+            final int referenceLen =
+                    (ncr != null? ncr.length : numericReferenceLength(codepoint, escaper.useHexa(codepoint)));
+            length += referenceLen - charCount;
+
+            // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+            i += (charCount - 1);
+
+        }
+
+        return length;
 
     }
 
@@ -242,52 +413,127 @@ static String escape(final String text, final HtmlEscapeType escapeType, final H
     /*
      * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
      * result to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
      */
     static void escape(
             final Reader reader, final Writer writer, final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel)
             throws IOException {
+        escape(reader, writer, HtmlEscaper.forTypeAndLevel(escapeType, escapeLevel));
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on a Reader, by means of the specified (pre-compiled) escaper and writing
+     * the result to a Writer.
+     *
+     * The reader is read in chunks, each of which is escaped by means of the char[]-based method. A high surrogate
+     * found at the end of a chunk is kept for the next one, so that surrogate pairs are never split.
+     */
+    static void escape(final Reader reader, final Writer writer, final HtmlEscaper escaper)
+            throws IOException {
 
         if (reader == null) {
             return;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useHtml5 = escapeType.getUseHtml5();
-        final boolean useNCRs = escapeType.getUseNCRs();
-        final boolean useHexa = escapeType.getUseHexa();
+        final char[] buffer = new char[READER_BUFFER_SIZE];
 
-        final HtmlEscapeSymbols symbols =
-                (useHtml5? HtmlEscapeSymbols.HTML5_SYMBOLS : HtmlEscapeSymbols.HTML4_SYMBOLS);
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
+
+        int bufferSize = read;
+
+        while (bufferSize > 0 || read >= 0) {
+
+            int n = bufferSize;
+            if (read >= 0 && Character.isHighSurrogate(buffer[n - 1])) {
+                n--;
+            }
+
+            if (n > 0) {
+
+                escape(buffer, 0, n, writer, escaper);
+
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
+
+            }
+
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
+
+        }
+
+    }
+
+
+
+
+
+    /*
+     * Perform an escape operation, based on char[], according to the specified level and type.
+     */
+    static void escape(final char[] text, final int offset, final int len, final Writer writer,
+                       final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel)
+                       throws IOException {
+        escape(text, offset, len, writer, HtmlEscaper.forTypeAndLevel(escapeType, escapeLevel));
+    }
 
-        int c1, c2; // c1: current char, c2: next char
 
-        c2 = reader.read();
 
-        while (c2 >= 0) {
 
-            c1 = c2;
-            c2 = reader.read();
+    /*
+     * Perform an escape operation, based on char[], by means of the specified (pre-compiled) escaper.
+     */
+    static void escape(final char[] text, final int offset, final int len, final Writer writer,
+                       final HtmlEscaper escaper)
+                       throws IOException {
+
+        if (text == null || text.length == 0) {
+            return;
+        }
 
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+
+        final int max = (offset + len);
+
+        int readOffset = offset;
+
+        final EscapeScanner scanner = escaper.SCANNER;
+
+        // Only created if a numeric reference is actually needed
+        char[] referenceBuffer = null;
+
+        for (int i = offset; i < max; i++) {
 
             /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
+             * Shortcut: skip at once (if the platform allows doing it fast) all chars that can never need escaping
              */
-            if (c1 <= HtmlEscapeSymbols.MAX_ASCII_CHAR && level < symbols.ESCAPE_LEVELS[c1]) {
-                writer.write(c1);
-                continue;
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
             }
 
+            final char c = text[i];
+
 
             /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
+             * Shortcut: most characters will be ASCII/Latin-1, for which we already know whether (and how)
+             * they need escaping. Above those, all chars need the same.
              */
-            if (c1 > HtmlEscapeSymbols.MAX_ASCII_CHAR
-                    && level < symbols.ESCAPE_LEVELS[HtmlEscapeSymbols.MAX_ASCII_CHAR + 1]) {
-                writer.write(c1);
+            if (c < HtmlEscaper.REPLACEMENTS_LEN) {
+                if (replacements[c] == null) {
+                    continue;
+                }
+            } else if (!escapeAboveReplacements) {
                 continue;
             }
 
@@ -295,204 +541,530 @@ static void escape(
             /*
              * Compute the codepoint. This will be used instead of the char for the rest of the process.
              */
-            final int codepoint = codePointAt((char)c1, (char)c2);
+            final int codepoint = Character.codePointAt(text, i, max);
 
 
             /*
-             * We know we need to escape, so from here on we will only work with the codepoint -- we can advance
-             * the chars.
+             * At this point we know for sure we will need some kind of escape, so we
+             * can write all the contents pending up to this point.
              */
 
+            if (i - readOffset > 0) {
+                writer.write(text, readOffset, (i - readOffset));
+            }
+
             if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually reading two char positions with a single codepoint.
-                c1 = c2;
-                c2 = reader.read();
+                // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
+                i++;
             }
 
+            readOffset = i + 1;
+
 
             /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of NCR, DCR and HCR needs.
-             *
-             * -----------------------------------------------------------------------------------------
+             * Perform the real escape: precomputed for the most common chars, computed for the rest (NCR if
+             * allowed and one exists, or a numeric reference written directly without creating any objects).
              */
+            if (c < HtmlEscaper.REPLACEMENTS_LEN) {
+                writer.write(replacements[c]);
+                continue;
+            }
 
-            if (useNCRs) {
-                // We will try to use an NCR
+            final char[] ncr = escaper.computeNcrReplacement(codepoint);
+            if (ncr != null) {
+                writer.write(ncr);
+                continue;
+            }
 
-                if (codepoint < symbols.NCRS_BY_CODEPOINT_LEN) {
-                    // codepoint < 0x2fff - all HTML4, most HTML5
+            if (referenceBuffer == null) {
+                referenceBuffer = new char[REFERENCE_MAX_CHARS];
+            }
+            final int referenceLen = writeNumericReference(referenceBuffer, codepoint, escaper.useHexa(codepoint));
+            writer.write(referenceBuffer, 0, referenceLen);
 
-                    final short ncrIndex = symbols.NCRS_BY_CODEPOINT[codepoint];
-                    if (ncrIndex != symbols.NO_NCR) {
-                        // There is an NCR for this codepoint!
-                        writer.write(symbols.SORTED_NCRS[ncrIndex]);
-                        continue;
-                    } // else, just let it exit the block and let decimal/hexa escape do its job
+        }
 
-                } else if (symbols.NCRS_BY_CODEPOINT_OVERFLOW != null) {
-                    // codepoint >= 0x2fff. NCR, if exists, will live at the overflow map (if there is one).
 
-                    final Short ncrIndex = symbols.NCRS_BY_CODEPOINT_OVERFLOW.get(Integer.valueOf(codepoint));
-                    if (ncrIndex != null) {
-                        writer.write(symbols.SORTED_NCRS[ncrIndex.shortValue()]);
-                        continue;
-                    } // else, just let it exit the block and let decimal/hexa escape do its job
+        /*
+         * -----------------------------------------------------------------------------------------------
+         * Final cleaning: append the remaining unescaped text to the writer and return.
+         * -----------------------------------------------------------------------------------------------
+         */
+
+        if (max - readOffset > 0) {
+            writer.write(text, readOffset, (max - readOffset));
+        }
+
+    }
+
+
+
+
+
+    /*
+     * Perform an escape operation, based on UTF-8 encoded byte[], according to the specified level and type and
+     * writing the (also UTF-8 encoded) result to an OutputStream.
+     */
+    static void escapeUtf8(final byte[] text, final int offset, final int len, final OutputStream outputStream,
+                           final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel)
+                           throws IOException {
+
+        if (text == null || text.length == 0) {
+            return;
+        }
+
+        escapeUtf8(text, offset, len, outputStream, escapeType, escapeLevel, true);
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on a UTF-8 encoded ByteBuffer, according to the specified level and type
+     * and writing the (also UTF-8 encoded) result to an OutputStream. The position of the input buffer will be
+     * advanced up to its limit.
+     *
+     * Buffers backed by an array are escaped directly on that array. Any other (e.g. direct) buffers are read in
+     * chunks, each of which is escaped by means of the byte[]-based method. A multi-byte UTF-8 sequence found
+     * incomplete at the end of a chunk is kept for the next one, so that sequences are never split.
+     */
+    static void escapeUtf8(final ByteBuffer text, final OutputStream outputStream,
+                           final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel)
+                           throws IOException {
+
+        if (text == null) {
+            return;
+        }
+
+        if (text.hasArray()) {
+            escapeUtf8(
+                    text.array(), (text.arrayOffset() + text.position()), text.remaining(), outputStream,
+                    escapeType, escapeLevel, true);
+            text.position(text.limit());
+            return;
+        }
+
+        final byte[] buffer = new byte[READER_BUFFER_SIZE];
+        int bufferSize = 0;
+
+        while (text.hasRemaining()) {
+
+            final int read = Math.min(text.remaining(), (buffer.length - bufferSize));
+            text.get(buffer, bufferSize, read);
+            bufferSize += read;
+
+            final int consumed =
+                    escapeUtf8(buffer, 0, bufferSize, outputStream, escapeType, escapeLevel, !text.hasRemaining());
+
+            System.arraycopy(buffer, consumed, buffer, 0, (bufferSize - consumed));
+            bufferSize -= consumed;
+
+        }
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on UTF-8 encoded byte[], according to the specified level and type.
+     *
+     * Bytes not needing escape are copied verbatim to the output. Malformed UTF-8 sequences are always replaced
+     * by U+FFFD (REPLACEMENT CHARACTER), one for each maximal ill-formed subpart, in the same way a UTF-8 decoder
+     * would do: by its escape if non-ASCII chars are escaped at the specified level, by its UTF-8 encoding if not.
+     * This way results are the same at every level as decoding the input into a String, escaping it and encoding
+     * the result, and output is always well-formed UTF-8.
+     *
+     * If this is not the end of the input (endOfInput == false), a multi-byte sequence found incomplete at the end
+     * of the specified range will not be processed. Returns the position up to which the input has been consumed.
+     */
+    private static int escapeUtf8(final byte[] text, final int offset, final int len, final OutputStream outputStream,
+                                  final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel,
+                                  final boolean endOfInput)
+                                  throws IOException {
+
+        final int level = escapeLevel.getEscapeLevel();
+
+        // The escaper is only used for selecting the reference to be written for each escaped codepoint
+        final HtmlEscaper escaper = HtmlEscaper.forTypeAndLevel(escapeType, escapeLevel);
+        final HtmlEscapeSymbols symbols = escaper.SYMBOLS;
+
+        final int max = (offset + len);
+
+        int readOffset = offset;
+
+        // Will only be created if some decimal/hexa reference actually needs to be written
+        byte[] referenceBuffer = null;
+
+        for (int i = offset; i < max; i++) {
+
+            final int b0 = (text[i] & 0xFF);
+
+
+            /*
+             * Shortcut: most bytes will be ASCII/Alphanumeric, and we won't need to do anything at
+             * all for them
+             */
+            if (b0 <= symbols.MAX_ASCII_CHAR && level < symbols.ESCAPE_LEVELS[b0]) {
+                continue;
+            }
+
 
+            /*
+             * Compute the codepoint (and the number of bytes it occupies). This will be used instead of the byte for
+             * the rest of the process.
+             */
+            final int codepoint;
+            final int sequenceLen;
+            if (b0 <= symbols.MAX_ASCII_CHAR) {
+                codepoint = b0;
+                sequenceLen = 1;
+            } else {
+                final int utf8Len = utf8SequenceLength(text, i, max, endOfInput);
+                if (utf8Len == 0) {
+                    // Incomplete sequence at the end of a chunk: leave it for the next one
+                    if (i - readOffset > 0) {
+                        outputStream.write(text, readOffset, (i - readOffset));
+                    }
+                    return i;
                 }
+                if (utf8Len > 0 && level < symbols.ESCAPE_LEVELS[symbols.MAX_ASCII_CHAR + 1]) {
+                    /*
+                     * Shortcut: we might not want to escape non-ASCII chars at all. Well-formed multi-byte
+                     * sequences can then be copied without decoding them (only malformed ones need replacement).
+                     */
+                    i += (utf8Len - 1);
+                    continue;
+                }
+                if (utf8Len < 0) {
+                    codepoint = UTF8_REPLACEMENT_CODEPOINT;
+                    sequenceLen = -utf8Len;
+                } else {
+                    codepoint = utf8Codepoint(text, i, utf8Len);
+                    sequenceLen = utf8Len;
+                }
+            }
+
+
+            /*
+             * At this point we know for sure we will need some kind of escape, so we
+             * can write all the contents pending up to this point.
+             */
+
+            if (i - readOffset > 0) {
+                outputStream.write(text, readOffset, (i - readOffset));
+            }
+
+            // This is to compensate that we are actually escaping several byte[] positions with a single codepoint.
+            i += (sequenceLen - 1);
+
+            readOffset = i + 1;
+
+
+            /*
+             * A malformed sequence reaching this point when non-ASCII chars are not escaped is replaced by the
+             * UTF-8 encoding of the replacement character, not by its escape.
+             */
+            if (codepoint > symbols.MAX_ASCII_CHAR && level < symbols.ESCAPE_LEVELS[symbols.MAX_ASCII_CHAR + 1]) {
+                outputStream.write(UTF8_REPLACEMENT_BYTES);
+                continue;
+            }
 
+
+            /*
+             * -----------------------------------------------------------------------------------------
+             *
+             * Perform the real escape, attending the different combinations of NCR, DCR and HCR needs.
+             *
+             * -----------------------------------------------------------------------------------------
+             */
+
+            final short ncrIndex = escaper.computeNcrIndex(codepoint);
+            if (ncrIndex != HtmlEscapeSymbols.NO_NCR) {
+                // There is an NCR for this codepoint!
+                outputStream.write(symbols.SORTED_NCRS_BYTES[ncrIndex]);
+                continue;
             }
 
             /*
              * No NCR-escape was possible (or allowed), so we need decimal/hexa escape.
              */
 
-            if (useHexa) {
-                writer.write(REFERENCE_HEXA_PREFIX);
-                writer.write(Integer.toHexString(codepoint));
-            } else {
-                writer.write(REFERENCE_DECIMAL_PREFIX);
-                writer.write(String.valueOf(codepoint));
+            if (referenceBuffer == null) {
+                referenceBuffer = new byte[REFERENCE_MAX_BYTES];
             }
-            writer.write(REFERENCE_SUFFIX);
+            final int referenceLen = writeNumericReference(referenceBuffer, codepoint, escaper.useHexa(codepoint));
+            outputStream.write(referenceBuffer, 0, referenceLen);
 
         }
 
-    }
 
+        /*
+         * -----------------------------------------------------------------------------------------------
+         * Final cleaning: append the remaining unescaped bytes to the output stream and return.
+         * -----------------------------------------------------------------------------------------------
+         */
+
+        if (max - readOffset > 0) {
+            outputStream.write(text, readOffset, (max - readOffset));
+        }
+
+        return max;
+
+    }
 
 
 
 
     /*
-     * Perform an escape operation, based on char[], according to the specified level and type.
+     * Compute the exact number of bytes that an escape operation performed on a UTF-8 byte[] input would
+     * output, without actually escaping anything. Bytes and sequences are examined exactly as in
+     * escapeUtf8(...), so that output ByteBuffers can be sized once before escaping into them.
      */
-    static void escape(final char[] text, final int offset, final int len, final Writer writer,
-                       final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel)
-                       throws IOException {
-
-        if (text == null || text.length == 0) {
-            return;
-        }
+    static long escapedLengthUtf8(final byte[] text, final int offset, final int len,
+                                  final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel) {
 
         final int level = escapeLevel.getEscapeLevel();
-        final boolean useHtml5 = escapeType.getUseHtml5();
-        final boolean useNCRs = escapeType.getUseNCRs();
-        final boolean useHexa = escapeType.getUseHexa();
 
-        final HtmlEscapeSymbols symbols =
-                (useHtml5? HtmlEscapeSymbols.HTML5_SYMBOLS : HtmlEscapeSymbols.HTML4_SYMBOLS);
+        final HtmlEscaper escaper = HtmlEscaper.forTypeAndLevel(escapeType, escapeLevel);
+        final HtmlEscapeSymbols symbols = escaper.SYMBOLS;
 
         final int max = (offset + len);
 
-        int readOffset = offset;
+        long length = len;
 
         for (int i = offset; i < max; i++) {
 
-            final char c = text[i];
+            final int b0 = (text[i] & 0xFF);
+
+            if (b0 <= symbols.MAX_ASCII_CHAR && level < symbols.ESCAPE_LEVELS[b0]) {
+                continue;
+            }
+
+            final int codepoint;
+            final int sequenceLen;
+            if (b0 <= symbols.MAX_ASCII_CHAR) {
+                codepoint = b0;
+                sequenceLen = 1;
+            } else {
+                final int utf8Len = utf8SequenceLength(text, i, max, true);
+                if (utf8Len > 0 && level < symbols.ESCAPE_LEVELS[symbols.MAX_ASCII_CHAR + 1]) {
+                    i += (utf8Len - 1);
+                    continue;
+                }
+                if (utf8Len < 0) {
+                    codepoint = UTF8_REPLACEMENT_CODEPOINT;
+                    sequenceLen = -utf8Len;
+                } else {
+                    codepoint = utf8Codepoint(text, i, utf8Len);
+                    sequenceLen = utf8Len;
+                }
+            }
+
+            // This is to compensate that we are actually reading several byte[] positions with a single codepoint.
+            i += (sequenceLen - 1);
+
+            if (codepoint > symbols.MAX_ASCII_CHAR && level < symbols.ESCAPE_LEVELS[symbols.MAX_ASCII_CHAR + 1]) {
+                // Malformed sequence, replaced by the UTF-8 encoding of the replacement character
+                length += UTF8_REPLACEMENT_BYTES.length - sequenceLen;
+                continue;
+            }
+
+            final short ncrIndex = escaper.computeNcrIndex(codepoint);
+
+            // Both NCRs and numeric references are pure ASCII, so their length in bytes equals their length in chars
+            final int referenceLen =
+                    (ncrIndex != HtmlEscapeSymbols.NO_NCR?
+                            symbols.SORTED_NCRS_BYTES[ncrIndex].length :
+                            numericReferenceLength(codepoint, escaper.useHexa(codepoint)));
+            length += referenceLen - sequenceLen;
 
+        }
+
+        return length;
+
+    }
+
+
+
+
+    /*
+     * Same as the above, but for a UTF-8 encoded ByteBuffer, from its position to its limit. The position of the
+     * buffer is not modified. Buffers not backed by an array (e.g. direct buffers) are copied first, as sizing
+     * operations are performed once per buffer and do not need to avoid that.
+     */
+    static long escapedLengthUtf8(final ByteBuffer text,
+                                  final HtmlEscapeType escapeType, final HtmlEscapeLevel escapeLevel) {
+
+        if (text == null) {
+            return 0L;
+        }
+
+        if (text.hasArray()) {
+            return escapedLengthUtf8(
+                    text.array(), (text.arrayOffset() + text.position()), text.remaining(), escapeType, escapeLevel);
+        }
+
+        final byte[] bytes = new byte[text.remaining()];
+        text.duplicate().get(bytes);
+        return escapedLengthUtf8(bytes, 0, bytes.length, escapeType, escapeLevel);
+
+    }
+
+
+
+
+    /*
+     * Compute the length of the UTF-8 sequence starting at the specified position, according to the table of
+     * well-formed UTF-8 byte sequences in the Unicode Standard (chapter 3.9). If the sequence is ill-formed, the
+     * length of its maximal subpart is returned as a negative number. If the sequence is incomplete because the
+     * range ends before it does, 0 is returned unless this is the end of the input (in which case it is ill-formed).
+     *
+     * Note that, the same as the JDK's UTF-8 decoder does, encoded surrogates (ED A0..BF xx) are considered a
+     * single ill-formed sequence of three bytes, so that results are the same as when decoding into a String.
+     */
+    private static int utf8SequenceLength(final byte[] text, final int i, final int max, final boolean endOfInput) {
+
+        final int b0 = (text[i] & 0xFF);
+
+        final int sequenceLen;
+        int min = 0x80;
+        int top = 0xBF;
+        if (b0 >= 0xC2 && b0 <= 0xDF) {
+            sequenceLen = 2;
+        } else if (b0 >= 0xE0 && b0 <= 0xEF) {
+            sequenceLen = 3;
+            if (b0 == 0xE0) {
+                min = 0xA0;     // Avoid overlong forms
+            }
+        } else if (b0 >= 0xF0 && b0 <= 0xF4) {
+            sequenceLen = 4;
+            if (b0 == 0xF0) {
+                min = 0x90;     // Avoid overlong forms
+            } else if (b0 == 0xF4) {
+                top = 0x8F;     // Avoid codepoints > U+10FFFF
+            }
+        } else {
+            return -1;
+        }
 
-            /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
-             */
-            if (c <= symbols.MAX_ASCII_CHAR && level < symbols.ESCAPE_LEVELS[c]) {
-                continue;
+        for (int j = 1; j < sequenceLen; j++) {
+            if (i + j >= max) {
+                return (endOfInput? -j : 0);
             }
+            final int b = (text[i + j] & 0xFF);
+            if (b < min || b > top) {
+                return -j;
+            }
+            min = 0x80;
+            top = 0xBF;
+        }
 
+        if (b0 == 0xED && (text[i + 1] & 0xFF) > 0x9F) {
+            // Encoded surrogate: well-formed structure, but not a valid codepoint
+            return -sequenceLen;
+        }
 
-            /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
-             */
-            if (c > symbols.MAX_ASCII_CHAR && level < symbols.ESCAPE_LEVELS[symbols.MAX_ASCII_CHAR + 1]) {
-                continue;
-            }
+        return sequenceLen;
 
+    }
 
-            /*
-             * Compute the codepoint. This will be used instead of the char for the rest of the process.
-             */
-            final int codepoint = Character.codePointAt(text, i);
 
+    /*
+     * Decode the codepoint of an (already validated) UTF-8 sequence of the specified length.
+     */
+    private static int utf8Codepoint(final byte[] text, final int i, final int sequenceLen) {
+        switch (sequenceLen) {
+            case 2:
+                return ((text[i] & 0x1F) << 6) | (text[i + 1] & 0x3F);
+            case 3:
+                return ((text[i] & 0x0F) << 12) | ((text[i + 1] & 0x3F) << 6) | (text[i + 2] & 0x3F);
+            default:
+                return ((text[i] & 0x07) << 18) | ((text[i + 1] & 0x3F) << 12)
+                        | ((text[i + 2] & 0x3F) << 6) | (text[i + 3] & 0x3F);
+        }
+    }
 
-            /*
-             * At this point we know for sure we will need some kind of escape, so we
-             * can write all the contents pending up to this point.
-             */
 
-            if (i - readOffset > 0) {
-                writer.write(text, readOffset, (i - readOffset));
-            }
+    /*
+     * Write a decimal or hexadecimal reference for the specified codepoint into the buffer, returning its length.
+     * Hexadecimal digits are lower-case, the same as in the String- and char[]-based operations.
+     */
+    private static int writeNumericReference(final byte[] buffer, final int codepoint, final boolean useHexa) {
 
-            if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
-                i++;
-            }
+        int pos = 0;
+        buffer[pos++] = (byte) REFERENCE_PREFIX;
+        buffer[pos++] = (byte) REFERENCE_NUMERIC_PREFIX2;
+        if (useHexa) {
+            buffer[pos++] = (byte) REFERENCE_HEXA_PREFIX3_LOWER;
+        }
 
-            readOffset = i + 1;
+        final int radix = (useHexa? 16 : 10);
+        int digits = 1;
+        for (int cp = codepoint / radix; cp > 0; cp /= radix) {
+            digits++;
+        }
 
+        int cp = codepoint;
+        for (int j = pos + digits - 1; j >= pos; j--) {
+            buffer[j] = (byte) HEXA_CHARS_LOWER[cp % radix];
+            cp /= radix;
+        }
+        pos += digits;
 
-            /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of NCR, DCR and HCR needs.
-             *
-             * -----------------------------------------------------------------------------------------
-             */
+        buffer[pos++] = (byte) REFERENCE_SUFFIX;
+        return pos;
 
-            if (useNCRs) {
-                // We will try to use an NCR
+    }
 
-                if (codepoint < symbols.NCRS_BY_CODEPOINT_LEN) {
-                    // codepoint < 0x2fff - all HTML4, most HTML5
 
-                    final short ncrIndex = symbols.NCRS_BY_CODEPOINT[codepoint];
-                    if (ncrIndex != symbols.NO_NCR) {
-                        // There is an NCR for this codepoint!
-                        writer.write(symbols.SORTED_NCRS[ncrIndex]);
-                        continue;
-                    } // else, just let it exit the block and let decimal/hexa escape do its job
+    /*
+     * Same as the above, but writing into a char[] buffer (for the String-, char[]- and Reader-based operations).
+     */
+    static int writeNumericReference(final char[] buffer, final int codepoint, final boolean useHexa) {
 
-                } else if (symbols.NCRS_BY_CODEPOINT_OVERFLOW != null) {
-                    // codepoint >= 0x2fff. NCR, if exists, will live at the overflow map (if there is one).
+        int pos = 0;
+        buffer[pos++] = REFERENCE_PREFIX;
+        buffer[pos++] = REFERENCE_NUMERIC_PREFIX2;
+        if (useHexa) {
+            buffer[pos++] = REFERENCE_HEXA_PREFIX3_LOWER;
+        }
 
-                    final Short ncrIndex = symbols.NCRS_BY_CODEPOINT_OVERFLOW.get(Integer.valueOf(codepoint));
-                    if (ncrIndex != null) {
-                        writer.write(symbols.SORTED_NCRS[ncrIndex.shortValue()]);
-                        continue;
-                    } // else, just let it exit the block and let decimal/hexa escape do its job
+        final int radix = (useHexa? 16 : 10);
+        int digits = 1;
+        for (int cp = codepoint / radix; cp > 0; cp /= radix) {
+            digits++;
+        }
 
-                }
+        int cp = codepoint;
+        for (int j = pos + digits - 1; j >= pos; j--) {
+            buffer[j] = HEXA_CHARS_LOWER[cp % radix];
+            cp /= radix;
+        }
+        pos += digits;
 
-            }
+        buffer[pos++] = REFERENCE_SUFFIX;
+        return pos;
 
-            /*
-             * No NCR-escape was possible (or allowed), so we need decimal/hexa escape.
-             */
+    }
 
-            if (useHexa) {
-                writer.write(REFERENCE_HEXA_PREFIX);
-                writer.write(Integer.toHexString(codepoint));
-            } else {
-                writer.write(REFERENCE_DECIMAL_PREFIX);
-                writer.write(String.valueOf(codepoint));
-            }
-            writer.write(REFERENCE_SUFFIX);
 
-        }
 
 
-        /*
-         * -----------------------------------------------------------------------------------------------
-         * Final cleaning: append the remaining unescaped text to the writer and return.
-         * -----------------------------------------------------------------------------------------------
-         */
 
-        if (max - readOffset > 0) {
-            writer.write(text, readOffset, (max - readOffset));
-        }
 
+    /*
+     * Compute the length of the decimal or hexadecimal reference that would be written for the specified codepoint.
+     */
+    static int numericReferenceLength(final int codepoint, final boolean useHexa) {
+        final int radix = (useHexa? 16 : 10);
+        int digits = 1;
+        for (int cp = codepoint / radix; cp > 0; cp /= radix) {
+            digits++;
+        }
+        // "&#" + ("x" if hexa) + digits + ";"
+        return (useHexa? 4 : 3) + digits;
     }
 
 
@@ -554,7 +1126,7 @@ static int translateIllFormedCodepoint(final int codepoint) {
      * -  No need to check all chars are within the radix limits - reference parsing code will already have done so.
      */
 
-    static int parseIntFromReference(final String text, final int start, final int end, final int radix) {
+    static int parseIntFromReference(final CharSequence text, final int start, final int end, final int radix) {
         int result = 0;
         for (int i = start; i < end; i++) {
             final char c = text.charAt(i);
@@ -609,19 +1181,61 @@ static int parseIntFromReference(final char[] text, final int start, final int e
 
 
     /*
-     * Perform an unescape operation based on String. Unescape operations are always based on the HTML5 symbol set.
+     * Perform an unescape operation based on CharSequence. Unescape operations are always based on the HTML5 symbol set.
      * Unescape operations will be performed in the most similar way possible to the process a browser follows for
      * showing HTML5 escaped code. See: http://www.w3.org/TR/html5/syntax.html#consume-a-character-reference
      */
-    static String unescape(final String text) {
+    static String unescape(final CharSequence text) {
 
         if (text == null) {
             return null;
         }
 
+        final StringBuilder strBuilder = unescape(text, null);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an unescape operation based on CharSequence, appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some unescape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder unescape(final CharSequence text, final StringBuilder output) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.HTML, EscapeOperationType.UNESCAPE));
+        if (recorder == null) {
+            return unescapeCharSequence(text, output);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = unescapeCharSequence(text, null);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder unescapeCharSequence(final CharSequence text, final StringBuilder output) {
+
+        if (text == null) {
+            return output;
+        }
+
         // Unescape will always cover the full HTML5 spectrum.
-        final HtmlEscapeSymbols symbols = HtmlEscapeSymbols.HTML5_SYMBOLS;
-        StringBuilder strBuilder = null;
+        final HtmlEscapeSymbols symbols = HtmlEscapeSymbols.Html5SymbolsHolder.SYMBOLS;
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -729,44 +1343,16 @@ static String unescape(final String text) {
 
                 } else {
 
-                    // This is a named reference, must be comprised only of ALPHABETIC chars
-
-                    int f = i + 1;
-                    while (f < max) {
-                        final char cf = text.charAt(f);
-                        if (!((cf >= 'a' && cf <= 'z') || (cf >= 'A' && cf <= 'Z') || (cf >= '0' && cf <= '9'))) {
-                            break;
-                        }
-                        f++;
-                    }
-
-                    if ((f - (i + 1)) <= 0) {
-                        // We weren't able to consume any alphanumeric
-                        continue;
-                    }
-
-                    if ((f < max) && text.charAt(f) == REFERENCE_SUFFIX) {
-                        f++;
-                    }
+                    // This is a named reference, must be comprised only of ALPHANUMERIC chars (plus maybe a ';')
 
-                    final int ncrPosition = HtmlEscapeSymbols.binarySearch(symbols.SORTED_NCRS, text, i, f);
-                    if (ncrPosition >= 0) {
-                        codepoint = symbols.SORTED_CODEPOINTS[ncrPosition];
-                    } else if (ncrPosition == Integer.MIN_VALUE) {
+                    final int ncrIndex = symbols.matchNcr(text, i, max);
+                    if (ncrIndex < 0) {
                         // Not found! Just ignore our efforts to find a match.
                         continue;
-                    } else if (ncrPosition < -10) {
-                        // Found but partial!
-                        final int partialIndex = (-1) * (ncrPosition + 10);
-                        final char[] partialMatch = symbols.SORTED_NCRS[partialIndex];
-                        codepoint = symbols.SORTED_CODEPOINTS[partialIndex];
-                        f -= ((f - i) - partialMatch.length); // un-consume the chars remaining from the partial match
-                    } else {
-                        // Should never happen!
-                        throw new RuntimeException("Invalid unescape codepoint after search: " + ncrPosition);
                     }
 
-                    referenceOffset = f - 1;
+                    codepoint = symbols.SORTED_CODEPOINTS[ncrIndex];
+                    referenceOffset = i + symbols.SORTED_NCRS[ncrIndex].length - 1;
 
                 }
 
@@ -822,20 +1408,20 @@ static String unescape(final String text) {
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
-         *                 append the remaining escaped text to the string builder and return.
+         * Final cleaning: return null if no unescape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining escaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
@@ -845,285 +1431,167 @@ static String unescape(final String text) {
 
 
     /*
-     * Perform an unescape operation based on a Reader, writing the results to a Writer. Unescape operations are
-     * always based on the HTML5 symbol set. Unescape operations will be performed in the most similar way
-     * possible to the process a browser follows for showing HTML5 escaped code.
-     * See: http://www.w3.org/TR/html5/syntax.html#consume-a-character-reference
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Determine whether an unescape operation would modify a CharSequence. Texts without any '&' chars (the most
+     * common case) are discarded by the scanner, and the rest are checked by means of the unescape operation
+     * itself, which will only create a StringBuilder if some reference is actually found.
      */
-    static void unescape(final Reader reader, final Writer writer) throws IOException {
+    static boolean requiresUnescape(final CharSequence text) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return false;
         }
 
-        // Unescape will always cover the full HTML5 spectrum.
-        final HtmlEscapeSymbols symbols = HtmlEscapeSymbols.HTML5_SYMBOLS;
-
-        char[] escapes = new char[10];
-        int escapei = 0;
-
-        int c1, c2, ce; // c1: current char, c2: next char, ce: current escaped char
-
-        c2 = reader.read();
-
-        while (c2 >= 0) {
-
-            c1 = c2;
-            c2 = reader.read();
-
-            escapei = 0;
+        final int max = text.length();
 
-            /*
-             * Check the need for an unescape operation at this point
-             */
+        for (int i = 0; i < max; i++) {
 
-            if (c1 != REFERENCE_PREFIX || c2 < 0) {
-                writer.write(c1);
-                continue;
+            i = UNESCAPE_SCANNER.skip(text, i, max);
+            if (i == max) {
+                break;
             }
 
-            int codepoint = 0;
-
-            if (c1 == REFERENCE_PREFIX) {
-
-                if (c2 == '\u0020' || // SPACE
-                        c2 == '\n' ||     // LF
-                        c2 == '\u0009' || // TAB
-                        c2 == '\u000C' || // FF
-                        c2 == '\u003C' || // LES-THAN SIGN
-                        c2 == '\u0026') { // AMPERSAND
-                    // Not a character references. No characters are consumed, and nothing is returned.
-                    writer.write(c1);
-                    continue;
+            if (text.charAt(i) == REFERENCE_PREFIX) {
+                return (unescapeCharSequence(text, null) != null);
+            }
 
-                } else if (c2 == REFERENCE_NUMERIC_PREFIX2) {
+        }
 
-                    final int c3 = reader.read();
+        return false;
 
-                    if (c3 < 0) {
-                        // No reference possible
-                        writer.write(c1);
-                        writer.write(c2);
-                        c1 = c2;
-                        c2 = c3;
-                        continue;
-                    }
+    }
 
-                    if ((c3 == REFERENCE_HEXA_PREFIX3_LOWER || c3 == REFERENCE_HEXA_PREFIX3_UPPER)) {
-                        // This is a hexadecimal reference
 
-                        ce = reader.read();
-                        while (ce >= 0) {
-                            if (!((ce >= '0' && ce <= '9') || (ce >= 'A' && ce <= 'F') || (ce >= 'a' && ce <= 'f'))) {
-                                break;
-                            }
-                            if (escapei == escapes.length) {
-                                // too many escape chars for our array: grow it!
-                                final char[] newEscapes = new char[escapes.length + 4];
-                                System.arraycopy(escapes, 0, newEscapes, 0, escapes.length);
-                                escapes = newEscapes;
-                            }
-                            escapes[escapei] = (char) ce;
-                            ce = reader.read();
-                            escapei++;
-                        }
 
-                        if (escapei == 0) {
-                            // We weren't able to consume any hexa chars
-                            writer.write(c1);
-                            writer.write(c2);
-                            writer.write(c3);
-                            c1 = c3;
-                            c2 = ce;
-                            continue;
-                        }
 
-                        c1 = escapes[escapei - 1];
-                        c2 = ce;
 
-                        codepoint = parseIntFromReference(escapes, 0, escapei, 16);
 
-                        if (c2 == REFERENCE_SUFFIX) {
-                            // If the reference ends in a ';', just consume it
-                            c1 = c2;
-                            c2 = reader.read();
-                        }
+    /*
+     * Perform an unescape operation based on a Reader, writing the results to a Writer. Unescape operations are
+     * always based on the HTML5 symbol set.
+     *
+     * The reader is read in chunks, each of which is unescaped by means of the char[]-based method. Each time we fill
+     * the buffer we will have to make sure we are not interrupting any character reference, which we do by only
+     * processing the buffered text up to its last '&' unless the reference starting there is already terminated
+     * (see computeSafeUnescapeLength(...) below). Numeric references written with redundant leading zeros can be as
+     * long as the buffer itself, so a reference is only kept in the buffer while it leaves room for reading more: one
+     * filling the whole buffer is unescaped as is.
+     */
+    static void unescape(final Reader reader, final Writer writer) throws IOException {
 
-                        codepoint = translateIllFormedCodepoint(codepoint);
+        if (reader == null) {
+            return;
+        }
 
-                        escapei = 0;
+        final char[] buffer = new char[READER_BUFFER_SIZE];
 
-                        // Don't continue here, just let the unescape code below do its job
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
 
-                    } else if (c3 >= '0' && c3 <= '9') {
-                        // This is a decimal reference
+        int bufferSize = read;
 
-                        ce = c3;
-                        while (ce >= 0) {
-                            if (!(ce >= '0' && ce <= '9')) {
-                                break;
-                            }
-                            if (escapei == escapes.length) {
-                                // too many escape chars for our array: grow it!
-                                final char[] newEscapes = new char[escapes.length + 4];
-                                System.arraycopy(escapes, 0, newEscapes, 0, escapes.length);
-                                escapes = newEscapes;
-                            }
-                            escapes[escapei] = (char) ce;
-                            ce = reader.read();
-                            escapei++;
-                        }
+        while (bufferSize > 0 || read >= 0) {
 
-                        if (escapei == 0) {
-                            // We weren't able to consume any decimal chars
-                            writer.write(c1);
-                            writer.write(c2);
-                            c1 = c2;
-                            c2 = c3;
-                            continue;
-                        }
+            final int n =
+                    (read < 0? bufferSize : computeSafeUnescapeLength(buffer, 0, bufferSize, buffer.length));
 
-                        c1 = escapes[escapei - 1];
-                        c2 = ce;
+            if (n > 0) {
 
-                        codepoint = parseIntFromReference(escapes, 0, escapei, 10);
+                // Once we have defined a 'safe' buffer, just call the char[]-based method
+                unescape(buffer, 0, n, writer);
 
-                        if (c2 == REFERENCE_SUFFIX) {
-                            // If the reference ends in a ';', just consume it
-                            c1 = c2;
-                            c2 = reader.read();
-                        }
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
 
-                        codepoint = translateIllFormedCodepoint(codepoint);
+            }
 
-                        escapei = 0;
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
 
-                        // Don't continue here, just let the unescape code below do its job
+        }
 
-                    } else {
-                        // This is not a valid reference, just discard
-                        writer.write(c1);
-                        writer.write(c2);
-                        c1 = c2;
-                        c2 = c3;
-                        continue;
-                    }
+    }
 
 
-                } else {
 
-                    // This is a named reference, must be comprised only of ALPHABETIC chars
 
-                    ce = c2;
-                    while (ce >= 0) {
-                        if (!((ce >= '0' && ce <= '9') || (ce >= 'A' && ce <= 'Z') || (ce >= 'a' && ce <= 'z'))) {
-                            break;
-                        }
-                        if (escapei == escapes.length) {
-                            // too many escape chars for our array: grow it!
-                            final char[] newEscapes = new char[escapes.length + 4];
-                            System.arraycopy(escapes, 0, newEscapes, 0, escapes.length);
-                            escapes = newEscapes;
-                        }
-                        escapes[escapei] = (char) ce;
-                        ce = reader.read();
-                        escapei++;
-                    }
+    /*
+     * Compute the length of the longest prefix of the buffer that can be unescaped without the risk of interrupting
+     * a character reference. Only the last reference in the buffer can be interrupted, and only if it has not been
+     * terminated yet, i.e. if the buffer ends with a prefix of a valid reference: '&' followed by ASCII alphanumeric
+     * chars, or "&#" followed by decimal digits or by 'x' (or 'X') and hexadecimal digits. A reference is known to be
+     * terminated once any other char is found after it. Returns 0 if no such prefix exists.
+     *
+     * Named references are only interruptible if they start less chars before the end of the buffer than the length
+     * of the longest HTML5 NCR. Numeric references are only interruptible if they start less than maxReferenceLen
+     * chars before the end of the buffer: they are never longer than REFERENCE_MAX_CHARS unless written with redundant
+     * leading zeros, which can make them as long as wanted. Reader-based operations specify the size of their buffer
+     * as maxReferenceLen so that these are unescaped whatever the way the text is split, and chunked unescapers
+     * specify REFERENCE_MAX_CHARS so that their pending chars are bounded.
+     */
+    static int computeSafeUnescapeLength(final char[] buffer, final int offset, final int len,
+                                         final int maxReferenceLen) {
 
-                    if (escapei == 0) {
-                        // We weren't able to consume any decimal chars
-                        writer.write(c1);
-                        continue;
-                    }
+        final int max = offset + len;
 
-                    if (escapei + 2 >= escapes.length) {
-                        // the entire escape sequence does not fit: grow it!
-                        final char[] newEscapes = new char[escapes.length + 4];
-                        System.arraycopy(escapes, 0, newEscapes, 0, escapes.length);
-                        escapes = newEscapes;
-                    }
+        final int maxNcrLen = HtmlEscapeSymbols.Html5SymbolsHolder.SYMBOLS.MAX_NCR_LEN;
+        final int windowStart = Math.max(offset, max - (Math.max(maxNcrLen, maxReferenceLen) - 1));
 
-                    System.arraycopy(escapes, 0, escapes, 1, escapei);
-                    escapes[0] = (char) c1;
-                    escapei++;
+        int p = max - 1;
+        while (p >= windowStart && isAsciiAlphanumeric(buffer[p])) {
+            p--;
+        }
 
-                    if (ce == REFERENCE_SUFFIX) {
-                        // If the reference ends in a ';', just consume it
-                        escapes[escapei++] = (char) ce;
-                        ce = reader.read();
-                    }
+        if (p < windowStart) {
+            // No reference can be interrupted by the end of the buffer
+            return len;
+        }
 
-                    c1 = escapes[escapei - 1];
-                    c2 = ce;
+        if (buffer[p] == REFERENCE_PREFIX) {
+            // Named reference, only interruptible if it could still match (or be a prefix of) an existing NCR
+            return (max - p < maxNcrLen? p - offset : len);
+        }
 
-                    final int ncrPosition = HtmlEscapeSymbols.binarySearch(symbols.SORTED_NCRS, escapes, 0, escapei);
-                    if (ncrPosition >= 0) {
-                        codepoint = symbols.SORTED_CODEPOINTS[ncrPosition];
-                        escapei = 0;
-                    } else if (ncrPosition == Integer.MIN_VALUE) {
-                        // Not found! Just ignore our efforts to find a match.
-                        writer.write(escapes, 0, escapei);
-                        continue;
-                    } else if (ncrPosition < -10) {
-                        // Found but partial!
-                        final int partialIndex = (-1) * (ncrPosition + 10);
-                        final char[] partialMatch = symbols.SORTED_NCRS[partialIndex];
-                        codepoint = symbols.SORTED_CODEPOINTS[partialIndex];
-                        System.arraycopy(escapes, partialMatch.length, escapes, 0, (escapei - partialMatch.length));
-                        escapei -= partialMatch.length; // so that we know we have to output the rest of 'escapes'
-                    } else {
-                        // Should never happen!
-                        throw new RuntimeException("Invalid unescape codepoint after search: " + ncrPosition);
-                    }
+        if (buffer[p] == REFERENCE_NUMERIC_PREFIX2 && p - 1 >= windowStart && buffer[p - 1] == REFERENCE_PREFIX) {
+            // Numeric reference, only interruptible if its digits are still valid
+            return (max - (p - 1) < maxReferenceLen && isNumericReferencePrefix(buffer, p + 1, max)?
+                        (p - 1) - offset : len);
+        }
 
-                }
+        // The last reference in the buffer (if any) is complete
+        return len;
 
-            }
+    }
 
-            /*
-             * --------------------------
-             *
-             * Perform the real unescape
-             *
-             * --------------------------
-             */
 
-            if (codepoint > '\uFFFF') {
-                writer.write(Character.toChars(codepoint));
-            } else if (codepoint < 0) {
-                // This is a double-codepoint unescape operation
-                final int[] codepoints = symbols.DOUBLE_CODEPOINTS[((-1) * codepoint) - 1];
-                if (codepoints[0] > '\uFFFF') {
-                    writer.write(Character.toChars(codepoints[0]));
-                } else {
-                    writer.write((char) codepoints[0]);
+    private static boolean isNumericReferencePrefix(final char[] buffer, final int offset, final int max) {
+        if (offset < max &&
+                (buffer[offset] == REFERENCE_HEXA_PREFIX3_LOWER || buffer[offset] == REFERENCE_HEXA_PREFIX3_UPPER)) {
+            for (int i = offset + 1; i < max; i++) {
+                final char c = buffer[i];
+                if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) {
+                    return false;
                 }
-                if (codepoints[1] > '\uFFFF') {
-                    writer.write(Character.toChars(codepoints[1]));
-                } else {
-                    writer.write((char) codepoints[1]);
-                }
-            } else {
-                writer.write((char)codepoint);
             }
-
-            /*
-             * ----------------------------------------
-             * Cleanup, in case we had a partial match
-             * ----------------------------------------
-             */
-
-            if (escapei > 0) {
-                writer.write(escapes, 0, escapei);
-                escapei = 0;
+            return true;
+        }
+        for (int i = offset; i < max; i++) {
+            final char c = buffer[i];
+            if (!(c >= '0' && c <= '9')) {
+                return false;
             }
-
-
         }
+        return true;
+    }
 
+
+    private static boolean isAsciiAlphanumeric(final char c) {
+        return ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'));
     }
 
 
@@ -1143,7 +1611,7 @@ static void unescape(final char[] text, final int offset, final int len, final W
             return;
         }
 
-        final HtmlEscapeSymbols symbols = HtmlEscapeSymbols.HTML5_SYMBOLS;
+        final HtmlEscapeSymbols symbols = HtmlEscapeSymbols.Html5SymbolsHolder.SYMBOLS;
 
         final int max = (offset + len);
 
@@ -1250,44 +1718,16 @@ static void unescape(final char[] text, final int offset, final int len, final W
 
                 } else {
 
-                    // This is a named reference, must be comprised only of ALPHABETIC chars
-
-                    int f = i + 1;
-                    while (f < max) {
-                        final char cf = text[f];
-                        if (!((cf >= 'a' && cf <= 'z') || (cf >= 'A' && cf <= 'Z') || (cf >= '0' && cf <= '9'))) {
-                            break;
-                        }
-                        f++;
-                    }
-
-                    if ((f - (i + 1)) <= 0) {
-                        // We weren't able to consume any alphanumeric
-                        continue;
-                    }
-
-                    if ((f < max) && text[f] == REFERENCE_SUFFIX) {
-                        f++;
-                    }
+                    // This is a named reference, must be comprised only of ALPHANUMERIC chars (plus maybe a ';')
 
-                    final int ncrPosition = HtmlEscapeSymbols.binarySearch(symbols.SORTED_NCRS, text, i, f);
-                    if (ncrPosition >= 0) {
-                        codepoint = symbols.SORTED_CODEPOINTS[ncrPosition];
-                    } else if (ncrPosition == Integer.MIN_VALUE) {
+                    final int ncrIndex = symbols.matchNcr(text, i, max);
+                    if (ncrIndex < 0) {
                         // Not found! Just ignore our efforts to find a match.
                         continue;
-                    } else if (ncrPosition < -10) {
-                        // Found but partial!
-                        final int partialIndex = (-1) * (ncrPosition + 10);
-                        final char[] partialMatch = symbols.SORTED_NCRS[partialIndex];
-                        codepoint = symbols.SORTED_CODEPOINTS[partialIndex];
-                        f -= ((f - i) - partialMatch.length); // un-consume the chars remaining from the partial match
-                    } else {
-                        // Should never happen!
-                        throw new RuntimeException("Invalid unescape codepoint after search: " + ncrPosition);
                     }
 
-                    referenceOffset = f - 1;
+                    codepoint = symbols.SORTED_CODEPOINTS[ncrIndex];
+                    referenceOffset = i + symbols.SORTED_NCRS[ncrIndex].length - 1;
 
                 }
 
@@ -1315,17 +1755,20 @@ static void unescape(final char[] text, final int offset, final int len, final W
              */
 
             if (codepoint > '\uFFFF') {
-                writer.write(Character.toChars(codepoint));
+                writer.write(Character.highSurrogate(codepoint));
+                writer.write(Character.lowSurrogate(codepoint));
             } else if (codepoint < 0) {
                 // This is a double-codepoint unescape operation
                 final int[] codepoints = symbols.DOUBLE_CODEPOINTS[((-1) * codepoint) - 1];
                 if (codepoints[0] > '\uFFFF') {
-                    writer.write(Character.toChars(codepoints[0]));
+                    writer.write(Character.highSurrogate(codepoints[0]));
+                    writer.write(Character.lowSurrogate(codepoints[0]));
                 } else {
                     writer.write((char) codepoints[0]);
                 }
                 if (codepoints[1] > '\uFFFF') {
-                    writer.write(Character.toChars(codepoints[1]));
+                    writer.write(Character.highSurrogate(codepoints[1]));
+                    writer.write(Character.lowSurrogate(codepoints[1]));
                 } else {
                     writer.write((char) codepoints[1]);
                 }
@@ -1351,18 +1794,37 @@ static void unescape(final char[] text, final int offset, final int len, final W
 
 
 
-    private static int codePointAt(final char c1, final char c2) {
-        if (Character.isHighSurrogate(c1)) {
-            if (c2 >= 0) {
-                if (Character.isLowSurrogate(c2)) {
-                    return Character.toCodePoint(c1, c2);
-                }
-            }
+    /*
+     * Perform an unescape operation based on char[], writing the result back into the same char[] and returning
+     * its new length. This is possible because unescaping never makes text longer (see InPlaceCharArrayWriter).
+     *
+     * Text before the first escape is not touched at all, and if there are no escapes nothing is even created.
+     */
+    static int unescapeInPlace(final char[] text, final int offset, final int len) {
+
+        final int max = (offset + len);
+
+        int i = offset;
+        while (i < max && text[i] != REFERENCE_PREFIX) {
+            i++;
         }
-        return c1;
-    }
 
+        if (i == max) {
+            // Nothing to unescape
+            return len;
+        }
 
+        final InPlaceCharArrayWriter writer = new InPlaceCharArrayWriter(text, i);
+        try {
+            unescape(text, i, (max - i), writer);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a char[] does not perform any actual input/output
+            throw new RuntimeException("Exception while unescaping in place", e);
+        }
 
-}
+        return writer.getPosition() - offset;
 
+    }
+
+
+}
@@ -0,0 +1,362 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.html;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+
+import org.unbescape.EscapeScanner;
+
+/**
+ * <p>
+ *   Pre-compiled HTML <strong>escape</strong> operation for a specific combination of
+ *   {@link org.unbescape.html.HtmlEscapeType} and {@link org.unbescape.html.HtmlEscapeLevel}.
+ * </p>
+ * <p>
+ *   Instances of this class are obtained by means of
+ *   {@link org.unbescape.html.HtmlEscape#escaper(HtmlEscapeType, HtmlEscapeLevel)}, and perform exactly the same
+ *   escape operations as the corresponding methods in {@link org.unbescape.html.HtmlEscape}. The difference is that
+ *   all the decisions depending on the escape type and level, along with the replacements for the most common
+ *   chars, are computed only once when the escaper is created, instead of for every escape operation.
+ * </p>
+ * <p>
+ *   Instances of this class are <strong>immutable and thread-safe</strong>, so they can be created once and
+ *   then kept (e.g. in a <kbd>static final</kbd> field) for use at any frequently executed code.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class HtmlEscaper {
+
+
+    /*
+     * Replacements are precomputed for all chars below this one (ASCII and Latin-1). Above it, escape levels
+     * are the same for all chars, and replacements are computed when needed.
+     */
+    static final char REPLACEMENTS_LEN = 0x100;
+
+    /*
+     * Escapers are created only once per type and level combination (and on demand).
+     */
+    private static final HtmlEscaper[] ESCAPERS =
+            new HtmlEscaper[HtmlEscapeType.values().length * HtmlEscapeLevel.values().length];
+
+
+    private final HtmlEscapeType type;
+    private final HtmlEscapeLevel level;
+
+    /*
+     * The symbols (HTML4 or HTML5) used for escaping, whether named and hexadecimal references should be used, and
+     * whether the shortest reference should be selected for each codepoint instead (see useHexa(codepoint))
+     */
+    final HtmlEscapeSymbols SYMBOLS;
+    final boolean USE_NCRS;
+    final boolean USE_HEXA;
+    final boolean USE_SHORTEST;
+
+    /*
+     * Replacement for each char below REPLACEMENTS_LEN, or null if the char should not be escaped
+     */
+    final char[][] REPLACEMENTS;
+
+    /*
+     * Whether chars >= REPLACEMENTS_LEN should be escaped
+     */
+    final boolean ESCAPE_ABOVE_REPLACEMENTS;
+
+    /*
+     * Scanner for skipping at once the chars that will not need escaping
+     */
+    final EscapeScanner SCANNER;
+
+
+
+
+    static HtmlEscaper forTypeAndLevel(final HtmlEscapeType type, final HtmlEscapeLevel level) {
+        // No synchronization needed: escapers are immutable, and creating one twice is harmless
+        final int index = (type.ordinal() * HtmlEscapeLevel.values().length) + level.ordinal();
+        HtmlEscaper escaper = ESCAPERS[index];
+        if (escaper == null) {
+            escaper = new HtmlEscaper(type, level);
+            ESCAPERS[index] = escaper;
+        }
+        return escaper;
+    }
+
+
+
+
+    private HtmlEscaper(final HtmlEscapeType type, final HtmlEscapeLevel level) {
+
+        super();
+
+        this.type = type;
+        this.level = level;
+
+        this.SYMBOLS =
+                (type.getUseHtml5()?
+                        HtmlEscapeSymbols.Html5SymbolsHolder.SYMBOLS : HtmlEscapeSymbols.Html4SymbolsHolder.SYMBOLS);
+        this.USE_NCRS = type.getUseNCRs();
+        this.USE_HEXA = type.getUseHexa();
+        this.USE_SHORTEST = type.getUseShortest();
+
+        final int escapeLevel = level.getEscapeLevel();
+        final byte nonAsciiLevel = this.SYMBOLS.ESCAPE_LEVELS[HtmlEscapeSymbols.MAX_ASCII_CHAR + 1];
+
+        this.REPLACEMENTS = new char[REPLACEMENTS_LEN][];
+        for (int c = 0; c < REPLACEMENTS_LEN; c++) {
+            final byte charLevel =
+                    (c <= HtmlEscapeSymbols.MAX_ASCII_CHAR? this.SYMBOLS.ESCAPE_LEVELS[c] : nonAsciiLevel);
+            if (escapeLevel >= charLevel) {
+                this.REPLACEMENTS[c] = computeReplacement(c);
+            }
+        }
+
+        this.ESCAPE_ABOVE_REPLACEMENTS = (escapeLevel >= nonAsciiLevel);
+        this.SCANNER = this.SYMBOLS.ESCAPE_SCANNERS[escapeLevel];
+
+    }
+
+
+
+
+    /*
+     * Compute the replacement for a codepoint that needs to be escaped: a named reference if allowed and one
+     * exists, or a decimal/hexadecimal reference otherwise. Only used for precomputing REPLACEMENTS, as the
+     * escape operations themselves write numeric references directly into their output.
+     */
+    private char[] computeReplacement(final int codepoint) {
+
+        final char[] ncr = computeNcrReplacement(codepoint);
+        if (ncr != null) {
+            return ncr;
+        }
+
+        final char[] buffer = new char[HtmlEscapeUtil.REFERENCE_MAX_CHARS];
+        return Arrays.copyOf(
+                buffer, HtmlEscapeUtil.writeNumericReference(buffer, codepoint, useHexa(codepoint)));
+
+    }
+
+
+    /*
+     * Compute the named reference (NCR) to be used as replacement for a codepoint that needs to be escaped, or
+     * null if NCRs are not allowed or there is none for this codepoint.
+     */
+    char[] computeNcrReplacement(final int codepoint) {
+        final short ncrIndex = computeNcrIndex(codepoint);
+        return (ncrIndex != HtmlEscapeSymbols.NO_NCR? this.SYMBOLS.SORTED_NCRS[ncrIndex] : null);
+    }
+
+
+    /*
+     * Compute the index (at the SORTED_NCRS and SORTED_NCRS_BYTES arrays of the symbols) of the named reference to
+     * be used as replacement for a codepoint that needs to be escaped, or NO_NCR if NCRs are not allowed or there
+     * is none for this codepoint. If the shortest reference is to be selected, the shortest NCR for the codepoint
+     * will be returned, and only if it is not longer than the numeric reference.
+     */
+    short computeNcrIndex(final int codepoint) {
+
+        if (!this.USE_NCRS) {
+            return HtmlEscapeSymbols.NO_NCR;
+        }
+
+        final short ncrIndex =
+                (codepoint < HtmlEscapeSymbols.NCRS_BY_CODEPOINT_LEN?
+                        this.SYMBOLS.NCRS_BY_CODEPOINT[codepoint] :     // codepoint < 0x2fff - all HTML4, most HTML5
+                        this.SYMBOLS.overflowNcr(codepoint));           // codepoint >= 0x2fff - overflow hash table
+
+        if (!this.USE_SHORTEST || ncrIndex == HtmlEscapeSymbols.NO_NCR) {
+            return ncrIndex;
+        }
+
+        final short shortestNcrIndex = this.SYMBOLS.SHORTEST_NCRS[ncrIndex];
+        if (shortestNcrIndex == HtmlEscapeSymbols.NO_NCR) {
+            return HtmlEscapeSymbols.NO_NCR;
+        }
+
+        final int numericLength = HtmlEscapeUtil.numericReferenceLength(codepoint, useHexa(codepoint));
+        return (this.SYMBOLS.SORTED_NCRS[shortestNcrIndex].length <= numericLength?
+                    shortestNcrIndex : HtmlEscapeSymbols.NO_NCR);
+
+    }
+
+
+    /*
+     * Determine whether a hexadecimal (instead of decimal) reference should be used for a codepoint that needs to
+     * be escaped and has no NCR. If the shortest reference is to be selected, hexadecimal references are only used
+     * when they are strictly shorter than decimal ones.
+     */
+    boolean useHexa(final int codepoint) {
+        if (!this.USE_SHORTEST) {
+            return this.USE_HEXA;
+        }
+        return (HtmlEscapeUtil.numericReferenceLength(codepoint, true)
+                    < HtmlEscapeUtil.numericReferenceLength(codepoint, false));
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Returns the type of escape operation performed by this escaper.
+     * </p>
+     *
+     * @return the escape type.
+     */
+    public HtmlEscapeType getType() {
+        return this.type;
+    }
+
+
+    /**
+     * <p>
+     *   Returns the escape level applied by this escaper.
+     * </p>
+     *
+     * @return the escape level.
+     */
+    public HtmlEscapeLevel getLevel() {
+        return this.level;
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform an HTML <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If input is a <kbd>String</kbd> and no escaping modifications
+     *         were required, the exact same object will be returned (and no additional <kbd>String</kbd> objects
+     *         will be created during processing). Will return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public String escape(final CharSequence text) {
+
+        if (text == null) {
+            return null;
+        }
+
+        final StringBuilder strBuilder = HtmlEscapeUtil.escape(text, null, this);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input, appending results
+     *   to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing will
+     *                   be appended at all to this builder if input is <kbd>null</kbd>.
+     */
+    public void escape(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        HtmlEscapeUtil.escape(text, strBuilder, this);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML <strong>escape</strong> operation on a <kbd>Reader</kbd> input, writing results to a
+     *   <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public void escape(final Reader reader, final Writer writer) throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        HtmlEscapeUtil.escape(reader, writer, this);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform an HTML <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public void escape(final char[] text, final int offset, final int len, final Writer writer)
+                       throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        HtmlEscapeUtil.escape(text, offset, len, writer, this);
+
+    }
+
+
+}
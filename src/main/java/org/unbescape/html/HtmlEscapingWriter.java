@@ -0,0 +1,64 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.html;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.unbescape.EscapingWriter;
+
+/*
+ * Implementation of EscapingWriter for HTML escape operations, performed by means of a (pre-compiled) HtmlEscaper.
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+final class HtmlEscapingWriter extends EscapingWriter {
+
+
+    private final HtmlEscaper escaper;
+
+
+    HtmlEscapingWriter(final Writer writer, final HtmlEscaper escaper) {
+        super(writer);
+        this.escaper = escaper;
+    }
+
+
+    @Override
+    protected int computeSafeEscapeLength(final char[] text, final int offset, final int len) {
+        // A high surrogate at the end needs to be escaped along with the low surrogate that will follow it
+        if (len > 0 && Character.isHighSurrogate(text[offset + len - 1])) {
+            return len - 1;
+        }
+        return len;
+    }
+
+
+    @Override
+    protected void escape(final char[] text, final int offset, final int len, final Writer writer)
+                          throws IOException {
+        HtmlEscapeUtil.escape(text, offset, len, writer, this.escaper);
+    }
+
+
+}
@@ -0,0 +1,162 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.java;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.unbescape.ChunkedUnescaper;
+
+/*
+ * Implementation of ChunkedUnescaper for Java unescape operations.
+ *
+ * Unicode escapes have to be unescaped before any other escapes (which can be written by means of unicode escapes
+ * themselves, e.g. "\u005Cn"), so unescape is performed in two steps, each of them by a different chunked unescaper:
+ * this one only unescapes unicode escapes, writing its results to a NonUnicodeChunkedUnescaper that takes care of
+ * all the other escapes. This way each of the steps only needs to keep pending the escape sequence it might be
+ * interrupting.
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+final class JavaChunkedUnescaper extends ChunkedUnescaper {
+
+
+    private final NonUnicodeChunkedUnescaper nonUnicodeUnescaper;
+    private final int maxUnicodeEscapeLen;
+
+
+    JavaChunkedUnescaper(final Writer writer) {
+        this(writer, JavaEscapeUtil.MAX_UNICODE_ESCAPE_LEN);
+    }
+
+
+    /*
+     * Unicode escapes longer than maxUnicodeEscapeLen (i.e. with several 'u' chars) might not be unescaped if
+     * interrupted by the end of a chunk. Reader-based operations specify the size of their buffer.
+     */
+    JavaChunkedUnescaper(final Writer writer, final int maxUnicodeEscapeLen) {
+        this(new NonUnicodeChunkedUnescaper(writer), maxUnicodeEscapeLen);
+    }
+
+
+    private JavaChunkedUnescaper(final NonUnicodeChunkedUnescaper nonUnicodeUnescaper,
+                                 final int maxUnicodeEscapeLen) {
+        super(new ChunkedUnescaperWriter(nonUnicodeUnescaper));
+        this.nonUnicodeUnescaper = nonUnicodeUnescaper;
+        this.maxUnicodeEscapeLen = maxUnicodeEscapeLen;
+    }
+
+
+    @Override
+    protected int computeSafeUnescapeLength(final char[] text, final int offset, final int len) {
+        return JavaEscapeUtil.computeSafeUnicodeUnescapeLength(text, offset, len, this.maxUnicodeEscapeLen);
+    }
+
+
+    @Override
+    protected void unescape(final char[] text, final int offset, final int len, final Writer writer)
+                            throws IOException {
+        JavaEscapeUtil.unicodeUnescape(text, offset, len, writer);
+    }
+
+
+    @Override
+    public void finish() throws IOException {
+        try {
+            super.finish();
+        } finally {
+            this.nonUnicodeUnescaper.finish();
+        }
+    }
+
+
+    @Override
+    public int getPendingLength() {
+        return super.getPendingLength() + this.nonUnicodeUnescaper.getPendingLength();
+    }
+
+
+
+
+    /*
+     * Second unescape step: all escapes except unicode ones.
+     */
+    private static final class NonUnicodeChunkedUnescaper extends ChunkedUnescaper {
+
+        NonUnicodeChunkedUnescaper(final Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        protected int computeSafeUnescapeLength(final char[] text, final int offset, final int len) {
+            return JavaEscapeUtil.computeSafeNonUnicodeUnescapeLength(text, offset, len);
+        }
+
+        @Override
+        protected void unescape(final char[] text, final int offset, final int len, final Writer writer)
+                                throws IOException {
+            JavaEscapeUtil.nonUnicodeUnescape(text, offset, len, writer);
+        }
+
+    }
+
+
+    /*
+     * Writer passing everything written to it (the results of the first unescape step) as chunks to the chunked
+     * unescaper performing the second step.
+     */
+    private static final class ChunkedUnescaperWriter extends Writer {
+
+        private final ChunkedUnescaper unescaper;
+        private final char[] singleChar = new char[1];
+
+        ChunkedUnescaperWriter(final ChunkedUnescaper unescaper) {
+            super();
+            this.unescaper = unescaper;
+        }
+
+        @Override
+        public void write(final int c) throws IOException {
+            this.singleChar[0] = (char) c;
+            this.unescaper.unescape(this.singleChar, 0, 1);
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            this.unescaper.unescape(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {
+            // Nothing to be done: the unescaper writes directly to its own writer
+        }
+
+        @Override
+        public void close() {
+            // Nothing to be done: the unescaper writes directly to its own writer
+        }
+
+    }
+
+
+}
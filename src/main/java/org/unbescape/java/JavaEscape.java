@@ -22,6 +22,9 @@
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.CharBuffer;
+
+import org.unbescape.ChunkedUnescaper;
 
 
 /**
@@ -124,7 +127,7 @@
  * <strong><u>Input/Output</u></strong>
  *
  * <p>
- *   There are four different input/output modes that can be used in escape/unescape operations:
+ *   There are five different input/output modes that can be used in escape/unescape operations:
  * </p>
  * <ul>
  *   <li><em><kbd>String</kbd> input, <kbd>String</kbd> output</em>: Input is specified as a <kbd>String</kbd> object
@@ -133,6 +136,9 @@
  *       are required</u>.</li>
  *   <li><em><kbd>String</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a String
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
+ *   <li><em><kbd>String</kbd> input, <kbd>StringBuilder</kbd> output</em>: Input will be read from a String
+ *       and output will be appended to the specified <kbd>StringBuilder</kbd>. This avoids creating intermediate
+ *       <kbd>String</kbd> objects when output is already being composed into a <kbd>StringBuilder</kbd>.</li>
  *   <li><em><kbd>java.io.Reader</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a Reader
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
  *   <li><em><kbd>char[]</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a char array
@@ -142,6 +148,11 @@
  *       should be called with <kbd>offset = 0</kbd> and <kbd>len = text.length</kbd> in order to process
  *       the whole <kbd>char[]</kbd>.</li>
  * </ul>
+ * <p>
+ *   All <kbd>String</kbd>-input modes are also available for any other <kbd>java.lang.CharSequence</kbd>
+ *   implementation (e.g. <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd>), which will be processed
+ *   directly, without needing to create a <kbd>String</kbd> out of them first.
+ * </p>
  *
  * <strong><u>Glossary</u></strong>
  *
@@ -499,10 +510,13 @@ public static void escapeJava(final String text, final Writer writer, final Java
 
 
 
+
+
+
     /**
      * <p>
      *   Perform a Java level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the Java basic escape set:
@@ -526,7 +540,7 @@ public static void escapeJava(final String text, final Writer writer, final Java
      *   </li>
      * </ul>
      * <p>
-     *   This method calls {@link #escapeJava(Reader, Writer, JavaEscapeLevel)}
+     *   This method calls {@link #escapeJava(String, StringBuilder, JavaEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -537,23 +551,21 @@ public static void escapeJava(final String text, final Writer writer, final Java
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeJavaMinimal(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeJava(reader, writer, JavaEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    public static void escapeJavaMinimal(final String text, final StringBuilder strBuilder) {
+        escapeJava(text, strBuilder, JavaEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
      *   Perform a Java level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -587,7 +599,7 @@ public static void escapeJavaMinimal(final Reader reader, final Writer writer)
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapeJava(Reader, Writer, JavaEscapeLevel)}
+     *   This method calls {@link #escapeJava(String, StringBuilder, JavaEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -598,66 +610,65 @@ public static void escapeJavaMinimal(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeJava(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeJava(reader, writer, JavaEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static void escapeJava(final String text, final StringBuilder strBuilder) {
+        escapeJava(text, strBuilder, JavaEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) Java <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) Java <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
      *   {@link org.unbescape.java.JavaEscapeLevel} argument value.
      * </p>
      * <p>
-     *   All other <kbd>String</kbd>/<kbd>Writer</kbd>-based <kbd>escapeJava*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>level</kbd> values.
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeJava*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param level the escape level to be applied, see {@link org.unbescape.java.JavaEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeJava(final Reader reader, final Writer writer, final JavaEscapeLevel level)
-            throws IOException {
+    public static void escapeJava(final String text, final StringBuilder strBuilder, final JavaEscapeLevel level) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (level == null) {
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        JavaEscapeUtil.escape(reader, writer, level);
+        JavaEscapeUtil.escape(text, strBuilder, level);
 
     }
 
 
 
 
+
+
+
     /**
      * <p>
      *   Perform a Java level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the Java basic escape set:
@@ -681,7 +692,7 @@ public static void escapeJava(final Reader reader, final Writer writer, final Ja
      *   </li>
      * </ul>
      * <p>
-     *   This method calls {@link #escapeJava(char[], int, int, java.io.Writer, JavaEscapeLevel)}
+     *   This method calls {@link #escapeJava(CharSequence, JavaEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -692,23 +703,22 @@ public static void escapeJava(final Reader reader, final Writer writer, final Ja
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeJavaMinimal(final char[] text, final int offset, final int len, final Writer writer)
-                                         throws IOException {
-        escapeJava(text, offset, len, writer, JavaEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    public static String escapeJavaMinimal(final CharSequence text) {
+        return escapeJava(text, JavaEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
      *   Perform a Java level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -742,7 +752,7 @@ public static void escapeJavaMinimal(final char[] text, final int offset, final
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapeJava(char[], int, int, java.io.Writer, JavaEscapeLevel)}
+     *   This method calls {@link #escapeJava(CharSequence, JavaEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -753,197 +763,1046 @@ public static void escapeJavaMinimal(final char[] text, final int offset, final
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeJava(final char[] text, final int offset, final int len, final Writer writer)
-                                  throws IOException {
-        escapeJava(text, offset, len, writer, JavaEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static String escapeJava(final CharSequence text) {
+        return escapeJava(text, JavaEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) Java <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform a (configurable) Java <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
      *   {@link org.unbescape.java.JavaEscapeLevel} argument value.
      * </p>
      * <p>
-     *   All other <kbd>char[]</kbd>-based <kbd>escapeJava*(...)</kbd> methods call this one with preconfigured
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapeJava*(...)</kbd> methods call this one with preconfigured
      *   <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param level the escape level to be applied, see {@link org.unbescape.java.JavaEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeJava(final char[] text, final int offset, final int len, final Writer writer,
-                                  final JavaEscapeLevel level)
-                                  throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
+    public static String escapeJava(final CharSequence text, final JavaEscapeLevel level) {
 
         if (level == null) {
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        JavaEscapeUtil.escape(text, offset, len, writer, level);
+        return JavaEscapeUtil.escape(text, level);
 
     }
 
 
-
-
-
-
-
-
     /**
      * <p>
-     *   Perform a Java <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     *   Perform a Java level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     *   <em>Level 1</em> means this method will only escape the Java basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>). Note <kbd>&#92;&#39;</kbd> is not really needed in
+     *       String literals (only in Character literals), so it won't be used until escape level 3.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapeJava(CharSequence, Writer, JavaEscapeLevel)}
+     *   with the following preconfigured values:
      * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link JavaEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String unescapeJava(final String text) {
-        if (text == null) {
-            return null;
-        }
-        if (text.indexOf('\\') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            return text;
-        }
-        return JavaEscapeUtil.unescape(text);
+    public static void escapeJavaMinimal(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeJava(text, writer, JavaEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a Java <strong>unescape</strong> operation on a <kbd>String</kbd> input, writing results
-     *   to a <kbd>Writer</kbd>.
+     *   Perform a Java level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>). Note <kbd>&#92;&#39;</kbd> is not really needed in
+     *               String literals (only in Character literals), so it won't be used until escape level 3.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeJava(CharSequence, Writer, JavaEscapeLevel)}
+     *   with the following preconfigured values:
      * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link JavaEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeJava(final String text, final Writer writer)
+    public static void escapeJava(final CharSequence text, final Writer writer)
             throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
-        if (text == null) {
-            return;
-        }
-        if (text.indexOf('\\') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            writer.write(text);
-            return;
-        }
-
-        JavaEscapeUtil.unescape(new InternalStringReader(text), writer);
-
+        escapeJava(text, writer, JavaEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a Java <strong>unescape</strong> operation on a <kbd>Reader</kbd> input, writing results
-     *   to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) Java <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.java.JavaEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapeJava*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.java.JavaEscapeLevel}.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeJava(final Reader reader, final Writer writer)
+    public static void escapeJava(final CharSequence text, final Writer writer, final JavaEscapeLevel level)
             throws IOException {
 
         if (writer == null) {
             throw new IllegalArgumentException("Argument 'writer' cannot be null");
         }
 
-        JavaEscapeUtil.unescape(reader, writer);
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        JavaEscapeUtil.escape(new InternalStringReader(text), writer, level);
 
     }
 
 
     /**
      * <p>
-     *   Perform a Java <strong>unescape</strong> operation on a <kbd>char[]</kbd> input.
-     * </p>
-     * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     *   Perform a Java level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
+     *   <em>Level 1</em> means this method will only escape the Java basic escape set:
      * </p>
-     *
-     * @param text the <kbd>char[]</kbd> to be unescaped.
-     * @param offset the position in <kbd>text</kbd> at which the unescape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>). Note <kbd>&#92;&#39;</kbd> is not really needed in
+     *       String literals (only in Character literals), so it won't be used until escape level 3.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapeJava(CharSequence, StringBuilder, JavaEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link JavaEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJavaMinimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapeJava(text, strBuilder, JavaEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>). Note <kbd>&#92;&#39;</kbd> is not really needed in
+     *               String literals (only in Character literals), so it won't be used until escape level 3.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeJava(CharSequence, StringBuilder, JavaEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link JavaEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJava(final CharSequence text, final StringBuilder strBuilder) {
+        escapeJava(text, strBuilder, JavaEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) Java <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.java.JavaEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeJava*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.java.JavaEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJava(final CharSequence text,
+                                  final StringBuilder strBuilder, final JavaEscapeLevel level) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        JavaEscapeUtil.escape(text, strBuilder, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the Java basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>). Note <kbd>&#92;&#39;</kbd> is not really needed in
+     *       String literals (only in Character literals), so it won't be used until escape level 3.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapeJava(Reader, Writer, JavaEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link JavaEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeJavaMinimal(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeJava(reader, writer, JavaEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>). Note <kbd>&#92;&#39;</kbd> is not really needed in
+     *               String literals (only in Character literals), so it won't be used until escape level 3.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeJava(Reader, Writer, JavaEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link JavaEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeJava(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeJava(reader, writer, JavaEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) Java <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.java.JavaEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>String</kbd>/<kbd>Writer</kbd>-based <kbd>escapeJava*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.java.JavaEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeJava(final Reader reader, final Writer writer, final JavaEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        JavaEscapeUtil.escape(reader, writer, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the Java basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>). Note <kbd>&#92;&#39;</kbd> is not really needed in
+     *       String literals (only in Character literals), so it won't be used until escape level 3.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapeJava(char[], int, int, java.io.Writer, JavaEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link JavaEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeJavaMinimal(final char[] text, final int offset, final int len, final Writer writer)
+                                         throws IOException {
+        escapeJava(text, offset, len, writer, JavaEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>). Note <kbd>&#92;&#39;</kbd> is not really needed in
+     *               String literals (only in Character literals), so it won't be used until escape level 3.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeJava(char[], int, int, java.io.Writer, JavaEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link JavaEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeJava(final char[] text, final int offset, final int len, final Writer writer)
+                                  throws IOException {
+        escapeJava(text, offset, len, writer, JavaEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) Java <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.java.JavaEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>char[]</kbd>-based <kbd>escapeJava*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.java.JavaEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeJava(final char[] text, final int offset, final int len, final Writer writer,
+                                  final JavaEscapeLevel level)
+                                  throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        JavaEscapeUtil.escape(text, offset, len, writer, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable) Java
+     *   <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeJava(CharSequence, JavaEscapeLevel)} would do with the same
+     *   <kbd>level</kbd>, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param level the escape level to be considered, see {@link org.unbescape.java.JavaEscapeLevel}.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableJava(final CharSequence text, final JavaEscapeLevel level) {
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return JavaEscapeUtil.indexOfFirstEscapable(text, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) Java <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapeJava(CharSequence, JavaEscapeLevel)} returns a
+     *   different text, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param level the escape level to be considered, see {@link org.unbescape.java.JavaEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeJava(final CharSequence text, final JavaEscapeLevel level) {
+        return (indexOfFirstEscapableJava(text, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) Java <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeJava(CharSequence, JavaEscapeLevel)}, but no objects are created at all
+     *   during the process. This allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or
+     *   <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param level the escape level to be considered, see {@link org.unbescape.java.JavaEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthJava(final CharSequence text, final JavaEscapeLevel level) {
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return JavaEscapeUtil.escapedLength(text, level);
+
+    }
+
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeJava(final String text) {
+        if (text == null) {
+            return null;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            return text;
+        }
+        return JavaEscapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java <strong>unescape</strong> operation on a <kbd>String</kbd> input, writing results
+     *   to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeJava(final String text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            writer.write(text);
+            return;
+        }
+
+        JavaEscapeUtil.unescape(new InternalStringReader(text), writer);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java <strong>unescape</strong> operation on a <kbd>String</kbd> input, appending results
+     *   to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeJava(final String text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            strBuilder.append(text);
+            return;
+        }
+
+        JavaEscapeUtil.unescape(text, strBuilder);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeJava(final CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            return unescapeJava((String) text);
+        }
+        return JavaEscapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input, writing results
+     *   to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeJava(final CharSequence text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeJava((String) text, writer);
+            return;
+        }
+
+        JavaEscapeUtil.unescape(new InternalStringReader(text), writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input, appending results
+     *   to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeJava(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeJava((String) text, strBuilder);
+            return;
+        }
+
+        JavaEscapeUtil.unescape(text, strBuilder);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java <strong>unescape</strong> operation on a <kbd>Reader</kbd> input, writing results
+     *   to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeJava(final Reader reader, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        JavaEscapeUtil.unescape(reader, writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java <strong>unescape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java unescape of SECs, u-based and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the unescape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      */
     public static void unescapeJava(final char[] text, final int offset, final int len, final Writer writer)
@@ -972,6 +1831,64 @@ public static void unescapeJava(final char[] text, final int offset, final int l
 
 
 
+    /**
+     * <p>
+     *   Obtain a <strong>chunked unescaper</strong> that performs a Java <strong>unescape</strong> operation on a text
+     *   received as a sequence of chunks (e.g. network buffers), writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   Chunks can be split at any point, even in the middle of escape sequences, and results will be exactly the same
+     *   as those of {@link #unescapeJava(String)} on the concatenation of all the chunks. The end of the text must be
+     *   signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link org.unbescape.ChunkedUnescaper}
+     *   for details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
+     */
+    public static ChunkedUnescaper chunkedUnescaper(final Writer writer) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        return new JavaChunkedUnescaper(writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a Java <strong>unescape</strong> operation would modify a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #unescapeJava(CharSequence)} returns a different text. Texts
+     *   that do not contain any backslash (<kbd>\\</kbd>) chars are discarded without creating any objects at all,
+     *   which makes this method adequate for checking (or caching) values that only rarely contain escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresUnescapeJava(final CharSequence text) {
+        return JavaEscapeUtil.requiresUnescape(text);
+    }
+
+
+
+
     private JavaEscape() {
         super();
     }
@@ -982,16 +1899,19 @@ private JavaEscape() {
      * This is basically a very simplified, thread-unsafe version of StringReader that should
      * perform better than the original StringReader by removing all synchronization structures.
      *
+     * It can read from any CharSequence. Bulk reads are specialized for String, StringBuilder and
+     * array-backed CharBuffer objects so that, for those, chars are copied without calling charAt(...).
+     *
      * Note the only implemented methods are those that we know are really used from within the
      * stream-based escape/unescape operations.
      */
     private static final class InternalStringReader extends Reader {
 
-        private String str;
+        private CharSequence str;
         private int length;
         private int next = 0;
 
-        public InternalStringReader(final String s) {
+        public InternalStringReader(final CharSequence s) {
             super();
             this.str = s;
             this.length = s.length();
@@ -1017,7 +1937,19 @@ public int read(final char[] cbuf, final int off, final int len) throws IOExcept
                 return -1;
             }
             int n = Math.min(this.length - this.next, len);
-            this.str.getChars(this.next, this.next + n, cbuf, off);
+            if (this.str instanceof String) {
+                ((String) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof StringBuilder) {
+                ((StringBuilder) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof CharBuffer && ((CharBuffer) this.str).hasArray()) {
+                final CharBuffer charBuffer = (CharBuffer) this.str;
+                System.arraycopy(
+                        charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + this.next, cbuf, off, n);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = this.str.charAt(this.next + i);
+                }
+            }
             this.next += n;
             return n;
         }
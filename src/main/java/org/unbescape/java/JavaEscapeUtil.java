@@ -25,6 +25,11 @@
 import java.io.Writer;
 import java.util.Arrays;
 
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
+import org.unbescape.EscapeScanner;
+
 
 /**
  * <p>
@@ -115,6 +120,26 @@ final class JavaEscapeUtil {
     private static char[] HEXA_CHARS_UPPER = "0123456789ABCDEF".toCharArray();
     private static char[] HEXA_CHARS_LOWER = "0123456789abcdef".toCharArray();
 
+    /*
+     * Size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
+
+    /*
+     * Length of the longest escape sequences: unicode escapes ("\u00E1", first unescape step) and all the others
+     * (octal escapes, "\377", second step). Only these amounts of chars at most need to be kept at the end of a
+     * chunk of text when unescaping it by chunks.
+     */
+    static final int MAX_UNICODE_ESCAPE_LEN = 6;
+    private static final int MAX_NON_UNICODE_ESCAPE_LEN = 4;
+
+    /*
+     * Scanner used for quickly discarding texts that do not contain any escapes at all, and therefore
+     * never need unescaping
+     */
+    private static final EscapeScanner UNESCAPE_SCANNER =
+            EscapeScanner.forCandidateRanges(new char[] { ESCAPE_PREFIX, ESCAPE_PREFIX });
+
 
     /*
      * Structures for holding the Single Escape Characters
@@ -238,17 +263,61 @@ static char[] toUHexa(final int codepoint) {
 
 
     /*
-     * Perform an escape operation, based on String, according to the specified level.
+     * Perform an escape operation, based on CharSequence, according to the specified level.
      */
-    static String escape(final String text, final JavaEscapeLevel escapeLevel) {
+    static String escape(final CharSequence text, final JavaEscapeLevel escapeLevel) {
 
         if (text == null) {
             return null;
         }
 
+        final StringBuilder strBuilder = escape(text, null, escapeLevel);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, according to the specified level, appending the result to a
+     * StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output, final JavaEscapeLevel escapeLevel) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.JAVA, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeCharSequence(text, output, escapeLevel);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeCharSequence(text, null, escapeLevel);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                    final JavaEscapeLevel escapeLevel) {
+
+        if (text == null) {
+            return output;
+        }
+
         final int level = escapeLevel.getEscapeLevel();
 
-        StringBuilder strBuilder = null;
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -348,20 +417,20 @@ static String escape(final String text, final JavaEscapeLevel escapeLevel) {
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: return null if no escape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining unescaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
@@ -369,113 +438,150 @@ static String escape(final String text, final JavaEscapeLevel escapeLevel) {
 
 
     /*
-     * Perform an escape operation, based on a Reader, according to the specified level and writing the result
-     * to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Find the first position in a CharSequence at which an escape operation performed with the specified
+     * configuration would modify it, or -1 if escaping would leave it unmodified. Chars are examined exactly as in
+     * escapeCharSequence(...), but nothing is ever allocated.
      */
-    static void escape(final Reader reader, final Writer writer, final JavaEscapeLevel escapeLevel)
-            throws IOException {
+    static int indexOfFirstEscapable(final CharSequence text, final JavaEscapeLevel escapeLevel) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return -1;
         }
 
         final int level = escapeLevel.getEscapeLevel();
 
-        int c1, c2; // c0: last char, c1: current char, c2: next char
-
-        c2 = reader.read();
-
-        while (c2 >= 0) {
-
-            c1 = c2;
-            c2 = reader.read();
+        final int max = text.length();
 
-            final int codepoint = codePointAt((char)c1, (char)c2);
+        for (int i = 0; i < max; i++) {
 
+            final int codepoint = Character.codePointAt(text, i);
 
-            /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
-             */
             if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
-                writer.write(c1);
                 continue;
             }
 
-            /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
-             */
             if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
+                if (Character.charCount(codepoint) > 1) {
+                    // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                    i++;
+                }
+                continue;
+            }
+
+            return i;
+
+        }
+
+        return -1;
+
+    }
 
-                writer.write(c1);
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
 
-                    writer.write(c2);
 
-                    c1 = c2;
-                    c2 = reader.read();
 
+    /*
+     * Compute the exact length of the result of an escape operation performed on a CharSequence with the
+     * specified configuration, without actually escaping anything. Chars are examined exactly as in
+     * escapeCharSequence(...).
+     */
+    static long escapedLength(final CharSequence text, final JavaEscapeLevel escapeLevel) {
+
+        if (text == null) {
+            return 0L;
+        }
+
+        final int level = escapeLevel.getEscapeLevel();
+
+        final int max = text.length();
+
+        long length = max;
+
+        for (int i = 0; i < max; i++) {
+
+            final int codepoint = Character.codePointAt(text, i);
+
+            if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
+                continue;
+            }
+
+            if (Character.charCount(codepoint) > 1) {
+                // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                i++;
+                if (level >= ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
+                    // Two uhexa escapes (6 chars each) replace the two chars of a surrogate pair
+                    length += 10;
                 }
+                continue;
+            }
 
+            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
                 continue;
+            }
 
+            if (codepoint < SEC_CHARS_LEN && SEC_CHARS[codepoint] != SEC_CHARS_NO_SEC) {
+                // A SEC (2 chars) replaces one char
+                length += 1;
+            } else {
+                // A uhexa escape (6 chars) replaces one char
+                length += 5;
             }
 
+        }
 
-            /*
-             * We know we need to escape, so from here on we will only work with the codepoint -- we can advance
-             * the chars.
-             */
+        return length;
 
-            if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually reading two char positions with a single codepoint.
-                c1 = c2;
-                c2 = reader.read();
-            }
+    }
 
 
-            /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of SECs and UHEXA
-             *
-             * -----------------------------------------------------------------------------------------
-             */
 
-            if (codepoint < SEC_CHARS_LEN) {
-                // We will try to use a SEC
 
-                final char sec = SEC_CHARS[codepoint];
 
-                if (sec != SEC_CHARS_NO_SEC) {
-                    // SEC found! just write it and go for the next char
-                    writer.write(ESCAPE_PREFIX);
-                    writer.write(sec);
-                    continue;
-                }
+    /*
+     * Perform an escape operation, based on a Reader, according to the specified level and writing the result
+     * to a Writer.
+     *
+     * The reader is read in chunks, each of which is escaped by means of the char[]-based method. A high surrogate
+     * found at the end of a chunk is kept for the next one, so that surrogate pairs are never split.
+     */
+    static void escape(final Reader reader, final Writer writer, final JavaEscapeLevel escapeLevel)
+            throws IOException {
+
+        if (reader == null) {
+            return;
+        }
 
+        final char[] buffer = new char[READER_BUFFER_SIZE];
+
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
+
+        int bufferSize = read;
+
+        while (bufferSize > 0 || read >= 0) {
+
+            int n = bufferSize;
+            if (read >= 0 && Character.isHighSurrogate(buffer[n - 1])) {
+                n--;
             }
 
-            /*
-             * No SEC-escape was possible, so we need uhexa escape.
-             */
+            if (n > 0) {
+
+                escape(buffer, 0, n, writer, escapeLevel);
+
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
 
-            if (Character.charCount(codepoint) > 1) {
-                final char[] codepointChars = Character.toChars(codepoint);
-                writer.write(ESCAPE_UHEXA_PREFIX);
-                writer.write(toUHexa(codepointChars[0]));
-                writer.write(ESCAPE_UHEXA_PREFIX);
-                writer.write(toUHexa(codepointChars[1]));
-                continue;
             }
 
-            writer.write(ESCAPE_UHEXA_PREFIX);
-            writer.write(toUHexa(codepoint));
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
 
         }
 
@@ -503,7 +609,7 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
         for (int i = offset; i < max; i++) {
 
-            final int codepoint = Character.codePointAt(text, i);
+            final int codepoint = Character.codePointAt(text, i, max);
 
 
             /*
@@ -612,7 +718,7 @@ static void escape(final char[] text, final int offset, final int len, final Wri
      * -  No need to check all chars are within the radix limits - reference parsing code will already have done so.
      */
 
-    static int parseIntFromReference(final String text, final int start, final int end, final int radix) {
+    static int parseIntFromReference(final CharSequence text, final int start, final int end, final int radix) {
         int result = 0;
         for (int i = start; i < end; i++) {
             final char c = text.charAt(i);
@@ -648,7 +754,7 @@ static int parseIntFromReference(final char[] text, final int start, final int e
 
 
 
-    static boolean isOctalEscape(final String text, final int start, final int end) {
+    static boolean isOctalEscape(final CharSequence text, final int start, final int end) {
 
         if (start >= end) {
             return false;
@@ -720,9 +826,12 @@ static boolean isOctalEscape(final char[] text, final int start, final int end)
 
 
     /*
-     * Perform the first step unescape operation based on String.
+     * Perform the first step unescape operation based on CharSequence.
+     *
+     * Will return the exact same object if no unicode escape was needed. Otherwise, the StringBuilder containing
+     * the result is returned (so that the second step can be applied on it without creating any String first).
      */
-    static String unicodeUnescape(final String text) {
+    static CharSequence unicodeUnescape(final CharSequence text) {
 
         if (text == null) {
             return null;
@@ -837,7 +946,7 @@ static String unicodeUnescape(final String text) {
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
+         * Final cleaning: return the original text object if no unescape was actually needed. Otherwise
          *                 append the remaining escaped text to the string builder and return.
          * -----------------------------------------------------------------------------------------------
          */
@@ -850,7 +959,7 @@ static String unicodeUnescape(final String text) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
@@ -898,7 +1007,8 @@ static boolean requiresUnicodeUnescape(final char[] text, final int offset, fina
     /*
      * Perform the first step unescape operation based on char[].
      *
-     * NOTE: We should only be calling this if we already executed requiresUnicodeEscape and it returned true!
+     * NOTE: Texts without unicode escapes (see requiresUnicodeUnescape) are simply copied to the writer, so it is
+     *       better not to call this for them unless they are chunks of a larger text.
      */
     static void unicodeUnescape(final char[] text, final int offset, final int len, final Writer writer)
                                 throws IOException {
@@ -1024,18 +1134,75 @@ static void unicodeUnescape(final char[] text, final int offset, final int len,
 
 
     /*
-     * Perform an unescape operation based on String.
+     * Perform an unescape operation based on CharSequence.
      */
-    static String unescape(final String text) {
+    static String unescape(final CharSequence text) {
 
         if (text == null) {
             return null;
         }
 
+        final EscapeMetricsRecorder recorder =
+                EscapeMetricsRecorder.start(EscapeFamily.JAVA, EscapeOperationType.UNESCAPE);
+
         // Will be exactly the same object if no unicode escape was needed
-        final String unicodeEscapedText = unicodeUnescape(text);
+        final CharSequence unicodeEscapedText = unicodeUnescape(text);
+
+        final StringBuilder strBuilder = nonUnicodeUnescape(unicodeEscapedText, null);
+        final String result = (strBuilder == null? unicodeEscapedText.toString() : strBuilder.toString());
+
+        if (recorder != null) {
+            recorder.end(text.length(), result.length(), (strBuilder != null || unicodeEscapedText != text));
+        }
+
+        return result;
+
+    }
+
+
+
+
+    /*
+     * Perform an unescape operation based on CharSequence, appending the result to a StringBuilder.
+     */
+    static void unescape(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (text == null) {
+            return;
+        }
+
+        final EscapeMetricsRecorder recorder =
+                EscapeMetricsRecorder.start(EscapeFamily.JAVA, EscapeOperationType.UNESCAPE);
+        if (recorder == null) {
+            nonUnicodeUnescape(unicodeUnescape(text), strBuilder);
+            return;
+        }
+
+        // Will be exactly the same object if no unicode escape was needed
+        final CharSequence unicodeEscapedText = unicodeUnescape(text);
+
+        // No output StringBuilder is specified here, so that a null result means nothing else had to be modified
+        final StringBuilder result = nonUnicodeUnescape(unicodeEscapedText, null);
+        final CharSequence unescaped = (result == null? unicodeEscapedText : result);
+        recorder.end(text.length(), unescaped.length(), (result != null || unicodeEscapedText != text));
+        strBuilder.append(unescaped);
+
+    }
 
-        StringBuilder strBuilder = null;
+
+
+
+    /*
+     * Perform the second step unescape operation (all escapes except unicode ones) based on CharSequence, appending the
+     * result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some unescape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    private static StringBuilder nonUnicodeUnescape(final CharSequence unicodeEscapedText,
+                                                    final StringBuilder output) {
+
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = unicodeEscapedText.length();
@@ -1149,20 +1316,55 @@ static String unescape(final String text) {
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
-         *                 append the remaining escaped text to the string builder and return.
+         * Final cleaning: return null if no unescape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining escaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return unicodeEscapedText;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(unicodeEscapedText, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
+
+    }
+
+
+
+
+
+
+    /*
+     * Determine whether an unescape operation would modify a CharSequence. Texts without any '\\' chars (the most
+     * common case) are discarded by the scanner, and the rest are checked by means of the unescape operation
+     * itself, which will only create a StringBuilder if some escape is actually found.
+     */
+    static boolean requiresUnescape(final CharSequence text) {
+
+        if (text == null) {
+            return false;
+        }
+
+        final int max = text.length();
+
+        for (int i = 0; i < max; i++) {
+
+            i = UNESCAPE_SCANNER.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
+
+            if (text.charAt(i) == ESCAPE_PREFIX) {
+                return (unicodeUnescape(text) != text || nonUnicodeUnescape(text, null) != null);
+            }
+
+        }
+
+        return false;
 
     }
 
@@ -1174,8 +1376,12 @@ static String unescape(final String text) {
     /*
      * Perform an unescape operation based on a Reader, writing the results to a Writer.
      *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * The reader is read in chunks, which are unescaped by means of a JavaChunkedUnescaper. Unicode escapes have to
+     * be unescaped before any other escapes (which can be written by means of unicode escapes themselves), so each of
+     * these two steps needs to make sure it is not interrupting an escape sequence on its own, which is exactly what
+     * the two steps of the chunked unescaper do. Unicode escapes can have any amount of 'u' chars, so the first step
+     * keeps pending as much as the size of the buffer, in order for these to be unescaped whatever the way the text
+     * is split.
      */
     static void unescape(final Reader reader, final Writer writer) throws IOException {
 
@@ -1183,75 +1389,121 @@ static void unescape(final Reader reader, final Writer writer) throws IOExceptio
             return;
         }
 
-        /*
-         * Unescape in Java is a bit different because two different escape systems might have been applied one on
-         * top of the other: Octal escapes (\041) are supported at runtime, whereas unicode escapes (\u00E1) are
-         * applied at parse time. So it is technically possible to have an unicode-escaped octal escape. That means
-         * one output char would be represented in input by 4 * 6 = 24 chars, corresponding to the 6 chars of each
-         * of the unicode-escapes for each of the max-4 chars of the octal escape.
-         *
-         * This means that we will have to use a buffer and that, each time we fill the buffer, we will have to
-         * check that at least the last 8 characters are not a '\', which will mean we can be sure that we are not
-         * interrupting any escape sequence. That number (8) is so because that is the largest amount of non-\ chars
-         * that can happen being involved in an escape sequence, combining both escape methods: "\u005C777"
-         */
-
-        char[] buffer = new char[20];
+        final JavaChunkedUnescaper unescaper = new JavaChunkedUnescaper(writer, READER_BUFFER_SIZE);
+        final char[] buffer = new char[READER_BUFFER_SIZE];
 
         int read = reader.read(buffer, 0, buffer.length);
-        if (read < 0) {
-            return;
+        while (read >= 0) {
+            unescaper.unescape(buffer, 0, read);
+            read = reader.read(buffer, 0, buffer.length);
         }
 
-        int bufferSize = read;
+        unescaper.finish();
 
-        while (bufferSize > 0 || read >= 0) {
+    }
 
-            int nonEscCounter = 0;
 
-            int n = bufferSize;
-            while (nonEscCounter < 8 && n-- != 0) {
-                if (buffer[n] == '\\') {
-                    nonEscCounter = 0;
-                    continue;
-                }
-                nonEscCounter++;
-            }
 
-            if (nonEscCounter < 8 && read >= 0) {
-                // not found an 8-char non-escape sequence in the whole buffer, will need to read more buffer
+    /*
+     * Compute the length of the longest prefix of the buffer that can be unicode-unescaped (first step) without the
+     * risk of interrupting a unicode escape. Only the last escape sequence in the buffer can be interrupted, and only
+     * if the buffer ends with a prefix of a unicode escape: a '\' followed by one or more 'u' chars and less than four
+     * hexadecimal digits (or a '\' alone), so the prefix just leaves that escape sequence out. Note a '\' preceded
+     * by an odd amount of '\' chars does not start an escape sequence, as it is the second char of a "\\" escape.
+     * Texts are always unescaped starting from a point in which there is no escape sequence in progress, so this
+     * amount can be safely counted from offset. Returns 0 if no such prefix exists.
+     *
+     * Unicode escapes are only considered to be interruptible if they start less than maxEscapeLen chars before the
+     * end of the buffer. They are 6 chars long (e.g. "\u00E1"), but more than one 'u' is allowed (e.g. "\uuu00E1"),
+     * which can make them as long as wanted: Reader-based operations specify the size of their buffer as maxEscapeLen
+     * so that these are unescaped whatever the way the text is split, and chunked unescapers specify
+     * MAX_UNICODE_ESCAPE_LEN so that their pending chars are bounded.
+     */
+    static int computeSafeUnicodeUnescapeLength(final char[] buffer, final int offset, final int len,
+                                                final int maxEscapeLen) {
 
-                if (bufferSize == buffer.length) {
-                    // Actually, there is no room for reading more, so let's grow the buffer
-                    final char[] newBuffer = new char[buffer.length + (buffer.length / 2)];
-                    System.arraycopy(buffer, 0, newBuffer, 0, buffer.length);
-                    buffer = newBuffer;
-                }
+        final int max = offset + len;
+        final int windowStart = Math.max(offset, max - (maxEscapeLen - 1));
 
-                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
-                if (read >= 0) {
-                    bufferSize += read;
-                }
+        int p = max - 1;
+        while (p >= windowStart && (max - p) <= 3 && isHexaDigit(buffer[p])) {
+            p--;
+        }
+        final int hexaStart = p + 1;
+        while (p >= windowStart && buffer[p] == ESCAPE_UHEXA_PREFIX2) {
+            p--;
+        }
 
-                continue;
+        if (p < windowStart || buffer[p] != ESCAPE_PREFIX || (p + 1 == hexaStart && hexaStart < max)) {
+            // No unicode escape can be interrupted by the end of the buffer
+            return len;
+        }
 
-            }
+        int prefixCount = 1;
+        while (p - prefixCount >= offset && buffer[p - prefixCount] == ESCAPE_PREFIX) {
+            prefixCount++;
+        }
 
-            n = (n < 0? bufferSize : n + nonEscCounter);
+        if (prefixCount % 2 == 0) {
+            // The last '\' in the buffer is the second char of a complete "\\" escape
+            return len;
+        }
 
-            // Once we have defined a 'safe' buffer, just call the char[]-based method
-            unescape(buffer, 0, n, writer);
+        return p - offset;
+
+    }
+
+
+    private static boolean isHexaDigit(final char c) {
+        return ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'F') || (c >= 'a' && c <= 'f'));
+    }
 
-            System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
-            bufferSize -= n;
 
-            read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
-            if (read >= 0) {
-                bufferSize += read;
-            }
 
+    /*
+     * Compute the length of the longest prefix of the buffer that can be unescaped (second step, once unicode escapes
+     * have been unescaped) without the risk of interrupting an escape sequence. Only the last escape sequence in the
+     * buffer can be interrupted, and only if it starts less than 4 chars (the length of the longest one, "\377") before
+     * the end of the buffer and it is not a complete two-char escape sequence, so the prefix just leaves that escape
+     * sequence out. Note a '\' preceded by an odd amount of '\' chars does not start an escape sequence, as it is the
+     * second char of a "\\" escape. Texts are always unescaped starting from a point in which there is no escape
+     * sequence in progress, so this amount can be safely counted from offset. Returns 0 if no such prefix exists.
+     */
+    static int computeSafeNonUnicodeUnescapeLength(final char[] buffer, final int offset, final int len) {
+
+        final int max = offset + len;
+        final int windowStart = Math.max(offset, max - (MAX_NON_UNICODE_ESCAPE_LEN - 1));
+
+        int p = max - 1;
+        while (p >= windowStart && buffer[p] != ESCAPE_PREFIX) {
+            p--;
+        }
+
+        if (p < windowStart) {
+            // No escape sequence can be interrupted by the end of the buffer
+            return len;
+        }
+
+        int prefixCount = 1;
+        while (p - prefixCount >= offset && buffer[p - prefixCount] == ESCAPE_PREFIX) {
+            prefixCount++;
+        }
+
+        if (prefixCount % 2 == 0) {
+            // The last '\' in the buffer is the second char of a complete "\\" escape
+            return len;
         }
 
+        if (p + 1 < max) {
+            final char c1 = buffer[p + 1];
+            if (!(c1 >= '0' && c1 <= '7')) {
+                // Complete two-char escape sequence (or one that is not processed in this step)
+                return len;
+            }
+        }
+
+        return p - offset;
+
     }
 
 
@@ -1269,23 +1521,34 @@ static void unescape(final char[] text, final int offset, final int len, final W
             return;
         }
 
-        char[] unicodeEscapedText = text;
-        int unicodeEscapedOffset = offset;
-        int unicodeEscapedLen = len;
-        if (requiresUnicodeUnescape(text, offset, len)) {
-            final CharArrayWriter charArrayWriter = new CharArrayWriter(len + 2);
-            unicodeUnescape(text, offset, len, charArrayWriter);
-            unicodeEscapedText = charArrayWriter.toCharArray();
-            unicodeEscapedOffset = 0;
-            unicodeEscapedLen = unicodeEscapedText.length;
+        if (!requiresUnicodeUnescape(text, offset, len)) {
+            nonUnicodeUnescape(text, offset, len, writer);
+            return;
         }
 
-        final int max = (unicodeEscapedOffset + unicodeEscapedLen);
+        final CharArrayWriter charArrayWriter = new CharArrayWriter(len + 2);
+        unicodeUnescape(text, offset, len, charArrayWriter);
+        final char[] unicodeEscapedText = charArrayWriter.toCharArray();
+        nonUnicodeUnescape(unicodeEscapedText, 0, unicodeEscapedText.length, writer);
+
+    }
+
 
-        int readOffset = unicodeEscapedOffset;
-        int referenceOffset = unicodeEscapedOffset;
 
-        for (int i = unicodeEscapedOffset; i < max; i++) {
+
+    /*
+     * Perform the second step unescape operation (all escapes except unicode ones) based on char[].
+     */
+    static void nonUnicodeUnescape(final char[] unicodeEscapedText, final int offset, final int len,
+                                   final Writer writer)
+                                   throws IOException {
+
+        final int max = (offset + len);
+
+        int readOffset = offset;
+        int referenceOffset = offset;
+
+        for (int i = offset; i < max; i++) {
 
             final char c = unicodeEscapedText[i];
 
@@ -1399,19 +1662,5 @@ static void unescape(final char[] text, final int offset, final int len, final W
 
 
 
-
-    private static int codePointAt(final char c1, final char c2) {
-        if (Character.isHighSurrogate(c1)) {
-            if (c2 >= 0) {
-                if (Character.isLowSurrogate(c2)) {
-                    return Character.toCodePoint(c1, c2);
-                }
-            }
-        }
-        return c1;
-    }
-
-
-
 }
 
@@ -22,6 +22,9 @@
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.CharBuffer;
+
+import org.unbescape.ChunkedUnescaper;
 
 /**
  * <p>
@@ -98,7 +101,7 @@
  * <strong><u>Input/Output</u></strong>
  *
  * <p>
- *   There are four different input/output modes that can be used in escape/unescape operations:
+ *   There are five different input/output modes that can be used in escape/unescape operations:
  * </p>
  * <ul>
  *   <li><em><kbd>String</kbd> input, <kbd>String</kbd> output</em>: Input is specified as a <kbd>String</kbd> object
@@ -107,6 +110,9 @@
  *       are required</u>.</li>
  *   <li><em><kbd>String</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a String
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
+ *   <li><em><kbd>String</kbd> input, <kbd>StringBuilder</kbd> output</em>: Input will be read from a String
+ *       and output will be appended to the specified <kbd>StringBuilder</kbd>. This avoids creating intermediate
+ *       <kbd>String</kbd> objects when output is already being composed into a <kbd>StringBuilder</kbd>.</li>
  *   <li><em><kbd>java.io.Reader</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a Reader
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
  *   <li><em><kbd>char[]</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a char array
@@ -116,6 +122,11 @@
  *       should be called with <kbd>offset = 0</kbd> and <kbd>len = text.length</kbd> in order to process
  *       the whole <kbd>char[]</kbd>.</li>
  * </ul>
+ * <p>
+ *   All <kbd>String</kbd>-input modes are also available for any other <kbd>java.lang.CharSequence</kbd>
+ *   implementation (e.g. <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd>), which will be processed
+ *   directly, without needing to create a <kbd>String</kbd> out of them first.
+ * </p>
  *
  * <strong><u>Glossary</u></strong>
  *
@@ -544,10 +555,13 @@ public static void escapeJavaScript(final String text, final Writer writer,
 
 
 
+
+
+
     /**
      * <p>
      *   Perform a JavaScript level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the JavaScript basic escape set:
@@ -579,7 +593,7 @@ public static void escapeJavaScript(final String text, final Writer writer,
      *   </li>
      * </ul>
      * <p>
-     *   This method calls {@link #escapeJavaScript(Reader, Writer, JavaScriptEscapeType, JavaScriptEscapeLevel)}
+     *   This method calls {@link #escapeJavaScript(String, StringBuilder, JavaScriptEscapeType, JavaScriptEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -592,16 +606,14 @@ public static void escapeJavaScript(final String text, final Writer writer,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeJavaScriptMinimal(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeJavaScript(reader, writer,
+    public static void escapeJavaScriptMinimal(final String text, final StringBuilder strBuilder) {
+        escapeJavaScript(text, strBuilder,
                 JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
                 JavaScriptEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
@@ -610,7 +622,7 @@ public static void escapeJavaScriptMinimal(final Reader reader, final Writer wri
     /**
      * <p>
      *   Perform a JavaScript level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -653,7 +665,7 @@ public static void escapeJavaScriptMinimal(final Reader reader, final Writer wri
      *   Hexadecimal Escapes. This type of escape <u>produces the smallest escaped string possible</u>.
      * </p>
      * <p>
-     *   This method calls {@link #escapeJavaScript(Reader, Writer, JavaScriptEscapeType, JavaScriptEscapeLevel)}
+     *   This method calls {@link #escapeJavaScript(String, StringBuilder, JavaScriptEscapeType, JavaScriptEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -666,16 +678,14 @@ public static void escapeJavaScriptMinimal(final Reader reader, final Writer wri
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeJavaScript(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeJavaScript(reader, writer,
+    public static void escapeJavaScript(final String text, final StringBuilder strBuilder) {
+        escapeJavaScript(text, strBuilder,
                 JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
                 JavaScriptEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
@@ -683,8 +693,8 @@ public static void escapeJavaScript(final Reader reader, final Writer writer)
 
     /**
      * <p>
-     *   Perform a (configurable) JavaScript <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) JavaScript <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -692,29 +702,27 @@ public static void escapeJavaScript(final Reader reader, final Writer writer)
      *   {@link org.unbescape.javascript.JavaScriptEscapeLevel} argument values.
      * </p>
      * <p>
-     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeJavaScript*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeJavaScript*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param type the type of escape operation to be performed, see
      *             {@link org.unbescape.javascript.JavaScriptEscapeType}.
      * @param level the escape level to be applied, see {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeJavaScript(final Reader reader, final Writer writer,
-                                        final JavaScriptEscapeType type, final JavaScriptEscapeLevel level)
-            throws IOException {
+    public static void escapeJavaScript(final String text, final StringBuilder strBuilder,
+                                        final JavaScriptEscapeType type, final JavaScriptEscapeLevel level) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (type == null) {
@@ -725,17 +733,20 @@ public static void escapeJavaScript(final Reader reader, final Writer writer,
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        JavaScriptEscapeUtil.escape(reader, writer, type, level);
+        JavaScriptEscapeUtil.escape(text, strBuilder, type, level);
 
     }
 
 
 
 
+
+
+
     /**
      * <p>
      *   Perform a JavaScript level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the JavaScript basic escape set:
@@ -767,8 +778,7 @@ public static void escapeJavaScript(final Reader reader, final Writer writer,
      *   </li>
      * </ul>
      * <p>
-     *   This method calls
-     *   {@link #escapeJavaScript(char[], int, int, java.io.Writer, JavaScriptEscapeType, JavaScriptEscapeLevel)}
+     *   This method calls {@link #escapeJavaScript(CharSequence, JavaScriptEscapeType, JavaScriptEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -781,25 +791,24 @@ public static void escapeJavaScript(final Reader reader, final Writer writer,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeJavaScriptMinimal(final char[] text, final int offset, final int len, final Writer writer)
-                                               throws IOException {
-        escapeJavaScript(text, offset, len, writer,
-                         JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
-                         JavaScriptEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    public static String escapeJavaScriptMinimal(final CharSequence text) {
+        return escapeJavaScript(text,
+                JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
+                JavaScriptEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
      *   Perform a JavaScript level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -842,8 +851,7 @@ public static void escapeJavaScriptMinimal(final char[] text, final int offset,
      *   Hexadecimal Escapes. This type of escape <u>produces the smallest escaped string possible</u>.
      * </p>
      * <p>
-     *   This method calls
-     *   {@link #escapeJavaScript(char[], int, int, java.io.Writer, JavaScriptEscapeType, JavaScriptEscapeLevel)}
+     *   This method calls {@link #escapeJavaScript(CharSequence, JavaScriptEscapeType, JavaScriptEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -856,24 +864,23 @@ public static void escapeJavaScriptMinimal(final char[] text, final int offset,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeJavaScript(final char[] text, final int offset, final int len, final Writer writer)
-                                        throws IOException {
-        escapeJavaScript(text, offset, len, writer,
-                         JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
-                         JavaScriptEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static String escapeJavaScript(final CharSequence text) {
+        return escapeJavaScript(text,
+                JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
+                JavaScriptEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) JavaScript <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform a (configurable) JavaScript <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -881,30 +888,25 @@ public static void escapeJavaScript(final char[] text, final int offset, final i
      *   {@link org.unbescape.javascript.JavaScriptEscapeLevel} argument values.
      * </p>
      * <p>
-     *   All other <kbd>char[]</kbd>-based <kbd>escapeJavaScript*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapeJavaScript*(...)</kbd> methods call this one with
+     *   preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param type the type of escape operation to be performed, see
      *             {@link org.unbescape.javascript.JavaScriptEscapeType}.
      * @param level the escape level to be applied, see {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeJavaScript(final char[] text, final int offset, final int len, final Writer writer,
-                                        final JavaScriptEscapeType type, final JavaScriptEscapeLevel level)
-                                        throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
+    public static String escapeJavaScript(final CharSequence text,
+                                          final JavaScriptEscapeType type, final JavaScriptEscapeLevel level) {
 
         if (type == null) {
             throw new IllegalArgumentException("The 'type' argument cannot be null");
@@ -914,93 +916,1086 @@ public static void escapeJavaScript(final char[] text, final int offset, final i
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        JavaScriptEscapeUtil.escape(text, offset, len, writer, type, level);
+        return JavaScriptEscapeUtil.escape(text, type, level);
 
     }
 
 
-
-
-
-
-
-
     /**
      * <p>
-     *   Perform a JavaScript <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     *   Perform a JavaScript level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> JavaScript unescape of SECs, x-based, u-based
-     *   and octal escapes.
+     *   <em>Level 1</em> means this method will only escape the JavaScript basic escape set:
      * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;0</kbd> (<kbd>U+0000</kbd>),
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;v</kbd> (<kbd>U+000B</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *       Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *       symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *       closing <kbd>&lt;script&gt;</kbd> tags in HTML. Also, note that <kbd>&#92;v</kbd>
+     *       (<kbd>U+000B</kbd>) is actually included as a Single Escape
+     *       Character in the JavaScript (ECMAScript) specification, but will not be used as it
+     *       is not supported by Microsoft Internet Explorer versions &lt; 9.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0001</kbd> to <kbd>U+001F</kbd> and
+     *       <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapeJavaScript(CharSequence, Writer, JavaScriptEscapeType, JavaScriptEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String unescapeJavaScript(final String text) {
-        if (text == null) {
-            return null;
-        }
-        if (text.indexOf('\\') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            return text;
-        }
-        return JavaScriptEscapeUtil.unescape(text);
+    public static void escapeJavaScriptMinimal(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeJavaScript(text, writer,
+                JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
+                JavaScriptEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a JavaScript <strong>unescape</strong> operation on a <kbd>String</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a JavaScript level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> JavaScript unescape of SECs, x-based, u-based
-     *   and octal escapes.
+     *   <em>Level 2</em> means this method will escape:
      * </p>
+     * <ul>
+     *   <li>The JavaScript basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;0</kbd> (<kbd>U+0000</kbd>),
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;v</kbd> (<kbd>U+000B</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *               Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *               symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *               closing <kbd>&lt;script&gt;</kbd> tags in HTML. Also, note that <kbd>&#92;v</kbd>
+     *               (<kbd>U+000B</kbd>) is actually included as a Single Escape
+     *               Character in the JavaScript (ECMAScript) specification, but will not be used as it
+     *               is not supported by Microsoft Internet Explorer versions &lt; 9.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0001</kbd> to <kbd>U+001F</kbd> and
+     *               <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to using <kbd>&#92;xFF</kbd> Hexadecimal Escapes
+     *   if possible (characters &lt;= <kbd>U+00FF</kbd>), then default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes. This type of escape <u>produces the smallest escaped string possible</u>.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeJavaScript(CharSequence, Writer, JavaScriptEscapeType, JavaScriptEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeJavaScript(final String text, final Writer writer)
+    public static void escapeJavaScript(final CharSequence text, final Writer writer)
             throws IOException {
+        escapeJavaScript(text, writer,
+                JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
+                JavaScriptEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
-        if (text == null) {
-            return;
-        }
-        if (text.indexOf('\\') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            writer.write(text);
+
+    /**
+     * <p>
+     *   Perform a (configurable) JavaScript <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.javascript.JavaScriptEscapeType} and
+     *   {@link org.unbescape.javascript.JavaScriptEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapeJavaScript*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link org.unbescape.javascript.JavaScriptEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJavaScript(final CharSequence text, final Writer writer,
+                                        final JavaScriptEscapeType type, final JavaScriptEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        JavaScriptEscapeUtil.escape(new InternalStringReader(text), writer, type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the JavaScript basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;0</kbd> (<kbd>U+0000</kbd>),
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;v</kbd> (<kbd>U+000B</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *       Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *       symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *       closing <kbd>&lt;script&gt;</kbd> tags in HTML. Also, note that <kbd>&#92;v</kbd>
+     *       (<kbd>U+000B</kbd>) is actually included as a Single Escape
+     *       Character in the JavaScript (ECMAScript) specification, but will not be used as it
+     *       is not supported by Microsoft Internet Explorer versions &lt; 9.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0001</kbd> to <kbd>U+001F</kbd> and
+     *       <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapeJavaScript(CharSequence, StringBuilder, JavaScriptEscapeType,
+     *   JavaScriptEscapeLevel)} with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJavaScriptMinimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapeJavaScript(text, strBuilder,
+                JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
+                JavaScriptEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The JavaScript basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;0</kbd> (<kbd>U+0000</kbd>),
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;v</kbd> (<kbd>U+000B</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *               Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *               symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *               closing <kbd>&lt;script&gt;</kbd> tags in HTML. Also, note that <kbd>&#92;v</kbd>
+     *               (<kbd>U+000B</kbd>) is actually included as a Single Escape
+     *               Character in the JavaScript (ECMAScript) specification, but will not be used as it
+     *               is not supported by Microsoft Internet Explorer versions &lt; 9.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0001</kbd> to <kbd>U+001F</kbd> and
+     *               <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to using <kbd>&#92;xFF</kbd> Hexadecimal Escapes
+     *   if possible (characters &lt;= <kbd>U+00FF</kbd>), then default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes. This type of escape <u>produces the smallest escaped string possible</u>.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeJavaScript(CharSequence, StringBuilder, JavaScriptEscapeType,
+     *   JavaScriptEscapeLevel)} with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJavaScript(final CharSequence text, final StringBuilder strBuilder) {
+        escapeJavaScript(text, strBuilder,
+                JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
+                JavaScriptEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) JavaScript <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.javascript.JavaScriptEscapeType} and
+     *   {@link org.unbescape.javascript.JavaScriptEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeJavaScript*(...)</kbd> methods call
+     *   this one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link org.unbescape.javascript.JavaScriptEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJavaScript(final CharSequence text, final StringBuilder strBuilder,
+                                        final JavaScriptEscapeType type, final JavaScriptEscapeLevel level) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        JavaScriptEscapeUtil.escape(text, strBuilder, type, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the JavaScript basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;0</kbd> (<kbd>U+0000</kbd>),
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;v</kbd> (<kbd>U+000B</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *       Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *       symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *       closing <kbd>&lt;script&gt;</kbd> tags in HTML. Also, note that <kbd>&#92;v</kbd>
+     *       (<kbd>U+000B</kbd>) is actually included as a Single Escape
+     *       Character in the JavaScript (ECMAScript) specification, but will not be used as it
+     *       is not supported by Microsoft Internet Explorer versions &lt; 9.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0001</kbd> to <kbd>U+001F</kbd> and
+     *       <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapeJavaScript(Reader, Writer, JavaScriptEscapeType, JavaScriptEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeJavaScriptMinimal(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeJavaScript(reader, writer,
+                JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
+                JavaScriptEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The JavaScript basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;0</kbd> (<kbd>U+0000</kbd>),
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;v</kbd> (<kbd>U+000B</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *               Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *               symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *               closing <kbd>&lt;script&gt;</kbd> tags in HTML. Also, note that <kbd>&#92;v</kbd>
+     *               (<kbd>U+000B</kbd>) is actually included as a Single Escape
+     *               Character in the JavaScript (ECMAScript) specification, but will not be used as it
+     *               is not supported by Microsoft Internet Explorer versions &lt; 9.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0001</kbd> to <kbd>U+001F</kbd> and
+     *               <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to using <kbd>&#92;xFF</kbd> Hexadecimal Escapes
+     *   if possible (characters &lt;= <kbd>U+00FF</kbd>), then default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes. This type of escape <u>produces the smallest escaped string possible</u>.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeJavaScript(Reader, Writer, JavaScriptEscapeType, JavaScriptEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeJavaScript(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeJavaScript(reader, writer,
+                JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
+                JavaScriptEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) JavaScript <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.javascript.JavaScriptEscapeType} and
+     *   {@link org.unbescape.javascript.JavaScriptEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeJavaScript*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link org.unbescape.javascript.JavaScriptEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeJavaScript(final Reader reader, final Writer writer,
+                                        final JavaScriptEscapeType type, final JavaScriptEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        JavaScriptEscapeUtil.escape(reader, writer, type, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the JavaScript basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;0</kbd> (<kbd>U+0000</kbd>),
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;v</kbd> (<kbd>U+000B</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *       Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *       symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *       closing <kbd>&lt;script&gt;</kbd> tags in HTML. Also, note that <kbd>&#92;v</kbd>
+     *       (<kbd>U+000B</kbd>) is actually included as a Single Escape
+     *       Character in the JavaScript (ECMAScript) specification, but will not be used as it
+     *       is not supported by Microsoft Internet Explorer versions &lt; 9.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0001</kbd> to <kbd>U+001F</kbd> and
+     *       <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls
+     *   {@link #escapeJavaScript(char[], int, int, java.io.Writer, JavaScriptEscapeType, JavaScriptEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeJavaScriptMinimal(final char[] text, final int offset, final int len, final Writer writer)
+                                               throws IOException {
+        escapeJavaScript(text, offset, len, writer,
+                         JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
+                         JavaScriptEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The JavaScript basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;0</kbd> (<kbd>U+0000</kbd>),
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;v</kbd> (<kbd>U+000B</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#39;</kbd> (<kbd>U+0027</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *               Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *               symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *               closing <kbd>&lt;script&gt;</kbd> tags in HTML. Also, note that <kbd>&#92;v</kbd>
+     *               (<kbd>U+000B</kbd>) is actually included as a Single Escape
+     *               Character in the JavaScript (ECMAScript) specification, but will not be used as it
+     *               is not supported by Microsoft Internet Explorer versions &lt; 9.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0001</kbd> to <kbd>U+001F</kbd> and
+     *               <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to using <kbd>&#92;xFF</kbd> Hexadecimal Escapes
+     *   if possible (characters &lt;= <kbd>U+00FF</kbd>), then default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes. This type of escape <u>produces the smallest escaped string possible</u>.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeJavaScript(char[], int, int, java.io.Writer, JavaScriptEscapeType, JavaScriptEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.javascript.JavaScriptEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeJavaScript(final char[] text, final int offset, final int len, final Writer writer)
+                                        throws IOException {
+        escapeJavaScript(text, offset, len, writer,
+                         JavaScriptEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_XHEXA_AND_UHEXA,
+                         JavaScriptEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) JavaScript <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.javascript.JavaScriptEscapeType} and
+     *   {@link org.unbescape.javascript.JavaScriptEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>char[]</kbd>-based <kbd>escapeJavaScript*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link org.unbescape.javascript.JavaScriptEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeJavaScript(final char[] text, final int offset, final int len, final Writer writer,
+                                        final JavaScriptEscapeType type, final JavaScriptEscapeLevel level)
+                                        throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        JavaScriptEscapeUtil.escape(text, offset, len, writer, type, level);
+
+    }
+
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Obtain a pre-compiled JavaScript <strong>escaper</strong> for the specified type and level, which will perform
+     *   the same escape operations as the <kbd>escapeJavaScript(...)</kbd> methods in this class that receive the same
+     *   <kbd>type</kbd> and <kbd>level</kbd> arguments.
+     * </p>
+     * <p>
+     *   All the decisions depending on the escape type and level are taken only once when the escaper is created,
+     *   so code that escapes texts very frequently and always with the same type and level can obtain an escaper
+     *   once and use it for every escape operation.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, and so are the returned escapers.
+     * </p>
+     *
+     * @param type the type of escape operation to be performed, see
+     *             {@link org.unbescape.javascript.JavaScriptEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
+     * @return the escaper.
+     *
+     * @since 1.1.7
+     */
+    public static JavaScriptEscaper escaper(final JavaScriptEscapeType type, final JavaScriptEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return JavaScriptEscaper.forTypeAndLevel(type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable)
+     *   JavaScript <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeJavaScript(CharSequence, JavaScriptEscapeType,
+     *   JavaScriptEscapeLevel)} would do with the same <kbd>type</kbd> and <kbd>level</kbd>, but no objects are created
+     *   at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see
+     *             {@link org.unbescape.javascript.JavaScriptEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableJavaScript(
+            final CharSequence text, final JavaScriptEscapeType type, final JavaScriptEscapeLevel level) {
+        return JavaScriptEscapeUtil.indexOfFirstEscapable(text, escaper(type, level));
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) JavaScript <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapeJavaScript(CharSequence, JavaScriptEscapeType,
+     *   JavaScriptEscapeLevel)} returns a different text, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see
+     *             {@link org.unbescape.javascript.JavaScriptEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeJavaScript(
+            final CharSequence text, final JavaScriptEscapeType type, final JavaScriptEscapeLevel level) {
+        return (indexOfFirstEscapableJavaScript(text, type, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) JavaScript <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeJavaScript(CharSequence, JavaScriptEscapeType, JavaScriptEscapeLevel)},
+     *   but no objects are created at all during the process. This allows sizing a <kbd>char[]</kbd>,
+     *   <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see
+     *             {@link org.unbescape.javascript.JavaScriptEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthJavaScript(
+            final CharSequence text, final JavaScriptEscapeType type, final JavaScriptEscapeLevel level) {
+        return JavaScriptEscapeUtil.escapedLength(text, escaper(type, level));
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JavaScript unescape of SECs, x-based, u-based
+     *   and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeJavaScript(final String text) {
+        if (text == null) {
+            return null;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            return text;
+        }
+        return JavaScriptEscapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript <strong>unescape</strong> operation on a <kbd>String</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JavaScript unescape of SECs, x-based, u-based
+     *   and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeJavaScript(final String text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            writer.write(text);
+            return;
+        }
+
+        JavaScriptEscapeUtil.unescape(new InternalStringReader(text), writer);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript <strong>unescape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JavaScript unescape of SECs, x-based, u-based
+     *   and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeJavaScript(final String text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            strBuilder.append(text);
+            return;
+        }
+
+        JavaScriptEscapeUtil.unescape(text, strBuilder);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JavaScript unescape of SECs, x-based, u-based
+     *   and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeJavaScript(final CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            return unescapeJavaScript((String) text);
+        }
+        return JavaScriptEscapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JavaScript unescape of SECs, x-based, u-based
+     *   and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeJavaScript(final CharSequence text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeJavaScript((String) text, writer);
             return;
         }
 
@@ -1009,6 +2004,45 @@ public static void unescapeJavaScript(final String text, final Writer writer)
     }
 
 
+    /**
+     * <p>
+     *   Perform a JavaScript <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JavaScript unescape of SECs, x-based, u-based
+     *   and octal escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeJavaScript(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeJavaScript((String) text, strBuilder);
+            return;
+        }
+
+        JavaScriptEscapeUtil.unescape(text, strBuilder);
+
+    }
+
+
     /**
      * <p>
      *   Perform a JavaScript <strong>unescape</strong> operation on a <kbd>Reader</kbd> input,
@@ -1088,6 +2122,65 @@ public static void unescapeJavaScript(final char[] text, final int offset, final
 
 
 
+    /**
+     * <p>
+     *   Obtain a <strong>chunked unescaper</strong> that performs a JavaScript <strong>unescape</strong> operation on a
+     *   text received as a sequence of chunks (e.g. network buffers), writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   Chunks can be split at any point, even in the middle of escape sequences, and results will be exactly the same
+     *   as those of {@link #unescapeJavaScript(String)} on the concatenation of all the chunks. The end of the text
+     *   must be signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link
+     *   org.unbescape.ChunkedUnescaper} for details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
+     */
+    public static ChunkedUnescaper chunkedUnescaper(final Writer writer) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        return new JavaScriptChunkedUnescaper(writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a JavaScript <strong>unescape</strong> operation would modify a <kbd>CharSequence</kbd>
+     *   input.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #unescapeJavaScript(CharSequence)} returns a different text.
+     *   Texts that do not contain any backslash (<kbd>\\</kbd>) chars are discarded without creating any objects at
+     *   all, which makes this method adequate for checking (or caching) values that only rarely contain escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresUnescapeJavaScript(final CharSequence text) {
+        return JavaScriptEscapeUtil.requiresUnescape(text);
+    }
+
+
+
+
     private JavaScriptEscape() {
         super();
     }
@@ -1098,16 +2191,19 @@ private JavaScriptEscape() {
      * This is basically a very simplified, thread-unsafe version of StringReader that should
      * perform better than the original StringReader by removing all synchronization structures.
      *
+     * It can read from any CharSequence. Bulk reads are specialized for String, StringBuilder and
+     * array-backed CharBuffer objects so that, for those, chars are copied without calling charAt(...).
+     *
      * Note the only implemented methods are those that we know are really used from within the
      * stream-based escape/unescape operations.
      */
     private static final class InternalStringReader extends Reader {
 
-        private String str;
+        private CharSequence str;
         private int length;
         private int next = 0;
 
-        public InternalStringReader(final String s) {
+        public InternalStringReader(final CharSequence s) {
             super();
             this.str = s;
             this.length = s.length();
@@ -1133,7 +2229,19 @@ public int read(final char[] cbuf, final int off, final int len) throws IOExcept
                 return -1;
             }
             int n = Math.min(this.length - this.next, len);
-            this.str.getChars(this.next, this.next + n, cbuf, off);
+            if (this.str instanceof String) {
+                ((String) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof StringBuilder) {
+                ((StringBuilder) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof CharBuffer && ((CharBuffer) this.str).hasArray()) {
+                final CharBuffer charBuffer = (CharBuffer) this.str;
+                System.arraycopy(
+                        charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + this.next, cbuf, off, n);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = this.str.charAt(this.next + i);
+                }
+            }
             this.next += n;
             return n;
         }
@@ -24,6 +24,11 @@
 import java.io.Writer;
 import java.util.Arrays;
 
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
+import org.unbescape.EscapeScanner;
+
 /**
  * <p>
  *   Internal class in charge of performing the real escape/unescape operations.
@@ -90,6 +95,24 @@ final class JavaScriptEscapeUtil {
     private static char[] HEXA_CHARS_UPPER = "0123456789ABCDEF".toCharArray();
     private static char[] HEXA_CHARS_LOWER = "0123456789abcdef".toCharArray();
 
+    /*
+     * Size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
+
+    /*
+     * Length of the longest escape sequence ("\u00E1"). Only this amount of chars at most needs to be kept at the
+     * end of a chunk of text when unescaping it by chunks.
+     */
+    private static final int MAX_ESCAPE_LEN = 6;
+
+    /*
+     * Scanner used for quickly discarding texts that do not contain any escapes at all, and therefore
+     * never need unescaping
+     */
+    private static final EscapeScanner UNESCAPE_SCANNER =
+            EscapeScanner.forCandidateRanges(new char[] { ESCAPE_PREFIX, ESCAPE_PREFIX });
+
 
     /*
      * Structures for holding the Single Escape Characters
@@ -226,22 +249,132 @@ static char[] toUHexa(final int codepoint) {
     }
 
 
+    /*
+     * Return the escape level of a char, as defined in ESCAPE_LEVELS.
+     */
+    static byte escapeLevel(final int c) {
+        return ESCAPE_LEVELS[c <= (ESCAPE_LEVELS_LEN - 2)? c : (ESCAPE_LEVELS_LEN - 1)];
+    }
+
+
+    /*
+     * Compute the replacement for a codepoint that needs to be escaped, attending the different combinations
+     * of SECs, XHEXA and UHEXA.
+     */
+    static char[] computeReplacement(final int codepoint, final boolean useSECs, final boolean useXHexa) {
+
+        if (useSECs && codepoint < SEC_CHARS_LEN) {
+            // We will try to use a SEC
+
+            final char sec = SEC_CHARS[codepoint];
+
+            if (sec != SEC_CHARS_NO_SEC) {
+                // SEC found!
+                return new char[] { ESCAPE_PREFIX, sec };
+            }
+
+        }
+
+        /*
+         * No SEC-escape was possible, so we need xhexa/uhexa escape.
+         */
+
+        if (useXHexa && codepoint <= 0xFF) {
+            // Codepoint is <= 0xFF, so we can use XHEXA escapes
+            final char[] xhexa = toXHexa(codepoint);
+            return new char[] { ESCAPE_PREFIX, ESCAPE_XHEXA_PREFIX2, xhexa[0], xhexa[1] };
+        }
+
+        if (Character.charCount(codepoint) > 1) {
+            final char[] codepointChars = Character.toChars(codepoint);
+            final char[] uhexa0 = toUHexa(codepointChars[0]);
+            final char[] uhexa1 = toUHexa(codepointChars[1]);
+            return new char[] {
+                    ESCAPE_PREFIX, ESCAPE_UHEXA_PREFIX2, uhexa0[0], uhexa0[1], uhexa0[2], uhexa0[3],
+                    ESCAPE_PREFIX, ESCAPE_UHEXA_PREFIX2, uhexa1[0], uhexa1[1], uhexa1[2], uhexa1[3] };
+        }
+
+        final char[] uhexa = toUHexa(codepoint);
+        return new char[] { ESCAPE_PREFIX, ESCAPE_UHEXA_PREFIX2, uhexa[0], uhexa[1], uhexa[2], uhexa[3] };
+
+    }
+
+
 
     /*
-     * Perform an escape operation, based on String, according to the specified level and type.
+     * Perform an escape operation, based on CharSequence, according to the specified level and type.
      */
-    static String escape(final String text,
+    static String escape(final CharSequence text,
                          final JavaScriptEscapeType escapeType, final JavaScriptEscapeLevel escapeLevel) {
 
         if (text == null) {
             return null;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useSECs = escapeType.getUseSECs();
-        final boolean useXHexa = escapeType.getUseXHexa();
+        final StringBuilder strBuilder = escape(text, null, escapeType, escapeLevel);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
 
-        StringBuilder strBuilder = null;
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, according to the specified level and type, appending the
+     * result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output,
+                                final JavaScriptEscapeType escapeType, final JavaScriptEscapeLevel escapeLevel) {
+        return escape(text, output, JavaScriptEscaper.forTypeAndLevel(escapeType, escapeLevel));
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, by means of the specified (pre-compiled) escaper,
+     * appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output, final JavaScriptEscaper escaper) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.JAVASCRIPT, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeCharSequence(text, output, escaper);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeCharSequence(text, null, escaper);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                    final JavaScriptEscaper escaper) {
+
+        if (text == null) {
+            return output;
+        }
+
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+        final boolean escapeSlashOnlyAfterLt = escaper.ESCAPE_SLASH_ONLY_AFTER_LT;
+
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -250,43 +383,39 @@ static String escape(final String text,
 
         for (int i = offset; i < max; i++) {
 
-            final int codepoint = Character.codePointAt(text, i);
+            final char c = text.charAt(i);
 
 
             /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
+             * Shortcut: most characters will be ASCII/Latin-1, for which we already know whether (and how)
+             * they need escaping. Above those, all chars need the same, except U+2028 and U+2029, which
+             * the JavaScript spec considers LineTerminators and therefore should be escaped always.
              */
-            if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
-                continue;
-            }
+            if (c < JavaScriptEscaper.REPLACEMENTS_LEN) {
 
-            /*
-             * Check whether the character is a slash (solidus). In such case, only escape if it
-             * appears after a '<' ('</') or level >= 3 (non alphanumeric)
-             */
-            if (codepoint == '/' && level < 3 && (i == 0 || text.charAt(i - 1) != '<')) {
-                continue;
-            }
-
-            /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
-             * We also check we are not dealing with U+2028 or U+2029, which the JavaScript spec considers
-             * LineTerminators and therefore should be escaped always.
-             */
-            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1] &&
-                    codepoint != '\u2028' && codepoint != '\u2029') {
+                if (replacements[c] == null) {
+                    continue;
+                }
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
-                    i++;
+                /*
+                 * Check whether the character is a slash (solidus). In such case, only escape if it
+                 * appears after a '<' ('</') or level >= 3 (non alphanumeric)
+                 */
+                if (c == '/' && escapeSlashOnlyAfterLt && (i == 0 || text.charAt(i - 1) != '<')) {
+                    continue;
                 }
 
+            } else if (!escapeAboveReplacements && c != '\u2028' && c != '\u2029') {
                 continue;
-
             }
 
 
+            /*
+             * Compute the codepoint. This will be used instead of the char for the rest of the process.
+             */
+            final int codepoint = Character.codePointAt(text, i);
+
+
             /*
              * At this point we know for sure we will need some kind of escape, so we
              * can increase the offset and initialize the string builder if needed, along with
@@ -310,209 +439,210 @@ static String escape(final String text,
 
 
             /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of SECs, XHEXA and UHEXA
-             *
-             * -----------------------------------------------------------------------------------------
-             */
-
-            if (useSECs && codepoint < SEC_CHARS_LEN) {
-                // We will try to use a SEC
-
-                final char sec = SEC_CHARS[codepoint];
-
-                if (sec != SEC_CHARS_NO_SEC) {
-                    // SEC found! just write it and go for the next char
-                    strBuilder.append(ESCAPE_PREFIX);
-                    strBuilder.append(sec);
-                    continue;
-                }
-
-            }
-
-            /*
-             * No SEC-escape was possible, so we need xhexa/uhexa escape.
+             * Perform the real escape: precomputed for the most common chars, computed for the rest.
              */
-
-            if (useXHexa && codepoint <= 0xFF) {
-                // Codepoint is <= 0xFF, so we can use XHEXA escapes
-                strBuilder.append(ESCAPE_XHEXA_PREFIX);
-                strBuilder.append(toXHexa(codepoint));
-                continue;
-            }
-
-            if (Character.charCount(codepoint) > 1) {
-                final char[] codepointChars = Character.toChars(codepoint);
-                strBuilder.append(ESCAPE_UHEXA_PREFIX);
-                strBuilder.append(toUHexa(codepointChars[0]));
-                strBuilder.append(ESCAPE_UHEXA_PREFIX);
-                strBuilder.append(toUHexa(codepointChars[1]));
-                continue;
-            }
-
-            strBuilder.append(ESCAPE_UHEXA_PREFIX);
-            strBuilder.append(toUHexa(codepoint));
+            strBuilder.append(
+                    c < JavaScriptEscaper.REPLACEMENTS_LEN? replacements[c] : escaper.computeReplacement(codepoint));
 
         }
 
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: return null if no escape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining unescaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
 
 
 
+
     /*
-     * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
-     * result to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Find the first position in a CharSequence at which an escape operation performed by the specified
+     * (pre-compiled) escaper would modify it, or -1 if escaping would leave it unmodified. Chars are examined
+     * exactly as in escapeCharSequence(...), but nothing is ever allocated.
      */
-    static void escape(
-            final Reader reader, final Writer writer, final JavaScriptEscapeType escapeType, final JavaScriptEscapeLevel escapeLevel)
-            throws IOException {
+    static int indexOfFirstEscapable(final CharSequence text, final JavaScriptEscaper escaper) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return -1;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useSECs = escapeType.getUseSECs();
-        final boolean useXHexa = escapeType.getUseXHexa();
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+        final boolean escapeSlashOnlyAfterLt = escaper.ESCAPE_SLASH_ONLY_AFTER_LT;
 
-        int c0, c1, c2; // c0: last char, c1: current char, c2: next char
+        final int max = text.length();
 
-        c1 = -1;
-        c2 = reader.read();
+        for (int i = 0; i < max; i++) {
 
-        while (c2 >= 0) {
+            final char c = text.charAt(i);
 
-            c0 = c1;
-            c1 = c2;
-            c2 = reader.read();
+            if (c < JavaScriptEscaper.REPLACEMENTS_LEN) {
 
-            final int codepoint = codePointAt((char)c1, (char)c2);
+                if (replacements[c] == null) {
+                    continue;
+                }
 
+                if (c == '/' && escapeSlashOnlyAfterLt && (i == 0 || text.charAt(i - 1) != '<')) {
+                    continue;
+                }
 
-            /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
-             */
-            if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
-                writer.write(c1);
+            } else if (!escapeAboveReplacements && c != '\u2028' && c != '\u2029') {
                 continue;
             }
 
-            /*
-             * Check whether the character is a slash (solidus). In such case, only escape if it
-             * appears after a '<' ('</') or level >= 3 (non alphanumeric)
-             */
-            if (codepoint == '/' && level < 3 && c0 != '<') {
-                writer.write(c1);
-                continue;
-            }
+            return i;
 
-            /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
-             * We also check we are not dealing with U+2028 or U+2029, which the JavaScript spec considers
-             * LineTerminators and therefore should be escaped always.
-             */
-            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1] &&
-                    codepoint != '\u2028' && codepoint != '\u2029') {
+        }
 
-                writer.write(c1);
+        return -1;
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
+    }
 
-                    writer.write(c2);
 
-                    c0 = c1;
-                    c1 = c2;
-                    c2 = reader.read();
 
-                }
 
-                continue;
 
-            }
+    /*
+     * Compute the exact length of the result of an escape operation performed on a CharSequence by the specified
+     * (pre-compiled) escaper, without actually escaping anything. Chars are examined exactly as in
+     * escapeCharSequence(...).
+     */
+    static long escapedLength(final CharSequence text, final JavaScriptEscaper escaper) {
 
+        if (text == null) {
+            return 0L;
+        }
 
-            /*
-             * We know we need to escape, so from here on we will only work with the codepoint -- we can advance
-             * the chars.
-             */
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+        final boolean escapeSlashOnlyAfterLt = escaper.ESCAPE_SLASH_ONLY_AFTER_LT;
 
-            if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually reading two char positions with a single codepoint.
-                c0 = c1;
-                c1 = c2;
-                c2 = reader.read();
-            }
+        final int max = text.length();
 
+        long length = max;
 
-            /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of SECs, XHEXA and UHEXA
-             *
-             * -----------------------------------------------------------------------------------------
-             */
+        for (int i = 0; i < max; i++) {
 
-            if (useSECs && codepoint < SEC_CHARS_LEN) {
-                // We will try to use a SEC
+            final char c = text.charAt(i);
 
-                final char sec = SEC_CHARS[codepoint];
+            if (c < JavaScriptEscaper.REPLACEMENTS_LEN) {
 
-                if (sec != SEC_CHARS_NO_SEC) {
-                    // SEC found! just write it and go for the next char
-                    writer.write(ESCAPE_PREFIX);
-                    writer.write(sec);
+                if (replacements[c] == null) {
                     continue;
                 }
 
+                if (c == '/' && escapeSlashOnlyAfterLt && (i == 0 || text.charAt(i - 1) != '<')) {
+                    continue;
+                }
+
+                length += replacements[c].length - 1;
+                continue;
+
+            }
+
+            if (!escapeAboveReplacements && c != '\u2028' && c != '\u2029') {
+                continue;
             }
 
             /*
-             * No SEC-escape was possible, so we need xhexa/uhexa escape.
+             * Above REPLACEMENTS_LEN there are no SECs or xhexa escapes, so computeReplacement(...) will always
+             * return one uhexa escape (6 chars) per char, or two of them for a surrogate pair.
              */
+            if (Character.charCount(Character.codePointAt(text, i)) > 1) {
+                // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                i++;
+                length += 10;
+            } else {
+                length += 5;
+            }
 
-            if (useXHexa && codepoint <= 0xFF) {
-                // Codepoint is <= 0xFF, so we can use XHEXA escapes
-                writer.write(ESCAPE_XHEXA_PREFIX);
-                writer.write(toXHexa(codepoint));
-                continue;
+        }
+
+        return length;
+
+    }
+
+
+
+
+
+    /*
+     * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
+     * result to a Writer.
+     */
+    static void escape(
+            final Reader reader, final Writer writer, final JavaScriptEscapeType escapeType, final JavaScriptEscapeLevel escapeLevel)
+            throws IOException {
+        escape(reader, writer, JavaScriptEscaper.forTypeAndLevel(escapeType, escapeLevel));
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on a Reader, by means of the specified (pre-compiled) escaper and writing
+     * the result to a Writer.
+     *
+     * The reader is read in chunks, each of which is escaped by means of the char[]-based method. A high surrogate
+     * found at the end of a chunk is kept for the next one, so that surrogate pairs are never split.
+     * A '<' found at the end of a chunk is also kept, as it determines whether a '/' after it needs escaping.
+     * Only that last char is ever kept, so there will always be room in the buffer for reading more.
+     */
+    static void escape(final Reader reader, final Writer writer, final JavaScriptEscaper escaper)
+            throws IOException {
+
+        if (reader == null) {
+            return;
+        }
+
+        final char[] buffer = new char[READER_BUFFER_SIZE];
+
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
+
+        int bufferSize = read;
+
+        while (bufferSize > 0 || read >= 0) {
+
+            int n = bufferSize;
+            if (read >= 0) {
+                if (n > 0 && (Character.isHighSurrogate(buffer[n - 1]) || buffer[n - 1] == '<')) {
+                    n--;
+                }
             }
 
-            if (Character.charCount(codepoint) > 1) {
-                final char[] codepointChars = Character.toChars(codepoint);
-                writer.write(ESCAPE_UHEXA_PREFIX);
-                writer.write(toUHexa(codepointChars[0]));
-                writer.write(ESCAPE_UHEXA_PREFIX);
-                writer.write(toUHexa(codepointChars[1]));
-                continue;
+            if (n > 0) {
+
+                escape(buffer, 0, n, writer, escaper);
+
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
+
             }
 
-            writer.write(ESCAPE_UHEXA_PREFIX);
-            writer.write(toUHexa(codepoint));
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
 
         }
 
@@ -520,21 +650,32 @@ static void escape(
 
 
 
-
     /*
      * Perform an escape operation, based on char[], according to the specified level and type.
      */
     static void escape(final char[] text, final int offset, final int len, final Writer writer,
                        final JavaScriptEscapeType escapeType, final JavaScriptEscapeLevel escapeLevel)
                        throws IOException {
+        escape(text, offset, len, writer, JavaScriptEscaper.forTypeAndLevel(escapeType, escapeLevel));
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on char[], by means of the specified (pre-compiled) escaper.
+     */
+    static void escape(final char[] text, final int offset, final int len, final Writer writer,
+                       final JavaScriptEscaper escaper)
+                       throws IOException {
 
         if (text == null || text.length == 0) {
             return;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useSECs = escapeType.getUseSECs();
-        final boolean useXHexa = escapeType.getUseXHexa();
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+        final boolean escapeSlashOnlyAfterLt = escaper.ESCAPE_SLASH_ONLY_AFTER_LT;
 
         final int max = (offset + len);
 
@@ -542,43 +683,39 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
         for (int i = offset; i < max; i++) {
 
-            final int codepoint = Character.codePointAt(text, i);
-
+            final char c = text[i];
 
-            /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
-             */
-            if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
-                continue;
-            }
 
             /*
-             * Check whether the character is a slash (solidus). In such case, only escape if it
-             * appears after a '<' ('</') or level >= 3 (non alphanumeric)
+             * Shortcut: most characters will be ASCII/Latin-1, for which we already know whether (and how)
+             * they need escaping. Above those, all chars need the same, except U+2028 and U+2029, which
+             * the JavaScript spec considers LineTerminators and therefore should be escaped always.
              */
-            if (codepoint == '/' && level < 3 && (i == 0 || text[i - 1] != '<')) {
-                continue;
-            }
+            if (c < JavaScriptEscaper.REPLACEMENTS_LEN) {
 
-            /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
-             * We also check we are not dealing with U+2028 or U+2029, which the JavaScript spec considers
-             * LineTerminators and therefore should be escaped always.
-             */
-            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1] &&
-                    codepoint != '\u2028' && codepoint != '\u2029') {
+                if (replacements[c] == null) {
+                    continue;
+                }
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
-                    i++;
+                /*
+                 * Check whether the character is a slash (solidus). In such case, only escape if it
+                 * appears after a '<' ('</') or level >= 3 (non alphanumeric)
+                 */
+                if (c == '/' && escapeSlashOnlyAfterLt && (i == 0 || text[i - 1] != '<')) {
+                    continue;
                 }
 
+            } else if (!escapeAboveReplacements && c != '\u2028' && c != '\u2029') {
                 continue;
-
             }
 
 
+            /*
+             * Compute the codepoint. This will be used instead of the char for the rest of the process.
+             */
+            final int codepoint = Character.codePointAt(text, i, max);
+
+
             /*
              * At this point we know for sure we will need some kind of escape, so we
              * can write all the contents pending up to this point.
@@ -597,57 +734,17 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
 
             /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of SECs, XHEXA and UHEXA
-             *
-             * -----------------------------------------------------------------------------------------
+             * Perform the real escape: precomputed for the most common chars, computed for the rest.
              */
-
-            if (useSECs && codepoint < SEC_CHARS_LEN) {
-                // We will try to use a SEC
-
-                final char sec = SEC_CHARS[codepoint];
-
-                if (sec != SEC_CHARS_NO_SEC) {
-                    // SEC found! just write it and go for the next char
-                    writer.write(ESCAPE_PREFIX);
-                    writer.write(sec);
-                    continue;
-                }
-
-            }
-
-            /*
-             * No SEC-escape was possible, so we need xhexa/uhexa escape.
-             */
-
-            if (useXHexa && codepoint <= 0xFF) {
-                // Codepoint is <= 0xFF, so we can use XHEXA escapes
-                writer.write(ESCAPE_XHEXA_PREFIX);
-                writer.write(toXHexa(codepoint));
-                continue;
-            }
-
-            if (Character.charCount(codepoint) > 1) {
-                final char[] codepointChars = Character.toChars(codepoint);
-                writer.write(ESCAPE_UHEXA_PREFIX);
-                writer.write(toUHexa(codepointChars[0]));
-                writer.write(ESCAPE_UHEXA_PREFIX);
-                writer.write(toUHexa(codepointChars[1]));
-                continue;
-            }
-
-            writer.write(ESCAPE_UHEXA_PREFIX);
-            writer.write(toUHexa(codepoint));
+            writer.write(
+                    c < JavaScriptEscaper.REPLACEMENTS_LEN? replacements[c] : escaper.computeReplacement(codepoint));
 
         }
 
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: append the remaining unescaped text to the writer and return.
          * -----------------------------------------------------------------------------------------------
          */
 
@@ -670,7 +767,7 @@ static void escape(final char[] text, final int offset, final int len, final Wri
      * -  No need to check all chars are within the radix limits - reference parsing code will already have done so.
      */
 
-    static int parseIntFromReference(final String text, final int start, final int end, final int radix) {
+    static int parseIntFromReference(final CharSequence text, final int start, final int end, final int radix) {
         int result = 0;
         for (int i = start; i < end; i++) {
             final char c = text.charAt(i);
@@ -722,7 +819,7 @@ static int parseIntFromReference(final int[] text, final int start, final int en
 
 
 
-    static boolean isOctalEscape(final String text, final int start, final int end) {
+    static boolean isOctalEscape(final CharSequence text, final int start, final int end) {
 
         if (start >= end) {
             return false;
@@ -793,15 +890,57 @@ static boolean isOctalEscape(final char[] text, final int start, final int end)
 
 
     /*
-     * Perform an unescape operation based on String.
+     * Perform an unescape operation based on CharSequence.
      */
-    static String unescape(final String text) {
+    static String unescape(final CharSequence text) {
 
         if (text == null) {
             return null;
         }
 
-        StringBuilder strBuilder = null;
+        final StringBuilder strBuilder = unescape(text, null);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an unescape operation based on CharSequence, appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some unescape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder unescape(final CharSequence text, final StringBuilder output) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.JAVASCRIPT, EscapeOperationType.UNESCAPE));
+        if (recorder == null) {
+            return unescapeCharSequence(text, output);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = unescapeCharSequence(text, null);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder unescapeCharSequence(final CharSequence text, final StringBuilder output) {
+
+        if (text == null) {
+            return output;
+        }
+
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -980,20 +1119,20 @@ static String unescape(final String text) {
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
-         *                 append the remaining escaped text to the string builder and return.
+         * Final cleaning: return null if no unescape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining escaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
@@ -1003,231 +1142,135 @@ static String unescape(final String text) {
 
 
     /*
-     * Perform an unescape operation based on a Reader, writing the results to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Determine whether an unescape operation would modify a CharSequence. Texts without any '\\' chars (the most
+     * common case) are discarded by the scanner, and the rest are checked by means of the unescape operation
+     * itself, which will only create a StringBuilder if some escape is actually found.
      */
-    static void unescape(final Reader reader, final Writer writer) throws IOException {
+    static boolean requiresUnescape(final CharSequence text) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return false;
         }
 
-        int escapei = 0;
-        final char[] escapes = new char[4];
-        int c1, c2, ce; // c1: current char, c2: next char, ce: current escape char
-
-        c2 = reader.read();
-
-        while (c2 >= 0) {
-
-            c1 = c2;
-            c2 = reader.read();
-
-            escapei = 0;
+        final int max = text.length();
 
-            /*
-             * Check the need for an unescape operation at this point
-             */
+        for (int i = 0; i < max; i++) {
 
-            if (c1 != ESCAPE_PREFIX || c2 < 0) {
-                writer.write(c1);
-                continue;
+            i = UNESCAPE_SCANNER.skip(text, i, max);
+            if (i == max) {
+                break;
             }
 
-            int codepoint = -1;
-
-            if (c1 == ESCAPE_PREFIX) {
-
-                switch (c2) {
-                    case 'b': codepoint = 0x08; c1 = c2; c2 = reader.read(); break;
-                    case 't': codepoint = 0x09; c1 = c2; c2 = reader.read(); break;
-                    case 'n': codepoint = 0x0A; c1 = c2; c2 = reader.read(); break;
-                    case 'v': codepoint = 0x0B; c1 = c2; c2 = reader.read(); break;
-                    case 'f': codepoint = 0x0C; c1 = c2; c2 = reader.read(); break;
-                    case 'r': codepoint = 0x0D; c1 = c2; c2 = reader.read(); break;
-                    case '"': codepoint = 0x22; c1 = c2; c2 = reader.read(); break;
-                    case '\'': codepoint = 0x27; c1 = c2; c2 = reader.read(); break;
-                    case '\\': codepoint = 0x5C; c1 = c2; c2 = reader.read(); break;
-                    case '/': codepoint = 0x2F; c1 = c2; c2 = reader.read(); break;
-                    // line feed. When escaped, this is a line continuator
-                    case '\n': codepoint = -2; c1 = c2; c2 = reader.read(); break;
-                }
-
-                if (codepoint == -1) {
-
-                    if (c2 == ESCAPE_XHEXA_PREFIX2) {
-                        // This can be a xhexa escape, we need exactly two more characters
-
-                        escapei = 0;
-                        ce = reader.read();
-                        while (ce >= 0 && escapei < 2) {
-                            if (!((ce >= '0' && ce <= '9') || (ce >= 'A' && ce <= 'F') || (ce >= 'a' && ce <= 'f'))) {
-                                break;
-                            }
-                            escapes[escapei] = (char) ce;
-                            ce = reader.read();
-                            escapei++;
-                        }
-
-                        if (escapei < 2) {
-                            // We weren't able to consume the required four hexa chars, leave it as slash+'u', which
-                            // is invalid, and let the corresponding JavaScript parser fail.
-                            writer.write(c1);
-                            writer.write(c2);
-                            for (int i = 0; i < escapei; i++) {
-                                c1 = c2;
-                                c2 = escapes[i];
-                                writer.write(c2);
-                            }
-                            c1 = c2;
-                            c2 = ce;
-                            continue;
-                        }
-
-                        c1 = escapes[3];
-                        c2 = ce;
-
-                        codepoint = parseIntFromReference(escapes, 0, 2, 16);
-
-                        escapei = 0;
+            if (text.charAt(i) == ESCAPE_PREFIX) {
+                return (unescapeCharSequence(text, null) != null);
+            }
 
-                        // Don't continue here, just let the unescape code below do its job
+        }
 
-                    } else if (c2 == ESCAPE_UHEXA_PREFIX2) {
-                        // This can be a uhexa escape, we need exactly four more characters
+        return false;
 
-                        escapei = 0;
-                        ce = reader.read();
-                        while (ce >= 0 && escapei < 4) {
-                            if (!((ce >= '0' && ce <= '9') || (ce >= 'A' && ce <= 'F') || (ce >= 'a' && ce <= 'f'))) {
-                                break;
-                            }
-                            escapes[escapei] = (char) ce;
-                            ce = reader.read();
-                            escapei++;
-                        }
+    }
 
-                        if (escapei < 4) {
-                            // We weren't able to consume the required four hexa chars, leave it as slash+'u', which
-                            // is invalid, and let the corresponding JavaScript parser fail.
-                            writer.write(c1);
-                            writer.write(c2);
-                            for (int i = 0; i < escapei; i++) {
-                                c1 = c2;
-                                c2 = escapes[i];
-                                writer.write(c2);
-                            }
-                            c1 = c2;
-                            c2 = ce;
-                            continue;
-                        }
 
-                        c1 = escapes[3];
-                        c2 = ce;
 
-                        codepoint = parseIntFromReference(escapes, 0, 4, 16);
 
-                        escapei = 0;
 
-                        // Don't continue here, just let the unescape code below do its job
 
-                    } else if (c2 >= '0' && c2 <= '7') {
-                        // This can be a octal escape, we need at least 1 more char, and up to 3 more.
+    /*
+     * Perform an unescape operation based on a Reader, writing the results to a Writer.
+     *
+     * The reader is read in chunks, each of which is unescaped by means of the char[]-based method. Each time we fill
+     * the buffer we will have to make sure we are not interrupting any escape sequence, which we do by only
+     * processing the buffered text up to the last escape sequence that might be incomplete (see
+     * computeSafeUnescapeLength(...) below). As that escape sequence can never be longer than MAX_ESCAPE_LEN, there
+     * will always be room in the buffer for reading more.
+     */
+    static void unescape(final Reader reader, final Writer writer) throws IOException {
 
-                        //  case '0': if (!isOctalEscape(text,i + 1,max)) { codepoint = 0x00; referenceOffset = i + 1; }; break;
+        if (reader == null) {
+            return;
+        }
 
-                        escapei = 0;
-                        ce = c2;
-                        while (ce >= 0 && escapei < 3) {
-                            if (!(ce >= '0' && ce <= '7')) {
-                                break;
-                            }
-                            escapes[escapei] = (char) ce;
-                            ce = reader.read();
-                            escapei++;
-                        }
+        final char[] buffer = new char[READER_BUFFER_SIZE];
 
-                        c1 = escapes[escapei - 1];
-                        c2 = ce;
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
 
-                        codepoint = parseIntFromReference(escapes, 0, escapei, 8);
+        int bufferSize = read;
 
-                        if (codepoint > 0xFF) {
-                            // Maximum octal escape char is FF. Ignore the last digit
-                            codepoint = parseIntFromReference(escapes, 0, escapei - 1, 8);
-                            System.arraycopy(escapes, escapei - 2, escapes, 0, 1);
-                            escapei = 1;
-                        } else if (codepoint == 0x0 && escapei > 1) {
-                            // In the case of '\000' , we will only consider the first '\0' as it is an escape on its
-                            // own, and the rest of the '00' will have to be output. So we save them at the escapes array
-                            System.arraycopy(escapes, 1, escapes, 0, escapei - 1);
-                            escapei--;
-                        } else {
-                            escapei = 0;
-                        }
+        while (bufferSize > 0 || read >= 0) {
 
-                        // Don't continue here, just let the unescape code below do its job
+            final int n = (read < 0? bufferSize : computeSafeUnescapeLength(buffer, 0, bufferSize));
 
-                    } else if (c2 == '8' || c2 == '9' || c2 == '\r' || c2 == '\u2028' || c2 == '\u2029') {
+            if (n > 0) {
 
-                        // '8' and '9' are not valid octal escape sequences, and the other four characters
-                        // are LineTerminators, which are not allowed as escape sequences. So we leave it as is
-                        // and expect the corresponding JavaScript engine to fail.
-                        writer.write(c1);
-                        writer.write(c2);
+                // Once we have defined a 'safe' buffer, just call the char[]-based method
+                unescape(buffer, 0, n, writer);
 
-                        c1 = c2;
-                        c2 = reader.read();
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
 
-                        continue;
+            }
 
-                    } else {
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
 
-                        // We weren't able to consume any valid escape chars, just consider it a normal char,
-                        // which is allowed by the JavaScript specification (NonEscapeCharacter)
+        }
 
-                        codepoint = c2;
+    }
 
-                        c1 = c2;
-                        c2 = reader.read();
 
-                        escapei = 0;
 
-                    }
+    /*
+     * Compute the length of the longest prefix of the buffer that can be unescaped without the risk of interrupting
+     * an escape sequence. Only the last escape sequence in the buffer can be interrupted, and only if it starts less
+     * than 6 chars (the length of the longest escape sequence, "\u00E1") before the end of the buffer and it is
+     * not a complete two-char escape sequence, so the prefix just leaves that escape sequence out. Note a '\'
+     * preceded by an odd amount of '\' chars does not start an escape sequence, as it is the second char of a
+     * "\\" escape. Texts are always unescaped starting from a point in which there is no escape sequence in
+     * progress, so this amount can be safely counted from offset. Returns 0 if no such prefix exists.
+     */
+    static int computeSafeUnescapeLength(final char[] buffer, final int offset, final int len) {
 
-                }
+        final int max = offset + len;
+        final int windowStart = Math.max(offset, max - (MAX_ESCAPE_LEN - 1));
 
-            }
+        int p = max - 1;
+        while (p >= windowStart && buffer[p] != ESCAPE_PREFIX) {
+            p--;
+        }
 
-            /*
-             * --------------------------
-             *
-             * Perform the real unescape
-             *
-             * --------------------------
-             */
+        if (p < windowStart) {
+            // No escape sequence can be interrupted by the end of the buffer
+            return len;
+        }
 
-            if (codepoint > '\uFFFF') {
-                writer.write(Character.toChars(codepoint));
-            } else if (codepoint != -2){ // We use -2 to signal the line continuator, which should be ignored in output
-                writer.write((char)codepoint);
-            }
+        int prefixCount = 1;
+        while (p - prefixCount >= offset && buffer[p - prefixCount] == ESCAPE_PREFIX) {
+            prefixCount++;
+        }
 
-            /*
-             * ----------------------------------------
-             * Cleanup, in case we had a partial match
-             * ----------------------------------------
-             */
+        if (prefixCount % 2 == 0) {
+            // The last '\' in the buffer is the second char of a complete "\\" escape
+            return len;
+        }
 
-            if (escapei > 0) {
-                writer.write(escapes, 0, escapei);
-                escapei = 0;
+        if (p + 1 < max) {
+            final char c1 = buffer[p + 1];
+            if (c1 != ESCAPE_UHEXA_PREFIX2 && c1 != ESCAPE_XHEXA_PREFIX2 && !(c1 >= '0' && c1 <= '7')) {
+                // Complete two-char escape sequence (or an invalid one, which will be left as is)
+                return len;
             }
-
         }
 
+        return p - offset;
+
     }
 
 
@@ -1427,19 +1470,5 @@ static void unescape(final char[] text, final int offset, final int len, final W
 
 
 
-
-    private static int codePointAt(final char c1, final char c2) {
-        if (Character.isHighSurrogate(c1)) {
-            if (c2 >= 0) {
-                if (Character.isLowSurrogate(c2)) {
-                    return Character.toCodePoint(c1, c2);
-                }
-            }
-        }
-        return c1;
-    }
-
-
-
 }
 
@@ -0,0 +1,282 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.javascript;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * <p>
+ *   Pre-compiled JavaScript <strong>escape</strong> operation for a specific combination of
+ *   {@link org.unbescape.javascript.JavaScriptEscapeType} and {@link org.unbescape.javascript.JavaScriptEscapeLevel}.
+ * </p>
+ * <p>
+ *   Instances of this class are obtained by means of
+ *   {@link org.unbescape.javascript.JavaScriptEscape#escaper(JavaScriptEscapeType, JavaScriptEscapeLevel)}, and
+ *   perform exactly the same escape operations as the corresponding methods in
+ *   {@link org.unbescape.javascript.JavaScriptEscape}. The difference is that all the decisions depending on the
+ *   escape type and level, along with the replacements for the most common chars, are computed only once when the
+ *   escaper is created, instead of for every escape operation.
+ * </p>
+ * <p>
+ *   Instances of this class are <strong>immutable and thread-safe</strong>, so they can be created once and
+ *   then kept (e.g. in a <kbd>static final</kbd> field) for use at any frequently executed code.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class JavaScriptEscaper {
+
+
+    /*
+     * Replacements are precomputed for all chars below this one (ASCII and Latin-1). Above it, escape levels
+     * are the same for all chars (except for U+2028 and U+2029), and replacements are computed when needed.
+     */
+    static final char REPLACEMENTS_LEN = 0x100;
+
+    /*
+     * Escapers are created only once per type and level combination (and on demand).
+     */
+    private static final JavaScriptEscaper[] ESCAPERS =
+            new JavaScriptEscaper[JavaScriptEscapeType.values().length * JavaScriptEscapeLevel.values().length];
+
+
+    private final JavaScriptEscapeType type;
+    private final JavaScriptEscapeLevel level;
+
+    /*
+     * Whether Single Escape Chars and \xFF hexadecimal escapes should be used
+     */
+    final boolean USE_SECS;
+    final boolean USE_XHEXA;
+
+    /*
+     * Replacement for each char below REPLACEMENTS_LEN, or null if the char should not be escaped
+     */
+    final char[][] REPLACEMENTS;
+
+    /*
+     * Whether chars >= REPLACEMENTS_LEN (other than U+2028 and U+2029, which are always escaped) should be escaped
+     */
+    final boolean ESCAPE_ABOVE_REPLACEMENTS;
+
+    /*
+     * Whether the slash (solidus) should only be escaped when it appears after a '<' ('</')
+     */
+    final boolean ESCAPE_SLASH_ONLY_AFTER_LT;
+
+
+
+
+    static JavaScriptEscaper forTypeAndLevel(final JavaScriptEscapeType type, final JavaScriptEscapeLevel level) {
+        // No synchronization needed: escapers are immutable, and creating one twice is harmless
+        final int index = (type.ordinal() * JavaScriptEscapeLevel.values().length) + level.ordinal();
+        JavaScriptEscaper escaper = ESCAPERS[index];
+        if (escaper == null) {
+            escaper = new JavaScriptEscaper(type, level);
+            ESCAPERS[index] = escaper;
+        }
+        return escaper;
+    }
+
+
+
+
+    private JavaScriptEscaper(final JavaScriptEscapeType type, final JavaScriptEscapeLevel level) {
+
+        super();
+
+        this.type = type;
+        this.level = level;
+
+        this.USE_SECS = type.getUseSECs();
+        this.USE_XHEXA = type.getUseXHexa();
+
+        final int escapeLevel = level.getEscapeLevel();
+
+        this.REPLACEMENTS = new char[REPLACEMENTS_LEN][];
+        for (int c = 0; c < REPLACEMENTS_LEN; c++) {
+            if (escapeLevel >= JavaScriptEscapeUtil.escapeLevel(c)) {
+                this.REPLACEMENTS[c] = computeReplacement(c);
+            }
+        }
+
+        this.ESCAPE_ABOVE_REPLACEMENTS = (escapeLevel >= JavaScriptEscapeUtil.escapeLevel(REPLACEMENTS_LEN));
+        this.ESCAPE_SLASH_ONLY_AFTER_LT = (escapeLevel < 3);
+
+    }
+
+
+
+
+    /*
+     * Compute the replacement for a codepoint that needs to be escaped.
+     */
+    char[] computeReplacement(final int codepoint) {
+        return JavaScriptEscapeUtil.computeReplacement(codepoint, this.USE_SECS, this.USE_XHEXA);
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Returns the type of escape operation performed by this escaper.
+     * </p>
+     *
+     * @return the escape type.
+     */
+    public JavaScriptEscapeType getType() {
+        return this.type;
+    }
+
+
+    /**
+     * <p>
+     *   Returns the escape level applied by this escaper.
+     * </p>
+     *
+     * @return the escape level.
+     */
+    public JavaScriptEscapeLevel getLevel() {
+        return this.level;
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If input is a <kbd>String</kbd> and no escaping modifications
+     *         were required, the exact same object will be returned (and no additional <kbd>String</kbd> objects
+     *         will be created during processing). Will return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public String escape(final CharSequence text) {
+
+        if (text == null) {
+            return null;
+        }
+
+        final StringBuilder strBuilder = JavaScriptEscapeUtil.escape(text, null, this);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input, appending results
+     *   to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing will
+     *                   be appended at all to this builder if input is <kbd>null</kbd>.
+     */
+    public void escape(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        JavaScriptEscapeUtil.escape(text, strBuilder, this);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript <strong>escape</strong> operation on a <kbd>Reader</kbd> input, writing results to a
+     *   <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public void escape(final Reader reader, final Writer writer) throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        JavaScriptEscapeUtil.escape(reader, writer, this);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JavaScript <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public void escape(final char[] text, final int offset, final int len, final Writer writer)
+                       throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        JavaScriptEscapeUtil.escape(text, offset, len, writer, this);
+
+    }
+
+
+}
@@ -22,6 +22,10 @@
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.CharBuffer;
+
+import org.unbescape.ChunkedUnescaper;
+import org.unbescape.EscapingWriter;
 
 
 /**
@@ -87,7 +91,7 @@
  * <strong><u>Input/Output</u></strong>
  *
  * <p>
- *   There are four different input/output modes that can be used in escape/unescape operations:
+ *   There are five different input/output modes that can be used in escape/unescape operations:
  * </p>
  * <ul>
  *   <li><em><kbd>String</kbd> input, <kbd>String</kbd> output</em>: Input is specified as a <kbd>String</kbd> object
@@ -96,6 +100,9 @@
  *       are required</u>.</li>
  *   <li><em><kbd>String</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a String
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
+ *   <li><em><kbd>String</kbd> input, <kbd>StringBuilder</kbd> output</em>: Input will be read from a String
+ *       and output will be appended to the specified <kbd>StringBuilder</kbd>. This avoids creating intermediate
+ *       <kbd>String</kbd> objects when output is already being composed into a <kbd>StringBuilder</kbd>.</li>
  *   <li><em><kbd>java.io.Reader</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a Reader
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
  *   <li><em><kbd>char[]</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a char array
@@ -105,6 +112,11 @@
  *       should be called with <kbd>offset = 0</kbd> and <kbd>len = text.length</kbd> in order to process
  *       the whole <kbd>char[]</kbd>.</li>
  * </ul>
+ * <p>
+ *   All <kbd>String</kbd>-input modes are also available for any other <kbd>java.lang.CharSequence</kbd>
+ *   implementation (e.g. <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd>), which will be processed
+ *   directly, without needing to create a <kbd>String</kbd> out of them first.
+ * </p>
  *
  * <strong><u>Glossary</u></strong>
  *
@@ -497,10 +509,13 @@ public static void escapeJson(final String text, final Writer writer,
 
 
 
+
+
+
     /**
      * <p>
      *   Perform a JSON level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the JSON basic escape set:
@@ -526,7 +541,7 @@ public static void escapeJson(final String text, final Writer writer,
      *   </li>
      * </ul>
      * <p>
-     *   This method calls {@link #escapeJson(Reader, Writer, JsonEscapeType, JsonEscapeLevel)}
+     *   This method calls {@link #escapeJson(String, StringBuilder, JsonEscapeType, JsonEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -539,16 +554,14 @@ public static void escapeJson(final String text, final Writer writer,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeJsonMinimal(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeJson(reader, writer,
+    public static void escapeJsonMinimal(final String text, final StringBuilder strBuilder) {
+        escapeJson(text, strBuilder,
                 JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
                 JsonEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
@@ -557,7 +570,7 @@ public static void escapeJsonMinimal(final Reader reader, final Writer writer)
     /**
      * <p>
      *   Perform a JSON level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -593,7 +606,7 @@ public static void escapeJsonMinimal(final Reader reader, final Writer writer)
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapeJson(Reader, Writer, JsonEscapeType, JsonEscapeLevel)}
+     *   This method calls {@link #escapeJson(String, StringBuilder, JsonEscapeType, JsonEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -606,16 +619,14 @@ public static void escapeJsonMinimal(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeJson(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeJson(reader, writer,
+    public static void escapeJson(final String text, final StringBuilder strBuilder) {
+        escapeJson(text, strBuilder,
                 JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
                 JsonEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
@@ -623,8 +634,8 @@ public static void escapeJson(final Reader reader, final Writer writer)
 
     /**
      * <p>
-     *   Perform a (configurable) JSON <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) JSON <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -632,29 +643,27 @@ public static void escapeJson(final Reader reader, final Writer writer)
      *   {@link JsonEscapeLevel} argument values.
      * </p>
      * <p>
-     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeJson*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeJson*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param type the type of escape operation to be performed, see
      *             {@link JsonEscapeType}.
      * @param level the escape level to be applied, see {@link JsonEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeJson(final Reader reader, final Writer writer,
-                                  final JsonEscapeType type, final JsonEscapeLevel level)
-            throws IOException {
+    public static void escapeJson(final String text, final StringBuilder strBuilder,
+                                  final JsonEscapeType type, final JsonEscapeLevel level) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (type == null) {
@@ -665,17 +674,20 @@ public static void escapeJson(final Reader reader, final Writer writer,
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        JsonEscapeUtil.escape(reader, writer, type, level);
+        JsonEscapeUtil.escape(text, strBuilder, type, level);
 
     }
 
 
 
 
+
+
+
     /**
      * <p>
      *   Perform a JSON level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the JSON basic escape set:
@@ -701,8 +713,7 @@ public static void escapeJson(final Reader reader, final Writer writer,
      *   </li>
      * </ul>
      * <p>
-     *   This method calls
-     *   {@link #escapeJson(char[], int, int, java.io.Writer, JsonEscapeType, JsonEscapeLevel)}
+     *   This method calls {@link #escapeJson(CharSequence, JsonEscapeType, JsonEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -715,25 +726,24 @@ public static void escapeJson(final Reader reader, final Writer writer,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeJsonMinimal(final char[] text, final int offset, final int len, final Writer writer)
-                                         throws IOException {
-        escapeJson(text, offset, len, writer,
-                   JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
-                   JsonEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    public static String escapeJsonMinimal(final CharSequence text) {
+        return escapeJson(text,
+                JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
+                JsonEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
      *   Perform a JSON level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -769,8 +779,7 @@ public static void escapeJsonMinimal(final char[] text, final int offset, final
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls
-     *   {@link #escapeJson(char[], int, int, java.io.Writer, JsonEscapeType, JsonEscapeLevel)}
+     *   This method calls {@link #escapeJson(CharSequence, JsonEscapeType, JsonEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -783,24 +792,23 @@ public static void escapeJsonMinimal(final char[] text, final int offset, final
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeJson(final char[] text, final int offset, final int len, final Writer writer)
-                                  throws IOException {
-        escapeJson(text, offset, len, writer,
-                   JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
-                   JsonEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static String escapeJson(final CharSequence text) {
+        return escapeJson(text,
+                JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
+                JsonEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) JSON <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform a (configurable) JSON <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -808,30 +816,25 @@ public static void escapeJson(final char[] text, final int offset, final int len
      *   {@link JsonEscapeLevel} argument values.
      * </p>
      * <p>
-     *   All other <kbd>char[]</kbd>-based <kbd>escapeJson*(...)</kbd> methods call this one with preconfigured
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapeJson*(...)</kbd> methods call this one with preconfigured
      *   <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param type the type of escape operation to be performed, see
      *             {@link JsonEscapeType}.
      * @param level the escape level to be applied, see {@link JsonEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeJson(final char[] text, final int offset, final int len, final Writer writer,
-                                  final JsonEscapeType type, final JsonEscapeLevel level)
-                                  throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
+    public static String escapeJson(final CharSequence text,
+                                    final JsonEscapeType type, final JsonEscapeLevel level) {
 
         if (type == null) {
             throw new IllegalArgumentException("The 'type' argument cannot be null");
@@ -841,113 +844,1108 @@ public static void escapeJson(final char[] text, final int offset, final int len
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        JsonEscapeUtil.escape(text, offset, len, writer, type, level);
+        return JsonEscapeUtil.escape(text, type, level);
 
     }
 
 
-
-
-
-
-
-
     /**
      * <p>
-     *   Perform a JSON <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     *   Perform a JSON level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     *   <em>Level 1</em> means this method will only escape the JSON basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *       Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *       symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *       closing <kbd>&lt;script&gt;</kbd> tags in HTML.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd> (required
+     *       by the JSON spec) and <kbd>U+007F</kbd> to <kbd>U+009F</kbd> (additional).
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapeJson(CharSequence, Writer, JsonEscapeType, JsonEscapeLevel)}
+     *   with the following preconfigured values:
      * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link JsonEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link JsonEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String unescapeJson(final String text) {
-        if (text == null) {
-            return null;
-        }
-        if (text.indexOf('\\') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            return text;
-        }
-        return JsonEscapeUtil.unescape(text);
+    public static void escapeJsonMinimal(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeJson(text, writer,
+                JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
+                JsonEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a JSON <strong>unescape</strong> operation on a <kbd>String</kbd> input, writing
-     *   results to a <kbd>Writer</kbd>.
+     *   Perform a JSON level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The JSON basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *               Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *               symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *               closing <kbd>&lt;script&gt;</kbd> tags in HTML.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd> (required
+     *               by the JSON spec) and <kbd>U+007F</kbd> to <kbd>U+009F</kbd> (additional).
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeJson(CharSequence, Writer, JsonEscapeType, JsonEscapeLevel)}
+     *   with the following preconfigured values:
      * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link JsonEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link JsonEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeJson(final String text, final Writer writer)
+    public static void escapeJson(final CharSequence text, final Writer writer)
             throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
-        if (text == null) {
-            return;
-        }
-        if (text.indexOf('\\') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            writer.write(text);
-            return;
-        }
-
-        JsonEscapeUtil.unescape(new InternalStringReader(text), writer);
-
+        escapeJson(text, writer,
+                JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
+                JsonEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a JSON <strong>unescape</strong> operation on a <kbd>Reader</kbd> input, writing
-     *   results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) JSON <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     *   This method will perform an escape operation according to the specified
+     *   {@link JsonEscapeType} and
+     *   {@link JsonEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapeJson*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link JsonEscapeType}.
+     * @param level the escape level to be applied, see {@link JsonEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJson(final CharSequence text, final Writer writer,
+                                  final JsonEscapeType type, final JsonEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        JsonEscapeUtil.escape(new InternalStringReader(text), writer, type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JSON level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the JSON basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *       Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *       symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *       closing <kbd>&lt;script&gt;</kbd> tags in HTML.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd> (required
+     *       by the JSON spec) and <kbd>U+007F</kbd> to <kbd>U+009F</kbd> (additional).
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapeJson(CharSequence, StringBuilder, JsonEscapeType, JsonEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link JsonEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link JsonEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJsonMinimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapeJson(text, strBuilder,
+                JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
+                JsonEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JSON level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The JSON basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *               Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *               symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *               closing <kbd>&lt;script&gt;</kbd> tags in HTML.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd> (required
+     *               by the JSON spec) and <kbd>U+007F</kbd> to <kbd>U+009F</kbd> (additional).
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeJson(CharSequence, StringBuilder, JsonEscapeType, JsonEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link JsonEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link JsonEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJson(final CharSequence text, final StringBuilder strBuilder) {
+        escapeJson(text, strBuilder,
+                JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
+                JsonEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) JSON <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link JsonEscapeType} and
+     *   {@link JsonEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeJson*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link JsonEscapeType}.
+     * @param level the escape level to be applied, see {@link JsonEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeJson(final CharSequence text, final StringBuilder strBuilder,
+                                  final JsonEscapeType type, final JsonEscapeLevel level) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        JsonEscapeUtil.escape(text, strBuilder, type, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JSON level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the JSON basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *       Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *       symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *       closing <kbd>&lt;script&gt;</kbd> tags in HTML.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd> (required
+     *       by the JSON spec) and <kbd>U+007F</kbd> to <kbd>U+009F</kbd> (additional).
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapeJson(Reader, Writer, JsonEscapeType, JsonEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link JsonEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link JsonEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeJsonMinimal(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeJson(reader, writer,
+                JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
+                JsonEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JSON level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The JSON basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *               Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *               symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *               closing <kbd>&lt;script&gt;</kbd> tags in HTML.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd> (required
+     *               by the JSON spec) and <kbd>U+007F</kbd> to <kbd>U+009F</kbd> (additional).
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeJson(Reader, Writer, JsonEscapeType, JsonEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link JsonEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link JsonEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeJson(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeJson(reader, writer,
+                JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
+                JsonEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) JSON <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link JsonEscapeType} and
+     *   {@link JsonEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeJson*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link JsonEscapeType}.
+     * @param level the escape level to be applied, see {@link JsonEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeJson(final Reader reader, final Writer writer,
+                                  final JsonEscapeType type, final JsonEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        JsonEscapeUtil.escape(reader, writer, type, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JSON level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the JSON basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *       <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *       Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *       symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *       closing <kbd>&lt;script&gt;</kbd> tags in HTML.
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd> (required
+     *       by the JSON spec) and <kbd>U+007F</kbd> to <kbd>U+009F</kbd> (additional).
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls
+     *   {@link #escapeJson(char[], int, int, java.io.Writer, JsonEscapeType, JsonEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link JsonEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link JsonEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeJsonMinimal(final char[] text, final int offset, final int len, final Writer writer)
+                                         throws IOException {
+        escapeJson(text, offset, len, writer,
+                   JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
+                   JsonEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JSON level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The JSON basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;b</kbd> (<kbd>U+0008</kbd>),
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&quot;</kbd> (<kbd>U+0022</kbd>),
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>) and
+     *               <kbd>&#92;&#47;</kbd> (<kbd>U+002F</kbd>).
+     *               Note that <kbd>&#92;&#47;</kbd> is optional, and will only be used when the <kbd>&#47;</kbd>
+     *               symbol appears after <kbd>&lt;</kbd>, as in <kbd>&lt;&#47;</kbd>. This is to avoid accidentally
+     *               closing <kbd>&lt;script&gt;</kbd> tags in HTML.
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd> (required
+     *               by the JSON spec) and <kbd>U+007F</kbd> to <kbd>U+009F</kbd> (additional).
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeJson(char[], int, int, java.io.Writer, JsonEscapeType, JsonEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link JsonEscapeType#SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link JsonEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeJson(final char[] text, final int offset, final int len, final Writer writer)
+                                  throws IOException {
+        escapeJson(text, offset, len, writer,
+                   JsonEscapeType.SINGLE_ESCAPE_CHARS_DEFAULT_TO_UHEXA,
+                   JsonEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) JSON <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link JsonEscapeType} and
+     *   {@link JsonEscapeLevel} argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>char[]</kbd>-based <kbd>escapeJson*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see
+     *             {@link JsonEscapeType}.
+     * @param level the escape level to be applied, see {@link JsonEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeJson(final char[] text, final int offset, final int len, final Writer writer,
+                                  final JsonEscapeType type, final JsonEscapeLevel level)
+                                  throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        JsonEscapeUtil.escape(text, offset, len, writer, type, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Obtain a <kbd>Writer</kbd> that performs a JSON <strong>escape</strong> operation on all the text written
+     *   through it, according to the specified type and level, and writes the escaped result to another
+     *   <kbd>Writer</kbd>. Results are exactly the same as those of the <kbd>escapeJson(...)</kbd> methods in this
+     *   class that receive the same <kbd>type</kbd> and <kbd>level</kbd> arguments, applied on the whole text at once.
+     * </p>
+     * <p>
+     *   Text is escaped in blocks and escaped output is buffered, so {@link java.io.Writer#flush()} or {@link
+     *   java.io.Writer#close()} need to be called on the returned writer. See {@link org.unbescape.EscapingWriter} for
+     *   details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned writer is not.
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.json.JsonEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.json.JsonEscapeLevel}.
+     * @return the escaping writer.
+     *
+     * @since 1.1.7
+     */
+    public static EscapingWriter escapingWriter(
+            final Writer writer, final JsonEscapeType type, final JsonEscapeLevel level) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return new JsonEscapingWriter(writer, type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable) JSON
+     *   <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeJson(CharSequence, JsonEscapeType, JsonEscapeLevel)} would do
+     *   with the same <kbd>type</kbd> and <kbd>level</kbd>, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.json.JsonEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.json.JsonEscapeLevel}.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableJson(
+            final CharSequence text, final JsonEscapeType type, final JsonEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return JsonEscapeUtil.indexOfFirstEscapable(text, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) JSON <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapeJson(CharSequence, JsonEscapeType, JsonEscapeLevel)}
+     *   returns a different text, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.json.JsonEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.json.JsonEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeJson(
+            final CharSequence text, final JsonEscapeType type, final JsonEscapeLevel level) {
+        return (indexOfFirstEscapableJson(text, type, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) JSON <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeJson(CharSequence, JsonEscapeType, JsonEscapeLevel)}, but no objects are created at all
+     *   during the process. This allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or
+     *   <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.json.JsonEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.json.JsonEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthJson(
+            final CharSequence text, final JsonEscapeType type, final JsonEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return JsonEscapeUtil.escapedLength(text, type, level);
+
+    }
+
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JSON <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeJson(final String text) {
+        if (text == null) {
+            return null;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            return text;
+        }
+        return JsonEscapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JSON <strong>unescape</strong> operation on a <kbd>String</kbd> input, writing
+     *   results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeJson(final String text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            writer.write(text);
+            return;
+        }
+
+        JsonEscapeUtil.unescape(new InternalStringReader(text), writer);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JSON <strong>unescape</strong> operation on a <kbd>String</kbd> input, appending
+     *   results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeJson(final String text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            strBuilder.append(text);
+            return;
+        }
+
+        JsonEscapeUtil.unescape(text, strBuilder);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a JSON <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeJson(final CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            return unescapeJson((String) text);
+        }
+        return JsonEscapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JSON <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input, writing
+     *   results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeJson(final CharSequence text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeJson((String) text, writer);
+            return;
+        }
+
+        JsonEscapeUtil.unescape(new InternalStringReader(text), writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JSON <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input, appending
+     *   results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeJson(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeJson((String) text, strBuilder);
+            return;
+        }
+
+        JsonEscapeUtil.unescape(text, strBuilder);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a JSON <strong>unescape</strong> operation on a <kbd>Reader</kbd> input, writing
+     *   results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
      * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
@@ -1010,6 +2008,116 @@ public static void unescapeJson(final char[] text, final int offset, final int l
 
 
 
+    /**
+     * <p>
+     *   Perform a JSON JSON <strong>unescape</strong> operation on a <kbd>char[]</kbd> input, writing the result
+     *   back into the same <kbd>char[]</kbd> (<em>in place</em>) and returning its length.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> JSON unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   As unescaping never makes text longer, the result always fits in the <kbd>[offset, offset + len)</kbd>
+     *   range that is being unescaped, and chars outside it are never modified. The contents of the range after
+     *   the returned length are undefined. No output buffers or <kbd>String</kbd> objects are created during
+     *   this operation, and text before the first escape sequence is not even copied.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong> as long as no other threads access the same range of
+     *   <kbd>text</kbd> during the operation.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the unescape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be unescaped.
+     * @return the length of the unescaped result, which starts at <kbd>offset</kbd> in <kbd>text</kbd>
+     *         (<kbd>0</kbd> if <kbd>text</kbd> is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int unescapeJsonInPlace(final char[] text, final int offset, final int len) {
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (text == null) {
+            return 0;
+        }
+
+        return JsonEscapeUtil.unescapeInPlace(text, offset, len);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Obtain a <strong>chunked unescaper</strong> that performs a JSON <strong>unescape</strong> operation on a text
+     *   received as a sequence of chunks (e.g. network buffers), writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   Chunks can be split at any point, even in the middle of escape sequences, and results will be exactly the same
+     *   as those of {@link #unescapeJson(String)} on the concatenation of all the chunks. The end of the text must be
+     *   signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link org.unbescape.ChunkedUnescaper}
+     *   for details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
+     */
+    public static ChunkedUnescaper chunkedUnescaper(final Writer writer) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        return new JsonChunkedUnescaper(writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a JSON <strong>unescape</strong> operation would modify a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #unescapeJson(CharSequence)} returns a different text. Texts
+     *   that do not contain any backslash (<kbd>\\</kbd>) chars are discarded without creating any objects at all,
+     *   which makes this method adequate for checking (or caching) values that only rarely contain escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresUnescapeJson(final CharSequence text) {
+        return JsonEscapeUtil.requiresUnescape(text);
+    }
+
+
+
 
     private JsonEscape() {
         super();
@@ -1021,16 +2129,19 @@ private JsonEscape() {
      * This is basically a very simplified, thread-unsafe version of StringReader that should
      * perform better than the original StringReader by removing all synchronization structures.
      *
+     * It can read from any CharSequence. Bulk reads are specialized for String, StringBuilder and
+     * array-backed CharBuffer objects so that, for those, chars are copied without calling charAt(...).
+     *
      * Note the only implemented methods are those that we know are really used from within the
      * stream-based escape/unescape operations.
      */
     private static final class InternalStringReader extends Reader {
 
-        private String str;
+        private CharSequence str;
         private int length;
         private int next = 0;
 
-        public InternalStringReader(final String s) {
+        public InternalStringReader(final CharSequence s) {
             super();
             this.str = s;
             this.length = s.length();
@@ -1056,7 +2167,19 @@ public int read(final char[] cbuf, final int off, final int len) throws IOExcept
                 return -1;
             }
             int n = Math.min(this.length - this.next, len);
-            this.str.getChars(this.next, this.next + n, cbuf, off);
+            if (this.str instanceof String) {
+                ((String) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof StringBuilder) {
+                ((StringBuilder) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof CharBuffer && ((CharBuffer) this.str).hasArray()) {
+                final CharBuffer charBuffer = (CharBuffer) this.str;
+                System.arraycopy(
+                        charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + this.next, cbuf, off, n);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = this.str.charAt(this.next + i);
+                }
+            }
             this.next += n;
             return n;
         }
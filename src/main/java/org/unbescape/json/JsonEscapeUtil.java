@@ -24,6 +24,12 @@
 import java.io.Writer;
 import java.util.Arrays;
 
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
+import org.unbescape.EscapeScanner;
+import org.unbescape.InPlaceCharArrayWriter;
+
 /**
  * <p>
  *   Internal class in charge of performing the real escape/unescape operations.
@@ -87,6 +93,24 @@ final class JsonEscapeUtil {
     private static char[] HEXA_CHARS_UPPER = "0123456789ABCDEF".toCharArray();
     private static char[] HEXA_CHARS_LOWER = "0123456789abcdef".toCharArray();
 
+    /*
+     * Size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
+
+    /*
+     * Length of the longest escape sequence ("\u00E1"). Only this amount of chars at most needs to be kept at the
+     * end of a chunk of text when unescaping it by chunks.
+     */
+    private static final int MAX_ESCAPE_LEN = 6;
+
+    /*
+     * Scanner used for quickly discarding texts that do not contain any escapes at all, and therefore
+     * never need unescaping
+     */
+    private static final EscapeScanner UNESCAPE_SCANNER =
+            EscapeScanner.forCandidateRanges(new char[] { ESCAPE_PREFIX, ESCAPE_PREFIX });
+
 
     /*
      * Structures for holding the Single Escape Characters
@@ -103,6 +127,11 @@ final class JsonEscapeUtil {
     private static final char ESCAPE_LEVELS_LEN = 0x9f + 2; // Last relevant char to be indexed is 0x9f
     private static final byte[] ESCAPE_LEVELS;
 
+    /*
+     * Scanners used for quickly skipping chars that will never need escaping, one per escape level (0 to 4).
+     */
+    private static final EscapeScanner[] ESCAPE_SCANNERS;
+
 
 
     static {
@@ -190,6 +219,15 @@ final class JsonEscapeUtil {
             ESCAPE_LEVELS[c] = 1;
         }
 
+
+        /*
+         * Initialization of escape scanners, one per level.
+         */
+        ESCAPE_SCANNERS = new EscapeScanner[5];
+        for (int level = 0; level < ESCAPE_SCANNERS.length; level++) {
+            ESCAPE_SCANNERS[level] = EscapeScanner.forEscapeLevels(ESCAPE_LEVELS, level);
+        }
+
     }
 
 
@@ -213,26 +251,81 @@ static char[] toUHexa(final int codepoint) {
 
 
     /*
-     * Perform an escape operation, based on String, according to the specified level and type.
+     * Perform an escape operation, based on CharSequence, according to the specified level and type.
      */
-    static String escape(final String text, final JsonEscapeType escapeType, final JsonEscapeLevel escapeLevel) {
+    static String escape(final CharSequence text, final JsonEscapeType escapeType, final JsonEscapeLevel escapeLevel) {
 
         if (text == null) {
             return null;
         }
 
+        final StringBuilder strBuilder = escape(text, null, escapeType, escapeLevel);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, according to the specified level and type, appending the
+     * result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output,
+                                final JsonEscapeType escapeType, final JsonEscapeLevel escapeLevel) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.JSON, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeCharSequence(text, output, escapeType, escapeLevel);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeCharSequence(text, null, escapeType, escapeLevel);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                    final JsonEscapeType escapeType, final JsonEscapeLevel escapeLevel) {
+
+        if (text == null) {
+            return output;
+        }
+
         final int level = escapeLevel.getEscapeLevel();
         final boolean useSECs = escapeType.getUseSECs();
 
-        StringBuilder strBuilder = null;
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
 
         int readOffset = offset;
 
+        final EscapeScanner scanner = ESCAPE_SCANNERS[level];
+
         for (int i = offset; i < max; i++) {
 
+            /*
+             * Shortcut: skip at once (if the platform allows doing it fast) all chars that can never need escaping
+             */
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
+
             final int codepoint = Character.codePointAt(text, i);
 
 
@@ -332,150 +425,201 @@ static String escape(final String text, final JsonEscapeType escapeType, final J
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: return null if no escape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining unescaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
 
 
     /*
-     * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
-     * result to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Find the first position in a CharSequence at which an escape operation performed with the specified
+     * configuration would modify it, or -1 if escaping would leave it unmodified. Chars are examined exactly as in
+     * escapeCharSequence(...), but nothing is ever allocated.
      */
-    static void escape(
-            final Reader reader, final Writer writer, final JsonEscapeType escapeType, final JsonEscapeLevel escapeLevel)
-            throws IOException {
+    static int indexOfFirstEscapable(final CharSequence text, final JsonEscapeLevel escapeLevel) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return -1;
         }
 
         final int level = escapeLevel.getEscapeLevel();
-        final boolean useSECs = escapeType.getUseSECs();
 
-        int c0, c1, c2; // c0: last char, c1: current char, c2: next char
+        final int max = text.length();
 
-        c1 = -1;
-        c2 = reader.read();
+        final EscapeScanner scanner = ESCAPE_SCANNERS[level];
 
-        while (c2 >= 0) {
+        for (int i = 0; i < max; i++) {
 
-            c0 = c1;
-            c1 = c2;
-            c2 = reader.read();
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
 
-            final int codepoint = codePointAt((char)c1, (char)c2);
+            final int codepoint = Character.codePointAt(text, i);
 
-            /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
-             */
             if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
-                writer.write(c1);
                 continue;
             }
 
-            /*
-             * Check whether the character is a slash (solidus). In such case, only escape if it
-             * appears after a '<' ('</') or level >= 3 (non alphanumeric)
-             */
-            if (codepoint == '/' && level < 3 && c0 != '<') {
-                writer.write(c1);
+            if (codepoint == '/' && level < 3 && (i == 0 || text.charAt(i - 1) != '<')) {
                 continue;
             }
 
-            /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
-             */
             if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
+                if (Character.charCount(codepoint) > 1) {
+                    // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                    i++;
+                }
+                continue;
+            }
 
-                writer.write(c1);
+            return i;
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
+        }
 
-                    writer.write(c2);
+        return -1;
 
-                    c0 = c1;
-                    c1 = c2;
-                    c2 = reader.read();
+    }
 
-                }
 
-                continue;
 
-            }
 
 
-            /*
-             * We know we need to escape, so from here on we will only work with the codepoint -- we can advance
-             * the chars.
-             */
+    /*
+     * Compute the exact length of the result of an escape operation performed on a CharSequence with the
+     * specified configuration, without actually escaping anything. Chars are examined exactly as in
+     * escapeCharSequence(...).
+     */
+    static long escapedLength(final CharSequence text,
+                              final JsonEscapeType escapeType, final JsonEscapeLevel escapeLevel) {
 
-            if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually reading two char positions with a single codepoint.
-                c0 = c1;
-                c1 = c2;
-                c2 = reader.read();
-            }
+        if (text == null) {
+            return 0L;
+        }
 
+        final int level = escapeLevel.getEscapeLevel();
+        final boolean useSECs = escapeType.getUseSECs();
 
-            /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of SECs and UHEXA
-             *
-             * -----------------------------------------------------------------------------------------
-             */
+        final int max = text.length();
 
-            if (useSECs && codepoint < SEC_CHARS_LEN) {
-                // We will try to use a SEC
+        final EscapeScanner scanner = ESCAPE_SCANNERS[level];
 
-                final char sec = SEC_CHARS[codepoint];
+        long length = max;
 
-                if (sec != SEC_CHARS_NO_SEC) {
-                    // SEC found! just write it and go for the next char
-                    writer.write(ESCAPE_PREFIX);
-                    writer.write(sec);
-                    continue;
-                }
+        for (int i = 0; i < max; i++) {
 
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
             }
 
-            /*
-             * No SEC-escape was possible, so we need uhexa escape.
-             */
+            final int codepoint = Character.codePointAt(text, i);
+
+            if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
+                continue;
+            }
+
+            if (codepoint == '/' && level < 3 && (i == 0 || text.charAt(i - 1) != '<')) {
+                continue;
+            }
 
             if (Character.charCount(codepoint) > 1) {
-                final char[] codepointChars = Character.toChars(codepoint);
-                writer.write(ESCAPE_UHEXA_PREFIX);
-                writer.write(toUHexa(codepointChars[0]));
-                writer.write(ESCAPE_UHEXA_PREFIX);
-                writer.write(toUHexa(codepointChars[1]));
+                // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                i++;
+                if (level >= ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
+                    // Two uhexa escapes (6 chars each) replace the two chars of a surrogate pair
+                    length += 10;
+                }
                 continue;
             }
 
-            writer.write(ESCAPE_UHEXA_PREFIX);
-            writer.write(toUHexa(codepoint));
+            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
+                continue;
+            }
+
+            if (useSECs && codepoint < SEC_CHARS_LEN && SEC_CHARS[codepoint] != SEC_CHARS_NO_SEC) {
+                // A SEC (2 chars) replaces one char
+                length += 1;
+            } else {
+                // A uhexa escape (6 chars) replaces one char
+                length += 5;
+            }
 
         }
 
+        return length;
+
+    }
+
+
+
+
+
+    /*
+     * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
+     * result to a Writer.
+     *
+     * The reader is read in chunks, each of which is escaped by means of the char[]-based method. A high surrogate
+     * found at the end of a chunk is kept for the next one, so that surrogate pairs are never split.
+     * A '<' found at the end of a chunk is also kept, as it determines whether a '/' after it needs escaping.
+     * Only that last char is ever kept, so there will always be room in the buffer for reading more.
+     */
+    static void escape(
+            final Reader reader, final Writer writer, final JsonEscapeType escapeType, final JsonEscapeLevel escapeLevel)
+            throws IOException {
+
+        if (reader == null) {
+            return;
+        }
+
+        final char[] buffer = new char[READER_BUFFER_SIZE];
+
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
+
+        int bufferSize = read;
+
+        while (bufferSize > 0 || read >= 0) {
+
+            int n = bufferSize;
+            if (read >= 0) {
+                if (n > 0 && (Character.isHighSurrogate(buffer[n - 1]) || buffer[n - 1] == '<')) {
+                    n--;
+                }
+            }
+
+            if (n > 0) {
+
+                escape(buffer, 0, n, writer, escapeType, escapeLevel);
+
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
+
+            }
+
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
+
+        }
 
     }
 
@@ -501,9 +645,19 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
         int readOffset = offset;
 
+        final EscapeScanner scanner = ESCAPE_SCANNERS[level];
+
         for (int i = offset; i < max; i++) {
 
-            final int codepoint = Character.codePointAt(text, i);
+            /*
+             * Shortcut: skip at once (if the platform allows doing it fast) all chars that can never need escaping
+             */
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
+
+            final int codepoint = Character.codePointAt(text, i, max);
 
 
             /*
@@ -621,7 +775,7 @@ static void escape(final char[] text, final int offset, final int len, final Wri
      * -  No need to check all chars are within the radix limits - reference parsing code will already have done so.
      */
 
-    static int parseIntFromReference(final String text, final int start, final int end, final int radix) {
+    static int parseIntFromReference(final CharSequence text, final int start, final int end, final int radix) {
         int result = 0;
         for (int i = start; i < end; i++) {
             final char c = text.charAt(i);
@@ -674,15 +828,57 @@ static int parseIntFromReference(final int[] text, final int start, final int en
 
 
     /*
-     * Perform an unescape operation based on String.
+     * Perform an unescape operation based on CharSequence.
      */
-    static String unescape(final String text) {
+    static String unescape(final CharSequence text) {
 
         if (text == null) {
             return null;
         }
 
-        StringBuilder strBuilder = null;
+        final StringBuilder strBuilder = unescape(text, null);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an unescape operation based on CharSequence, appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some unescape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder unescape(final CharSequence text, final StringBuilder output) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.JSON, EscapeOperationType.UNESCAPE));
+        if (recorder == null) {
+            return unescapeCharSequence(text, output);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = unescapeCharSequence(text, null);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder unescapeCharSequence(final CharSequence text, final StringBuilder output) {
+
+        if (text == null) {
+            return output;
+        }
+
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -797,20 +993,20 @@ static String unescape(final String text) {
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
-         *                 append the remaining escaped text to the string builder and return.
+         * Final cleaning: return null if no unescape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining escaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
@@ -819,124 +1015,135 @@ static String unescape(final String text) {
 
 
     /*
-     * Perform an unescape operation based on a Reader, writing the result to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Determine whether an unescape operation would modify a CharSequence. Texts without any '\\' chars (the most
+     * common case) are discarded by the scanner, and the rest are checked by means of the unescape operation
+     * itself, which will only create a StringBuilder if some escape is actually found.
      */
-    static void unescape(final Reader reader, final Writer writer) throws IOException  {
+    static boolean requiresUnescape(final CharSequence text) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return false;
         }
 
-        final int[] escapes = new int[4];
-        int c1, c2; // c1: current char, c2: next char
+        final int max = text.length();
 
-        c2 = reader.read();
+        for (int i = 0; i < max; i++) {
 
-        while (c2 >= 0) {
+            i = UNESCAPE_SCANNER.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
 
-            c1 = c2;
-            c2 = reader.read();
+            if (text.charAt(i) == ESCAPE_PREFIX) {
+                return (unescapeCharSequence(text, null) != null);
+            }
 
-            /*
-             * Check the need for an unescape operation at this point
-             */
+        }
 
-            if (c1 != ESCAPE_PREFIX || c2 < 0) {
-                writer.write(c1);
-                continue;
-            }
+        return false;
 
-            int codepoint = -1;
+    }
 
-            if (c1 == ESCAPE_PREFIX) {
-
-                switch (c2) {
-                    case 'b': codepoint = 0x08; c1 = c2; c2 = reader.read(); break;
-                    case 't': codepoint = 0x09; c1 = c2; c2 = reader.read(); break;
-                    case 'n': codepoint = 0x0A; c1 = c2; c2 = reader.read(); break;
-                    case 'f': codepoint = 0x0C; c1 = c2; c2 = reader.read(); break;
-                    case 'r': codepoint = 0x0D; c1 = c2; c2 = reader.read(); break;
-                    case '"': codepoint = 0x22; c1 = c2; c2 = reader.read(); break;
-                    case '\\': codepoint = 0x5C; c1 = c2; c2 = reader.read(); break;
-                    case '/': codepoint = 0x2F; c1 = c2; c2 = reader.read(); break;
-                }
 
-                if (codepoint == -1) {
 
-                    if (c2 == ESCAPE_UHEXA_PREFIX2) {
-                        // This can be a uhexa escape, we need exactly four more characters
 
-                        int escapei = 0;
-                        int ce = reader.read();
-                        while (ce >= 0 && escapei < 4) {
-                            if (!((ce >= '0' && ce <= '9') || (ce >= 'A' && ce <= 'F') || (ce >= 'a' && ce <= 'f'))) {
-                                break;
-                            }
-                            escapes[escapei] = ce;
-                            ce = reader.read();
-                            escapei++;
-                        }
 
-                        if (escapei < 4) {
-                            // We weren't able to consume the required four hexa chars, leave it as slash+'u', which
-                            // is invalid, and let the corresponding JSON parser fail.
-                            writer.write(c1);
-                            writer.write(c2);
-                            for (int i = 0; i < escapei; i++) {
-                                c1 = c2;
-                                c2 = escapes[i];
-                                writer.write(c2);
-                            }
-                            c1 = c2;
-                            c2 = ce;
-                            continue;
-                        }
 
-                        c1 = escapes[3];
-                        c2 = ce;
+    /*
+     * Perform an unescape operation based on a Reader, writing the results to a Writer.
+     *
+     * The reader is read in chunks, each of which is unescaped by means of the char[]-based method. Each time we fill
+     * the buffer we will have to make sure we are not interrupting any escape sequence, which we do by only
+     * processing the buffered text up to the last escape sequence that might be incomplete (see
+     * computeSafeUnescapeLength(...) below). As that escape sequence can never be longer than MAX_ESCAPE_LEN, there
+     * will always be room in the buffer for reading more.
+     */
+    static void unescape(final Reader reader, final Writer writer) throws IOException {
 
-                        codepoint = parseIntFromReference(escapes, 0, 4, 16);
+        if (reader == null) {
+            return;
+        }
 
-                        // Don't continue here, just let the unescape code below do its job
+        final char[] buffer = new char[READER_BUFFER_SIZE];
 
-                    } else {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
 
-                        // Other escape sequences are not allowed by JSON. So we leave it as is
-                        // and expect the corresponding JSON parser to fail.
-                        writer.write(c1);
-                        writer.write(c2);
+        int bufferSize = read;
 
-                        c1 = c2;
-                        c2 = reader.read();
+        while (bufferSize > 0 || read >= 0) {
 
-                        continue;
+            final int n = (read < 0? bufferSize : computeSafeUnescapeLength(buffer, 0, bufferSize));
 
-                    }
+            if (n > 0) {
 
-                }
+                // Once we have defined a 'safe' buffer, just call the char[]-based method
+                unescape(buffer, 0, n, writer);
+
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
 
             }
 
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
+
+        }
+
+    }
 
-            /*
-             * --------------------------
-             *
-             * Perform the real unescape
-             *
-             * --------------------------
-             */
 
-            if (codepoint > '\uFFFF') {
-                writer.write(Character.toChars(codepoint));
-            } else {
-                writer.write((char)codepoint);
-            }
 
+    /*
+     * Compute the length of the longest prefix of the buffer that can be unescaped without the risk of interrupting
+     * an escape sequence. Only the last escape sequence in the buffer can be interrupted, and only if it starts less
+     * than 6 chars (the length of the longest escape sequence, "\u00E1") before the end of the buffer and it is
+     * not a complete two-char escape sequence, so the prefix just leaves that escape sequence out. Note a '\'
+     * preceded by an odd amount of '\' chars does not start an escape sequence, as it is the second char of a
+     * "\\" escape. Texts are always unescaped starting from a point in which there is no escape sequence in
+     * progress, so this amount can be safely counted from offset. Returns 0 if no such prefix exists.
+     */
+    static int computeSafeUnescapeLength(final char[] buffer, final int offset, final int len) {
+
+        final int max = offset + len;
+        final int windowStart = Math.max(offset, max - (MAX_ESCAPE_LEN - 1));
+
+        int p = max - 1;
+        while (p >= windowStart && buffer[p] != ESCAPE_PREFIX) {
+            p--;
         }
 
+        if (p < windowStart) {
+            // No escape sequence can be interrupted by the end of the buffer
+            return len;
+        }
+
+        int prefixCount = 1;
+        while (p - prefixCount >= offset && buffer[p - prefixCount] == ESCAPE_PREFIX) {
+            prefixCount++;
+        }
+
+        if (prefixCount % 2 == 0) {
+            // The last '\' in the buffer is the second char of a complete "\\" escape
+            return len;
+        }
+
+        if (p + 1 < max) {
+            final char c1 = buffer[p + 1];
+            if (c1 != ESCAPE_UHEXA_PREFIX2) {
+                // Complete two-char escape sequence (or an invalid one, which will be left as is)
+                return len;
+            }
+        }
+
+        return p - offset;
+
     }
 
 
@@ -1051,7 +1258,8 @@ static void unescape(final char[] text, final int offset, final int len, final W
              */
 
             if (codepoint > '\uFFFF') {
-                writer.write(Character.toChars(codepoint));
+                writer.write(Character.highSurrogate(codepoint));
+                writer.write(Character.lowSurrogate(codepoint));
             } else {
                 writer.write((char)codepoint);
             }
@@ -1074,17 +1282,37 @@ static void unescape(final char[] text, final int offset, final int len, final W
 
 
 
-    private static int codePointAt(final char c1, final char c2) {
-        if (Character.isHighSurrogate(c1)) {
-            if (c2 >= 0) {
-                if (Character.isLowSurrogate(c2)) {
-                    return Character.toCodePoint(c1, c2);
-                }
-            }
+    /*
+     * Perform an unescape operation based on char[], writing the result back into the same char[] and returning
+     * its new length. This is possible because unescaping never makes text longer (see InPlaceCharArrayWriter).
+     *
+     * Text before the first escape is not touched at all, and if there are no escapes nothing is even created.
+     */
+    static int unescapeInPlace(final char[] text, final int offset, final int len) {
+
+        final int max = (offset + len);
+
+        int i = offset;
+        while (i < max && text[i] != ESCAPE_PREFIX) {
+            i++;
         }
-        return c1;
+
+        if (i == max) {
+            // Nothing to unescape
+            return len;
+        }
+
+        final InPlaceCharArrayWriter writer = new InPlaceCharArrayWriter(text, i);
+        try {
+            unescape(text, i, (max - i), writer);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a char[] does not perform any actual input/output
+            throw new RuntimeException("Exception while unescaping in place", e);
+        }
+
+        return writer.getPosition() - offset;
+
     }
 
 
 }
-
@@ -0,0 +1,70 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.json;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.unbescape.EscapingWriter;
+
+/*
+ * Implementation of EscapingWriter for JSON escape operations. Besides high surrogates, a '<' at the end of the
+ * text written so far is also kept until the next char is known, as it determines whether a '/' after it needs
+ * escaping.
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+final class JsonEscapingWriter extends EscapingWriter {
+
+
+    private final JsonEscapeType type;
+    private final JsonEscapeLevel level;
+
+
+    JsonEscapingWriter(final Writer writer, final JsonEscapeType type, final JsonEscapeLevel level) {
+        super(writer);
+        this.type = type;
+        this.level = level;
+    }
+
+
+    @Override
+    protected int computeSafeEscapeLength(final char[] text, final int offset, final int len) {
+        if (len > 0) {
+            final char c = text[offset + len - 1];
+            if (Character.isHighSurrogate(c) || c == '<') {
+                return len - 1;
+            }
+        }
+        return len;
+    }
+
+
+    @Override
+    protected void escape(final char[] text, final int offset, final int len, final Writer writer)
+                          throws IOException {
+        JsonEscapeUtil.escape(text, offset, len, writer, this.type, this.level);
+    }
+
+
+}
@@ -22,6 +22,9 @@
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.CharBuffer;
+
+import org.unbescape.ChunkedUnescaper;
 
 /**
  * <p>
@@ -86,7 +89,7 @@
  * <strong><u>Input/Output</u></strong>
  *
  * <p>
- *   There are four different input/output modes that can be used in escape/unescape operations:
+ *   There are five different input/output modes that can be used in escape/unescape operations:
  * </p>
  * <ul>
  *   <li><em><kbd>String</kbd> input, <kbd>String</kbd> output</em>: Input is specified as a <kbd>String</kbd> object
@@ -95,6 +98,9 @@
  *       are required</u>.</li>
  *   <li><em><kbd>String</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a String
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
+ *   <li><em><kbd>String</kbd> input, <kbd>StringBuilder</kbd> output</em>: Input will be read from a String
+ *       and output will be appended to the specified <kbd>StringBuilder</kbd>. This avoids creating intermediate
+ *       <kbd>String</kbd> objects when output is already being composed into a <kbd>StringBuilder</kbd>.</li>
  *   <li><em><kbd>java.io.Reader</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a Reader
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
  *   <li><em><kbd>char[]</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a char array
@@ -104,6 +110,11 @@
  *       should be called with <kbd>offset = 0</kbd> and <kbd>len = text.length</kbd> in order to process
  *       the whole <kbd>char[]</kbd>.</li>
  * </ul>
+ * <p>
+ *   All <kbd>String</kbd>-input modes are also available for any other <kbd>java.lang.CharSequence</kbd>
+ *   implementation (e.g. <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd>), which will be processed
+ *   directly, without needing to create a <kbd>String</kbd> out of them first.
+ * </p>
  *
  * <strong><u>Glossary</u></strong>
  *
@@ -439,10 +450,13 @@ public static void escapePropertiesValue(final String text, final Writer writer,
 
 
 
+
+
+
     /**
      * <p>
      *   Perform a Java Properties Value level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the Java Properties basic escape set:
@@ -462,7 +476,7 @@ public static void escapePropertiesValue(final String text, final Writer writer,
      *   </li>
      * </ul>
      * <p>
-     *   This method calls {@link #escapePropertiesValue(Reader, Writer, PropertiesValueEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(String, StringBuilder, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -473,23 +487,21 @@ public static void escapePropertiesValue(final String text, final Writer writer,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapePropertiesValueMinimal(final Reader reader, final Writer writer)
-            throws IOException {
-        escapePropertiesValue(reader, writer, PropertiesValueEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    public static void escapePropertiesValueMinimal(final String text, final StringBuilder strBuilder) {
+        escapePropertiesValue(text, strBuilder, PropertiesValueEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
      *   Perform a Java Properties Value level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -519,7 +531,7 @@ public static void escapePropertiesValueMinimal(final Reader reader, final Write
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapePropertiesValue(Reader, Writer, PropertiesValueEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(String, StringBuilder, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -530,66 +542,66 @@ public static void escapePropertiesValueMinimal(final Reader reader, final Write
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapePropertiesValue(final Reader reader, final Writer writer)
-            throws IOException {
-        escapePropertiesValue(reader, writer, PropertiesValueEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static void escapePropertiesValue(final String text, final StringBuilder strBuilder) {
+        escapePropertiesValue(text, strBuilder, PropertiesValueEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) Java Properties Value <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) Java Properties Value <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
      *   {@link org.unbescape.properties.PropertiesValueEscapeLevel} argument value.
      * </p>
      * <p>
-     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapePropertiesValue*(...)</kbd> methods call this one with
-     *   preconfigured <kbd>level</kbd> values.
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapePropertiesValue*(...)</kbd> methods call
+     *   this one with preconfigured <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesValueEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapePropertiesValue(final Reader reader, final Writer writer, final PropertiesValueEscapeLevel level)
-            throws IOException {
+    public static void escapePropertiesValue(final String text, final StringBuilder strBuilder,
+                                             final PropertiesValueEscapeLevel level) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (level == null) {
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        PropertiesValueEscapeUtil.escape(reader, writer, level);
+        PropertiesValueEscapeUtil.escape(text, strBuilder, level);
 
     }
 
 
 
 
+
+
+
     /**
      * <p>
      *   Perform a Java Properties Value level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the Java Properties basic escape set:
@@ -609,7 +621,7 @@ public static void escapePropertiesValue(final Reader reader, final Writer write
      *   </li>
      * </ul>
      * <p>
-     *   This method calls {@link #escapePropertiesValue(char[], int, int, java.io.Writer, PropertiesValueEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(CharSequence, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -620,23 +632,22 @@ public static void escapePropertiesValue(final Reader reader, final Writer write
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapePropertiesValueMinimal(final char[] text, final int offset, final int len, final Writer writer)
-                                                    throws IOException {
-        escapePropertiesValue(text, offset, len, writer, PropertiesValueEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    public static String escapePropertiesValueMinimal(final CharSequence text) {
+        return escapePropertiesValue(text, PropertiesValueEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
      *   Perform a Java Properties Value level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -666,7 +677,7 @@ public static void escapePropertiesValueMinimal(final char[] text, final int off
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapePropertiesValue(char[], int, int, java.io.Writer, PropertiesValueEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(CharSequence, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
@@ -677,96 +688,68 @@ public static void escapePropertiesValueMinimal(final char[] text, final int off
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapePropertiesValue(final char[] text, final int offset, final int len, final Writer writer)
-                                             throws IOException {
-        escapePropertiesValue(text, offset, len, writer, PropertiesValueEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static String escapePropertiesValue(final CharSequence text) {
+        return escapePropertiesValue(text, PropertiesValueEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) Java Properties Value <strong>escape</strong> operation on a <kbd>String</kbd> input.
+     *   Perform a (configurable) Java Properties Value <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
      *   {@link org.unbescape.properties.PropertiesValueEscapeLevel} argument value.
      * </p>
      * <p>
-     *   All other <kbd>String</kbd>-based <kbd>escapePropertiesValue*(...)</kbd> methods call this one with
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapePropertiesValue*(...)</kbd> methods call this one with
      *   preconfigured <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesValueEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapePropertiesValue(final char[] text, final int offset, final int len, final Writer writer,
-                                             final PropertiesValueEscapeLevel level)
-                                             throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
+    public static String escapePropertiesValue(final CharSequence text, final PropertiesValueEscapeLevel level) {
 
         if (level == null) {
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        PropertiesValueEscapeUtil.escape(text, offset, len, writer, level);
+        return PropertiesValueEscapeUtil.escape(text, level);
 
     }
 
 
-
-
-
-
-
-
-
     /**
      * <p>
-     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>String</kbd> input.
+     *   Perform a Java Properties Value level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     *   <em>Level 1</em> means this method will only escape the Java Properties basic escape set:
      * </p>
      * <ul>
      *   <li>The <em>Single Escape Characters</em>:
      *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
      *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
      *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
-     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
-     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
-     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
-     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>) and
      *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
      *   </li>
      *   <li>
@@ -776,47 +759,46 @@ public static void escapePropertiesValue(final char[] text, final int offset, fi
      *   </li>
      * </ul>
      * <p>
-     *   This method calls {@link #escapePropertiesKey(String, PropertiesKeyEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(CharSequence, Writer, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>level</kbd>:
-     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     *       {@link PropertiesValueEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
      * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String escapePropertiesKeyMinimal(final String text) {
-        return escapePropertiesKey(text, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    public static void escapePropertiesValueMinimal(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapePropertiesValue(text, writer, PropertiesValueEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>String</kbd> input.
+     *   Perform a Java Properties Value level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
      * </p>
      * <ul>
-     *   <li>The Java Properties Key basic escape set:
+     *   <li>The Java Properties basic escape set:
      *         <ul>
      *           <li>The <em>Single Escape Characters</em>:
      *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
      *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
      *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
-     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
-     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
-     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
-     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>) and
      *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
      *           </li>
      *           <li>
@@ -834,80 +816,85 @@ public static String escapePropertiesKeyMinimal(final String text) {
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapePropertiesKey(String, PropertiesKeyEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(CharSequence, Writer, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>level</kbd>:
-     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     *       {@link PropertiesValueEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
      * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String escapePropertiesKey(final String text) {
-        return escapePropertiesKey(text, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static void escapePropertiesValue(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapePropertiesValue(text, writer, PropertiesValueEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>String</kbd> input.
+     *   Perform a (configurable) Java Properties Value <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
-     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     *   {@link org.unbescape.properties.PropertiesValueEscapeLevel} argument value.
      * </p>
      * <p>
-     *   All other <kbd>String</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call this one with
-     *   preconfigured <kbd>level</kbd> values.
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapePropertiesValue*(...)</kbd> methods call
+     *   this one with preconfigured <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
-     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesValueEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String escapePropertiesKey(final String text, final PropertiesKeyEscapeLevel level) {
+    public static void escapePropertiesValue(final CharSequence text, final Writer writer, final PropertiesValueEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
 
         if (level == null) {
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        return PropertiesKeyEscapeUtil.escape(text, level);
-    }
-
+        PropertiesValueEscapeUtil.escape(new InternalStringReader(text), writer, level);
 
+    }
 
 
     /**
      * <p>
-     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
-     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   Perform a Java Properties Value level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
-     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     *   <em>Level 1</em> means this method will only escape the Java Properties basic escape set:
      * </p>
      * <ul>
      *   <li>The <em>Single Escape Characters</em>:
      *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
      *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
      *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
-     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
-     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
-     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
-     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>) and
      *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
      *   </li>
      *   <li>
@@ -917,47 +904,44 @@ public static String escapePropertiesKey(final String text, final PropertiesKeyE
      *   </li>
      * </ul>
      * <p>
-     *   This method calls {@link #escapePropertiesKey(String, Writer, PropertiesKeyEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(CharSequence, StringBuilder, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>level</kbd>:
-     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     *       {@link PropertiesValueEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
      * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapePropertiesKeyMinimal(final String text, final Writer writer)
-            throws IOException {
-        escapePropertiesKey(text, writer, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    public static void escapePropertiesValueMinimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapePropertiesValue(text, strBuilder, PropertiesValueEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   Perform a Java Properties Value level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
      * </p>
      * <ul>
-     *   <li>The Java Properties Key basic escape set:
+     *   <li>The Java Properties basic escape set:
      *         <ul>
      *           <li>The <em>Single Escape Characters</em>:
      *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
      *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
      *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
-     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
-     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
-     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
-     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>) and
      *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
      *           </li>
      *           <li>
@@ -975,63 +959,65 @@ public static void escapePropertiesKeyMinimal(final String text, final Writer wr
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapePropertiesKey(String, Writer, PropertiesKeyEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(CharSequence, StringBuilder, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>level</kbd>:
-     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     *       {@link PropertiesValueEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
      * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapePropertiesKey(final String text, final Writer writer)
-            throws IOException {
-        escapePropertiesKey(text, writer, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static void escapePropertiesValue(final CharSequence text, final StringBuilder strBuilder) {
+        escapePropertiesValue(text, strBuilder, PropertiesValueEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>String</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) Java Properties Value <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
-     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     *   {@link org.unbescape.properties.PropertiesValueEscapeLevel} argument value.
      * </p>
      * <p>
-     *   All other <kbd>String</kbd>/<kbd>Writer</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call this one with
-     *   preconfigured <kbd>level</kbd> values.
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapePropertiesValue*(...)</kbd> methods
+     *   call this one with preconfigured <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesValueEscapeLevel}.
+     *
+     * @since 1.1.7
      */
-    public static void escapePropertiesKey(final String text, final Writer writer, final PropertiesKeyEscapeLevel level)
-            throws IOException {
+    public static void escapePropertiesValue(final CharSequence text, final StringBuilder strBuilder,
+                                             final PropertiesValueEscapeLevel level) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (level == null) {
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        PropertiesKeyEscapeUtil.escape(new InternalStringReader(text), writer, level);
+        PropertiesValueEscapeUtil.escape(text, strBuilder, level);
+
     }
 
 
@@ -1039,21 +1025,18 @@ public static void escapePropertiesKey(final String text, final Writer writer, f
 
     /**
      * <p>
-     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
+     *   Perform a Java Properties Value level 1 (only basic set) <strong>escape</strong> operation
      *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     *   <em>Level 1</em> means this method will only escape the Java Properties basic escape set:
      * </p>
      * <ul>
      *   <li>The <em>Single Escape Characters</em>:
      *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
      *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
      *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
-     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
-     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
-     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
-     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>) and
      *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
      *   </li>
      *   <li>
@@ -1063,12 +1046,12 @@ public static void escapePropertiesKey(final String text, final Writer writer, f
      *   </li>
      * </ul>
      * <p>
-     *   This method calls {@link #escapePropertiesKey(Reader, Writer, PropertiesKeyEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(Reader, Writer, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>level</kbd>:
-     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     *       {@link PropertiesValueEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
      * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
@@ -1078,32 +1061,31 @@ public static void escapePropertiesKey(final String text, final Writer writer, f
      * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
      */
-    public static void escapePropertiesKeyMinimal(final Reader reader, final Writer writer)
+    public static void escapePropertiesValueMinimal(final Reader reader, final Writer writer)
             throws IOException {
-        escapePropertiesKey(reader, writer, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+        escapePropertiesValue(reader, writer, PropertiesValueEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   Perform a Java Properties Value level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
      *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
      * </p>
      * <ul>
-     *   <li>The Java Properties Key basic escape set:
+     *   <li>The Java Properties basic escape set:
      *         <ul>
      *           <li>The <em>Single Escape Characters</em>:
      *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
      *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
      *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
-     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
-     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
-     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
-     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>) and
      *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
      *           </li>
      *           <li>
@@ -1121,12 +1103,12 @@ public static void escapePropertiesKeyMinimal(final Reader reader, final Writer
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapePropertiesKey(Reader, Writer, PropertiesKeyEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(Reader, Writer, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>level</kbd>:
-     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     *       {@link PropertiesValueEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
      * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
@@ -1136,24 +1118,26 @@ public static void escapePropertiesKeyMinimal(final Reader reader, final Writer
      * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
      */
-    public static void escapePropertiesKey(final Reader reader, final Writer writer)
+    public static void escapePropertiesValue(final Reader reader, final Writer writer)
             throws IOException {
-        escapePropertiesKey(reader, writer, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+        escapePropertiesValue(reader, writer, PropertiesValueEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   Perform a (configurable) Java Properties Value <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
      *   writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
-     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     *   {@link org.unbescape.properties.PropertiesValueEscapeLevel} argument value.
      * </p>
      * <p>
-     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call this one with
+     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapePropertiesValue*(...)</kbd> methods call this one with
      *   preconfigured <kbd>level</kbd> values.
      * </p>
      * <p>
@@ -1163,10 +1147,12 @@ public static void escapePropertiesKey(final Reader reader, final Writer writer)
      * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
      * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesValueEscapeLevel}.
      * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
      */
-    public static void escapePropertiesKey(final Reader reader, final Writer writer, final PropertiesKeyEscapeLevel level)
+    public static void escapePropertiesValue(final Reader reader, final Writer writer, final PropertiesValueEscapeLevel level)
             throws IOException {
 
         if (writer == null) {
@@ -1177,7 +1163,8 @@ public static void escapePropertiesKey(final Reader reader, final Writer writer,
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        PropertiesKeyEscapeUtil.escape(reader, writer, level);
+        PropertiesValueEscapeUtil.escape(reader, writer, level);
+
     }
 
 
@@ -1185,21 +1172,18 @@ public static void escapePropertiesKey(final Reader reader, final Writer writer,
 
     /**
      * <p>
-     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
+     *   Perform a Java Properties Value level 1 (only basic set) <strong>escape</strong> operation
      *   on a <kbd>char[]</kbd> input.
      * </p>
      * <p>
-     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     *   <em>Level 1</em> means this method will only escape the Java Properties basic escape set:
      * </p>
      * <ul>
      *   <li>The <em>Single Escape Characters</em>:
      *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
      *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
      *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
-     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
-     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
-     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
-     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>) and
      *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
      *   </li>
      *   <li>
@@ -1209,12 +1193,12 @@ public static void escapePropertiesKey(final Reader reader, final Writer writer,
      *   </li>
      * </ul>
      * <p>
-     *   This method calls {@link #escapePropertiesKey(char[], int, int, java.io.Writer, PropertiesKeyEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(char[], int, int, java.io.Writer, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>level</kbd>:
-     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     *       {@link PropertiesValueEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
      * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
@@ -1227,31 +1211,28 @@ public static void escapePropertiesKey(final Reader reader, final Writer writer,
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      */
-    public static void escapePropertiesKeyMinimal(final char[] text, final int offset, final int len, final Writer writer)
-                                                  throws IOException {
-        escapePropertiesKey(text, offset, len, writer, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    public static void escapePropertiesValueMinimal(final char[] text, final int offset, final int len, final Writer writer)
+                                                    throws IOException {
+        escapePropertiesValue(text, offset, len, writer, PropertiesValueEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   Perform a Java Properties Value level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
      *   on a <kbd>char[]</kbd> input.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
      * </p>
      * <ul>
-     *   <li>The Java Properties Key basic escape set:
+     *   <li>The Java Properties basic escape set:
      *         <ul>
      *           <li>The <em>Single Escape Characters</em>:
      *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
      *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
      *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
-     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
-     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
-     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
-     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>) and
      *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
      *           </li>
      *           <li>
@@ -1269,12 +1250,12 @@ public static void escapePropertiesKeyMinimal(final char[] text, final int offse
      *   Hexadecimal Escapes.
      * </p>
      * <p>
-     *   This method calls {@link #escapePropertiesKey(char[], int, int, java.io.Writer, PropertiesKeyEscapeLevel)}
+     *   This method calls {@link #escapePropertiesValue(char[], int, int, java.io.Writer, PropertiesValueEscapeLevel)}
      *   with the following preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>level</kbd>:
-     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     *       {@link PropertiesValueEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
      * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
@@ -1287,22 +1268,22 @@ public static void escapePropertiesKeyMinimal(final char[] text, final int offse
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      */
-    public static void escapePropertiesKey(final char[] text, final int offset, final int len, final Writer writer)
-                                           throws IOException {
-        escapePropertiesKey(text, offset, len, writer, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    public static void escapePropertiesValue(final char[] text, final int offset, final int len, final Writer writer)
+                                             throws IOException {
+        escapePropertiesValue(text, offset, len, writer, PropertiesValueEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform a (configurable) Java Properties Value <strong>escape</strong> operation on a <kbd>String</kbd> input.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
-     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     *   {@link org.unbescape.properties.PropertiesValueEscapeLevel} argument value.
      * </p>
      * <p>
-     *   All other <kbd>String</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call this one with
+     *   All other <kbd>String</kbd>-based <kbd>escapePropertiesValue*(...)</kbd> methods call this one with
      *   preconfigured <kbd>level</kbd> values.
      * </p>
      * <p>
@@ -1314,12 +1295,12 @@ public static void escapePropertiesKey(final char[] text, final int offset, fina
      * @param len the number of characters in <kbd>text</kbd> that should be escaped.
      * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesValueEscapeLevel}.
      * @throws IOException if an input/output exception occurs
      */
-    public static void escapePropertiesKey(final char[] text, final int offset, final int len, final Writer writer,
-                                           final PropertiesKeyEscapeLevel level)
-                                           throws IOException {
+    public static void escapePropertiesValue(final char[] text, final int offset, final int len, final Writer writer,
+                                             final PropertiesValueEscapeLevel level)
+                                             throws IOException {
 
         if (writer == null) {
             throw new IllegalArgumentException("Argument 'writer' cannot be null");
@@ -1341,7 +1322,7 @@ public static void escapePropertiesKey(final char[] text, final int offset, fina
                     "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
         }
 
-        PropertiesKeyEscapeUtil.escape(text, offset, len, writer, level);
+        PropertiesValueEscapeUtil.escape(text, offset, len, writer, level);
 
     }
 
@@ -1352,109 +1333,1644 @@ public static void escapePropertiesKey(final char[] text, final int offset, fina
 
 
 
+
     /**
      * <p>
-     *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> Java Properties unescape of SECs and u-based escapes.
+     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(String, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
      * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
      *         no additional <kbd>String</kbd> objects will be created during processing). Will
      *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
      */
-    public static String unescapeProperties(final String text) {
-        if (text == null) {
-            return null;
-        }
-        if (text.indexOf('\\') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            return text;
-        }
-        return PropertiesUnescapeUtil.unescape(text);
+    public static String escapePropertiesKeyMinimal(final String text) {
+        return escapePropertiesKey(text, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>String</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> Java Properties unescape of SECs and u-based escapes.
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java Properties Key basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
      * </p>
      * <p>
+     *   This method calls {@link #escapePropertiesKey(String, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
-     *
-     * @since 1.1.2
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
      */
-    public static void unescapeProperties(final String text, final Writer writer)
-            throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
-        if (text == null) {
-            return;
-        }
-        if (text.indexOf('\\') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            writer.write(text);
-            return;
-        }
-
-        PropertiesUnescapeUtil.unescape(new InternalStringReader(text), writer);
-
+    public static String escapePropertiesKey(final String text) {
+        return escapePropertiesKey(text, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
     }
 
 
     /**
      * <p>
-     *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>String</kbd> input.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> Java Properties unescape of SECs and u-based escapes.
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>String</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call this one with
+     *   preconfigured <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
-     *
-     * @since 1.1.2
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
      */
-    public static void unescapeProperties(final Reader reader, final Writer writer)
-            throws IOException {
+    public static String escapePropertiesKey(final String text, final PropertiesKeyEscapeLevel level) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        PropertiesUnescapeUtil.unescape(reader, writer);
-
+        return PropertiesKeyEscapeUtil.escape(text, level);
     }
 
 
-    /**
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(String, Writer, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapePropertiesKeyMinimal(final String text, final Writer writer)
+            throws IOException {
+        escapePropertiesKey(text, writer, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java Properties Key basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(String, Writer, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapePropertiesKey(final String text, final Writer writer)
+            throws IOException {
+        escapePropertiesKey(text, writer, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>String</kbd>/<kbd>Writer</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call this one with
+     *   preconfigured <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapePropertiesKey(final String text, final Writer writer, final PropertiesKeyEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        PropertiesKeyEscapeUtil.escape(new InternalStringReader(text), writer, level);
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(String, StringBuilder, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapePropertiesKeyMinimal(final String text, final StringBuilder strBuilder) {
+        escapePropertiesKey(text, strBuilder, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java Properties Key basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(String, StringBuilder, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapePropertiesKey(final String text, final StringBuilder strBuilder) {
+        escapePropertiesKey(text, strBuilder, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call
+     *   this one with preconfigured <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapePropertiesKey(final String text, final StringBuilder strBuilder,
+                                           final PropertiesKeyEscapeLevel level) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        PropertiesKeyEscapeUtil.escape(text, strBuilder, level);
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(CharSequence, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String escapePropertiesKeyMinimal(final CharSequence text) {
+        return escapePropertiesKey(text, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java Properties Key basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(CharSequence, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String escapePropertiesKey(final CharSequence text) {
+        return escapePropertiesKey(text, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call this one with
+     *   preconfigured <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String escapePropertiesKey(final CharSequence text, final PropertiesKeyEscapeLevel level) {
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return PropertiesKeyEscapeUtil.escape(text, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(CharSequence, Writer, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapePropertiesKeyMinimal(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapePropertiesKey(text, writer, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java Properties Key basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(CharSequence, Writer, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapePropertiesKey(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapePropertiesKey(text, writer, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call
+     *   this one with preconfigured <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapePropertiesKey(final CharSequence text, final Writer writer, final PropertiesKeyEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        PropertiesKeyEscapeUtil.escape(new InternalStringReader(text), writer, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(CharSequence, StringBuilder, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapePropertiesKeyMinimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapePropertiesKey(text, strBuilder, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java Properties Key basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(CharSequence, StringBuilder, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapePropertiesKey(final CharSequence text, final StringBuilder strBuilder) {
+        escapePropertiesKey(text, strBuilder, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods
+     *   call this one with preconfigured <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapePropertiesKey(final CharSequence text, final StringBuilder strBuilder,
+                                           final PropertiesKeyEscapeLevel level) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        PropertiesKeyEscapeUtil.escape(text, strBuilder, level);
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(Reader, Writer, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapePropertiesKeyMinimal(final Reader reader, final Writer writer)
+            throws IOException {
+        escapePropertiesKey(reader, writer, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java Properties Key basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(Reader, Writer, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapePropertiesKey(final Reader reader, final Writer writer)
+            throws IOException {
+        escapePropertiesKey(reader, writer, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call this one with
+     *   preconfigured <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapePropertiesKey(final Reader reader, final Writer writer, final PropertiesKeyEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        PropertiesKeyEscapeUtil.escape(reader, writer, level);
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 1 (only basic set) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the Java Properties Key basic escape set:
+     * </p>
+     * <ul>
+     *   <li>The <em>Single Escape Characters</em>:
+     *       <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *       <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *       <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *       <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *       <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *       <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *       <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *       <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *   </li>
+     *   <li>
+     *       Two ranges of non-displayable, control characters (some of which are already part of the
+     *       <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *       and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *   </li>
+     * </ul>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(char[], int, int, java.io.Writer, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_1_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapePropertiesKeyMinimal(final char[] text, final int offset, final int len, final Writer writer)
+                                                  throws IOException {
+        escapePropertiesKey(text, offset, len, writer, PropertiesKeyEscapeLevel.LEVEL_1_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties Key level 2 (basic set and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The Java Properties Key basic escape set:
+     *         <ul>
+     *           <li>The <em>Single Escape Characters</em>:
+     *               <kbd>&#92;t</kbd> (<kbd>U+0009</kbd>),
+     *               <kbd>&#92;n</kbd> (<kbd>U+000A</kbd>),
+     *               <kbd>&#92;f</kbd> (<kbd>U+000C</kbd>),
+     *               <kbd>&#92;r</kbd> (<kbd>U+000D</kbd>),
+     *               <kbd>&#92;&nbsp;</kbd> (<kbd>U+0020</kbd>),
+     *               <kbd>&#92;:</kbd> (<kbd>U+003A</kbd>),
+     *               <kbd>&#92;=</kbd> (<kbd>U+003D</kbd>) and
+     *               <kbd>&#92;&#92;</kbd> (<kbd>U+005C</kbd>).
+     *           </li>
+     *           <li>
+     *               Two ranges of non-displayable, control characters (some of which are already part of the
+     *               <em>single escape characters</em> list): <kbd>U+0000</kbd> to <kbd>U+001F</kbd>
+     *               and <kbd>U+007F</kbd> to <kbd>U+009F</kbd>.
+     *           </li>
+     *         </ul>
+     *   </li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by using the Single Escape Chars whenever possible. For escaped
+     *   characters that do not have an associated SEC, default to <kbd>&#92;uFFFF</kbd>
+     *   Hexadecimal Escapes.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapePropertiesKey(char[], int, int, java.io.Writer, PropertiesKeyEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>level</kbd>:
+     *       {@link PropertiesKeyEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapePropertiesKey(final char[] text, final int offset, final int len, final Writer writer)
+                                           throws IOException {
+        escapePropertiesKey(text, offset, len, writer, PropertiesKeyEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_BASIC_ESCAPE_SET);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) Java Properties Key <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.properties.PropertiesKeyEscapeLevel} argument value.
+     * </p>
+     * <p>
+     *   All other <kbd>String</kbd>-based <kbd>escapePropertiesKey*(...)</kbd> methods call this one with
+     *   preconfigured <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapePropertiesKey(final char[] text, final int offset, final int len, final Writer writer,
+                                           final PropertiesKeyEscapeLevel level)
+                                           throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        PropertiesKeyEscapeUtil.escape(text, offset, len, writer, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable) Java
+     *   Properties value <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapePropertiesValue(CharSequence, PropertiesValueEscapeLevel)} would
+     *   do with the same <kbd>level</kbd>, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param level the escape level to be considered, see {@link org.unbescape.properties.PropertiesValueEscapeLevel}.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapablePropertiesValue(
+            final CharSequence text, final PropertiesValueEscapeLevel level) {
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return PropertiesValueEscapeUtil.indexOfFirstEscapable(text, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) Java Properties value <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapePropertiesValue(CharSequence,
+     *   PropertiesValueEscapeLevel)} returns a different text, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param level the escape level to be considered, see {@link org.unbescape.properties.PropertiesValueEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapePropertiesValue(
+            final CharSequence text, final PropertiesValueEscapeLevel level) {
+        return (indexOfFirstEscapablePropertiesValue(text, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) Java Properties value <strong>escape</strong>
+     *   operation on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapePropertiesValue(CharSequence, PropertiesValueEscapeLevel)}, but no objects are created at all
+     *   during the process. This allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or
+     *   <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param level the escape level to be considered, see {@link org.unbescape.properties.PropertiesValueEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthPropertiesValue(
+            final CharSequence text, final PropertiesValueEscapeLevel level) {
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return PropertiesValueEscapeUtil.escapedLength(text, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable) Java
+     *   Properties key <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapePropertiesKey(CharSequence, PropertiesKeyEscapeLevel)} would do
+     *   with the same <kbd>level</kbd>, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param level the escape level to be considered, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapablePropertiesKey(
+            final CharSequence text, final PropertiesKeyEscapeLevel level) {
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return PropertiesKeyEscapeUtil.indexOfFirstEscapable(text, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) Java Properties key <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapePropertiesKey(CharSequence, PropertiesKeyEscapeLevel)}
+     *   returns a different text, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param level the escape level to be considered, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapePropertiesKey(final CharSequence text, final PropertiesKeyEscapeLevel level) {
+        return (indexOfFirstEscapablePropertiesKey(text, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) Java Properties key <strong>escape</strong>
+     *   operation on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapePropertiesKey(CharSequence, PropertiesKeyEscapeLevel)}, but no objects are created at all
+     *   during the process. This allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or
+     *   <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param level the escape level to be considered, see {@link org.unbescape.properties.PropertiesKeyEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthPropertiesKey(
+            final CharSequence text, final PropertiesKeyEscapeLevel level) {
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return PropertiesKeyEscapeUtil.escapedLength(text, level);
+
+    }
+
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java Properties unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeProperties(final String text) {
+        if (text == null) {
+            return null;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            return text;
+        }
+        return PropertiesUnescapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>String</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java Properties unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeProperties(final String text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            writer.write(text);
+            return;
+        }
+
+        PropertiesUnescapeUtil.unescape(new InternalStringReader(text), writer);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java Properties unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeProperties(final String text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('\\') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            strBuilder.append(text);
+            return;
+        }
+
+        PropertiesUnescapeUtil.unescape(text, strBuilder);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java Properties unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeProperties(final CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            return unescapeProperties((String) text);
+        }
+        return PropertiesUnescapeUtil.unescape(text);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java Properties unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeProperties(final CharSequence text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeProperties((String) text, writer);
+            return;
+        }
+
+        PropertiesUnescapeUtil.unescape(new InternalStringReader(text), writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>CharSequence</kbd>
+     *   input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java Properties unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeProperties(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeProperties((String) text, strBuilder);
+            return;
+        }
+
+        PropertiesUnescapeUtil.unescape(text, strBuilder);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> Java Properties unescape of SECs and u-based escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeProperties(final Reader reader, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        PropertiesUnescapeUtil.unescape(reader, writer);
+
+    }
+
+
+    /**
      * <p>
      *   Perform a Java Properties (key or value) <strong>unescape</strong> operation on a <kbd>char[]</kbd> input.
      * </p>
@@ -1500,6 +3016,65 @@ public static void unescapeProperties(final char[] text, final int offset, final
 
 
 
+    /**
+     * <p>
+     *   Obtain a <strong>chunked unescaper</strong> that performs a Java Properties <strong>unescape</strong> operation
+     *   on a text received as a sequence of chunks (e.g. network buffers), writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   Chunks can be split at any point, even in the middle of escape sequences, and results will be exactly the same
+     *   as those of {@link #unescapeProperties(String)} on the concatenation of all the chunks. The end of the text
+     *   must be signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link
+     *   org.unbescape.ChunkedUnescaper} for details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
+     */
+    public static ChunkedUnescaper chunkedUnescaper(final Writer writer) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        return new PropertiesChunkedUnescaper(writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a Java Properties <strong>unescape</strong> operation would modify a <kbd>CharSequence</kbd>
+     *   input.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #unescapeProperties(CharSequence)} returns a different text.
+     *   Texts that do not contain any backslash (<kbd>\\</kbd>) chars are discarded without creating any objects at
+     *   all, which makes this method adequate for checking (or caching) values that only rarely contain escapes.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresUnescapeProperties(final CharSequence text) {
+        return PropertiesUnescapeUtil.requiresUnescape(text);
+    }
+
+
+
+
     private PropertiesEscape() {
         super();
     }
@@ -1510,16 +3085,19 @@ private PropertiesEscape() {
      * This is basically a very simplified, thread-unsafe version of StringReader that should
      * perform better than the original StringReader by removing all synchronization structures.
      *
+     * It can read from any CharSequence. Bulk reads are specialized for String, StringBuilder and
+     * array-backed CharBuffer objects so that, for those, chars are copied without calling charAt(...).
+     *
      * Note the only implemented methods are those that we know are really used from within the
      * stream-based escape/unescape operations.
      */
     private static final class InternalStringReader extends Reader {
 
-        private String str;
+        private CharSequence str;
         private int length;
         private int next = 0;
 
-        public InternalStringReader(final String s) {
+        public InternalStringReader(final CharSequence s) {
             super();
             this.str = s;
             this.length = s.length();
@@ -1545,7 +3123,19 @@ public int read(final char[] cbuf, final int off, final int len) throws IOExcept
                 return -1;
             }
             int n = Math.min(this.length - this.next, len);
-            this.str.getChars(this.next, this.next + n, cbuf, off);
+            if (this.str instanceof String) {
+                ((String) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof StringBuilder) {
+                ((StringBuilder) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof CharBuffer && ((CharBuffer) this.str).hasArray()) {
+                final CharBuffer charBuffer = (CharBuffer) this.str;
+                System.arraycopy(
+                        charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + this.next, cbuf, off, n);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = this.str.charAt(this.next + i);
+                }
+            }
             this.next += n;
             return n;
         }
@@ -24,6 +24,10 @@
 import java.io.Writer;
 import java.util.Arrays;
 
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
+
 
 /**
  * <p>
@@ -93,6 +97,11 @@ final class PropertiesValueEscapeUtil {
      */
     private static char[] HEXA_CHARS_UPPER = "0123456789ABCDEF".toCharArray();
 
+    /*
+     * Initial size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
+
 
     /*
      * Structures for holding the Single Escape Characters
@@ -206,17 +215,62 @@ static char[] toUHexa(final int codepoint) {
 
 
     /*
-     * Perform an escape operation, based on String, according to the specified level.
+     * Perform an escape operation, based on CharSequence, according to the specified level.
      */
-    static String escape(final String text, final PropertiesValueEscapeLevel escapeLevel) {
+    static String escape(final CharSequence text, final PropertiesValueEscapeLevel escapeLevel) {
 
         if (text == null) {
             return null;
         }
 
+        final StringBuilder strBuilder = escape(text, null, escapeLevel);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, according to the specified level, appending the result to a
+     * StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output,
+                                final PropertiesValueEscapeLevel escapeLevel) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.PROPERTIES, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeCharSequence(text, output, escapeLevel);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeCharSequence(text, null, escapeLevel);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                    final PropertiesValueEscapeLevel escapeLevel) {
+
+        if (text == null) {
+            return output;
+        }
+
         final int level = escapeLevel.getEscapeLevel();
 
-        StringBuilder strBuilder = null;
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -316,20 +370,20 @@ static String escape(final String text, final PropertiesValueEscapeLevel escapeL
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: return null if no escape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining unescaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
@@ -338,114 +392,151 @@ static String escape(final String text, final PropertiesValueEscapeLevel escapeL
 
 
     /*
-     * Perform an escape operation, based on a Reader, according to the specified level and writing the result
-     * to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Find the first position in a CharSequence at which an escape operation performed with the specified
+     * configuration would modify it, or -1 if escaping would leave it unmodified. Chars are examined exactly as in
+     * escapeCharSequence(...), but nothing is ever allocated.
      */
-    static void escape(
-            final Reader reader, final Writer writer, final PropertiesValueEscapeLevel escapeLevel)
-            throws IOException {
+    static int indexOfFirstEscapable(final CharSequence text, final PropertiesValueEscapeLevel escapeLevel) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return -1;
         }
 
         final int level = escapeLevel.getEscapeLevel();
 
-        int c1, c2; // c0: last char, c1: current char, c2: next char
-
-        c2 = reader.read();
-
-        while (c2 >= 0) {
-
-            c1 = c2;
-            c2 = reader.read();
+        final int max = text.length();
 
-            final int codepoint = codePointAt((char)c1, (char)c2);
+        for (int i = 0; i < max; i++) {
 
+            final int codepoint = Character.codePointAt(text, i);
 
-            /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
-             */
             if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
-                writer.write(c1);
                 continue;
             }
 
-            /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
-             */
             if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
+                if (Character.charCount(codepoint) > 1) {
+                    // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                    i++;
+                }
+                continue;
+            }
 
-                writer.write(c1);
+            return i;
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
+        }
 
-                    writer.write(c2);
+        return -1;
 
-                    c1 = c2;
-                    c2 = reader.read();
+    }
+
+
+
+
+
+    /*
+     * Compute the exact length of the result of an escape operation performed on a CharSequence with the
+     * specified configuration, without actually escaping anything. Chars are examined exactly as in
+     * escapeCharSequence(...).
+     */
+    static long escapedLength(final CharSequence text, final PropertiesValueEscapeLevel escapeLevel) {
+
+        if (text == null) {
+            return 0L;
+        }
+
+        final int level = escapeLevel.getEscapeLevel();
+
+        final int max = text.length();
+
+        long length = max;
+
+        for (int i = 0; i < max; i++) {
+
+            final int codepoint = Character.codePointAt(text, i);
 
+            if (codepoint <= (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[codepoint]) {
+                continue;
+            }
+
+            if (Character.charCount(codepoint) > 1) {
+                // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                i++;
+                if (level >= ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
+                    // Two uhexa escapes (6 chars each) replace the two chars of a surrogate pair
+                    length += 10;
                 }
+                continue;
+            }
 
+            if (codepoint > (ESCAPE_LEVELS_LEN - 2) && level < ESCAPE_LEVELS[ESCAPE_LEVELS_LEN - 1]) {
                 continue;
+            }
 
+            if (codepoint < SEC_CHARS_LEN && SEC_CHARS[codepoint] != SEC_CHARS_NO_SEC) {
+                // A SEC (2 chars) replaces one char
+                length += 1;
+            } else {
+                // A uhexa escape (6 chars) replaces one char
+                length += 5;
             }
 
+        }
 
-            /*
-             * We know we need to escape, so from here on we will only work with the codepoint -- we can advance
-             * the chars.
-             */
+        return length;
 
-            if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually reading two char positions with a single codepoint.
-                c1 = c2;
-                c2 = reader.read();
-            }
+    }
 
 
-            /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of SECs and UHEXA
-             *
-             * -----------------------------------------------------------------------------------------
-             */
 
-            if (codepoint < SEC_CHARS_LEN) {
-                // We will try to use a SEC
 
-                final char sec = SEC_CHARS[codepoint];
 
-                if (sec != SEC_CHARS_NO_SEC) {
-                    // SEC found! just write it and go for the next char
-                    writer.write(ESCAPE_PREFIX);
-                    writer.write(sec);
-                    continue;
-                }
+    /*
+     * Perform an escape operation, based on a Reader, according to the specified level and writing the result
+     * to a Writer.
+     *
+     * The reader is read in chunks, each of which is escaped by means of the char[]-based method. A high surrogate
+     * found at the end of a chunk is kept for the next one, so that surrogate pairs are never split.
+     */
+    static void escape(
+            final Reader reader, final Writer writer, final PropertiesValueEscapeLevel escapeLevel)
+            throws IOException {
+
+        if (reader == null) {
+            return;
+        }
+
+        final char[] buffer = new char[READER_BUFFER_SIZE];
 
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
+
+        int bufferSize = read;
+
+        while (bufferSize > 0 || read >= 0) {
+
+            int n = bufferSize;
+            if (read >= 0 && Character.isHighSurrogate(buffer[n - 1])) {
+                n--;
             }
 
-            /*
-             * No SEC-escape was possible, so we need uhexa escape.
-             */
+            if (n > 0) {
+
+                escape(buffer, 0, n, writer, escapeLevel);
+
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
 
-            if (Character.charCount(codepoint) > 1) {
-                final char[] codepointChars = Character.toChars(codepoint);
-                writer.write(ESCAPE_UHEXA_PREFIX);
-                writer.write(toUHexa(codepointChars[0]));
-                writer.write(ESCAPE_UHEXA_PREFIX);
-                writer.write(toUHexa(codepointChars[1]));
-                continue;
             }
 
-            writer.write(ESCAPE_UHEXA_PREFIX);
-            writer.write(toUHexa(codepoint));
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
 
         }
 
@@ -474,7 +565,7 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
         for (int i = offset; i < max; i++) {
 
-            final int codepoint = Character.codePointAt(text, i);
+            final int codepoint = Character.codePointAt(text, i, max);
 
 
             /*
@@ -572,19 +663,5 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
 
 
-
-    private static int codePointAt(final char c1, final char c2) {
-        if (Character.isHighSurrogate(c1)) {
-            if (c2 >= 0) {
-                if (Character.isLowSurrogate(c2)) {
-                    return Character.toCodePoint(c1, c2);
-                }
-            }
-        }
-        return c1;
-    }
-
-
-
 }
 
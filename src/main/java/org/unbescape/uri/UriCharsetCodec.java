@@ -0,0 +1,415 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape.uri;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+
+/*
+ * Conversion between codepoints and the bytes of percent-encoded sequences, according to a specific encoding.
+ *
+ * An instance of this class is created for each escape or unescape operation, as it keeps scratch buffers (and,
+ * for encodings other than UTF-8, a CharsetEncoder/CharsetDecoder) that are reused for every percent-encoded
+ * sequence in the operation, but cannot be shared among threads. The encoding is only resolved the first time
+ * it is actually needed, so that no lookup is performed at all (and no exception is thrown for a bad encoding)
+ * when the text needs no escape or unescape.
+ *
+ * UTF-8 is converted directly, without any CharsetEncoder/CharsetDecoder. Results are always the same as those
+ * of String.getBytes(encoding) for each single codepoint, and of new String(bytes, encoding) for each sequence
+ * of percent-encoded bytes (malformed or unmappable input is replaced).
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+final class UriCharsetCodec {
+
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    // Bytes written by String.getBytes("UTF-8") for an unpaired surrogate: '?'
+    private static final byte UTF8_MALFORMED_REPLACEMENT = (byte) '?';
+
+
+    private final String encoding;
+
+    private Charset charset = null;
+    private boolean utf8 = false;
+    private boolean singleByte = false;
+    private CharsetEncoder encoder = null;
+    private CharsetDecoder decoder = null;
+    private CharBuffer encoderIn = null;
+    private ByteBuffer encoderOut = null;
+
+    /*
+     * Scratch buffers: bytes obtained from a codepoint or from a sequence of percent-encoded bytes, and chars
+     * obtained from decoding these bytes (or being encoded).
+     */
+    private byte[] bytes = new byte[8];
+    private char[] chars = new char[8];
+
+
+
+
+    UriCharsetCodec(final String encoding) {
+        super();
+        this.encoding = encoding;
+    }
+
+
+
+
+    private void resolveCharset() {
+
+        if (this.charset != null) {
+            return;
+        }
+
+        try {
+            this.charset = Charset.forName(this.encoding);
+        } catch (final IllegalCharsetNameException e) {
+            throw badEncoding(e);
+        } catch (final UnsupportedCharsetException e) {
+            throw badEncoding(e);
+        }
+
+        this.utf8 = UTF_8.equals(this.charset);
+        this.singleByte = !this.utf8 && isSingleByte(this.charset);
+
+    }
+
+
+    /*
+     * Stateless single-byte encodings decode every byte into exactly one char, independently of any other bytes
+     */
+    private static boolean isSingleByte(final Charset charset) {
+        return charset.canEncode()
+                && charset.newEncoder().maxBytesPerChar() == 1.0f
+                && charset.newDecoder().maxCharsPerByte() == 1.0f;
+    }
+
+
+
+
+    /*
+     * Same exception (and cause) as previously obtained from String.getBytes(encoding) and new String(..., encoding)
+     */
+    private IllegalArgumentException badEncoding(final IllegalArgumentException e) {
+        final UnsupportedEncodingException cause = new UnsupportedEncodingException(this.encoding);
+        cause.initCause(e);
+        return new IllegalArgumentException(
+                "Exception while escaping URI: Bad encoding '" + this.encoding + "'", cause);
+    }
+
+
+
+
+    /*
+     * Scratch byte[] to be filled by the caller with a sequence of percent-encoded bytes to be decoded, grown (and
+     * keeping its contents) so that it has at least the specified length.
+     */
+    byte[] bytes(final int minLength) {
+        if (this.bytes.length < minLength) {
+            final byte[] newBytes = new byte[Math.max(minLength, this.bytes.length * 2)];
+            System.arraycopy(this.bytes, 0, newBytes, 0, this.bytes.length);
+            this.bytes = newBytes;
+        }
+        return this.bytes;
+    }
+
+
+    /*
+     * Scratch char[] containing the chars obtained by the last decode(...) call.
+     */
+    char[] chars() {
+        return this.chars;
+    }
+
+
+
+
+    /*
+     * Encode a codepoint into the bytes that will be percent-encoded, returning the number of bytes obtained,
+     * which will be available at the array returned by bytes(0).
+     */
+    int encode(final int codepoint) {
+
+        resolveCharset();
+
+        if (this.utf8) {
+            return encodeUtf8(codepoint);
+        }
+
+        if (this.encoder == null) {
+            // Same configuration as the one used by String.getBytes(...)
+            this.encoder =
+                    this.charset.newEncoder()
+                            .onMalformedInput(CodingErrorAction.REPLACE)
+                            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        if (this.encoderIn == null) {
+            // A codepoint never needs more than two chars, so this buffer will never need to grow
+            this.encoderIn = CharBuffer.wrap(new char[2]);
+        }
+        if (this.encoderOut == null || this.encoderOut.array() != this.bytes) {
+            this.encoderOut = ByteBuffer.wrap(this.bytes);
+        }
+
+        final CharBuffer in = this.encoderIn;
+        in.clear();
+        in.limit(Character.toChars(codepoint, in.array(), 0));
+
+        while (true) {
+
+            // Each encode operation starts from scratch (e.g. UTF-16 will output a BOM every time, as getBytes does)
+            this.encoder.reset();
+
+            final ByteBuffer out = this.encoderOut;
+            out.clear();
+            CoderResult result = this.encoder.encode(in, out, true);
+            if (!result.isOverflow()) {
+                result = this.encoder.flush(out);
+            }
+            if (!result.isOverflow()) {
+                return out.position();
+            }
+
+            in.rewind();
+            this.bytes = new byte[this.bytes.length * 2];
+            this.encoderOut = ByteBuffer.wrap(this.bytes);
+
+        }
+
+    }
+
+
+    private int encodeUtf8(final int codepoint) {
+
+        final byte[] b = this.bytes;
+
+        if (codepoint < 0x80) {
+            b[0] = (byte) codepoint;
+            return 1;
+        }
+        if (codepoint < 0x800) {
+            b[0] = (byte) (0xC0 | (codepoint >> 6));
+            b[1] = (byte) (0x80 | (codepoint & 0x3F));
+            return 2;
+        }
+        if (codepoint >= Character.MIN_SURROGATE && codepoint <= Character.MAX_SURROGATE) {
+            // Unpaired surrogate: malformed input
+            b[0] = UTF8_MALFORMED_REPLACEMENT;
+            return 1;
+        }
+        if (codepoint < 0x10000) {
+            b[0] = (byte) (0xE0 | (codepoint >> 12));
+            b[1] = (byte) (0x80 | ((codepoint >> 6) & 0x3F));
+            b[2] = (byte) (0x80 | (codepoint & 0x3F));
+            return 3;
+        }
+        b[0] = (byte) (0xF0 | (codepoint >> 18));
+        b[1] = (byte) (0x80 | ((codepoint >> 12) & 0x3F));
+        b[2] = (byte) (0x80 | ((codepoint >> 6) & 0x3F));
+        b[3] = (byte) (0x80 | (codepoint & 0x3F));
+        return 4;
+
+    }
+
+
+
+
+    /*
+     * Decode the specified number of bytes (previously set into the array returned by bytes(...)), returning the
+     * number of chars obtained, which will be available at the array returned by chars().
+     */
+    int decode(final int len) {
+
+        resolveCharset();
+
+        if (this.utf8) {
+            final int charLen = decodeUtf8(len);
+            if (charLen >= 0) {
+                return charLen;
+            }
+            // Malformed input: let the decoder replace it exactly as new String(...) would do
+        }
+
+        if (this.decoder == null) {
+            // Same configuration as the one used by new String(...)
+            this.decoder =
+                    this.charset.newDecoder()
+                            .onMalformedInput(CodingErrorAction.REPLACE)
+                            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        this.decoder.reset();
+
+        final ByteBuffer in = ByteBuffer.wrap(this.bytes, 0, len);
+        if (this.chars.length < len) {
+            this.chars = new char[len];
+        }
+        while (true) {
+            final CharBuffer out = CharBuffer.wrap(this.chars);
+            CoderResult result = this.decoder.decode(in, out, true);
+            if (!result.isOverflow()) {
+                result = this.decoder.flush(out);
+            }
+            if (!result.isOverflow()) {
+                return out.position();
+            }
+            in.rewind();
+            this.decoder.reset();
+            this.chars = new char[this.chars.length * 2];
+        }
+
+    }
+
+
+    /*
+     * Compute the length of the longest prefix of the specified number of bytes (previously set into the array
+     * returned by bytes(...)) that can be decoded separately from the rest of them and from any other bytes that
+     * might follow, with the same result as if they were all decoded at once. Returns 0 if no such prefix is known.
+     *
+     * In UTF-8, bytes can be split before any byte that is not a continuation byte, and also after three
+     * continuation bytes (no well-formed sequence nor maximal ill-formed subpart, which is replaced as a whole,
+     * contains more than three), so a prefix is always found among four or more bytes. In single-byte encodings
+     * bytes can be split anywhere. For any other encodings no split point is known, and 0 is always returned.
+     */
+    int computeSafeDecodeLength(final int len) {
+
+        resolveCharset();
+
+        if (this.singleByte) {
+            return len;
+        }
+
+        if (!this.utf8) {
+            return 0;
+        }
+
+        final byte[] b = this.bytes;
+        for (int i = len; i > 0; i--) {
+            if (i < len && !isUtf8Continuation(b[i])) {
+                return i;
+            }
+            if (i >= 3
+                    && isUtf8Continuation(b[i - 1]) && isUtf8Continuation(b[i - 2]) && isUtf8Continuation(b[i - 3])) {
+                return i;
+            }
+        }
+        return 0;
+
+    }
+
+
+    private static boolean isUtf8Continuation(final byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+
+
+
+    /*
+     * Decode UTF-8 bytes, returning -1 if they are not well-formed UTF-8 (according to the table of well-formed
+     * UTF-8 byte sequences in the Unicode Standard, chapter 3.9), in which case nothing should be considered
+     * decoded. Every byte results in at most one char.
+     */
+    private int decodeUtf8(final int len) {
+
+        final byte[] b = this.bytes;
+        if (this.chars.length < len) {
+            this.chars = new char[len];
+        }
+        final char[] c = this.chars;
+
+        int charLen = 0;
+        int i = 0;
+        while (i < len) {
+
+            final int b0 = (b[i] & 0xFF);
+
+            if (b0 < 0x80) {
+                c[charLen++] = (char) b0;
+                i++;
+                continue;
+            }
+
+            final int sequenceLen;
+            int min = 0x80;
+            int top = 0xBF;
+            int codepoint;
+            if (b0 >= 0xC2 && b0 <= 0xDF) {
+                sequenceLen = 2;
+                codepoint = (b0 & 0x1F);
+            } else if (b0 >= 0xE0 && b0 <= 0xEF) {
+                sequenceLen = 3;
+                codepoint = (b0 & 0x0F);
+                if (b0 == 0xE0) {
+                    min = 0xA0;     // Avoid overlong forms
+                } else if (b0 == 0xED) {
+                    top = 0x9F;     // Avoid encoded surrogates
+                }
+            } else if (b0 >= 0xF0 && b0 <= 0xF4) {
+                sequenceLen = 4;
+                codepoint = (b0 & 0x07);
+                if (b0 == 0xF0) {
+                    min = 0x90;     // Avoid overlong forms
+                } else if (b0 == 0xF4) {
+                    top = 0x8F;     // Avoid codepoints > U+10FFFF
+                }
+            } else {
+                return -1;
+            }
+
+            if (i + sequenceLen > len) {
+                return -1;
+            }
+
+            for (int j = 1; j < sequenceLen; j++) {
+                final int bj = (b[i + j] & 0xFF);
+                if (bj < min || bj > top) {
+                    return -1;
+                }
+                codepoint = (codepoint << 6) | (bj & 0x3F);
+                min = 0x80;
+                top = 0xBF;
+            }
+
+            charLen += Character.toChars(codepoint, c, charLen);
+            i += sequenceLen;
+
+        }
+
+        return charLen;
+
+    }
+
+
+}
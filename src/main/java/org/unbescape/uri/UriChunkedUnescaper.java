@@ -0,0 +1,63 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.uri;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.unbescape.ChunkedUnescaper;
+
+/*
+ * Implementation of ChunkedUnescaper for URI unescape operations, for a specific URI part (which determines
+ * whether '+' unescapes whitespace) and encoding.
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+final class UriChunkedUnescaper extends ChunkedUnescaper {
+
+
+    private final UriEscapeUtil.UriEscapeType escapeType;
+    private final UriCharsetCodec codec;
+
+
+    UriChunkedUnescaper(final Writer writer, final UriEscapeUtil.UriEscapeType escapeType, final String encoding) {
+        super(writer);
+        this.escapeType = escapeType;
+        this.codec = new UriCharsetCodec(encoding);
+    }
+
+
+    @Override
+    protected int computeSafeUnescapeLength(final char[] text, final int offset, final int len) {
+        return UriEscapeUtil.computeSafeUnescapeLength(text, offset, len, this.codec);
+    }
+
+
+    @Override
+    protected void unescape(final char[] text, final int offset, final int len, final Writer writer)
+                            throws IOException {
+        UriEscapeUtil.unescape(text, offset, len, writer, this.escapeType, this.codec);
+    }
+
+
+}
@@ -20,8 +20,14 @@
 package org.unbescape.uri;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Map;
+
+import org.unbescape.ChunkedUnescaper;
 
 /**
  * <p>
@@ -48,12 +54,18 @@
  *   </li>
  *   <li>Support for both <em>percent-encoding</em> and <kbd>+</kbd> based unescaping of whitespace in query
  *       parameters.</li>
+ *   <li>Parsing of query strings ({@link UriQueryString}), giving access to the names and values of their
+ *       parameters without copying them, and unescaping only those that actually need it. Also building of query
+ *       strings ({@link UriQueryStringBuilder}), escaping names and values directly into a single
+ *       <kbd>StringBuilder</kbd>.</li>
+ *   <li>Escaping of whole URIs in a single pass, escaping each of their components (path, query parameters and
+ *       fragment identifier) according to its own rules into a single output (see {@link #escapeUri(String)}).</li>
  * </ul>
  *
  * <strong><u>Input/Output</u></strong>
  *
  * <p>
- *   There are four different input/output modes that can be used in escape/unescape operations:
+ *   There are five different input/output modes that can be used in escape/unescape operations:
  * </p>
  * <ul>
  *   <li><em><kbd>String</kbd> input, <kbd>String</kbd> output</em>: Input is specified as a <kbd>String</kbd> object
@@ -62,6 +74,9 @@
  *       are required</u>.</li>
  *   <li><em><kbd>String</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a String
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
+ *   <li><em><kbd>String</kbd> input, <kbd>StringBuilder</kbd> output</em>: Input will be read from a String
+ *       and output will be appended to the specified <kbd>StringBuilder</kbd>. This avoids creating intermediate
+ *       <kbd>String</kbd> objects when output is already being composed into a <kbd>StringBuilder</kbd>.</li>
  *   <li><em><kbd>java.io.Reader</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a Reader
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
  *   <li><em><kbd>char[]</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a char array
@@ -71,6 +86,18 @@
  *       should be called with <kbd>offset = 0</kbd> and <kbd>len = text.length</kbd> in order to process
  *       the whole <kbd>char[]</kbd>.</li>
  * </ul>
+ * <p>
+ *   All <kbd>String</kbd>-input modes are also available for any other <kbd>java.lang.CharSequence</kbd>
+ *   implementation (e.g. <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd>), which will be processed
+ *   directly, without needing to create a <kbd>String</kbd> out of them first.
+ * </p>
+ * <p>
+ *   Escape and unescape operations are also available for <kbd>byte[]</kbd> and <kbd>java.nio.ByteBuffer</kbd>
+ *   input, writing output to a <kbd>java.io.OutputStream</kbd> or putting it into another
+ *   <kbd>java.nio.ByteBuffer</kbd>. These percent-encode and decode bytes directly, without ever converting them into
+ *   chars, so they need no encoding (e.g. <kbd>application/x-www-form-urlencoded</kbd> request bodies can be unescaped
+ *   into bytes without decoding them as text first).
+ * </p>
  *
  * <strong><u>Glossary</u></strong>
  *
@@ -765,8 +792,8 @@ public static void escapeUriFragmentId(final String text, final Writer writer, f
     /**
      * <p>
      *   Perform am URI path <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI path (will not be escaped):
@@ -787,23 +814,21 @@ public static void escapeUriFragmentId(final String text, final Writer writer, f
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeUriPath(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeUriPath(reader, writer, DEFAULT_ENCODING);
+    public static void escapeUriPath(final String text, final StringBuilder strBuilder) {
+        escapeUriPath(text, strBuilder, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
      *   Perform am URI path <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI path (will not be escaped):
@@ -824,36 +849,33 @@ public static void escapeUriPath(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param encoding the encoding to be used for escaping.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeUriPath(final Reader reader, final Writer writer, final String encoding)
-            throws IOException {
+    public static void escapeUriPath(final String text, final StringBuilder strBuilder, final String encoding) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.escape(reader, writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+        UriEscapeUtil.escape(text, strBuilder, UriEscapeUtil.UriEscapeType.PATH, encoding);
 
     }
 
 
-
     /**
      * <p>
      *   Perform am URI path segment <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI path segment (will not be escaped):
@@ -873,23 +895,21 @@ public static void escapeUriPath(final Reader reader, final Writer writer, final
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeUriPathSegment(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeUriPathSegment(reader, writer, DEFAULT_ENCODING);
+    public static void escapeUriPathSegment(final String text, final StringBuilder strBuilder) {
+        escapeUriPathSegment(text, strBuilder, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
      *   Perform am URI path segment <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI path segment (will not be escaped):
@@ -909,36 +929,33 @@ public static void escapeUriPathSegment(final Reader reader, final Writer writer
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param encoding the encoding to be used for escaping.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeUriPathSegment(final Reader reader, final Writer writer, final String encoding)
-            throws IOException {
+    public static void escapeUriPathSegment(final String text, final StringBuilder strBuilder, final String encoding) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.escape(reader, writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+        UriEscapeUtil.escape(text, strBuilder, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
 
     }
 
 
-
     /**
      * <p>
      *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI query parameter (will not be escaped):
@@ -959,23 +976,21 @@ public static void escapeUriPathSegment(final Reader reader, final Writer writer
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeUriQueryParam(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeUriQueryParam(reader, writer, DEFAULT_ENCODING);
+    public static void escapeUriQueryParam(final String text, final StringBuilder strBuilder) {
+        escapeUriQueryParam(text, strBuilder, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
      *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI query parameter (will not be escaped):
@@ -996,36 +1011,33 @@ public static void escapeUriQueryParam(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param encoding the encoding to be used for escaping.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeUriQueryParam(final Reader reader, final Writer writer, final String encoding)
-            throws IOException {
+    public static void escapeUriQueryParam(final String text, final StringBuilder strBuilder, final String encoding) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.escape(reader, writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+        UriEscapeUtil.escape(text, strBuilder, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
 
     }
 
 
-
     /**
      * <p>
      *   Perform am URI fragment identifier <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
@@ -1046,23 +1058,21 @@ public static void escapeUriQueryParam(final Reader reader, final Writer writer,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeUriFragmentId(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeUriFragmentId(reader, writer, DEFAULT_ENCODING);
+    public static void escapeUriFragmentId(final String text, final StringBuilder strBuilder) {
+        escapeUriFragmentId(text, strBuilder, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
      *   Perform am URI fragment identifier <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
@@ -1083,26 +1093,24 @@ public static void escapeUriFragmentId(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param encoding the encoding to be used for escaping.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeUriFragmentId(final Reader reader, final Writer writer, final String encoding)
-            throws IOException {
+    public static void escapeUriFragmentId(final String text, final StringBuilder strBuilder, final String encoding) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.escape(reader, writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+        UriEscapeUtil.escape(text, strBuilder, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
 
     }
 
@@ -1115,7 +1123,7 @@ public static void escapeUriFragmentId(final Reader reader, final Writer writer,
     /**
      * <p>
      *   Perform am URI path <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI path (will not be escaped):
@@ -1136,23 +1144,22 @@ public static void escapeUriFragmentId(final Reader reader, final Writer writer,
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeUriPath(final char[] text, final int offset, final int len, final Writer writer)
-                                       throws IOException {
-        escapeUriPath(text, offset, len, writer, DEFAULT_ENCODING);
+    public static String escapeUriPath(final CharSequence text) {
+        return escapeUriPath(text, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
      *   Perform am URI path <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI path (will not be escaped):
@@ -1173,47 +1180,26 @@ public static void escapeUriPath(final char[] text, final int offset, final int
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for escaping.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param encoding the encoding to be used for unescaping.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeUriPath(final char[] text, final int offset, final int len, final Writer writer,
-                                       final String encoding)
-                                       throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
-
+    public static String escapeUriPath(final CharSequence text, final String encoding) {
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
-
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        UriEscapeUtil.escape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+        return UriEscapeUtil.escape(text, UriEscapeUtil.UriEscapeType.PATH, encoding);
     }
 
 
-
     /**
      * <p>
      *   Perform am URI path segment <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI path segment (will not be escaped):
@@ -1233,23 +1219,22 @@ public static void escapeUriPath(final char[] text, final int offset, final int
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeUriPathSegment(final char[] text, final int offset, final int len, final Writer writer)
-                                              throws IOException {
-        escapeUriPathSegment(text, offset, len, writer, DEFAULT_ENCODING);
+    public static String escapeUriPathSegment(final CharSequence text) {
+        return escapeUriPathSegment(text, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
      *   Perform am URI path segment <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI path segment (will not be escaped):
@@ -1269,45 +1254,26 @@ public static void escapeUriPathSegment(final char[] text, final int offset, fin
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param encoding the encoding to be used for escaping.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeUriPathSegment(final char[] text, final int offset, final int len, final Writer writer,
-                                              final String encoding)
-                                              throws IOException {
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
-
+    public static String escapeUriPathSegment(final CharSequence text, final String encoding) {
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
-
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-        UriEscapeUtil.escape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+        return UriEscapeUtil.escape(text, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
     }
 
 
-
     /**
      * <p>
      *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI query parameter (will not be escaped):
@@ -1328,23 +1294,22 @@ public static void escapeUriPathSegment(final char[] text, final int offset, fin
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeUriQueryParam(final char[] text, final int offset, final int len, final Writer writer)
-                                             throws IOException {
-        escapeUriQueryParam(text, offset, len, writer, DEFAULT_ENCODING);
+    public static String escapeUriQueryParam(final CharSequence text) {
+        return escapeUriQueryParam(text, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
      *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI query parameter (will not be escaped):
@@ -1365,45 +1330,26 @@ public static void escapeUriQueryParam(final char[] text, final int offset, fina
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param encoding the encoding to be used for escaping.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeUriQueryParam(final char[] text, final int offset, final int len, final Writer writer,
-                                             final String encoding)
-                                             throws IOException {
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
-
+    public static String escapeUriQueryParam(final CharSequence text, final String encoding) {
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
-
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-        UriEscapeUtil.escape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+        return UriEscapeUtil.escape(text, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
     }
 
 
-
     /**
      * <p>
      *   Perform am URI fragment identifier <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
@@ -1424,23 +1370,22 @@ public static void escapeUriQueryParam(final char[] text, final int offset, fina
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeUriFragmentId(final char[] text, final int offset, final int len, final Writer writer)
-                                             throws IOException {
-        escapeUriFragmentId(text, offset, len, writer, DEFAULT_ENCODING);
+    public static String escapeUriFragmentId(final CharSequence text) {
+        return escapeUriFragmentId(text, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
      *   Perform am URI fragment identifier <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
@@ -1461,23 +1406,5236 @@ public static void escapeUriFragmentId(final char[] text, final int offset, fina
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param encoding the encoding to be used for escaping.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeUriFragmentId(final char[] text, final int offset, final int len, final Writer writer,
-                                             final String encoding)
+    public static String escapeUriFragmentId(final CharSequence text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.escape(text, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPath(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeUriPath(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPath(final CharSequence text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPathSegment(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeUriPathSegment(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPathSegment(final CharSequence text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriQueryParam(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeUriQueryParam(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriQueryParam(final CharSequence text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriFragmentId(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeUriFragmentId(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriFragmentId(final CharSequence text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPath(final CharSequence text, final StringBuilder strBuilder) {
+        escapeUriPath(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPath(final CharSequence text, final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(text, strBuilder, UriEscapeUtil.UriEscapeType.PATH, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPathSegment(final CharSequence text, final StringBuilder strBuilder) {
+        escapeUriPathSegment(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPathSegment(final CharSequence text,
+                                            final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(text, strBuilder, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriQueryParam(final CharSequence text, final StringBuilder strBuilder) {
+        escapeUriQueryParam(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriQueryParam(final CharSequence text,
+                                           final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(text, strBuilder, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriFragmentId(final CharSequence text, final StringBuilder strBuilder) {
+        escapeUriFragmentId(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriFragmentId(final CharSequence text,
+                                           final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(text, strBuilder, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeUriPath(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeUriPath(reader, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeUriPath(final Reader reader, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(reader, writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeUriPathSegment(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeUriPathSegment(reader, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeUriPathSegment(final Reader reader, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(reader, writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeUriQueryParam(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeUriQueryParam(reader, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeUriQueryParam(final Reader reader, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(reader, writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeUriFragmentId(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeUriFragmentId(reader, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeUriFragmentId(final Reader reader, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escape(reader, writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeUriPath(final char[] text, final int offset, final int len, final Writer writer)
+                                       throws IOException {
+        escapeUriPath(text, offset, len, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeUriPath(final char[] text, final int offset, final int len, final Writer writer,
+                                       final String encoding)
+                                       throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        UriEscapeUtil.escape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeUriPathSegment(final char[] text, final int offset, final int len, final Writer writer)
+                                              throws IOException {
+        escapeUriPathSegment(text, offset, len, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeUriPathSegment(final char[] text, final int offset, final int len, final Writer writer,
+                                              final String encoding)
+                                              throws IOException {
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+        UriEscapeUtil.escape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeUriQueryParam(final char[] text, final int offset, final int len, final Writer writer)
+                                             throws IOException {
+        escapeUriQueryParam(text, offset, len, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeUriQueryParam(final char[] text, final int offset, final int len, final Writer writer,
+                                             final String encoding)
+                                             throws IOException {
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+        UriEscapeUtil.escape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the <kbd>UTF-8</kbd> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeUriFragmentId(final char[] text, final int offset, final int len, final Writer writer)
+                                             throws IOException {
+        escapeUriFragmentId(text, offset, len, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in an URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other chars will be escaped by converting them to the sequence of bytes that
+     *   represents them in the specified <em>encoding</em> and then representing each byte
+     *   in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeUriFragmentId(final char[] text, final int offset, final int len, final Writer writer,
+                                             final String encoding)
                                              throws IOException {
         if (writer == null) {
             throw new IllegalArgumentException("Argument 'writer' cannot be null");
         }
 
-        if (encoding == null) {
-            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+        UriEscapeUtil.escape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform a URI path <strong>escape</strong> operation on a <kbd>byte[]</kbd> input, writing results to an
+     *   <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriPath(char[], int, int,
+     *   java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be escaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPath(final byte[] text, final int offset, final int len,
+                                     final OutputStream outputStream)
+                                     throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        UriEscapeUtil.escape(text, offset, len, outputStream, UriEscapeUtil.UriEscapeType.PATH);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI path <strong>escape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd> input, writing results
+     *   to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriPath(char[], int, int,
+     *   java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be escaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPath(final ByteBuffer text, final OutputStream outputStream)
+                                     throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        UriEscapeUtil.escape(text, outputStream, UriEscapeUtil.UriEscapeType.PATH);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI path <strong>escape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd> input, putting results
+     *   into another <kbd>java.nio.ByteBuffer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI path (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriPath(char[], int, int,
+     *   java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the positions of both buffers will be undefined.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be escaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the escaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the escaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPath(final ByteBuffer text, final ByteBuffer output) {
+
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
+        }
+
+        try {
+            UriEscapeUtil.escape(
+                    text, new InternalByteBufferOutputStream(output), UriEscapeUtil.UriEscapeType.PATH);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while escaping URI into a ByteBuffer", e);
+        }
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI path segment <strong>escape</strong> operation on a <kbd>byte[]</kbd> input, writing results to
+     *   an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriPathSegment(char[], int,
+     *   int, java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be escaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPathSegment(final byte[] text, final int offset, final int len,
+                                            final OutputStream outputStream)
+                                            throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        UriEscapeUtil.escape(text, offset, len, outputStream, UriEscapeUtil.UriEscapeType.PATH_SEGMENT);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI path segment <strong>escape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd> input, writing
+     *   results to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriPathSegment(char[], int,
+     *   int, java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be escaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPathSegment(final ByteBuffer text, final OutputStream outputStream)
+                                            throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        UriEscapeUtil.escape(text, outputStream, UriEscapeUtil.UriEscapeType.PATH_SEGMENT);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI path segment <strong>escape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd> input, putting
+     *   results into another <kbd>java.nio.ByteBuffer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI path segment (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriPathSegment(char[], int,
+     *   int, java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the positions of both buffers will be undefined.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be escaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the escaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the escaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriPathSegment(final ByteBuffer text, final ByteBuffer output) {
+
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
+        }
+
+        try {
+            UriEscapeUtil.escape(
+                    text, new InternalByteBufferOutputStream(output), UriEscapeUtil.UriEscapeType.PATH_SEGMENT);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while escaping URI into a ByteBuffer", e);
+        }
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI query parameter (name or value) <strong>escape</strong> operation on a <kbd>byte[]</kbd> input,
+     *   writing results to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriQueryParam(char[], int,
+     *   int, java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be escaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriQueryParam(final byte[] text, final int offset, final int len,
+                                           final OutputStream outputStream)
+                                           throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        UriEscapeUtil.escape(text, offset, len, outputStream, UriEscapeUtil.UriEscapeType.QUERY_PARAM);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI query parameter (name or value) <strong>escape</strong> operation on a
+     *   <kbd>java.nio.ByteBuffer</kbd> input, writing results to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriQueryParam(char[], int,
+     *   int, java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be escaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriQueryParam(final ByteBuffer text, final OutputStream outputStream)
+                                           throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        UriEscapeUtil.escape(text, outputStream, UriEscapeUtil.UriEscapeType.QUERY_PARAM);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI query parameter (name or value) <strong>escape</strong> operation on a
+     *   <kbd>java.nio.ByteBuffer</kbd> input, putting results into another <kbd>java.nio.ByteBuffer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI query parameter (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ ' ( ) * , ;</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriQueryParam(char[], int,
+     *   int, java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the positions of both buffers will be undefined.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be escaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the escaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the escaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriQueryParam(final ByteBuffer text, final ByteBuffer output) {
+
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
+        }
+
+        try {
+            UriEscapeUtil.escape(
+                    text, new InternalByteBufferOutputStream(output), UriEscapeUtil.UriEscapeType.QUERY_PARAM);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while escaping URI into a ByteBuffer", e);
+        }
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI fragment identifier <strong>escape</strong> operation on a <kbd>byte[]</kbd> input, writing
+     *   results to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriFragmentId(char[], int,
+     *   int, java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be escaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriFragmentId(final byte[] text, final int offset, final int len,
+                                           final OutputStream outputStream)
+                                           throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        UriEscapeUtil.escape(text, offset, len, outputStream, UriEscapeUtil.UriEscapeType.FRAGMENT_ID);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI fragment identifier <strong>escape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd> input,
+     *   writing results to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriFragmentId(char[], int,
+     *   int, java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be escaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriFragmentId(final ByteBuffer text, final OutputStream outputStream)
+                                           throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        UriEscapeUtil.escape(text, outputStream, UriEscapeUtil.UriEscapeType.FRAGMENT_ID);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI fragment identifier <strong>escape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd> input,
+     *   putting results into another <kbd>java.nio.ByteBuffer</kbd>.
+     * </p>
+     * <p>
+     *   The following are the only allowed chars in a URI fragment identifier (will not be escaped):
+     * </p>
+     * <ul>
+     *   <li><kbd>A-Z a-z 0-9</kbd></li>
+     *   <li><kbd>- . _ ~</kbd></li>
+     *   <li><kbd>! $ &amp; ' ( ) * + , ; =</kbd></li>
+     *   <li><kbd>: @</kbd></li>
+     *   <li><kbd>/ ?</kbd></li>
+     * </ul>
+     * <p>
+     *   All other bytes (including all bytes above <kbd>0x7F</kbd>, which never represent ASCII chars) will be escaped
+     *   by representing them in <kbd>%HH</kbd> syntax, being <kbd>HH</kbd> the hexadecimal representation of the byte.
+     * </p>
+     * <p>
+     *   Bytes are escaped as they are, so no encoding needs to be specified. For <kbd>UTF-8</kbd> encoded input, the
+     *   result is the same as that of escaping the decoded text by means of {@link #escapeUriFragmentId(char[], int,
+     *   int, java.io.Writer, String)} with <kbd>UTF-8</kbd> encoding.
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the positions of both buffers will be undefined.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be escaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the escaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the escaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriFragmentId(final ByteBuffer text, final ByteBuffer output) {
+
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
+        }
+
+        try {
+            UriEscapeUtil.escape(
+                    text, new InternalByteBufferOutputStream(output), UriEscapeUtil.UriEscapeType.FRAGMENT_ID);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while escaping URI into a ByteBuffer", e);
+        }
+
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a URI path
+     *   <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeUriPath(CharSequence)} would do, but no objects are created at
+     *   all during the process. As only the chars not allowed in the URI part are escaped, the result does not depend
+     *   on the encoding used.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableUriPath(final CharSequence text) {
+        return UriEscapeUtil.indexOfFirstEscapable(text, UriEscapeUtil.UriEscapeType.PATH);
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a URI path <strong>escape</strong> operation would modify a <kbd>CharSequence</kbd> input,
+     *   without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapeUriPath(CharSequence)} returns a different text, but
+     *   no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeUriPath(final CharSequence text) {
+        return (indexOfFirstEscapableUriPath(text) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a URI path segment
+     *   <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeUriPathSegment(CharSequence)} would do, but no objects are
+     *   created at all during the process. As only the chars not allowed in the URI part are escaped, the result does
+     *   not depend on the encoding used.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableUriPathSegment(final CharSequence text) {
+        return UriEscapeUtil.indexOfFirstEscapable(text, UriEscapeUtil.UriEscapeType.PATH_SEGMENT);
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a URI path segment <strong>escape</strong> operation would modify a <kbd>CharSequence</kbd>
+     *   input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapeUriPathSegment(CharSequence)} returns a different
+     *   text, but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeUriPathSegment(final CharSequence text) {
+        return (indexOfFirstEscapableUriPathSegment(text) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a URI query parameter
+     *   (name or value) <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeUriQueryParam(CharSequence)} would do, but no objects are created
+     *   at all during the process. As only the chars not allowed in the URI part are escaped, the result does not
+     *   depend on the encoding used.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableUriQueryParam(final CharSequence text) {
+        return UriEscapeUtil.indexOfFirstEscapable(text, UriEscapeUtil.UriEscapeType.QUERY_PARAM);
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a URI query parameter (name or value) <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapeUriQueryParam(CharSequence)} returns a different text,
+     *   but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeUriQueryParam(final CharSequence text) {
+        return (indexOfFirstEscapableUriQueryParam(text) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a URI fragment identifier
+     *   <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeUriFragmentId(CharSequence)} would do, but no objects are created
+     *   at all during the process. As only the chars not allowed in the URI part are escaped, the result does not
+     *   depend on the encoding used.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return the position of the first char that would be escaped, or <kbd>-1</kbd> if the escape operation
+     *         would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableUriFragmentId(final CharSequence text) {
+        return UriEscapeUtil.indexOfFirstEscapable(text, UriEscapeUtil.UriEscapeType.FRAGMENT_ID);
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a URI fragment identifier <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #escapeUriFragmentId(CharSequence)} returns a different text,
+     *   but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeUriFragmentId(final CharSequence text) {
+        return (indexOfFirstEscapableUriFragmentId(text) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a URI path <strong>escape</strong> operation on a
+     *   <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, without performing the escape operation
+     *   itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by {@link #escapeUriPath(CharSequence)}. This
+     *   allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once
+     *   before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthUriPath(final CharSequence text) {
+        return escapedLengthUriPath(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a URI path <strong>escape</strong> operation on a
+     *   <kbd>CharSequence</kbd> input using the specified <em>encoding</em>, without performing the escape
+     *   operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeUriPath(CharSequence, String)}. As each escaped char is replaced by as many
+     *   <kbd>%HH</kbd> sequences as bytes it is encoded into, non-ASCII chars needing escape are encoded
+     *   during the process (without creating any objects for each of them). This allows sizing a
+     *   <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once before escaping
+     *   into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param encoding the encoding to be used for escaping.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthUriPath(final CharSequence text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.escapedLength(text, UriEscapeUtil.UriEscapeType.PATH, encoding);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a URI path segment <strong>escape</strong> operation on a
+     *   <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, without performing the escape operation
+     *   itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by {@link #escapeUriPathSegment(CharSequence)}. This
+     *   allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once
+     *   before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthUriPathSegment(final CharSequence text) {
+        return escapedLengthUriPathSegment(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a URI path segment <strong>escape</strong> operation on a
+     *   <kbd>CharSequence</kbd> input using the specified <em>encoding</em>, without performing the escape
+     *   operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeUriPathSegment(CharSequence, String)}. As each escaped char is replaced by as many
+     *   <kbd>%HH</kbd> sequences as bytes it is encoded into, non-ASCII chars needing escape are encoded
+     *   during the process (without creating any objects for each of them). This allows sizing a
+     *   <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once before escaping
+     *   into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param encoding the encoding to be used for escaping.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthUriPathSegment(final CharSequence text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.escapedLength(text, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a URI query parameter (name or value) <strong>escape</strong> operation on a
+     *   <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, without performing the escape operation
+     *   itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by {@link #escapeUriQueryParam(CharSequence)}. This
+     *   allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once
+     *   before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthUriQueryParam(final CharSequence text) {
+        return escapedLengthUriQueryParam(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a URI query parameter (name or value) <strong>escape</strong> operation on a
+     *   <kbd>CharSequence</kbd> input using the specified <em>encoding</em>, without performing the escape
+     *   operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeUriQueryParam(CharSequence, String)}. As each escaped char is replaced by as many
+     *   <kbd>%HH</kbd> sequences as bytes it is encoded into, non-ASCII chars needing escape are encoded
+     *   during the process (without creating any objects for each of them). This allows sizing a
+     *   <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once before escaping
+     *   into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param encoding the encoding to be used for escaping.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthUriQueryParam(final CharSequence text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.escapedLength(text, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a URI fragment identifier <strong>escape</strong> operation on a
+     *   <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, without performing the escape operation
+     *   itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by {@link #escapeUriFragmentId(CharSequence)}. This
+     *   allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once
+     *   before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthUriFragmentId(final CharSequence text) {
+        return escapedLengthUriFragmentId(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a URI fragment identifier <strong>escape</strong> operation on a
+     *   <kbd>CharSequence</kbd> input using the specified <em>encoding</em>, without performing the escape
+     *   operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeUriFragmentId(CharSequence, String)}. As each escaped char is replaced by as many
+     *   <kbd>%HH</kbd> sequences as bytes it is encoded into, non-ASCII chars needing escape are encoded
+     *   during the process (without creating any objects for each of them). This allows sizing a
+     *   <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd> only once before escaping
+     *   into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param encoding the encoding to be used for escaping.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthUriFragmentId(final CharSequence text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.escapedLength(text, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+    }
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeUriPath(final String text) {
+        return unescapeUriPath(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use the specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param encoding the encoding to be used for unescaping.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeUriPath(final String text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.PATH, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeUriPathSegment(final String text) {
+        return unescapeUriPathSegment(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param encoding the encoding to be used for unescaping.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeUriPathSegment(final String text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeUriQueryParam(final String text) {
+        return unescapeUriQueryParam(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param encoding the encoding to be used for unescaping.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeUriQueryParam(final String text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeUriFragmentId(final String text) {
+        return unescapeUriFragmentId(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param encoding the encoding to be used for unescaping.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeUriFragmentId(final String text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriPath(final String text, final Writer writer)
+            throws IOException {
+        unescapeUriPath(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use the specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriPath(final String text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriPathSegment(final String text, final Writer writer)
+            throws IOException {
+        unescapeUriPathSegment(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriPathSegment(final String text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriQueryParam(final String text, final Writer writer)
+            throws IOException {
+        unescapeUriQueryParam(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriQueryParam(final String text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriFragmentId(final String text, final Writer writer)
+            throws IOException {
+        unescapeUriFragmentId(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriFragmentId(final String text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPath(final String text, final StringBuilder strBuilder) {
+        unescapeUriPath(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use the specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPath(final String text, final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, strBuilder, UriEscapeUtil.UriEscapeType.PATH, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPathSegment(final String text, final StringBuilder strBuilder) {
+        unescapeUriPathSegment(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPathSegment(final String text, final StringBuilder strBuilder,
+                                              final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, strBuilder, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriQueryParam(final String text, final StringBuilder strBuilder) {
+        unescapeUriQueryParam(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriQueryParam(final String text, final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, strBuilder, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriFragmentId(final String text, final StringBuilder strBuilder) {
+        unescapeUriFragmentId(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriFragmentId(final String text, final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, strBuilder, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeUriPath(final CharSequence text) {
+        return unescapeUriPath(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use the specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param encoding the encoding to be used for unescaping.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeUriPath(final CharSequence text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.PATH, encoding);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeUriPathSegment(final CharSequence text) {
+        return unescapeUriPathSegment(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param encoding the encoding to be used for unescaping.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeUriPathSegment(final CharSequence text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeUriQueryParam(final CharSequence text) {
+        return unescapeUriQueryParam(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param encoding the encoding to be used for unescaping.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeUriQueryParam(final CharSequence text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeUriFragmentId(final CharSequence text) {
+        return unescapeUriFragmentId(text, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param encoding the encoding to be used for unescaping.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeUriFragmentId(final CharSequence text, final String encoding) {
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPath(final CharSequence text, final Writer writer)
+            throws IOException {
+        unescapeUriPath(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use the specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPath(final CharSequence text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPathSegment(final CharSequence text, final Writer writer)
+            throws IOException {
+        unescapeUriPathSegment(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPathSegment(final CharSequence text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriQueryParam(final CharSequence text, final Writer writer)
+            throws IOException {
+        unescapeUriQueryParam(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriQueryParam(final CharSequence text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriFragmentId(final CharSequence text, final Writer writer)
+            throws IOException {
+        unescapeUriFragmentId(text, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriFragmentId(final CharSequence text, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPath(final CharSequence text, final StringBuilder strBuilder) {
+        unescapeUriPath(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use the specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPath(final CharSequence text, final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, strBuilder, UriEscapeUtil.UriEscapeType.PATH, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPathSegment(final CharSequence text, final StringBuilder strBuilder) {
+        unescapeUriPathSegment(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPathSegment(final CharSequence text, final StringBuilder strBuilder,
+                                              final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, strBuilder, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriQueryParam(final CharSequence text, final StringBuilder strBuilder) {
+        unescapeUriQueryParam(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriQueryParam(final CharSequence text,
+                                             final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, strBuilder, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input using <kbd>UTF-8</kbd> as encoding, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriFragmentId(final CharSequence text, final StringBuilder strBuilder) {
+        unescapeUriFragmentId(text, strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriFragmentId(final CharSequence text,
+                                             final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, strBuilder, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriPath(final Reader reader, final Writer writer)
+            throws IOException {
+        unescapeUriPath(reader, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use the specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriPath(final Reader reader, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(reader, writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriPathSegment(final Reader reader, final Writer writer)
+            throws IOException {
+        unescapeUriPathSegment(reader, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriPathSegment(final Reader reader, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(reader, writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriQueryParam(final Reader reader, final Writer writer)
+            throws IOException {
+        unescapeUriQueryParam(reader, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriQueryParam(final Reader reader, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(reader, writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriFragmentId(final Reader reader, final Writer writer)
+            throws IOException {
+        unescapeUriFragmentId(reader, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeUriFragmentId(final Reader reader, final Writer writer, final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(reader, writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void unescapeUriPath(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        unescapeUriPath(text, offset, len, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path <strong>unescape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void unescapeUriPath(final char[] text, final int offset, final int len, final Writer writer,
+                                     final String encoding)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        UriEscapeUtil.unescape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void unescapeUriPathSegment(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        unescapeUriPathSegment(text, offset, len, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI path segment <strong>unescape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void unescapeUriPathSegment(final char[] text, final int offset, final int len, final Writer writer,
+                                            final String encoding)
+            throws IOException {
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+        UriEscapeUtil.unescape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void unescapeUriQueryParam(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        unescapeUriQueryParam(text, offset, len, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void unescapeUriQueryParam(final char[] text, final int offset, final int len, final Writer writer,
+                                           final String encoding)
+            throws IOException {
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+        UriEscapeUtil.unescape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void unescapeUriFragmentId(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        unescapeUriFragmentId(text, offset, len, writer, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Perform am URI fragment identifier <strong>unescape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
+     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
+     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
+     *   good practice).
+     * </p>
+     * <p>
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   percent-encoded byte sequences.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for unescaping.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void unescapeUriFragmentId(final char[] text, final int offset, final int len, final Writer writer,
+                                           final String encoding)
+            throws IOException {
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+        UriEscapeUtil.unescape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+    }
+
+
+
+    /**
+     * <p>
+     *   Perform a URI path <strong>unescape</strong> operation on a <kbd>byte[]</kbd> input, writing results to an
+     *   <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim.
+     * </p>
+     * <p>
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriPath(char[], int, int, java.io.Writer, String)} with <kbd>UTF-8</kbd>
+     *   encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the unescape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be unescaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the unescaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPath(final byte[] text, final int offset, final int len,
+                                       final OutputStream outputStream)
+                                       throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        UriEscapeUtil.unescape(text, offset, len, outputStream, UriEscapeUtil.UriEscapeType.PATH);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI path <strong>unescape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd> input, writing
+     *   results to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim.
+     * </p>
+     * <p>
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriPath(char[], int, int, java.io.Writer, String)} with <kbd>UTF-8</kbd>
+     *   encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be unescaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the unescaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPath(final ByteBuffer text, final OutputStream outputStream)
+                                       throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, outputStream, UriEscapeUtil.UriEscapeType.PATH);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI path <strong>unescape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd> input, putting
+     *   results into another <kbd>java.nio.ByteBuffer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim.
+     * </p>
+     * <p>
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriPath(char[], int, int, java.io.Writer, String)} with <kbd>UTF-8</kbd>
+     *   encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the positions of both buffers will be undefined.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be unescaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the unescaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the unescaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPath(final ByteBuffer text, final ByteBuffer output) {
+
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
+        }
+
+        try {
+            UriEscapeUtil.unescape(
+                    text, new InternalByteBufferOutputStream(output), UriEscapeUtil.UriEscapeType.PATH);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while unescaping URI into a ByteBuffer", e);
+        }
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI path segment <strong>unescape</strong> operation on a <kbd>byte[]</kbd> input, writing results to
+     *   an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim.
+     * </p>
+     * <p>
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriPathSegment(char[], int, int, java.io.Writer, String)} with
+     *   <kbd>UTF-8</kbd> encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the unescape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be unescaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the unescaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPathSegment(final byte[] text, final int offset, final int len,
+                                              final OutputStream outputStream)
+                                              throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        UriEscapeUtil.unescape(text, offset, len, outputStream, UriEscapeUtil.UriEscapeType.PATH_SEGMENT);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI path segment <strong>unescape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd> input,
+     *   writing results to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim.
+     * </p>
+     * <p>
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriPathSegment(char[], int, int, java.io.Writer, String)} with
+     *   <kbd>UTF-8</kbd> encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be unescaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the unescaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPathSegment(final ByteBuffer text, final OutputStream outputStream)
+                                              throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, outputStream, UriEscapeUtil.UriEscapeType.PATH_SEGMENT);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI path segment <strong>unescape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd> input,
+     *   putting results into another <kbd>java.nio.ByteBuffer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim.
+     * </p>
+     * <p>
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriPathSegment(char[], int, int, java.io.Writer, String)} with
+     *   <kbd>UTF-8</kbd> encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the positions of both buffers will be undefined.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be unescaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the unescaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the unescaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriPathSegment(final ByteBuffer text, final ByteBuffer output) {
+
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
+        }
+
+        try {
+            UriEscapeUtil.unescape(
+                    text, new InternalByteBufferOutputStream(output), UriEscapeUtil.UriEscapeType.PATH_SEGMENT);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while unescaping URI into a ByteBuffer", e);
+        }
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform a URI query parameter (name or value) <strong>unescape</strong> operation on a <kbd>byte[]</kbd> input,
+     *   writing results to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim. Also, <kbd>+</kbd> chars will be unescaped as whitespace
+     *   (<kbd>0x20</kbd>) bytes, as specified for <kbd>application/x-www-form-urlencoded</kbd> content.
+     * </p>
+     * <p>
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriQueryParam(char[], int, int, java.io.Writer, String)} with
+     *   <kbd>UTF-8</kbd> encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the unescape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be unescaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the unescaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriQueryParam(final byte[] text, final int offset, final int len,
+                                             final OutputStream outputStream)
+                                             throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
         }
 
         final int textLen = (text == null? 0 : text.length);
@@ -1491,349 +6649,533 @@ public static void escapeUriFragmentId(final char[] text, final int offset, fina
             throw new IllegalArgumentException(
                     "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
         }
-        UriEscapeUtil.escape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+
+        UriEscapeUtil.unescape(text, offset, len, outputStream, UriEscapeUtil.UriEscapeType.QUERY_PARAM);
+
     }
 
 
+    /**
+     * <p>
+     *   Perform a URI query parameter (name or value) <strong>unescape</strong> operation on a
+     *   <kbd>java.nio.ByteBuffer</kbd> input, writing results to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim. Also, <kbd>+</kbd> chars will be unescaped as whitespace
+     *   (<kbd>0x20</kbd>) bytes, as specified for <kbd>application/x-www-form-urlencoded</kbd> content.
+     * </p>
+     * <p>
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriQueryParam(char[], int, int, java.io.Writer, String)} with
+     *   <kbd>UTF-8</kbd> encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be unescaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the unescaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriQueryParam(final ByteBuffer text, final OutputStream outputStream)
+                                             throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, outputStream, UriEscapeUtil.UriEscapeType.QUERY_PARAM);
+
+    }
+
 
+    /**
+     * <p>
+     *   Perform a URI query parameter (name or value) <strong>unescape</strong> operation on a
+     *   <kbd>java.nio.ByteBuffer</kbd> input, putting results into another <kbd>java.nio.ByteBuffer</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim. Also, <kbd>+</kbd> chars will be unescaped as whitespace
+     *   (<kbd>0x20</kbd>) bytes, as specified for <kbd>application/x-www-form-urlencoded</kbd> content.
+     * </p>
+     * <p>
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriQueryParam(char[], int, int, java.io.Writer, String)} with
+     *   <kbd>UTF-8</kbd> encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the positions of both buffers will be undefined.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be unescaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the unescaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the unescaped result.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriQueryParam(final ByteBuffer text, final ByteBuffer output) {
 
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
+        }
 
+        try {
+            UriEscapeUtil.unescape(
+                    text, new InternalByteBufferOutputStream(output), UriEscapeUtil.UriEscapeType.QUERY_PARAM);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while unescaping URI into a ByteBuffer", e);
+        }
 
+    }
 
 
+    /**
+     * <p>
+     *   Perform a URI fragment identifier <strong>unescape</strong> operation on a <kbd>byte[]</kbd> input, writing
+     *   results to an <kbd>OutputStream</kbd>.
+     * </p>
+     * <p>
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim.
+     * </p>
+     * <p>
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriFragmentId(char[], int, int, java.io.Writer, String)} with
+     *   <kbd>UTF-8</kbd> encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>byte[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the unescape operation should start.
+     * @param len the number of bytes in <kbd>text</kbd> that should be unescaped.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the unescaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeUriFragmentId(final byte[] text, final int offset, final int len,
+                                             final OutputStream outputStream)
+                                             throws IOException {
 
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
 
+        final int textLen = (text == null? 0 : text.length);
 
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
 
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
 
+        UriEscapeUtil.unescape(text, offset, len, outputStream, UriEscapeUtil.UriEscapeType.FRAGMENT_ID);
 
+    }
 
 
     /**
      * <p>
-     *   Perform am URI path <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   Perform a URI fragment identifier <strong>unescape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd>
+     *   input, writing results to an <kbd>OutputStream</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim.
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriFragmentId(char[], int, int, java.io.Writer, String)} with
+     *   <kbd>UTF-8</kbd> encoding and then encoding the result as <kbd>UTF-8</kbd>.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be unescaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the unescaped result will be written. Nothing
+     *                     will be written at all to this stream if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String unescapeUriPath(final String text) {
-        return unescapeUriPath(text, DEFAULT_ENCODING);
+    public static void unescapeUriFragmentId(final ByteBuffer text, final OutputStream outputStream)
+                                             throws IOException {
+
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
+        }
+
+        UriEscapeUtil.unescape(text, outputStream, UriEscapeUtil.UriEscapeType.FRAGMENT_ID);
+
     }
 
 
     /**
      * <p>
-     *   Perform am URI path <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input.
+     *   Perform a URI fragment identifier <strong>unescape</strong> operation on a <kbd>java.nio.ByteBuffer</kbd>
+     *   input, putting results into another <kbd>java.nio.ByteBuffer</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequence present in input into the byte it
+     *   represents, copying all other bytes verbatim.
      * </p>
      * <p>
-     *   This method will use the specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   No characters are decoded, so no encoding needs to be specified: the result contains the bytes that were
+     *   percent-encoded, in whatever encoding these were. For <kbd>UTF-8</kbd>, the result is the same as that of
+     *   unescaping by means of {@link #unescapeUriFragmentId(char[], int, int, java.io.Writer, String)} with
+     *   <kbd>UTF-8</kbd> encoding and then encoding the result as <kbd>UTF-8</kbd>.
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the positions of both buffers will be undefined.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param encoding the encoding to be used for unescaping.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>java.nio.ByteBuffer</kbd> containing the bytes to be unescaped, from its position to its
+     *             limit. Its position will be set to its limit after the operation.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the unescaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if input is <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in
+     *         <kbd>output</kbd> for the unescaped result.
+     *
+     * @since 1.1.7
      */
-    public static String unescapeUriPath(final String text, final String encoding) {
-        if (encoding == null) {
-            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+    public static void unescapeUriFragmentId(final ByteBuffer text, final ByteBuffer output) {
+
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
         }
-        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.PATH, encoding);
+
+        try {
+            UriEscapeUtil.unescape(
+                    text, new InternalByteBufferOutputStream(output), UriEscapeUtil.UriEscapeType.FRAGMENT_ID);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while unescaping URI into a ByteBuffer", e);
+        }
+
     }
 
 
 
+
+
+
+
+
+
+
     /**
      * <p>
-     *   Perform am URI path segment <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   Obtain a <strong>chunked unescaper</strong> that performs an URI path <strong>unescape</strong> operation on a
+     *   text received as a sequence of chunks (e.g. network buffers), writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Chunks can be split at any point, even in the middle of percent-encoded sequences, and results will be exactly
+     *   the same as those of {@link #unescapeUriPath(String)} on the concatenation of all the chunks. The end of the
+     *   text must be signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link
+     *   org.unbescape.ChunkedUnescaper} for details.
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the percent-encoded
+     *   byte sequences.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
      */
-    public static String unescapeUriPathSegment(final String text) {
-        return unescapeUriPathSegment(text, DEFAULT_ENCODING);
+    public static ChunkedUnescaper uriPathChunkedUnescaper(final Writer writer) {
+        return uriPathChunkedUnescaper(writer, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI path segment <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input.
+     *   Obtain a <strong>chunked unescaper</strong> that performs an URI path <strong>unescape</strong> operation on a
+     *   text received as a sequence of chunks (e.g. network buffers), writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Chunks can be split at any point, even in the middle of percent-encoded sequences, and results will be exactly
+     *   the same as those of {@link #unescapeUriPath(String, String)} on the concatenation of all the chunks. The end
+     *   of the text must be signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link
+     *   org.unbescape.ChunkedUnescaper} for details.
      * </p>
      * <p>
      *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
      *   percent-encoded byte sequences.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
      * @param encoding the encoding to be used for unescaping.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
      */
-    public static String unescapeUriPathSegment(final String text, final String encoding) {
+    public static ChunkedUnescaper uriPathChunkedUnescaper(final Writer writer, final String encoding) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
-        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+
+        return new UriChunkedUnescaper(writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+
     }
 
 
 
+
     /**
      * <p>
-     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   Obtain a <strong>chunked unescaper</strong> that performs an URI path segment <strong>unescape</strong>
+     *   operation on a text received as a sequence of chunks (e.g. network buffers), writing results to a
+     *   <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Chunks can be split at any point, even in the middle of percent-encoded sequences, and results will be exactly
+     *   the same as those of {@link #unescapeUriPathSegment(String)} on the concatenation of all the chunks. The end of
+     *   the text must be signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link
+     *   org.unbescape.ChunkedUnescaper} for details.
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the percent-encoded
+     *   byte sequences.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
-     * </p>
-     *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
      */
-    public static String unescapeUriQueryParam(final String text) {
-        return unescapeUriQueryParam(text, DEFAULT_ENCODING);
+    public static ChunkedUnescaper uriPathSegmentChunkedUnescaper(final Writer writer) {
+        return uriPathSegmentChunkedUnescaper(writer, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input.
+     *   Obtain a <strong>chunked unescaper</strong> that performs an URI path segment <strong>unescape</strong>
+     *   operation on a text received as a sequence of chunks (e.g. network buffers), writing results to a
+     *   <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Chunks can be split at any point, even in the middle of percent-encoded sequences, and results will be exactly
+     *   the same as those of {@link #unescapeUriPathSegment(String, String)} on the concatenation of all the chunks.
+     *   The end of the text must be signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link
+     *   org.unbescape.ChunkedUnescaper} for details.
      * </p>
      * <p>
      *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
      *   percent-encoded byte sequences.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
      * @param encoding the encoding to be used for unescaping.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
      */
-    public static String unescapeUriQueryParam(final String text, final String encoding) {
+    public static ChunkedUnescaper uriPathSegmentChunkedUnescaper(final Writer writer, final String encoding) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
-        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+
+        return new UriChunkedUnescaper(writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+
     }
 
 
 
+
     /**
      * <p>
-     *   Perform am URI fragment identifier <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   Obtain a <strong>chunked unescaper</strong> that performs an URI query parameter (name or value)
+     *   <strong>unescape</strong> operation on a text received as a sequence of chunks (e.g. network buffers), writing
+     *   results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Chunks can be split at any point, even in the middle of percent-encoded sequences, and results will be exactly
+     *   the same as those of {@link #unescapeUriQueryParam(String)} on the concatenation of all the chunks. The end of
+     *   the text must be signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link
+     *   org.unbescape.ChunkedUnescaper} for details.
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the percent-encoded
+     *   byte sequences.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
      */
-    public static String unescapeUriFragmentId(final String text) {
-        return unescapeUriFragmentId(text, DEFAULT_ENCODING);
+    public static ChunkedUnescaper uriQueryParamChunkedUnescaper(final Writer writer) {
+        return uriQueryParamChunkedUnescaper(writer, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI fragment identifier <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input.
+     *   Obtain a <strong>chunked unescaper</strong> that performs an URI query parameter (name or value)
+     *   <strong>unescape</strong> operation on a text received as a sequence of chunks (e.g. network buffers), writing
+     *   results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Chunks can be split at any point, even in the middle of percent-encoded sequences, and results will be exactly
+     *   the same as those of {@link #unescapeUriQueryParam(String, String)} on the concatenation of all the chunks. The
+     *   end of the text must be signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link
+     *   org.unbescape.ChunkedUnescaper} for details.
      * </p>
      * <p>
      *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
      *   percent-encoded byte sequences.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
      * @param encoding the encoding to be used for unescaping.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
      */
-    public static String unescapeUriFragmentId(final String text, final String encoding) {
+    public static ChunkedUnescaper uriQueryParamChunkedUnescaper(final Writer writer, final String encoding) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
-        return UriEscapeUtil.unescape(text, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
-    }
-
 
+        return new UriChunkedUnescaper(writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
 
+    }
 
 
 
 
     /**
      * <p>
-     *   Perform am URI path <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     *   Obtain a <strong>chunked unescaper</strong> that performs an URI fragment identifier <strong>unescape</strong>
+     *   operation on a text received as a sequence of chunks (e.g. network buffers), writing results to a
+     *   <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Chunks can be split at any point, even in the middle of percent-encoded sequences, and results will be exactly
+     *   the same as those of {@link #unescapeUriFragmentId(String)} on the concatenation of all the chunks. The end of
+     *   the text must be signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link
+     *   org.unbescape.ChunkedUnescaper} for details.
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the percent-encoded
+     *   byte sequences.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriPath(final String text, final Writer writer)
-            throws IOException {
-        unescapeUriPath(text, writer, DEFAULT_ENCODING);
+    public static ChunkedUnescaper uriFragmentIdChunkedUnescaper(final Writer writer) {
+        return uriFragmentIdChunkedUnescaper(writer, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI path <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   Obtain a <strong>chunked unescaper</strong> that performs an URI fragment identifier <strong>unescape</strong>
+     *   operation on a text received as a sequence of chunks (e.g. network buffers), writing results to a
+     *   <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Chunks can be split at any point, even in the middle of percent-encoded sequences, and results will be exactly
+     *   the same as those of {@link #unescapeUriFragmentId(String, String)} on the concatenation of all the chunks. The
+     *   end of the text must be signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link
+     *   org.unbescape.ChunkedUnescaper} for details.
      * </p>
      * <p>
-     *   This method will use the specified <kbd>encoding</kbd> in order to determine the characters specified in the
+     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
      *   percent-encoded byte sequences.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
      * @param encoding the encoding to be used for unescaping.
-     * @throws IOException if an input/output exception occurs
+     * @return the unescaper.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriPath(final String text, final Writer writer, final String encoding)
-            throws IOException {
+    public static ChunkedUnescaper uriFragmentIdChunkedUnescaper(final Writer writer, final String encoding) {
 
         if (writer == null) {
             throw new IllegalArgumentException("Argument 'writer' cannot be null");
@@ -1843,305 +7185,432 @@ public static void unescapeUriPath(final String text, final Writer writer, final
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+        return new UriChunkedUnescaper(writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
 
     }
 
 
-
     /**
      * <p>
-     *   Perform am URI path segment <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
-     * </p>
-     * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Determine whether a URI path <strong>unescape</strong> operation would modify a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   The result is the same as checking whether {@link #unescapeUriPath(CharSequence)} returns a different text. No
+     *   unescape operation is actually performed: every <kbd>%</kbd> char starts an escape sequence, so the text is
+     *   only scanned for them (and the result does not depend on the encoding used).
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriPathSegment(final String text, final Writer writer)
-            throws IOException {
-        unescapeUriPathSegment(text, writer, DEFAULT_ENCODING);
+    public static boolean requiresUnescapeUriPath(final CharSequence text) {
+        return UriEscapeUtil.requiresUnescape(text, UriEscapeUtil.UriEscapeType.PATH);
     }
 
 
     /**
      * <p>
-     *   Perform am URI path segment <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
-     * </p>
-     * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Determine whether a URI path segment <strong>unescape</strong> operation would modify a <kbd>CharSequence</kbd>
+     *   input.
      * </p>
      * <p>
-     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   The result is the same as checking whether {@link #unescapeUriPathSegment(CharSequence)} returns a different
+     *   text. No unescape operation is actually performed: every <kbd>%</kbd> char starts an escape sequence, so the
+     *   text is only scanned for them (and the result does not depend on the encoding used).
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for unescaping.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriPathSegment(final String text, final Writer writer, final String encoding)
-            throws IOException {
+    public static boolean requiresUnescapeUriPathSegment(final CharSequence text) {
+        return UriEscapeUtil.requiresUnescape(text, UriEscapeUtil.UriEscapeType.PATH_SEGMENT);
+    }
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
 
-        if (encoding == null) {
-            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
-        }
+    /**
+     * <p>
+     *   Determine whether a URI query parameter (name or value) <strong>unescape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #unescapeUriQueryParam(CharSequence)} returns a different
+     *   text. No unescape operation is actually performed: every <kbd>%</kbd> or <kbd>+</kbd> char starts an escape
+     *   sequence, so the text is only scanned for them (and the result does not depend on the encoding used).
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresUnescapeUriQueryParam(final CharSequence text) {
+        return UriEscapeUtil.requiresUnescape(text, UriEscapeUtil.UriEscapeType.QUERY_PARAM);
+    }
 
-        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
 
+    /**
+     * <p>
+     *   Determine whether a URI fragment identifier <strong>unescape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #unescapeUriFragmentId(CharSequence)} returns a different
+     *   text. No unescape operation is actually performed: every <kbd>%</kbd> char starts an escape sequence, so the
+     *   text is only scanned for them (and the result does not depend on the encoding used).
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresUnescapeUriFragmentId(final CharSequence text) {
+        return UriEscapeUtil.requiresUnescape(text, UriEscapeUtil.UriEscapeType.FRAGMENT_ID);
     }
 
 
-
     /**
      * <p>
-     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     *   Perform a whole URI <strong>escape</strong> operation on a <kbd>String</kbd> input using <kbd>UTF-8</kbd>
+     *   as encoding, escaping each of its components (path, query parameters and fragment identifier).
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The URI is split into its components as specified by RFC3986, and each of them is escaped according to its
+     *   own rules:
      * </p>
+     * <ul>
+     *   <li>The <strong>scheme</strong> (e.g. <kbd>http:</kbd>) is never escaped.</li>
+     *   <li>In the <strong>authority</strong> (e.g. <kbd>//user@example.com:8080</kbd>), the user information and
+     *       the host are escaped according to the RFC3986 rules for <kbd>userinfo</kbd> and <kbd>reg-name</kbd>
+     *       (so non-ASCII hosts are percent-encoded, not converted to IDNA). IP literals (e.g.
+     *       <kbd>[::1]</kbd>) and the port are never escaped, and an <kbd>IllegalArgumentException</kbd> is thrown
+     *       if an IP literal is not terminated by <kbd>]</kbd> or the port contains anything but digits.</li>
+     *   <li>The <strong>path</strong> is escaped as in {@link #escapeUriPath(String)}.</li>
+     *   <li>The names and values of the parameters in the <strong>query</strong> (after <kbd>?</kbd>) are escaped as
+     *       in {@link #escapeUriQueryParam(String)}. The <kbd>&amp;</kbd> chars and the first <kbd>=</kbd> char of
+     *       each parameter are considered delimiters, and are never escaped.</li>
+     *   <li>The <strong>fragment identifier</strong> (after <kbd>#</kbd>) is escaped as in
+     *       {@link #escapeUriFragmentId(String)}.</li>
+     * </ul>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Input is considered to be unescaped, so any <kbd>%</kbd> chars in the authority, the path, the query or
+     *   the fragment identifier will be escaped too (escaping an already escaped URI would escape it twice).
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriQueryParam(final String text, final Writer writer)
-            throws IOException {
-        unescapeUriQueryParam(text, writer, DEFAULT_ENCODING);
+    public static String escapeUri(final String text) {
+        return escapeUri(text, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   Perform a whole URI <strong>escape</strong> operation on a <kbd>String</kbd> input, escaping each of its
+     *   components (path, query parameters and fragment identifier) using the specified <kbd>encoding</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The URI is split into its components as specified by RFC3986, and each of them is escaped according to its
+     *   own rules:
      * </p>
+     * <ul>
+     *   <li>The <strong>scheme</strong> (e.g. <kbd>http:</kbd>) is never escaped.</li>
+     *   <li>In the <strong>authority</strong> (e.g. <kbd>//user@example.com:8080</kbd>), the user information and
+     *       the host are escaped according to the RFC3986 rules for <kbd>userinfo</kbd> and <kbd>reg-name</kbd>
+     *       (so non-ASCII hosts are percent-encoded, not converted to IDNA). IP literals (e.g.
+     *       <kbd>[::1]</kbd>) and the port are never escaped, and an <kbd>IllegalArgumentException</kbd> is thrown
+     *       if an IP literal is not terminated by <kbd>]</kbd> or the port contains anything but digits.</li>
+     *   <li>The <strong>path</strong> is escaped as in {@link #escapeUriPath(String)}.</li>
+     *   <li>The names and values of the parameters in the <strong>query</strong> (after <kbd>?</kbd>) are escaped as
+     *       in {@link #escapeUriQueryParam(String)}. The <kbd>&amp;</kbd> chars and the first <kbd>=</kbd> char of
+     *       each parameter are considered delimiters, and are never escaped.</li>
+     *   <li>The <strong>fragment identifier</strong> (after <kbd>#</kbd>) is escaped as in
+     *       {@link #escapeUriFragmentId(String)}.</li>
+     * </ul>
      * <p>
-     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Input is considered to be unescaped, so any <kbd>%</kbd> chars in the authority, the path, the query or
+     *   the fragment identifier will be escaped too (escaping an already escaped URI would escape it twice).
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for unescaping.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param encoding the encoding to be used for escaping.
+     * @return The escaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no escaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriQueryParam(final String text, final Writer writer, final String encoding)
-            throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
+    public static String escapeUri(final String text, final String encoding) {
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+        if (text == null) {
+            return null;
+        }
+
+        final StringBuilder strBuilder = UriEscapeUtil.escapeUri(text, null, encoding);
+        return (strBuilder == null? text : strBuilder.toString());
 
     }
 
 
+    /**
+     * <p>
+     *   Perform a whole URI <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input using
+     *   <kbd>UTF-8</kbd> as encoding, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   The URI is split into its components as specified by RFC3986, and each of them is escaped according to its
+     *   own rules:
+     * </p>
+     * <ul>
+     *   <li>The <strong>scheme</strong> (e.g. <kbd>http:</kbd>) is never escaped.</li>
+     *   <li>In the <strong>authority</strong> (e.g. <kbd>//user@example.com:8080</kbd>), the user information and
+     *       the host are escaped according to the RFC3986 rules for <kbd>userinfo</kbd> and <kbd>reg-name</kbd>
+     *       (so non-ASCII hosts are percent-encoded, not converted to IDNA). IP literals (e.g.
+     *       <kbd>[::1]</kbd>) and the port are never escaped, and an <kbd>IllegalArgumentException</kbd> is thrown
+     *       if an IP literal is not terminated by <kbd>]</kbd> or the port contains anything but digits.</li>
+     *   <li>The <strong>path</strong> is escaped as in {@link #escapeUriPath(String)}.</li>
+     *   <li>The names and values of the parameters in the <strong>query</strong> (after <kbd>?</kbd>) are escaped as
+     *       in {@link #escapeUriQueryParam(String)}. The <kbd>&amp;</kbd> chars and the first <kbd>=</kbd> char of
+     *       each parameter are considered delimiters, and are never escaped.</li>
+     *   <li>The <strong>fragment identifier</strong> (after <kbd>#</kbd>) is escaped as in
+     *       {@link #escapeUriFragmentId(String)}.</li>
+     * </ul>
+     * <p>
+     *   Input is considered to be unescaped, so any <kbd>%</kbd> chars in the authority, the path, the query or
+     *   the fragment identifier will be escaped too (escaping an already escaped URI would escape it twice).
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUri(final CharSequence text, final StringBuilder strBuilder) {
+        escapeUri(text, strBuilder, DEFAULT_ENCODING);
+    }
+
 
     /**
      * <p>
-     *   Perform am URI fragment identifier <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     *   Perform a whole URI <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input using the
+     *   specified <kbd>encoding</kbd>, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The URI is split into its components as specified by RFC3986, and each of them is escaped according to its
+     *   own rules:
      * </p>
+     * <ul>
+     *   <li>The <strong>scheme</strong> (e.g. <kbd>http:</kbd>) is never escaped.</li>
+     *   <li>In the <strong>authority</strong> (e.g. <kbd>//user@example.com:8080</kbd>), the user information and
+     *       the host are escaped according to the RFC3986 rules for <kbd>userinfo</kbd> and <kbd>reg-name</kbd>
+     *       (so non-ASCII hosts are percent-encoded, not converted to IDNA). IP literals (e.g.
+     *       <kbd>[::1]</kbd>) and the port are never escaped, and an <kbd>IllegalArgumentException</kbd> is thrown
+     *       if an IP literal is not terminated by <kbd>]</kbd> or the port contains anything but digits.</li>
+     *   <li>The <strong>path</strong> is escaped as in {@link #escapeUriPath(String)}.</li>
+     *   <li>The names and values of the parameters in the <strong>query</strong> (after <kbd>?</kbd>) are escaped as
+     *       in {@link #escapeUriQueryParam(String)}. The <kbd>&amp;</kbd> chars and the first <kbd>=</kbd> char of
+     *       each parameter are considered delimiters, and are never escaped.</li>
+     *   <li>The <strong>fragment identifier</strong> (after <kbd>#</kbd>) is escaped as in
+     *       {@link #escapeUriFragmentId(String)}.</li>
+     * </ul>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Input is considered to be unescaped, so any <kbd>%</kbd> chars in the authority, the path, the query or
+     *   the fragment identifier will be escaped too (escaping an already escaped URI would escape it twice).
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriFragmentId(final String text, final Writer writer)
-            throws IOException {
-        unescapeUriFragmentId(text, writer, DEFAULT_ENCODING);
+    public static void escapeUri(final CharSequence text, final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (encoding == null) {
+            throw new IllegalArgumentException("Argument 'encoding' cannot be null");
+        }
+
+        UriEscapeUtil.escapeUri(text, strBuilder, encoding);
+
     }
 
 
     /**
      * <p>
-     *   Perform am URI fragment identifier <strong>unescape</strong> operation
-     *   on a <kbd>String</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   Perform a whole URI <strong>escape</strong> operation on a URI specified by its components, using the
+     *   specified <kbd>encoding</kbd> and appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Each component is escaped exactly as it would be by {@link #escapeUri(CharSequence, StringBuilder, String)}
+     *   (the scheme is never escaped, and the authority is escaped and validated as explained there, e.g.
+     *   <kbd>"my host"</kbd> is appended as <kbd>//my%20host</kbd>), and appended along with its delimiter:
+     *   <kbd>:</kbd> after the scheme, <kbd>//</kbd> before the authority, <kbd>?</kbd> before the query and <kbd>#</kbd>
+     *   before the fragment identifier. Components specified as <kbd>null</kbd> are omitted altogether, along with
+     *   their delimiters. For example, this would append <kbd>https://example.com/a%20b?q=x%20y&amp;lang=en#top</kbd>:
      * </p>
+     * <pre><code>
+     * UriEscape.escapeUri("https", "example.com", "/a b", "q=x y&amp;lang=en", "top", strBuilder, "UTF-8");
+     * </code></pre>
      * <p>
-     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Note <kbd>&amp;</kbd> chars are always delimiters in the query, so they cannot be part of names or values.
+     *   A {@link UriQueryStringBuilder} can be used instead for building query strings out of any unescaped names
+     *   and values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for unescaping.
-     * @throws IOException if an input/output exception occurs
+     * @param scheme the scheme (without <kbd>:</kbd>), never escaped. Can be <kbd>null</kbd>.
+     * @param authority the (unescaped) authority (without <kbd>//</kbd>). Can be <kbd>null</kbd>.
+     * @param path the (unescaped) path. Can be <kbd>null</kbd>.
+     * @param query the (unescaped) query (without <kbd>?</kbd>). Can be <kbd>null</kbd>.
+     * @param fragment the (unescaped) fragment identifier (without <kbd>#</kbd>). Can be <kbd>null</kbd>.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended.
+     * @param encoding the encoding to be used for escaping.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriFragmentId(final String text, final Writer writer, final String encoding)
-            throws IOException {
+    public static void escapeUri(final CharSequence scheme, final CharSequence authority, final CharSequence path,
+                                 final CharSequence query, final CharSequence fragment,
+                                 final StringBuilder strBuilder, final String encoding) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.unescape(new InternalStringReader(text), writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
+        UriEscapeUtil.escapeUri(scheme, authority, path, query, fragment, strBuilder, encoding);
 
     }
 
 
-
-
-
-
-
     /**
      * <p>
-     *   Perform am URI path <strong>unescape</strong> operation
-     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     *   Perform a URI query parameters <strong>escape</strong> operation on a <kbd>Map</kbd> of parameters using
+     *   <kbd>UTF-8</kbd> as encoding, writing them to a <kbd>Writer</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Parameters are written in the iteration order of the map. Values can be <kbd>java.lang.Iterable</kbd> objects
+     *   or <kbd>Object[]</kbd> arrays, meaning the parameter is multi-valued and will be written once for each of their
+     *   elements. <kbd>null</kbd> values (or elements) are written as names without any <kbd>=</kbd> char, and any
+     *   values that are not <kbd>CharSequence</kbd> objects are converted into text by means of <kbd>toString()</kbd>.
+     *   Parameter names cannot be <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String)} for each name and value, but escaped text is
+     *   composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param params the parameters to be escaped, as a <kbd>Map</kbd> of names to values.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will be written
+     *               at all to this writer if <kbd>params</kbd> is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriPath(final Reader reader, final Writer writer)
-            throws IOException {
-        unescapeUriPath(reader, writer, DEFAULT_ENCODING);
+    public static void escapeUriQueryParams(final Map<String, ?> params, final Writer writer)
+                                            throws IOException {
+        escapeUriQueryParams(params, writer, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI path <strong>unescape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   Perform a URI query parameters <strong>escape</strong> operation on a <kbd>Map</kbd> of parameters using the
+     *   specified <kbd>encoding</kbd>, writing them to a <kbd>Writer</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use the specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Parameters are written in the iteration order of the map. Values can be <kbd>java.lang.Iterable</kbd> objects
+     *   or <kbd>Object[]</kbd> arrays, meaning the parameter is multi-valued and will be written once for each of their
+     *   elements. <kbd>null</kbd> values (or elements) are written as names without any <kbd>=</kbd> char, and any
+     *   values that are not <kbd>CharSequence</kbd> objects are converted into text by means of <kbd>toString()</kbd>.
+     *   Parameter names cannot be <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String, String)} for each name and value, but escaped
+     *   text is composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for unescaping.
+     * @param params the parameters to be escaped, as a <kbd>Map</kbd> of names to values.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will be written
+     *               at all to this writer if <kbd>params</kbd> is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriPath(final Reader reader, final Writer writer, final String encoding)
-            throws IOException {
+    public static void escapeUriQueryParams(final Map<String, ?> params, final Writer writer, final String encoding)
+                                            throws IOException {
 
         if (writer == null) {
             throw new IllegalArgumentException("Argument 'writer' cannot be null");
@@ -2151,225 +7620,302 @@ public static void unescapeUriPath(final Reader reader, final Writer writer, fin
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.unescape(reader, writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
+        UriEscapeUtil.escapeQueryParams(params, writer, encoding);
 
     }
 
 
-
     /**
      * <p>
-     *   Perform am URI path segment <strong>unescape</strong> operation
-     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     *   Perform a URI query parameters <strong>escape</strong> operation on a <kbd>Map</kbd> of parameters using
+     *   <kbd>UTF-8</kbd> as encoding, writing them to an <kbd>OutputStream</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Parameters are written in the iteration order of the map. Values can be <kbd>java.lang.Iterable</kbd> objects
+     *   or <kbd>Object[]</kbd> arrays, meaning the parameter is multi-valued and will be written once for each of their
+     *   elements. <kbd>null</kbd> values (or elements) are written as names without any <kbd>=</kbd> char, and any
+     *   values that are not <kbd>CharSequence</kbd> objects are converted into text by means of <kbd>toString()</kbd>.
+     *   Parameter names cannot be <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String)} for each name and value, but escaped text is
+     *   composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
+     * </p>
+     * <p>
+     *   The escaped result only contains ASCII chars, so it is written as one byte per char (which is valid
+     *   <kbd>UTF-8</kbd>, and also valid in the specified encoding as long as it is ASCII-compatible).
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param params the parameters to be escaped, as a <kbd>Map</kbd> of names to values.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing will
+     *                     be written at all to this stream if <kbd>params</kbd> is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriPathSegment(final Reader reader, final Writer writer)
-            throws IOException {
-        unescapeUriPathSegment(reader, writer, DEFAULT_ENCODING);
+    public static void escapeUriQueryParams(final Map<String, ?> params, final OutputStream outputStream)
+                                            throws IOException {
+        escapeUriQueryParams(params, outputStream, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI path segment <strong>unescape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   Perform a URI query parameters <strong>escape</strong> operation on a <kbd>Map</kbd> of parameters using the
+     *   specified <kbd>encoding</kbd>, writing them to an <kbd>OutputStream</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Parameters are written in the iteration order of the map. Values can be <kbd>java.lang.Iterable</kbd> objects
+     *   or <kbd>Object[]</kbd> arrays, meaning the parameter is multi-valued and will be written once for each of their
+     *   elements. <kbd>null</kbd> values (or elements) are written as names without any <kbd>=</kbd> char, and any
+     *   values that are not <kbd>CharSequence</kbd> objects are converted into text by means of <kbd>toString()</kbd>.
+     *   Parameter names cannot be <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String, String)} for each name and value, but escaped
+     *   text is composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
+     * </p>
+     * <p>
+     *   The escaped result only contains ASCII chars, so it is written as one byte per char (which is valid
+     *   <kbd>UTF-8</kbd>, and also valid in the specified encoding as long as it is ASCII-compatible).
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for unescaping.
+     * @param params the parameters to be escaped, as a <kbd>Map</kbd> of names to values.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing will
+     *                     be written at all to this stream if <kbd>params</kbd> is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriPathSegment(final Reader reader, final Writer writer, final String encoding)
-            throws IOException {
+    public static void escapeUriQueryParams(final Map<String, ?> params, final OutputStream outputStream,
+                                            final String encoding)
+                                            throws IOException {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
         }
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.unescape(reader, writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
+        UriEscapeUtil.escapeQueryParams(params, new InternalAsciiWriter(outputStream), encoding);
 
     }
 
 
-
     /**
      * <p>
-     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
-     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     *   Perform a URI query parameters <strong>escape</strong> operation on a <kbd>Map</kbd> of parameters using
+     *   <kbd>UTF-8</kbd> as encoding, putting them into a <kbd>java.nio.ByteBuffer</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Parameters are written in the iteration order of the map. Values can be <kbd>java.lang.Iterable</kbd> objects
+     *   or <kbd>Object[]</kbd> arrays, meaning the parameter is multi-valued and will be written once for each of their
+     *   elements. <kbd>null</kbd> values (or elements) are written as names without any <kbd>=</kbd> char, and any
+     *   values that are not <kbd>CharSequence</kbd> objects are converted into text by means of <kbd>toString()</kbd>.
+     *   Parameter names cannot be <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String)} for each name and value, but escaped text is
+     *   composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
+     * </p>
+     * <p>
+     *   The escaped result only contains ASCII chars, so it is put as one byte per char (which is valid
+     *   <kbd>UTF-8</kbd>, and also valid in the specified encoding as long as it is ASCII-compatible).
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the position of <kbd>output</kbd> will be undefined.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param params the parameters to be escaped, as a <kbd>Map</kbd> of names to values.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the escaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if <kbd>params</kbd> is
+     *               <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in <kbd>output</kbd> for the
+     *         escaped result.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriQueryParam(final Reader reader, final Writer writer)
-            throws IOException {
-        unescapeUriQueryParam(reader, writer, DEFAULT_ENCODING);
+    public static void escapeUriQueryParams(final Map<String, ?> params, final ByteBuffer output) {
+        escapeUriQueryParams(params, output, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   Perform a URI query parameters <strong>escape</strong> operation on a <kbd>Map</kbd> of parameters using the
+     *   specified <kbd>encoding</kbd>, putting them into a <kbd>java.nio.ByteBuffer</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Parameters are written in the iteration order of the map. Values can be <kbd>java.lang.Iterable</kbd> objects
+     *   or <kbd>Object[]</kbd> arrays, meaning the parameter is multi-valued and will be written once for each of their
+     *   elements. <kbd>null</kbd> values (or elements) are written as names without any <kbd>=</kbd> char, and any
+     *   values that are not <kbd>CharSequence</kbd> objects are converted into text by means of <kbd>toString()</kbd>.
+     *   Parameter names cannot be <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String, String)} for each name and value, but escaped
+     *   text is composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
+     * </p>
+     * <p>
+     *   The escaped result only contains ASCII chars, so it is put as one byte per char (which is valid
+     *   <kbd>UTF-8</kbd>, and also valid in the specified encoding as long as it is ASCII-compatible).
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the position of <kbd>output</kbd> will be undefined.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for unescaping.
-     * @throws IOException if an input/output exception occurs
+     * @param params the parameters to be escaped, as a <kbd>Map</kbd> of names to values.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the escaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if <kbd>params</kbd> is
+     *               <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in <kbd>output</kbd> for the
+     *         escaped result.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriQueryParam(final Reader reader, final Writer writer, final String encoding)
-            throws IOException {
+    public static void escapeUriQueryParams(final Map<String, ?> params, final ByteBuffer output,
+                                            final String encoding) {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
         }
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.unescape(reader, writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
+        try {
+            UriEscapeUtil.escapeQueryParams(
+                    params, new InternalAsciiWriter(new InternalByteBufferOutputStream(output)), encoding);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while escaping URI into a ByteBuffer", e);
+        }
 
     }
 
 
-
     /**
      * <p>
-     *   Perform am URI fragment identifier <strong>unescape</strong> operation
-     *   on a <kbd>Reader</kbd> input using <kbd>UTF-8</kbd> as encoding, writing results to a <kbd>Writer</kbd>.
+     *   Perform a URI query parameters <strong>escape</strong> operation on parallel arrays of names and values using
+     *   <kbd>UTF-8</kbd> as encoding, writing them to a <kbd>Writer</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Each name in <kbd>names</kbd> is written along with the value at the same position in <kbd>values</kbd>, so
+     *   both arrays must have the same length. Multi-valued parameters are specified by simply repeating their names.
+     *   <kbd>null</kbd> values are written as names without any <kbd>=</kbd> char. Parameter names cannot be
+     *   <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String)} for each name and value, but escaped text is
+     *   composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param names the names of the parameters to be escaped.
+     * @param values the values of the parameters to be escaped, each one at the same position as its name in
+     *               <kbd>names</kbd>.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will be written
+     *               at all to this writer if <kbd>names</kbd> is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriFragmentId(final Reader reader, final Writer writer)
-            throws IOException {
-        unescapeUriFragmentId(reader, writer, DEFAULT_ENCODING);
+    public static void escapeUriQueryParams(final CharSequence[] names, final CharSequence[] values,
+                                            final Writer writer)
+                                            throws IOException {
+        escapeUriQueryParams(names, values, writer, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI fragment identifier <strong>unescape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   Perform a URI query parameters <strong>escape</strong> operation on parallel arrays of names and values using
+     *   the specified <kbd>encoding</kbd>, writing them to a <kbd>Writer</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Each name in <kbd>names</kbd> is written along with the value at the same position in <kbd>values</kbd>, so
+     *   both arrays must have the same length. Multi-valued parameters are specified by simply repeating their names.
+     *   <kbd>null</kbd> values are written as names without any <kbd>=</kbd> char. Parameter names cannot be
+     *   <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String, String)} for each name and value, but escaped
+     *   text is composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for unescaping.
+     * @param names the names of the parameters to be escaped.
+     * @param values the values of the parameters to be escaped, each one at the same position as its name in
+     *               <kbd>names</kbd>.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will be written
+     *               at all to this writer if <kbd>names</kbd> is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeUriFragmentId(final Reader reader, final Writer writer, final String encoding)
-            throws IOException {
+    public static void escapeUriQueryParams(final CharSequence[] names, final CharSequence[] values,
+                                            final Writer writer, final String encoding)
+                                            throws IOException {
 
         if (writer == null) {
             throw new IllegalArgumentException("Argument 'writer' cannot be null");
@@ -2379,369 +7925,398 @@ public static void unescapeUriFragmentId(final Reader reader, final Writer write
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        UriEscapeUtil.unescape(reader, writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
-
-    }
-
-
-
+        if (names != null && (values == null || values.length != names.length)) {
+            throw new IllegalArgumentException("Arguments 'names' and 'values' must have the same length");
+        }
 
+        UriEscapeUtil.escapeQueryParams(names, values, writer, encoding);
 
+    }
 
 
     /**
      * <p>
-     *   Perform am URI path <strong>unescape</strong> operation
-     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   Perform a URI query parameters <strong>escape</strong> operation on parallel arrays of names and values using
+     *   <kbd>UTF-8</kbd> as encoding, writing them to an <kbd>OutputStream</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Each name in <kbd>names</kbd> is written along with the value at the same position in <kbd>values</kbd>, so
+     *   both arrays must have the same length. Multi-valued parameters are specified by simply repeating their names.
+     *   <kbd>null</kbd> values are written as names without any <kbd>=</kbd> char. Parameter names cannot be
+     *   <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String)} for each name and value, but escaped text is
+     *   composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
+     * </p>
+     * <p>
+     *   The escaped result only contains ASCII chars, so it is written as one byte per char (which is valid
+     *   <kbd>UTF-8</kbd>, and also valid in the specified encoding as long as it is ASCII-compatible).
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be unescaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param names the names of the parameters to be escaped.
+     * @param values the values of the parameters to be escaped, each one at the same position as its name in
+     *               <kbd>names</kbd>.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing will
+     *                     be written at all to this stream if <kbd>names</kbd> is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static void unescapeUriPath(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        unescapeUriPath(text, offset, len, writer, DEFAULT_ENCODING);
+    public static void escapeUriQueryParams(final CharSequence[] names, final CharSequence[] values,
+                                            final OutputStream outputStream)
+                                            throws IOException {
+        escapeUriQueryParams(names, values, outputStream, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI path <strong>unescape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   Perform a URI query parameters <strong>escape</strong> operation on parallel arrays of names and values using
+     *   the specified <kbd>encoding</kbd>, writing them to an <kbd>OutputStream</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Each name in <kbd>names</kbd> is written along with the value at the same position in <kbd>values</kbd>, so
+     *   both arrays must have the same length. Multi-valued parameters are specified by simply repeating their names.
+     *   <kbd>null</kbd> values are written as names without any <kbd>=</kbd> char. Parameter names cannot be
+     *   <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String, String)} for each name and value, but escaped
+     *   text is composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
+     * </p>
+     * <p>
+     *   The escaped result only contains ASCII chars, so it is written as one byte per char (which is valid
+     *   <kbd>UTF-8</kbd>, and also valid in the specified encoding as long as it is ASCII-compatible).
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be unescaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for unescaping.
+     * @param names the names of the parameters to be escaped.
+     * @param values the values of the parameters to be escaped, each one at the same position as its name in
+     *               <kbd>names</kbd>.
+     * @param outputStream the <kbd>java.io.OutputStream</kbd> to which the escaped result will be written. Nothing will
+     *                     be written at all to this stream if <kbd>names</kbd> is <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
      * @throws IOException if an input/output exception occurs
-     */
-    public static void unescapeUriPath(final char[] text, final int offset, final int len, final Writer writer,
-                                     final String encoding)
-            throws IOException {
+     *
+     * @since 1.1.7
+     */
+    public static void escapeUriQueryParams(final CharSequence[] names, final CharSequence[] values,
+                                            final OutputStream outputStream, final String encoding)
+                                            throws IOException {
 
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Argument 'outputStream' cannot be null");
         }
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        if (names != null && (values == null || values.length != names.length)) {
+            throw new IllegalArgumentException("Arguments 'names' and 'values' must have the same length");
         }
 
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
+        UriEscapeUtil.escapeQueryParams(names, values, new InternalAsciiWriter(outputStream), encoding);
 
-        UriEscapeUtil.unescape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.PATH, encoding);
     }
 
 
-
     /**
      * <p>
-     *   Perform am URI path segment <strong>unescape</strong> operation
-     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   Perform a URI query parameters <strong>escape</strong> operation on parallel arrays of names and values using
+     *   <kbd>UTF-8</kbd> as encoding, putting them into a <kbd>java.nio.ByteBuffer</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Each name in <kbd>names</kbd> is written along with the value at the same position in <kbd>values</kbd>, so
+     *   both arrays must have the same length. Multi-valued parameters are specified by simply repeating their names.
+     *   <kbd>null</kbd> values are written as names without any <kbd>=</kbd> char. Parameter names cannot be
+     *   <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String)} for each name and value, but escaped text is
+     *   composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
+     * </p>
+     * <p>
+     *   The escaped result only contains ASCII chars, so it is put as one byte per char (which is valid
+     *   <kbd>UTF-8</kbd>, and also valid in the specified encoding as long as it is ASCII-compatible).
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the position of <kbd>output</kbd> will be undefined.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be unescaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param names the names of the parameters to be escaped.
+     * @param values the values of the parameters to be escaped, each one at the same position as its name in
+     *               <kbd>names</kbd>.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the escaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if <kbd>names</kbd> is
+     *               <kbd>null</kbd>.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in <kbd>output</kbd> for the
+     *         escaped result.
+     *
+     * @since 1.1.7
      */
-    public static void unescapeUriPathSegment(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        unescapeUriPathSegment(text, offset, len, writer, DEFAULT_ENCODING);
+    public static void escapeUriQueryParams(final CharSequence[] names, final CharSequence[] values,
+                                            final ByteBuffer output) {
+        escapeUriQueryParams(names, values, output, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI path segment <strong>unescape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   Perform a URI query parameters <strong>escape</strong> operation on parallel arrays of names and values using
+     *   the specified <kbd>encoding</kbd>, putting them into a <kbd>java.nio.ByteBuffer</kbd> as a query string.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   The result has the <kbd>name=value&amp;name=value</kbd> form of both query strings (without any preceding
+     *   <kbd>?</kbd>) and <kbd>application/x-www-form-urlencoded</kbd> request bodies. Names and values are escaped as
+     *   in {@link #escapeUriQueryParam(String, String)}, so whitespace is escaped as <kbd>%20</kbd> (form decoders
+     *   accept both <kbd>%20</kbd> and <kbd>+</kbd>).
      * </p>
      * <p>
-     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Each name in <kbd>names</kbd> is written along with the value at the same position in <kbd>values</kbd>, so
+     *   both arrays must have the same length. Multi-valued parameters are specified by simply repeating their names.
+     *   <kbd>null</kbd> values are written as names without any <kbd>=</kbd> char. Parameter names cannot be
+     *   <kbd>null</kbd>.
+     * </p>
+     * <p>
+     *   This is equivalent to calling {@link #escapeUriQueryParam(String, String)} for each name and value, but escaped
+     *   text is composed and written in chunks, without creating a <kbd>String</kbd> for each escaped name and value.
+     * </p>
+     * <p>
+     *   The escaped result only contains ASCII chars, so it is put as one byte per char (which is valid
+     *   <kbd>UTF-8</kbd>, and also valid in the specified encoding as long as it is ASCII-compatible).
+     * </p>
+     * <p>
+     *   If <kbd>output</kbd> does not have enough space remaining, a <kbd>java.nio.BufferOverflowException</kbd> will
+     *   be thrown and the position of <kbd>output</kbd> will be undefined.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be unescaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for unescaping.
-     * @throws IOException if an input/output exception occurs
+     * @param names the names of the parameters to be escaped.
+     * @param values the values of the parameters to be escaped, each one at the same position as its name in
+     *               <kbd>names</kbd>.
+     * @param output the <kbd>java.nio.ByteBuffer</kbd> into which the escaped result will be put, starting at its
+     *               current position. Nothing will be put at all into this buffer if <kbd>names</kbd> is
+     *               <kbd>null</kbd>.
+     * @param encoding the encoding to be used for escaping.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in <kbd>output</kbd> for the
+     *         escaped result.
+     *
+     * @since 1.1.7
      */
-    public static void unescapeUriPathSegment(final char[] text, final int offset, final int len, final Writer writer,
-                                            final String encoding)
-            throws IOException {
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+    public static void escapeUriQueryParams(final CharSequence[] names, final CharSequence[] values,
+                                            final ByteBuffer output, final String encoding) {
+
+        if (output == null) {
+            throw new IllegalArgumentException("Argument 'output' cannot be null");
         }
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        if (names != null && (values == null || values.length != names.length)) {
+            throw new IllegalArgumentException("Arguments 'names' and 'values' must have the same length");
         }
 
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        try {
+            UriEscapeUtil.escapeQueryParams(
+                    names, values, new InternalAsciiWriter(new InternalByteBufferOutputStream(output)), encoding);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a ByteBuffer does not perform any actual input/output
+            throw new RuntimeException("Exception while escaping URI into a ByteBuffer", e);
         }
-        UriEscapeUtil.unescape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.PATH_SEGMENT, encoding);
-    }
 
+    }
 
 
     /**
      * <p>
-     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
-     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
-     * </p>
-     * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Parse a URI <strong>query string</strong> (e.g. <kbd>x=1&amp;name=John%20Doe</kbd>) using <kbd>UTF-8</kbd> as
+     *   encoding for unescaping the names and values of its parameters.
      * </p>
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Parsing only determines the positions of the parameters in the text, which is not copied. Names and values
+     *   are returned as views on the text, and only unescaped (by means of {@link #unescapeUriQueryParam(String)})
+     *   when requested and if they contain any <kbd>%</kbd> or <kbd>+</kbd> chars. See {@link UriQueryString} for
+     *   details.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be unescaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the query string to be parsed, without any preceding <kbd>?</kbd>.
+     * @return the parsed query string, or <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void unescapeUriQueryParam(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        unescapeUriQueryParam(text, offset, len, writer, DEFAULT_ENCODING);
+    public static UriQueryString parseUriQueryString(final CharSequence text) {
+        return parseUriQueryString(text, DEFAULT_ENCODING);
     }
 
 
     /**
      * <p>
-     *   Perform am URI query parameter (name or value) <strong>unescape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
-     * </p>
-     * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Parse a URI <strong>query string</strong> (e.g. <kbd>x=1&amp;name=John%20Doe</kbd>) using the specified
+     *   <kbd>encoding</kbd> for unescaping the names and values of its parameters.
      * </p>
      * <p>
-     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Parsing only determines the positions of the parameters in the text, which is not copied. Names and values
+     *   are returned as views on the text, and only unescaped (by means of
+     *   {@link #unescapeUriQueryParam(String, String)}) when requested and if they contain any <kbd>%</kbd> or
+     *   <kbd>+</kbd> chars. See {@link UriQueryString} for details.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be unescaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the query string to be parsed, without any preceding <kbd>?</kbd>.
      * @param encoding the encoding to be used for unescaping.
-     * @throws IOException if an input/output exception occurs
+     * @return the parsed query string, or <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void unescapeUriQueryParam(final char[] text, final int offset, final int len, final Writer writer,
-                                           final String encoding)
-            throws IOException {
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
+    public static UriQueryString parseUriQueryString(final CharSequence text, final String encoding) {
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        if (text == null) {
+            return null;
         }
 
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-        UriEscapeUtil.unescape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.QUERY_PARAM, encoding);
-    }
+        return UriQueryString.parse(text, encoding);
 
+    }
 
 
     /**
      * <p>
-     *   Perform am URI fragment identifier <strong>unescape</strong> operation
-     *   on a <kbd>char[]</kbd> input using <kbd>UTF-8</kbd> as encoding.
+     *   Obtain a <strong>query string builder</strong>, which escapes the names and values of the parameters
+     *   appended to it into a new <kbd>StringBuilder</kbd>, using <kbd>UTF-8</kbd> as encoding.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   This method is <strong>thread-safe</strong>, but the returned builder is not.
      * </p>
+     *
+     * @return the query string builder.
+     *
+     * @since 1.1.7
+     */
+    public static UriQueryStringBuilder uriQueryStringBuilder() {
+        return uriQueryStringBuilder(new StringBuilder(), DEFAULT_ENCODING);
+    }
+
+
+    /**
      * <p>
-     *   This method will use <kbd>UTF-8</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   Obtain a <strong>query string builder</strong>, which escapes the names and values of the parameters
+     *   appended to it into a new <kbd>StringBuilder</kbd>, using the specified <kbd>encoding</kbd>.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
+     *   This method is <strong>thread-safe</strong>, but the returned builder is not.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be unescaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param encoding the encoding to be used for escaping.
+     * @return the query string builder.
+     *
+     * @since 1.1.7
      */
-    public static void unescapeUriFragmentId(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        unescapeUriFragmentId(text, offset, len, writer, DEFAULT_ENCODING);
+    public static UriQueryStringBuilder uriQueryStringBuilder(final String encoding) {
+        return uriQueryStringBuilder(new StringBuilder(), encoding);
     }
 
 
     /**
      * <p>
-     *   Perform am URI fragment identifier <strong>unescape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   Obtain a <strong>query string builder</strong>, which escapes the names and values of the parameters
+     *   appended to it into the specified <kbd>StringBuilder</kbd>, using <kbd>UTF-8</kbd> as encoding.
      * </p>
      * <p>
-     *   This method will unescape every percent-encoded (<kbd>%HH</kbd>) sequences present in input,
-     *   even for those characters that do not need to be percent-encoded in this context (unreserved characters
-     *   can be percent-encoded even if/when this is not required, though it is not generally considered a
-     *   good practice).
+     *   Parameters are appended after any contents the <kbd>StringBuilder</kbd> already has (e.g. the rest of a URI,
+     *   ending in <kbd>?</kbd>), and no <kbd>&amp;</kbd> char is added before the first one.
      * </p>
      * <p>
-     *   This method will use specified <kbd>encoding</kbd> in order to determine the characters specified in the
-     *   percent-encoded byte sequences.
+     *   This method is <strong>thread-safe</strong>, but the returned builder is not.
+     * </p>
+     *
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the query string will be appended.
+     * @return the query string builder.
+     *
+     * @since 1.1.7
+     */
+    public static UriQueryStringBuilder uriQueryStringBuilder(final StringBuilder strBuilder) {
+        return uriQueryStringBuilder(strBuilder, DEFAULT_ENCODING);
+    }
+
+
+    /**
+     * <p>
+     *   Obtain a <strong>query string builder</strong>, which escapes the names and values of the parameters
+     *   appended to it into the specified <kbd>StringBuilder</kbd>, using the specified <kbd>encoding</kbd>.
      * </p>
      * <p>
-     *   This method is <strong>thread-safe</strong>.
+     *   Parameters are appended after any contents the <kbd>StringBuilder</kbd> already has (e.g. the rest of a URI,
+     *   ending in <kbd>?</kbd>), and no <kbd>&amp;</kbd> char is added before the first one.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned builder is not.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be unescaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @param encoding the encoding to be used for unescaping.
-     * @throws IOException if an input/output exception occurs
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the query string will be appended.
+     * @param encoding the encoding to be used for escaping.
+     * @return the query string builder.
+     *
+     * @since 1.1.7
      */
-    public static void unescapeUriFragmentId(final char[] text, final int offset, final int len, final Writer writer,
-                                           final String encoding)
-            throws IOException {
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+    public static UriQueryStringBuilder uriQueryStringBuilder(final StringBuilder strBuilder, final String encoding) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
         }
 
         if (encoding == null) {
             throw new IllegalArgumentException("Argument 'encoding' cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
+        return new UriQueryStringBuilder(strBuilder, encoding);
 
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-        UriEscapeUtil.unescape(text, offset, len, writer, UriEscapeUtil.UriEscapeType.FRAGMENT_ID, encoding);
     }
 
 
 
 
-
-
-
-
-
-
     private UriEscape() {
         super();
     }
@@ -2752,16 +8327,19 @@ private UriEscape() {
      * This is basically a very simplified, thread-unsafe version of StringReader that should
      * perform better than the original StringReader by removing all synchronization structures.
      *
+     * It can read from any CharSequence. Bulk reads are specialized for String, StringBuilder and
+     * array-backed CharBuffer objects so that, for those, chars are copied without calling charAt(...).
+     *
      * Note the only implemented methods are those that we know are really used from within the
      * stream-based escape/unescape operations.
      */
     private static final class InternalStringReader extends Reader {
 
-        private String str;
+        private CharSequence str;
         private int length;
         private int next = 0;
 
-        public InternalStringReader(final String s) {
+        public InternalStringReader(final CharSequence s) {
             super();
             this.str = s;
             this.length = s.length();
@@ -2787,7 +8365,19 @@ public int read(final char[] cbuf, final int off, final int len) throws IOExcept
                 return -1;
             }
             int n = Math.min(this.length - this.next, len);
-            this.str.getChars(this.next, this.next + n, cbuf, off);
+            if (this.str instanceof String) {
+                ((String) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof StringBuilder) {
+                ((StringBuilder) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof CharBuffer && ((CharBuffer) this.str).hasArray()) {
+                final CharBuffer charBuffer = (CharBuffer) this.str;
+                System.arraycopy(
+                        charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + this.next, cbuf, off, n);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = this.str.charAt(this.next + i);
+                }
+            }
             this.next += n;
             return n;
         }
@@ -2800,5 +8390,75 @@ public void close() throws IOException {
     }
 
 
+
+
+    /*
+     * This is a very simple OutputStream that puts everything written to it into a ByteBuffer, used for
+     * implementing the ByteBuffer-output byte-based operations on top of the OutputStream-based ones.
+     *
+     * No input/output is actually performed, so no IOException will ever be thrown. If the ByteBuffer does not
+     * have enough space remaining, the BufferOverflowException thrown by the ByteBuffer itself will be propagated.
+     */
+    private static final class InternalByteBufferOutputStream extends OutputStream {
+
+        private final ByteBuffer buffer;
+
+        public InternalByteBufferOutputStream(final ByteBuffer buffer) {
+            super();
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(final int b) {
+            this.buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            this.buffer.put(b, off, len);
+        }
+
+    }
+
+
+
+    /*
+     * Writer that writes each char as a single byte, used for output that is known to contain only ASCII chars
+     * (as the result of escape operations), so that no encoding is needed at all for writing it as bytes.
+     */
+    private static final class InternalAsciiWriter extends Writer {
+
+        private final OutputStream outputStream;
+        private byte[] bytes = null;
+
+        public InternalAsciiWriter(final OutputStream outputStream) {
+            super();
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            if (this.bytes == null || this.bytes.length < len) {
+                this.bytes = new byte[len];
+            }
+            for (int i = 0; i < len; i++) {
+                this.bytes[i] = (byte) cbuf[off + i];
+            }
+            this.outputStream.write(this.bytes, 0, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.outputStream.flush();
+        }
+
+        @Override
+        public void close() {
+            // Nothing to be done: the output stream belongs to the caller, and should only be closed by it
+        }
+
+    }
+
+
 }
 
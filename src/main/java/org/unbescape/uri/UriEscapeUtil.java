@@ -20,9 +20,15 @@
 package org.unbescape.uri;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
-import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
 
 
 /**
@@ -59,6 +65,10 @@ final class UriEscapeUtil {
      *                      '/admin/users/list?x=1' -> 'x' (name), '1' (value)
      *   - URI FRAGMENT ID: URI fragments:
      *                      '/admin/users/list?x=1#something' -> '#something'
+     *   - USER INFO:       User information in the URI authority (only for whole-URI escape operations):
+     *                      'http://user:pw@example.com:8080/admin' -> 'user:pw'
+     *   - HOST:            Host in the URI authority, if it is a registered name (only for whole-URI escape
+     *                      operations): 'http://user:pw@example.com:8080/admin' -> 'example.com'
      *
      */
 
@@ -70,21 +80,21 @@ static enum UriEscapeType {
 
         PATH {
             @Override
-            public boolean isAllowed(final int c) {
+            boolean isAllowedBySpec(final int c) {
                 return isPchar(c) || '/' == c;
             }
         },
 
         PATH_SEGMENT {
             @Override
-            public boolean isAllowed(final int c) {
+            boolean isAllowedBySpec(final int c) {
                 return isPchar(c);
             }
         },
 
         QUERY_PARAM {
             @Override
-            public boolean isAllowed(final int c) {
+            boolean isAllowedBySpec(final int c) {
                 // We specify these symbols separately because some of them are considered 'pchar'
                 if ('=' == c || '&' == c || '+' == c || '#' == c) {
                     return false;
@@ -99,13 +109,47 @@ public boolean canPlusEscapeWhitespace() {
 
         FRAGMENT_ID {
             @Override
-            public boolean isAllowed(final int c) {
+            boolean isAllowedBySpec(final int c) {
                 return isPchar(c) || '/' == c || '?' == c;
             }
+        },
+
+        USER_INFO {
+            @Override
+            boolean isAllowedBySpec(final int c) {
+                return isUnreserved(c) || isSubDelim(c) || ':' == c;
+            }
+        },
+
+        HOST {
+            @Override
+            boolean isAllowedBySpec(final int c) {
+                // Specification of 'reg-name' according to RFC3986 (IP literals are never escaped)
+                return isUnreserved(c) || isSubDelim(c);
+            }
         };
 
 
-        public abstract boolean isAllowed(final int c);
+        /*
+         * Table of allowed chars, computed once from the specification-based conditions above. Only ASCII
+         * chars can be allowed in any URI part, so non-ASCII codepoints need no positions in the table.
+         */
+        private final boolean[] allowed;
+
+
+        UriEscapeType() {
+            this.allowed = new boolean[128];
+            for (int c = 0; c < this.allowed.length; c++) {
+                this.allowed[c] = isAllowedBySpec(c);
+            }
+        }
+
+
+        public boolean isAllowed(final int c) {
+            return c < this.allowed.length && this.allowed[c];
+        }
+
+        abstract boolean isAllowedBySpec(final int c);
 
         /*
          * Determines whether whitespace could appear escaped as '+' in the
@@ -168,7 +212,7 @@ private static boolean isGenDelim(final int c) {
          * Character.isLetter() is not used here because it would include
          * non a-to-z letters.
          */
-        static boolean isAlpha(final int c) {
+        private static boolean isAlpha(final int c) {
             return c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z';
         }
 
@@ -198,26 +242,53 @@ private static boolean isDigit(final int c) {
     private static char[] HEXA_CHARS_UPPER = "0123456789ABCDEF".toCharArray();
     private static char[] HEXA_CHARS_LOWER = "0123456789abcdef".toCharArray();
 
+    /*
+     * Percent-encoded form ("%XX") of every byte value, three chars per byte starting at position (b & 0xFF) * 3,
+     * so that writing an escaped byte is just copying its three chars.
+     */
+    private static final char[] PERCENT_ENCODED_BYTES = new char[256 * 3];
 
+    /*
+     * Same as above, but as (ASCII) bytes, for byte-based escape operations
+     */
+    private static final byte[] PERCENT_ENCODED_BYTES_ASCII = new byte[256 * 3];
 
+    static {
+        for (int b = 0; b < 256; b++) {
+            PERCENT_ENCODED_BYTES[b * 3] = ESCAPE_PREFIX;
+            PERCENT_ENCODED_BYTES[b * 3 + 1] = HEXA_CHARS_UPPER[b >> 4];
+            PERCENT_ENCODED_BYTES[b * 3 + 2] = HEXA_CHARS_UPPER[b & 0xF];
+        }
+        for (int i = 0; i < PERCENT_ENCODED_BYTES.length; i++) {
+            PERCENT_ENCODED_BYTES_ASCII[i] = (byte) PERCENT_ENCODED_BYTES[i];
+        }
+    }
 
+    /*
+     * Initial size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
 
+    /*
+     * Amount of bytes at the end of a sequence of percent-encoded bytes that are examined for finding a point at
+     * which it can be split when unescaping a text by chunks. This is enough for UTF-8 (see
+     * UriCharsetCodec#computeSafeDecodeLength(...)), so that no more than the percent-encoded bytes of a char
+     * (12 chars, e.g. "%F0%9F%98%80") need to be kept at the end of a chunk.
+     */
+    private static final int MAX_SPLIT_EXAMINED_BYTES = 4;
 
-    private UriEscapeUtil() {
-        super();
-    }
 
 
 
 
-    static char[] printHexa(final byte b) {
-        final char[] result = new char[2];
-        result[0] = HEXA_CHARS_UPPER[(b >> 4) & 0xF];
-        result[1] = HEXA_CHARS_UPPER[b & 0xF];
-        return result;
+
+    private UriEscapeUtil() {
+        super();
     }
 
 
+
+
     static byte parseHexa(final char c1, final char c2) {
 
         byte result = 0;
@@ -246,18 +317,77 @@ static byte parseHexa(final char c1, final char c2) {
 
 
     /*
-     * Perform an escape operation, based on String, according to the specified type.
+     * Perform an escape operation, based on CharSequence, according to the specified type.
      */
-    static String escape(final String text, final UriEscapeType escapeType, final String encoding) {
+    static String escape(final CharSequence text, final UriEscapeType escapeType, final String encoding) {
 
         if (text == null) {
             return null;
         }
 
-        StringBuilder strBuilder = null;
+        final StringBuilder strBuilder = escape(text, null, escapeType, encoding);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
 
-        final int offset = 0;
-        final int max = text.length();
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, according to the specified type, appending the result to a
+     * StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output,
+                                final UriEscapeType escapeType, final String encoding) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.URI, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeCharSequence(text, output, escapeType, encoding);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeCharSequence(text, null, escapeType, encoding);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                    final UriEscapeType escapeType, final String encoding) {
+
+        if (text == null) {
+            return output;
+        }
+
+        return escapeCharSequence(text, 0, text.length(), output, escapeType, encoding, null);
+
+    }
+
+
+
+
+    /*
+     * Escape a range of a CharSequence. A codec can be specified in order to share it among several ranges (e.g. the
+     * components of a whole URI), and if it is not, one will only be created if some escape is actually needed.
+     * Ranges always end at the end of the text or right before an ASCII delimiter, so surrogate pairs are never split.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final int offset, final int max,
+                                                    final StringBuilder output, final UriEscapeType escapeType,
+                                                    final String encoding, final UriCharsetCodec sharedCodec) {
+
+        StringBuilder strBuilder = output;
+        UriCharsetCodec codec = sharedCodec;
 
         int readOffset = offset;
 
@@ -266,15 +396,7 @@ static String escape(final String text, final UriEscapeType escapeType, final St
             final int codepoint = Character.codePointAt(text, i);
 
             /*
-             * Shortcut: most characters will be alphabetic, and we won't need to do anything at
-             * all for them. No need to use the complete UriEscapeType check system at all.
-             */
-            if (UriEscapeType.isAlpha(codepoint)) {
-                continue;
-            }
-
-            /*
-             * Check whether the character is allowed or not
+             * Check whether the character is allowed or not (just a table lookup, as only ASCII can be allowed)
              */
             if (escapeType.isAllowed(codepoint)) {
                 continue;
@@ -288,7 +410,7 @@ static String escape(final String text, final UriEscapeType escapeType, final St
              */
 
             if (strBuilder == null) {
-                strBuilder = new StringBuilder(max + 20);
+                strBuilder = new StringBuilder(max - offset + 20);
             }
 
             if (i - readOffset > 0) {
@@ -311,15 +433,13 @@ static String escape(final String text, final UriEscapeType escapeType, final St
              * -----------------------------------------------------------------------------------------
              */
 
-            final byte[] charAsBytes;
-            try {
-                charAsBytes = new String(Character.toChars(codepoint)).getBytes(encoding);
-            } catch (final UnsupportedEncodingException e) {
-                throw new IllegalArgumentException("Exception while escaping URI: Bad encoding '" + encoding + "'", e);
+            if (codec == null) {
+                codec = new UriCharsetCodec(encoding);
             }
-            for (final byte b : charAsBytes) {
-                strBuilder.append('%');
-                strBuilder.append(printHexa(b));
+            final int byteLen = codec.encode(codepoint);
+            final byte[] charAsBytes = codec.bytes(0);
+            for (int j = 0; j < byteLen; j++) {
+                strBuilder.append(PERCENT_ENCODED_BYTES, (charAsBytes[j] & 0xFF) * 3, 3);
             }
 
 
@@ -328,20 +448,20 @@ static String escape(final String text, final UriEscapeType escapeType, final St
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: return null if no escape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining unescaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
@@ -351,300 +471,498 @@ static String escape(final String text, final UriEscapeType escapeType, final St
 
 
     /*
-     * Perform an escape operation, based on a Reader, according to the specified type and writing the
-     * result to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Find the first position in a CharSequence at which an escape operation performed with the specified
+     * configuration would modify it, or -1 if escaping would leave it unmodified. Chars are examined exactly as in
+     * escapeCharSequence(...), but nothing is ever allocated.
      */
-    static void escape(
-            final Reader reader, final Writer writer, final UriEscapeType escapeType, final String encoding)
-            throws IOException {
+    static int indexOfFirstEscapable(final CharSequence text, final UriEscapeType escapeType) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return -1;
         }
 
-        int c1, c2; // c0: last char, c1: current char, c2: next char
-
-        c2 = reader.read();
-
-        while (c2 >= 0) {
-
-            c1 = c2;
-            c2 = reader.read();
+        final int max = text.length();
 
-            final int codepoint = codePointAt((char)c1, (char)c2);
+        for (int i = 0; i < max; i++) {
 
-            /*
-             * Shortcut: most characters will be alphabetic, and we won't need to do anything at
-             * all for them. No need to use the complete UriEscapeType check system at all.
-             */
-            if (UriEscapeType.isAlpha(codepoint)) {
-                writer.write(c1);
-                continue;
-            }
+            final int codepoint = Character.codePointAt(text, i);
 
-            /*
-             * Check whether the character is allowed or not
-             */
             if (escapeType.isAllowed(codepoint)) {
-                writer.write(c1);
                 continue;
             }
 
+            return i;
 
-            /*
-             * We know we need to escape, so from here on we will only work with the codepoint -- we can advance
-             * the chars.
-             */
+        }
 
-            if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually reading two char positions with a single codepoint.
-                c1 = c2;
-                c2 = reader.read();
-            }
+        return -1;
 
+    }
 
-            /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape
-             *
-             * -----------------------------------------------------------------------------------------
-             */
 
-            final byte[] charAsBytes;
-            try {
-                charAsBytes = new String(Character.toChars(codepoint)).getBytes(encoding);
-            } catch (final UnsupportedEncodingException e) {
-                throw new IllegalArgumentException("Exception while escaping URI: Bad encoding '" + encoding + "'", e);
-            }
-            for (final byte b : charAsBytes) {
-                writer.write('%');
-                writer.write(printHexa(b));
-            }
 
 
+    /*
+     * Compute the exact length of the result of an escape operation performed on a CharSequence with the
+     * specified type and encoding, without actually escaping anything. Chars are examined exactly as in
+     * escapeCharSequence(...), and the codec is only created (and used for finding out the number of bytes each
+     * char is encoded into) if some char needs to be escaped.
+     */
+    static long escapedLength(final CharSequence text, final UriEscapeType escapeType, final String encoding) {
+
+        if (text == null) {
+            return 0L;
         }
 
-    }
+        UriCharsetCodec codec = null;
 
+        final int max = text.length();
 
+        long length = max;
 
+        for (int i = 0; i < max; i++) {
 
+            final int codepoint = Character.codePointAt(text, i);
 
+            if (escapeType.isAllowed(codepoint)) {
+                continue;
+            }
 
-    /*
-     * Perform an escape operation, based on char[], according to the specified type
-     */
-    static void escape(final char[] text, final int offset, final int len, final Writer writer,
-                       final UriEscapeType escapeType, final String encoding)
-                       throws IOException {
+            final int charCount = Character.charCount(codepoint);
+            if (charCount > 1) {
+                // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                i++;
+            }
+
+            if (codec == null) {
+                codec = new UriCharsetCodec(encoding);
+            }
+
+            // Each encoded byte (written as %HH, 3 chars) replaces the one or two chars of the codepoint
+            length += (codec.encode(codepoint) * 3) - charCount;
 
-        if (text == null || text.length == 0) {
-            return;
         }
 
-        final int max = (offset + len);
+        return length;
 
-        int readOffset = offset;
+    }
 
-        for (int i = offset; i < max; i++) {
 
-            final int codepoint = Character.codePointAt(text, i);
 
-            /*
-             * Shortcut: most characters will be alphabetic, and we won't need to do anything at
-             * all for them. No need to use the complete UriEscapeType check system at all.
-             */
-            if (UriEscapeType.isAlpha(codepoint)) {
-                continue;
-            }
 
-            /*
-             * Check whether the character is allowed or not
-             */
-            if (escapeType.isAllowed(codepoint)) {
-                continue;
-            }
 
+    /*
+     * Perform an escape operation on a whole URI (or URI reference), escaping each of its components according to
+     * its own type and appending the result to a StringBuilder.
+     *
+     * The URI is split into components as specified by RFC3986 (appendix B): the scheme is copied as it is, the
+     * authority is escaped by escapeAuthority(...), the path is escaped as PATH, the query is split into parameters
+     * at '&' and at the first '=' of each parameter, and its names and values are escaped as QUERY_PARAM, and the
+     * fragment is escaped as FRAGMENT_ID.
+     *
+     * As in escape(CharSequence, StringBuilder, ...), if no StringBuilder is specified (output == null), one will
+     * only be created if some escape is actually needed, and null will be returned if it is not.
+     */
+    static StringBuilder escapeUri(final CharSequence text, final StringBuilder output, final String encoding) {
 
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.URI, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeUriCharSequence(text, output, encoding);
+        }
 
-            /*
-             * At this point we know for sure we will need some kind of escape, so we
-             * can write all the contents pending up to this point.
-             */
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeUriCharSequence(text, null, encoding);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
 
-            if (i - readOffset > 0) {
-                writer.write(text, readOffset, (i - readOffset));
-            }
+    }
 
-            if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually reading two char[] positions with a single codepoint.
-                i++;
-            }
 
-            readOffset = i + 1;
 
 
-            /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape
-             *
-             * -----------------------------------------------------------------------------------------
-             */
+    private static StringBuilder escapeUriCharSequence(final CharSequence text, final StringBuilder output,
+                                                       final String encoding) {
 
-            final byte[] charAsBytes;
-            try {
-                charAsBytes = new String(Character.toChars(codepoint)).getBytes(encoding);
-            } catch (final UnsupportedEncodingException e) {
-                throw new IllegalArgumentException("Exception while escaping URI: Bad encoding '" + encoding + "'", e);
-            }
-            for (final byte b : charAsBytes) {
-                writer.write('%');
-                writer.write(printHexa(b));
-            }
+        if (text == null) {
+            return output;
+        }
 
+        final int max = text.length();
 
+        /*
+         * Split the URI into its components: [0,pathStart) contains the scheme and the authority, [pathStart,pathEnd)
+         * the path, (pathEnd,queryEnd) the query (if there is a '?' at pathEnd) and (queryEnd,max) the fragment (if
+         * there is a '#' at queryEnd).
+         */
+        final int schemeEnd = computeUriSchemeEnd(text);
+        final int pathStart = computeUriPathStart(text, schemeEnd);
+        final boolean hasAuthority = (pathStart > schemeEnd);
+        int pathEnd = pathStart;
+        while (pathEnd < max && text.charAt(pathEnd) != '?' && text.charAt(pathEnd) != '#') {
+            pathEnd++;
+        }
+        int queryEnd = pathEnd;
+        if (pathEnd < max && text.charAt(pathEnd) == '?') {
+            queryEnd++;
+            while (queryEnd < max && text.charAt(queryEnd) != '#') {
+                queryEnd++;
+            }
         }
 
+        final boolean hasQuery = (pathEnd < max && text.charAt(pathEnd) == '?');
+        final boolean hasFragment = (queryEnd < max);
 
         /*
-         * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
-         * -----------------------------------------------------------------------------------------------
+         * Nothing is allocated (nor copied, if no StringBuilder was specified) if no escape is needed
          */
+        if (!(hasAuthority && isAuthorityEscapable(text, schemeEnd + 2, pathStart)) &&
+                !isEscapable(text, pathStart, pathEnd, UriEscapeType.PATH) &&
+                !(hasQuery && isQueryEscapable(text, pathEnd + 1, queryEnd)) &&
+                !(hasFragment && isEscapable(text, queryEnd + 1, max, UriEscapeType.FRAGMENT_ID))) {
+            return (output == null? null : output.append(text));
+        }
 
-        if (max - readOffset > 0) {
-            writer.write(text, readOffset, (max - readOffset));
+        final StringBuilder strBuilder = (output == null? new StringBuilder(max + 20) : output);
+        final UriCharsetCodec codec = new UriCharsetCodec(encoding);
+
+        strBuilder.append(text, 0, schemeEnd);
+        if (hasAuthority) {
+            strBuilder.append("//");
+            escapeAuthority(text, schemeEnd + 2, pathStart, strBuilder, encoding, codec);
+        }
+        escapeCharSequence(text, pathStart, pathEnd, strBuilder, UriEscapeType.PATH, encoding, codec);
+        if (hasQuery) {
+            strBuilder.append('?');
+            escapeQuery(text, pathEnd + 1, queryEnd, strBuilder, encoding, codec);
+        }
+        if (hasFragment) {
+            strBuilder.append('#');
+            escapeCharSequence(text, queryEnd + 1, max, strBuilder, UriEscapeType.FRAGMENT_ID, encoding, codec);
         }
 
+        return strBuilder;
+
     }
 
 
 
 
+    /*
+     * Perform an escape operation on a URI specified by its components, escaping each of them as in
+     * escapeUri(CharSequence, ...) and appending them (along with the ':', '//', '?' and '#' delimiters needed)
+     * to a StringBuilder. Null components are omitted.
+     */
+    static void escapeUri(final CharSequence scheme, final CharSequence authority, final CharSequence path,
+                          final CharSequence query, final CharSequence fragment,
+                          final StringBuilder output, final String encoding) {
+
+        final boolean escapable =
+                (authority != null && isAuthorityEscapable(authority, 0, authority.length())) ||
+                (path != null && isEscapable(path, 0, path.length(), UriEscapeType.PATH)) ||
+                (query != null && isQueryEscapable(query, 0, query.length())) ||
+                (fragment != null && isEscapable(fragment, 0, fragment.length(), UriEscapeType.FRAGMENT_ID));
+        final UriCharsetCodec codec = (escapable? new UriCharsetCodec(encoding) : null);
+
+        if (scheme != null) {
+            output.append(scheme).append(':');
+        }
+        if (authority != null) {
+            output.append("//");
+            escapeAuthority(authority, 0, authority.length(), output, encoding, codec);
+        }
+        if (path != null) {
+            escapeCharSequence(path, 0, path.length(), output, UriEscapeType.PATH, encoding, codec);
+        }
+        if (query != null) {
+            output.append('?');
+            escapeQuery(query, 0, query.length(), output, encoding, codec);
+        }
+        if (fragment != null) {
+            output.append('#');
+            escapeCharSequence(fragment, 0, fragment.length(), output, UriEscapeType.FRAGMENT_ID, encoding, codec);
+        }
+
+    }
+
 
 
 
+    /*
+     * Compute the length of the scheme of a URI (including ':'), or 0 if it has none.
+     */
+    private static int computeUriSchemeEnd(final CharSequence text) {
 
+        final int max = text.length();
 
+        // scheme = ALPHA *( ALPHA / DIGIT / "+" / "-" / "." ), followed by ':'
+        int i = 0;
+        while (i < max) {
+            final char c = text.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') ||
+                    (i > 0 && ((c >= '0' && c <= '9') || c == '+' || c == '-' || c == '.'))) {
+                i++;
+                continue;
+            }
+            break;
+        }
+        return (i > 0 && i < max && text.charAt(i) == ':'? i + 1 : 0);
 
+    }
 
 
     /*
-     * Perform an unescape operation based on String.
+     * Compute the position at which the path of a URI starts, i.e. the length of its scheme (including ':') plus
+     * that of its authority (including '//'), if present.
      */
-    static String unescape(final String text, final UriEscapeType escapeType, final String encoding) {
+    private static int computeUriPathStart(final CharSequence text, final int schemeEnd) {
 
-        if (text == null) {
-            return null;
+        final int max = text.length();
+
+        if (schemeEnd + 1 >= max || text.charAt(schemeEnd) != '/' || text.charAt(schemeEnd + 1) != '/') {
+            return schemeEnd;
         }
 
-        StringBuilder strBuilder = null;
+        int authorityEnd = schemeEnd + 2;
+        while (authorityEnd < max) {
+            final char c = text.charAt(authorityEnd);
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            authorityEnd++;
+        }
+        return authorityEnd;
 
-        final int offset = 0;
-        final int max = text.length();
+    }
 
-        int readOffset = offset;
 
-        for (int i = offset; i < max; i++) {
 
-            final char c = text.charAt(i);
 
-            /*
-             * Check the need for an unescape operation at this point
-             */
+    /*
+     * Escape a URI authority: [ userinfo "@" ] host [ ":" port ]. The userinfo is escaped as USER_INFO and the
+     * host, if it is a registered name, as HOST (non-ASCII hosts are therefore percent-encoded, as RFC3986 allows
+     * for UTF-8, instead of being converted by IDNA). IP literals ("[...]") and ports are copied as they are.
+     *
+     * Authorities that cannot be made valid by escaping (unterminated IP literals, or ports containing anything but
+     * digits) are rejected with an IllegalArgumentException by isAuthorityEscapable(...), which is always called
+     * before this.
+     */
+    private static void escapeAuthority(final CharSequence text, final int offset, final int max,
+                                        final StringBuilder strBuilder, final String encoding,
+                                        final UriCharsetCodec codec) {
 
-            if (c != ESCAPE_PREFIX && (c != '+' || !escapeType.canPlusEscapeWhitespace())) {
-                continue;
-            }
+        final int hostStart = computeAuthorityHostStart(text, offset, max);
+        final int hostEnd = computeAuthorityHostEnd(text, hostStart, max);
 
+        if (hostStart > offset) {
+            escapeCharSequence(text, offset, hostStart - 1, strBuilder, UriEscapeType.USER_INFO, encoding, codec);
+            strBuilder.append('@');
+        }
+        if (isIpLiteral(text, hostStart, max)) {
+            strBuilder.append(text, hostStart, hostEnd);
+        } else {
+            escapeCharSequence(text, hostStart, hostEnd, strBuilder, UriEscapeType.HOST, encoding, codec);
+        }
+        strBuilder.append(text, hostEnd, max);
 
-            /*
-             * At this point we know for sure we will need some kind of unescape, so we
-             * can increase the offset and initialize the string builder if needed, along with
-             * copying to it all the contents pending up to this point.
-             */
+    }
 
-            if (strBuilder == null) {
-                strBuilder = new StringBuilder(max + 5);
-            }
 
-            if (i - readOffset > 0) {
-                strBuilder.append(text, readOffset, i);
-            }
+    /*
+     * Check whether escapeAuthority(...) would modify a range of a CharSequence, validating its port (and the
+     * termination of its IP literal, if any).
+     */
+    private static boolean isAuthorityEscapable(final CharSequence text, final int offset, final int max) {
 
+        final int hostStart = computeAuthorityHostStart(text, offset, max);
+        final int hostEnd = computeAuthorityHostEnd(text, hostStart, max);
+        final boolean ipLiteral = isIpLiteral(text, hostStart, max);
 
-            /*
-             * Deal with possible '+'-escaped whitespace (application/x-www-form-urlencoded)
-             */
-            if (c == '+') {
-                // if we reached this point with c == '+', it's escaping a whitespace
-                strBuilder.append(' ');
-                readOffset = i + 1;
-                continue;
-            }
+        if (ipLiteral && text.charAt(hostEnd - 1) != ']') {
+            throw new IllegalArgumentException(
+                    "Invalid URI authority: '" + text.subSequence(offset, max) + "'. IP literals must be " +
+                    "terminated by ']'");
+        }
 
+        if (hostEnd < max) {
+            if (text.charAt(hostEnd) != ':') {
+                throw new IllegalArgumentException(
+                        "Invalid URI authority: '" + text.subSequence(offset, max) + "'. The host can only be " +
+                        "followed by a port");
+            }
+            for (int i = hostEnd + 1; i < max; i++) {
+                final char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    throw new IllegalArgumentException(
+                            "Invalid URI authority: '" + text.subSequence(offset, max) + "'. The port can only " +
+                            "contain digits");
+                }
+            }
+        }
 
-            /*
-             * ESCAPE PROCESS
-             * --------------
-             * If there are more than one percent-encoded/escaped sequences together, we will
-             * need to unescape them all at once (because they might be bytes --up to 4-- of
-             * the same char).
-             */
+        return (hostStart > offset && isEscapable(text, offset, hostStart - 1, UriEscapeType.USER_INFO)) ||
+                (!ipLiteral && isEscapable(text, hostStart, hostEnd, UriEscapeType.HOST));
 
+    }
 
-            // Max possible size will be the remaining amount of chars / 3
-            final byte[] bytes = new byte[(max-i)/3];
-            char aheadC = c;
-            int pos = 0;
 
-            while (((i + 2) < max) && aheadC == ESCAPE_PREFIX) {
-                bytes[pos++] = parseHexa(text.charAt(i + 1), text.charAt(i + 2));
-                i += 3;
-                if (i < max) {
-                    aheadC = text.charAt(i);
-                }
+    /*
+     * Compute the position at which the host of an authority starts: after the last '@', as '@' chars are not
+     * allowed in the host or the port, but might appear (unescaped) in the userinfo.
+     */
+    private static int computeAuthorityHostStart(final CharSequence text, final int offset, final int max) {
+        for (int i = max - 1; i >= offset; i--) {
+            if (text.charAt(i) == '@') {
+                return i + 1;
             }
+        }
+        return offset;
+    }
 
-            if (i < max && aheadC == ESCAPE_PREFIX) {
-                // Incomplete escape sequence!
-                throw new IllegalArgumentException("Incomplete escaping sequence in input");
+
+    /*
+     * Compute the position at which the host of an authority ends: after the ']' closing an IP literal (or at
+     * max if there is none), or else at the first ':', which starts the port.
+     */
+    private static int computeAuthorityHostEnd(final CharSequence text, final int hostStart, final int max) {
+        final boolean ipLiteral = isIpLiteral(text, hostStart, max);
+        for (int i = hostStart; i < max; i++) {
+            final char c = text.charAt(i);
+            if (ipLiteral && c == ']') {
+                return i + 1;
+            }
+            if (!ipLiteral && c == ':') {
+                return i;
             }
+        }
+        return max;
+    }
+
+
+    private static boolean isIpLiteral(final CharSequence text, final int hostStart, final int max) {
+        return (hostStart < max && text.charAt(hostStart) == '[');
+    }
+
 
-            try {
-                strBuilder.append(new String(bytes, 0, pos, encoding));
-            } catch (final UnsupportedEncodingException e) {
-                throw new IllegalArgumentException("Exception while escaping URI: Bad encoding '" + encoding + "'", e);
+
+
+    /*
+     * Escape a URI query, escaping the names and values of its parameters as QUERY_PARAM. The '&' chars and the first
+     * '=' char of each parameter are considered delimiters, and thus never escaped.
+     */
+    private static void escapeQuery(final CharSequence text, final int offset, final int max,
+                                    final StringBuilder strBuilder, final String encoding,
+                                    final UriCharsetCodec codec) {
+
+        int partStart = offset;
+        boolean inValue = false;
+
+        for (int i = offset; i < max; i++) {
+            final char c = text.charAt(i);
+            if (c == '&' || (c == '=' && !inValue)) {
+                escapeCharSequence(text, partStart, i, strBuilder, UriEscapeType.QUERY_PARAM, encoding, codec);
+                strBuilder.append(c);
+                inValue = (c == '=');
+                partStart = i + 1;
             }
+        }
 
+        escapeCharSequence(text, partStart, max, strBuilder, UriEscapeType.QUERY_PARAM, encoding, codec);
 
-            readOffset = i;
+    }
+
+
+
+
+    /*
+     * Check whether escaping a range of a CharSequence as the specified type would modify it. Only ASCII chars can
+     * be allowed, so chars need not be combined into codepoints for this.
+     */
+    private static boolean isEscapable(final CharSequence text, final int offset, final int max,
+                                       final UriEscapeType escapeType) {
+        for (int i = offset; i < max; i++) {
+            if (!escapeType.isAllowed(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+
+    /*
+     * Check whether escapeQuery(...) would modify a range of a CharSequence.
+     */
+    private static boolean isQueryEscapable(final CharSequence text, final int offset, final int max) {
+        boolean inValue = false;
+        for (int i = offset; i < max; i++) {
+            final char c = text.charAt(i);
+            if (c == '&') {
+                inValue = false;
+            } else if (c == '=' && !inValue) {
+                inValue = true;
+            } else if (!UriEscapeType.QUERY_PARAM.isAllowed(c)) {
+                return true;
+            }
         }
+        return false;
+    }
 
 
-        /*
-         * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
-         *                 append the remaining escaped text to the string builder and return.
-         * -----------------------------------------------------------------------------------------------
-         */
 
-        if (strBuilder == null) {
-            return text;
+
+
+    /*
+     * Perform an escape operation, based on a Reader, according to the specified type and writing the
+     * result to a Writer.
+     *
+     * The reader is read in chunks, each of which is escaped by means of the char[]-based method. A high surrogate
+     * found at the end of a chunk is kept for the next one, so that surrogate pairs are never split.
+     */
+    static void escape(
+            final Reader reader, final Writer writer, final UriEscapeType escapeType, final String encoding)
+            throws IOException {
+
+        if (reader == null) {
+            return;
         }
 
-        if (max - readOffset > 0) {
-            strBuilder.append(text, readOffset, max);
+        final char[] buffer = new char[READER_BUFFER_SIZE];
+
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
         }
 
-        return strBuilder.toString();
+        int bufferSize = read;
+
+        // A single codec (and its scratch buffers) is used for all chunks
+        final UriCharsetCodec codec = new UriCharsetCodec(encoding);
+
+        while (bufferSize > 0 || read >= 0) {
+
+            int n = bufferSize;
+            if (read >= 0 && Character.isHighSurrogate(buffer[n - 1])) {
+                n--;
+            }
+
+            if (n > 0) {
+
+                escape(buffer, 0, n, writer, escapeType, codec);
+
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
+
+            }
+
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
+
+        }
 
     }
 
@@ -654,118 +972,165 @@ static String unescape(final String text, final UriEscapeType escapeType, final
 
 
     /*
-     * Perform an unescape operation based on a Reader, writing the results to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Perform an escape operation, based on char[], according to the specified type
      */
-    static void unescape(final Reader reader, final Writer writer, final UriEscapeType escapeType, final String encoding) throws IOException {
+    static void escape(final char[] text, final int offset, final int len, final Writer writer,
+                       final UriEscapeType escapeType, final String encoding)
+                       throws IOException {
 
-        if (reader == null) {
+        if (text == null || text.length == 0) {
             return;
         }
 
-        byte[] escapes = new byte[4];
-        int c1, c2, ce0, ce1, ce2; // c1: current char, c2: next char, ce0, ce1, ce2: current escape chars
+        escape(text, offset, len, writer, escapeType, new UriCharsetCodec(encoding));
+
+    }
+
+
+    private static void escape(final char[] text, final int offset, final int len, final Writer writer,
+                               final UriEscapeType escapeType, final UriCharsetCodec codec)
+                               throws IOException {
 
-        c2 = reader.read();
+        final int max = (offset + len);
+
+        int readOffset = offset;
 
-        while (c2 >= 0) {
+        for (int i = offset; i < max; i++) {
 
-            c1 = c2;
-            c2 = reader.read();
+            final int codepoint = Character.codePointAt(text, i, max);
 
             /*
-             * Check the need for an unescape operation at this point
+             * Check whether the character is allowed or not (just a table lookup, as only ASCII can be allowed)
              */
-
-            if ((c1 != ESCAPE_PREFIX || c2 < 0) && (c1 != '+' || !escapeType.canPlusEscapeWhitespace())) {
-                writer.write(c1);
+            if (escapeType.isAllowed(codepoint)) {
                 continue;
             }
 
 
+
             /*
-             * Deal with possible '+'-escaped whitespace (application/x-www-form-urlencoded)
+             * At this point we know for sure we will need some kind of escape, so we
+             * can write all the contents pending up to this point.
              */
-            if (c1 == '+') {
-                // if we reached this point with c == '+', it's escaping a whitespace
-                writer.write(' ');
-                continue;
+
+            if (i - readOffset > 0) {
+                writer.write(text, readOffset, (i - readOffset));
+            }
+
+            if (Character.charCount(codepoint) > 1) {
+                // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                i++;
             }
 
+            readOffset = i + 1;
+
 
             /*
-             * ESCAPE PROCESS
-             * --------------
-             * If there are more than one percent-encoded/escaped sequences together, we will
-             * need to unescape them all at once (because they might be bytes --up to 4-- of
-             * the same char).
+             * -----------------------------------------------------------------------------------------
+             *
+             * Perform the real escape
+             *
+             * -----------------------------------------------------------------------------------------
              */
 
-            int pos = 0;
+            final int byteLen = codec.encode(codepoint);
+            final byte[] charAsBytes = codec.bytes(0);
+            for (int j = 0; j < byteLen; j++) {
+                writer.write(PERCENT_ENCODED_BYTES, (charAsBytes[j] & 0xFF) * 3, 3);
+            }
 
-            ce0 = c1;
-            ce1 = c2;
-            ce2 = reader.read();
 
-            while (ce0 == ESCAPE_PREFIX && ce1 >= 0 && ce2 >= 0) {
+        }
 
-                if (pos == escapes.length) {
-                    // we need to grow!
-                    byte[] newEscapes = new byte[escapes.length + 4];
-                    System.arraycopy(escapes, 0, newEscapes, 0, escapes.length);
-                    escapes = newEscapes;
-                }
 
-                escapes[pos++] = parseHexa((char) ce1, (char) ce2);
+        /*
+         * -----------------------------------------------------------------------------------------------
+         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
+         *                 append the remaining unescaped text to the string builder and return.
+         * -----------------------------------------------------------------------------------------------
+         */
 
-                ce0 = reader.read();
-                ce1 = ce0 < 0 ? ce0 : ce0 != ESCAPE_PREFIX ? 0x0 : reader.read();
-                ce2 = ce1 < 0 ? ce1 : ce0 != ESCAPE_PREFIX ? 0x0 : reader.read();
+        if (max - readOffset > 0) {
+            writer.write(text, readOffset, (max - readOffset));
+        }
 
-            }
+    }
 
-            if (ce0 == ESCAPE_PREFIX) {
-                // Incomplete escape sequence!
-                throw new IllegalArgumentException("Incomplete escaping sequence in input");
-            }
 
-            c2 = ce0;
 
-            try {
-                writer.write(new String(escapes, 0, pos, encoding));
-            } catch (final UnsupportedEncodingException e) {
-                throw new IllegalArgumentException("Exception while escaping URI: Bad encoding '" + encoding + "'", e);
-            }
 
+
+
+
+
+
+
+
+
+    /*
+     * Perform an unescape operation based on CharSequence.
+     */
+    static String unescape(final CharSequence text, final UriEscapeType escapeType, final String encoding) {
+
+        if (text == null) {
+            return null;
         }
 
+        final StringBuilder strBuilder = unescape(text, null, escapeType, encoding);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
     }
 
 
 
 
+    /*
+     * Perform an unescape operation based on CharSequence, appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some unescape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder unescape(final CharSequence text, final StringBuilder output,
+                                  final UriEscapeType escapeType, final String encoding) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.URI, EscapeOperationType.UNESCAPE));
+        if (recorder == null) {
+            return unescapeCharSequence(text, output, escapeType, encoding);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = unescapeCharSequence(text, null, escapeType, encoding);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
 
 
     /*
-     * Perform an unescape operation based on char[].
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
      */
-    static void unescape(final char[] text, final int offset, final int len, final Writer writer,
-                         final UriEscapeType escapeType, final String encoding)
-                         throws IOException {
+    private static StringBuilder unescapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                      final UriEscapeType escapeType, final String encoding) {
 
         if (text == null) {
-            return;
+            return output;
         }
 
-        final int max = (offset + len);
+        StringBuilder strBuilder = output;
+        UriCharsetCodec codec = null;
+
+        final int offset = 0;
+        final int max = text.length();
 
         int readOffset = offset;
 
         for (int i = offset; i < max; i++) {
 
-            final char c = text[i];
+            final char c = text.charAt(i);
 
             /*
              * Check the need for an unescape operation at this point
@@ -778,11 +1143,16 @@ static void unescape(final char[] text, final int offset, final int len, final W
 
             /*
              * At this point we know for sure we will need some kind of unescape, so we
-             * can increase the offset copy all the contents pending up to this point.
+             * can increase the offset and initialize the string builder if needed, along with
+             * copying to it all the contents pending up to this point.
              */
 
+            if (strBuilder == null) {
+                strBuilder = new StringBuilder(max + 5);
+            }
+
             if (i - readOffset > 0) {
-                writer.write(text, readOffset, (i - readOffset));
+                strBuilder.append(text, readOffset, i);
             }
 
 
@@ -791,7 +1161,7 @@ static void unescape(final char[] text, final int offset, final int len, final W
              */
             if (c == '+') {
                 // if we reached this point with c == '+', it's escaping a whitespace
-                writer.write(' ');
+                strBuilder.append(' ');
                 readOffset = i + 1;
                 continue;
             }
@@ -805,16 +1175,23 @@ static void unescape(final char[] text, final int offset, final int len, final W
              * the same char).
              */
 
-            // Max possible size will be the remaining amount of chars / 3
-            final byte[] bytes = new byte[(max-i)/3];
+
+            // Bytes are collected into the (growable) scratch array of the codec, reused for every sequence
+            if (codec == null) {
+                codec = new UriCharsetCodec(encoding);
+            }
+            byte[] bytes = codec.bytes(0);
             char aheadC = c;
             int pos = 0;
 
             while (((i + 2) < max) && aheadC == ESCAPE_PREFIX) {
-                bytes[pos++] = parseHexa(text[i + 1], text[i + 2]);
+                if (pos == bytes.length) {
+                    bytes = codec.bytes(pos + 1);
+                }
+                bytes[pos++] = parseHexa(text.charAt(i + 1), text.charAt(i + 2));
                 i += 3;
                 if (i < max) {
-                    aheadC = text[i];
+                    aheadC = text.charAt(i);
                 }
             }
 
@@ -823,43 +1200,757 @@ static void unescape(final char[] text, final int offset, final int len, final W
                 throw new IllegalArgumentException("Incomplete escaping sequence in input");
             }
 
-            try {
-                writer.write(new String(bytes, 0, pos, encoding));
-            } catch (final UnsupportedEncodingException e) {
-                throw new IllegalArgumentException("Exception while escaping URI: Bad encoding '" + encoding + "'", e);
-            }
-
+            final int charLen = codec.decode(pos);
+            strBuilder.append(codec.chars(), 0, charLen);
 
             readOffset = i;
+            // The char at i (if any) has not been examined yet, and it could be a '+' escaping whitespace
+            i--;
 
         }
 
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
-         *                 append the remaining escaped text and return.
+         * Final cleaning: return null if no unescape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining escaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
+        if (strBuilder == null) {
+            return null;
+        }
+
         if (max - readOffset > 0) {
-            writer.write(text, readOffset, (max - readOffset));
+            strBuilder.append(text, readOffset, max);
         }
 
+        return strBuilder;
+
     }
 
 
 
 
-    private static int codePointAt(final char c1, final char c2) {
-        if (Character.isHighSurrogate(c1)) {
-            if (c2 >= 0) {
-                if (Character.isLowSurrogate(c2)) {
-                    return Character.toCodePoint(c1, c2);
-                }
-            }
+
+
+    /*
+     * Determine whether an unescape operation would modify a CharSequence. Every '%' char (and every '+' char, if
+     * it can escape whitespace for the specified type) starts an escape, so no unescape needs to be performed.
+     */
+    static boolean requiresUnescape(final CharSequence text, final UriEscapeType escapeType) {
+
+        if (text == null) {
+            return false;
         }
-        return c1;
+
+        final boolean canPlusEscapeWhitespace = escapeType.canPlusEscapeWhitespace();
+
+        final int max = text.length();
+
+        for (int i = 0; i < max; i++) {
+
+            final char c = text.charAt(i);
+
+            if (c == ESCAPE_PREFIX || (c == '+' && canPlusEscapeWhitespace)) {
+                return true;
+            }
+
+        }
+
+        return false;
+
+    }
+
+
+
+
+
+
+    /*
+     * Perform an unescape operation based on a Reader, writing the results to a Writer.
+     *
+     * The reader is read in chunks, unescaped text being directly written from them. Escaped sequences can span
+     * several chunks, the bytes obtained from them being kept until the sequence is over or they can be decoded
+     * separately from the rest of it (see UriCharsetCodec#computeSafeDecodeLength(...)).
+     */
+    static void unescape(final Reader reader, final Writer writer, final UriEscapeType escapeType, final String encoding) throws IOException {
+
+        if (reader == null) {
+            return;
+        }
+
+        final char[] buffer = new char[READER_BUFFER_SIZE];
+
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
+
+        int bufferSize = read;
+
+        final UriCharsetCodec codec = new UriCharsetCodec(encoding);
+        byte[] escapes = codec.bytes(0);
+        int pos = -1; // Amount of bytes obtained from the sequence being unescaped, or -1 if there is none
+
+        while (bufferSize > 0 || read >= 0) {
+
+            int readOffset = 0;
+            int i = 0;
+
+            while (i < bufferSize) {
+
+                final char c = buffer[i];
+
+                if (pos >= 0) {
+
+                    /*
+                     * We are in the middle of an escape sequence. If there are more than one percent-encoded/escaped
+                     * sequences together, we will need to unescape them all at once (because they might be
+                     * bytes --up to 4-- of the same char).
+                     */
+
+                    if (c == ESCAPE_PREFIX) {
+
+                        if (i + 2 >= bufferSize) {
+                            if (read >= 0) {
+                                // We need more chars in order to unescape this
+                                break;
+                            }
+                            // Incomplete escape sequence!
+                            throw new IllegalArgumentException("Incomplete escaping sequence in input");
+                        }
+
+                        if (pos == escapes.length) {
+                            // Decode the bytes up to the last point at which they can be split, if any (always
+                            // for UTF-8), so that they do not need to be kept. Otherwise, we need to grow!
+                            final int safeLen = codec.computeSafeDecodeLength(pos);
+                            if (safeLen > 0) {
+                                final int charLen = codec.decode(safeLen);
+                                writer.write(codec.chars(), 0, charLen);
+                                System.arraycopy(escapes, safeLen, escapes, 0, (pos - safeLen));
+                                pos -= safeLen;
+                            } else {
+                                escapes = codec.bytes(pos + 1);
+                            }
+                        }
+
+                        escapes[pos++] = parseHexa(buffer[i + 1], buffer[i + 2]);
+
+                        i += 3;
+                        readOffset = i;
+                        continue;
+
+                    }
+
+                    final int charLen = codec.decode(pos);
+                    writer.write(codec.chars(), 0, charLen);
+
+                    pos = -1;
+
+                }
+
+                /*
+                 * Check the need for an unescape operation at this point
+                 */
+
+                if (c != ESCAPE_PREFIX && (c != '+' || !escapeType.canPlusEscapeWhitespace())) {
+                    i++;
+                    continue;
+                }
+
+                if (c == ESCAPE_PREFIX && i + 1 >= bufferSize) {
+                    if (read >= 0) {
+                        // We need more chars in order to know whether this starts an escape sequence
+                        break;
+                    }
+                    // The '%' is the last char in input, so it will be just written
+                    i++;
+                    continue;
+                }
+
+                if (i - readOffset > 0) {
+                    writer.write(buffer, readOffset, (i - readOffset));
+                }
+
+                /*
+                 * Deal with possible '+'-escaped whitespace (application/x-www-form-urlencoded)
+                 */
+                if (c == '+') {
+                    // if we reached this point with c == '+', it's escaping a whitespace
+                    writer.write(' ');
+                    i++;
+                    readOffset = i;
+                    continue;
+                }
+
+                // Start the escape sequence, without consuming any chars yet
+                pos = 0;
+                readOffset = i;
+
+            }
+
+            if (i - readOffset > 0) {
+                writer.write(buffer, readOffset, (i - readOffset));
+            }
+
+            System.arraycopy(buffer, i, buffer, 0, (bufferSize - i));
+            bufferSize -= i;
+
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
+
+        }
+
+        if (pos >= 0) {
+            // Input ended right after an escape sequence
+            final int charLen = codec.decode(pos);
+            writer.write(codec.chars(), 0, charLen);
+        }
+
+    }
+
+
+
+
+
+
+    /*
+     * Compute the length of the longest prefix of a char[] that can be unescaped without the risk of interrupting
+     * an escape sequence. As consecutive percent-encoded sequences need to be unescaped all at once (they might
+     * be bytes --up to 4-- of the same char), a sequence of them that reaches the end of the char[] might continue
+     * after it, so it is only considered safe up to the last point at which the codec can split its bytes. As
+     * such a point always exists among its last four bytes for UTF-8 (and anywhere for single-byte encodings), no
+     * more than the escapes of a char are left out. For other encodings, the whole sequence is left out. Returns 0
+     * if no such prefix exists.
+     */
+    static int computeSafeUnescapeLength(final char[] text, final int offset, final int len,
+                                         final UriCharsetCodec codec) {
+
+        final int max = offset + len;
+
+        int i = offset;
+        while (i < max) {
+
+            if (text[i] != ESCAPE_PREFIX) {
+                i++;
+                continue;
+            }
+
+            final int escapesStart = i;
+            while (i < max && text[i] == ESCAPE_PREFIX) {
+                i += 3;
+            }
+
+            if (i >= max) {
+
+                // The sequence of escapes reaches (or is interrupted by) the end of the text: only its last complete
+                // escapes need to be examined for finding the point at which it can be split
+                final int escapeCount = (max - escapesStart) / 3;
+                final int examinedCount = Math.min(escapeCount, MAX_SPLIT_EXAMINED_BYTES);
+
+                final byte[] bytes = codec.bytes(examinedCount);
+                int p = escapesStart + (3 * (escapeCount - examinedCount));
+                for (int j = 0; j < examinedCount; j++) {
+                    bytes[j] = parseHexa(text[p + 1], text[p + 2]);
+                    p += 3;
+                }
+
+                final int safeCount = codec.computeSafeDecodeLength(examinedCount);
+                if (safeCount == 0) {
+                    return escapesStart - offset;
+                }
+                return escapesStart + (3 * (escapeCount - examinedCount + safeCount)) - offset;
+
+            }
+
+        }
+
+        return len;
+
+    }
+
+
+
+
+
+
+    /*
+     * Perform an unescape operation based on char[].
+     */
+    static void unescape(final char[] text, final int offset, final int len, final Writer writer,
+                         final UriEscapeType escapeType, final String encoding)
+                         throws IOException {
+
+        if (text == null) {
+            return;
+        }
+
+        unescape(text, offset, len, writer, escapeType, new UriCharsetCodec(encoding));
+
+    }
+
+
+    /*
+     * Perform an unescape operation based on char[], using an already created codec (which can be reused among
+     * several calls for the same encoding, e.g. for all chunks of the same text).
+     */
+    static void unescape(final char[] text, final int offset, final int len, final Writer writer,
+                         final UriEscapeType escapeType, final UriCharsetCodec codec)
+                         throws IOException {
+
+        final int max = (offset + len);
+
+        int readOffset = offset;
+
+        for (int i = offset; i < max; i++) {
+
+            final char c = text[i];
+
+            /*
+             * Check the need for an unescape operation at this point
+             */
+
+            if (c != ESCAPE_PREFIX && (c != '+' || !escapeType.canPlusEscapeWhitespace())) {
+                continue;
+            }
+
+
+            /*
+             * At this point we know for sure we will need some kind of unescape, so we
+             * can increase the offset copy all the contents pending up to this point.
+             */
+
+            if (i - readOffset > 0) {
+                writer.write(text, readOffset, (i - readOffset));
+            }
+
+
+            /*
+             * Deal with possible '+'-escaped whitespace (application/x-www-form-urlencoded)
+             */
+            if (c == '+') {
+                // if we reached this point with c == '+', it's escaping a whitespace
+                writer.write(' ');
+                readOffset = i + 1;
+                continue;
+            }
+
+
+            /*
+             * ESCAPE PROCESS
+             * --------------
+             * If there are more than one percent-encoded/escaped sequences together, we will
+             * need to unescape them all at once (because they might be bytes --up to 4-- of
+             * the same char).
+             */
+
+            // Bytes are collected into the (growable) scratch array of the codec, reused for every sequence
+            byte[] bytes = codec.bytes(0);
+            char aheadC = c;
+            int pos = 0;
+
+            while (((i + 2) < max) && aheadC == ESCAPE_PREFIX) {
+                if (pos == bytes.length) {
+                    bytes = codec.bytes(pos + 1);
+                }
+                bytes[pos++] = parseHexa(text[i + 1], text[i + 2]);
+                i += 3;
+                if (i < max) {
+                    aheadC = text[i];
+                }
+            }
+
+            if (i < max && aheadC == ESCAPE_PREFIX) {
+                // Incomplete escape sequence!
+                throw new IllegalArgumentException("Incomplete escaping sequence in input");
+            }
+
+            final int charLen = codec.decode(pos);
+            writer.write(codec.chars(), 0, charLen);
+
+            readOffset = i;
+            // The char at i (if any) has not been examined yet, and it could be a '+' escaping whitespace
+            i--;
+
+        }
+
+
+        /*
+         * -----------------------------------------------------------------------------------------------
+         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
+         *                 append the remaining escaped text and return.
+         * -----------------------------------------------------------------------------------------------
+         */
+
+        if (max - readOffset > 0) {
+            writer.write(text, readOffset, (max - readOffset));
+        }
+
+    }
+
+
+
+
+
+
+    /*
+     * Perform an escape operation, based on byte[], according to the specified type and writing the result to an
+     * OutputStream.
+     *
+     * Input bytes are percent-encoded as they are, whatever the encoding they represent text in, so no encoding
+     * is needed: bytes for ASCII chars allowed by the type are copied verbatim, and all others (including every
+     * non-ASCII byte) are written as %HH. For UTF-8 encoded input, results are the same (as UTF-8) as those of
+     * escaping the decoded text with the char-based operations.
+     */
+    static void escape(final byte[] text, final int offset, final int len, final OutputStream outputStream,
+                       final UriEscapeType escapeType)
+                       throws IOException {
+
+        if (text == null || text.length == 0) {
+            return;
+        }
+
+        final int max = (offset + len);
+
+        int readOffset = offset;
+
+        for (int i = offset; i < max; i++) {
+
+            final int b = (text[i] & 0xFF);
+
+            if (escapeType.isAllowed(b)) {
+                continue;
+            }
+
+            if (i - readOffset > 0) {
+                outputStream.write(text, readOffset, (i - readOffset));
+            }
+
+            readOffset = i + 1;
+
+            outputStream.write(PERCENT_ENCODED_BYTES_ASCII, b * 3, 3);
+
+        }
+
+        if (max - readOffset > 0) {
+            outputStream.write(text, readOffset, (max - readOffset));
+        }
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on a ByteBuffer, according to the specified type and writing the result
+     * to an OutputStream. The position of the input buffer will be advanced up to its limit.
+     *
+     * Buffers backed by an array are escaped directly on that array. Any other (e.g. direct) buffers are read in
+     * chunks, each of which is escaped by means of the byte[]-based method.
+     */
+    static void escape(final ByteBuffer text, final OutputStream outputStream, final UriEscapeType escapeType)
+                       throws IOException {
+
+        if (text == null) {
+            return;
+        }
+
+        if (text.hasArray()) {
+            escape(text.array(), (text.arrayOffset() + text.position()), text.remaining(), outputStream, escapeType);
+            text.position(text.limit());
+            return;
+        }
+
+        final byte[] buffer = new byte[READER_BUFFER_SIZE];
+
+        while (text.hasRemaining()) {
+            final int read = Math.min(text.remaining(), buffer.length);
+            text.get(buffer, 0, read);
+            escape(buffer, 0, read, outputStream, escapeType);
+        }
+
+    }
+
+
+
+
+    /*
+     * Perform an unescape operation, based on byte[], according to the specified type and writing the resulting
+     * bytes to an OutputStream.
+     *
+     * Every %HH sequence is replaced by the byte it represents (and '+' by the byte for whitespace, if allowed by
+     * the type), and all other bytes are copied verbatim, so no encoding is needed: the result is in the same
+     * encoding as the text that was percent-encoded.
+     */
+    static void unescape(final byte[] text, final int offset, final int len, final OutputStream outputStream,
+                         final UriEscapeType escapeType)
+                         throws IOException {
+
+        if (text == null) {
+            return;
+        }
+
+        unescape(text, offset, len, outputStream, escapeType, true);
+
+    }
+
+
+
+
+    /*
+     * Perform an unescape operation, based on a ByteBuffer, according to the specified type and writing the
+     * resulting bytes to an OutputStream. The position of the input buffer will be advanced up to its limit.
+     *
+     * Buffers backed by an array are unescaped directly on that array. Any other (e.g. direct) buffers are read in
+     * chunks, each of which is unescaped by means of the byte[]-based method. An escape sequence found incomplete
+     * at the end of a chunk is kept for the next one, so that sequences are never split.
+     */
+    static void unescape(final ByteBuffer text, final OutputStream outputStream, final UriEscapeType escapeType)
+                         throws IOException {
+
+        if (text == null) {
+            return;
+        }
+
+        if (text.hasArray()) {
+            unescape(
+                    text.array(), (text.arrayOffset() + text.position()), text.remaining(), outputStream,
+                    escapeType, true);
+            text.position(text.limit());
+            return;
+        }
+
+        final byte[] buffer = new byte[READER_BUFFER_SIZE];
+        int bufferSize = 0;
+
+        while (text.hasRemaining()) {
+
+            final int read = Math.min(text.remaining(), (buffer.length - bufferSize));
+            text.get(buffer, bufferSize, read);
+            bufferSize += read;
+
+            final int consumed = unescape(buffer, 0, bufferSize, outputStream, escapeType, !text.hasRemaining());
+
+            System.arraycopy(buffer, consumed, buffer, 0, (bufferSize - consumed));
+            bufferSize -= consumed;
+
+        }
+
+    }
+
+
+
+
+    /*
+     * Perform an unescape operation, based on byte[], according to the specified type.
+     *
+     * If this is not the end of the input (endOfInput == false), an escape sequence found incomplete at the end of
+     * the specified range will not be processed. Returns the position up to which the input has been consumed.
+     */
+    private static int unescape(final byte[] text, final int offset, final int len, final OutputStream outputStream,
+                                final UriEscapeType escapeType, final boolean endOfInput)
+                                throws IOException {
+
+        final boolean canPlusEscapeWhitespace = escapeType.canPlusEscapeWhitespace();
+
+        final int max = (offset + len);
+
+        int readOffset = offset;
+
+        for (int i = offset; i < max; i++) {
+
+            final byte b = text[i];
+
+            /*
+             * Check the need for an unescape operation at this point
+             */
+
+            if (b != ESCAPE_PREFIX && (b != '+' || !canPlusEscapeWhitespace)) {
+                continue;
+            }
+
+            if (i - readOffset > 0) {
+                outputStream.write(text, readOffset, (i - readOffset));
+            }
+
+            /*
+             * Deal with possible '+'-escaped whitespace (application/x-www-form-urlencoded)
+             */
+            if (b == '+') {
+                // if we reached this point with b == '+', it's escaping a whitespace
+                outputStream.write(' ');
+                readOffset = i + 1;
+                continue;
+            }
+
+            if (i + 2 >= max) {
+                if (!endOfInput) {
+                    // We need more bytes in order to unescape this
+                    return i;
+                }
+                // Incomplete escape sequence!
+                throw new IllegalArgumentException("Incomplete escaping sequence in input");
+            }
+
+            outputStream.write(parseHexa((char) (text[i + 1] & 0xFF), (char) (text[i + 2] & 0xFF)));
+
+            i += 2;
+            readOffset = i + 1;
+
+        }
+
+        if (max - readOffset > 0) {
+            outputStream.write(text, readOffset, (max - readOffset));
+        }
+
+        return max;
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation on a set of query parameters specified as a Map, writing them to a Writer as a
+     * query string (which is also the format of application/x-www-form-urlencoded bodies). Names and values are
+     * escaped as QUERY_PARAM.
+     *
+     * Values can be Iterables or Object[] arrays, meaning the parameter is multi-valued and will be written once
+     * for each of their elements. Values (or elements) that are null are written as names only (no '='), and any
+     * other non-CharSequence values are converted by means of toString().
+     */
+    static void escapeQueryParams(final Map<String, ?> params, final Writer writer, final String encoding)
+                                  throws IOException {
+
+        if (params == null) {
+            return;
+        }
+
+        final QueryParamsOutput output = new QueryParamsOutput(writer, encoding);
+
+        for (final Map.Entry<String, ?> param : params.entrySet()) {
+
+            final String name = param.getKey();
+            if (name == null) {
+                throw new IllegalArgumentException("Query parameter names cannot be null");
+            }
+
+            final Object value = param.getValue();
+            if (value instanceof Iterable<?>) {
+                for (final Object valueItem : (Iterable<?>) value) {
+                    output.write(name, valueItem);
+                }
+            } else if (value instanceof Object[]) {
+                for (final Object valueItem : (Object[]) value) {
+                    output.write(name, valueItem);
+                }
+            } else {
+                output.write(name, value);
+            }
+
+        }
+
+        output.flush();
+
+    }
+
+
+    /*
+     * Perform an escape operation on a set of query parameters specified as parallel arrays of names and values,
+     * writing them to a Writer as in escapeQueryParams(Map, ...). Multi-valued parameters should simply appear
+     * several times in the arrays.
+     */
+    static void escapeQueryParams(final CharSequence[] names, final CharSequence[] values, final Writer writer,
+                                  final String encoding) throws IOException {
+
+        if (names == null) {
+            return;
+        }
+
+        final QueryParamsOutput output = new QueryParamsOutput(writer, encoding);
+
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] == null) {
+                throw new IllegalArgumentException("Query parameter names cannot be null");
+            }
+            output.write(names[i], values[i]);
+        }
+
+        output.flush();
+
+    }
+
+
+
+
+    /*
+     * Escapes query parameters into a StringBuilder, sharing a single codec for the whole operation, and writes
+     * its contents to the Writer (and empties it) every time it reaches READER_BUFFER_SIZE chars.
+     */
+    private static final class QueryParamsOutput {
+
+        private final Writer writer;
+        private final String encoding;
+        private final UriCharsetCodec codec;
+        private final StringBuilder strBuilder;
+        private char[] buffer = null;
+        private int size = 0;
+
+        QueryParamsOutput(final Writer writer, final String encoding) {
+            super();
+            this.writer = writer;
+            this.encoding = encoding;
+            this.codec = new UriCharsetCodec(encoding);
+            this.strBuilder = new StringBuilder(128);
+        }
+
+        void write(final CharSequence name, final Object value) throws IOException {
+
+            if (this.size > 0) {
+                this.strBuilder.append('&');
+            }
+            escapeCharSequence(
+                    name, 0, name.length(), this.strBuilder, UriEscapeType.QUERY_PARAM, this.encoding, this.codec);
+            if (value != null) {
+                final CharSequence valueText = (value instanceof CharSequence? (CharSequence) value : value.toString());
+                this.strBuilder.append('=');
+                escapeCharSequence(
+                        valueText, 0, valueText.length(), this.strBuilder,
+                        UriEscapeType.QUERY_PARAM, this.encoding, this.codec);
+            }
+            this.size++;
+
+            if (this.strBuilder.length() >= READER_BUFFER_SIZE) {
+                flush();
+            }
+
+        }
+
+        void flush() throws IOException {
+
+            final int len = this.strBuilder.length();
+            final int bufferLen = Math.min(len, READER_BUFFER_SIZE);
+            if (this.buffer == null || this.buffer.length < bufferLen) {
+                this.buffer = new char[bufferLen];
+            }
+
+            int pos = 0;
+            while (pos < len) {
+                final int chunkLen = Math.min(this.buffer.length, len - pos);
+                this.strBuilder.getChars(pos, pos + chunkLen, this.buffer, 0);
+                this.writer.write(this.buffer, 0, chunkLen);
+                pos += chunkLen;
+            }
+
+            this.strBuilder.setLength(0);
+
+        }
+
     }
 
 
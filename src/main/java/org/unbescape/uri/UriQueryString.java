@@ -0,0 +1,441 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape.uri;
+
+/**
+ * <p>
+ *   Parsed URI <strong>query string</strong> (e.g. <kbd>x=1&amp;name=John%20Doe</kbd>), giving access to the names
+ *   and values of its parameters without copying or unescaping any of them until they are actually needed.
+ * </p>
+ * <p>
+ *   Instances of this class are obtained by means of {@link UriEscape#parseUriQueryString(CharSequence)} or
+ *   {@link UriEscape#parseUriQueryString(CharSequence, String)}. Parsing only determines the positions of the
+ *   parameters in the original text, which is not copied, so names and values are returned as
+ *   <kbd>CharSequence</kbd> views on that text: raw ones ({@link #getRawName(int)}, {@link #getRawValue(int)}),
+ *   exactly as they appear in the query string, and unescaped ones ({@link #getName(int)}, {@link #getValue(int)}).
+ *   An unescaped <kbd>String</kbd> is only created (once) for those names or values that actually contain
+ *   <kbd>%</kbd> or <kbd>+</kbd> chars, and unescape is performed exactly as in
+ *   {@link UriEscape#unescapeUriQueryParam(CharSequence, String)}.
+ * </p>
+ * <p>
+ *   Parameters are separated by <kbd>&amp;</kbd> chars, and empty parameters (e.g. in
+ *   <kbd>x=1&amp;&amp;y=2</kbd>) are ignored. The name of a parameter ends at its first <kbd>=</kbd> char, and
+ *   parameters with no <kbd>=</kbd> at all have a <kbd>null</kbd> value (whereas <kbd>x=</kbd> has an empty one).
+ *   The text being parsed should contain only the query string, without the <kbd>?</kbd> that precedes it in a URI
+ *   or any fragment identifier (<kbd>#...</kbd>) following it.
+ * </p>
+ * <p>
+ *   Instances of this class are <strong>thread-safe</strong>, as long as the parsed text is not modified while
+ *   they are being used (which can only happen if it is a mutable <kbd>CharSequence</kbd> implementation like
+ *   <kbd>StringBuilder</kbd>).
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class UriQueryString {
+
+
+    private static final char PARAM_SEPARATOR = '&';
+    private static final char VALUE_SEPARATOR = '=';
+
+    /*
+     * Four positions are stored for each parameter in the positions array: start of the name, end of the name
+     * (the position of the '=' char, or the end of the parameter if there is none), end of the parameter, and
+     * the flags below (whether name and/or value need to be unescaped).
+     */
+    private static final int POSITIONS_PER_PARAM = 4;
+    private static final int FLAG_UNESCAPE_NAME = 1;
+    private static final int FLAG_UNESCAPE_VALUE = 2;
+
+
+    private final CharSequence text;
+    private final String encoding;
+    private final int[] positions;
+    private final int size;
+
+    /*
+     * Unescaped names and values, computed on demand (two positions per parameter). No synchronization needed:
+     * unescaped Strings are immutable, and computing one twice is harmless.
+     */
+    private String[] unescaped = null;
+
+
+
+
+    static UriQueryString parse(final CharSequence text, final String encoding) {
+
+        final int max = text.length();
+
+        int[] positions = new int[POSITIONS_PER_PARAM * 8];
+        int size = 0;
+
+        int i = 0;
+        while (i < max) {
+
+            final int start = i;
+            int nameEnd = -1;
+            int flags = 0;
+
+            char c;
+            while (i < max && (c = text.charAt(i)) != PARAM_SEPARATOR) {
+                if (c == VALUE_SEPARATOR && nameEnd < 0) {
+                    nameEnd = i;
+                } else if (c == '%' || c == '+') {
+                    flags |= (nameEnd < 0? FLAG_UNESCAPE_NAME : FLAG_UNESCAPE_VALUE);
+                }
+                i++;
+            }
+
+            if (i > start) {
+
+                if ((size + 1) * POSITIONS_PER_PARAM > positions.length) {
+                    final int[] newPositions = new int[positions.length * 2];
+                    System.arraycopy(positions, 0, newPositions, 0, positions.length);
+                    positions = newPositions;
+                }
+
+                final int index = size * POSITIONS_PER_PARAM;
+                positions[index] = start;
+                positions[index + 1] = (nameEnd < 0? i : nameEnd);
+                positions[index + 2] = i;
+                positions[index + 3] = flags;
+                size++;
+
+            }
+
+            // Skip the separator
+            i++;
+
+        }
+
+        return new UriQueryString(text, encoding, positions, size);
+
+    }
+
+
+
+
+    private UriQueryString(final CharSequence text, final String encoding, final int[] positions, final int size) {
+        super();
+        this.text = text;
+        this.encoding = encoding;
+        this.positions = positions;
+        this.size = size;
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Returns the number of parameters in the query string.
+     * </p>
+     *
+     * @return the number of parameters.
+     */
+    public int size() {
+        return this.size;
+    }
+
+
+    /**
+     * <p>
+     *   Returns the name of a parameter, exactly as it appears in the query string (without unescaping it).
+     * </p>
+     *
+     * @param index the index of the parameter, from <kbd>0</kbd> to <kbd>size() - 1</kbd>.
+     * @return the raw name of the parameter, as a view on the parsed text.
+     */
+    public CharSequence getRawName(final int index) {
+        checkIndex(index);
+        final int i = index * POSITIONS_PER_PARAM;
+        return new Slice(this.text, this.positions[i], this.positions[i + 1]);
+    }
+
+
+    /**
+     * <p>
+     *   Returns the value of a parameter, exactly as it appears in the query string (without unescaping it).
+     * </p>
+     *
+     * @param index the index of the parameter, from <kbd>0</kbd> to <kbd>size() - 1</kbd>.
+     * @return the raw value of the parameter, as a view on the parsed text, or <kbd>null</kbd> if the parameter
+     *         has no <kbd>=</kbd> char.
+     */
+    public CharSequence getRawValue(final int index) {
+        checkIndex(index);
+        final int i = index * POSITIONS_PER_PARAM;
+        if (this.positions[i + 1] == this.positions[i + 2]) {
+            return null;
+        }
+        return new Slice(this.text, this.positions[i + 1] + 1, this.positions[i + 2]);
+    }
+
+
+    /**
+     * <p>
+     *   Returns the unescaped name of a parameter.
+     * </p>
+     * <p>
+     *   If the name contains no <kbd>%</kbd> or <kbd>+</kbd> chars, the result is a view on the parsed text.
+     *   Otherwise it is a <kbd>String</kbd>, which is only created the first time it is requested.
+     * </p>
+     *
+     * @param index the index of the parameter, from <kbd>0</kbd> to <kbd>size() - 1</kbd>.
+     * @return the unescaped name of the parameter.
+     * @throws IllegalArgumentException if the name contains incomplete escape sequences or the encoding of this
+     *         query string is not supported.
+     */
+    public CharSequence getName(final int index) {
+        checkIndex(index);
+        final int i = index * POSITIONS_PER_PARAM;
+        if ((this.positions[i + 3] & FLAG_UNESCAPE_NAME) == 0) {
+            return new Slice(this.text, this.positions[i], this.positions[i + 1]);
+        }
+        return unescape(index * 2, this.positions[i], this.positions[i + 1]);
+    }
+
+
+    /**
+     * <p>
+     *   Returns the unescaped value of a parameter.
+     * </p>
+     * <p>
+     *   If the value contains no <kbd>%</kbd> or <kbd>+</kbd> chars, the result is a view on the parsed text.
+     *   Otherwise it is a <kbd>String</kbd>, which is only created the first time it is requested.
+     * </p>
+     *
+     * @param index the index of the parameter, from <kbd>0</kbd> to <kbd>size() - 1</kbd>.
+     * @return the unescaped value of the parameter, or <kbd>null</kbd> if the parameter has no <kbd>=</kbd> char.
+     * @throws IllegalArgumentException if the value contains incomplete escape sequences or the encoding of this
+     *         query string is not supported.
+     */
+    public CharSequence getValue(final int index) {
+        checkIndex(index);
+        final int i = index * POSITIONS_PER_PARAM;
+        if (this.positions[i + 1] == this.positions[i + 2]) {
+            return null;
+        }
+        if ((this.positions[i + 3] & FLAG_UNESCAPE_VALUE) == 0) {
+            return new Slice(this.text, this.positions[i + 1] + 1, this.positions[i + 2]);
+        }
+        return unescape(index * 2 + 1, this.positions[i + 1] + 1, this.positions[i + 2]);
+    }
+
+
+    /**
+     * <p>
+     *   Returns the index of the first parameter with the specified (unescaped) name.
+     * </p>
+     * <p>
+     *   Names containing no <kbd>%</kbd> or <kbd>+</kbd> chars are compared directly on the parsed text, without
+     *   creating any objects.
+     * </p>
+     *
+     * @param name the unescaped name of the parameter.
+     * @return the index of the first parameter with that name, or <kbd>-1</kbd> if there is none.
+     * @throws IllegalArgumentException if an examined name contains incomplete escape sequences or the encoding of
+     *         this query string is not supported.
+     */
+    public int indexOf(final CharSequence name) {
+
+        if (name == null) {
+            throw new IllegalArgumentException("Argument 'name' cannot be null");
+        }
+
+        final int nameLen = name.length();
+
+        for (int index = 0; index < this.size; index++) {
+
+            final int i = index * POSITIONS_PER_PARAM;
+
+            if ((this.positions[i + 3] & FLAG_UNESCAPE_NAME) == 0) {
+                if (regionEquals(this.text, this.positions[i], this.positions[i + 1], name)) {
+                    return index;
+                }
+                continue;
+            }
+
+            // The unescaped name can never be longer than the escaped one
+            if (this.positions[i + 1] - this.positions[i] < nameLen) {
+                continue;
+            }
+
+            final String unescapedName = unescape(index * 2, this.positions[i], this.positions[i + 1]);
+            if (regionEquals(unescapedName, 0, unescapedName.length(), name)) {
+                return index;
+            }
+
+        }
+
+        return -1;
+
+    }
+
+
+    /**
+     * <p>
+     *   Returns the unescaped value of the first parameter with the specified (unescaped) name.
+     * </p>
+     * <p>
+     *   Note a <kbd>null</kbd> result can mean that there is no parameter with that name, or that the first
+     *   one has no <kbd>=</kbd> char. Use {@link #indexOf(CharSequence)} if these cases need to be told apart.
+     * </p>
+     *
+     * @param name the unescaped name of the parameter.
+     * @return the unescaped value of the first parameter with that name, or <kbd>null</kbd> if there is none.
+     * @throws IllegalArgumentException if an examined name or the value contain incomplete escape sequences or the
+     *         encoding of this query string is not supported.
+     */
+    public CharSequence getValue(final CharSequence name) {
+        final int index = indexOf(name);
+        return (index < 0? null : getValue(index));
+    }
+
+
+    /**
+     * <p>
+     *   Returns the query string this object was parsed from.
+     * </p>
+     *
+     * @return the query string, as a <kbd>String</kbd>.
+     */
+    @Override
+    public String toString() {
+        return this.text.toString();
+    }
+
+
+
+
+    /*
+     * Raw positions of a parameter, for copying it without unescaping (see UriQueryStringBuilder)
+     */
+    CharSequence getText() {
+        return this.text;
+    }
+
+    int getStart(final int index) {
+        checkIndex(index);
+        return this.positions[index * POSITIONS_PER_PARAM];
+    }
+
+    int getEnd(final int index) {
+        checkIndex(index);
+        return this.positions[index * POSITIONS_PER_PARAM + 2];
+    }
+
+
+
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+
+    private String unescape(final int unescapedIndex, final int start, final int end) {
+
+        String[] unescapedStrs = this.unescaped;
+        if (unescapedStrs == null) {
+            unescapedStrs = new String[this.size * 2];
+            this.unescaped = unescapedStrs;
+        }
+
+        String result = unescapedStrs[unescapedIndex];
+        if (result == null) {
+            result = UriEscapeUtil.unescape(
+                    new Slice(this.text, start, end), UriEscapeUtil.UriEscapeType.QUERY_PARAM, this.encoding);
+            unescapedStrs[unescapedIndex] = result;
+        }
+        return result;
+
+    }
+
+
+    private static boolean regionEquals(
+            final CharSequence text, final int start, final int end, final CharSequence other) {
+
+        if (end - start != other.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) != other.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+
+    }
+
+
+
+
+    /*
+     * View on a region of the parsed text, so that names and values need not be copied
+     */
+    private static final class Slice implements CharSequence {
+
+        private final CharSequence text;
+        private final int start;
+        private final int end;
+
+        Slice(final CharSequence text, final int start, final int end) {
+            super();
+            this.text = text;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return this.end - this.start;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= this.end - this.start) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + (this.end - this.start));
+            }
+            return this.text.charAt(this.start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || end > this.end - this.start || start > end) {
+                throw new IndexOutOfBoundsException(
+                        "Start: " + start + ", End: " + end + ", Length: " + (this.end - this.start));
+            }
+            return new Slice(this.text, this.start + start, this.start + end);
+        }
+
+        @Override
+        public String toString() {
+            return this.text.subSequence(this.start, this.end).toString();
+        }
+
+    }
+
+
+}
@@ -0,0 +1,162 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape.uri;
+
+/**
+ * <p>
+ *   Builder for URI <strong>query strings</strong> (e.g. <kbd>x=1&amp;name=John%20Doe</kbd>), which escapes the
+ *   names and values of parameters directly into a single <kbd>StringBuilder</kbd>.
+ * </p>
+ * <p>
+ *   Instances of this class are obtained by means of {@link UriEscape#uriQueryStringBuilder()} and its variants,
+ *   which allow specifying the encoding and the <kbd>StringBuilder</kbd> to be used (e.g. one already containing
+ *   the rest of a URI, ending in <kbd>?</kbd>). Names and values are escaped exactly as in
+ *   {@link UriEscape#escapeUriQueryParam(CharSequence, StringBuilder, String)}, and <kbd>&amp;</kbd> and
+ *   <kbd>=</kbd> separators are added as needed. Parameters of a parsed {@link UriQueryString} can also be
+ *   appended without unescaping and escaping them again.
+ * </p>
+ * <p>
+ *   Instances of this class are <strong>not thread-safe</strong>.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class UriQueryStringBuilder {
+
+
+    private final StringBuilder strBuilder;
+    private final String encoding;
+    private int size = 0;
+
+
+
+
+    UriQueryStringBuilder(final StringBuilder strBuilder, final String encoding) {
+        super();
+        this.strBuilder = strBuilder;
+        this.encoding = encoding;
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Append a parameter, escaping its name and value.
+     * </p>
+     *
+     * @param name the (unescaped) name of the parameter.
+     * @param value the (unescaped) value of the parameter. If <kbd>null</kbd>, no <kbd>=</kbd> char will be
+     *              appended after the name.
+     * @return this builder.
+     */
+    public UriQueryStringBuilder append(final CharSequence name, final CharSequence value) {
+
+        if (name == null) {
+            throw new IllegalArgumentException("Argument 'name' cannot be null");
+        }
+
+        if (this.size > 0) {
+            this.strBuilder.append('&');
+        }
+        UriEscapeUtil.escape(name, this.strBuilder, UriEscapeUtil.UriEscapeType.QUERY_PARAM, this.encoding);
+        if (value != null) {
+            this.strBuilder.append('=');
+            UriEscapeUtil.escape(value, this.strBuilder, UriEscapeUtil.UriEscapeType.QUERY_PARAM, this.encoding);
+        }
+        this.size++;
+
+        return this;
+
+    }
+
+
+    /**
+     * <p>
+     *   Append a parameter of a parsed query string, exactly as it appears in it (without unescaping and escaping
+     *   it again). Note this means the parameter will keep the encoding of the parsed query string.
+     * </p>
+     *
+     * @param queryString the parsed query string.
+     * @param index the index of the parameter in the parsed query string.
+     * @return this builder.
+     */
+    public UriQueryStringBuilder append(final UriQueryString queryString, final int index) {
+
+        if (queryString == null) {
+            throw new IllegalArgumentException("Argument 'queryString' cannot be null");
+        }
+
+        final int start = queryString.getStart(index);
+        final int end = queryString.getEnd(index);
+
+        if (this.size > 0) {
+            this.strBuilder.append('&');
+        }
+        this.strBuilder.append(queryString.getText(), start, end);
+        this.size++;
+
+        return this;
+
+    }
+
+
+    /**
+     * <p>
+     *   Returns the number of parameters appended to this builder.
+     * </p>
+     *
+     * @return the number of parameters.
+     */
+    public int size() {
+        return this.size;
+    }
+
+
+    /**
+     * <p>
+     *   Returns the <kbd>StringBuilder</kbd> to which this builder appends parameters.
+     * </p>
+     *
+     * @return the <kbd>StringBuilder</kbd>.
+     */
+    public StringBuilder getStringBuilder() {
+        return this.strBuilder;
+    }
+
+
+    /**
+     * <p>
+     *   Returns the contents of the <kbd>StringBuilder</kbd> to which this builder appends parameters. Note these
+     *   will include anything the <kbd>StringBuilder</kbd> already contained when this builder was created.
+     * </p>
+     *
+     * @return the contents of the <kbd>StringBuilder</kbd>.
+     */
+    @Override
+    public String toString() {
+        return this.strBuilder.toString();
+    }
+
+
+}
@@ -22,6 +22,10 @@
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.CharBuffer;
+
+import org.unbescape.ChunkedUnescaper;
+import org.unbescape.EscapingWriter;
 
 /**
  * <p>
@@ -73,7 +77,7 @@
  * <strong><u>Input/Output</u></strong>
  *
  * <p>
- *   There are four different input/output modes that can be used in escape/unescape operations:
+ *   There are five different input/output modes that can be used in escape/unescape operations:
  * </p>
  * <ul>
  *   <li><em><kbd>String</kbd> input, <kbd>String</kbd> output</em>: Input is specified as a <kbd>String</kbd> object
@@ -82,6 +86,9 @@
  *       are required</u>.</li>
  *   <li><em><kbd>String</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a String
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
+ *   <li><em><kbd>String</kbd> input, <kbd>StringBuilder</kbd> output</em>: Input will be read from a String
+ *       and output will be appended to the specified <kbd>StringBuilder</kbd>. This avoids creating intermediate
+ *       <kbd>String</kbd> objects when output is already being composed into a <kbd>StringBuilder</kbd>.</li>
  *   <li><em><kbd>java.io.Reader</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a Reader
  *       and output will be written into the specified <kbd>java.io.Writer</kbd>.</li>
  *   <li><em><kbd>char[]</kbd> input, <kbd>java.io.Writer</kbd> output</em>: Input will be read from a char array
@@ -91,6 +98,11 @@
  *       should be called with <kbd>offset = 0</kbd> and <kbd>len = text.length</kbd> in order to process
  *       the whole <kbd>char[]</kbd>.</li>
  * </ul>
+ * <p>
+ *   All <kbd>String</kbd>-input modes are also available for any other <kbd>java.lang.CharSequence</kbd>
+ *   implementation (e.g. <kbd>StringBuilder</kbd> or <kbd>java.nio.CharBuffer</kbd>), which will be processed
+ *   directly, without needing to create a <kbd>String</kbd> out of them first.
+ * </p>
  *
  * <strong><u>Glossary</u></strong>
  *
@@ -1167,29 +1179,6 @@ public static void escapeXml11Attribute(final String text, final Writer writer,
     }
 
 
-    /*
-     * Private escape method called from XML 1.0 and XML 1.1 public methods, once the correct
-     * symbol set has been selected.
-     */
-    private static void escapeXml(final String text, final Writer writer, final XmlEscapeSymbols symbols,
-                                  final XmlEscapeType type, final XmlEscapeLevel level)
-            throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
-
-        if (type == null) {
-            throw new IllegalArgumentException("The 'type' argument cannot be null");
-        }
-
-        if (level == null) {
-            throw new IllegalArgumentException("The 'level' argument cannot be null");
-        }
-
-        XmlEscapeUtil.escape(new InternalStringReader(text), writer, symbols, type, level);
-
-    }
 
 
 
@@ -1198,7 +1187,7 @@ private static void escapeXml(final String text, final Writer writer, final XmlE
     /**
      * <p>
      *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
@@ -1206,7 +1195,7 @@ private static void escapeXml(final String text, final Writer writer, final XmlE
      *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml10(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   This method calls {@link #escapeXml10(String, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the following
      *   preconfigured values:
      * </p>
      * <ul>
@@ -1219,16 +1208,14 @@ private static void escapeXml(final String text, final Writer writer, final XmlE
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeXml10Minimal(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML10_SYMBOLS,
+    public static void escapeXml10Minimal(final String text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
@@ -1237,7 +1224,7 @@ public static void escapeXml10Minimal(final Reader reader, final Writer writer)
     /**
      * <p>
      *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
@@ -1245,7 +1232,7 @@ public static void escapeXml10Minimal(final Reader reader, final Writer writer)
      *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml11(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   This method calls {@link #escapeXml11(String, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the following
      *   preconfigured values:
      * </p>
      * <ul>
@@ -1258,16 +1245,14 @@ public static void escapeXml10Minimal(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeXml11Minimal(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML11_SYMBOLS,
+    public static void escapeXml11Minimal(final String text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
@@ -1276,7 +1261,8 @@ public static void escapeXml11Minimal(final Reader reader, final Writer writer)
     /**
      * <p>
      *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input meant to be an XML attribute value, appending results to a
+     *   <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
@@ -1289,7 +1275,7 @@ public static void escapeXml11Minimal(final Reader reader, final Writer writer)
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml10(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   This method calls {@link #escapeXml10(String, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the following
      *   preconfigured values:
      * </p>
      * <ul>
@@ -1302,16 +1288,14 @@ public static void escapeXml11Minimal(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml10AttributeMinimal(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+    public static void escapeXml10AttributeMinimal(final String text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
@@ -1320,7 +1304,8 @@ public static void escapeXml10AttributeMinimal(final Reader reader, final Writer
     /**
      * <p>
      *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input meant to be an XML attribute value, appending results to a
+     *   <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
@@ -1333,7 +1318,7 @@ public static void escapeXml10AttributeMinimal(final Reader reader, final Writer
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml11(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   This method calls {@link #escapeXml11(String, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the following
      *   preconfigured values:
      * </p>
      * <ul>
@@ -1346,16 +1331,14 @@ public static void escapeXml10AttributeMinimal(final Reader reader, final Writer
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml11AttributeMinimal(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+    public static void escapeXml11AttributeMinimal(final String text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
@@ -1364,7 +1347,7 @@ public static void escapeXml11AttributeMinimal(final Reader reader, final Writer
     /**
      * <p>
      *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -1380,7 +1363,7 @@ public static void escapeXml11AttributeMinimal(final Reader reader, final Writer
      *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml10(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   This method calls {@link #escapeXml10(String, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the following
      *   preconfigured values:
      * </p>
      * <ul>
@@ -1393,16 +1376,14 @@ public static void escapeXml11AttributeMinimal(final Reader reader, final Writer
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeXml10(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML10_SYMBOLS,
+    public static void escapeXml10(final String text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
@@ -1411,7 +1392,7 @@ public static void escapeXml10(final Reader reader, final Writer writer)
     /**
      * <p>
      *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -1427,7 +1408,7 @@ public static void escapeXml10(final Reader reader, final Writer writer)
      *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml11(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   This method calls {@link #escapeXml11(String, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the following
      *   preconfigured values:
      * </p>
      * <ul>
@@ -1440,16 +1421,14 @@ public static void escapeXml10(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeXml11(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML11_SYMBOLS,
+    public static void escapeXml11(final String text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
@@ -1458,7 +1437,8 @@ public static void escapeXml11(final Reader reader, final Writer writer)
     /**
      * <p>
      *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input meant to be an XML attribute value, appending results to a
+     *   <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -1479,7 +1459,7 @@ public static void escapeXml11(final Reader reader, final Writer writer)
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml10(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   This method calls {@link #escapeXml10(String, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the following
      *   preconfigured values:
      * </p>
      * <ul>
@@ -1492,16 +1472,14 @@ public static void escapeXml11(final Reader reader, final Writer writer)
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml10Attribute(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+    public static void escapeXml10Attribute(final String text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
@@ -1510,7 +1488,8 @@ public static void escapeXml10Attribute(final Reader reader, final Writer writer
     /**
      * <p>
      *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>Reader</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     *   on a <kbd>String</kbd> input meant to be an XML attribute value, appending results to a
+     *   <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -1531,7 +1510,7 @@ public static void escapeXml10Attribute(final Reader reader, final Writer writer
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml11(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   This method calls {@link #escapeXml11(String, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the following
      *   preconfigured values:
      * </p>
      * <ul>
@@ -1544,16 +1523,14 @@ public static void escapeXml10Attribute(final Reader reader, final Writer writer
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml11Attribute(final Reader reader, final Writer writer)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+    public static void escapeXml11Attribute(final String text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
@@ -1561,8 +1538,8 @@ public static void escapeXml11Attribute(final Reader reader, final Writer writer
 
     /**
      * <p>
-     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -1570,32 +1547,31 @@ public static void escapeXml11Attribute(final Reader reader, final Writer writer
      *   argument values.
      * </p>
      * <p>
-     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
      * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeXml10(final Reader reader, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML10_SYMBOLS, type, level);
+    public static void escapeXml10(final String text, final StringBuilder strBuilder,
+                                   final XmlEscapeType type, final XmlEscapeLevel level) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_SYMBOLS, type, level);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -1603,32 +1579,31 @@ public static void escapeXml10(final Reader reader, final Writer writer, final X
      *   argument values.
      * </p>
      * <p>
-     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param text the <kbd>String</kbd> to be escaped.
      * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void escapeXml11(final Reader reader, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML11_SYMBOLS, type, level);
+    public static void escapeXml11(final String text, final StringBuilder strBuilder,
+                                   final XmlEscapeType type, final XmlEscapeLevel level) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_SYMBOLS, type, level);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>Reader</kbd> input
-     *   meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>String</kbd> input
+     *   meant to be an XML attribute value, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -1641,32 +1616,31 @@ public static void escapeXml11(final Reader reader, final Writer writer, final X
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>String</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
      * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml10Attribute(final Reader reader, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
+    public static void escapeXml10Attribute(final String text, final StringBuilder strBuilder,
+                                            final XmlEscapeType type, final XmlEscapeLevel level) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>Reader</kbd> input
-     *   meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>String</kbd> input
+     *   meant to be an XML attribute value, appending results to a <kbd>StringBuilder</kbd>.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -1679,25 +1653,24 @@ public static void escapeXml10Attribute(final Reader reader, final Writer writer
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one with preconfigured
-     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     *   All other <kbd>String</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param text the <kbd>String</kbd> to be escaped.
      * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
      * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml11Attribute(final Reader reader, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
-            throws IOException {
-        escapeXml(reader, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
+    public static void escapeXml11Attribute(final String text, final StringBuilder strBuilder,
+                                            final XmlEscapeType type, final XmlEscapeLevel level) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
     }
 
 
@@ -1705,7 +1678,7 @@ public static void escapeXml11Attribute(final Reader reader, final Writer writer
      * Private escape method called from XML 1.0 and XML 1.1 public methods, once the correct
      * symbol set has been selected.
      */
-    private static void escapeXml(final Reader reader, final Writer writer, final XmlEscapeSymbols symbols,
+    private static void escapeXml(final String text, final Writer writer, final XmlEscapeSymbols symbols,
                                   final XmlEscapeType type, final XmlEscapeLevel level)
             throws IOException {
 
@@ -1721,7 +1694,32 @@ private static void escapeXml(final Reader reader, final Writer writer, final Xm
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        XmlEscapeUtil.escape(reader, writer, symbols, type, level);
+        XmlEscapeUtil.escape(new InternalStringReader(text), writer, symbols, type, level);
+
+    }
+
+
+
+    /*
+     * Private escape method called from XML 1.0 and XML 1.1 public methods, once the correct
+     * symbol set has been selected.
+     */
+    private static void escapeXml(final String text, final StringBuilder strBuilder, final XmlEscapeSymbols symbols,
+                                  final XmlEscapeType type, final XmlEscapeLevel level) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        XmlEscapeUtil.escape(text, strBuilder, symbols, type, level);
 
     }
 
@@ -1729,10 +1727,12 @@ private static void escapeXml(final Reader reader, final Writer writer, final Xm
 
 
 
+
+
     /**
      * <p>
      *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
@@ -1740,9 +1740,8 @@ private static void escapeXml(final Reader reader, final Writer writer, final Xm
      *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
      * </p>
      * <p>
-     *   This method calls
-     *   {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeXml10(CharSequence, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -1754,16 +1753,15 @@ private static void escapeXml(final Reader reader, final Writer writer, final Xm
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeXml10Minimal(final char[] text, final int offset, final int len, final Writer writer)
-                                          throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_SYMBOLS,
+    public static String escapeXml10Minimal(final CharSequence text) {
+        return escapeXml(text, XmlEscapeSymbols.XML10_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
@@ -1772,7 +1770,7 @@ public static void escapeXml10Minimal(final char[] text, final int offset, final
     /**
      * <p>
      *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
@@ -1780,9 +1778,8 @@ public static void escapeXml10Minimal(final char[] text, final int offset, final
      *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
      * </p>
      * <p>
-     *   This method calls
-     *   {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeXml11(CharSequence, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -1794,16 +1791,15 @@ public static void escapeXml10Minimal(final char[] text, final int offset, final
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeXml11Minimal(final char[] text, final int offset, final int len, final Writer writer)
-                                          throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_SYMBOLS,
+    public static String escapeXml11Minimal(final CharSequence text) {
+        return escapeXml(text, XmlEscapeSymbols.XML11_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
@@ -1812,7 +1808,7 @@ public static void escapeXml11Minimal(final char[] text, final int offset, final
     /**
      * <p>
      *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input meant to be an XML attribute value.
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
@@ -1825,9 +1821,8 @@ public static void escapeXml11Minimal(final char[] text, final int offset, final
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   This method calls
-     *   {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeXml10(CharSequence, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -1839,18 +1834,15 @@ public static void escapeXml11Minimal(final char[] text, final int offset, final
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml10AttributeMinimal(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+    public static String escapeXml10AttributeMinimal(final CharSequence text) {
+        return escapeXml(text, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
@@ -1859,7 +1851,7 @@ public static void escapeXml10AttributeMinimal(final char[] text, final int offs
     /**
      * <p>
      *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input meant to be an XML attribute value.
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value.
      * </p>
      * <p>
      *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
@@ -1872,9 +1864,8 @@ public static void escapeXml10AttributeMinimal(final char[] text, final int offs
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   This method calls
-     *   {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeXml11(CharSequence, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -1886,18 +1877,15 @@ public static void escapeXml10AttributeMinimal(final char[] text, final int offs
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml11AttributeMinimal(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+    public static String escapeXml11AttributeMinimal(final CharSequence text) {
+        return escapeXml(text, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
@@ -1906,7 +1894,7 @@ public static void escapeXml11AttributeMinimal(final char[] text, final int offs
     /**
      * <p>
      *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -1922,8 +1910,8 @@ public static void escapeXml11AttributeMinimal(final char[] text, final int offs
      *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeXml10(CharSequence, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -1935,16 +1923,15 @@ public static void escapeXml11AttributeMinimal(final char[] text, final int offs
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeXml10(final char[] text, final int offset, final int len, final Writer writer)
-                                   throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_SYMBOLS,
+    public static String escapeXml10(final CharSequence text) {
+        return escapeXml(text, XmlEscapeSymbols.XML10_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
@@ -1953,7 +1940,7 @@ public static void escapeXml10(final char[] text, final int offset, final int le
     /**
      * <p>
      *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input.
+     *   on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -1969,8 +1956,8 @@ public static void escapeXml10(final char[] text, final int offset, final int le
      *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml11(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeXml11(CharSequence, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -1982,16 +1969,15 @@ public static void escapeXml10(final char[] text, final int offset, final int le
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeXml11(final char[] text, final int offset, final int len, final Writer writer)
-                                   throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_SYMBOLS,
+    public static String escapeXml11(final CharSequence text) {
+        return escapeXml(text, XmlEscapeSymbols.XML11_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
@@ -2000,7 +1986,7 @@ public static void escapeXml11(final char[] text, final int offset, final int le
     /**
      * <p>
      *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input meant to be an XML attribute value.
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -2021,8 +2007,8 @@ public static void escapeXml11(final char[] text, final int offset, final int le
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeXml10(CharSequence, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -2034,18 +2020,15 @@ public static void escapeXml11(final char[] text, final int offset, final int le
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml10Attribute(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+    public static String escapeXml10Attribute(final CharSequence text) {
+        return escapeXml(text, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
@@ -2054,7 +2037,7 @@ public static void escapeXml10Attribute(final char[] text, final int offset, fin
     /**
      * <p>
      *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
-     *   on a <kbd>char[]</kbd> input meant to be an XML attribute value.
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value.
      * </p>
      * <p>
      *   <em>Level 2</em> means this method will escape:
@@ -2075,8 +2058,8 @@ public static void escapeXml10Attribute(final char[] text, final int offset, fin
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   This method calls {@link #escapeXml11(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
-     *   with the following preconfigured values:
+     *   This method calls {@link #escapeXml11(CharSequence, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
      * <ul>
      *   <li><kbd>type</kbd>:
@@ -2088,18 +2071,15 @@ public static void escapeXml10Attribute(final char[] text, final int offset, fin
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
-     * @throws IOException if an input/output exception occurs
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml11Attribute(final char[] text, final int offset, final int len, final Writer writer)
-            throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+    public static String escapeXml11Attribute(final CharSequence text) {
+        return escapeXml(text, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
                 XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
                 XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
     }
@@ -2107,7 +2087,7 @@ public static void escapeXml11Attribute(final char[] text, final int offset, fin
 
     /**
      * <p>
-     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -2115,32 +2095,30 @@ public static void escapeXml11Attribute(final char[] text, final int offset, fin
      *   argument values.
      * </p>
      * <p>
-     *   All other <kbd>char[]</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one with preconfigured
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one with preconfigured
      *   <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
      * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeXml10(final char[] text, final int offset, final int len, final Writer writer,
-                                   final XmlEscapeType type, final XmlEscapeLevel level)
-                                   throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_SYMBOLS, type, level);
+    public static String escapeXml10(final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escapeXml(text, XmlEscapeSymbols.XML10_SYMBOLS, type, level);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
      * </p>
      * <p>
      *   This method will perform an escape operation according to the specified
@@ -2148,32 +2126,30 @@ public static void escapeXml10(final char[] text, final int offset, final int le
      *   argument values.
      * </p>
      * <p>
-     *   All other <kbd>char[]</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one with preconfigured
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one with preconfigured
      *   <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
      * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
      */
-    public static void escapeXml11(final char[] text, final int offset, final int len, final Writer writer,
-                                   final XmlEscapeType type, final XmlEscapeLevel level)
-                                   throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_SYMBOLS, type, level);
+    public static String escapeXml11(final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escapeXml(text, XmlEscapeSymbols.XML11_SYMBOLS, type, level);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>char[]</kbd> input
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input
      *   meant to be an XML attribute value.
      * </p>
      * <p>
@@ -2187,34 +2163,31 @@ public static void escapeXml11(final char[] text, final int offset, final int le
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   All other <kbd>char[]</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one with preconfigured
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one with preconfigured
      *   <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
      * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml10Attribute(final char[] text, final int offset, final int len, final Writer writer,
-                                   final XmlEscapeType type, final XmlEscapeLevel level)
-            throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
+    public static String escapeXml10Attribute(final CharSequence text,
+                                              final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escapeXml(text, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
     }
 
 
     /**
      * <p>
-     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>char[]</kbd> input
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input
      *   meant to be an XML attribute value.
      * </p>
      * <p>
@@ -2228,28 +2201,25 @@ public static void escapeXml10Attribute(final char[] text, final int offset, fin
      *   spaces) during future parsing operations.
      * </p>
      * <p>
-     *   All other <kbd>char[]</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one with preconfigured
+     *   All other <kbd>CharSequence</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one with preconfigured
      *   <kbd>type</kbd> and <kbd>level</kbd> values.
      * </p>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>char[]</kbd> to be escaped.
-     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
-     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
-     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
      * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
      * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
-     * @throws IOException if an input/output exception occurs
+     * @return The escaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no escaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
      *
-     * @since 1.1.5
+     * @since 1.1.7
      */
-    public static void escapeXml11Attribute(final char[] text, final int offset, final int len, final Writer writer,
-                                   final XmlEscapeType type, final XmlEscapeLevel level)
-            throws IOException {
-        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
+    public static String escapeXml11Attribute(final CharSequence text,
+                                              final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escapeXml(text, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
     }
 
 
@@ -2257,13 +2227,8 @@ public static void escapeXml11Attribute(final char[] text, final int offset, fin
      * Private escape method called from XML 1.0 and XML 1.1 public methods, once the correct
      * symbol set has been selected.
      */
-    private static void escapeXml(final char[] text, final int offset, final int len, final Writer writer,
-                                 final XmlEscapeSymbols symbols, final XmlEscapeType type, final XmlEscapeLevel level)
-                                 throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
+    private static String escapeXml(final CharSequence text, final XmlEscapeSymbols symbols,
+                                    final XmlEscapeType type, final XmlEscapeLevel level) {
 
         if (type == null) {
             throw new IllegalArgumentException("The 'type' argument cannot be null");
@@ -2273,124 +2238,3039 @@ private static void escapeXml(final char[] text, final int offset, final int len
             throw new IllegalArgumentException("The 'level' argument cannot be null");
         }
 
-        final int textLen = (text == null? 0 : text.length);
-
-        if (offset < 0 || offset > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        if (len < 0 || (offset + len) > textLen) {
-            throw new IllegalArgumentException(
-                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
-        }
-
-        XmlEscapeUtil.escape(text, offset, len, writer, symbols, type, level);
+        return XmlEscapeUtil.escape(text, symbols, type, level);
 
     }
 
 
-
-
     /**
      * <p>
-     *   Perform an XML <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
-     *   and hexadecimal references.
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
      * </p>
      * <p>
+     *   This method calls {@link #escapeXml10(CharSequence, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
-     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
-     *         no additional <kbd>String</kbd> objects will be created during processing). Will
-     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
      */
-    public static String unescapeXml(final String text) {
-        // The chosen symbols (1.0 or 1.1) don't really matter, as both contain the same CERs
-        if (text == null) {
-            return null;
-        }
-        if (text.indexOf('&') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            return text;
-        }
-        return XmlEscapeUtil.unescape(text, XmlEscapeSymbols.XML11_SYMBOLS);
+    public static void escapeXml10Minimal(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeXml(text, writer, XmlEscapeSymbols.XML10_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
 
 
     /**
      * <p>
-     *   Perform an XML <strong>unescape</strong> operation on a <kbd>String</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
-     *   and hexadecimal references.
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(CharSequence, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
      * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
      * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param text the <kbd>String</kbd> to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeXml(final String text, final Writer writer)
+    public static void escapeXml11Minimal(final CharSequence text, final Writer writer)
             throws IOException {
-
-        if (writer == null) {
-            throw new IllegalArgumentException("Argument 'writer' cannot be null");
-        }
-        if (text == null) {
-            return;
-        }
-        if (text.indexOf('&') < 0) {
-            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
-            writer.write(text);
-            return;
-        }
-
-        // The chosen symbols (1.0 or 1.1) don't really matter, as both contain the same CERs
-        XmlEscapeUtil.unescape(new InternalStringReader(text), writer, XmlEscapeSymbols.XML11_SYMBOLS);
-
+        escapeXml(text, writer, XmlEscapeSymbols.XML11_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
     }
 
 
     /**
      * <p>
-     *   Perform an XML <strong>unescape</strong> operation on a <kbd>Reader</kbd> input,
-     *   writing results to a <kbd>Writer</kbd>.
+     *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
      * </p>
      * <p>
-     *   No additional configuration arguments are required. Unescape operations
-     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
-     *   and hexadecimal references.
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
      * </p>
      * <p>
+     *   This method calls {@link #escapeXml10(CharSequence, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
      *   This method is <strong>thread-safe</strong>.
      * </p>
      *
-     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
-     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
      *               be written at all to this writer if input is <kbd>null</kbd>.
      * @throws IOException if an input/output exception occurs
      *
-     * @since 1.1.2
+     * @since 1.1.7
      */
-    public static void unescapeXml(final Reader reader, final Writer writer)
+    public static void escapeXml10AttributeMinimal(final CharSequence text, final Writer writer)
             throws IOException {
-
-        if (writer == null) {
+        escapeXml(text, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(CharSequence, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11AttributeMinimal(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeXml(text, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(CharSequence, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml10(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeXml(text, writer, XmlEscapeSymbols.XML10_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(CharSequence, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeXml(text, writer, XmlEscapeSymbols.XML11_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(CharSequence, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml10Attribute(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeXml(text, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(CharSequence, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11Attribute(final CharSequence text, final Writer writer)
+            throws IOException {
+        escapeXml(text, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml10(final CharSequence text, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+        escapeXml(text, writer, XmlEscapeSymbols.XML10_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11(final CharSequence text, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+        escapeXml(text, writer, XmlEscapeSymbols.XML11_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input
+     *   meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml10Attribute(final CharSequence text, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+        escapeXml(text, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input
+     *   meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one
+     *   with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11Attribute(final CharSequence text, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+        escapeXml(text, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(CharSequence, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml10Minimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(CharSequence, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11Minimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(CharSequence, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml10AttributeMinimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(CharSequence, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11AttributeMinimal(final CharSequence text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(CharSequence, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml10(final CharSequence text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(CharSequence, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11(final CharSequence text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(CharSequence, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml10Attribute(final CharSequence text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input meant to be an XML attribute value, appending results to a
+     *   <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(CharSequence, StringBuilder, XmlEscapeType, XmlEscapeLevel)} with the
+     *   following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11Attribute(final CharSequence text, final StringBuilder strBuilder) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml10(final CharSequence text, final StringBuilder strBuilder,
+                                   final XmlEscapeType type, final XmlEscapeLevel level) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11(final CharSequence text, final StringBuilder strBuilder,
+                                   final XmlEscapeType type, final XmlEscapeLevel level) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input
+     *   meant to be an XML attribute value, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml10Attribute(final CharSequence text, final StringBuilder strBuilder,
+                                            final XmlEscapeType type, final XmlEscapeLevel level) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input
+     *   meant to be an XML attribute value, appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   All other <kbd>CharSequence</kbd>/<kbd>StringBuilder</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this
+     *   one with preconfigured <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     *
+     * @since 1.1.7
+     */
+    public static void escapeXml11Attribute(final CharSequence text, final StringBuilder strBuilder,
+                                            final XmlEscapeType type, final XmlEscapeLevel level) {
+        escapeXml(text, strBuilder, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /*
+     * Private escape method called from XML 1.0 and XML 1.1 public methods, once the correct
+     * symbol set has been selected.
+     */
+    private static void escapeXml(final CharSequence text, final Writer writer, final XmlEscapeSymbols symbols,
+                                  final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        XmlEscapeUtil.escape(new InternalStringReader(text), writer, symbols, type, level);
+
+    }
+
+
+    /*
+     * Private escape method called from XML 1.0 and XML 1.1 public methods, once the correct
+     * symbol set has been selected.
+     */
+    private static void escapeXml(final CharSequence text, final StringBuilder strBuilder,
+                                  final XmlEscapeSymbols symbols, final XmlEscapeType type, final XmlEscapeLevel level) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        XmlEscapeUtil.escape(text, strBuilder, symbols, type, level);
+
+    }
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeXml10Minimal(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML10_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeXml11Minimal(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML11_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml10AttributeMinimal(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml11AttributeMinimal(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeXml10(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML10_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeXml11(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML11_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml10Attribute(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>Reader</kbd> input meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(Reader, Writer, XmlEscapeType, XmlEscapeLevel)} with the following
+     *   preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml11Attribute(final Reader reader, final Writer writer)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeXml10(final Reader reader, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML10_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void escapeXml11(final Reader reader, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML11_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>Reader</kbd> input
+     *   meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml10Attribute(final Reader reader, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>Reader</kbd> input
+     *   meant to be an XML attribute value, writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   All other <kbd>Reader</kbd>/<kbd>Writer</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml11Attribute(final Reader reader, final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+        escapeXml(reader, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /*
+     * Private escape method called from XML 1.0 and XML 1.1 public methods, once the correct
+     * symbol set has been selected.
+     */
+    private static void escapeXml(final Reader reader, final Writer writer, final XmlEscapeSymbols symbols,
+                                  final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        XmlEscapeUtil.escape(reader, writer, symbols, type, level);
+
+    }
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeXml10Minimal(final char[] text, final int offset, final int len, final Writer writer)
+                                          throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeXml11Minimal(final char[] text, final int offset, final int len, final Writer writer)
+                                          throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input meant to be an XML attribute value.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml10AttributeMinimal(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 1 (only markup-significant chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input meant to be an XML attribute value.
+     * </p>
+     * <p>
+     *   <em>Level 1</em> means this method will only escape the five markup-significant characters which
+     *   are <em>predefined</em> as Character Entity References in XML:
+     *   <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>, <kbd>&quot;</kbd> and <kbd>&#39;</kbd>.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls
+     *   {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_1_ONLY_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml11AttributeMinimal(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeXml10(final char[] text, final int offset, final int len, final Writer writer)
+                                   throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeXml11(final char[] text, final int offset, final int len, final Writer writer)
+                                   throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.0 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input meant to be an XML attribute value.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml10(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml10Attribute(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML 1.1 level 2 (markup-significant and all non-ASCII chars) <strong>escape</strong> operation
+     *   on a <kbd>char[]</kbd> input meant to be an XML attribute value.
+     * </p>
+     * <p>
+     *   <em>Level 2</em> means this method will escape:
+     * </p>
+     * <ul>
+     *   <li>The five markup-significant characters: <kbd>&lt;</kbd>, <kbd>&gt;</kbd>, <kbd>&amp;</kbd>,
+     *       <kbd>&quot;</kbd> and <kbd>&#39;</kbd></li>
+     *   <li>All non ASCII characters.</li>
+     * </ul>
+     * <p>
+     *   This escape will be performed by replacing those chars by the corresponding XML Character Entity References
+     *   (e.g. <kbd>'&amp;lt;'</kbd>) when such CER exists for the replaced character, and replacing by a hexadecimal
+     *   character reference (e.g. <kbd>'&amp;#x2430;'</kbd>) when there there is no CER for the replaced character.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   This method calls {@link #escapeXml11(char[], int, int, java.io.Writer, XmlEscapeType, XmlEscapeLevel)}
+     *   with the following preconfigured values:
+     * </p>
+     * <ul>
+     *   <li><kbd>type</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeType#CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA}</li>
+     *   <li><kbd>level</kbd>:
+     *       {@link org.unbescape.xml.XmlEscapeLevel#LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT}</li>
+     * </ul>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml11Attribute(final char[] text, final int offset, final int len, final Writer writer)
+            throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS,
+                XmlEscapeType.CHARACTER_ENTITY_REFERENCES_DEFAULT_TO_HEXA,
+                XmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>char[]</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeXml10(final char[] text, final int offset, final int len, final Writer writer,
+                                   final XmlEscapeType type, final XmlEscapeLevel level)
+                                   throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   All other <kbd>char[]</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     */
+    public static void escapeXml11(final char[] text, final int offset, final int len, final Writer writer,
+                                   final XmlEscapeType type, final XmlEscapeLevel level)
+                                   throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.0 <strong>escape</strong> operation on a <kbd>char[]</kbd> input
+     *   meant to be an XML attribute value.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   All other <kbd>char[]</kbd>-based <kbd>escapeXml10*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml10Attribute(final char[] text, final int offset, final int len, final Writer writer,
+                                   final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Perform a (configurable) XML 1.1 <strong>escape</strong> operation on a <kbd>char[]</kbd> input
+     *   meant to be an XML attribute value.
+     * </p>
+     * <p>
+     *   This method will perform an escape operation according to the specified
+     *   {@link org.unbescape.xml.XmlEscapeType} and {@link org.unbescape.xml.XmlEscapeLevel}
+     *   argument values.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   All other <kbd>char[]</kbd>-based <kbd>escapeXml11*(...)</kbd> methods call this one with preconfigured
+     *   <kbd>type</kbd> and <kbd>level</kbd> values.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.5
+     */
+    public static void escapeXml11Attribute(final char[] text, final int offset, final int len, final Writer writer,
+                                   final XmlEscapeType type, final XmlEscapeLevel level)
+            throws IOException {
+        escapeXml(text, offset, len, writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /*
+     * Private escape method called from XML 1.0 and XML 1.1 public methods, once the correct
+     * symbol set has been selected.
+     */
+    private static void escapeXml(final char[] text, final int offset, final int len, final Writer writer,
+                                 final XmlEscapeSymbols symbols, final XmlEscapeType type, final XmlEscapeLevel level)
+                                 throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        XmlEscapeUtil.escape(text, offset, len, writer, symbols, type, level);
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Obtain a pre-compiled XML 1.0 <strong>escaper</strong> for the specified type and level, which will perform
+     *   the same escape operations as the <kbd>escapeXml10(...)</kbd> methods in this class that receive the same
+     *   <kbd>type</kbd> and <kbd>level</kbd> arguments.
+     * </p>
+     * <p>
+     *   All the decisions depending on the escape type and level are taken only once when the escaper is created,
+     *   so code that escapes texts very frequently and always with the same type and level can obtain an escaper
+     *   once and use it for every escape operation.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, and so are the returned escapers.
+     * </p>
+     *
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the escaper.
+     *
+     * @since 1.1.7
+     */
+    public static XmlEscaper xml10Escaper(final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escaper(XmlEscapeSymbols.XML10_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Obtain a pre-compiled XML 1.1 <strong>escaper</strong> for the specified type and level, which will perform
+     *   the same escape operations as the <kbd>escapeXml11(...)</kbd> methods in this class that receive the same
+     *   <kbd>type</kbd> and <kbd>level</kbd> arguments.
+     * </p>
+     * <p>
+     *   All the decisions depending on the escape type and level are taken only once when the escaper is created,
+     *   so code that escapes texts very frequently and always with the same type and level can obtain an escaper
+     *   once and use it for every escape operation.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, and so are the returned escapers.
+     * </p>
+     *
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the escaper.
+     *
+     * @since 1.1.7
+     */
+    public static XmlEscaper xml11Escaper(final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escaper(XmlEscapeSymbols.XML11_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Obtain a pre-compiled XML 1.0 attribute value <strong>escaper</strong> for the specified type and level, which will perform
+     *   the same escape operations as the <kbd>escapeXml10Attribute(...)</kbd> methods in this class that receive the same
+     *   <kbd>type</kbd> and <kbd>level</kbd> arguments.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   All the decisions depending on the escape type and level are taken only once when the escaper is created,
+     *   so code that escapes texts very frequently and always with the same type and level can obtain an escaper
+     *   once and use it for every escape operation.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, and so are the returned escapers.
+     * </p>
+     *
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the escaper.
+     *
+     * @since 1.1.7
+     */
+    public static XmlEscaper xml10AttributeEscaper(final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escaper(XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Obtain a pre-compiled XML 1.1 attribute value <strong>escaper</strong> for the specified type and level, which will perform
+     *   the same escape operations as the <kbd>escapeXml11Attribute(...)</kbd> methods in this class that receive the same
+     *   <kbd>type</kbd> and <kbd>level</kbd> arguments.
+     * </p>
+     * <p>
+     *   Besides, being an attribute value also <kbd>&#92;t</kbd>, <kbd>&#92;n</kbd> and <kbd>&#92;r</kbd> will
+     *   be escaped to avoid white-space normalization from removing line feeds (turning them into white
+     *   spaces) during future parsing operations.
+     * </p>
+     * <p>
+     *   All the decisions depending on the escape type and level are taken only once when the escaper is created,
+     *   so code that escapes texts very frequently and always with the same type and level can obtain an escaper
+     *   once and use it for every escape operation.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, and so are the returned escapers.
+     * </p>
+     *
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the escaper.
+     *
+     * @since 1.1.7
+     */
+    public static XmlEscaper xml11AttributeEscaper(final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escaper(XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Obtain a <kbd>Writer</kbd> that performs an XML 1.0 <strong>escape</strong> operation on all the text written
+     *   through it, according to the specified type and level, and writes the escaped result to another
+     *   <kbd>Writer</kbd>. Results are exactly the same as those of the <kbd>escapeXml10(...)</kbd> methods in this
+     *   class that receive the same <kbd>type</kbd> and <kbd>level</kbd> arguments, applied on the whole text at once.
+     * </p>
+     * <p>
+     *   Text is escaped in blocks and escaped output is buffered, so {@link java.io.Writer#flush()} or {@link
+     *   java.io.Writer#close()} need to be called on the returned writer. See {@link org.unbescape.EscapingWriter} for
+     *   details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned writer is not.
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the escaping writer.
+     *
+     * @since 1.1.7
+     */
+    public static EscapingWriter xml10EscapingWriter(
+            final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escapingWriter(writer, XmlEscapeSymbols.XML10_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Obtain a <kbd>Writer</kbd> that performs an XML 1.1 <strong>escape</strong> operation on all the text written
+     *   through it, according to the specified type and level, and writes the escaped result to another
+     *   <kbd>Writer</kbd>. Results are exactly the same as those of the <kbd>escapeXml11(...)</kbd> methods in this
+     *   class that receive the same <kbd>type</kbd> and <kbd>level</kbd> arguments, applied on the whole text at once.
+     * </p>
+     * <p>
+     *   Text is escaped in blocks and escaped output is buffered, so {@link java.io.Writer#flush()} or {@link
+     *   java.io.Writer#close()} need to be called on the returned writer. See {@link org.unbescape.EscapingWriter} for
+     *   details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned writer is not.
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the escaping writer.
+     *
+     * @since 1.1.7
+     */
+    public static EscapingWriter xml11EscapingWriter(
+            final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escapingWriter(writer, XmlEscapeSymbols.XML11_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Obtain a <kbd>Writer</kbd> that performs an XML 1.0 attribute value <strong>escape</strong> operation on all
+     *   the text written through it, according to the specified type and level, and writes the escaped result to
+     *   another <kbd>Writer</kbd>. Results are exactly the same as those of the <kbd>escapeXml10Attribute(...)</kbd>
+     *   methods in this class that receive the same <kbd>type</kbd> and <kbd>level</kbd> arguments, applied on the
+     *   whole text at once.
+     * </p>
+     * <p>
+     *   Text is escaped in blocks and escaped output is buffered, so {@link java.io.Writer#flush()} or {@link
+     *   java.io.Writer#close()} need to be called on the returned writer. See {@link org.unbescape.EscapingWriter} for
+     *   details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned writer is not.
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the escaping writer.
+     *
+     * @since 1.1.7
+     */
+    public static EscapingWriter xml10AttributeEscapingWriter(
+            final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escapingWriter(writer, XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /**
+     * <p>
+     *   Obtain a <kbd>Writer</kbd> that performs an XML 1.1 attribute value <strong>escape</strong> operation on all
+     *   the text written through it, according to the specified type and level, and writes the escaped result to
+     *   another <kbd>Writer</kbd>. Results are exactly the same as those of the <kbd>escapeXml11Attribute(...)</kbd>
+     *   methods in this class that receive the same <kbd>type</kbd> and <kbd>level</kbd> arguments, applied on the
+     *   whole text at once.
+     * </p>
+     * <p>
+     *   Text is escaped in blocks and escaped output is buffered, so {@link java.io.Writer#flush()} or {@link
+     *   java.io.Writer#close()} need to be called on the returned writer. See {@link org.unbescape.EscapingWriter} for
+     *   details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned writer is not.
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written.
+     * @param type the type of escape operation to be performed, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be applied, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the escaping writer.
+     *
+     * @since 1.1.7
+     */
+    public static EscapingWriter xml11AttributeEscapingWriter(
+            final Writer writer, final XmlEscapeType type, final XmlEscapeLevel level) {
+        return escapingWriter(writer, XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
+    }
+
+
+    /*
+     * Private escaping writer method called from XML 1.0 and XML 1.1 public methods, once the correct
+     * symbol set has been selected.
+     */
+    private static EscapingWriter escapingWriter(final Writer writer, final XmlEscapeSymbols symbols,
+                                                 final XmlEscapeType type, final XmlEscapeLevel level) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        return new XmlEscapingWriter(writer, escaper(symbols, type, level));
+
+    }
+
+
+    /*
+     * Private escaper method called from XML 1.0 and XML 1.1 public methods, once the correct
+     * symbol set has been selected.
+     */
+    private static XmlEscaper escaper(final XmlEscapeSymbols symbols,
+                                      final XmlEscapeType type, final XmlEscapeLevel level) {
+
+        if (type == null) {
+            throw new IllegalArgumentException("The 'type' argument cannot be null");
+        }
+
+        if (level == null) {
+            throw new IllegalArgumentException("The 'level' argument cannot be null");
+        }
+
+        return XmlEscaper.forSymbolsTypeAndLevel(symbols, type, level);
+
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable)
+     *   XML 1.0 <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeXml10(CharSequence, XmlEscapeType, XmlEscapeLevel)} would
+     *   do with the same <kbd>type</kbd> and <kbd>level</kbd> (including the removal of chars not allowed in
+     *   XML), but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the position of the first char that would be escaped (or removed), or <kbd>-1</kbd> if the escape
+     *         operation would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableXml10(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        final XmlEscaper escaper = escaper(XmlEscapeSymbols.XML10_SYMBOLS, type, level);
+        return XmlEscapeUtil.indexOfFirstEscapable(text, escaper);
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) XML 1.0 <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether
+     *   {@link #escapeXml10(CharSequence, XmlEscapeType, XmlEscapeLevel)} returns a different text, but
+     *   no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeXml10(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        return (indexOfFirstEscapableXml10(text, type, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable)
+     *   XML 1.1 <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as {@link #escapeXml11(CharSequence, XmlEscapeType, XmlEscapeLevel)} would
+     *   do with the same <kbd>type</kbd> and <kbd>level</kbd> (including the removal of chars not allowed in
+     *   XML), but no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the position of the first char that would be escaped (or removed), or <kbd>-1</kbd> if the escape
+     *         operation would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableXml11(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        final XmlEscaper escaper = escaper(XmlEscapeSymbols.XML11_SYMBOLS, type, level);
+        return XmlEscapeUtil.indexOfFirstEscapable(text, escaper);
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) XML 1.1 <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether
+     *   {@link #escapeXml11(CharSequence, XmlEscapeType, XmlEscapeLevel)} returns a different text, but
+     *   no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeXml11(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        return (indexOfFirstEscapableXml11(text, type, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable)
+     *   XML 1.0 attribute value <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as
+     *   {@link #escapeXml10Attribute(CharSequence, XmlEscapeType, XmlEscapeLevel)} would do with the same
+     *   <kbd>type</kbd> and <kbd>level</kbd> (including the removal of chars not allowed in XML), but no objects
+     *   are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the position of the first char that would be escaped (or removed), or <kbd>-1</kbd> if the escape
+     *         operation would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableXml10Attribute(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        final XmlEscaper escaper = escaper(XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
+        return XmlEscapeUtil.indexOfFirstEscapable(text, escaper);
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) XML 1.0 attribute value <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether
+     *   {@link #escapeXml10Attribute(CharSequence, XmlEscapeType, XmlEscapeLevel)} returns a different text, but
+     *   no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeXml10Attribute(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        return (indexOfFirstEscapableXml10Attribute(text, type, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Find the first position in a <kbd>CharSequence</kbd> input that would be modified by a (configurable)
+     *   XML 1.1 attribute value <strong>escape</strong> operation, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The text is examined exactly as
+     *   {@link #escapeXml11Attribute(CharSequence, XmlEscapeType, XmlEscapeLevel)} would do with the same
+     *   <kbd>type</kbd> and <kbd>level</kbd> (including the removal of chars not allowed in XML), but no objects
+     *   are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the position of the first char that would be escaped (or removed), or <kbd>-1</kbd> if the escape
+     *         operation would not modify the text at all (or if input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int indexOfFirstEscapableXml11Attribute(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        final XmlEscaper escaper = escaper(XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
+        return XmlEscapeUtil.indexOfFirstEscapable(text, escaper);
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether a (configurable) XML 1.1 attribute value <strong>escape</strong> operation would modify a
+     *   <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether
+     *   {@link #escapeXml11Attribute(CharSequence, XmlEscapeType, XmlEscapeLevel)} returns a different text, but
+     *   no objects are created at all during the process.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return <kbd>true</kbd> if the escape operation would modify the text, <kbd>false</kbd> if not (or if input
+     *         is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresEscapeXml11Attribute(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        return (indexOfFirstEscapableXml11Attribute(text, type, level) >= 0);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) XML 1.0 <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeXml10(CharSequence, XmlEscapeType, XmlEscapeLevel)}, but no objects are created at all
+     *   during the process. This allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or
+     *   <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthXml10(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        final XmlEscaper escaper = escaper(XmlEscapeSymbols.XML10_SYMBOLS, type, level);
+        return XmlEscapeUtil.escapedLength(text, escaper);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) XML 1.1 <strong>escape</strong> operation
+     *   on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeXml11(CharSequence, XmlEscapeType, XmlEscapeLevel)}, but no objects are created at all
+     *   during the process. This allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or
+     *   <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthXml11(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        final XmlEscaper escaper = escaper(XmlEscapeSymbols.XML11_SYMBOLS, type, level);
+        return XmlEscapeUtil.escapedLength(text, escaper);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) XML 1.0 attribute value <strong>escape</strong>
+     *   operation on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeXml10Attribute(CharSequence, XmlEscapeType, XmlEscapeLevel)}, but no objects are created at all
+     *   during the process. This allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or
+     *   <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthXml10Attribute(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        final XmlEscaper escaper = escaper(XmlEscapeSymbols.XML10_ATTRIBUTE_SYMBOLS, type, level);
+        return XmlEscapeUtil.escapedLength(text, escaper);
+    }
+
+
+    /**
+     * <p>
+     *   Compute the exact length of the result of a (configurable) XML 1.1 attribute value <strong>escape</strong>
+     *   operation on a <kbd>CharSequence</kbd> input, without performing the escape operation itself.
+     * </p>
+     * <p>
+     *   The result is the same as the length of the text returned by
+     *   {@link #escapeXml11Attribute(CharSequence, XmlEscapeType, XmlEscapeLevel)}, but no objects are created at all
+     *   during the process. This allows sizing a <kbd>char[]</kbd>, <kbd>StringBuilder</kbd> or
+     *   <kbd>java.nio.CharBuffer</kbd> only once before escaping into it.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @param type the type of escape operation to be considered, see {@link org.unbescape.xml.XmlEscapeType}.
+     * @param level the escape level to be considered, see {@link org.unbescape.xml.XmlEscapeLevel}.
+     * @return the length (in chars) of the escaped result, or <kbd>0</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static long escapedLengthXml11Attribute(
+            final CharSequence text, final XmlEscapeType type, final XmlEscapeLevel level) {
+        final XmlEscaper escaper = escaper(XmlEscapeSymbols.XML11_ATTRIBUTE_SYMBOLS, type, level);
+        return XmlEscapeUtil.escapedLength(text, escaper);
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>unescape</strong> operation on a <kbd>String</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. As a memory-performance improvement, will return the exact
+     *         same object as the <kbd>text</kbd> input argument if no unescaping modifications were required (and
+     *         no additional <kbd>String</kbd> objects will be created during processing). Will
+     *         return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public static String unescapeXml(final String text) {
+        // The chosen symbols (1.0 or 1.1) don't really matter, as both contain the same CERs
+        if (text == null) {
+            return null;
+        }
+        if (text.indexOf('&') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            return text;
+        }
+        return XmlEscapeUtil.unescape(text, XmlEscapeSymbols.XML11_SYMBOLS);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>unescape</strong> operation on a <kbd>String</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeXml(final String text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('&') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            writer.write(text);
+            return;
+        }
+
+        // The chosen symbols (1.0 or 1.1) don't really matter, as both contain the same CERs
+        XmlEscapeUtil.unescape(new InternalStringReader(text), writer, XmlEscapeSymbols.XML11_SYMBOLS);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>unescape</strong> operation on a <kbd>String</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>String</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeXml(final String text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text.indexOf('&') < 0) {
+            // Fail fast, avoid more complex (and less JIT-table) method to execute if not needed
+            strBuilder.append(text);
+            return;
+        }
+
+        // The chosen symbols (1.0 or 1.1) don't really matter, as both contain the same CERs
+        XmlEscapeUtil.unescape(text, strBuilder, XmlEscapeSymbols.XML11_SYMBOLS);
+
+    }
+
+
+
+
+
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @return The unescaped result <kbd>String</kbd>. If <kbd>text</kbd> is a <kbd>String</kbd> and no unescaped
+     *         modifications were required, the exact same object will be returned. Will return
+     *         <kbd>null</kbd> if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static String unescapeXml(final CharSequence text) {
+        // The chosen symbols (1.0 or 1.1) don't really matter, as both contain the same CERs
+        if (text == null) {
+            return null;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            return unescapeXml((String) text);
+        }
+        return XmlEscapeUtil.unescape(text, XmlEscapeSymbols.XML11_SYMBOLS);
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeXml(final CharSequence text, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeXml((String) text, writer);
+            return;
+        }
+
+        // The chosen symbols (1.0 or 1.1) don't really matter, as both contain the same CERs
+        XmlEscapeUtil.unescape(new InternalStringReader(text), writer, XmlEscapeSymbols.XML11_SYMBOLS);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>unescape</strong> operation on a <kbd>CharSequence</kbd> input,
+     *   appending results to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be unescaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the unescaped result will be appended. Nothing
+     *                   will be appended at all to this builder if input is <kbd>null</kbd>.
+     *
+     * @since 1.1.7
+     */
+    public static void unescapeXml(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+        if (text == null) {
+            return;
+        }
+        if (text instanceof String) {
+            // The String-based method can fail fast if nothing needs to be unescaped
+            unescapeXml((String) text, strBuilder);
+            return;
+        }
+
+        // The chosen symbols (1.0 or 1.1) don't really matter, as both contain the same CERs
+        XmlEscapeUtil.unescape(text, strBuilder, XmlEscapeSymbols.XML11_SYMBOLS);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>unescape</strong> operation on a <kbd>Reader</kbd> input,
+     *   writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be unescaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     *
+     * @since 1.1.2
+     */
+    public static void unescapeXml(final Reader reader, final Writer writer)
+            throws IOException {
+
+        if (writer == null) {
             throw new IllegalArgumentException("Argument 'writer' cannot be null");
         }
 
@@ -2446,6 +5326,118 @@ public static void unescapeXml(final char[] text, final int offset, final int le
 
 
 
+    /**
+     * <p>
+     *   Perform an XML XML <strong>unescape</strong> operation on a <kbd>char[]</kbd> input, writing the result
+     *   back into the same <kbd>char[]</kbd> (<em>in place</em>) and returning its length.
+     * </p>
+     * <p>
+     *   No additional configuration arguments are required. Unescape operations
+     *   will always perform <em>complete</em> XML 1.0/1.1 unescape of CERs, decimal
+     *   and hexadecimal references.
+     * </p>
+     * <p>
+     *   As unescaping never makes text longer, the result always fits in the <kbd>[offset, offset + len)</kbd>
+     *   range that is being unescaped, and chars outside it are never modified. The contents of the range after
+     *   the returned length are undefined. No output buffers or <kbd>String</kbd> objects are created during
+     *   this operation, and text before the first escape sequence is not even copied.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong> as long as no other threads access the same range of
+     *   <kbd>text</kbd> during the operation.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be unescaped.
+     * @param offset the position in <kbd>text</kbd> at which the unescape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be unescaped.
+     * @return the length of the unescaped result, which starts at <kbd>offset</kbd> in <kbd>text</kbd>
+     *         (<kbd>0</kbd> if <kbd>text</kbd> is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static int unescapeXmlInPlace(final char[] text, final int offset, final int len) {
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (text == null) {
+            return 0;
+        }
+
+        return XmlEscapeUtil.unescapeInPlace(text, offset, len, XmlEscapeSymbols.XML11_SYMBOLS);
+
+    }
+
+
+
+
+
+    /**
+     * <p>
+     *   Obtain a <strong>chunked unescaper</strong> that performs an XML <strong>unescape</strong> operation on a text
+     *   received as a sequence of chunks (e.g. network buffers), writing results to a <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   Chunks can be split at any point, even in the middle of references, and results will be exactly the same as
+     *   those of {@link #unescapeXml(String)} on the concatenation of all the chunks. The end of the text must be
+     *   signaled by calling {@link org.unbescape.ChunkedUnescaper#finish()}. See {@link org.unbescape.ChunkedUnescaper}
+     *   for details.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>, but the returned unescaper is not (it keeps the state of the text
+     *   being unescaped).
+     * </p>
+     *
+     * @param writer the <kbd>java.io.Writer</kbd> to which the unescaped result will be written.
+     * @return the unescaper.
+     *
+     * @since 1.1.7
+     */
+    public static ChunkedUnescaper chunkedUnescaper(final Writer writer) {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        return new XmlChunkedUnescaper(writer);
+
+    }
+
+
+    /**
+     * <p>
+     *   Determine whether an XML <strong>unescape</strong> operation would modify a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   The result is the same as checking whether {@link #unescapeXml(CharSequence)} returns a different text.
+     *   Texts that do not contain any <kbd>&amp;</kbd> chars are discarded without creating any objects at all,
+     *   which makes this method adequate for checking (or caching) values that only rarely contain references.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be examined.
+     * @return <kbd>true</kbd> if the unescape operation would modify the text, <kbd>false</kbd> if not (or if
+     *         input is <kbd>null</kbd>).
+     *
+     * @since 1.1.7
+     */
+    public static boolean requiresUnescapeXml(final CharSequence text) {
+        // The chosen symbols (1.0 or 1.1) don't really matter, as both contain the same CERs
+        return XmlEscapeUtil.requiresUnescape(text, XmlEscapeSymbols.XML11_SYMBOLS);
+    }
+
+
 
 
     private XmlEscape() {
@@ -2458,16 +5450,19 @@ private XmlEscape() {
      * This is basically a very simplified, thread-unsafe version of StringReader that should
      * perform better than the original StringReader by removing all synchronization structures.
      *
+     * It can read from any CharSequence. Bulk reads are specialized for String, StringBuilder and
+     * array-backed CharBuffer objects so that, for those, chars are copied without calling charAt(...).
+     *
      * Note the only implemented methods are those that we know are really used from within the
      * stream-based escape/unescape operations.
      */
     private static final class InternalStringReader extends Reader {
 
-        private String str;
+        private CharSequence str;
         private int length;
         private int next = 0;
 
-        public InternalStringReader(final String s) {
+        public InternalStringReader(final CharSequence s) {
             super();
             this.str = s;
             this.length = s.length();
@@ -2493,7 +5488,19 @@ public int read(final char[] cbuf, final int off, final int len) throws IOExcept
                 return -1;
             }
             int n = Math.min(this.length - this.next, len);
-            this.str.getChars(this.next, this.next + n, cbuf, off);
+            if (this.str instanceof String) {
+                ((String) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof StringBuilder) {
+                ((StringBuilder) this.str).getChars(this.next, this.next + n, cbuf, off);
+            } else if (this.str instanceof CharBuffer && ((CharBuffer) this.str).hasArray()) {
+                final CharBuffer charBuffer = (CharBuffer) this.str;
+                System.arraycopy(
+                        charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + this.next, cbuf, off, n);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = this.str.charAt(this.next + i);
+                }
+            }
             this.next += n;
             return n;
         }
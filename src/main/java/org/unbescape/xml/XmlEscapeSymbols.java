@@ -19,12 +19,21 @@
  */
 package org.unbescape.xml;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
+import org.unbescape.EscapeScanner;
+
 /**
  * <p>
  *   Instances of this class group all the complex data structures needed to support escape and unescape
@@ -102,13 +111,51 @@ final class XmlEscapeSymbols {
     static final XmlEscapeSymbols XML11_ATTRIBUTE_SYMBOLS;
 
 
+    /*
+     * Symbols are read from binary resources precomputed at build time (see XmlEscapeSymbolsGenerator, at
+     * src/build/java), so that the ranges of chars not allowed by each XML version (which need examining every
+     * char in the BMP) do not need to be computed at runtime, nor the references sorted. Only if these resources
+     * are not available (e.g. when running directly from an IDE's output folder) are the symbols built from the
+     * initializer classes.
+     */
+
+    static final String XML10_SYMBOLS_RESOURCE_NAME = "Xml10EscapeSymbols.bin";
+    static final String XML11_SYMBOLS_RESOURCE_NAME = "Xml11EscapeSymbols.bin";
+    static final String XML10_ATTRIBUTE_SYMBOLS_RESOURCE_NAME = "Xml10AttributeEscapeSymbols.bin";
+    static final String XML11_ATTRIBUTE_SYMBOLS_RESOURCE_NAME = "Xml11AttributeEscapeSymbols.bin";
+
+    /*
+     * Header of the binary resources containing precomputed symbols ("UBXS": UnBescape Xml Symbols), and version
+     * of their format. Resources with a different version will be ignored (and symbols built at runtime).
+     */
+    private static final int SYMBOLS_RESOURCE_MAGIC = 0x55425853;
+    private static final int SYMBOLS_RESOURCE_VERSION = 1;
+
+
 
     static {
 
-        XML10_SYMBOLS = Xml10EscapeSymbolsInitializer.initializeXml10(false);
-        XML11_SYMBOLS = Xml11EscapeSymbolsInitializer.initializeXml11(false);
-        XML10_ATTRIBUTE_SYMBOLS = Xml10EscapeSymbolsInitializer.initializeXml10(true);
-        XML11_ATTRIBUTE_SYMBOLS = Xml11EscapeSymbolsInitializer.initializeXml11(true);
+        final XmlEscapeSymbols xml10Symbols =
+                readSymbols(XML10_SYMBOLS_RESOURCE_NAME, new Xml10EscapeSymbolsInitializer.Xml10CodepointValidator());
+        final XmlEscapeSymbols xml11Symbols =
+                readSymbols(XML11_SYMBOLS_RESOURCE_NAME, new Xml11EscapeSymbolsInitializer.Xml11CodepointValidator());
+        final XmlEscapeSymbols xml10AttributeSymbols =
+                readSymbols(XML10_ATTRIBUTE_SYMBOLS_RESOURCE_NAME,
+                        new Xml10EscapeSymbolsInitializer.Xml10CodepointValidator());
+        final XmlEscapeSymbols xml11AttributeSymbols =
+                readSymbols(XML11_ATTRIBUTE_SYMBOLS_RESOURCE_NAME,
+                        new Xml11EscapeSymbolsInitializer.Xml11CodepointValidator());
+
+        XML10_SYMBOLS =
+                (xml10Symbols != null? xml10Symbols : Xml10EscapeSymbolsInitializer.initializeXml10(false));
+        XML11_SYMBOLS =
+                (xml11Symbols != null? xml11Symbols : Xml11EscapeSymbolsInitializer.initializeXml11(false));
+        XML10_ATTRIBUTE_SYMBOLS =
+                (xml10AttributeSymbols != null?
+                        xml10AttributeSymbols : Xml10EscapeSymbolsInitializer.initializeXml10(true));
+        XML11_ATTRIBUTE_SYMBOLS =
+                (xml11AttributeSymbols != null?
+                        xml11AttributeSymbols : Xml11EscapeSymbolsInitializer.initializeXml11(true));
 
     }
 
@@ -136,6 +183,19 @@ final class XmlEscapeSymbols {
      */
     final byte[] ESCAPE_LEVELS = new byte[LEVELS_LEN];
 
+    /*
+     * This array will hold the scanners used for quickly skipping chars that will never need escaping, one
+     * per escape level (0 to 4). Besides ESCAPE_LEVELS, these also consider candidates all the chars that are
+     * not valid for the CODEPOINT_VALIDATOR (as the escape loops need to discard them).
+     */
+    final EscapeScanner[] ESCAPE_SCANNERS = new EscapeScanner[5];
+
+    /*
+     * This array will hold the (pre-compiled) escapers using these symbols, one per escape type and level
+     * combination. They are created on demand by XmlEscaper.
+     */
+    final XmlEscaper[] ESCAPERS = new XmlEscaper[XmlEscapeType.values().length * XmlEscapeLevel.values().length];
+
     /*
      * This array will contain all the codepoints that might be escaped, numerically ordered.
      * - Positions in this array will correspond to positions in the SORTED_CERS_BY_CODEPOINT array, so that one array
@@ -175,6 +235,12 @@ final class XmlEscapeSymbols {
      */
     final XmlCodepointValidator CODEPOINT_VALIDATOR;
 
+    /*
+     * Ranges of chars (in the BMP) not allowed by CODEPOINT_VALIDATOR, as (inclusive) pairs of range limits. Only
+     * kept for writing them into the binary resources precomputed at build time.
+     */
+    private final char[] INVALID_CHAR_RANGES;
+
 
 
 
@@ -194,6 +260,12 @@ final class XmlEscapeSymbols {
         // Initialize escape levels: just copy the array
         System.arraycopy(escapeLevels, 0, ESCAPE_LEVELS, 0, LEVELS_LEN);
 
+        // Initialize the escape scanners, one per level, also including the ranges of invalid chars
+        INVALID_CHAR_RANGES = computeInvalidCharRanges(codepointValidator);
+        for (int level = 0; level < ESCAPE_SCANNERS.length; level++) {
+            ESCAPE_SCANNERS[level] = EscapeScanner.forEscapeLevels(ESCAPE_LEVELS, level, INVALID_CHAR_RANGES);
+        }
+
         // Initialize the length of the escaping structures
         final int structureLen = references.references.size();
 
@@ -257,11 +329,165 @@ public int compare(final char[] o1, final char[] o2) {
 
 
     /*
-     * These two methods (two versions: for String and for char[]) compare each of the candidate
+     * Create a new XmlEscapeSymbols structure from the contents of a binary resource precomputed at build time
+     * (see writeSymbols(...) for its format). All structures are read exactly as they were computed by the
+     * constructor above, so that no sorting or validation of chars is needed at all. The codepoint validator
+     * cannot be precomputed, so it has to be the same one the resource was computed with.
+     */
+    private XmlEscapeSymbols(final ByteBuffer buffer, final XmlCodepointValidator codepointValidator) {
+
+        super();
+
+        this.CODEPOINT_VALIDATOR = codepointValidator;
+
+        buffer.get(ESCAPE_LEVELS);
+
+        INVALID_CHAR_RANGES = new char[buffer.getInt()];
+        buffer.asCharBuffer().get(INVALID_CHAR_RANGES);
+        buffer.position(buffer.position() + (INVALID_CHAR_RANGES.length * 2));
+
+        // Initialize the escape scanners, one per level, also including the ranges of invalid chars
+        for (int level = 0; level < ESCAPE_SCANNERS.length; level++) {
+            ESCAPE_SCANNERS[level] = EscapeScanner.forEscapeLevels(ESCAPE_LEVELS, level, INVALID_CHAR_RANGES);
+        }
+
+        SORTED_CODEPOINTS = readInts(buffer);
+        SORTED_CERS_BY_CODEPOINT = readCers(buffer);
+        SORTED_CERS = readCers(buffer);
+        SORTED_CODEPOINTS_BY_CER = readInts(buffer);
+
+    }
+
+
+    private static int[] readInts(final ByteBuffer buffer) {
+        final int[] values = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + (values.length * 4));
+        return values;
+    }
+
+
+    // CERs are pure ASCII, so they are stored as bytes, each of them preceded by its length
+    private static char[][] readCers(final ByteBuffer buffer) {
+        final char[][] cers = new char[buffer.getInt()][];
+        for (int i = 0; i < cers.length; i++) {
+            final char[] cer = new char[buffer.get()];
+            for (int j = 0; j < cer.length; j++) {
+                cer[j] = (char) buffer.get();
+            }
+            cers[i] = cer;
+        }
+        return cers;
+    }
+
+
+
+
+    /*
+     * Read a XmlEscapeSymbols structure from a binary resource precomputed at build time, returning null if the
+     * resource does not exist or cannot be read (in which case the symbols will need to be built at runtime).
+     */
+    static XmlEscapeSymbols readSymbols(final String resourceName, final XmlCodepointValidator codepointValidator) {
+
+        final InputStream inputStream = XmlEscapeSymbols.class.getResourceAsStream(resourceName);
+        if (inputStream == null) {
+            return null;
+        }
+
+        try {
+
+            // The whole resource is read at once, and then all structures are directly copied from it
+            final DataInputStream dataInputStream = new DataInputStream(inputStream);
+            if (dataInputStream.readInt() != SYMBOLS_RESOURCE_MAGIC ||
+                    dataInputStream.readInt() != SYMBOLS_RESOURCE_VERSION) {
+                return null;
+            }
+            final byte[] contents = new byte[dataInputStream.readInt()];
+            dataInputStream.readFully(contents);
+
+            return new XmlEscapeSymbols(ByteBuffer.wrap(contents), codepointValidator);
+
+        } catch (final IOException e) {
+            return null;
+        } catch (final RuntimeException e) {
+            // Malformed resource (e.g. BufferUnderflowException). Symbols will be built at runtime instead.
+            return null;
+        } finally {
+            try {
+                inputStream.close();
+            } catch (final IOException ignored) {
+                // Nothing to do
+            }
+        }
+
+    }
+
+
+    /*
+     * Write this XmlEscapeSymbols structure in the binary format read by readSymbols(...). This is only executed
+     * at build time (see XmlEscapeSymbolsGenerator).
+     *
+     * All values are big-endian. After a header with a magic number, a format version and the length of the rest
+     * of the contents, these are: ESCAPE_LEVELS, the invalid char ranges, SORTED_CODEPOINTS,
+     * SORTED_CERS_BY_CODEPOINT, SORTED_CERS and SORTED_CODEPOINTS_BY_CER. All arrays not having a fixed size are
+     * preceded by their length.
+     */
+    void writeSymbols(final OutputStream outputStream) throws IOException {
+
+        final ByteArrayOutputStream contentsStream = new ByteArrayOutputStream(1024);
+        final DataOutputStream contents = new DataOutputStream(contentsStream);
+
+        contents.write(ESCAPE_LEVELS);
+
+        contents.writeInt(INVALID_CHAR_RANGES.length);
+        for (final char c : INVALID_CHAR_RANGES) {
+            contents.writeChar(c);
+        }
+
+        writeInts(contents, SORTED_CODEPOINTS);
+        writeCers(contents, SORTED_CERS_BY_CODEPOINT);
+        writeCers(contents, SORTED_CERS);
+        writeInts(contents, SORTED_CODEPOINTS_BY_CER);
+
+        contents.flush();
+
+        final DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(SYMBOLS_RESOURCE_MAGIC);
+        output.writeInt(SYMBOLS_RESOURCE_VERSION);
+        output.writeInt(contentsStream.size());
+        contentsStream.writeTo(output);
+        output.flush();
+
+    }
+
+
+    private static void writeInts(final DataOutputStream output, final int[] values) throws IOException {
+        output.writeInt(values.length);
+        for (final int value : values) {
+            output.writeInt(value);
+        }
+    }
+
+
+    private static void writeCers(final DataOutputStream output, final char[][] cers) throws IOException {
+        output.writeInt(cers.length);
+        for (final char[] cer : cers) {
+            output.writeByte(cer.length);
+            for (final char c : cer) {
+                output.writeByte(c);
+            }
+        }
+    }
+
+
+
+
+    /*
+     * These two methods (two versions: for CharSequence and for char[]) compare each of the candidate
      * text fragments with an CER coming from the SORTED_CERS array, during binary search operations.
      */
 
-    private static int compare(final char[] cer, final String text, final int start, final int end) {
+    private static int compare(final char[] cer, final CharSequence text, final int start, final int end) {
         final int textLen = end - start;
         final int maxCommon = Math.min(cer.length, textLen);
         int i;
@@ -308,13 +534,13 @@ private static int compare(final char[] cer, final char[] text, final int start,
 
 
     /*
-     * These two methods (two versions: for String and for char[]) are used during unescape at the
+     * These two methods (two versions: for CharSequence and for char[]) are used during unescape at the
      * {@link XmlEscapeUtil} class in order to quickly find the entity corresponding to a preselected fragment
      * of text (if there is such entity).
      */
 
     static int binarySearch(final char[][] values,
-                            final String text, final int start, final int end) {
+                            final CharSequence text, final int start, final int end) {
 
         int low = 0;
         int high = values.length - 1;
@@ -370,6 +596,39 @@ static int binarySearch(final char[][] values,
     }
 
 
+    /*
+     * Compute the ranges of chars (in the BMP) that the specified validator considers invalid, as (inclusive)
+     * pairs of range limits. Surrogate chars will be included as they are invalid codepoints on their own.
+     */
+    private static char[] computeInvalidCharRanges(final XmlCodepointValidator codepointValidator) {
+
+        final List<Character> limits = new ArrayList<Character>(8);
+
+        int rangeStart = -1;
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            final boolean invalid = !codepointValidator.isValid(c);
+            if (invalid && rangeStart < 0) {
+                rangeStart = c;
+            } else if (!invalid && rangeStart >= 0) {
+                limits.add(Character.valueOf((char)rangeStart));
+                limits.add(Character.valueOf((char)(c - 1)));
+                rangeStart = -1;
+            }
+        }
+        if (rangeStart >= 0) {
+            limits.add(Character.valueOf((char)rangeStart));
+            limits.add(Character.valueOf(Character.MAX_VALUE));
+        }
+
+        final char[] ranges = new char[limits.size()];
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = limits.get(i).charValue();
+        }
+        return ranges;
+
+    }
+
+
 
 
 
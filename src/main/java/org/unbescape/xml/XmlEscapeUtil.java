@@ -22,7 +22,12 @@
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
-import java.util.Arrays;
+
+import org.unbescape.EscapeFamily;
+import org.unbescape.EscapeMetricsRecorder;
+import org.unbescape.EscapeOperationType;
+import org.unbescape.EscapeScanner;
+import org.unbescape.InPlaceCharArrayWriter;
 
 /**
  * <p>
@@ -76,8 +81,6 @@ final class XmlEscapeUtil {
     private static final char REFERENCE_PREFIX = '&';
     private static final char REFERENCE_NUMERIC_PREFIX2 = '#';
     private static final char REFERENCE_HEXA_PREFIX3 = 'x';
-    private static final char[] REFERENCE_DECIMAL_PREFIX = "&#".toCharArray();
-    private static final char[] REFERENCE_HEXA_PREFIX = "&#x".toCharArray();
     private static final char REFERENCE_SUFFIX = ';';
 
     /*
@@ -88,6 +91,24 @@ final class XmlEscapeUtil {
     private static char[] HEXA_CHARS_UPPER = "0123456789ABCDEF".toCharArray();
     private static char[] HEXA_CHARS_LOWER = "0123456789abcdef".toCharArray();
 
+    /*
+     * Size of the buffer used for reading chunks of text from Readers
+     */
+    private static final int READER_BUFFER_SIZE = 2048;
+
+    /*
+     * Scanner used for quickly discarding texts that do not contain any references at all, and therefore
+     * never need unescaping
+     */
+    private static final EscapeScanner UNESCAPE_SCANNER =
+            EscapeScanner.forCandidateRanges(new char[] { REFERENCE_PREFIX, REFERENCE_PREFIX });
+
+    /*
+     * Maximum length of a numeric reference in chars ('&#x' + 6 hexa / '&#' + 7 decimal + ';'), used for sizing
+     * the buffers in which numeric references are written without creating any intermediate objects.
+     */
+    static final int REFERENCE_MAX_CHARS = 10;
+
 
 
 
@@ -100,58 +121,131 @@ private XmlEscapeUtil() {
 
 
     /*
-     * Perform an escape operation, based on String, according to the specified level and type.
+     * Perform an escape operation, based on CharSequence, according to the specified level and type.
      */
-    static String escape(final String text, final XmlEscapeSymbols symbols,
+    static String escape(final CharSequence text, final XmlEscapeSymbols symbols,
                          final XmlEscapeType escapeType, final XmlEscapeLevel escapeLevel) {
 
         if (text == null) {
             return null;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useCERs = escapeType.getUseCERs();
-        final boolean useHexa = escapeType.getUseHexa();
+        final StringBuilder strBuilder = escape(text, null, symbols, escapeType, escapeLevel);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, according to the specified level and type, appending the
+     * result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output,
+                                final XmlEscapeSymbols symbols, final XmlEscapeType escapeType,
+                                final XmlEscapeLevel escapeLevel) {
+        return escape(text, output, XmlEscaper.forSymbolsTypeAndLevel(symbols, escapeType, escapeLevel));
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on CharSequence, by means of the specified (pre-compiled) escaper,
+     * appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some escape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder escape(final CharSequence text, final StringBuilder output, final XmlEscaper escaper) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.XML, EscapeOperationType.ESCAPE));
+        if (recorder == null) {
+            return escapeCharSequence(text, output, escaper);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = escapeCharSequence(text, null, escaper);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
 
-        StringBuilder strBuilder = null;
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder escapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                    final XmlEscaper escaper) {
+
+        if (text == null) {
+            return output;
+        }
+
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+        final XmlCodepointValidator codepointValidator = escaper.SYMBOLS.CODEPOINT_VALIDATOR;
+
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
 
         int readOffset = offset;
 
-        for (int i = offset; i < max; i++) {
-
-            final int codepoint = Character.codePointAt(text, i);
-
+        final EscapeScanner scanner = escaper.SCANNER;
 
-            boolean codepointValid = symbols.CODEPOINT_VALIDATOR.isValid(codepoint);
+        // Only created if a numeric reference is actually needed
+        char[] referenceBuffer = null;
 
+        for (int i = offset; i < max; i++) {
 
             /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
+             * Shortcut: skip at once (if the platform allows doing it fast) all chars that can never need escaping
              */
-            if (codepoint <= (XmlEscapeSymbols.LEVELS_LEN - 2)
-                    && level < symbols.ESCAPE_LEVELS[codepoint]
-                    && codepointValid) {
-                continue;
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
             }
 
+            final char c = text.charAt(i);
+            final int codepoint;
+
 
             /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
+             * Shortcut: most characters will be ASCII/Latin-1, for which we already know whether (and how)
+             * they need escaping (or removing, if invalid). Above those, all valid chars need the same.
              */
-            if (codepoint > (XmlEscapeSymbols.LEVELS_LEN - 2)
-                    && level < symbols.ESCAPE_LEVELS[XmlEscapeSymbols.LEVELS_LEN - 1]
-                    && codepointValid) {
+            if (c < XmlEscaper.REPLACEMENTS_LEN) {
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
-                    i++;
+                if (replacements[c] == null) {
+                    continue;
                 }
 
-                continue;
+                codepoint = c;
+
+            } else {
+
+                codepoint = Character.codePointAt(text, i);
+
+                if (!escapeAboveReplacements && codepointValidator.isValid(codepoint)) {
+
+                    if (Character.charCount(codepoint) > 1) {
+                        // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
+                        i++;
+                    }
+
+                    continue;
+
+                }
 
             }
 
@@ -179,68 +273,52 @@ static String escape(final String text, final XmlEscapeSymbols symbols,
 
 
             /*
-             * If the char is invalid, there is nothing to write, simply skip it (which we already did by
-             * incrementing the readOffset.
+             * Perform the real escape: precomputed for the most common chars, computed for the rest. If the
+             * codepoint is invalid, there is nothing to write, simply skip it (which we already did by
+             * incrementing the readOffset).
              */
-            if (!codepointValid) {
+            if (c < XmlEscaper.REPLACEMENTS_LEN) {
+                strBuilder.append(replacements[c]);
                 continue;
             }
 
-
-            /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of NCR, DCR and HCR needs.
-             *
-             * -----------------------------------------------------------------------------------------
-             */
-
-            if (useCERs) {
-                // We will try to use a CER
-
-                final int codepointIndex =
-                        Arrays.binarySearch(symbols.SORTED_CODEPOINTS, codepoint);
-
-                if (codepointIndex >= 0) {
-                    // CER found! just write it and go for the next char
-                    strBuilder.append(symbols.SORTED_CERS_BY_CODEPOINT[codepointIndex]);
-                    continue;
-                }
-
+            if (!codepointValidator.isValid(codepoint)) {
+                continue;
             }
 
             /*
-             * No NCR-escape was possible (or allowed), so we need decimal/hexa escape.
+             * CER if allowed and one exists, or a numeric reference written directly without creating any objects
              */
+            final char[] cer = escaper.computeCerReplacement(codepoint);
+            if (cer != null) {
+                strBuilder.append(cer);
+                continue;
+            }
 
-            if (useHexa) {
-                strBuilder.append(REFERENCE_HEXA_PREFIX);
-                strBuilder.append(Integer.toHexString(codepoint));
-            } else {
-                strBuilder.append(REFERENCE_DECIMAL_PREFIX);
-                strBuilder.append(String.valueOf(codepoint));
+            if (referenceBuffer == null) {
+                referenceBuffer = new char[REFERENCE_MAX_CHARS];
             }
-            strBuilder.append(REFERENCE_SUFFIX);
+            strBuilder.append(referenceBuffer, 0, writeNumericReference(referenceBuffer, codepoint, escaper.USE_HEXA));
 
         }
 
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no escape was actually needed. Otherwise
-         *                 append the remaining unescaped text to the string builder and return.
+         * Final cleaning: return null if no escape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining unescaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
@@ -249,132 +327,184 @@ static String escape(final String text, final XmlEscapeSymbols symbols,
 
 
     /*
-     * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
-     * result to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Find the first position in a CharSequence at which an escape operation performed by the specified
+     * (pre-compiled) escaper would modify it (either escaping or removing a char), or -1 if escaping would leave
+     * it unmodified. Chars are examined exactly as in escapeCharSequence(...), but nothing is ever allocated.
      */
-    static void escape(
-            final Reader reader, final Writer writer, final XmlEscapeSymbols symbols,
-            final XmlEscapeType escapeType, final XmlEscapeLevel escapeLevel)
-            throws IOException {
+    static int indexOfFirstEscapable(final CharSequence text, final XmlEscaper escaper) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return -1;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useCERs = escapeType.getUseCERs();
-        final boolean useHexa = escapeType.getUseHexa();
-
-        int c1, c2; // c0: last char, c1: current char, c2: next char
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+        final XmlCodepointValidator codepointValidator = escaper.SYMBOLS.CODEPOINT_VALIDATOR;
 
-        c2 = reader.read();
+        final int max = text.length();
 
-        while (c2 >= 0) {
+        final EscapeScanner scanner = escaper.SCANNER;
 
-            c1 = c2;
-            c2 = reader.read();
+        for (int i = 0; i < max; i++) {
 
-            final int codepoint = codePointAt((char)c1, (char)c2);
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
 
+            final char c = text.charAt(i);
 
-            boolean codepointValid = symbols.CODEPOINT_VALIDATOR.isValid(codepoint);
+            if (c < XmlEscaper.REPLACEMENTS_LEN) {
+                if (replacements[c] != null) {
+                    return i;
+                }
+                continue;
+            }
 
+            final int codepoint = Character.codePointAt(text, i);
+            if (escapeAboveReplacements || !codepointValidator.isValid(codepoint)) {
+                return i;
+            }
 
-            /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
-             */
-            if (codepoint <= (XmlEscapeSymbols.LEVELS_LEN - 2)
-                    && level < symbols.ESCAPE_LEVELS[codepoint]
-                    && codepointValid) {
-                writer.write(c1);
-                continue;
+            if (Character.charCount(codepoint) > 1) {
+                // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                i++;
             }
 
+        }
 
-            /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
-             */
-            if (codepoint > (XmlEscapeSymbols.LEVELS_LEN - 2)
-                    && level < symbols.ESCAPE_LEVELS[XmlEscapeSymbols.LEVELS_LEN - 1]
-                    && codepointValid) {
+        return -1;
 
-                writer.write(c1);
+    }
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
 
-                    writer.write(c2);
 
-                    c1 = c2;
-                    c2 = reader.read();
 
-                }
 
-                continue;
+    /*
+     * Compute the exact length of the result of an escape operation performed on a CharSequence by the specified
+     * (pre-compiled) escaper, without actually escaping anything. Chars are examined exactly as in
+     * escapeCharSequence(...), invalid codepoints counting as removed.
+     */
+    static long escapedLength(final CharSequence text, final XmlEscaper escaper) {
 
-            }
+        if (text == null) {
+            return 0L;
+        }
 
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+        final XmlCodepointValidator codepointValidator = escaper.SYMBOLS.CODEPOINT_VALIDATOR;
 
-            /*
-             * We know we need to escape, so from here on we will only work with the codepoint -- we can advance
-             * the chars.
-             */
+        final int max = text.length();
 
-            if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually reading two char positions with a single codepoint.
-                c1 = c2;
-                c2 = reader.read();
+        final EscapeScanner scanner = escaper.SCANNER;
+
+        long length = max;
+
+        for (int i = 0; i < max; i++) {
+
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
             }
 
+            final char c = text.charAt(i);
 
-            /*
-             * If the char is invalid, there is nothing to write, simply skip it (which we already did by
-             * incrementing the readOffset.
-             */
-            if (!codepointValid) {
-                // nothing to write
+            if (c < XmlEscaper.REPLACEMENTS_LEN) {
+                if (replacements[c] != null) {
+                    length += replacements[c].length - 1;
+                }
                 continue;
             }
 
+            final int codepoint = Character.codePointAt(text, i);
+            final int charCount = Character.charCount(codepoint);
 
-            /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of NCR, DCR and HCR needs.
-             *
-             * -----------------------------------------------------------------------------------------
-             */
+            // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+            i += (charCount - 1);
 
-            if (useCERs) {
-                // We will try to use a CER
+            if (!codepointValidator.isValid(codepoint)) {
+                length -= charCount;
+                continue;
+            }
 
-                final int codepointIndex =
-                        Arrays.binarySearch(symbols.SORTED_CODEPOINTS, codepoint);
+            if (!escapeAboveReplacements) {
+                continue;
+            }
 
-                if (codepointIndex >= 0) {
-                    // CER found! just write it and go for the next char
-                    writer.write(symbols.SORTED_CERS_BY_CODEPOINT[codepointIndex]);
-                    continue;
-                }
+            final char[] cer = escaper.computeCerReplacement(codepoint);
+            length += (cer != null? cer.length : numericReferenceLength(codepoint, escaper.USE_HEXA)) - charCount;
 
+        }
+
+        return length;
+
+    }
+
+
+
+
+
+    /*
+     * Perform an escape operation, based on a Reader, according to the specified level and type and writing the
+     * result to a Writer.
+     */
+    static void escape(
+            final Reader reader, final Writer writer, final XmlEscapeSymbols symbols,
+            final XmlEscapeType escapeType, final XmlEscapeLevel escapeLevel)
+            throws IOException {
+        escape(reader, writer, XmlEscaper.forSymbolsTypeAndLevel(symbols, escapeType, escapeLevel));
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on a Reader, by means of the specified (pre-compiled) escaper and writing
+     * the result to a Writer.
+     *
+     * The reader is read in chunks, each of which is escaped by means of the char[]-based method. A high surrogate
+     * found at the end of a chunk is kept for the next one, so that surrogate pairs are never split.
+     */
+    static void escape(final Reader reader, final Writer writer, final XmlEscaper escaper)
+            throws IOException {
+
+        if (reader == null) {
+            return;
+        }
+
+        final char[] buffer = new char[READER_BUFFER_SIZE];
+
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
+
+        int bufferSize = read;
+
+        while (bufferSize > 0 || read >= 0) {
+
+            int n = bufferSize;
+            if (read >= 0 && Character.isHighSurrogate(buffer[n - 1])) {
+                n--;
             }
 
-            /*
-             * No NCR-escape was possible (or allowed), so we need decimal/hexa escape.
-             */
+            if (n > 0) {
 
-            if (useHexa) {
-                writer.write(REFERENCE_HEXA_PREFIX);
-                writer.write(Integer.toHexString(codepoint));
-            } else {
-                writer.write(REFERENCE_DECIMAL_PREFIX);
-                writer.write(String.valueOf(codepoint));
+                escape(buffer, 0, n, writer, escaper);
+
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
+
+            }
+
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
             }
-            writer.write(REFERENCE_SUFFIX);
 
         }
 
@@ -391,51 +521,76 @@ static void escape(final char[] text, final int offset, final int len, final Wri
                        final XmlEscapeSymbols symbols,
                        final XmlEscapeType escapeType, final XmlEscapeLevel escapeLevel)
                        throws IOException {
+        escape(text, offset, len, writer, XmlEscaper.forSymbolsTypeAndLevel(symbols, escapeType, escapeLevel));
+    }
+
+
+
+
+    /*
+     * Perform an escape operation, based on char[], by means of the specified (pre-compiled) escaper.
+     */
+    static void escape(final char[] text, final int offset, final int len, final Writer writer,
+                       final XmlEscaper escaper)
+                       throws IOException {
 
         if (text == null || text.length == 0) {
             return;
         }
 
-        final int level = escapeLevel.getEscapeLevel();
-        final boolean useCERs = escapeType.getUseCERs();
-        final boolean useHexa = escapeType.getUseHexa();
+        final char[][] replacements = escaper.REPLACEMENTS;
+        final boolean escapeAboveReplacements = escaper.ESCAPE_ABOVE_REPLACEMENTS;
+        final XmlCodepointValidator codepointValidator = escaper.SYMBOLS.CODEPOINT_VALIDATOR;
 
         final int max = (offset + len);
 
         int readOffset = offset;
 
-        for (int i = offset; i < max; i++) {
-
-            final int codepoint = Character.codePointAt(text, i);
-
+        final EscapeScanner scanner = escaper.SCANNER;
 
-            boolean codepointValid = symbols.CODEPOINT_VALIDATOR.isValid(codepoint);
+        // Only created if a numeric reference is actually needed
+        char[] referenceBuffer = null;
 
+        for (int i = offset; i < max; i++) {
 
             /*
-             * Shortcut: most characters will be ASCII/Alphanumeric, and we won't need to do anything at
-             * all for them
+             * Shortcut: skip at once (if the platform allows doing it fast) all chars that can never need escaping
              */
-            if (codepoint <= (XmlEscapeSymbols.LEVELS_LEN - 2)
-                    && level < symbols.ESCAPE_LEVELS[codepoint]
-                    && codepointValid) {
-                continue;
+            i = scanner.skip(text, i, max);
+            if (i == max) {
+                break;
             }
 
+            final char c = text[i];
+            final int codepoint;
+
 
             /*
-             * Shortcut: we might not want to escape non-ASCII chars at all either.
+             * Shortcut: most characters will be ASCII/Latin-1, for which we already know whether (and how)
+             * they need escaping (or removing, if invalid). Above those, all valid chars need the same.
              */
-            if (codepoint > (XmlEscapeSymbols.LEVELS_LEN - 2)
-                    && level < symbols.ESCAPE_LEVELS[XmlEscapeSymbols.LEVELS_LEN - 1]
-                    && codepointValid) {
+            if (c < XmlEscaper.REPLACEMENTS_LEN) {
 
-                if (Character.charCount(codepoint) > 1) {
-                    // This is to compensate that we are actually reading two char[] positions with a single codepoint.
-                    i++;
+                if (replacements[c] == null) {
+                    continue;
                 }
 
-                continue;
+                codepoint = c;
+
+            } else {
+
+                codepoint = Character.codePointAt(text, i, max);
+
+                if (!escapeAboveReplacements && codepointValidator.isValid(codepoint)) {
+
+                    if (Character.charCount(codepoint) > 1) {
+                        // This is to compensate that we are actually reading two char[] positions with a single codepoint.
+                        i++;
+                    }
+
+                    continue;
+
+                }
 
             }
 
@@ -450,7 +605,7 @@ static void escape(final char[] text, final int offset, final int len, final Wri
             }
 
             if (Character.charCount(codepoint) > 1) {
-                // This is to compensate that we are actually escaping two char[] positions with a single codepoint.
+                // This is to compensate that we are actually reading two char[] positions with a single codepoint.
                 i++;
             }
 
@@ -458,48 +613,32 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
 
             /*
-             * If the char is invalid, there is nothing to write, simply skip it (which we already did by
-             * incrementing the readOffset.
+             * Perform the real escape: precomputed for the most common chars, computed for the rest. If the
+             * codepoint is invalid, there is nothing to write, simply skip it (which we already did by
+             * incrementing the readOffset).
              */
-            if (!codepointValid) {
+            if (c < XmlEscaper.REPLACEMENTS_LEN) {
+                writer.write(replacements[c]);
                 continue;
             }
 
-
-            /*
-             * -----------------------------------------------------------------------------------------
-             *
-             * Perform the real escape, attending the different combinations of NCR, DCR and HCR needs.
-             *
-             * -----------------------------------------------------------------------------------------
-             */
-
-            if (useCERs) {
-                // We will try to use a CER
-
-                final int codepointIndex =
-                        Arrays.binarySearch(symbols.SORTED_CODEPOINTS, codepoint);
-
-                if (codepointIndex >= 0) {
-                    // CER found! just write it and go for the next char
-                    writer.write(symbols.SORTED_CERS_BY_CODEPOINT[codepointIndex]);
-                    continue;
-                }
-
+            if (!codepointValidator.isValid(codepoint)) {
+                continue;
             }
 
             /*
-             * No NCR-escape was possible (or allowed), so we need decimal/hexa escape.
+             * CER if allowed and one exists, or a numeric reference written directly without creating any objects
              */
+            final char[] cer = escaper.computeCerReplacement(codepoint);
+            if (cer != null) {
+                writer.write(cer);
+                continue;
+            }
 
-            if (useHexa) {
-                writer.write(REFERENCE_HEXA_PREFIX);
-                writer.write(Integer.toHexString(codepoint));
-            } else {
-                writer.write(REFERENCE_DECIMAL_PREFIX);
-                writer.write(String.valueOf(codepoint));
+            if (referenceBuffer == null) {
+                referenceBuffer = new char[REFERENCE_MAX_CHARS];
             }
-            writer.write(REFERENCE_SUFFIX);
+            writer.write(referenceBuffer, 0, writeNumericReference(referenceBuffer, codepoint, escaper.USE_HEXA));
 
         }
 
@@ -523,13 +662,62 @@ static void escape(final char[] text, final int offset, final int len, final Wri
 
 
 
+    /*
+     * Write a decimal or hexadecimal reference for the specified codepoint into the buffer, returning its length.
+     */
+    static int writeNumericReference(final char[] buffer, final int codepoint, final boolean useHexa) {
+
+        int pos = 0;
+        buffer[pos++] = REFERENCE_PREFIX;
+        buffer[pos++] = REFERENCE_NUMERIC_PREFIX2;
+        if (useHexa) {
+            buffer[pos++] = REFERENCE_HEXA_PREFIX3;
+        }
+
+        final int radix = (useHexa? 16 : 10);
+        int digits = 1;
+        for (int cp = codepoint / radix; cp > 0; cp /= radix) {
+            digits++;
+        }
+
+        int cp = codepoint;
+        for (int j = pos + digits - 1; j >= pos; j--) {
+            buffer[j] = HEXA_CHARS_LOWER[cp % radix];
+            cp /= radix;
+        }
+        pos += digits;
+
+        buffer[pos++] = REFERENCE_SUFFIX;
+        return pos;
+
+    }
+
+
+
+
+    /*
+     * Compute the length of the decimal or hexadecimal reference that would be written for the specified codepoint.
+     */
+    static int numericReferenceLength(final int codepoint, final boolean useHexa) {
+        final int radix = (useHexa? 16 : 10);
+        int digits = 1;
+        for (int cp = codepoint / radix; cp > 0; cp /= radix) {
+            digits++;
+        }
+        // "&#" + ("x" if hexa) + digits + ";"
+        return (useHexa? 4 : 3) + digits;
+    }
+
+
+
+
     /*
      * This methods (the two versions) are used instead of Integer.parseInt(str,radix) in order to avoid the need
      * to create substrings of the text being unescaped to feed such method.
      * -  No need to check all chars are within the radix limits - reference parsing code will already have done so.
      */
 
-    static int parseIntFromReference(final String text, final int start, final int end, final int radix) {
+    static int parseIntFromReference(final CharSequence text, final int start, final int end, final int radix) {
         int result = 0;
         for (int i = start; i < end; i++) {
             final char c = text.charAt(i);
@@ -570,15 +758,58 @@ static int parseIntFromReference(final char[] text, final int start, final int e
 
 
     /*
-     * Perform an unescape operation based on String.
+     * Perform an unescape operation based on CharSequence.
      */
-    static String unescape(final String text, final XmlEscapeSymbols symbols) {
+    static String unescape(final CharSequence text, final XmlEscapeSymbols symbols) {
 
         if (text == null) {
             return null;
         }
 
-        StringBuilder strBuilder = null;
+        final StringBuilder strBuilder = unescape(text, null, symbols);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+
+
+    /*
+     * Perform an unescape operation based on CharSequence, appending the result to a StringBuilder.
+     *
+     * If no StringBuilder is specified (output == null), one will only be created if some unescape is actually
+     * needed, and null will be returned if it is not. Otherwise, the specified StringBuilder is returned.
+     */
+    static StringBuilder unescape(final CharSequence text, final StringBuilder output, final XmlEscapeSymbols symbols) {
+
+        final EscapeMetricsRecorder recorder =
+                (text == null? null : EscapeMetricsRecorder.start(EscapeFamily.XML, EscapeOperationType.UNESCAPE));
+        if (recorder == null) {
+            return unescapeCharSequence(text, output, symbols);
+        }
+
+        // No output StringBuilder is specified here, so that a null result means nothing had to be modified
+        final StringBuilder result = unescapeCharSequence(text, null, symbols);
+        final boolean changed = (result != null);
+        recorder.end(text.length(), (changed? result.length() : text.length()), changed);
+        return (output == null? result : output.append(changed? result : text));
+
+    }
+
+
+
+
+    /*
+     * Actual implementation of the above operation, which is not recorded by EscapeMetrics.
+     */
+    private static StringBuilder unescapeCharSequence(final CharSequence text, final StringBuilder output,
+                                                      final XmlEscapeSymbols symbols) {
+
+        if (text == null) {
+            return output;
+        }
+
+        StringBuilder strBuilder = output;
 
         final int offset = 0;
         final int max = text.length();
@@ -757,20 +988,20 @@ static String unescape(final String text, final XmlEscapeSymbols symbols) {
 
         /*
          * -----------------------------------------------------------------------------------------------
-         * Final cleaning: return the original String object if no unescape was actually needed. Otherwise
-         *                 append the remaining escaped text to the string builder and return.
+         * Final cleaning: return null if no unescape was actually needed (and no StringBuilder was specified).
+         *                 Otherwise append the remaining escaped text to the string builder and return it.
          * -----------------------------------------------------------------------------------------------
          */
 
         if (strBuilder == null) {
-            return text;
+            return null;
         }
 
         if (max - readOffset > 0) {
             strBuilder.append(text, readOffset, max);
         }
 
-        return strBuilder.toString();
+        return strBuilder;
 
     }
 
@@ -780,244 +1011,161 @@ static String unescape(final String text, final XmlEscapeSymbols symbols) {
 
 
     /*
-     * Perform an unescape operation based on a Reader, writing the results to a Writer.
-     *
-     * Note this reader is going to be read char-by-char, so some kind of buffering might be appropriate if this
-     * is an inconvenience for the specific Reader implementation.
+     * Determine whether an unescape operation would modify a CharSequence. Texts without any '&' chars (the most
+     * common case) are discarded by the scanner, and the rest are checked by means of the unescape operation
+     * itself, which will only create a StringBuilder if some reference is actually found.
      */
-    static void unescape(final Reader reader, final Writer writer, final XmlEscapeSymbols symbols) throws IOException {
+    static boolean requiresUnescape(final CharSequence text, final XmlEscapeSymbols symbols) {
 
-        if (reader == null) {
-            return;
+        if (text == null) {
+            return false;
         }
 
-        char[] escapes = new char[10];
-        int escapei = 0;
-
-        int c1, c2, ce; // c1: current char, c2: next char, ce: current escaped char
+        final int max = text.length();
 
-        c2 = reader.read();
+        for (int i = 0; i < max; i++) {
 
-        while (c2 >= 0) {
+            i = UNESCAPE_SCANNER.skip(text, i, max);
+            if (i == max) {
+                break;
+            }
 
-            c1 = c2;
-            c2 = reader.read();
+            if (text.charAt(i) == REFERENCE_PREFIX) {
+                return (unescapeCharSequence(text, null, symbols) != null);
+            }
 
-            escapei = 0;
+        }
 
-            /*
-             * Check the need for an unescape operation at this point
-             */
+        return false;
 
-            if (c1 != REFERENCE_PREFIX || c2 < 0) {
-                writer.write(c1);
-                continue;
-            }
+    }
 
-            int codepoint = 0;
 
-            if (c1 == REFERENCE_PREFIX) {
 
-                if (c2 == '\u0020' || // SPACE
-                        c2 == '\n' ||     // LF
-                        c2 == '\u0009' || // TAB
-                        c2 == '\u000C' || // FF
-                        c2 == '\u003C' || // LES-THAN SIGN
-                        c2 == '\u0026') { // AMPERSAND
-                    // Not a character references. No characters are consumed, and nothing is returned.
-                    writer.write(c1);
-                    continue;
 
-                } else if (c2 == REFERENCE_NUMERIC_PREFIX2) {
 
-                    final int c3 = reader.read();
 
-                    if (c3 < 0) {
-                        // No reference possible
-                        writer.write(c1);
-                        writer.write(c2);
-                        c1 = c2;
-                        c2 = c3;
-                        continue;
-                    }
+    /*
+     * Perform an unescape operation based on a Reader, writing the results to a Writer.
+     *
+     * The reader is read in chunks, each of which is unescaped by means of the char[]-based method. Each time we fill
+     * the buffer we will have to make sure we are not interrupting any character reference, which we do by only
+     * processing the buffered text up to its last '&' unless the reference starting there is already terminated
+     * (see computeSafeUnescapeLength(...) below). References written with redundant leading zeros can be as long as
+     * the buffer itself, so a reference is only kept in the buffer while it leaves room for reading more: one filling
+     * the whole buffer is unescaped as is.
+     */
+    static void unescape(final Reader reader, final Writer writer, final XmlEscapeSymbols symbols) throws IOException {
 
-                    if (c3 == REFERENCE_HEXA_PREFIX3) {
-                        // This is a hexadecimal reference
+        if (reader == null) {
+            return;
+        }
 
-                        ce = reader.read();
-                        while (ce >= 0) {
-                            if (!((ce >= '0' && ce <= '9') || (ce >= 'A' && ce <= 'F') || (ce >= 'a' && ce <= 'f'))) {
-                                break;
-                            }
-                            if (escapei == escapes.length) {
-                                // too many escape chars for our array: grow it!
-                                final char[] newEscapes = new char[escapes.length + 4];
-                                System.arraycopy(escapes, 0, newEscapes, 0, escapes.length);
-                                escapes = newEscapes;
-                            }
-                            escapes[escapei] = (char) ce;
-                            ce = reader.read();
-                            escapei++;
-                        }
+        final char[] buffer = new char[READER_BUFFER_SIZE];
 
-                        if (escapei == 0) {
-                            // We weren't able to consume any hexa chars
-                            writer.write(c1);
-                            writer.write(c2);
-                            writer.write(c3);
-                            c1 = c3;
-                            c2 = ce;
-                            continue;
-                        }
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return;
+        }
 
-                        if (ce != REFERENCE_SUFFIX) {
-                            // If the reference does not end in a ';', it's not a valid reference
-                            writer.write(c1);
-                            writer.write(c2);
-                            writer.write(c3);
-                            writer.write(escapes, 0, escapei);
-                            c1 = escapes[escapei - 1];
-                            c2 = ce;
-                            continue;
-                        }
+        int bufferSize = read;
 
-                        c1 = ce;
-                        c2 = reader.read();
+        while (bufferSize > 0 || read >= 0) {
 
-                        codepoint = parseIntFromReference(escapes, 0, escapei, 16);
+            final int n =
+                    (read < 0? bufferSize : computeSafeUnescapeLength(buffer, 0, bufferSize, buffer.length));
 
-                        // Don't continue here, just let the unescape code below do its job
+            if (n > 0) {
 
-                    } else if (c3 >= '0' && c3 <= '9') {
-                        // This is a decimal reference
+                // Once we have defined a 'safe' buffer, just call the char[]-based method
+                unescape(buffer, 0, n, writer, symbols);
 
-                        ce = c3;
-                        while (ce >= 0) {
-                            if (!(ce >= '0' && ce <= '9')) {
-                                break;
-                            }
-                            if (escapei == escapes.length) {
-                                // too many escape chars for our array: grow it!
-                                final char[] newEscapes = new char[escapes.length + 4];
-                                System.arraycopy(escapes, 0, newEscapes, 0, escapes.length);
-                                escapes = newEscapes;
-                            }
-                            escapes[escapei] = (char) ce;
-                            ce = reader.read();
-                            escapei++;
-                        }
+                System.arraycopy(buffer, n, buffer, 0, (bufferSize - n));
+                bufferSize -= n;
 
-                        if (escapei == 0) {
-                            // We weren't able to consume any decimal chars
-                            writer.write(c1);
-                            writer.write(c2);
-                            c1 = c2;
-                            c2 = c3;
-                            continue;
-                        }
+            }
 
-                        if (ce != REFERENCE_SUFFIX) {
-                            // If the reference does not end in a ';', it's not a valid reference
-                            writer.write(c1);
-                            writer.write(c2);
-                            writer.write(escapes, 0, escapei);
-                            c1 = escapes[escapei - 1];
-                            c2 = ce;
-                            continue;
-                        }
+            if (read >= 0) {
+                read = reader.read(buffer, bufferSize, (buffer.length - bufferSize));
+                if (read >= 0) {
+                    bufferSize += read;
+                }
+            }
 
-                        c1 = ce;
-                        c2 = reader.read();
+        }
 
-                        codepoint = parseIntFromReference(escapes, 0, escapei, 10);
+    }
 
-                        // Don't continue here, just let the unescape code below do its job
 
-                    } else {
-                        // This is not a valid reference, just discard
-                        writer.write(c1);
-                        writer.write(c2);
-                        c1 = c2;
-                        c2 = c3;
-                        continue;
-                    }
 
+    /*
+     * Compute the length of the longest prefix of the buffer that can be unescaped without the risk of interrupting
+     * a character reference. Only the last reference in the buffer can be interrupted, and only if it has not been
+     * terminated yet, i.e. if the buffer ends with a prefix of a valid reference: '&' followed by ASCII alphanumeric
+     * chars, or "&#" followed by decimal digits or by 'x' and hexadecimal digits. A reference is known to be
+     * terminated once any other char is found after it. Returns 0 if no such prefix exists.
+     *
+     * References are only considered to be interruptible if they start less than maxReferenceLen chars before the end
+     * of the buffer. Named references are never longer than REFERENCE_MAX_CHARS, and neither are numeric references
+     * unless they are written with redundant leading zeros, which can make them as long as wanted: Reader-based
+     * operations specify the size of their buffer as maxReferenceLen so that these are unescaped whatever the way
+     * the text is split, and chunked unescapers specify REFERENCE_MAX_CHARS so that their pending chars are bounded.
+     */
+    static int computeSafeUnescapeLength(final char[] buffer, final int offset, final int len,
+                                         final int maxReferenceLen) {
 
-                } else {
+        final int max = offset + len;
 
-                    // This is a named reference, must be comprised only of ALPHABETIC chars
+        final int windowStart = Math.max(offset, max - (maxReferenceLen - 1));
 
-                    ce = c2;
-                    while (ce >= 0) {
-                        if (!((ce >= '0' && ce <= '9') || (ce >= 'A' && ce <= 'Z') || (ce >= 'a' && ce <= 'z'))) {
-                            break;
-                        }
-                        if (escapei == escapes.length) {
-                            // too many escape chars for our array: grow it!
-                            final char[] newEscapes = new char[escapes.length + 4];
-                            System.arraycopy(escapes, 0, newEscapes, 0, escapes.length);
-                            escapes = newEscapes;
-                        }
-                        escapes[escapei] = (char) ce;
-                        ce = reader.read();
-                        escapei++;
-                    }
+        int p = max - 1;
+        while (p >= windowStart && isAsciiAlphanumeric(buffer[p])) {
+            p--;
+        }
 
-                    if (escapei == 0) {
-                        // We weren't able to consume any decimal chars
-                        writer.write(c1);
-                        continue;
-                    }
+        if (p < windowStart) {
+            // No reference can be interrupted by the end of the buffer
+            return len;
+        }
 
-                    if (escapei + 2 >= escapes.length) {
-                        // the entire escape sequence does not fit: grow it!
-                        final char[] newEscapes = new char[escapes.length + 4];
-                        System.arraycopy(escapes, 0, newEscapes, 0, escapes.length);
-                        escapes = newEscapes;
-                    }
+        if (buffer[p] == REFERENCE_PREFIX) {
+            // Named reference, only interruptible if it could still become one of the (short) existing ones
+            return (max - p < REFERENCE_MAX_CHARS? p - offset : len);
+        }
 
-                    System.arraycopy(escapes, 0, escapes, 1, escapei);
-                    escapes[0] = (char) c1;
-                    escapei++;
+        if (buffer[p] == REFERENCE_NUMERIC_PREFIX2 && p - 1 >= windowStart && buffer[p - 1] == REFERENCE_PREFIX) {
+            // Numeric reference, only interruptible if its digits are still valid
+            return (isNumericReferencePrefix(buffer, p + 1, max)? (p - 1) - offset : len);
+        }
 
-                    if (ce == REFERENCE_SUFFIX) {
-                        // If the reference ends in a ';', just consume it
-                        escapes[escapei++] = (char) ce;
-                        ce = reader.read();
-                    }
+        // The last reference in the buffer (if any) is complete
+        return len;
 
-                    c1 = escapes[escapei - 1];
-                    c2 = ce;
+    }
 
-                    final int ncrPosition = XmlEscapeSymbols.binarySearch(symbols.SORTED_CERS, escapes, 0, escapei);
-                    if (ncrPosition >= 0) {
-                        codepoint = symbols.SORTED_CODEPOINTS_BY_CER[ncrPosition];
-                    } else {
-                        // Not found! Just ignore our efforts to find a match.
-                        writer.write(escapes, 0, escapei);
-                        continue;
-                    }
 
+    private static boolean isNumericReferencePrefix(final char[] buffer, final int offset, final int max) {
+        if (offset < max && buffer[offset] == REFERENCE_HEXA_PREFIX3) {
+            for (int i = offset + 1; i < max; i++) {
+                final char c = buffer[i];
+                if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) {
+                    return false;
                 }
-
             }
-
-            /*
-             * --------------------------
-             *
-             * Perform the real unescape
-             *
-             * --------------------------
-             */
-
-            if (codepoint > '\uFFFF') {
-                writer.write(Character.toChars(codepoint));
-            } else {
-                writer.write((char)codepoint);
+            return true;
+        }
+        for (int i = offset; i < max; i++) {
+            final char c = buffer[i];
+            if (!(c >= '0' && c <= '9')) {
+                return false;
             }
-
         }
+        return true;
+    }
 
+
+    private static boolean isAsciiAlphanumeric(final char c) {
+        return ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'));
     }
 
 
@@ -1197,7 +1345,13 @@ static void unescape(final char[] text, final int offset, final int len, final W
              */
 
             if (codepoint > '\uFFFF') {
-                writer.write(Character.toChars(codepoint));
+                if (codepoint > Character.MAX_CODE_POINT) {
+                    // Same exception as Character.toChars(...) would throw, without creating a char[] otherwise
+                    throw new IllegalArgumentException(
+                            String.format("Not a valid Unicode code point: 0x%X", Integer.valueOf(codepoint)));
+                }
+                writer.write(Character.highSurrogate(codepoint));
+                writer.write(Character.lowSurrogate(codepoint));
             } else {
                 writer.write((char) codepoint);
             }
@@ -1220,18 +1374,37 @@ static void unescape(final char[] text, final int offset, final int len, final W
 
 
 
-    private static int codePointAt(final char c1, final char c2) {
-        if (Character.isHighSurrogate(c1)) {
-            if (c2 >= 0) {
-                if (Character.isLowSurrogate(c2)) {
-                    return Character.toCodePoint(c1, c2);
-                }
-            }
+    /*
+     * Perform an unescape operation based on char[], writing the result back into the same char[] and returning
+     * its new length. This is possible because unescaping never makes text longer (see InPlaceCharArrayWriter).
+     *
+     * Text before the first escape is not touched at all, and if there are no escapes nothing is even created.
+     */
+    static int unescapeInPlace(final char[] text, final int offset, final int len, final XmlEscapeSymbols symbols) {
+
+        final int max = (offset + len);
+
+        int i = offset;
+        while (i < max && text[i] != REFERENCE_PREFIX) {
+            i++;
+        }
+
+        if (i == max) {
+            // Nothing to unescape
+            return len;
         }
-        return c1;
-    }
 
+        final InPlaceCharArrayWriter writer = new InPlaceCharArrayWriter(text, i);
+        try {
+            unescape(text, i, (max - i), writer, symbols);
+        } catch (final IOException e) {
+            // Should never happen, as writing to a char[] does not perform any actual input/output
+            throw new RuntimeException("Exception while unescaping in place", e);
+        }
 
+        return writer.getPosition() - offset;
+
+    }
 
-}
 
+}
@@ -0,0 +1,324 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape.xml;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+
+import org.unbescape.EscapeScanner;
+
+/**
+ * <p>
+ *   Pre-compiled XML <strong>escape</strong> operation for a specific XML version and use (text or attribute
+ *   value), and a specific combination of {@link org.unbescape.xml.XmlEscapeType} and
+ *   {@link org.unbescape.xml.XmlEscapeLevel}.
+ * </p>
+ * <p>
+ *   Instances of this class are obtained by means of the <kbd>xml10Escaper(...)</kbd>,
+ *   <kbd>xml11Escaper(...)</kbd>, <kbd>xml10AttributeEscaper(...)</kbd> and <kbd>xml11AttributeEscaper(...)</kbd>
+ *   methods in {@link org.unbescape.xml.XmlEscape}, and perform exactly the same escape operations as the
+ *   corresponding <kbd>escapeXml*(...)</kbd> methods in that class. The difference is that all the decisions
+ *   depending on the escape type and level, along with the replacements for the most common chars, are computed
+ *   only once when the escaper is created, instead of for every escape operation.
+ * </p>
+ * <p>
+ *   Instances of this class are <strong>immutable and thread-safe</strong>, so they can be created once and
+ *   then kept (e.g. in a <kbd>static final</kbd> field) for use at any frequently executed code.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class XmlEscaper {
+
+
+    /*
+     * Replacements are precomputed for all chars below this one (ASCII and Latin-1). Above it, escape levels
+     * are the same for all chars, and replacements are computed when needed.
+     */
+    static final char REPLACEMENTS_LEN = 0x100;
+
+    /*
+     * Replacement for the chars that are not valid in XML: they are simply removed.
+     */
+    private static final char[] NO_CHARS = new char[0];
+
+
+    private final XmlEscapeType type;
+    private final XmlEscapeLevel level;
+
+    /*
+     * The symbols (XML 1.0 or 1.1, text or attribute) used for escaping, and whether CERs and hexadecimal
+     * references should be used
+     */
+    final XmlEscapeSymbols SYMBOLS;
+    final boolean USE_CERS;
+    final boolean USE_HEXA;
+
+    /*
+     * Replacement for each char below REPLACEMENTS_LEN, or null if the char should not be escaped. Chars not
+     * valid in XML are replaced by an empty array.
+     */
+    final char[][] REPLACEMENTS;
+
+    /*
+     * Whether (valid) chars >= REPLACEMENTS_LEN should be escaped
+     */
+    final boolean ESCAPE_ABOVE_REPLACEMENTS;
+
+    /*
+     * Scanner for skipping at once the chars that will not need escaping
+     */
+    final EscapeScanner SCANNER;
+
+
+
+
+    static XmlEscaper forSymbolsTypeAndLevel(
+            final XmlEscapeSymbols symbols, final XmlEscapeType type, final XmlEscapeLevel level) {
+        // No synchronization needed: escapers are immutable, and creating one twice is harmless
+        final int index = (type.ordinal() * XmlEscapeLevel.values().length) + level.ordinal();
+        XmlEscaper escaper = symbols.ESCAPERS[index];
+        if (escaper == null) {
+            escaper = new XmlEscaper(symbols, type, level);
+            symbols.ESCAPERS[index] = escaper;
+        }
+        return escaper;
+    }
+
+
+
+
+    private XmlEscaper(final XmlEscapeSymbols symbols, final XmlEscapeType type, final XmlEscapeLevel level) {
+
+        super();
+
+        this.type = type;
+        this.level = level;
+
+        this.SYMBOLS = symbols;
+        this.USE_CERS = type.getUseCERs();
+        this.USE_HEXA = type.getUseHexa();
+
+        final int escapeLevel = level.getEscapeLevel();
+        final byte aboveLevelsLevel = symbols.ESCAPE_LEVELS[XmlEscapeSymbols.LEVELS_LEN - 1];
+
+        this.REPLACEMENTS = new char[REPLACEMENTS_LEN][];
+        for (int c = 0; c < REPLACEMENTS_LEN; c++) {
+            final byte charLevel =
+                    (c <= (XmlEscapeSymbols.LEVELS_LEN - 2)? symbols.ESCAPE_LEVELS[c] : aboveLevelsLevel);
+            if (!symbols.CODEPOINT_VALIDATOR.isValid(c)) {
+                this.REPLACEMENTS[c] = NO_CHARS;
+            } else if (escapeLevel >= charLevel) {
+                this.REPLACEMENTS[c] = computeReplacement(c);
+            }
+        }
+
+        this.ESCAPE_ABOVE_REPLACEMENTS = (escapeLevel >= aboveLevelsLevel);
+        this.SCANNER = symbols.ESCAPE_SCANNERS[escapeLevel];
+
+    }
+
+
+
+
+    /*
+     * Compute the replacement for a (valid) codepoint that needs to be escaped: a CER if allowed and one
+     * exists, or a decimal/hexadecimal reference otherwise. Only used for precomputing REPLACEMENTS, as the
+     * escape operations themselves write numeric references directly into their output.
+     */
+    private char[] computeReplacement(final int codepoint) {
+
+        final char[] cer = computeCerReplacement(codepoint);
+        if (cer != null) {
+            return cer;
+        }
+
+        final char[] buffer = new char[XmlEscapeUtil.REFERENCE_MAX_CHARS];
+        return Arrays.copyOf(buffer, XmlEscapeUtil.writeNumericReference(buffer, codepoint, this.USE_HEXA));
+
+    }
+
+
+    /*
+     * Compute the CER to be used as replacement for a (valid) codepoint that needs to be escaped, or null if
+     * CERs are not allowed or there is none for this codepoint.
+     */
+    char[] computeCerReplacement(final int codepoint) {
+
+        if (!this.USE_CERS) {
+            return null;
+        }
+
+        final int codepointIndex = Arrays.binarySearch(this.SYMBOLS.SORTED_CODEPOINTS, codepoint);
+        if (codepointIndex >= 0) {
+            return this.SYMBOLS.SORTED_CERS_BY_CODEPOINT[codepointIndex];
+        }
+        return null;
+
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Returns the type of escape operation performed by this escaper.
+     * </p>
+     *
+     * @return the escape type.
+     */
+    public XmlEscapeType getType() {
+        return this.type;
+    }
+
+
+    /**
+     * <p>
+     *   Returns the escape level applied by this escaper.
+     * </p>
+     *
+     * @return the escape level.
+     */
+    public XmlEscapeLevel getLevel() {
+        return this.level;
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @return The escaped result <kbd>String</kbd>. If input is a <kbd>String</kbd> and no escaping modifications
+     *         were required, the exact same object will be returned (and no additional <kbd>String</kbd> objects
+     *         will be created during processing). Will return <kbd>null</kbd> if input is <kbd>null</kbd>.
+     */
+    public String escape(final CharSequence text) {
+
+        if (text == null) {
+            return null;
+        }
+
+        final StringBuilder strBuilder = XmlEscapeUtil.escape(text, null, this);
+        return (strBuilder == null? text.toString() : strBuilder.toString());
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>escape</strong> operation on a <kbd>CharSequence</kbd> input, appending results
+     *   to a <kbd>StringBuilder</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>CharSequence</kbd> to be escaped.
+     * @param strBuilder the <kbd>StringBuilder</kbd> to which the escaped result will be appended. Nothing will
+     *                   be appended at all to this builder if input is <kbd>null</kbd>.
+     */
+    public void escape(final CharSequence text, final StringBuilder strBuilder) {
+
+        if (strBuilder == null) {
+            throw new IllegalArgumentException("Argument 'strBuilder' cannot be null");
+        }
+
+        XmlEscapeUtil.escape(text, strBuilder, this);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>escape</strong> operation on a <kbd>Reader</kbd> input, writing results to a
+     *   <kbd>Writer</kbd>.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param reader the <kbd>Reader</kbd> reading the text to be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public void escape(final Reader reader, final Writer writer) throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        XmlEscapeUtil.escape(reader, writer, this);
+
+    }
+
+
+    /**
+     * <p>
+     *   Perform an XML <strong>escape</strong> operation on a <kbd>char[]</kbd> input.
+     * </p>
+     * <p>
+     *   This method is <strong>thread-safe</strong>.
+     * </p>
+     *
+     * @param text the <kbd>char[]</kbd> to be escaped.
+     * @param offset the position in <kbd>text</kbd> at which the escape operation should start.
+     * @param len the number of characters in <kbd>text</kbd> that should be escaped.
+     * @param writer the <kbd>java.io.Writer</kbd> to which the escaped result will be written. Nothing will
+     *               be written at all to this writer if input is <kbd>null</kbd>.
+     * @throws IOException if an input/output exception occurs
+     */
+    public void escape(final char[] text, final int offset, final int len, final Writer writer)
+                       throws IOException {
+
+        if (writer == null) {
+            throw new IllegalArgumentException("Argument 'writer' cannot be null");
+        }
+
+        final int textLen = (text == null? 0 : text.length);
+
+        if (offset < 0 || offset > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        if (len < 0 || (offset + len) > textLen) {
+            throw new IllegalArgumentException(
+                    "Invalid (offset, len). offset=" + offset + ", len=" + len + ", text.length=" + textLen);
+        }
+
+        XmlEscapeUtil.escape(text, offset, len, writer, this);
+
+    }
+
+
+}
@@ -0,0 +1,73 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+import jdk.jfr.FlightRecorder;
+
+
+/**
+ * <p>
+ *   Internal class in charge of emitting <em>Java Flight Recorder</em> events for escape and unescape operations.
+ * </p>
+ * <p>
+ *   This is the version of this class for Java 17 or newer. Events are only emitted if the <kbd>jdk.jfr</kbd>
+ *   module is present at runtime, and if the <kbd>org.unbescape.EscapeOperation</kbd> event is enabled in
+ *   a running recording, independently of whether {@link org.unbescape.EscapeMetrics} is enabled or not.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+final class EscapeEvents {
+
+
+    /*
+     * JFR might not be present in custom runtime images, in which case the event class cannot even be loaded
+     */
+    private static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+
+    /*
+     * Returns the started event, or null if it is not enabled. Loading the event class initializes JFR's event
+     * machinery, which takes a noticeable time, so that is not done until JFR has been initialized for a recording.
+     */
+    static Object begin() {
+        if (!JFR_AVAILABLE || !FlightRecorder.isInitialized()) {
+            return null;
+        }
+        return EscapeOperationEvent.beginIfEnabled();
+    }
+
+
+    static void end(
+            final Object event, final String family, final String operation,
+            final int inputLength, final int outputLength, final boolean changed) {
+        ((EscapeOperationEvent) event).end(family, operation, inputLength, outputLength, changed);
+    }
+
+
+    private EscapeEvents() {
+        super();
+    }
+
+
+}
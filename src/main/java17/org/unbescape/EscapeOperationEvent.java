@@ -0,0 +1,105 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * <p>
+ *   Internal <em>Java Flight Recorder</em> event emitted for each escape or unescape operation performed on
+ *   <kbd>String</kbd> or <kbd>CharSequence</kbd> input. Its duration is the duration of the operation.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+@Name("org.unbescape.EscapeOperation")
+@Label("Escape Operation")
+@Category("Unbescape")
+@Description("Escape or unescape operation performed by unbescape")
+@StackTrace(false)
+final class EscapeOperationEvent extends Event {
+
+
+    private static final EventType TYPE = EventType.getEventType(EscapeOperationEvent.class);
+
+
+    @Label("Family")
+    @Description("Language family of the operation (e.g. HTML)")
+    String family;
+
+    @Label("Operation")
+    @Description("Operation performed: escape or unescape")
+    String operation;
+
+    @Label("Input Length")
+    @Description("Length of the input text, in chars")
+    int inputLength;
+
+    @Label("Output Length")
+    @Description("Length of the output text, in chars")
+    int outputLength;
+
+    @Label("Changed")
+    @Description("Whether the operation needed to modify its input")
+    boolean changed;
+
+
+
+
+    static EscapeOperationEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        final EscapeOperationEvent event = new EscapeOperationEvent();
+        event.begin();
+        return event;
+    }
+
+
+    void end(
+            final String family, final String operation,
+            final int inputLength, final int outputLength, final boolean changed) {
+
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.family = family;
+        this.operation = operation;
+        this.inputLength = inputLength;
+        this.outputLength = outputLength;
+        this.changed = changed;
+        commit();
+
+    }
+
+
+}
@@ -0,0 +1,446 @@
+/*
+ * =============================================================================
+ * 
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ * 
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * 
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+
+/**
+ * <p>
+ *   Internal class in charge of quickly skipping, during escape operations, sequences of chars that can never
+ *   need to be escaped (e.g. alphanumeric chars for the default levels of most escape operations).
+ * </p>
+ * <p>
+ *   <strong>This class is internal to unbescape and is not part of its public API</strong>. It is only public so
+ *   that it can be shared among the escape implementations for each of the supported languages.
+ * </p>
+ * <p>
+ *   Each scanner is created for a specific set of <em>candidate</em> chars: those that might need escaping (though
+ *   they don't need to). Scanners never perform the escape operations themselves, they only tell the (scalar)
+ *   escape loops how many chars they can skip at once without examining them.
+ * </p>
+ * <p>
+ *   This is the Java 17+ implementation of this class, included in the <em>multi-release</em> unbescape
+ *   <kbd>.jar</kbd>. When the <kbd>jdk.incubator.vector</kbd> module is present at runtime
+ *   (e.g. <kbd>--add-modules jdk.incubator.vector</kbd>), it uses the Vector API in order to examine as many chars
+ *   at a time as the platform's preferred vector size allows (e.g. 16 chars with AVX2, 32 with AVX-512). If
+ *   the module is not present, it behaves as the default implementation and does not skip anything at all.
+ * </p>
+ *
+ * @author Daniel Fern&aacute;ndez
+ *
+ * @since 1.1.7
+ *
+ */
+public final class EscapeScanner {
+
+
+    /*
+     * Maximum number of (non-contiguous) ranges of candidate chars that will be checked for each vector. Sets
+     * of candidates needing more ranges than this are approximated by merging the ranges closest to each other,
+     * which only makes the scanner stop at some chars that are not candidates.
+     */
+    private static final int MAX_RANGES = 8;
+
+    /*
+     * Number of chars examined at a time, or 0 if the Vector API is not available
+     */
+    private static final int VECTOR_LANES = computeVectorLanes();
+
+    /*
+     * Sizes of the chunks of chars copied out of String objects so that they can be examined as vectors. The
+     * first chunk is smaller so that not much is wasted if a candidate appears soon.
+     */
+    private static final int FIRST_CHUNK_LEN = 64;
+    private static final int CHUNK_LEN = 1024;
+
+    /*
+     * Number of chars of a String that are examined one by one before copying any chunks, so that texts
+     * containing many candidates (e.g. markup) do not pay for copies that would be of little use.
+     */
+    private static final int SCALAR_PREFIX_LEN = 16;
+
+    /*
+     * Scanner that never skips anything, used when the Vector API is not available or is not worth it
+     */
+    private static final EscapeScanner NO_SCAN = new EscapeScanner(null, null, 0L, 0L);
+
+    /*
+     * Scanner that skips everything, used when there are no candidate chars at all
+     */
+    private static final EscapeScanner SKIP_ALL = new EscapeScanner(new short[0], new short[0], 0L, 0L);
+
+
+
+
+    /**
+     * <p>
+     *   Create a scanner for an escape level table, considering candidate every char whose level is lower
+     *   than or equal to the specified level.
+     * </p>
+     * <p>
+     *   Escape level tables contain the level of each char up to <kbd>escapeLevels.length - 2</kbd> at the position
+     *   of that char, and the level of all the chars above it at the last position.
+     * </p>
+     *
+     * @param escapeLevels the table of escape levels.
+     * @param level the escape level being applied.
+     * @return the scanner.
+     */
+    public static EscapeScanner forEscapeLevels(final byte[] escapeLevels, final int level) {
+        return forEscapeLevels(escapeLevels, level, new char[0]);
+    }
+
+
+    /**
+     * <p>
+     *   Create a scanner for an escape level table (see {@link #forEscapeLevels(byte[], int)}), also considering
+     *   candidate the chars in the specified ranges.
+     * </p>
+     *
+     * @param escapeLevels the table of escape levels.
+     * @param level the escape level being applied.
+     * @param candidateRanges additional candidate chars, specified as (inclusive) pairs of range limits.
+     * @return the scanner.
+     */
+    public static EscapeScanner forEscapeLevels(
+            final byte[] escapeLevels, final int level, final char[] candidateRanges) {
+
+        if (VECTOR_LANES == 0) {
+            return NO_SCAN;
+        }
+
+        final List<int[]> ranges = new ArrayList<int[]>();
+        final int last = escapeLevels.length - 1;
+        for (int c = 0; c < last; c++) {
+            if (escapeLevels[c] <= level) {
+                ranges.add(new int[] { c, c });
+            }
+        }
+        if (escapeLevels[last] <= level) {
+            ranges.add(new int[] { last, Character.MAX_VALUE });
+        }
+        for (int i = 0; i < candidateRanges.length; i += 2) {
+            ranges.add(new int[] { candidateRanges[i], candidateRanges[i + 1] });
+        }
+
+        return forRanges(ranges);
+
+    }
+
+
+    /**
+     * <p>
+     *   Create a scanner for the chars in the specified ranges.
+     * </p>
+     *
+     * @param candidateRanges the candidate chars, specified as (inclusive) pairs of range limits.
+     * @return the scanner.
+     */
+    public static EscapeScanner forCandidateRanges(final char[] candidateRanges) {
+        return forEscapeLevels(new byte[] { Byte.MAX_VALUE }, 0, candidateRanges);
+    }
+
+
+    private static EscapeScanner forRanges(final List<int[]> ranges) {
+
+        if (VECTOR_LANES == 0) {
+            return NO_SCAN;
+        }
+
+        // Sort and merge overlapping or contiguous ranges
+        Collections.sort(ranges, new Comparator<int[]>() {
+            public int compare(final int[] o1, final int[] o2) {
+                return Integer.compare(o1[0], o2[0]);
+            }
+        });
+        final List<int[]> merged = new ArrayList<int[]>();
+        for (final int[] range : ranges) {
+            final int[] previous = (merged.isEmpty()? null : merged.get(merged.size() - 1));
+            if (previous != null && range[0] <= previous[1] + 1) {
+                previous[1] = Math.max(previous[1], range[1]);
+            } else {
+                merged.add(new int[] { range[0], range[1] });
+            }
+        }
+
+        // Approximate by merging the ranges with the smallest gaps between them until they are few enough
+        while (merged.size() > MAX_RANGES) {
+            int closest = 0;
+            for (int i = 1; i < merged.size() - 1; i++) {
+                if (merged.get(i + 1)[0] - merged.get(i)[1] < merged.get(closest + 1)[0] - merged.get(closest)[1]) {
+                    closest = i;
+                }
+            }
+            merged.get(closest)[1] = merged.get(closest + 1)[1];
+            merged.remove(closest + 1);
+        }
+
+        // No candidates at all: everything can be skipped
+        if (merged.isEmpty()) {
+            return SKIP_ALL;
+        }
+
+        // If alphanumeric chars can need escaping, there will be nothing worth skipping
+        for (final int[] range : merged) {
+            if (intersects(range, '0', '9') || intersects(range, 'A', 'Z') || intersects(range, 'a', 'z')) {
+                return NO_SCAN;
+            }
+        }
+
+        // Unused range slots just repeat the last range
+        final short[] lows = new short[MAX_RANGES];
+        final short[] widths = new short[MAX_RANGES];
+        for (int i = 0; i < MAX_RANGES; i++) {
+            final int[] range = merged.get(Math.min(i, merged.size() - 1));
+            lows[i] = (short) range[0];
+            widths[i] = (short) (range[1] - range[0]);
+        }
+
+        // ASCII candidates are also kept as a bitmap for examining chars one by one
+        long asciiCandidates0 = 0L;
+        long asciiCandidates1 = 0L;
+        for (final int[] range : merged) {
+            for (int c = range[0]; c <= range[1] && c < 0x80; c++) {
+                if (c < 0x40) {
+                    asciiCandidates0 |= (1L << c);
+                } else {
+                    asciiCandidates1 |= (1L << (c - 0x40));
+                }
+            }
+        }
+
+        return new EscapeScanner(lows, widths, asciiCandidates0, asciiCandidates1);
+
+    }
+
+
+    private static boolean intersects(final int[] range, final char low, final char high) {
+        return (range[0] <= high && range[1] >= low);
+    }
+
+
+    private static int computeVectorLanes() {
+        if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return 0;
+        }
+        try {
+            final int lanes = VectorScan.lanes();
+            // Not worth it if the platform does not really support SIMD operations on chars
+            return (lanes >= 8? lanes : 0);
+        } catch (final LinkageError e) {
+            return 0;
+        }
+    }
+
+
+
+
+    /*
+     * Lower limits and widths (upper - lower) of the ranges of candidate chars. Null if nothing should be skipped,
+     * empty if everything can.
+     */
+    private final short[] lows;
+    private final short[] widths;
+
+    /*
+     * Bitmap of the ASCII candidate chars: 0x00 to 0x3f in the first long, 0x40 to 0x7f in the second one.
+     */
+    private final long asciiCandidates0;
+    private final long asciiCandidates1;
+
+
+    private EscapeScanner(
+            final short[] lows, final short[] widths, final long asciiCandidates0, final long asciiCandidates1) {
+        super();
+        this.lows = lows;
+        this.widths = widths;
+        this.asciiCandidates0 = asciiCandidates0;
+        this.asciiCandidates1 = asciiCandidates1;
+    }
+
+
+
+
+    /**
+     * <p>
+     *   Skip chars in the <kbd>[from, to)</kbd> interval of a <kbd>char[]</kbd> that are not candidates
+     *   for escaping.
+     * </p>
+     *
+     * @param text the text being escaped.
+     * @param from the first position to be examined.
+     * @param to the position after the last one to be examined.
+     * @return a position (<kbd>&gt;= from</kbd>, <kbd>&lt;= to</kbd>) such that no char before it (starting at
+     *         <kbd>from</kbd>) is a candidate for escaping. Might not be the position of the first candidate.
+     */
+    public int skip(final char[] text, final int from, final int to) {
+        if (this.lows == null || (to - from) < VECTOR_LANES) {
+            return from;
+        }
+        if (this.lows.length == 0) {
+            return to;
+        }
+        return VectorScan.skip(this.lows, this.widths, text, from, to);
+    }
+
+
+    /**
+     * <p>
+     *   Skip chars in the <kbd>[from, to)</kbd> interval of a <kbd>CharSequence</kbd> that are not candidates
+     *   for escaping.
+     * </p>
+     *
+     * @param text the text being escaped.
+     * @param from the first position to be examined.
+     * @param to the position after the last one to be examined.
+     * @return a position (<kbd>&gt;= from</kbd>, <kbd>&lt;= to</kbd>) such that no char before it (starting at
+     *         <kbd>from</kbd>) is a candidate for escaping. Might not be the position of the first candidate.
+     */
+    public int skip(final CharSequence text, final int from, final int to) {
+
+        // Only String contents can be copied fast enough (the copy being a JVM intrinsic) for this to be worth it
+        if (this.lows == null || (to - from) < FIRST_CHUNK_LEN || !(text instanceof String)) {
+            return from;
+        }
+        if (this.lows.length == 0) {
+            return to;
+        }
+
+        final String str = (String) text;
+
+        int i = from;
+
+        final int prefixMax = from + SCALAR_PREFIX_LEN;
+        for (; i < prefixMax; i++) {
+            if (isCandidate(str.charAt(i))) {
+                return i;
+            }
+        }
+
+        char[] chunk = null;
+        while (to - i >= VECTOR_LANES) {
+
+            if (chunk == null) {
+                chunk = new char[FIRST_CHUNK_LEN];
+            } else if (chunk.length < CHUNK_LEN) {
+                chunk = new char[CHUNK_LEN];
+            }
+
+            // Only whole vectors are copied, the rest is left to the scalar loop
+            final int n = (Math.min(chunk.length, (to - i)) / VECTOR_LANES) * VECTOR_LANES;
+            str.getChars(i, i + n, chunk, 0);
+
+            final int skipped = VectorScan.skip(this.lows, this.widths, chunk, 0, n);
+            i += skipped;
+            if (skipped < n) {
+                return i;
+            }
+
+        }
+        return i;
+
+    }
+
+
+    private boolean isCandidate(final char c) {
+        if (c < 0x40) {
+            return ((this.asciiCandidates0 & (1L << c)) != 0L);
+        }
+        if (c < 0x80) {
+            return ((this.asciiCandidates1 & (1L << (c - 0x40))) != 0L);
+        }
+        for (int i = 0; i < MAX_RANGES; i++) {
+            if (((c - this.lows[i]) & 0xFFFF) <= (this.widths[i] & 0xFFFF)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+
+
+    /*
+     * All the code using the Vector API lives in this class, so that it is only loaded (and linked) once
+     * it is known that the jdk.incubator.vector module is present.
+     */
+    private static final class VectorScan {
+
+        private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+
+        static int lanes() {
+            return SPECIES.length();
+        }
+
+
+        /*
+         * Returns the position of the first candidate char in [from, to), or the position at which the
+         * remaining chars are not enough for a whole vector.
+         */
+        static int skip(final short[] lows, final short[] widths, final char[] text, final int from, final int to) {
+
+            final short l0 = lows[0], l1 = lows[1], l2 = lows[2], l3 = lows[3];
+            final short l4 = lows[4], l5 = lows[5], l6 = lows[6], l7 = lows[7];
+            final short w0 = widths[0], w1 = widths[1], w2 = widths[2], w3 = widths[3];
+            final short w4 = widths[4], w5 = widths[5], w6 = widths[6], w7 = widths[7];
+
+            final int lanes = SPECIES.length();
+            final int max = to - lanes;
+
+            int i = from;
+            for (; i <= max; i += lanes) {
+
+                final ShortVector v = ShortVector.fromCharArray(SPECIES, text, i);
+
+                // A char c is in range [low, low + width] if (c - low) <= width as unsigned 16-bit values
+                final VectorMask<Short> candidates =
+                        v.sub(l0).compare(VectorOperators.UNSIGNED_LE, w0)
+                                .or(v.sub(l1).compare(VectorOperators.UNSIGNED_LE, w1))
+                                .or(v.sub(l2).compare(VectorOperators.UNSIGNED_LE, w2))
+                                .or(v.sub(l3).compare(VectorOperators.UNSIGNED_LE, w3))
+                                .or(v.sub(l4).compare(VectorOperators.UNSIGNED_LE, w4))
+                                .or(v.sub(l5).compare(VectorOperators.UNSIGNED_LE, w5))
+                                .or(v.sub(l6).compare(VectorOperators.UNSIGNED_LE, w6))
+                                .or(v.sub(l7).compare(VectorOperators.UNSIGNED_LE, w7));
+
+                if (candidates.anyTrue()) {
+                    return i + candidates.firstTrue();
+                }
+
+            }
+
+            return i;
+
+        }
+
+    }
+
+
+}
@@ -0,0 +1,266 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.css.CssEscape;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.java.JavaEscape;
+import org.unbescape.javascript.JavaScriptEscape;
+import org.unbescape.json.JsonEscape;
+import org.unbescape.properties.PropertiesEscape;
+import org.unbescape.uri.UriEscape;
+import org.unbescape.xml.XmlEscape;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Checks that chunked unescapers produce the same results as String-based unescape operations, and that the
+ * chars they keep pending between chunks never exceed the length of the longest escape sequence in the language,
+ * even for texts dense in escape sequences or made of a single never-ending sequence. Also checks that chunks
+ * specified as char[] ranges and as any kind of CharSequence are unescaped alike, wherever the text is split.
+ */
+public class ChunkedUnescaperTest {
+
+
+    private static final int TEXT_LENGTH = 100000;
+
+    private static final int[] CHUNK_SIZES = new int[] { 1000, 1, 7, 4096 };
+
+    private static final int HTML_MAX_ESCAPE_LEN = 33;  // "&CounterClockwiseContourIntegral;"
+    private static final int XML_MAX_ESCAPE_LEN = 10;   // "&#x10FFFF;"
+    private static final int BACKSLASH_MAX_ESCAPE_LEN = 6; // "\\u00E1"
+    private static final int CSS_MAX_ESCAPE_LEN = 8;    // "\0000E1 "
+    private static final int JAVA_MAX_ESCAPE_LEN = 6 + 4; // "\\u00E1" (first step) plus "\377" (second step)
+    private static final int URI_MAX_ESCAPE_LEN = 12;   // "%F0%9F%98%80"
+
+
+
+    @Test
+    public void testHtml() throws IOException {
+        check(HtmlEscape::chunkedUnescaper, HtmlEscape::unescapeHtml, HTML_MAX_ESCAPE_LEN,
+                "&", "a");
+        check(HtmlEscape::chunkedUnescaper, HtmlEscape::unescapeHtml, HTML_MAX_ESCAPE_LEN,
+                "", "&CounterClockwiseContourIntegral;", "&amp;&lt;x", "&ampx&am", "&#x41;&#65", "&", "\\");
+    }
+
+
+    @Test
+    public void testXml() throws IOException {
+        check(XmlEscape::chunkedUnescaper, XmlEscape::unescapeXml, XML_MAX_ESCAPE_LEN,
+                "&", "a");
+        check(XmlEscape::chunkedUnescaper, XmlEscape::unescapeXml, XML_MAX_ESCAPE_LEN,
+                "", "&amp;&lt;x", "&#x41;&#65;", "&quot", "&");
+    }
+
+
+    @Test
+    public void testJson() throws IOException {
+        check(JsonEscape::chunkedUnescaper, JsonEscape::unescapeJson, BACKSLASH_MAX_ESCAPE_LEN,
+                "\\", "\\");
+        check(JsonEscape::chunkedUnescaper, JsonEscape::unescapeJson, BACKSLASH_MAX_ESCAPE_LEN,
+                "", "\\", "ab\\n", "\\\\\\n", "\\u00E1", "\\u00E");
+    }
+
+
+    @Test
+    public void testJavaScript() throws IOException {
+        check(JavaScriptEscape::chunkedUnescaper, JavaScriptEscape::unescapeJavaScript, BACKSLASH_MAX_ESCAPE_LEN,
+                "", "\\", "ab\\n", "\\x41\\101\\u00E1\\0", "\\u00E", "\\1");
+    }
+
+
+    @Test
+    public void testProperties() throws IOException {
+        check(PropertiesEscape::chunkedUnescaper, PropertiesEscape::unescapeProperties, BACKSLASH_MAX_ESCAPE_LEN,
+                "", "\\", "ab\\n", "\\u00E1\\\\t", "\\u00E");
+    }
+
+
+    @Test
+    public void testCss() throws IOException {
+        check(CssEscape::chunkedUnescaper, CssEscape::unescapeCss, CSS_MAX_ESCAPE_LEN,
+                "", "\\", "ab\\41 ", "\\0000E1 x\\\\", "\\41\\42", "\\E1");
+    }
+
+
+    @Test
+    public void testJava() throws IOException {
+        check(JavaEscape::chunkedUnescaper, JavaEscape::unescapeJava, JAVA_MAX_ESCAPE_LEN,
+                "\\", "\\");
+        check(JavaEscape::chunkedUnescaper, JavaEscape::unescapeJava, JAVA_MAX_ESCAPE_LEN,
+                "", "\\", "ab\\n", "\\u005C\\u005Cn", "\\u005C101x", "\\u005C\\101", "\\u00E");
+    }
+
+
+    @Test
+    public void testUri() throws IOException {
+        check(UriEscape::uriPathChunkedUnescaper, UriEscape::unescapeUriPath, URI_MAX_ESCAPE_LEN,
+                "", "%E2", "%E2%82%AC", "%F0%9F%98%80", "%C3%A1a", "%80", "%E2%82%E2%82%AC%F0%9F");
+        check(UriEscape::uriQueryParamChunkedUnescaper, UriEscape::unescapeUriQueryParam, URI_MAX_ESCAPE_LEN,
+                "", "%E2", "%C3%A1+");
+        check(writer -> UriEscape.uriPathChunkedUnescaper(writer, "ISO-8859-1"),
+                text -> UriEscape.unescapeUriPath(text, "ISO-8859-1"), URI_MAX_ESCAPE_LEN,
+                "", "%E2", "%C3%A1a");
+    }
+
+
+    @Test
+    public void testChunkForms() throws IOException {
+        checkSplits(HtmlEscape::chunkedUnescaper, HtmlEscape::unescapeHtml,
+                "a &lt;b&gt; &amp &#x41;&#66;&CounterClockwiseContourIntegral; &#128512;");
+        checkSplits(XmlEscape::chunkedUnescaper, XmlEscape::unescapeXml, "a &lt;b&gt; &quot;&#x41;&#66;&amp");
+        checkSplits(JsonEscape::chunkedUnescaper, JsonEscape::unescapeJson, "a\\n\\u00E1\\\\\\/\\ud83d\\ude00");
+        checkSplits(JavaEscape::chunkedUnescaper, JavaEscape::unescapeJava, "a\\u005C\\u005Cn\\101\\t\\u00E1");
+        checkSplits(UriEscape::uriQueryParamChunkedUnescaper, UriEscape::unescapeUriQueryParam,
+                "a+b%20c%C3%A1%E2%82%AC+%F0%9F%98%80");
+    }
+
+
+    @Test
+    public void testInvalidCharArrayRanges() {
+        final ChunkedUnescaper unescaper = HtmlEscape.chunkedUnescaper(new StringWriter());
+        final char[] chunk = "&amp;".toCharArray();
+        assertThrows(IllegalArgumentException.class, () -> unescaper.unescape(chunk, -1, 2));
+        assertThrows(IllegalArgumentException.class, () -> unescaper.unescape(chunk, 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> unescaper.unescape(chunk, 6, 0));
+    }
+
+
+
+
+    /*
+     * Checks the text split into two chunks at every possible position, specifying the chunks as char[] ranges,
+     * Strings, StringBuilders and CharBuffers (both array-based with an offset and read-only).
+     */
+    private static void checkSplits(final UnescaperFactory unescaperFactory, final StringOperation stringOperation,
+                                    final String text) throws IOException {
+
+        final String expected = stringOperation.apply(text);
+
+        for (int split = 0; split <= text.length(); split++) {
+
+            final String first = text.substring(0, split);
+            final String second = text.substring(split);
+            final String description = "\"" + first + "\" + \"" + second + "\"";
+
+            final StringWriter charArrayWriter = new StringWriter();
+            final ChunkedUnescaper charArrayUnescaper = unescaperFactory.create(charArrayWriter);
+            final char[] firstChunk = ("__" + first + "__").toCharArray();
+            final char[] secondChunk = ("_" + second).toCharArray();
+            charArrayUnescaper.unescape(firstChunk, 2, first.length());
+            charArrayUnescaper.unescape(secondChunk, 1, second.length());
+            charArrayUnescaper.finish();
+            assertEquals(expected, charArrayWriter.toString(), description);
+            assertArrayEquals(("__" + first + "__").toCharArray(), firstChunk, description);
+
+            final StringWriter stringWriter = new StringWriter();
+            final ChunkedUnescaper stringUnescaper = unescaperFactory.create(stringWriter);
+            stringUnescaper.unescape(first);
+            stringUnescaper.unescape(second);
+            stringUnescaper.finish();
+            assertEquals(expected, stringWriter.toString(), description);
+
+            final StringWriter builderWriter = new StringWriter();
+            final ChunkedUnescaper builderUnescaper = unescaperFactory.create(builderWriter);
+            builderUnescaper.unescape(new StringBuilder(first));
+            builderUnescaper.unescape(new StringBuilder(second));
+            builderUnescaper.finish();
+            assertEquals(expected, builderWriter.toString(), description);
+
+            final StringWriter bufferWriter = new StringWriter();
+            final ChunkedUnescaper bufferUnescaper = unescaperFactory.create(bufferWriter);
+            bufferUnescaper.unescape(CharBuffer.wrap(("__" + first).toCharArray(), 2, first.length()).slice());
+            bufferUnescaper.unescape(CharBuffer.wrap(second).asReadOnlyBuffer());
+            bufferUnescaper.finish();
+            assertEquals(expected, bufferWriter.toString(), description);
+
+        }
+
+    }
+
+
+    /*
+     * Checks each of the specified patterns, repeated (after the specified prefix) until the text reaches
+     * TEXT_LENGTH chars, and unescaped in chunks of each of the CHUNK_SIZES.
+     */
+    private static void check(final UnescaperFactory unescaperFactory, final StringOperation stringOperation,
+                              final int maxPendingLength, final String prefix, final String... patterns)
+                              throws IOException {
+
+        for (final String pattern : patterns) {
+
+            final StringBuilder strBuilder = new StringBuilder(TEXT_LENGTH + pattern.length());
+            strBuilder.append(prefix);
+            while (strBuilder.length() < TEXT_LENGTH) {
+                strBuilder.append(pattern);
+            }
+            final String text = strBuilder.toString();
+
+            final String expected = stringOperation.apply(text);
+
+            for (final int chunkSize : CHUNK_SIZES) {
+
+                final String description =
+                        "pattern \"" + prefix + "\" + \"" + pattern + "\"... in chunks of " + chunkSize;
+
+                final StringWriter writer = new StringWriter();
+                final ChunkedUnescaper unescaper = unescaperFactory.create(writer);
+
+                int maxPending = 0;
+                for (int i = 0; i < text.length(); i += chunkSize) {
+                    unescaper.unescape(text.substring(i, Math.min(text.length(), i + chunkSize)));
+                    maxPending = Math.max(maxPending, unescaper.getPendingLength());
+                }
+                unescaper.finish();
+
+                assertEquals(0, unescaper.getPendingLength(), description);
+                assertEquals(expected, writer.toString(), description);
+                assertTrue(maxPending <= maxPendingLength,
+                        description + " kept " + maxPending + " chars pending");
+
+            }
+
+        }
+
+    }
+
+
+
+
+    private interface UnescaperFactory {
+        ChunkedUnescaper create(final Writer writer);
+    }
+
+
+    private interface StringOperation {
+        String apply(final String text);
+    }
+
+
+}
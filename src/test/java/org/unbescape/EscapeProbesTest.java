@@ -0,0 +1,294 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.css.CssEscape;
+import org.unbescape.css.CssIdentifierEscapeLevel;
+import org.unbescape.css.CssIdentifierEscapeType;
+import org.unbescape.css.CssStringEscapeLevel;
+import org.unbescape.css.CssStringEscapeType;
+import org.unbescape.csv.CsvEscape;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.html.HtmlEscapeLevel;
+import org.unbescape.html.HtmlEscapeType;
+import org.unbescape.java.JavaEscape;
+import org.unbescape.java.JavaEscapeLevel;
+import org.unbescape.javascript.JavaScriptEscape;
+import org.unbescape.javascript.JavaScriptEscapeLevel;
+import org.unbescape.javascript.JavaScriptEscapeType;
+import org.unbescape.json.JsonEscape;
+import org.unbescape.json.JsonEscapeLevel;
+import org.unbescape.json.JsonEscapeType;
+import org.unbescape.properties.PropertiesEscape;
+import org.unbescape.properties.PropertiesKeyEscapeLevel;
+import org.unbescape.properties.PropertiesValueEscapeLevel;
+import org.unbescape.uri.UriEscape;
+import org.unbescape.xml.XmlEscape;
+import org.unbescape.xml.XmlEscapeLevel;
+import org.unbescape.xml.XmlEscapeType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Checks that escape and unescape probes agree with the String API: requiresEscape*(...) and requiresUnescape*(...)
+ * return true exactly when the String operation modifies the text, and indexOfFirstEscapable*(...) returns the
+ * position at which the escaped result starts to differ from the text, with nothing before it needing escape.
+ */
+public class EscapeProbesTest {
+
+
+    private static final String[] TEXTS = new String[] {
+            "",
+            "plain",
+            "plain text",
+            "<a href=\"x\" title='y'>&amp; &</a>",
+            "a</b",
+            "-1a",
+            "1a",
+            "--",
+            " x ",
+            "\u00E1\u00F1 \u20AC \uD83D\uDE00",
+            "ab\t\r\n\u0000\u007F\u0080\u009F",
+            "x\\ \" / ` = : # ! ? % + , ; @ [ ] { } ~ ^ |",
+            "x\uD800y\uDC00",
+            "a\u00A0b\u2028c\u2029d"
+    };
+
+
+
+    @Test
+    public void testHtml() {
+        for (final HtmlEscapeType type : HtmlEscapeType.values()) {
+            for (final HtmlEscapeLevel level : HtmlEscapeLevel.values()) {
+                checkEscape(text -> HtmlEscape.escapeHtml(text, type, level),
+                        text -> HtmlEscape.indexOfFirstEscapableHtml(text, type, level),
+                        text -> HtmlEscape.requiresEscapeHtml(text, type, level), type + ", " + level);
+            }
+        }
+        checkUnescape(HtmlEscape::unescapeHtml, HtmlEscape::requiresUnescapeHtml,
+                "", "a & b", "&amp;", "x&lt", "&ampx", "&#65;&#x41;", "&unknown;", "&#;", "&");
+    }
+
+
+    @Test
+    public void testXml() {
+        for (final XmlEscapeType type : XmlEscapeType.values()) {
+            for (final XmlEscapeLevel level : XmlEscapeLevel.values()) {
+                final String description = type + ", " + level;
+                checkEscape(text -> XmlEscape.escapeXml10(text, type, level),
+                        text -> XmlEscape.indexOfFirstEscapableXml10(text, type, level),
+                        text -> XmlEscape.requiresEscapeXml10(text, type, level), "XML 1.0, " + description);
+                checkEscape(text -> XmlEscape.escapeXml11(text, type, level),
+                        text -> XmlEscape.indexOfFirstEscapableXml11(text, type, level),
+                        text -> XmlEscape.requiresEscapeXml11(text, type, level), "XML 1.1, " + description);
+                checkEscape(text -> XmlEscape.escapeXml10Attribute(text, type, level),
+                        text -> XmlEscape.indexOfFirstEscapableXml10Attribute(text, type, level),
+                        text -> XmlEscape.requiresEscapeXml10Attribute(text, type, level),
+                        "XML 1.0 attribute, " + description);
+                checkEscape(text -> XmlEscape.escapeXml11Attribute(text, type, level),
+                        text -> XmlEscape.indexOfFirstEscapableXml11Attribute(text, type, level),
+                        text -> XmlEscape.requiresEscapeXml11Attribute(text, type, level),
+                        "XML 1.1 attribute, " + description);
+            }
+        }
+        checkUnescape(XmlEscape::unescapeXml, XmlEscape::requiresUnescapeXml,
+                "", "a & b", "&amp;", "&lt", "&#65;&#x41;", "&aacute;", "&");
+    }
+
+
+    @Test
+    public void testJavaScript() {
+        for (final JavaScriptEscapeType type : JavaScriptEscapeType.values()) {
+            for (final JavaScriptEscapeLevel level : JavaScriptEscapeLevel.values()) {
+                checkEscape(text -> JavaScriptEscape.escapeJavaScript(text, type, level),
+                        text -> JavaScriptEscape.indexOfFirstEscapableJavaScript(text, type, level),
+                        text -> JavaScriptEscape.requiresEscapeJavaScript(text, type, level), type + ", " + level);
+            }
+        }
+        checkUnescape(JavaScriptEscape::unescapeJavaScript, JavaScriptEscape::requiresUnescapeJavaScript,
+                "", "a b", "\\n", "\\x41\\101\\u00E1", "\\q", "a\\");
+    }
+
+
+    @Test
+    public void testJson() {
+        for (final JsonEscapeType type : JsonEscapeType.values()) {
+            for (final JsonEscapeLevel level : JsonEscapeLevel.values()) {
+                checkEscape(text -> JsonEscape.escapeJson(text, type, level),
+                        text -> JsonEscape.indexOfFirstEscapableJson(text, type, level),
+                        text -> JsonEscape.requiresEscapeJson(text, type, level), type + ", " + level);
+            }
+        }
+        checkUnescape(JsonEscape::unescapeJson, JsonEscape::requiresUnescapeJson,
+                "", "a b", "\\n", "\\/\\u00E1", "\\q", "a\\");
+    }
+
+
+    @Test
+    public void testCss() {
+        for (final CssStringEscapeType type : CssStringEscapeType.values()) {
+            for (final CssStringEscapeLevel level : CssStringEscapeLevel.values()) {
+                checkEscape(text -> CssEscape.escapeCssString(text, type, level),
+                        text -> CssEscape.indexOfFirstEscapableCssString(text, type, level),
+                        text -> CssEscape.requiresEscapeCssString(text, type, level), "string, " + type + ", " + level);
+            }
+        }
+        for (final CssIdentifierEscapeType type : CssIdentifierEscapeType.values()) {
+            for (final CssIdentifierEscapeLevel level : CssIdentifierEscapeLevel.values()) {
+                checkEscape(text -> CssEscape.escapeCssIdentifier(text, type, level),
+                        text -> CssEscape.indexOfFirstEscapableCssIdentifier(text, type, level),
+                        text -> CssEscape.requiresEscapeCssIdentifier(text, type, level),
+                        "identifier, " + type + ", " + level);
+            }
+        }
+        checkUnescape(CssEscape::unescapeCss, CssEscape::requiresUnescapeCss,
+                "", "a b", "\\41 x", "\\0000E1", "\\:", "a\\");
+    }
+
+
+    @Test
+    public void testJava() {
+        for (final JavaEscapeLevel level : JavaEscapeLevel.values()) {
+            checkEscape(text -> JavaEscape.escapeJava(text, level),
+                    text -> JavaEscape.indexOfFirstEscapableJava(text, level),
+                    text -> JavaEscape.requiresEscapeJava(text, level), level.toString());
+        }
+        checkUnescape(JavaEscape::unescapeJava, JavaEscape::requiresUnescapeJava,
+                "", "a b", "\\n", "\\u00E1\\101", "\\u005C\\u005Cn", "\\q", "a\\");
+    }
+
+
+    @Test
+    public void testProperties() {
+        for (final PropertiesValueEscapeLevel level : PropertiesValueEscapeLevel.values()) {
+            checkEscape(text -> PropertiesEscape.escapePropertiesValue(text, level),
+                    text -> PropertiesEscape.indexOfFirstEscapablePropertiesValue(text, level),
+                    text -> PropertiesEscape.requiresEscapePropertiesValue(text, level), "value, " + level);
+        }
+        for (final PropertiesKeyEscapeLevel level : PropertiesKeyEscapeLevel.values()) {
+            checkEscape(text -> PropertiesEscape.escapePropertiesKey(text, level),
+                    text -> PropertiesEscape.indexOfFirstEscapablePropertiesKey(text, level),
+                    text -> PropertiesEscape.requiresEscapePropertiesKey(text, level), "key, " + level);
+        }
+        checkUnescape(PropertiesEscape::unescapeProperties, PropertiesEscape::requiresUnescapeProperties,
+                "", "a b", "\\n", "\\u00E1\\=", "\\q", "a\\");
+    }
+
+
+    @Test
+    public void testCsv() {
+        // Whole values are enclosed in double-quotes, so the escaped result differs from the text since its start
+        for (final String text : TEXTS) {
+            final String escaped = CsvEscape.escapeCsv(text);
+            final int index = CsvEscape.indexOfFirstEscapableCsv(text);
+            assertEquals(!escaped.equals(text), CsvEscape.requiresEscapeCsv(text), text);
+            assertEquals(!escaped.equals(text), index >= 0, text);
+            if (index >= 0) {
+                assertTrue(escaped.startsWith("\"") && escaped.endsWith("\""), text);
+                assertEquals(-1, CsvEscape.indexOfFirstEscapableCsv(text.substring(0, index)), text);
+            }
+        }
+        checkUnescape(CsvEscape::unescapeCsv, CsvEscape::requiresUnescapeCsv,
+                "", "a b", "\"a\"", "\"a\"\"b\"", "a\"b", "\"");
+    }
+
+
+    @Test
+    public void testUri() {
+        checkEscape(UriEscape::escapeUriPath, UriEscape::indexOfFirstEscapableUriPath,
+                UriEscape::requiresEscapeUriPath, "path");
+        checkEscape(UriEscape::escapeUriPathSegment, UriEscape::indexOfFirstEscapableUriPathSegment,
+                UriEscape::requiresEscapeUriPathSegment, "path segment");
+        checkEscape(UriEscape::escapeUriQueryParam, UriEscape::indexOfFirstEscapableUriQueryParam,
+                UriEscape::requiresEscapeUriQueryParam, "query param");
+        checkEscape(UriEscape::escapeUriFragmentId, UriEscape::indexOfFirstEscapableUriFragmentId,
+                UriEscape::requiresEscapeUriFragmentId, "fragment id");
+        final String[] texts = new String[] { "", "a b", "a+b", "%20", "%C3%A1+", "%2B" };
+        checkUnescape(UriEscape::unescapeUriPath, UriEscape::requiresUnescapeUriPath, texts);
+        checkUnescape(UriEscape::unescapeUriPathSegment, UriEscape::requiresUnescapeUriPathSegment, texts);
+        checkUnescape(UriEscape::unescapeUriQueryParam, UriEscape::requiresUnescapeUriQueryParam, texts);
+        checkUnescape(UriEscape::unescapeUriFragmentId, UriEscape::requiresUnescapeUriFragmentId, texts);
+    }
+
+
+
+
+    private static void checkEscape(final StringOperation escapeOperation, final IndexProbe indexProbe,
+                                    final RequiresProbe requiresProbe, final String description) {
+
+        for (final String text : TEXTS) {
+
+            final String textDescription = description + ", \"" + text + "\"";
+
+            final String escaped = escapeOperation.apply(text);
+            final int index = indexProbe.apply(text);
+
+            assertEquals(!escaped.equals(text), requiresProbe.apply(text), textDescription);
+            assertEquals(!escaped.equals(text), index >= 0, textDescription);
+            // Other CharSequence implementations are examined alike
+            assertEquals(index, indexProbe.apply(new StringBuilder(text)), textDescription);
+
+            if (index >= 0) {
+                final String prefix = text.substring(0, index);
+                assertTrue(escaped.startsWith(prefix), textDescription + ", index " + index);
+                assertFalse(escaped.substring(index).equals(text.substring(index)),
+                        textDescription + ", index " + index);
+                assertEquals(-1, indexProbe.apply(prefix), textDescription + ", index " + index);
+            }
+
+        }
+
+        assertEquals(-1, indexProbe.apply(null), description);
+        assertFalse(requiresProbe.apply(null), description);
+
+    }
+
+
+    private static void checkUnescape(final StringOperation unescapeOperation, final RequiresProbe requiresProbe,
+                                      final String... texts) {
+        for (final String text : texts) {
+            assertEquals(!unescapeOperation.apply(text).equals(text), requiresProbe.apply(text), text);
+            assertEquals(requiresProbe.apply(text), requiresProbe.apply(new StringBuilder(text)), text);
+        }
+        assertFalse(requiresProbe.apply(null));
+    }
+
+
+
+
+    private interface StringOperation {
+        String apply(final String text);
+    }
+
+
+    private interface IndexProbe {
+        int apply(final CharSequence text);
+    }
+
+
+    private interface RequiresProbe {
+        boolean apply(final CharSequence text);
+    }
+
+
+}
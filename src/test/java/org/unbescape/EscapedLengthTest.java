@@ -0,0 +1,229 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.css.CssEscape;
+import org.unbescape.css.CssIdentifierEscapeLevel;
+import org.unbescape.css.CssIdentifierEscapeType;
+import org.unbescape.css.CssStringEscapeLevel;
+import org.unbescape.css.CssStringEscapeType;
+import org.unbescape.csv.CsvEscape;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.html.HtmlEscapeLevel;
+import org.unbescape.html.HtmlEscapeType;
+import org.unbescape.java.JavaEscape;
+import org.unbescape.java.JavaEscapeLevel;
+import org.unbescape.javascript.JavaScriptEscape;
+import org.unbescape.javascript.JavaScriptEscapeLevel;
+import org.unbescape.javascript.JavaScriptEscapeType;
+import org.unbescape.json.JsonEscape;
+import org.unbescape.json.JsonEscapeLevel;
+import org.unbescape.json.JsonEscapeType;
+import org.unbescape.properties.PropertiesEscape;
+import org.unbescape.properties.PropertiesKeyEscapeLevel;
+import org.unbescape.properties.PropertiesValueEscapeLevel;
+import org.unbescape.uri.UriEscape;
+import org.unbescape.xml.XmlEscape;
+import org.unbescape.xml.XmlEscapeLevel;
+import org.unbescape.xml.XmlEscapeType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * Checks that escaped-length computations return, for every family, type and level, the exact length of the result
+ * of the String escape operation, including URI escape operations with several encodings.
+ */
+public class EscapedLengthTest {
+
+
+    private static final String[] TEXTS = new String[] {
+            "",
+            "plain",
+            "plain text",
+            "<a href=\"x\" title='y'>&amp; &</a>",
+            "a</b",
+            "-1a",
+            "1a",
+            "--",
+            " x ",
+            "\u00E1\u00F1 \u20AC \uD83D\uDE00",
+            "ab\t\r\n\u0000\u007F\u0080\u009F",
+            "x\\ \" / ` = : # ! ? % + , ; @ [ ] { } ~ ^ |",
+            "x\uD800y\uDC00",
+            "a\u00A0b\u2028c\u2029d"
+    };
+
+    private static final String[] ENCODINGS = new String[] { "UTF-8", "ISO-8859-1", "UTF-16", "Shift_JIS" };
+
+
+
+    @Test
+    public void testHtml() {
+        for (final HtmlEscapeType type : HtmlEscapeType.values()) {
+            for (final HtmlEscapeLevel level : HtmlEscapeLevel.values()) {
+                check(text -> HtmlEscape.escapeHtml(text, type, level),
+                        text -> HtmlEscape.escapedLengthHtml(text, type, level), type + ", " + level);
+            }
+        }
+    }
+
+
+    @Test
+    public void testXml() {
+        for (final XmlEscapeType type : XmlEscapeType.values()) {
+            for (final XmlEscapeLevel level : XmlEscapeLevel.values()) {
+                final String description = type + ", " + level;
+                check(text -> XmlEscape.escapeXml10(text, type, level),
+                        text -> XmlEscape.escapedLengthXml10(text, type, level), "XML 1.0, " + description);
+                check(text -> XmlEscape.escapeXml11(text, type, level),
+                        text -> XmlEscape.escapedLengthXml11(text, type, level), "XML 1.1, " + description);
+                check(text -> XmlEscape.escapeXml10Attribute(text, type, level),
+                        text -> XmlEscape.escapedLengthXml10Attribute(text, type, level),
+                        "XML 1.0 attribute, " + description);
+                check(text -> XmlEscape.escapeXml11Attribute(text, type, level),
+                        text -> XmlEscape.escapedLengthXml11Attribute(text, type, level),
+                        "XML 1.1 attribute, " + description);
+            }
+        }
+    }
+
+
+    @Test
+    public void testJavaScript() {
+        for (final JavaScriptEscapeType type : JavaScriptEscapeType.values()) {
+            for (final JavaScriptEscapeLevel level : JavaScriptEscapeLevel.values()) {
+                check(text -> JavaScriptEscape.escapeJavaScript(text, type, level),
+                        text -> JavaScriptEscape.escapedLengthJavaScript(text, type, level), type + ", " + level);
+            }
+        }
+    }
+
+
+    @Test
+    public void testJson() {
+        for (final JsonEscapeType type : JsonEscapeType.values()) {
+            for (final JsonEscapeLevel level : JsonEscapeLevel.values()) {
+                check(text -> JsonEscape.escapeJson(text, type, level),
+                        text -> JsonEscape.escapedLengthJson(text, type, level), type + ", " + level);
+            }
+        }
+    }
+
+
+    @Test
+    public void testCss() {
+        for (final CssStringEscapeType type : CssStringEscapeType.values()) {
+            for (final CssStringEscapeLevel level : CssStringEscapeLevel.values()) {
+                check(text -> CssEscape.escapeCssString(text, type, level),
+                        text -> CssEscape.escapedLengthCssString(text, type, level), "string, " + type + ", " + level);
+            }
+        }
+        for (final CssIdentifierEscapeType type : CssIdentifierEscapeType.values()) {
+            for (final CssIdentifierEscapeLevel level : CssIdentifierEscapeLevel.values()) {
+                check(text -> CssEscape.escapeCssIdentifier(text, type, level),
+                        text -> CssEscape.escapedLengthCssIdentifier(text, type, level),
+                        "identifier, " + type + ", " + level);
+            }
+        }
+    }
+
+
+    @Test
+    public void testJava() {
+        for (final JavaEscapeLevel level : JavaEscapeLevel.values()) {
+            check(text -> JavaEscape.escapeJava(text, level),
+                    text -> JavaEscape.escapedLengthJava(text, level), level.toString());
+        }
+    }
+
+
+    @Test
+    public void testProperties() {
+        for (final PropertiesValueEscapeLevel level : PropertiesValueEscapeLevel.values()) {
+            check(text -> PropertiesEscape.escapePropertiesValue(text, level),
+                    text -> PropertiesEscape.escapedLengthPropertiesValue(text, level), "value, " + level);
+        }
+        for (final PropertiesKeyEscapeLevel level : PropertiesKeyEscapeLevel.values()) {
+            check(text -> PropertiesEscape.escapePropertiesKey(text, level),
+                    text -> PropertiesEscape.escapedLengthPropertiesKey(text, level), "key, " + level);
+        }
+    }
+
+
+    @Test
+    public void testCsv() {
+        check(CsvEscape::escapeCsv, CsvEscape::escapedLengthCsv, "CSV");
+    }
+
+
+    @Test
+    public void testUri() {
+        check(UriEscape::escapeUriPath, UriEscape::escapedLengthUriPath, "path");
+        check(UriEscape::escapeUriPathSegment, UriEscape::escapedLengthUriPathSegment, "path segment");
+        check(UriEscape::escapeUriQueryParam, UriEscape::escapedLengthUriQueryParam, "query param");
+        check(UriEscape::escapeUriFragmentId, UriEscape::escapedLengthUriFragmentId, "fragment id");
+        for (final String encoding : ENCODINGS) {
+            check(text -> UriEscape.escapeUriPath(text, encoding),
+                    text -> UriEscape.escapedLengthUriPath(text, encoding), "path, " + encoding);
+            check(text -> UriEscape.escapeUriPathSegment(text, encoding),
+                    text -> UriEscape.escapedLengthUriPathSegment(text, encoding), "path segment, " + encoding);
+            check(text -> UriEscape.escapeUriQueryParam(text, encoding),
+                    text -> UriEscape.escapedLengthUriQueryParam(text, encoding), "query param, " + encoding);
+            check(text -> UriEscape.escapeUriFragmentId(text, encoding),
+                    text -> UriEscape.escapedLengthUriFragmentId(text, encoding), "fragment id, " + encoding);
+        }
+    }
+
+
+
+
+    private static void check(final StringOperation escapeOperation, final LengthOperation lengthOperation,
+                              final String description) {
+
+        final StringBuilder allTexts = new StringBuilder();
+        for (final String text : TEXTS) {
+            assertEquals(escapeOperation.apply(text).length(), lengthOperation.apply(text),
+                    description + ", \"" + text + "\"");
+            allTexts.append(text);
+        }
+
+        // Other CharSequence implementations are examined alike
+        final String allText = allTexts.toString();
+        assertEquals(escapeOperation.apply(allText).length(), lengthOperation.apply(allTexts), description);
+
+        assertEquals(0L, lengthOperation.apply(null), description);
+
+    }
+
+
+
+
+    private interface StringOperation {
+        String apply(final String text);
+    }
+
+
+    private interface LengthOperation {
+        long apply(final CharSequence text);
+    }
+
+
+}
@@ -0,0 +1,193 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.css.CssEscape;
+import org.unbescape.css.CssStringEscapeLevel;
+import org.unbescape.css.CssStringEscapeType;
+import org.unbescape.css.CssStringEscaper;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.html.HtmlEscapeLevel;
+import org.unbescape.html.HtmlEscapeType;
+import org.unbescape.html.HtmlEscaper;
+import org.unbescape.javascript.JavaScriptEscape;
+import org.unbescape.javascript.JavaScriptEscapeLevel;
+import org.unbescape.javascript.JavaScriptEscapeType;
+import org.unbescape.javascript.JavaScriptEscaper;
+import org.unbescape.xml.XmlEscape;
+import org.unbescape.xml.XmlEscapeLevel;
+import org.unbescape.xml.XmlEscapeType;
+import org.unbescape.xml.XmlEscaper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/*
+ * Checks that pre-compiled escapers produce, for every type and level and for all their input and output forms,
+ * the same results as the String-based escape operations of their facades receiving the same type and level.
+ */
+public class EscaperTest {
+
+
+    private static final String[] TEXTS = new String[] {
+            "",
+            "plain text",
+            "<a href=\"x\" title='y'>&amp; &</a>",
+            "</script><!-- -->",
+            "\u00E1\u00F1\u00FF \u20AC\u2122 \uD83D\uDE00",
+            "\t\r\n\u0000\u0001\u007F\u0080\u009F",
+            "\\ \" / ` = x\uD800y\uDC00",
+            "a\u00A0b\u2028c\u2029d"
+    };
+
+
+
+    @Test
+    public void testHtml() throws IOException {
+        for (final HtmlEscapeType type : HtmlEscapeType.values()) {
+            for (final HtmlEscapeLevel level : HtmlEscapeLevel.values()) {
+                final HtmlEscaper escaper = HtmlEscape.escaper(type, level);
+                assertSame(type, escaper.getType());
+                assertSame(level, escaper.getLevel());
+                for (final String text : TEXTS) {
+                    check(HtmlEscape.escapeHtml(text, type, level), text, escaper::escape, escaper::escape,
+                            escaper::escape, escaper::escape, type + ", " + level);
+                }
+            }
+        }
+    }
+
+
+    @Test
+    public void testXml() throws IOException {
+        for (final XmlEscapeType type : XmlEscapeType.values()) {
+            for (final XmlEscapeLevel level : XmlEscapeLevel.values()) {
+                final String description = type + ", " + level;
+                for (final String text : TEXTS) {
+                    final XmlEscaper xml10 = XmlEscape.xml10Escaper(type, level);
+                    check(XmlEscape.escapeXml10(text, type, level), text,
+                            xml10::escape, xml10::escape, xml10::escape, xml10::escape, "XML 1.0, " + description);
+                    final XmlEscaper xml11 = XmlEscape.xml11Escaper(type, level);
+                    check(XmlEscape.escapeXml11(text, type, level), text,
+                            xml11::escape, xml11::escape, xml11::escape, xml11::escape, "XML 1.1, " + description);
+                    final XmlEscaper xml10Attribute = XmlEscape.xml10AttributeEscaper(type, level);
+                    check(XmlEscape.escapeXml10Attribute(text, type, level), text,
+                            xml10Attribute::escape, xml10Attribute::escape, xml10Attribute::escape,
+                            xml10Attribute::escape, "XML 1.0 attribute, " + description);
+                    final XmlEscaper xml11Attribute = XmlEscape.xml11AttributeEscaper(type, level);
+                    check(XmlEscape.escapeXml11Attribute(text, type, level), text,
+                            xml11Attribute::escape, xml11Attribute::escape, xml11Attribute::escape,
+                            xml11Attribute::escape, "XML 1.1 attribute, " + description);
+                }
+            }
+        }
+    }
+
+
+    @Test
+    public void testJavaScript() throws IOException {
+        for (final JavaScriptEscapeType type : JavaScriptEscapeType.values()) {
+            for (final JavaScriptEscapeLevel level : JavaScriptEscapeLevel.values()) {
+                final JavaScriptEscaper escaper = JavaScriptEscape.escaper(type, level);
+                assertSame(type, escaper.getType());
+                assertSame(level, escaper.getLevel());
+                for (final String text : TEXTS) {
+                    check(JavaScriptEscape.escapeJavaScript(text, type, level), text, escaper::escape,
+                            escaper::escape, escaper::escape, escaper::escape, type + ", " + level);
+                }
+            }
+        }
+    }
+
+
+    @Test
+    public void testCssString() throws IOException {
+        for (final CssStringEscapeType type : CssStringEscapeType.values()) {
+            for (final CssStringEscapeLevel level : CssStringEscapeLevel.values()) {
+                final CssStringEscaper escaper = CssEscape.stringEscaper(type, level);
+                assertSame(type, escaper.getType());
+                assertSame(level, escaper.getLevel());
+                for (final String text : TEXTS) {
+                    check(CssEscape.escapeCssString(text, type, level), text, escaper::escape,
+                            escaper::escape, escaper::escape, escaper::escape, type + ", " + level);
+                }
+            }
+        }
+    }
+
+
+
+
+    private static void check(final String expected, final String text,
+                              final StringOperation stringOperation, final StringBuilderOperation builderOperation,
+                              final ReaderOperation readerOperation, final CharArrayOperation charArrayOperation,
+                              final String description) throws IOException {
+
+        final String result = stringOperation.escape(text);
+        assertEquals(expected, result, description);
+        if (expected.equals(text)) {
+            assertSame(text, result, description);
+        }
+        // Input other than a String
+        assertEquals(expected, stringOperation.escape(new StringBuilder(text)), description);
+
+        final StringBuilder strBuilder = new StringBuilder("x");
+        builderOperation.escape(text, strBuilder);
+        assertEquals("x" + expected, strBuilder.toString(), description);
+
+        final StringWriter readerWriter = new StringWriter();
+        readerOperation.escape(new StringReader(text), readerWriter);
+        assertEquals(expected, readerWriter.toString(), description);
+
+        final StringWriter charArrayWriter = new StringWriter();
+        charArrayOperation.escape(("__" + text + "__").toCharArray(), 2, text.length(), charArrayWriter);
+        assertEquals(expected, charArrayWriter.toString(), description);
+
+    }
+
+
+
+
+    private interface StringOperation {
+        String escape(final CharSequence text);
+    }
+
+
+    private interface StringBuilderOperation {
+        void escape(final CharSequence text, final StringBuilder strBuilder);
+    }
+
+
+    private interface ReaderOperation {
+        void escape(final StringReader reader, final StringWriter writer) throws IOException;
+    }
+
+
+    private interface CharArrayOperation {
+        void escape(final char[] text, final int offset, final int len, final StringWriter writer) throws IOException;
+    }
+
+
+}
@@ -0,0 +1,197 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.html.HtmlEscapeLevel;
+import org.unbescape.html.HtmlEscapeType;
+import org.unbescape.json.JsonEscape;
+import org.unbescape.json.JsonEscapeLevel;
+import org.unbescape.json.JsonEscapeType;
+import org.unbescape.xml.XmlEscape;
+import org.unbescape.xml.XmlEscapeLevel;
+import org.unbescape.xml.XmlEscapeType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * Checks that escaping writers produce, for every type and level, the same results as escaping the whole text
+ * written through them at once with the String API, however the text is split into writes (including surrogate
+ * pairs and "</" split between writes), and whichever of the Writer methods is used for writing it.
+ */
+public class EscapingWriterTest {
+
+
+    private static final String TEXT =
+            "<a href=\"x\">'&amp;</a></script> \u00E1\u20AC\uD83D\uDE00\t\n\u0000\u007F\\ \uD800x";
+
+    // Longer than the input and output buffers of the writers
+    private static final int LONG_TEXT_REPETITIONS = 200;
+
+    private static final int[] WRITE_SIZES = new int[] { 1, 2, 3, 7, 1500 };
+
+
+
+    @Test
+    public void testHtml() throws IOException {
+        for (final HtmlEscapeType type : HtmlEscapeType.values()) {
+            for (final HtmlEscapeLevel level : HtmlEscapeLevel.values()) {
+                check(writer -> HtmlEscape.escapingWriter(writer, type, level),
+                        text -> HtmlEscape.escapeHtml(text, type, level), type + ", " + level);
+            }
+        }
+    }
+
+
+    @Test
+    public void testXml() throws IOException {
+        for (final XmlEscapeType type : XmlEscapeType.values()) {
+            for (final XmlEscapeLevel level : XmlEscapeLevel.values()) {
+                final String description = type + ", " + level;
+                check(writer -> XmlEscape.xml10EscapingWriter(writer, type, level),
+                        text -> XmlEscape.escapeXml10(text, type, level), "XML 1.0, " + description);
+                check(writer -> XmlEscape.xml11EscapingWriter(writer, type, level),
+                        text -> XmlEscape.escapeXml11(text, type, level), "XML 1.1, " + description);
+                check(writer -> XmlEscape.xml10AttributeEscapingWriter(writer, type, level),
+                        text -> XmlEscape.escapeXml10Attribute(text, type, level), "XML 1.0 attribute, " + description);
+                check(writer -> XmlEscape.xml11AttributeEscapingWriter(writer, type, level),
+                        text -> XmlEscape.escapeXml11Attribute(text, type, level), "XML 1.1 attribute, " + description);
+            }
+        }
+    }
+
+
+    @Test
+    public void testJson() throws IOException {
+        for (final JsonEscapeType type : JsonEscapeType.values()) {
+            for (final JsonEscapeLevel level : JsonEscapeLevel.values()) {
+                check(writer -> JsonEscape.escapingWriter(writer, type, level),
+                        text -> JsonEscape.escapeJson(text, type, level), type + ", " + level);
+            }
+        }
+    }
+
+
+    @Test
+    public void testClose() throws IOException {
+
+        final StringWriter stringWriter = new StringWriter();
+        final Writer writer = HtmlEscape.escapingWriter(
+                stringWriter, HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+
+        // A high surrogate might need the char following it, but closing means there is none
+        writer.write("<\uD83D");
+        writer.close();
+        writer.close();
+        assertEquals("&lt;\uD83D", stringWriter.toString());
+
+        assertThrows(IOException.class, () -> writer.write('x'));
+        assertThrows(IOException.class, writer::flush);
+
+    }
+
+
+
+
+    private static void check(final WriterFactory writerFactory, final StringOperation stringOperation,
+                              final String description) throws IOException {
+
+        // Split at every position, so that every pair of consecutive chars is split between writes once
+        final String expectedText = stringOperation.apply(TEXT);
+        for (int split = 0; split <= TEXT.length(); split++) {
+            final StringWriter stringWriter = new StringWriter();
+            final Writer writer = writerFactory.create(stringWriter);
+            writer.write(TEXT, 0, split);
+            writer.flush();
+            writer.write(TEXT.substring(split));
+            writer.close();
+            assertEquals(expectedText, stringWriter.toString(), description + ", split at " + split);
+        }
+
+        final StringBuilder longText = new StringBuilder();
+        for (int i = 0; i < LONG_TEXT_REPETITIONS; i++) {
+            longText.append(TEXT);
+        }
+
+        for (final String text : new String[] { TEXT, longText.toString() }) {
+
+            final String expected = stringOperation.apply(text);
+
+            for (final int writeSize : WRITE_SIZES) {
+
+                final String writeDescription = description + ", writes of " + writeSize;
+
+                final StringWriter charArrayWriter = new StringWriter();
+                final Writer charArrayEscapingWriter = writerFactory.create(charArrayWriter);
+                final char[] chars = text.toCharArray();
+                for (int i = 0; i < chars.length; i += writeSize) {
+                    charArrayEscapingWriter.write(chars, i, Math.min(writeSize, chars.length - i));
+                }
+                charArrayEscapingWriter.close();
+                assertEquals(expected, charArrayWriter.toString(), writeDescription);
+
+                final StringWriter appendWriter = new StringWriter();
+                final Writer appendEscapingWriter = writerFactory.create(appendWriter);
+                final StringBuilder textBuilder = new StringBuilder(text);
+                for (int i = 0; i < text.length(); i += writeSize) {
+                    appendEscapingWriter.append(textBuilder, i, Math.min(text.length(), i + writeSize));
+                }
+                appendEscapingWriter.close();
+                assertEquals(expected, appendWriter.toString(), writeDescription);
+
+            }
+
+            final StringWriter charWriter = new StringWriter();
+            final Writer charEscapingWriter = writerFactory.create(charWriter);
+            for (int i = 0; i < text.length(); i++) {
+                if (i % 2 == 0) {
+                    charEscapingWriter.write(text.charAt(i));
+                } else {
+                    charEscapingWriter.append(text.charAt(i));
+                }
+            }
+            charEscapingWriter.close();
+            assertEquals(expected, charWriter.toString(), description + ", single chars");
+
+        }
+
+    }
+
+
+
+
+    private interface WriterFactory {
+        Writer create(final Writer writer);
+    }
+
+
+    private interface StringOperation {
+        String apply(final String text);
+    }
+
+
+}
@@ -0,0 +1,199 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.html.HtmlEscapeLevel;
+import org.unbescape.html.HtmlEscapeType;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * Checks that UTF-8 byte-based HTML escape operations produce, at every escape level, the same results as decoding
+ * the input into a String, escaping it and encoding the result, including for malformed UTF-8 input (which the
+ * JDK's decoder replaces by U+FFFD), and that they only read and write the specified ranges of their arrays and
+ * buffers.
+ */
+public class HtmlEscapeUtf8Test {
+
+
+    // Longer than the buffers used for reading direct ByteBuffers, so that sequences are split between chunks
+    private static final int LONG_TEXT_REPETITIONS = 1000;
+
+    private static final byte[][] TEXTS = new byte[][] {
+            bytes("a<b>&\"'"),
+            bytes("\u00E1\u20AC\uD83D\uDE00 x"),
+            new byte[] { (byte) 0x80 },                                         // lone continuation byte
+            new byte[] { 'a', (byte) 0xC3 },                                    // truncated at end of input
+            new byte[] { (byte) 0xC3, 'A', '<' },                               // truncated before ASCII
+            new byte[] { (byte) 0xE2, (byte) 0x82, '&' },                       // truncated 3-byte sequence
+            new byte[] { (byte) 0xF0, (byte) 0x9F, (byte) 0x98 },               // truncated 4-byte sequence
+            new byte[] { (byte) 0xED, (byte) 0xA0, (byte) 0x80, 'x' },          // encoded surrogate
+            new byte[] { (byte) 0xC0, (byte) 0xAF, (byte) 0xF5, (byte) 0xFF },  // overlong and invalid bytes
+            new byte[] { (byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80 },  // beyond U+10FFFF
+            new byte[] { 'x', (byte) 0xC3, (byte) 0xA1, (byte) 0xE2, (byte) 0x82, (byte) 0xC3, (byte) 0xA1, '>' }
+    };
+
+
+
+    @Test
+    public void testMalformedInputAtEveryLevel() throws IOException {
+
+        for (final HtmlEscapeType type : HtmlEscapeType.values()) {
+            for (final HtmlEscapeLevel level : HtmlEscapeLevel.values()) {
+                for (final byte[] text : TEXTS) {
+                    check(text, type, level);
+                    check(repeat(text, LONG_TEXT_REPETITIONS), type, level);
+                }
+            }
+        }
+
+    }
+
+
+    @Test
+    public void testRangesAndBufferPositions() throws IOException {
+
+        final String text = "<p title=\"\u00E1\">caf\u00E9 &amp; \uD83D\uDE00</p>";
+        final byte[] bytes = bytes(text);
+        final byte[] padded = bytes("\u00E9<" + text + ">\u00E9");
+        final int offset = bytes("\u00E9<").length;
+
+        for (final HtmlEscapeType type : HtmlEscapeType.values()) {
+            for (final HtmlEscapeLevel level : HtmlEscapeLevel.values()) {
+
+                final String description = type + ", " + level;
+                final byte[] expected = bytes(HtmlEscape.escapeHtml(text, type, level));
+
+                // byte[] range
+                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                HtmlEscape.escapeHtmlUtf8(padded, offset, bytes.length, outputStream, type, level);
+                assertArrayEquals(expected, outputStream.toByteArray(), description);
+                assertEquals(expected.length,
+                        HtmlEscape.escapedLengthHtmlUtf8(padded, offset, bytes.length, type, level), description);
+
+                // ByteBuffer input from its position to its limit, which is left at its limit
+                final ByteBuffer input = ByteBuffer.wrap(padded, offset, bytes.length);
+                assertEquals(expected.length, HtmlEscape.escapedLengthHtmlUtf8(input, type, level), description);
+                assertEquals(offset, input.position(), description);
+                final ByteBuffer output = ByteBuffer.allocate(expected.length + 4);
+                output.put((byte) 'x');
+                HtmlEscape.escapeHtmlUtf8(input, output, type, level);
+                assertEquals(offset + bytes.length, input.position(), description);
+                assertEquals(1 + expected.length, output.position(), description);
+                assertArrayEquals(expected, Arrays.copyOfRange(output.array(), 1, 1 + expected.length), description);
+
+                // ByteBuffer output without enough space remaining
+                final ByteBuffer smallOutput = ByteBuffer.allocate(expected.length - 1);
+                assertThrows(BufferOverflowException.class,
+                        () -> HtmlEscape.escapeHtmlUtf8(ByteBuffer.wrap(bytes), smallOutput, type, level),
+                        description);
+
+            }
+        }
+
+    }
+
+
+    @Test
+    public void testPresets() throws IOException {
+
+        final String text = "<p>caf\u00E9 &amp; \uD83D\uDE00</p>";
+        final byte[] bytes = bytes(text);
+
+        final ByteArrayOutputStream html5 = new ByteArrayOutputStream();
+        HtmlEscape.escapeHtml5Utf8(bytes, 0, bytes.length, html5);
+        assertArrayEquals(bytes(HtmlEscape.escapeHtml5(text)), html5.toByteArray());
+
+        final ByteArrayOutputStream html5Xml = new ByteArrayOutputStream();
+        HtmlEscape.escapeHtml5XmlUtf8(ByteBuffer.wrap(bytes), html5Xml);
+        assertArrayEquals(bytes(HtmlEscape.escapeHtml5Xml(text)), html5Xml.toByteArray());
+
+        final ByteArrayOutputStream html4 = new ByteArrayOutputStream();
+        HtmlEscape.escapeHtml4Utf8(bytes, 0, bytes.length, html4);
+        assertArrayEquals(bytes(HtmlEscape.escapeHtml4(text)), html4.toByteArray());
+
+        final byte[] expectedHtml4Xml = bytes(HtmlEscape.escapeHtml4Xml(text));
+        final ByteBuffer html4Xml = ByteBuffer.allocate(expectedHtml4Xml.length);
+        HtmlEscape.escapeHtml4XmlUtf8(ByteBuffer.wrap(bytes), html4Xml);
+        assertArrayEquals(expectedHtml4Xml, html4Xml.array());
+
+    }
+
+
+
+
+    private static void check(final byte[] text, final HtmlEscapeType type, final HtmlEscapeLevel level)
+                              throws IOException {
+
+        final String description = type + ", " + level + ", input " + Arrays.toString(
+                Arrays.copyOf(text, Math.min(text.length, 16)));
+
+        final byte[] expected =
+                HtmlEscape.escapeHtml(new String(text, StandardCharsets.UTF_8), type, level)
+                        .getBytes(StandardCharsets.UTF_8);
+
+        // byte[] input, OutputStream output
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        HtmlEscape.escapeHtmlUtf8(text, 0, text.length, outputStream, type, level);
+        assertArrayEquals(expected, outputStream.toByteArray(), description);
+
+        // direct ByteBuffer input (read in chunks), OutputStream output
+        final ByteBuffer directText = ByteBuffer.allocateDirect(text.length);
+        directText.put(text).flip();
+        final ByteArrayOutputStream directOutputStream = new ByteArrayOutputStream();
+        HtmlEscape.escapeHtmlUtf8(directText, directOutputStream, type, level);
+        assertArrayEquals(expected, directOutputStream.toByteArray(), description);
+
+        // ByteBuffer input, ByteBuffer output, sized by means of the escaped length
+        final long escapedLength = HtmlEscape.escapedLengthHtmlUtf8(text, 0, text.length, type, level);
+        assertEquals(expected.length, escapedLength, description);
+        final ByteBuffer output = ByteBuffer.allocate((int) escapedLength);
+        HtmlEscape.escapeHtmlUtf8(ByteBuffer.wrap(text), output, type, level);
+        assertArrayEquals(expected, output.array(), description);
+
+    }
+
+
+    private static byte[] bytes(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    private static byte[] repeat(final byte[] text, final int times) {
+        final byte[] result = new byte[text.length * times];
+        for (int i = 0; i < times; i++) {
+            System.arraycopy(text, 0, result, i * text.length, text.length);
+        }
+        return result;
+    }
+
+
+}
@@ -0,0 +1,139 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.html.HtmlEscapeLevel;
+import org.unbescape.html.HtmlEscapeType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Checks that the shortest-reference HTML escape types escape every codepoint with a reference no longer than its
+ * NCR (if any), decimal and hexadecimal references, preferring NCRs and then decimal references on equal lengths,
+ * and that unescaping their results gives back the original text.
+ */
+public class HtmlShortestReferencesTest {
+
+
+    // Includes U+222E, whose first NCR (&conint;) is not the shortest one, and U+2233, whose NCRs are all longer
+    // than its numeric references
+    private static final String TEXT =
+            "<a href=\"x\">'&amp;</a> \u00E1\u00A0\u20AC\u222E\u2233\u2032\u00AD \uD83D\uDE00 fj\n\t";
+
+
+
+    @Test
+    public void testAllCodepoints() {
+        checkAllCodepoints(HtmlEscapeType.HTML4_SHORTEST_REFERENCES,
+                HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL);
+        checkAllCodepoints(HtmlEscapeType.HTML5_SHORTEST_REFERENCES,
+                HtmlEscapeType.HTML5_NAMED_REFERENCES_DEFAULT_TO_DECIMAL);
+    }
+
+
+    @Test
+    public void testExamples() {
+
+        final HtmlEscapeLevel level = HtmlEscapeLevel.LEVEL_2_ALL_NON_ASCII_PLUS_MARKUP_SIGNIFICANT;
+
+        assertEquals("&oint;", HtmlEscape.escapeHtml("\u222E", HtmlEscapeType.HTML5_SHORTEST_REFERENCES, level));
+        assertEquals("&#8755;", HtmlEscape.escapeHtml("\u2233", HtmlEscapeType.HTML5_SHORTEST_REFERENCES, level));
+        assertEquals("&lt;", HtmlEscape.escapeHtml("<", HtmlEscapeType.HTML4_SHORTEST_REFERENCES, level));
+        // Decimal references are preferred to hexadecimal ones of the same length
+        assertEquals("&#128512;",
+                HtmlEscape.escapeHtml("\uD83D\uDE00", HtmlEscapeType.HTML5_SHORTEST_REFERENCES, level));
+        assertEquals("&#xffffd;",
+                HtmlEscape.escapeHtml("\uDBBF\uDFFD", HtmlEscapeType.HTML5_SHORTEST_REFERENCES, level));
+
+    }
+
+
+    @Test
+    public void testRoundTripAtEveryLevel() {
+        for (final HtmlEscapeType type :
+                new HtmlEscapeType[] { HtmlEscapeType.HTML4_SHORTEST_REFERENCES,
+                                       HtmlEscapeType.HTML5_SHORTEST_REFERENCES }) {
+            for (final HtmlEscapeLevel level : HtmlEscapeLevel.values()) {
+                final String escaped = HtmlEscape.escapeHtml(TEXT, type, level);
+                assertEquals(TEXT, HtmlEscape.unescapeHtml(escaped), type + ", " + level);
+                assertTrue(escaped.length() <= HtmlEscape.escapeHtml(TEXT, HtmlEscapeType.DECIMAL_REFERENCES, level)
+                        .length(), type + ", " + level);
+            }
+        }
+    }
+
+
+
+
+    /*
+     * Escapes every codepoint on its own at the level that escapes all of them, and compares the result with the
+     * references obtained by the named, decimal and hexadecimal escape types.
+     */
+    private static void checkAllCodepoints(final HtmlEscapeType shortestType, final HtmlEscapeType namedType) {
+
+        final HtmlEscapeLevel level = HtmlEscapeLevel.LEVEL_4_ALL_CHARACTERS;
+
+        for (int codepoint = 0; codepoint <= Character.MAX_CODE_POINT; codepoint++) {
+
+            if (codepoint >= Character.MIN_SURROGATE && codepoint <= Character.MAX_SURROGATE) {
+                continue;
+            }
+            if (codepoint > 0x2FFFF && codepoint < 0x10FFFF) {
+                // No NCRs exist for these, so just a few of them are checked
+                codepoint += 0xFFF;
+            }
+
+            final String text = new String(Character.toChars(codepoint));
+            final String description = shortestType + ", U+" + Integer.toHexString(codepoint);
+
+            final String shortest = HtmlEscape.escapeHtml(text, shortestType, level);
+            final String named = HtmlEscape.escapeHtml(text, namedType, level);
+            final String decimal = HtmlEscape.escapeHtml(text, HtmlEscapeType.DECIMAL_REFERENCES, level);
+            final String hexa = HtmlEscape.escapeHtml(text, HtmlEscapeType.HEXADECIMAL_REFERENCES, level);
+
+            // The named types may choose NCRs allowed without a semicolon (e.g. "&AElig"), which the shortest
+            // types never use, so these are compared as if they had one
+            final boolean hasNcr = !named.startsWith("&#");
+            final int ncrLength = (named.endsWith(";")? named.length() : named.length() + 1);
+            final int numericLength = Math.min(decimal.length(), hexa.length());
+
+            assertTrue(shortest.length() <= numericLength, description);
+
+            if (shortest.startsWith("&#")) {
+                assertEquals(decimal.length() <= hexa.length()? decimal : hexa, shortest, description);
+                // On equal lengths, NCRs are preferred
+                assertTrue(!hasNcr || ncrLength > numericLength, description);
+            } else {
+                assertTrue(shortest.endsWith(";"), description);
+                assertTrue(hasNcr && shortest.length() <= ncrLength, description);
+                // Unescape uses HTML5 NCRs, some of which refer to other codepoints in HTML4 (e.g. &lang;), so
+                // the NCR is compared with the one chosen by the named type instead of with the codepoint
+                assertEquals(HtmlEscape.unescapeHtml(named), HtmlEscape.unescapeHtml(shortest), description);
+            }
+
+        }
+
+    }
+
+
+}
@@ -0,0 +1,121 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.json.JsonEscape;
+import org.unbescape.xml.XmlEscape;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * Checks that in-place char[] unescape operations leave at the start of the unescaped range the same result as the
+ * String unescape operations, and that they never modify the chars outside that range.
+ */
+public class InPlaceUnescapeTest {
+
+
+    private static final String PADDING = "&amp;\\n";
+
+
+
+    @Test
+    public void testHtml() {
+        final String[] texts = new String[] {
+                "", "plain text", "&amp;", "a &lt;b&gt; &amp &ampx &#x41;&#66; &#128512;&#x1F600;",
+                "&CounterClockwiseContourIntegral;&notin;&notit;&lt", "&", "&#", "&#x;&#xZ;&unknown;",
+                "\u00E1&aacute;\uD83D\uDE00&#0;&#xD800;&#x110000;"
+        };
+        for (final String text : texts) {
+            check(HtmlEscape.unescapeHtml(text), text, HtmlEscape::unescapeHtmlInPlace);
+        }
+        checkInvalidRanges(HtmlEscape::unescapeHtmlInPlace);
+    }
+
+
+    @Test
+    public void testXml() {
+        final String[] texts = new String[] {
+                "", "plain text", "&amp;", "a &lt;b&gt; &quot;&apos; &amp &#x41;&#66; &#128512;&#x1F600;",
+                "&", "&#", "&#x;&#xZ;&unknown;&aacute;", "\u00E1\uD83D\uDE00&#xD7FF;"
+        };
+        for (final String text : texts) {
+            check(XmlEscape.unescapeXml(text), text, XmlEscape::unescapeXmlInPlace);
+        }
+        checkInvalidRanges(XmlEscape::unescapeXmlInPlace);
+    }
+
+
+    @Test
+    public void testJson() {
+        final String[] texts = new String[] {
+                "", "plain text", "\\n", "a\\tb\\\\c\\/d\\\"e\\u00E1\\ud83d\\ude00\\u002F", "\\", "\\x\\u00E",
+                "\u00E1\uD83D\uDE00\\b\\f\\r"
+        };
+        for (final String text : texts) {
+            check(JsonEscape.unescapeJson(text), text, JsonEscape::unescapeJsonInPlace);
+        }
+        checkInvalidRanges(JsonEscape::unescapeJsonInPlace);
+    }
+
+
+
+
+    private static void check(final String expected, final String text, final InPlaceOperation operation) {
+
+        final char[] chars = (PADDING + text + PADDING).toCharArray();
+        final int len = operation.unescape(chars, PADDING.length(), text.length());
+
+        assertEquals(expected, new String(chars, PADDING.length(), len), text);
+        assertArrayEquals(PADDING.toCharArray(), Arrays.copyOfRange(chars, 0, PADDING.length()), text);
+        assertArrayEquals(PADDING.toCharArray(),
+                Arrays.copyOfRange(chars, PADDING.length() + text.length(), chars.length), text);
+
+        // Also the whole array, and the empty range at the end of it
+        final char[] wholeChars = text.toCharArray();
+        final int wholeLen = operation.unescape(wholeChars, 0, wholeChars.length);
+        assertEquals(expected, new String(wholeChars, 0, wholeLen), text);
+        assertEquals(0, operation.unescape(wholeChars, wholeChars.length, 0), text);
+
+    }
+
+
+    private static void checkInvalidRanges(final InPlaceOperation operation) {
+        final char[] chars = "&amp;".toCharArray();
+        assertEquals(0, operation.unescape(null, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> operation.unescape(chars, -1, 2));
+        assertThrows(IllegalArgumentException.class, () -> operation.unescape(chars, 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> operation.unescape(chars, 6, 0));
+    }
+
+
+
+
+    private interface InPlaceOperation {
+        int unescape(final char[] text, final int offset, final int len);
+    }
+
+
+}
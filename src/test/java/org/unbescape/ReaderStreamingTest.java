@@ -0,0 +1,307 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.css.CssEscape;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.java.JavaEscape;
+import org.unbescape.javascript.JavaScriptEscape;
+import org.unbescape.json.JsonEscape;
+import org.unbescape.properties.PropertiesEscape;
+import org.unbescape.uri.UriEscape;
+import org.unbescape.xml.XmlEscape;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Checks that Reader-based operations produce the same results as String-based ones whatever the way the text
+ * is split by the Reader, and that they write their results as they read the text (i.e. they never need to keep
+ * more than a couple of buffers of input in memory), even for texts dense in escape sequences.
+ */
+public class ReaderStreamingTest {
+
+
+    private static final int TEXT_LENGTH = 1000000;
+
+    // Twice the size of the buffers used by the Reader-based operations
+    private static final int MAX_READ_AHEAD = 4096;
+
+    private static final int[] READ_SIZES = new int[] { 1, 2, 3, 5, 7, 11, 13, 64, 2048, 4096 };
+
+    private static final int[] SINGLE_CHAR_READ_SIZES = new int[] { 1 };
+
+    private static final String ZEROS = "0000000000000000000000000000000000000000";
+
+
+
+    @Test
+    public void testJsonUnescape() throws IOException {
+        check(JsonEscape::unescapeJson, JsonEscape::unescapeJson,
+                "", "ab\\n", "\\", "\\\\\\n", "\\u00E1", "a\\u00E1\\\\u0041\\\"", "\\u00E");
+    }
+
+
+    @Test
+    public void testJavaScriptUnescape() throws IOException {
+        check(JavaScriptEscape::unescapeJavaScript, JavaScriptEscape::unescapeJavaScript,
+                "", "ab\\n", "\\", "\\\\\\n", "\\x41\\101\\u00E1\\0", "\\u00E", "\\1");
+    }
+
+
+    @Test
+    public void testCssUnescape() throws IOException {
+        check(CssEscape::unescapeCss, CssEscape::unescapeCss,
+                "", "ab\\41 ", "\\", "\\\\\\n", "\\0000E1 x\\\\", "\\41\\42", "\\E1");
+    }
+
+
+    @Test
+    public void testPropertiesUnescape() throws IOException {
+        check(PropertiesEscape::unescapeProperties, PropertiesEscape::unescapeProperties,
+                "", "ab\\n", "\\", "\\\\\\n", "\\u00E1\\\\t", "\\u00E");
+    }
+
+
+    @Test
+    public void testJavaUnescape() throws IOException {
+        check(JavaEscape::unescapeJava, JavaEscape::unescapeJava,
+                "", "ab\\n", "\\", "\\\\\\n", "\\u005C\\u005Cn", "\\u005C101x", "\\u005C\\101", "\\u00E");
+    }
+
+
+    @Test
+    public void testHtmlUnescape() throws IOException {
+        check(HtmlEscape::unescapeHtml, HtmlEscape::unescapeHtml,
+                "", "&amp;&lt;x", "&CounterClockwiseContourIntegral;", "&ampx&am", "&#x41;&#65", "a&");
+        check(HtmlEscape::unescapeHtml, HtmlEscape::unescapeHtml,
+                "&", "a");
+    }
+
+
+    @Test
+    public void testXmlUnescape() throws IOException {
+        check(XmlEscape::unescapeXml, XmlEscape::unescapeXml,
+                "", "&amp;&lt;x", "&#x41;&#65;", "&quot", "a&");
+        check(XmlEscape::unescapeXml, XmlEscape::unescapeXml,
+                "&", "a");
+    }
+
+
+    @Test
+    public void testUriUnescape() throws IOException {
+        check(UriEscape::unescapeUriPath, UriEscape::unescapeUriPath,
+                "", "%E2", "%E2%82%AC", "%F0%9F%98%80", "%C3%A1a", "%80");
+        check(UriEscape::unescapeUriQueryParam, UriEscape::unescapeUriQueryParam,
+                "", "%C3%A1+");
+    }
+
+
+    @Test
+    public void testLongEscapesReadOneCharAtATime() throws IOException {
+        checkOneCharAtATime(XmlEscape::unescapeXml, XmlEscape::unescapeXml,
+                "xyz&#0000000000065;", "a&#" + ZEROS + "65;b", "&#x" + ZEROS + "41;", "&#99999999;", "&#1114112;x",
+                "&#x110000;", "&amp;&#", "&#12a;", "&quotx");
+        checkOneCharAtATime(HtmlEscape::unescapeHtml, HtmlEscape::unescapeHtml,
+                "xyz&#0000000000065;", "a&#" + ZEROS + "65;b", "&#X" + ZEROS + "41x", "&#99999999;", "&#1114112;x",
+                "&#x" + ZEROS + "110000;", "&CounterClockwiseContourIntegral;", "&notin;&notinx", "&#12a;");
+        checkOneCharAtATime(JavaEscape::unescapeJava, JavaEscape::unescapeJava,
+                "\\uuuuuuuuuuuuuuuuuuuuuu0041x", "a\\u005C" + "uuuuuuuuuuuuuuuuuuuu0041", "\\\\uuuu0041",
+                "\\uuuuuuuuuuuuuuuuuuuuuu00E1\\101", "\\u004");
+    }
+
+
+    @Test
+    public void testJsonEscape() throws IOException {
+        check(JsonEscape::escapeJson, JsonEscape::escapeJson,
+                "", "<", "</", "\uD83D\uDE00<");
+    }
+
+
+    @Test
+    public void testJavaScriptEscape() throws IOException {
+        check(JavaScriptEscape::escapeJavaScript, JavaScriptEscape::escapeJavaScript,
+                "", "<", "</", "\uD83D\uDE00<");
+    }
+
+
+
+
+    /*
+     * Checks each of the specified patterns, repeated (after the specified prefix) until the text reaches
+     * TEXT_LENGTH chars.
+     */
+    private static void check(final ReaderOperation readerOperation, final StringOperation stringOperation,
+                              final String prefix, final String... patterns) throws IOException {
+
+        for (final String pattern : patterns) {
+
+            final StringBuilder strBuilder = new StringBuilder(TEXT_LENGTH + pattern.length());
+            strBuilder.append(prefix);
+            while (strBuilder.length() < TEXT_LENGTH) {
+                strBuilder.append(pattern);
+            }
+            final String text = strBuilder.toString();
+
+            final String expected = stringOperation.apply(text);
+
+            final TextReader reader = new TextReader(text, READ_SIZES);
+            final StreamingWriter writer = new StreamingWriter(reader);
+            readerOperation.apply(reader, writer);
+
+            final String description = "pattern \"" + prefix + "\" + \"" + pattern + "\"...";
+            assertEquals(expected.length(), writer.getBuffer().length(), description);
+            assertTrue(expected.contentEquals(writer.getBuffer()), description);
+            assertTrue(writer.maxReadAhead <= MAX_READ_AHEAD,
+                    description + " read " + writer.maxReadAhead + " chars ahead of its output");
+
+        }
+
+    }
+
+
+
+
+    /*
+     * Checks each of the specified texts, read one char at a time, expecting the same results (or the same
+     * IllegalArgumentException) as the String-based operation.
+     */
+    private static void checkOneCharAtATime(final ReaderOperation readerOperation,
+                                            final StringOperation stringOperation, final String... texts)
+                                            throws IOException {
+
+        for (final String text : texts) {
+
+            final String expected;
+            try {
+                expected = stringOperation.apply(text);
+            } catch (final IllegalArgumentException e) {
+                assertThrows(IllegalArgumentException.class,
+                        () -> readerOperation.apply(new TextReader(text, SINGLE_CHAR_READ_SIZES), new StringWriter()),
+                        text);
+                continue;
+            }
+
+            final StringWriter writer = new StringWriter();
+            readerOperation.apply(new TextReader(text, SINGLE_CHAR_READ_SIZES), writer);
+            assertEquals(expected, writer.toString(), text);
+
+        }
+
+    }
+
+
+
+
+    private interface ReaderOperation {
+        void apply(final Reader reader, final Writer writer) throws IOException;
+    }
+
+
+    private interface StringOperation {
+        String apply(final String text);
+    }
+
+
+    /*
+     * Reader returning chunks of the specified (cycling) lengths, and keeping count of the amount of chars it has
+     * returned.
+     */
+    private static final class TextReader extends Reader {
+
+        private final String text;
+        private final int[] readSizes;
+        private int pos = 0;
+        private int reads = 0;
+
+        TextReader(final String text, final int[] readSizes) {
+            super();
+            this.text = text;
+            this.readSizes = readSizes;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) {
+            if (this.pos >= this.text.length()) {
+                return -1;
+            }
+            final int readSize = this.readSizes[this.reads++ % this.readSizes.length];
+            final int n = Math.min(Math.min(len, readSize), this.text.length() - this.pos);
+            this.text.getChars(this.pos, this.pos + n, cbuf, off);
+            this.pos += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to be done
+        }
+
+    }
+
+
+    /*
+     * Writer keeping the maximum amount of chars that have been read from a TextReader between two writes.
+     */
+    private static final class StreamingWriter extends StringWriter {
+
+        private final TextReader reader;
+        private int lastReadPos = 0;
+        private int maxReadAhead = 0;
+
+        StreamingWriter(final TextReader reader) {
+            super();
+            this.reader = reader;
+        }
+
+        private void written() {
+            this.maxReadAhead = Math.max(this.maxReadAhead, this.reader.pos - this.lastReadPos);
+            this.lastReadPos = this.reader.pos;
+        }
+
+        @Override
+        public void write(final int c) {
+            written();
+            super.write(c);
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+            written();
+            super.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) {
+            written();
+            super.write(str, off, len);
+        }
+
+    }
+
+
+}
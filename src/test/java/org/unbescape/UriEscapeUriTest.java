@@ -0,0 +1,224 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.uri.UriEscape;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Checks that whole-URI escape operations escape the authority (user information and registered-name hosts) and
+ * produce URIs that java.net.URI accepts, that they reject authorities that cannot be made valid by escaping, and
+ * that they escape the path, query parameters and fragment identifier exactly as the String escape operations for
+ * each of these components do.
+ */
+public class UriEscapeUriTest {
+
+
+    // Splits a URI reference into scheme, authority, path, query and fragment identifier (RFC3986, appendix B)
+    private static final Pattern URI_PATTERN =
+            Pattern.compile("^(([^:/?#]+):)?(//([^/?#]*))?([^?#]*)(\\?([^#]*))?(#(.*))?$", Pattern.DOTALL);
+
+    private static final String[] URIS = new String[] {
+            "",
+            "http://example.com",
+            "http://example.com/",
+            "https://example.com:8080/a b/c%d/\u00E1\u20AC?q=x y&lang=en#top",
+            "https://example.com/p;a=r/a+b?a+b=c+d&x==y&&flag&=v&#frag ment#2",
+            "/relative/path with spaces/?k=v/?#f?/:@",
+            "path/only:x@y",
+            "?query=only&\u00F1=\uD83D\uDE00",
+            "#fragment only \u00E1",
+            "mailto:user@example.com?subject=a b&body=x=y",
+            "http://example.com/[x]{y}|z^`\"<>\\?[q]={v}|#[f]{g}|",
+            "//example.com?a=%20&b=%",
+            "http://example.com/a\tb\nc?d\u0000=e\u007F#\uD83D"
+    };
+
+    private static final String[] ENCODINGS = new String[] { "UTF-8", "ISO-8859-1" };
+
+
+    @Test
+    public void testHostFromComponents() throws URISyntaxException {
+
+        checkComponents("https://ho%20st/a%20b?q=x%20y#top", "https", "ho st", "/a b", "q=x y", "top");
+        checkComponents("http://example.com:8080/", "http", "example.com:8080", "/", null, null);
+        checkComponents("http://us%20er:p%40ss@ho%2Fst:80", "http", "us er:p@ss@ho/st:80", null, null, null);
+        checkComponents("http://%C3%A1.example/", "http", "\u00E1.example", "/", null, null);
+        checkComponents("http://[::1]:8080/x", "http", "[::1]:8080", "/x", null, null);
+
+    }
+
+
+    @Test
+    public void testHostFromText() throws URISyntaxException {
+
+        checkText("https://ho%20st/a%20b?q=x%20y#top", "https://ho st/a b?q=x y#top");
+        checkText("http://us%20er@ho%3Cst%3E:80/", "http://us er@ho<st>:80/");
+        checkText("//ho%20st?a", "//ho st?a");
+        checkText("http://[::1]/x%20y", "http://[::1]/x y");
+
+        final String unmodified = "http://user:pw@example.com:8080/a/b?x=1#f";
+        assertSame(unmodified, UriEscape.escapeUri(unmodified));
+
+    }
+
+
+    @Test
+    public void testInvalidAuthority() {
+
+        assertThrows(IllegalArgumentException.class, () -> UriEscape.escapeUri("http://host:8o80/"));
+        assertThrows(IllegalArgumentException.class, () -> UriEscape.escapeUri("http://[::1/"));
+        assertThrows(IllegalArgumentException.class, () -> UriEscape.escapeUri("http://[::1]x/"));
+        assertThrows(IllegalArgumentException.class,
+                () -> UriEscape.escapeUri("http", "host:port", "/", null, null, new StringBuilder(), "UTF-8"));
+
+    }
+
+
+    @Test
+    public void testTextLikeComponentEscapes() {
+
+        for (final String encoding : ENCODINGS) {
+            for (final String uri : URIS) {
+
+                final Matcher matcher = URI_PATTERN.matcher(uri);
+                assertTrue(matcher.matches(), uri);
+
+                final StringBuilder expected = new StringBuilder();
+                if (matcher.group(1) != null) {
+                    expected.append(matcher.group(1));
+                }
+                if (matcher.group(3) != null) {
+                    // Authorities in these URIs need no escaping
+                    expected.append(matcher.group(3));
+                }
+                expected.append(UriEscape.escapeUriPath(matcher.group(5), encoding));
+                if (matcher.group(6) != null) {
+                    expected.append('?');
+                    appendEscapedQuery(matcher.group(7), expected, encoding);
+                }
+                if (matcher.group(8) != null) {
+                    expected.append('#').append(UriEscape.escapeUriFragmentId(matcher.group(9), encoding));
+                }
+
+                assertEquals(expected.toString(), UriEscape.escapeUri(uri, encoding), uri + ", " + encoding);
+                final StringBuilder strBuilder = new StringBuilder("x");
+                UriEscape.escapeUri(new StringBuilder(uri), strBuilder, encoding);
+                assertEquals("x" + expected, strBuilder.toString(), uri + ", " + encoding);
+
+            }
+        }
+
+    }
+
+
+    @Test
+    public void testComponentsLikeComponentEscapes() {
+
+        final String[] paths = new String[] { null, "", "/", "/a b/c%d/\u00E1", "a:b/?#", "/[x]{y}|z;p=1" };
+        final String[] queries = new String[] { null, "", "q=x y&lang=en", "a+b=c+d&x==y&&flag&=v&", "k=#?/\u00F1" };
+        final String[] fragments = new String[] { null, "", "top", "frag ment#2 \u00E1", "[f]{g}|?/" };
+
+        for (final String encoding : ENCODINGS) {
+            for (final String path : paths) {
+                for (final String query : queries) {
+                    for (final String fragment : fragments) {
+
+                        final StringBuilder expected = new StringBuilder("https://example.com:8080");
+                        if (path != null) {
+                            expected.append(UriEscape.escapeUriPath(path, encoding));
+                        }
+                        if (query != null) {
+                            expected.append('?');
+                            appendEscapedQuery(query, expected, encoding);
+                        }
+                        if (fragment != null) {
+                            expected.append('#').append(UriEscape.escapeUriFragmentId(fragment, encoding));
+                        }
+
+                        final StringBuilder strBuilder = new StringBuilder();
+                        UriEscape.escapeUri("https", "example.com:8080", path, query, fragment, strBuilder, encoding);
+                        assertEquals(expected.toString(), strBuilder.toString(),
+                                path + ", " + query + ", " + fragment + ", " + encoding);
+
+                    }
+                }
+            }
+        }
+
+    }
+
+
+
+
+    /*
+     * Escapes a query as the names and values of its parameters: '&' chars and the first '=' char of each
+     * parameter are kept as delimiters.
+     */
+    private static void appendEscapedQuery(final String query, final StringBuilder strBuilder,
+                                           final String encoding) {
+        final String[] params = query.split("&", -1);
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                strBuilder.append('&');
+            }
+            final int separator = params[i].indexOf('=');
+            if (separator < 0) {
+                strBuilder.append(UriEscape.escapeUriQueryParam(params[i], encoding));
+            } else {
+                strBuilder.append(UriEscape.escapeUriQueryParam(params[i].substring(0, separator), encoding));
+                strBuilder.append('=');
+                strBuilder.append(UriEscape.escapeUriQueryParam(params[i].substring(separator + 1), encoding));
+            }
+        }
+    }
+
+
+    private static void checkComponents(final String expected, final String scheme, final String authority,
+                                        final String path, final String query, final String fragment)
+                                        throws URISyntaxException {
+        final StringBuilder strBuilder = new StringBuilder();
+        UriEscape.escapeUri(scheme, authority, path, query, fragment, strBuilder, "UTF-8");
+        assertEquals(expected, strBuilder.toString());
+        new URI(strBuilder.toString());
+    }
+
+
+    private static void checkText(final String expected, final String text) throws URISyntaxException {
+        final String result = UriEscape.escapeUri(text);
+        assertEquals(expected, result);
+        new URI(result);
+        final StringBuilder strBuilder = new StringBuilder("x");
+        UriEscape.escapeUri(text, strBuilder);
+        assertEquals("x" + expected, strBuilder.toString());
+    }
+
+
+}
@@ -0,0 +1,69 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.uri.UriEscape;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * Checks that query parameter unescape operations unescape a '+' as whitespace wherever it appears, including
+ * right after a percent-encoded sequence, and that String, char[] and Reader-based operations agree.
+ */
+public class UriQueryParamUnescapeTest {
+
+
+    @Test
+    public void testPlusAfterPercentEncodedSequence() throws IOException {
+
+        check("  x", "%20+x");
+        check("+ ", "%2B+");
+        check(" A  ", "+%41++");
+        check("a\u00E1 b", "a%C3%A1+b");
+        check("\u00E1 ", "%C3%A1+");
+        check("xA", "x%41");
+
+    }
+
+
+
+
+    private static void check(final String expected, final String text) throws IOException {
+
+        assertEquals(expected, UriEscape.unescapeUriQueryParam(text), text);
+
+        final char[] chars = ("__" + text + "__").toCharArray();
+        final StringWriter charsWriter = new StringWriter();
+        UriEscape.unescapeUriQueryParam(chars, 2, text.length(), charsWriter);
+        assertEquals(expected, charsWriter.toString(), text);
+
+        final StringWriter readerWriter = new StringWriter();
+        UriEscape.unescapeUriQueryParam(new StringReader(text), readerWriter);
+        assertEquals(expected, readerWriter.toString(), text);
+
+    }
+
+
+}
@@ -0,0 +1,249 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.uri.UriEscape;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+ * Checks that bulk query parameter escape operations, for parameters specified both as a Map (including
+ * multi-valued and null values) and as parallel arrays of names and values, write to a Writer, an OutputStream
+ * and a ByteBuffer the same result as escaping each name and value with the String escape operation.
+ */
+public class UriQueryParamsEscapeTest {
+
+
+    private static final String[] ENCODINGS = new String[] { "UTF-8", "ISO-8859-1" };
+
+
+
+    @Test
+    public void testMap() throws IOException {
+
+        final Map<String, Object> params = new LinkedHashMap<String, Object>();
+        params.put("a", "1");
+        params.put("x y", new StringBuilder("a+b=c&d"));
+        params.put("flag", null);
+        params.put("empty", "");
+        params.put("\u00E1\u00F1", "\u00E9 \u00FC");
+        params.put("number", Integer.valueOf(42));
+        params.put("list", Arrays.asList("1", null, new StringBuilder("%3"), Integer.valueOf(4)));
+        params.put("array", new Object[] { "#?/", null, "" });
+        params.put("none", Collections.emptyList());
+        params.put("", "=");
+
+        for (final String encoding : ENCODINGS) {
+            checkMap(params, encoding);
+        }
+
+        final StringWriter writer = new StringWriter();
+        UriEscape.escapeUriQueryParams(params, writer);
+        assertEquals(expected(params, "UTF-8"), writer.toString());
+
+        final StringWriter nullWriter = new StringWriter();
+        UriEscape.escapeUriQueryParams((Map<String, ?>) null, nullWriter, "UTF-8");
+        assertEquals("", nullWriter.toString());
+        checkMap(new LinkedHashMap<String, Object>(), "UTF-8");
+
+        final Map<String, Object> nullName = new LinkedHashMap<String, Object>();
+        nullName.put(null, "1");
+        assertThrows(IllegalArgumentException.class,
+                () -> UriEscape.escapeUriQueryParams(nullName, new StringWriter(), "UTF-8"));
+
+    }
+
+
+    @Test
+    public void testArrays() throws IOException {
+
+        final CharSequence[] names =
+                new CharSequence[] { "a", "x y", "flag", "a", new StringBuilder("\u00E1\u00F1"), "", "list" };
+        final CharSequence[] values =
+                new CharSequence[] { "1", new StringBuilder("a+b=c&d"), null, "2", "\u00E9 \u20AC", "=", "" };
+
+        for (final String encoding : ENCODINGS) {
+            checkArrays(names, values, encoding);
+        }
+
+        final StringWriter writer = new StringWriter();
+        UriEscape.escapeUriQueryParams(names, values, writer);
+        assertEquals(expected(names, values, "UTF-8"), writer.toString());
+
+        final StringWriter nullWriter = new StringWriter();
+        UriEscape.escapeUriQueryParams((CharSequence[]) null, null, nullWriter, "UTF-8");
+        assertEquals("", nullWriter.toString());
+        checkArrays(new CharSequence[0], new CharSequence[0], "UTF-8");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> UriEscape.escapeUriQueryParams(
+                        new CharSequence[] { "a", "b" }, new CharSequence[] { "1" }, new StringWriter(), "UTF-8"));
+        assertThrows(IllegalArgumentException.class,
+                () -> UriEscape.escapeUriQueryParams(
+                        new CharSequence[] { "a", null }, new CharSequence[] { "1", "2" },
+                        new StringWriter(), "UTF-8"));
+
+    }
+
+
+    @Test
+    public void testLargeNumberOfParams() throws IOException {
+
+        // Long enough for escaped text to be written to the output in several chunks
+        final Map<String, Object> params = new LinkedHashMap<String, Object>();
+        final CharSequence[] names = new CharSequence[2000];
+        final CharSequence[] values = new CharSequence[names.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "name " + i;
+            values[i] = (i % 7 == 0? null : "\u00E1 value & " + i);
+            params.put(names[i].toString(), values[i]);
+        }
+
+        checkMap(params, "UTF-8");
+        checkArrays(names, values, "UTF-8");
+
+    }
+
+
+    @Test
+    public void testByteBufferOverflow() {
+
+        final Map<String, Object> params = Collections.<String, Object>singletonMap("a b", "\u00E1");
+        final String expected = expected(params, "UTF-8");
+
+        assertThrows(BufferOverflowException.class,
+                () -> UriEscape.escapeUriQueryParams(params, ByteBuffer.allocate(expected.length() - 1)));
+        assertThrows(BufferOverflowException.class,
+                () -> UriEscape.escapeUriQueryParams(
+                        new CharSequence[] { "a b" }, new CharSequence[] { "\u00E1" },
+                        ByteBuffer.allocate(expected.length() - 1)));
+
+        final ByteBuffer output = ByteBuffer.allocate(expected.length());
+        UriEscape.escapeUriQueryParams(params, output);
+        assertEquals(expected.length(), output.position());
+
+    }
+
+
+
+
+    private static void checkMap(final Map<String, ?> params, final String encoding) throws IOException {
+
+        final String expected = expected(params, encoding);
+
+        final StringWriter writer = new StringWriter();
+        UriEscape.escapeUriQueryParams(params, writer, encoding);
+        assertEquals(expected, writer.toString(), encoding);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        UriEscape.escapeUriQueryParams(params, outputStream, encoding);
+        assertEquals(expected, outputStream.toString("US-ASCII"), encoding);
+
+        final ByteBuffer output = ByteBuffer.allocate(expected.length() + 4);
+        output.put((byte) 'x');
+        UriEscape.escapeUriQueryParams(params, output, encoding);
+        assertEquals("x" + expected, new String(output.array(), 0, output.position(), "US-ASCII"), encoding);
+
+    }
+
+
+    private static void checkArrays(final CharSequence[] names, final CharSequence[] values, final String encoding)
+                                    throws IOException {
+
+        final String expected = expected(names, values, encoding);
+
+        final StringWriter writer = new StringWriter();
+        UriEscape.escapeUriQueryParams(names, values, writer, encoding);
+        assertEquals(expected, writer.toString(), encoding);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        UriEscape.escapeUriQueryParams(names, values, outputStream, encoding);
+        assertEquals(expected, outputStream.toString("US-ASCII"), encoding);
+
+        final ByteBuffer output = ByteBuffer.allocate(expected.length() + 4);
+        output.put((byte) 'x');
+        UriEscape.escapeUriQueryParams(names, values, output, encoding);
+        assertEquals("x" + expected, new String(output.array(), 0, output.position(), "US-ASCII"), encoding);
+
+    }
+
+
+    /*
+     * Computes the expected query string for a Map of parameters: multi-valued ones (Iterables and Object[] arrays)
+     * are flattened into parallel lists of names and values, which are then escaped one by one.
+     */
+    private static String expected(final Map<String, ?> params, final String encoding) {
+        final List<CharSequence> names = new ArrayList<CharSequence>();
+        final List<CharSequence> values = new ArrayList<CharSequence>();
+        for (final Map.Entry<String, ?> param : params.entrySet()) {
+            final Object value = param.getValue();
+            final List<?> valueItems =
+                    (value instanceof Iterable<?>? toList((Iterable<?>) value) :
+                     value instanceof Object[]? Arrays.asList((Object[]) value) : Collections.singletonList(value));
+            for (final Object valueItem : valueItems) {
+                names.add(param.getKey());
+                values.add(valueItem == null? null : valueItem.toString());
+            }
+        }
+        return expected(
+                names.toArray(new CharSequence[names.size()]), values.toArray(new CharSequence[values.size()]),
+                encoding);
+    }
+
+
+    private static String expected(final CharSequence[] names, final CharSequence[] values, final String encoding) {
+        final StringBuilder strBuilder = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                strBuilder.append('&');
+            }
+            strBuilder.append(UriEscape.escapeUriQueryParam(names[i].toString(), encoding));
+            if (values[i] != null) {
+                strBuilder.append('=').append(UriEscape.escapeUriQueryParam(values[i].toString(), encoding));
+            }
+        }
+        return strBuilder.toString();
+    }
+
+
+    private static List<Object> toList(final Iterable<?> iterable) {
+        final List<Object> list = new ArrayList<Object>();
+        for (final Object item : iterable) {
+            list.add(item);
+        }
+        return list;
+    }
+
+
+}
@@ -0,0 +1,242 @@
+/*
+ * =============================================================================
+ *
+ *   Copyright (c) 2014-2025 Unbescape (http://www.unbescape.org)
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ * =============================================================================
+ */
+package org.unbescape;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.unbescape.uri.UriEscape;
+import org.unbescape.uri.UriQueryString;
+import org.unbescape.uri.UriQueryStringBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/*
+ * Checks that parsed query strings give the same names and values as splitting the query string and unescaping
+ * each of them with the String unescape operation, and that query string builders produce the same result as
+ * escaping each name and value with the String escape operation.
+ */
+public class UriQueryStringTest {
+
+
+    private static final String[] QUERY_STRINGS = new String[] {
+            "",
+            "&",
+            "a=1",
+            "a=1&b=2&a=3",
+            "a",
+            "a=",
+            "=1",
+            "=",
+            "a=1&&b=2&",
+            "&a=1=2&b==",
+            "na+me=va+lue&x%20y=%3D%26",
+            "q=%C3%A1%E2%82%AC%F0%9F%98%80+x&empty=&flag",
+            "%2B=+%2B+&%3D%3D=%26",
+            "a=\u00E1\u20AC&\u00F1=raw"
+    };
+
+    private static final String[][] PARAMS = new String[][] {
+            { "a", "1" },
+            { "a", "" },
+            { "flag", null },
+            { "", "" },
+            { "x y", "a+b=c&d" },
+            { "\u00E1\u00F1", "\u20AC \uD83D\uDE00" },
+            { "%", "#?/:@!$'()*,;" },
+            { "a=b", "c&d" }
+    };
+
+    private static final String[] ENCODINGS = new String[] { "UTF-8", "ISO-8859-1" };
+
+
+
+    @Test
+    public void testParse() {
+        for (final String encoding : ENCODINGS) {
+            for (final String queryString : QUERY_STRINGS) {
+                checkParse(queryString, encoding);
+                checkParse(new StringBuilder(queryString), encoding);
+            }
+        }
+        for (final String queryString : QUERY_STRINGS) {
+            final UriQueryString parsed = UriEscape.parseUriQueryString(queryString);
+            assertEquals(split(queryString, "UTF-8"), params(parsed), queryString);
+        }
+    }
+
+
+    @Test
+    public void testIndexOfAndGetValue() {
+        final UriQueryString parsed =
+                UriEscape.parseUriQueryString("a=1&x+y=2&%C3%A1=3&a=4&flag&x%20y=5&b=%2B");
+        assertEquals(0, parsed.indexOf("a"));
+        assertEquals(1, parsed.indexOf("x y"));
+        assertEquals(2, parsed.indexOf("\u00E1"));
+        assertEquals(4, parsed.indexOf("flag"));
+        assertEquals(-1, parsed.indexOf("x+y"));
+        assertEquals(-1, parsed.indexOf("missing"));
+        assertEquals(UriEscape.unescapeUriQueryParam("1"), parsed.getValue("a").toString());
+        assertEquals(UriEscape.unescapeUriQueryParam("2"), parsed.getValue("x y").toString());
+        assertEquals(UriEscape.unescapeUriQueryParam("%2B"), parsed.getValue("b").toString());
+        assertNull(parsed.getValue("flag"));
+        assertNull(parsed.getValue("missing"));
+    }
+
+
+    @Test
+    public void testBuilder() {
+        for (final String encoding : ENCODINGS) {
+
+            final UriQueryStringBuilder builder = UriEscape.uriQueryStringBuilder(new StringBuilder("?"), encoding);
+            final StringBuilder expected = new StringBuilder("?");
+
+            for (int i = 0; i < PARAMS.length; i++) {
+                final String name = PARAMS[i][0];
+                final String value = PARAMS[i][1];
+                builder.append(new StringBuilder(name), value);
+                if (i > 0) {
+                    expected.append('&');
+                }
+                expected.append(UriEscape.escapeUriQueryParam(name, encoding));
+                if (value != null) {
+                    expected.append('=').append(UriEscape.escapeUriQueryParam(value, encoding));
+                }
+                assertEquals(expected.toString(), builder.toString(), encoding);
+                assertEquals(i + 1, builder.size(), encoding);
+            }
+
+            // Escaped names and values contain no separators, so parsing gives back the original parameters
+            // (as long as the encoding can represent all their chars)
+            if (encoding.equals("UTF-8")) {
+                final UriQueryString parsed =
+                        UriEscape.parseUriQueryString(builder.toString().substring(1), encoding);
+                assertEquals(asList(PARAMS), params(parsed), encoding);
+            }
+
+        }
+        assertEquals(UriEscape.escapeUriQueryParam("\u00E1 b") + "=" + UriEscape.escapeUriQueryParam("c&d"),
+                UriEscape.uriQueryStringBuilder().append("\u00E1 b", "c&d").toString());
+    }
+
+
+    @Test
+    public void testBuilderAppendParsed() {
+        for (final String queryString : QUERY_STRINGS) {
+
+            final UriQueryString parsed = UriEscape.parseUriQueryString(queryString, "ISO-8859-1");
+            final UriQueryStringBuilder builder = UriEscape.uriQueryStringBuilder("UTF-8");
+            final StringBuilder expected = new StringBuilder();
+
+            for (int i = 0; i < parsed.size(); i++) {
+                builder.append(parsed, i);
+                if (i > 0) {
+                    expected.append('&');
+                }
+                expected.append(parsed.getRawName(i));
+                if (parsed.getRawValue(i) != null) {
+                    expected.append('=').append(parsed.getRawValue(i));
+                }
+            }
+
+            // Parameters are appended raw, so they keep the encoding of the parsed query string
+            assertEquals(expected.toString(), builder.toString(), queryString);
+            assertEquals(split(queryString, "ISO-8859-1"),
+                    params(UriEscape.parseUriQueryString(builder.toString(), "ISO-8859-1")), queryString);
+
+        }
+    }
+
+
+
+
+    /*
+     * Compares raw and unescaped names and values of the parsed query string with those obtained by splitting
+     * the query string with the String API.
+     */
+    private static void checkParse(final CharSequence queryString, final String encoding) {
+
+        final String description = "\"" + queryString + "\", " + encoding;
+        final UriQueryString parsed = UriEscape.parseUriQueryString(queryString, encoding);
+
+        final List<List<String>> rawParams = new ArrayList<List<String>>();
+        for (int i = 0; i < parsed.size(); i++) {
+            rawParams.add(pair(parsed.getRawName(i), parsed.getRawValue(i)));
+        }
+        assertEquals(split(queryString.toString(), null), rawParams, description);
+
+        assertEquals(split(queryString.toString(), encoding), params(parsed), description);
+        // Unescaped names and values are created only once, so requesting them again gives the same results
+        assertEquals(split(queryString.toString(), encoding), params(parsed), description);
+        assertEquals(queryString.toString(), parsed.toString(), description);
+
+    }
+
+
+    /*
+     * Splits a query string into its non-empty parameters at '&' chars, and each of these into its name and value
+     * at the first '=' char. Names and values are unescaped with the specified encoding (if not null).
+     */
+    private static List<List<String>> split(final String queryString, final String encoding) {
+        final List<List<String>> params = new ArrayList<List<String>>();
+        for (final String param : queryString.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            final int separator = param.indexOf('=');
+            final String name = (separator < 0? param : param.substring(0, separator));
+            final String value = (separator < 0? null : param.substring(separator + 1));
+            params.add(pair(
+                    (encoding == null? name : UriEscape.unescapeUriQueryParam(name, encoding)),
+                    (encoding == null || value == null? value : UriEscape.unescapeUriQueryParam(value, encoding))));
+        }
+        return params;
+    }
+
+
+    private static List<List<String>> params(final UriQueryString parsed) {
+        final List<List<String>> params = new ArrayList<List<String>>();
+        for (int i = 0; i < parsed.size(); i++) {
+            params.add(pair(parsed.getName(i), parsed.getValue(i)));
+        }
+        return params;
+    }
+
+
+    private static List<List<String>> asList(final String[][] params) {
+        final List<List<String>> list = new ArrayList<List<String>>();
+        for (final String[] param : params) {
+            list.add(pair(param[0], param[1]));
+        }
+        return list;
+    }
+
+
+    private static List<String> pair(final CharSequence name, final CharSequence value) {
+        final List<String> pair = new ArrayList<String>();
+        pair.add(name.toString());
+        pair.add(value == null? null : value.toString());
+        return pair;
+    }
+
+
+}